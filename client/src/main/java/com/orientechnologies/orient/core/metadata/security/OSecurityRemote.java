@@ -215,6 +215,11 @@ public class OSecurityRemote implements OSecurityInternal {
     return true;
   }
 
+  @Override
+  public boolean isReadRestrictedBySecurityPolicy(ODatabaseSession session, String resource) {
+    return false;
+  }
+
   @Override
   public boolean canUpdate(ODatabaseSession session, ORecord record) {
     return true;
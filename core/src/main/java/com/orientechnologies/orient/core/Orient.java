@@ -67,6 +67,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -128,6 +130,7 @@ public class Orient extends OListenerManger<OOrientListener> {
   private          ODatabaseThreadLocalFactory databaseThreadFactory;
   private volatile boolean                     active               = false;
   private          ThreadPoolExecutor          workers;
+  private          ThreadPoolExecutor          parallelWorkers;
   private          OSignalHandler              signalHandler;
   private volatile OSecuritySystem             security;
   private          boolean                     runningDistributed   = false;
@@ -292,6 +295,11 @@ public class Orient extends OListenerManger<OOrientListener> {
             }
           });
 
+      // tasks are never queued: a task either gets its own thread or is rejected, see trySubmitParallel()
+      parallelWorkers = new OThreadPoolExecutorWithLogging(0,
+          Math.max(1, OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_POOL_SIZE.getValueAsInteger()), 10, TimeUnit.SECONDS,
+          new SynchronousQueue<>());
+
       registerEngines();
 
       if (OGlobalConfiguration.ENVIRONMENT_DUMP_CFG_AT_STARTUP.getValueAsBoolean())
@@ -528,6 +536,29 @@ public class Orient extends OListenerManger<OOrientListener> {
       engineLock.readLock().unlock();
     }
   }
+  /**
+   * Submits a worker of parallel execution of a single operation (like a query or an index build) which exchanges data with the
+   * calling thread through a bounded queue. The pool has no queue of pending tasks, so a submitted worker always starts
+   * immediately and never waits for a thread occupied by another worker which is blocked on its own consumer.
+   *
+   * @return future of the submitted worker or <code>null</code> if all the threads of the pool are busy or the engine is down, in
+   * this case the caller has to do the work by itself (or with the workers which were already submitted)
+   */
+  public Future<?> trySubmitParallel(final Runnable runnable) {
+    engineLock.readLock().lock();
+    try {
+      if (!active) {
+        return null;
+      }
+
+      return parallelWorkers.submit(runnable);
+    } catch (RejectedExecutionException e) {
+      return null;
+    } finally {
+      engineLock.readLock().unlock();
+    }
+  }
+
 
   public boolean isWindowsOS() {
     return os.contains("win");
@@ -844,8 +875,10 @@ public class Orient extends OListenerManger<OOrientListener> {
     @Override
     public void shutdown() throws Exception {
       workers.shutdown();
+      parallelWorkers.shutdown();
       try {
         workers.awaitTermination(2, TimeUnit.MINUTES);
+        parallelWorkers.awaitTermination(2, TimeUnit.MINUTES);
       } catch (InterruptedException e) {
         OLogManager.instance().error(this, "Shutdown was interrupted", e);
       }
@@ -0,0 +1,443 @@
+/*
+  *
+  *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://orientdb.com
+  *
+  */
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cache.chm.FrequencySketch;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of serialized records which is shared by all sessions of the storage, so records which are read often are not read from
+ * the pages of clusters by each session. Size of the cache is limited by the total size of cached records, records are evicted
+ * by Window TinyLFU policy https://arxiv.org/pdf/1512.00727.pdf : new records are added to the small LRU window, records evicted
+ * from the window are admitted to the main part of the cache only if they are accessed more frequently than the records which
+ * should be evicted instead of them.
+ * <p>
+ * Content of records is copied when it is put into the cache and when it is returned from the cache, so cached records can not
+ * be changed by the callers. To avoid caching of stale records value of {@link #stamp()} should be taken before the record is
+ * read from the cluster and passed to {@link #put(ORID, ORawBuffer, long)}, record is not cached if any record was invalidated
+ * in the meantime. Records should be invalidated once changes of them are committed.
+ */
+public final class OSharedRecordCache {
+  private static final int WINDOW_PERCENT    = 20;
+  private static final int PROTECTED_PERCENT = 80;
+
+  /**
+   * Approximate amount of memory consumed by the cache entry in addition to the content of record.
+   */
+  private static final int ENTRY_OVERHEAD = 64;
+
+  /**
+   * Size of record which is used to calculate amount of records which are tracked by frequency sketch.
+   */
+  private static final int AVERAGE_RECORD_SIZE = 512;
+
+  private final ConcurrentHashMap<ORID, Entry> data = new ConcurrentHashMap<>();
+  private final ReentrantLock                  lock = new ReentrantLock();
+  private final FrequencySketch                admittor;
+
+  private final long maxSize;
+  private final long maxWindowSize;
+  private final long maxProtectedSize;
+
+  private final EntryList window     = new EntryList();
+  private final EntryList probation  = new EntryList();
+  private final EntryList protection = new EntryList();
+
+  private volatile long stamp;
+
+  private final ConcurrentHashMap<Integer, ClusterStatistics> statistics = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxSize maximum size of cached records in bytes
+   */
+  public OSharedRecordCache(final long maxSize) {
+    this.maxSize = maxSize;
+    this.maxWindowSize = maxSize * WINDOW_PERCENT / 100;
+    this.maxProtectedSize = (maxSize - maxWindowSize) * PROTECTED_PERCENT / 100;
+
+    admittor = new FrequencySketch();
+    admittor.ensureCapacity(Math.max(1, maxSize / AVERAGE_RECORD_SIZE));
+  }
+
+  /**
+   * @return stamp which should be passed to {@link #put(ORID, ORawBuffer, long)} if record is read from the cluster after call of
+   * this method
+   */
+  public long stamp() {
+    return stamp;
+  }
+
+  /**
+   * @return copy of cached record or <code>null</code> if record is absent in cache
+   */
+  public ORawBuffer get(final ORID rid) {
+    final ClusterStatistics clusterStatistics = statistics.computeIfAbsent(rid.getClusterId(), k -> new ClusterStatistics());
+
+    final Entry entry = data.get(rid);
+    if (entry == null) {
+      clusterStatistics.misses.increment();
+      return null;
+    }
+
+    clusterStatistics.hits.increment();
+
+    // accesses are not tracked under contention, such loss of precision does not change eviction decisions noticeably
+    if (lock.tryLock()) {
+      try {
+        onAccess(entry);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    return new ORawBuffer(entry.content.clone(), entry.version, entry.recordType);
+  }
+
+  /**
+   * Puts copy of record into the cache.
+   *
+   * @param stamp value of {@link #stamp()} taken before the record was read from the cluster
+   */
+  public void put(final ORID rid, final ORawBuffer record, final long stamp) {
+    if (record == null || record.buffer == null) {
+      return;
+    }
+
+    final long size = record.buffer.length + ENTRY_OVERHEAD;
+    // big records would push a lot of records out of the cache
+    if (size > maxWindowSize) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      if (stamp != this.stamp) {
+        return;
+      }
+
+      admittor.increment(rid.hashCode());
+      if (data.containsKey(rid)) {
+        return;
+      }
+
+      final Entry entry = new Entry(rid.copy(), record.buffer.clone(), record.version, record.recordType, size);
+      data.put(entry.rid, entry);
+      window.addLast(entry);
+
+      evict();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes record from the cache and prevents caching of records which were read before this call.
+   */
+  public void invalidate(final ORID rid) {
+    lock.lock();
+    try {
+      stamp++;
+
+      final Entry entry = data.remove(rid);
+      if (entry != null) {
+        entry.list.remove(entry);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes all records of the cluster from the cache.
+   */
+  public void invalidateCluster(final int clusterId) {
+    lock.lock();
+    try {
+      stamp++;
+
+      final Iterator<Entry> entryIterator = data.values().iterator();
+      while (entryIterator.hasNext()) {
+        final Entry entry = entryIterator.next();
+        if (entry.rid.getClusterId() == clusterId) {
+          entryIterator.remove();
+          entry.list.remove(entry);
+        }
+      }
+
+      statistics.remove(clusterId);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void clear() {
+    lock.lock();
+    try {
+      stamp++;
+
+      data.clear();
+      window.clear();
+      probation.clear();
+      protection.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getRecordsCount() {
+    return data.size();
+  }
+
+  /**
+   * @return total size of cached records in bytes
+   */
+  public long getSize() {
+    lock.lock();
+    try {
+      return window.size + probation.size + protection.size;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public long getHits(final int... clusterIds) {
+    long hits = 0;
+    for (final int clusterId : clusterIds) {
+      final ClusterStatistics clusterStatistics = statistics.get(clusterId);
+      if (clusterStatistics != null) {
+        hits += clusterStatistics.hits.sum();
+      }
+    }
+
+    return hits;
+  }
+
+  public long getMisses(final int... clusterIds) {
+    long misses = 0;
+    for (final int clusterId : clusterIds) {
+      final ClusterStatistics clusterStatistics = statistics.get(clusterId);
+      if (clusterStatistics != null) {
+        misses += clusterStatistics.misses.sum();
+      }
+    }
+
+    return misses;
+  }
+
+  /**
+   * @return ratio of reads of records of the given clusters which were served by cache or <code>0</code> if records of those
+   * clusters were not read yet
+   */
+  public double getHitRatio(final int... clusterIds) {
+    final long hits = getHits(clusterIds);
+    final long reads = hits + getMisses(clusterIds);
+
+    if (reads == 0) {
+      return 0;
+    }
+
+    return ((double) hits) / reads;
+  }
+
+  /**
+   * @return ratio of reads of records of the class and its subclasses which were served by cache
+   */
+  public double getHitRatio(final OClass oClass) {
+    return getHitRatio(oClass.getPolymorphicClusterIds());
+  }
+
+  /**
+   * @return ratio of reads of all records which were served by cache
+   */
+  public double getHitRatio() {
+    long hits = 0;
+    long reads = 0;
+    for (final ClusterStatistics clusterStatistics : statistics.values()) {
+      final long clusterHits = clusterStatistics.hits.sum();
+      hits += clusterHits;
+      reads += clusterHits + clusterStatistics.misses.sum();
+    }
+
+    if (reads == 0) {
+      return 0;
+    }
+
+    return ((double) hits) / reads;
+  }
+
+  private void onAccess(final Entry entry) {
+    admittor.increment(entry.rid.hashCode());
+
+    if (entry.list == window) {
+      window.moveToTheTail(entry);
+    } else if (entry.list == probation) {
+      probation.remove(entry);
+      protection.addLast(entry);
+
+      while (protection.size > maxProtectedSize) {
+        final Entry demoted = protection.first;
+        protection.remove(demoted);
+        probation.addLast(demoted);
+      }
+    } else if (entry.list == protection) {
+      protection.moveToTheTail(entry);
+    }
+  }
+
+  private void evict() {
+    // first record moved from the window during this call, it and records after it compete with victims for the place in cache
+    Entry candidate = null;
+    while (window.size > maxWindowSize) {
+      final Entry entry = window.first;
+      window.remove(entry);
+      probation.addLast(entry);
+
+      if (candidate == null) {
+        candidate = entry;
+      }
+    }
+
+    while (window.size + probation.size + protection.size > maxSize) {
+      Entry victim = probation.first;
+      if (victim == null) {
+        victim = protection.first;
+      }
+
+      if (candidate != null && candidate != victim && candidate.list == probation) {
+        if (admittor.frequency(candidate.rid.hashCode()) > admittor.frequency(victim.rid.hashCode())) {
+          remove(victim);
+        } else {
+          final Entry next = candidate.next;
+          remove(candidate);
+          candidate = next;
+        }
+      } else {
+        if (victim == candidate) {
+          candidate = victim.next;
+        }
+
+        remove(victim);
+      }
+    }
+  }
+
+  private void remove(final Entry entry) {
+    entry.list.remove(entry);
+    data.remove(entry.rid);
+  }
+
+  private static final class Entry {
+    private final ORID   rid;
+    private final byte[] content;
+    private final int    version;
+    private final byte   recordType;
+    private final long   size;
+
+    private EntryList list;
+    private Entry     prev;
+    private Entry     next;
+
+    private Entry(final ORID rid, final byte[] content, final int version, final byte recordType, final long size) {
+      this.rid = rid;
+      this.content = content;
+      this.version = version;
+      this.recordType = recordType;
+      this.size = size;
+    }
+  }
+
+  private static final class EntryList {
+    private Entry first;
+    private Entry last;
+    private long  size;
+
+    private void addLast(final Entry entry) {
+      entry.list = this;
+      entry.prev = last;
+      entry.next = null;
+
+      if (last == null) {
+        first = entry;
+      } else {
+        last.next = entry;
+      }
+
+      last = entry;
+      size += entry.size;
+    }
+
+    private void remove(final Entry entry) {
+      if (entry.prev == null) {
+        first = entry.next;
+      } else {
+        entry.prev.next = entry.next;
+      }
+
+      if (entry.next == null) {
+        last = entry.prev;
+      } else {
+        entry.next.prev = entry.prev;
+      }
+
+      entry.list = null;
+      entry.prev = null;
+      entry.next = null;
+      size -= entry.size;
+    }
+
+    private void moveToTheTail(final Entry entry) {
+      if (last != entry) {
+        remove(entry);
+        addLast(entry);
+      }
+    }
+
+    private void clear() {
+      Entry entry = first;
+      while (entry != null) {
+        final Entry next = entry.next;
+        entry.list = null;
+        entry.prev = null;
+        entry.next = null;
+        entry = next;
+      }
+
+      first = null;
+      last = null;
+      size = 0;
+    }
+  }
+
+  private static final class ClusterStatistics {
+    private final LongAdder hits   = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+  }
+}
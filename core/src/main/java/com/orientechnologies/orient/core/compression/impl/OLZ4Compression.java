@@ -0,0 +1,200 @@
+/*
+  *
+  *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://orientdb.com
+  *
+  */
+
+package com.orientechnologies.orient.core.compression.impl;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+
+import java.util.Arrays;
+
+/**
+ * Fast compression which produces data in LZ4 block format prefixed by the length of uncompressed data. It compresses worse than
+ * {@link OGZIPCompression} but is several times faster, so it is suitable for compression of records on each write and read.
+ */
+public class OLZ4Compression extends OAbstractCompression {
+  public static final String NAME = "lz4";
+
+  public static final OLZ4Compression INSTANCE = new OLZ4Compression();
+
+  private static final int MIN_MATCH     = 4;
+  private static final int MF_LIMIT      = 12;
+  private static final int LAST_LITERALS = 5;
+  private static final int MAX_DISTANCE  = 0xFFFF;
+  private static final int HASH_LOG      = 12;
+  private static final int RUN_MASK      = 0x0F;
+
+  @Override
+  public byte[] compress(final byte[] content, final int offset, final int length) {
+    final byte[] result = new byte[OIntegerSerializer.INT_SIZE + length + length / 255 + 16];
+    OIntegerSerializer.INSTANCE.serializeLiteral(length, result, 0);
+
+    int resultPosition = OIntegerSerializer.INT_SIZE;
+    final int end = offset + length;
+    int anchor = offset;
+
+    if (length > MF_LIMIT) {
+      // positions of last seen 4 byte sequences, shifted by one, so zero means that sequence was not seen
+      final int[] hashTable = new int[1 << HASH_LOG];
+      final int matchLimit = end - MF_LIMIT;
+
+      int position = offset;
+      while (position < matchLimit) {
+        final int sequence = readInt(content, position);
+        final int hash = hash(sequence);
+        final int reference = hashTable[hash] - 1;
+        hashTable[hash] = position + 1;
+
+        if (reference < 0 || position - reference > MAX_DISTANCE || readInt(content, reference) != sequence) {
+          position++;
+          continue;
+        }
+
+        int matchLength = MIN_MATCH;
+        while (position + matchLength < end - LAST_LITERALS
+            && content[reference + matchLength] == content[position + matchLength]) {
+          matchLength++;
+        }
+
+        final int tokenPosition = resultPosition;
+        resultPosition = writeLiterals(content, anchor, position - anchor, result, resultPosition);
+
+        result[resultPosition++] = (byte) (position - reference);
+        result[resultPosition++] = (byte) ((position - reference) >>> 8);
+
+        final int matchLengthToken = matchLength - MIN_MATCH;
+        if (matchLengthToken >= RUN_MASK) {
+          result[tokenPosition] |= RUN_MASK;
+          resultPosition = writeLengthBytes(matchLengthToken - RUN_MASK, result, resultPosition);
+        } else {
+          result[tokenPosition] |= matchLengthToken;
+        }
+
+        position += matchLength;
+        anchor = position;
+      }
+    }
+
+    resultPosition = writeLiterals(content, anchor, end - anchor, result, resultPosition);
+    return Arrays.copyOf(result, resultPosition);
+  }
+
+  @Override
+  public byte[] uncompress(final byte[] content, final int offset, final int length) {
+    try {
+      final byte[] result = new byte[OIntegerSerializer.INSTANCE.deserializeLiteral(content, offset)];
+      final int end = offset + length;
+
+      int position = offset + OIntegerSerializer.INT_SIZE;
+      int resultPosition = 0;
+      while (true) {
+        final int token = content[position++] & 0xFF;
+
+        int literalsLength = token >>> 4;
+        if (literalsLength == RUN_MASK) {
+          int lengthByte;
+          do {
+            lengthByte = content[position++] & 0xFF;
+            literalsLength += lengthByte;
+          } while (lengthByte == 0xFF);
+        }
+
+        System.arraycopy(content, position, result, resultPosition, literalsLength);
+        position += literalsLength;
+        resultPosition += literalsLength;
+
+        if (position >= end) {
+          break;
+        }
+
+        final int distance = (content[position] & 0xFF) | ((content[position + 1] & 0xFF) << 8);
+        position += 2;
+
+        int matchLength = token & RUN_MASK;
+        if (matchLength == RUN_MASK) {
+          int lengthByte;
+          do {
+            lengthByte = content[position++] & 0xFF;
+            matchLength += lengthByte;
+          } while (lengthByte == 0xFF);
+        }
+        matchLength += MIN_MATCH;
+
+        final int reference = resultPosition - distance;
+        if (distance == 0 || reference < 0) {
+          throw new IllegalStateException("Invalid offset of match in compressed data");
+        }
+
+        // match may overlap with the data which is copied, so bytes are copied one by one
+        for (int i = 0; i < matchLength; i++) {
+          result[resultPosition + i] = result[reference + i];
+        }
+        resultPosition += matchLength;
+      }
+
+      if (resultPosition != result.length) {
+        throw new IllegalStateException("Length of uncompressed data does not match the length stored in compressed data");
+      }
+
+      return result;
+    } catch (ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+      throw new IllegalStateException("Exception during data uncompression", e);
+    }
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  /**
+   * Writes token of the sequence with length of literals and literals themselves, length of match is added to the token later.
+   */
+  private static int writeLiterals(final byte[] content, final int offset, final int length, final byte[] result,
+      int resultPosition) {
+    if (length >= RUN_MASK) {
+      result[resultPosition++] = (byte) (RUN_MASK << 4);
+      resultPosition = writeLengthBytes(length - RUN_MASK, result, resultPosition);
+    } else {
+      result[resultPosition++] = (byte) (length << 4);
+    }
+
+    System.arraycopy(content, offset, result, resultPosition, length);
+    return resultPosition + length;
+  }
+
+  private static int writeLengthBytes(int length, final byte[] result, int resultPosition) {
+    while (length >= 0xFF) {
+      result[resultPosition++] = (byte) 0xFF;
+      length -= 0xFF;
+    }
+
+    result[resultPosition++] = (byte) length;
+    return resultPosition;
+  }
+
+  private static int readInt(final byte[] content, final int position) {
+    return (content[position] & 0xFF) | ((content[position + 1] & 0xFF) << 8) | ((content[position + 2] & 0xFF) << 16) | (
+        (content[position + 3] & 0xFF) << 24);
+  }
+
+  private static int hash(final int sequence) {
+    return (sequence * -1640531535) >>> (32 - HASH_LOG);
+  }
+}
@@ -130,6 +130,15 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       + "but if does not enough to contain all pinned pages exception will be thrown", Integer.class, 4 * 1024,
       new OCacheSizeChangeCallback()),
 
+  DISK_CACHE_SCAN_RESISTANCE("storage.diskCache.scanResistance",
+      "Pages loaded by sequential scans (full cluster scans, database export) are kept in a small separate area of read cache "
+          + "and do not evict frequently used pages", Boolean.class, false),
+
+  DISK_CACHE_STATISTICS("storage.diskCache.statistics",
+      "Gather total and per file statistics of disk cache (hits, misses, evictions, dirty pages, flush latency). "
+          + "Statistics are available through JMX and 'SELECT FROM metadata:storageCache' query, "
+          + "gathering adds small overhead to every page load", Boolean.class, false),
+
   DISK_WRITE_CACHE_PART("storage.diskCache.writeCachePart", "Percentage of disk cache, which is used as write cache", Integer.class,
       5),
 
@@ -192,7 +201,7 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       "Indicates a force sync should be performed for each update on the storage configuration", Boolean.class, true),
 
   STORAGE_COMPRESSION_METHOD("storage.compressionMethod", "Record compression method used in storage"
-      + " Possible values : gzip, nothing. Default is 'nothing' that means no compression", String.class, "nothing"),
+      + " Possible values : lz4, gzip, nothing. Default is 'nothing' that means no compression", String.class, "nothing"),
 
   @Deprecated STORAGE_ENCRYPTION_METHOD("storage.encryptionMethod",
       "Record encryption method used in storage" + " Possible values : 'aes' and 'des'. Default is 'nothing' for no encryption",
@@ -241,7 +250,8 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   STORAGE_PAGE_OPERATIONS_CACHE_SIZE("storage.pageOperationsCacheSize", "Size of page operations cache in MB per transaction. "
       + "If operations are cached, they are not read from WAL during rollback.", Integer.class, 16),
 
-  STORAGE_CLUSTER_VERSION("storage.cluster.version", "Binary version of cluster which will be used inside of storage",
+  STORAGE_CLUSTER_VERSION("storage.cluster.version", "Binary version of cluster which will be used inside of storage. "
+      + "Clusters of version 3 support compression of records which can be changed by ALTER CLUSTER <name> COMPRESSION <method>",
       Integer.class, OPaginatedCluster.getLatestBinaryVersion()),
 
   STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS("storage.printWALPerformanceStatistics",
@@ -313,6 +323,32 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   WAL_RESTORE_BATCH_SIZE("storage.wal.restore.batchSize",
       "Amount of WAL records, which are read at once in a single batch during a restore procedure", Integer.class, 1000),
 
+  WAL_PARALLEL_RESTORE("storage.wal.restore.parallel",
+      "Apply page changes in parallel during a restore procedure. WAL records are read ahead by a separate thread and changes "
+          + "of different pages are applied by several threads, changes of the same page are applied in the order of the WAL",
+      Boolean.class, false),
+
+  WAL_PARALLEL_RESTORE_THREADS("storage.wal.restore.threads",
+      "Amount of threads which apply page changes during a restore procedure, if parallel restore is enabled", Integer.class,
+      Runtime.getRuntime().availableProcessors()),
+
+  WAL_GROUP_COMMIT("storage.wal.groupCommit",
+      "Transaction commit waits till its changes are synced on disk. Commits of concurrent transactions which are done within "
+          + "storage.wal.groupCommitWindow are synced by a single fsync", Boolean.class, false),
+
+  WAL_GROUP_COMMIT_WINDOW("storage.wal.groupCommitWindow",
+      "Interval (in microseconds) during which commits are collected to be synced on disk together, if group commit is enabled",
+      Integer.class, 200),
+
+  WAL_RECORD_COMPRESSION("storage.wal.compression",
+      "Compress WAL records with LZ4 if their serialized size is not smaller than storage.wal.compression.minRecordSize and "
+          + "compression decreases their size", Boolean.class, true),
+
+  WAL_RECORD_COMPRESSION_MIN_SIZE("storage.wal.compression.minRecordSize",
+      "Minimal size of serialized WAL record (in bytes) which is compressed, if WAL compression is enabled. "
+          + "Smaller values decrease size of WAL for write-heavy workloads at the cost of additional CPU usage", Integer.class,
+      8 * 1024),
+
   @Deprecated WAL_READ_CACHE_SIZE("storage.wal.readCacheSize", "Size of WAL read cache in amount of pages", Integer.class, 1000),
 
   WAL_FUZZY_CHECKPOINT_SHUTDOWN_TIMEOUT("storage.wal.fuzzyCheckpointShutdownWait",
@@ -435,6 +471,38 @@ public enum OGlobalConfiguration { // ENVIRONMENT
 
   INDEX_FLUSH_AFTER_CREATE("index.flushAfterCreate", "Flush storage buffer after index creation", Boolean.class, true),
 
+  INDEX_BULK_BUILD("index.bulkBuild",
+      "Build unique indexes during creation and rebuild bottom-up from externally sorted keys instead of insertion of keys one by one",
+      Boolean.class, false),
+
+  INDEX_BULK_BUILD_SORT_BUFFER("index.bulkBuild.sortBuffer",
+      "Size of memory buffer (in megabytes) used to sort keys during bulk build of index, "
+          + "sorted chunks of keys which do not fit into the buffer are spilled to temporary files", Integer.class, 64),
+
+  INDEX_POPULATION_THREADS("index.population.threads",
+      "Amount of threads which scan clusters and extract keys of documents during index creation and rebuild. "
+          + "Big clusters are split into ranges of positions scanned in parallel, 1 means that index is populated by current thread only",
+      Integer.class, 1),
+
+  INDEX_KEY_PREFIX_COMPRESSION("index.keyPrefixCompression",
+      "Store common part of keys once per page and truncate separator keys of non-leaf pages of unique and dictionary indexes "
+          + "created by CELL_BTREE algorithm after this option is switched on. Format of pages is chosen during creation of index "
+          + "and is not changed later, such indexes can not be opened by versions which do not support this format", Boolean.class,
+      false),
+
+  INDEX_OPTIMISTIC_READS("index.optimisticReads",
+      "Look up keys of indexes without acquisition of locks, data read from index pages is validated at the end of lookup and "
+          + "lookup is repeated under the lock if index was changed concurrently", Boolean.class, false),
+
+  INDEX_BLOOM_FILTER("index.bloomFilter",
+      "Keep in memory Bloom filter of keys of single value indexes, so lookups of absent keys do not read index pages. Filter is "
+          + "built in the background from the committed index pages when index is opened, when filter holds too many keys and "
+          + "after rollback of changes of index, till then keys are looked up in index pages", Boolean.class, false),
+
+  INDEX_BLOOM_FILTER_BITS_PER_KEY("index.bloomFilter.bitsPerKey",
+      "Amount of bits of Bloom filter of index reserved for each key, 10 bits per key give about 1% of false positives",
+      Integer.class, 10),
+
   @Deprecated INDEX_MANUAL_LAZY_UPDATES("index.manual.lazyUpdates",
       "Configure the TreeMaps for manual indexes as buffered or not. -1 means buffered until tx.commit() or db.close() are called",
       Integer.class, 1),
@@ -536,6 +604,13 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   NETWORK_SOCKET_BUFFER_SIZE("network.socketBufferSize", "TCP/IP Socket buffer size, if 0 use the OS default", Integer.class, 0,
       true),
 
+  NETWORK_BINARY_SELECTOR("network.binary.selector",
+      "Serve connections of binary protocol by single selector thread and shared pool of threads which execute requests, instead "
+          + "of dedicated thread per connection. It is not used with SSL sockets", Boolean.class, false),
+
+  NETWORK_BINARY_SELECTOR_THREADS("network.binary.selectorThreads",
+      "Maximum number of threads which execute requests of binary connections served by the selector", Integer.class, 64),
+
   NETWORK_LOCK_TIMEOUT("network.lockTimeout", "Timeout (in ms) to acquire a lock against a channel", Integer.class, 15000, true),
 
   NETWORK_SOCKET_TIMEOUT("network.socketTimeout", "TCP/IP Socket timeout (in ms)", Integer.class, 15000, true),
@@ -675,6 +750,13 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   // CACHE
   CACHE_LOCAL_IMPL("cache.local.impl", "Local Record cache implementation", String.class, ORecordCacheWeakRefs.class.getName()),
 
+  CACHE_SHARED_ENABLED("cache.shared.enabled",
+      "Use cache of serialized records which is shared by all sessions of the storage, so records which are read often are "
+          + "not read from the pages of clusters by each session", Boolean.class, false),
+
+  CACHE_SHARED_SIZE("cache.shared.size", "Maximum size of records kept in the shared record cache (in megabytes)", Integer.class,
+      64),
+
   // COMMAND
   COMMAND_TIMEOUT("command.timeout", "Default timeout for commands (in ms)", Long.class, 0, true),
 
@@ -706,6 +788,26 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       "Size of the queue that holds results on parallel execution. The queue is blocking, so in case the queue is full, the query threads will be in a wait state",
       Integer.class, 20000),
 
+  QUERY_PARALLEL_EXECUTION("query.parallelExecution",
+      "Execute the independent branches of a query (eg. one per cluster, per index lookup or per subclass) concurrently on a pool of worker threads. "
+          + "Branches are always executed sequentially inside a transaction", Boolean.class, false),
+
+  QUERY_PARALLEL_EXECUTION_MAX_THREADS("query.parallelExecution.maxThreads",
+      "Maximum number of worker threads a single query can use when query.parallelExecution is enabled", Integer.class,
+      Runtime.getRuntime().availableProcessors()),
+
+  QUERY_PARALLEL_EXECUTION_POOL_SIZE("query.parallelExecution.poolSize",
+      "Maximum number of worker threads shared by all parallel queries and parallel index builds. Workers are started only if a thread of the pool is free, "
+          + "otherwise the work is done by the calling thread", Integer.class, Runtime.getRuntime().availableProcessors() * 2),
+
+  QUERY_BINARY_FILTER("query.binaryFilter",
+      "Evaluate simple conditions of WHERE clause (comparison of a property with a constant, IS NULL, IS NOT NULL) directly on serialized records during scans of clusters, so properties of records which do not match them are not deserialized. Records are still loaded by the cluster iterator, so the cost of reading and of instantiation of skipped records remains",
+      Boolean.class, false),
+
+  QUERY_RESULT_CACHE_SIZE("query.resultCache.size",
+      "Maximum size of results of SELECT statements marked by CACHE keyword which are kept in memory, in megabytes. Cached results are shared by all sessions of the database and are discarded once records they were computed from are changed. (Use 0 to disable)",
+      Integer.class, 16),
+
   QUERY_SCAN_PREFETCH_PAGES("query.scanPrefetchPages",
       "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
       Integer.class, 20),
@@ -715,6 +817,10 @@ public enum OGlobalConfiguration { // ENVIRONMENT
           + " A high value mean a faster execution, but also a lower concurrency level. Set to 0 to disable batch scanning. Disabling batch scanning is suggested for read-only databases only",
       Long.class, 1000),
 
+  QUERY_INDEX_BATCH_LOOKUP_THRESHOLD("query.indexBatchLookupThreshold",
+      "Minimum number of keys of IN conditions on indexed fields, which are sorted and looked up in the index in batches instead of "
+          + "one by one. Results are returned in the order of index keys in such case. (Use 0 to disable)", Integer.class, 100),
+
   QUERY_SCAN_THRESHOLD_TIP("query.scanThresholdTip",
       "If the total number of records scanned in a query exceeds this setting, then a warning is given. (Use 0 to disable)",
       Long.class, 50000),
@@ -728,6 +834,18 @@ public enum OGlobalConfiguration { // ENVIRONMENT
           + "This setting is intended as a safety measure against excessive resource consumption from a single query (eg. prevent OutOfMemory)",
       Long.class, 500_000),
 
+  QUERY_ORDER_BY_SPILL_TO_DISK("query.orderBy.spillToDisk",
+      "When an ORDER BY without LIMIT exceeds query.maxHeapElementsAllowedPerOp, write sorted runs of that size to temporary files "
+          + "and merge them while reading the result, instead of failing the query", Boolean.class, false),
+
+  QUERY_GROUP_BY_SPILL_TO_DISK("query.groupBy.spillToDisk",
+      "Keep at most query.maxHeapElementsAllowedPerOp groups in heap during a GROUP BY, and write the records of the other groups "
+          + "to temporary partition files, that are aggregated one at a time", Boolean.class, false),
+
+  QUERY_OFF_HEAP_RID_SET("query.offHeapRidSet",
+      "Keep the RIDs already returned by DISTINCT and TRAVERSE in per-cluster bitmaps allocated in direct memory, instead of in the heap",
+      Boolean.class, false),
+
   QUERY_LIVE_SUPPORT("query.live.support", "Enable/Disable the support of live query. (Use false to disable)", Boolean.class, true),
 
   STATEMENT_CACHE_SIZE("statement.cacheSize", "Number of parsed SQL statements kept in cache. Zero means cache disabled", Integer.class, 100),
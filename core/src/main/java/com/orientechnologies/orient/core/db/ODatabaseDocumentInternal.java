@@ -20,6 +20,7 @@
 
 package com.orientechnologies.orient.core.db;
 
+import com.orientechnologies.orient.core.db.document.PrefetchedRecordReader;
 import com.orientechnologies.orient.core.db.document.RecordReader;
 import com.orientechnologies.orient.core.db.record.OCurrentStorageComponentsFactory;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -45,8 +46,7 @@ import com.orientechnologies.orient.core.tx.OTransaction;
 import com.orientechnologies.orient.core.tx.OTransactionAbstract;
 import com.orientechnologies.orient.core.tx.OTransactionInternal;
 
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.ExecutionException;
 
 public interface ODatabaseDocumentInternal extends ODatabaseSession, ODatabaseInternal<ORecord> {
@@ -151,6 +151,41 @@ public interface ODatabaseDocumentInternal extends ODatabaseSession, ODatabaseIn
 
   void rawBegin(OTransaction transaction);
 
+  /**
+   * Loads several records at once. Records which are neither in the local cache nor in the transaction are read from the storage by
+   * single {@link OStorage#readRecords(Collection)} call, so pages which contain several of the records are loaded only once.
+   * Records are passed through hooks and security checks the same way as by {@link #load(ORID)}.
+   *
+   * @return loaded records in the order of passed identities, {@code null} for the records which do not exist
+   */
+  default List<ORecord> loadRecords(List<ORecordId> rids) {
+    final List<ORecord> result = new ArrayList<>(rids.size());
+    if (getTransaction().isActive()) {
+      for (ORecordId rid : rids) {
+        result.add(load(rid));
+      }
+      return result;
+    }
+
+    final Set<ORecordId> toRead = new HashSet<>();
+    for (ORecordId rid : rids) {
+      if (rid.isPersistent() && getLocalCache().findRecord(rid) == null) {
+        toRead.add(rid);
+      }
+    }
+
+    final RecordReader reader = new PrefetchedRecordReader(toRead,
+        toRead.isEmpty() ? Collections.emptyMap() : getStorage().readRecords(toRead), isPrefetchRecords());
+    for (ORecordId rid : rids) {
+      if (rid.isPersistent()) {
+        result.add(executeReadRecord(rid, null, -1, null, false, true, false, OStorage.LOCKING_STRATEGY.NONE, reader));
+      } else {
+        result.add(load(rid));
+      }
+    }
+    return result;
+  }
+
   default OResultSet getActiveQuery(String id) {
     throw new UnsupportedOperationException();
   }
@@ -15,6 +15,7 @@ import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
 import com.orientechnologies.orient.core.security.OSecurityManager;
+import com.orientechnologies.orient.core.sql.executor.OQueryResultCache;
 import com.orientechnologies.orient.core.sql.executor.OQueryStats;
 import com.orientechnologies.orient.core.sql.parser.OExecutionPlanCache;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
@@ -51,6 +52,12 @@ public class OSharedContextEmbedded extends OSharedContext {
     executionPlanCache = new OExecutionPlanCache(
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.STATEMENT_CACHE_SIZE));
     this.registerListener(executionPlanCache);
+    executionPlanCache.registerMBean(storage.getName());
+
+    queryResultCache = new OQueryResultCache(
+        storage.getConfiguration().getContextConfiguration().getValueAsLong(OGlobalConfiguration.QUERY_RESULT_CACHE_SIZE) * 1024
+            * 1024);
+    this.registerListener(queryResultCache);
 
     queryStats = new OQueryStats();
     activeDistributedQueries = new HashMap<>();
@@ -99,6 +106,8 @@ public class OSharedContextEmbedded extends OSharedContext {
     commandCache.shutdown();
     statementCache.clear();
     executionPlanCache.invalidate();
+    executionPlanCache.unregisterMBean();
+    queryResultCache.invalidate();
     liveQueryOps.close();
     liveQueryOpsV2.close();
     activeDistributedQueries.values().forEach(x -> x.close());
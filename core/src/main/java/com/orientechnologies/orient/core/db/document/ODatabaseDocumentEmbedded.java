@@ -1184,6 +1184,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
     ORecordSerializationContext.pushContext();
     try {
       checkSecurity(ORule.ResourceGeneric.CLUSTER, ORole.PERMISSION_READ, getClusterNameById(rid.getClusterId()));
+      OQueryResultCache.onRecordRead(rid);
 
       // either regular or micro tx must be active or both inactive
       assert !(getTransaction().isActive() && (microTransaction != null && microTransaction.isActive()));
@@ -0,0 +1,42 @@
+package com.orientechnologies.orient.core.db.document;
+
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves records which were already read from the storage by single batch, records which were not requested in the batch are read
+ * from the storage.
+ *
+ * @Internal
+ */
+public final class PrefetchedRecordReader implements RecordReader {
+  private final Set<ORecordId>             prefetchedRids;
+  private final Map<ORecordId, ORawBuffer> prefetchedRecords;
+  private final boolean                    prefetchRecords;
+
+  /**
+   * @param prefetchedRids    identities of records requested in the batch
+   * @param prefetchedRecords records returned by the batch, absent records are not included
+   */
+  public PrefetchedRecordReader(Set<ORecordId> prefetchedRids, Map<ORecordId, ORawBuffer> prefetchedRecords,
+      boolean prefetchRecords) {
+    this.prefetchedRids = prefetchedRids;
+    this.prefetchedRecords = prefetchedRecords;
+    this.prefetchRecords = prefetchRecords;
+  }
+
+  @Override
+  public ORawBuffer readRecord(OStorage storage, ORecordId rid, String fetchPlan, boolean ignoreCache, final int recordVersion)
+      throws ORecordNotFoundException {
+    if (prefetchedRids.contains(rid)) {
+      return prefetchedRecords.get(rid);
+    }
+
+    return storage.readRecord(rid, fetchPlan, ignoreCache, prefetchRecords, null).getResult();
+  }
+}
@@ -42,6 +42,7 @@ import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.serialization.serializer.OJSONWriter;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.orientechnologies.orient.core.storage.cache.OSequentialScanHint;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -205,6 +206,7 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
       long clusterExportedRecordsCurrent = 0;
       if (clusterName != null) {
         ORecord rec = null;
+        OSequentialScanHint.begin();
         try {
           ORecordIteratorCluster<ORecord> it = database.browseCluster(clusterName);
 
@@ -247,6 +249,8 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
                 "\nError on exporting record %s. It seems corrupted; size: %d bytes, raw content (as string):\n==========\n%s\n==========",
                 t, rec.getIdentity(), buffer.length, new String(buffer));
           }
+        } finally {
+          OSequentialScanHint.end();
         }
       }
 
@@ -97,7 +97,9 @@ public class OEngineLocalPaginated extends OEngineAbstract {
       pages.clear();
     }
 
-    readCache = new AsyncReadCache(OByteBufferPool.instance(null), diskCacheSize, pageSize, false);
+    readCache = new AsyncReadCache(OByteBufferPool.instance(null), diskCacheSize, pageSize,
+        OGlobalConfiguration.DISK_CACHE_STATISTICS.getValueAsBoolean(),
+        OGlobalConfiguration.DISK_CACHE_SCAN_RESISTANCE.getValueAsBoolean());
 
   }
 
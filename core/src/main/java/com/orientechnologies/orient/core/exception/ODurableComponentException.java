@@ -14,4 +14,8 @@ public abstract class ODurableComponentException extends OCoreException {
   public ODurableComponentException(String message, ODurableComponent component) {
     super(message, component.getName());
   }
+
+  public ODurableComponentException(String message, String componentName) {
+    super(message, componentName);
+  }
 }
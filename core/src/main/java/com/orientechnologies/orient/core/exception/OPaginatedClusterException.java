@@ -14,4 +14,8 @@ public class OPaginatedClusterException extends ODurableComponentException {
   public OPaginatedClusterException(String message, OPaginatedCluster component) {
     super(message, component);
   }
+
+  public OPaginatedClusterException(String message, String clusterName) {
+    super(message, clusterName);
+  }
 }
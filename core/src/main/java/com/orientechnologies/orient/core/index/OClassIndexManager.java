@@ -351,6 +351,23 @@ public class OClassIndexManager {
   }
 
   public static void processIndexUpdate(ODocument iDocument, Set<String> dirtyFields, OIndex<?> index, List<IndexChange> changes) {
+    final OIndexFilter filter = OIndexFilter.of(index);
+    if (filter != null) {
+      final boolean matched = filter.matchedOriginal(iDocument, dirtyFields);
+      final boolean matches = filter.matches(iDocument);
+
+      if (matched && !matches) {
+        removeIndexEntries(index, dirtyFields, iDocument, changes);
+        return;
+      }
+      if (!matched) {
+        if (matches) {
+          addIndexEntry(iDocument, iDocument.getIdentity(), index, changes);
+        }
+        return;
+      }
+    }
+
     if (index.getDefinition() instanceof OCompositeIndexDefinition)
       processCompositeIndexUpdate(index, dirtyFields, iDocument, changes);
     else
@@ -368,6 +385,11 @@ public class OClassIndexManager {
   }
 
   private static void addIndexEntry(ODocument document, OIdentifiable rid, OIndex<?> index, List<IndexChange> changes) {
+    final OIndexFilter filter = OIndexFilter.of(index);
+    if (filter != null && !filter.matches(document)) {
+      return;
+    }
+
     final OIndexDefinition indexDefinition = index.getDefinition();
     final Object key = indexDefinition.getDocumentValueToIndex(document);
     if (key instanceof Collection) {
@@ -383,38 +405,39 @@ public class OClassIndexManager {
     if (cls == null)
       return;
 
-    final Collection<OIndex<?>> indexes = new ArrayList<>();
-    for (OIndex index : cls.getRawIndexes()) {
-      indexes.add(getTransactionalIndex(database, index));
+    final Collection<OIndex<?>> indexes = cls.getRawIndexes();
+    if (indexes.isEmpty()) {
+      return;
     }
 
-    if (!indexes.isEmpty()) {
-      final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
-
-      if (!dirtyFields.isEmpty()) {
-        // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
-        final Iterator<OIndex<?>> indexIterator = indexes.iterator();
+    final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
+    for (final OIndex<?> rawIndex : indexes) {
+      final OIndex<?> index = getTransactionalIndex(database, rawIndex);
 
-        while (indexIterator.hasNext()) {
-          final OIndex<?> index = indexIterator.next();
-
-          final boolean result;
-          if (index.getDefinition() instanceof OCompositeIndexDefinition)
-            result = processCompositeIndexDelete(index, dirtyFields, iDocument, changes);
-          else
-            result = processSingleIndexDelete(index, dirtyFields, iDocument, changes);
-
-          if (result)
-            indexIterator.remove();
-        }
+      final OIndexFilter filter = OIndexFilter.of(index);
+      if (filter == null || filter.matchedOriginal(iDocument, dirtyFields)) {
+        removeIndexEntries(index, dirtyFields, iDocument, changes);
       }
     }
+  }
 
-    // REMOVE INDEX OF ENTRIES FOR THE NON CHANGED ONLY VALUES
-    for (final OIndex<?> index : indexes) {
-      final Object key = index.getDefinition().getDocumentValueToIndex(iDocument);
-      deleteIndexKey(index, iDocument, key, changes);
+  private static void removeIndexEntries(final OIndex<?> index, final Set<String> dirtyFields, final ODocument iDocument,
+      List<IndexChange> changes) {
+    // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
+    if (!dirtyFields.isEmpty()) {
+      final boolean result;
+      if (index.getDefinition() instanceof OCompositeIndexDefinition)
+        result = processCompositeIndexDelete(index, dirtyFields, iDocument, changes);
+      else
+        result = processSingleIndexDelete(index, dirtyFields, iDocument, changes);
+
+      if (result)
+        return;
     }
+
+    // REMOVE INDEX OF ENTRIES FOR THE NON CHANGED ONLY VALUES
+    final Object key = index.getDefinition().getDocumentValueToIndex(iDocument);
+    deleteIndexKey(index, iDocument, key, changes);
   }
 
   private static void addPut(List<IndexChange> changes, OIndex<?> index, Object key, OIdentifiable value) {
@@ -15,6 +15,7 @@
  */
 package com.orientechnologies.orient.core.index;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeIndexEngine;
@@ -105,6 +106,11 @@ public class ODefaultIndexFactory implements OIndexFactory {
 
     if (version < 0) {
       version = getLastVersion(algorithm);
+
+      if (CELL_BTREE_ALGORITHM.equals(algorithm) && !isMultiValueIndex(indexType)
+          && OGlobalConfiguration.INDEX_KEY_PREFIX_COMPRESSION.getValueAsBoolean()) {
+        version = OCellBTreeSingleValueIndexEngine.KEY_PREFIX_COMPRESSION_VERSION;
+      }
     }
 
     return createSBTreeIndex(name, indexType, valueContainerAlgorithm, metadata,
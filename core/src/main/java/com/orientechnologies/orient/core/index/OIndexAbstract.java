@@ -20,6 +20,7 @@
 package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.concur.lock.OOneEntryPerKeyLockManager;
 import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
 import com.orientechnologies.common.concur.lock.OReadersWriterSpinLock;
@@ -27,11 +28,13 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.*;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.metadata.schema.OType;
@@ -480,11 +483,23 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
       if (iProgressListener != null)
         iProgressListener.onBegin(this, documentTotal, rebuild);
 
-      // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
+      final long[] bulkMetrics = OGlobalConfiguration.INDEX_BULK_BUILD.getValueAsBoolean() ?
+          bulkBuild(iProgressListener, documentTotal) :
+          null;
+
+      final int threads = OGlobalConfiguration.INDEX_POPULATION_THREADS.getValueAsInteger();
+
+      if (bulkMetrics != null) {
+        documentIndexed = bulkMetrics[1];
+      } else if (threads > 1) {
+        documentIndexed = indexClustersInParallel(iProgressListener, documentTotal, threads);
+      } else {
+        // INDEX ALL CLUSTERS
+        for (final String clusterName : clustersToIndex) {
+          final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
+          documentNum = metrics[0];
+          documentIndexed = metrics[1];
+        }
       }
 
       if (iProgressListener != null)
@@ -497,6 +512,84 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return documentIndexed;
   }
 
+  /**
+   * Builds index by single bulk load of index engine, which sorts keys of all indexed clusters and creates the tree bottom-up.
+   *
+   * @return Amount of processed and indexed documents or <code>null</code> if index can not be built in bulk.
+   *
+   * @see OGlobalConfiguration#INDEX_BULK_BUILD
+   */
+  private long[] bulkBuild(final OProgressListener iProgressListener, final long documentTotal) {
+    final OBaseIndexEngine.Validator<Object, ORID> validator = getBulkBuildValidator();
+    if (validator == null || apiVersion != 1) {
+      return null;
+    }
+
+    final BulkBuildEntries entries = new BulkBuildEntries(iProgressListener, documentTotal);
+    try {
+      while (true) {
+        try {
+          if (!storage.bulkLoadIndex(indexId, entries, validator)) {
+            return null;
+          }
+
+          return new long[] { entries.documentNum, entries.documentIndexed };
+        } catch (OInvalidIndexEngineIdException ignore) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      entries.close();
+    }
+  }
+
+  /**
+   * Populates index by keys which are extracted from documents of indexed clusters by the pool of worker threads. Index itself is
+   * changed by the current thread only, so the lock of index held by the caller is not violated.
+   *
+   * @return Amount of indexed documents
+   *
+   * @see OGlobalConfiguration#INDEX_POPULATION_THREADS
+   */
+  private long indexClustersInParallel(final OProgressListener iProgressListener, final long documentTotal, final int threads) {
+    long documentNum = 0;
+    long documentIndexed = 0;
+
+    try (final OIndexParallelScan scan = new OIndexParallelScan(indexDefinition, OIndexFilter.of(this), name, getDatabase(), clustersToIndex, threads)) {
+      OIndexParallelScan.Batch batch;
+      while ((batch = scan.next()) != null) {
+        if (Thread.interrupted())
+          throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+        for (final ORawPair<Object, ORID> entry : batch.entries) {
+          try {
+            put(entry.getFirst(), entry.getSecond());
+          } catch (OTooBigIndexKeyException | OIndexException e) {
+            OLogManager.instance().error(this,
+                "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
+                    + " Rebuild will continue from this point", e, entry.getFirst(), entry.getSecond());
+          }
+        }
+
+        documentNum += batch.documents;
+        documentIndexed += batch.indexedDocuments;
+
+        if (iProgressListener != null)
+          iProgressListener.onProgress(this, documentNum, (float) (documentNum * 100.0 / documentTotal));
+      }
+    }
+
+    return documentIndexed;
+  }
+
+  /**
+   * @return Validator which is applied to the entries with equal keys during bulk build of index, or <code>null</code> if index can
+   * not be built in bulk.
+   */
+  protected OBaseIndexEngine.Validator<Object, ORID> getBulkBuildValidator() {
+    return null;
+  }
+
   public boolean remove(Object key, final OIdentifiable value) {
     return remove(key);
   }
@@ -581,6 +674,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
         getDatabase().getMetadata().getIndexManagerInternal().removeClassPropertyIndex(this);
 
       removeValuesContainer();
+      OIndexFilter.evict(this);
       return this;
     } finally {
       releaseExclusiveLock();
@@ -932,6 +1026,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
   private long[] indexCluster(final String clusterName, final OProgressListener iProgressListener, long documentNum,
       long documentIndexed, long documentTotal) {
+    final OIndexFilter filter = OIndexFilter.of(this);
     try {
       for (final ORecord record : getDatabase().browseCluster(clusterName)) {
         if (Thread.interrupted())
@@ -946,7 +1041,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
           final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
 
-          if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
+          if ((fieldValue != null || !indexDefinition.isNullValuesIgnored()) && (filter == null || filter.matches(doc))) {
             try {
               populateIndex(doc, fieldValue);
             } catch (OTooBigIndexKeyException | OIndexException e) {
@@ -970,6 +1065,142 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return new long[] { documentNum, documentIndexed };
   }
 
+  /**
+   * Entries of documents of all indexed clusters. Keys are collated and collections of keys are expanded the same way as during
+   * population of index in {@link #indexCluster(String, OProgressListener, long, long, long)}. If several population threads are
+   * configured clusters are scanned by {@link OIndexParallelScan}.
+   */
+  private final class BulkBuildEntries implements Iterator<ORawPair<Object, ORID>>, AutoCloseable {
+    private final OProgressListener progressListener;
+    private final long              documentTotal;
+    private final int               threads  = OGlobalConfiguration.INDEX_POPULATION_THREADS.getValueAsInteger();
+    private final OIndexFilter      filter   = OIndexFilter.of(OIndexAbstract.this);
+
+    private final Iterator<String>              clusters = clustersToIndex.iterator();
+    private       Iterator<ORecord>             records  = Collections.emptyIterator();
+    private final Deque<ORawPair<Object, ORID>> entries  = new ArrayDeque<>();
+
+    private OIndexParallelScan scan;
+    private boolean            scanCompleted;
+
+    private long documentNum;
+    private long documentIndexed;
+
+    private BulkBuildEntries(final OProgressListener progressListener, final long documentTotal) {
+      this.progressListener = progressListener;
+      this.documentTotal = documentTotal;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (entries.isEmpty()) {
+        if (!(threads > 1 ? fetchBatch() : fetchDocument())) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    @Override
+    public void close() {
+      if (scan != null) {
+        scan.close();
+        scan = null;
+      }
+    }
+
+    private boolean fetchBatch() {
+      if (scanCompleted) {
+        return false;
+      }
+
+      if (scan == null) {
+        scan = new OIndexParallelScan(indexDefinition, OIndexFilter.of(OIndexAbstract.this), name, getDatabase(), clustersToIndex, threads);
+      }
+
+      if (Thread.interrupted())
+        throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+      final OIndexParallelScan.Batch batch = scan.next();
+      if (batch == null) {
+        scanCompleted = true;
+        close();
+        return false;
+      }
+
+      for (final ORawPair<Object, ORID> entry : batch.entries) {
+        entries.add(new ORawPair<>(getCollatingValue(entry.getFirst()), entry.getSecond()));
+      }
+
+      documentNum += batch.documents;
+      documentIndexed += batch.indexedDocuments;
+
+      if (progressListener != null)
+        progressListener.onProgress(OIndexAbstract.this, documentNum, (float) (documentNum * 100.0 / documentTotal));
+
+      return true;
+    }
+
+    @Override
+    public ORawPair<Object, ORID> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return entries.poll();
+    }
+
+    private boolean fetchDocument() {
+      while (!records.hasNext()) {
+        if (!clusters.hasNext()) {
+          return false;
+        }
+
+        records = getDatabase().browseCluster(clusters.next());
+      }
+
+      if (Thread.interrupted())
+        throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+      final ORecord record;
+      try {
+        record = records.next();
+      } catch (NoSuchElementException ignore) {
+        // END OF CLUSTER REACHED, IGNORE IT
+        records = Collections.emptyIterator();
+        return true;
+      }
+
+      if (record instanceof ODocument) {
+        final ODocument doc = (ODocument) record;
+
+        if (indexDefinition == null)
+          throw new OConfigurationException(
+              "Index '" + name + "' cannot be rebuilt because has no a valid definition (" + indexDefinition + ")");
+
+        final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+
+        if ((fieldValue != null || !indexDefinition.isNullValuesIgnored()) && (filter == null || filter.matches(doc))) {
+          if (fieldValue instanceof Collection) {
+            for (final Object fieldValueItem : (Collection<?>) fieldValue) {
+              entries.add(new ORawPair<>(getCollatingValue(fieldValueItem), doc.getIdentity()));
+            }
+          } else
+            entries.add(new ORawPair<>(getCollatingValue(fieldValue), doc.getIdentity()));
+
+          ++documentIndexed;
+        }
+      }
+      documentNum++;
+
+      if (progressListener != null)
+        progressListener.onProgress(OIndexAbstract.this, documentNum, (float) (documentNum * 100.0 / documentTotal));
+
+      return true;
+    }
+  }
+
   protected void releaseExclusiveLock() {
     rwLock.releaseWriteLock();
   }
@@ -1036,6 +1267,91 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return new IndexConfiguration(document);
   }
 
+  /**
+   * Looks up values of the given keys. Keys are collated and sorted, and are passed to the index engine in batches by {@link
+   * OAbstractPaginatedStorage#getIndexValues(int, List)}, so ordered engines may find neighbouring keys without separate descents
+   * from the root.
+   */
+  protected final class KeysLookup {
+    private static final int BATCH_SIZE = 1_000;
+
+    private final List<Object> sortedKeys = new ArrayList<>();
+    private final boolean      ascSortOrder;
+
+    private int processedKeys;
+
+    private List<Object> batchKeys   = Collections.emptyList();
+    private List<Object> batchValues = Collections.emptyList();
+    private int          batchIndex;
+
+    protected KeysLookup(final Collection<?> keys, final boolean ascSortOrder) {
+      for (final Object key : keys) {
+        sortedKeys.add(getCollatingValue(key));
+      }
+      sortedKeys.sort(ODefaultComparator.INSTANCE);
+
+      this.ascSortOrder = ascSortOrder;
+    }
+
+    /**
+     * @return Next key which has value in the requested order of keys, or <code>null</code> if all keys are processed.
+     */
+    protected ORawPair<Object, Object> next() {
+      while (true) {
+        if (batchIndex >= batchKeys.size() && !fetchBatch()) {
+          return null;
+        }
+
+        final Object value = batchValues.get(batchIndex);
+        final Object key = batchKeys.get(batchIndex);
+        batchIndex++;
+
+        if (value != null) {
+          return new ORawPair<>(key, value);
+        }
+      }
+    }
+
+    private boolean fetchBatch() {
+      if (processedKeys >= sortedKeys.size()) {
+        return false;
+      }
+
+      final int batchSize = Math.min(BATCH_SIZE, sortedKeys.size() - processedKeys);
+      if (ascSortOrder) {
+        batchKeys = sortedKeys.subList(processedKeys, processedKeys + batchSize);
+      } else {
+        batchKeys = sortedKeys.subList(sortedKeys.size() - processedKeys - batchSize, sortedKeys.size() - processedKeys);
+      }
+      processedKeys += batchSize;
+
+      acquireSharedLock();
+      try {
+        while (true) {
+          try {
+            batchValues = storage.getIndexValues(indexId, batchKeys);
+            break;
+          } catch (OInvalidIndexEngineIdException ignore) {
+            doReloadIndexEngine();
+          }
+        }
+      } finally {
+        releaseSharedLock();
+      }
+
+      if (!ascSortOrder) {
+        batchKeys = new ArrayList<>(batchKeys);
+        Collections.reverse(batchKeys);
+
+        batchValues = new ArrayList<>(batchValues);
+        Collections.reverse(batchValues);
+      }
+
+      batchIndex = 0;
+      return true;
+    }
+  }
+
   public static final class IndexTxSnapshot {
     public Map<Object, Object> indexSnapshot = new HashMap<>();
     public boolean             clear         = false;
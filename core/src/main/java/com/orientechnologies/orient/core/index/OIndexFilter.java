@@ -0,0 +1,133 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.collection.OLRUCache;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OOrBlock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Predicate of partial index. Only documents which match the predicate are put into the partial index, so the index can be used
+ * only by queries whose conditions imply the predicate.
+ * <p>
+ * Predicate is stored as SQL condition in the index metadata under the {@link #METADATA_FIELD} key.
+ */
+public final class OIndexFilter {
+  public static final String METADATA_FIELD = "where";
+
+  private static final int CACHE_SIZE = 1024;
+
+  /**
+   * Parsed predicates by their text, shared by all the databases. Entries of dropped indexes are evicted, the size bound covers the
+   * indexes that are never dropped in this JVM, like the ones of closed databases.
+   */
+  private static final Map<String, OIndexFilter> filters = Collections.synchronizedMap(new OLRUCache<>(CACHE_SIZE));
+
+  private final String          text;
+  private final OOrBlock        condition;
+  private final List<OAndBlock> flattenedCondition;
+
+  private OIndexFilter(final String text) {
+    this.text = text;
+    this.condition = OSQLEngine.parsePredicate(text);
+    this.flattenedCondition = condition.flatten();
+  }
+
+  /**
+   * @return predicate of the given index or {@code null} if index contains all documents of indexed class.
+   */
+  public static OIndexFilter of(final OIndex<?> index) {
+    final ODocument metadata = index.getMetadata();
+    if (metadata == null) {
+      return null;
+    }
+
+    final String text = metadata.field(METADATA_FIELD);
+    if (text == null) {
+      return null;
+    }
+
+    return filters.computeIfAbsent(text, OIndexFilter::new);
+  }
+
+  /**
+   * Removes the parsed predicate of the given index from the cache, it is called when the index is dropped.
+   */
+  public static void evict(final OIndex<?> index) {
+    final ODocument metadata = index.getMetadata();
+    if (metadata == null) {
+      return;
+    }
+
+    final String text = metadata.field(METADATA_FIELD);
+    if (text != null) {
+      filters.remove(text);
+    }
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * @return {@code true} if current state of the document matches predicate.
+   */
+  public boolean matches(final ODocument document) {
+    return condition.evaluate(document, createContext());
+  }
+
+  /**
+   * @return {@code true} if the state of the document before the changes of the given fields matched predicate, that is document
+   * was put into the index before the changes.
+   */
+  public boolean matchedOriginal(final ODocument document, final Set<String> dirtyFields) {
+    if (dirtyFields.isEmpty()) {
+      return matches(document);
+    }
+
+    final OResultInternal original = new OResultInternal();
+    final Set<String> fields = new HashSet<>(Arrays.asList(document.fieldNames()));
+    fields.addAll(dirtyFields);
+    for (final String field : fields) {
+      original.setProperty(field, dirtyFields.contains(field) ? document.getOriginalValue(field) : document.field(field));
+    }
+
+    return condition.evaluate(original, createContext());
+  }
+
+  /**
+   * Checks whether documents which match the given query condition always match the predicate. The check is conservative, it
+   * succeeds if all the conditions of one of the alternatives of the predicate are also present in the query condition.
+   */
+  public boolean isImpliedBy(final OAndBlock queryCondition) {
+    final List<OBooleanExpression> queryConditions = queryCondition.getSubBlocks();
+    for (final OAndBlock alternative : flattenedCondition) {
+      if (queryConditions.containsAll(alternative.getSubBlocks())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static OBasicCommandContext createContext() {
+    final OBasicCommandContext context = new OBasicCommandContext();
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    if (database != null) {
+      context.setDatabase(database);
+    }
+    return context;
+  }
+}
@@ -19,10 +19,10 @@
  */
 package com.orientechnologies.orient.core.index;
 
-import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.id.ORID;
@@ -336,19 +336,9 @@ public abstract class OIndexMultiValues extends OIndexAbstract<Collection<ORID>>
 
   @Override
   public OIndexCursor iterateEntries(Collection<?> keys, boolean ascSortOrder) {
-    final List<Object> sortedKeys = new ArrayList<>(keys);
-    final Comparator<Object> comparator;
-    if (ascSortOrder) {
-      comparator = ODefaultComparator.INSTANCE;
-    } else {
-      comparator = Collections.reverseOrder(ODefaultComparator.INSTANCE);
-    }
-
-    sortedKeys.sort(comparator);
+    final KeysLookup keysLookup = new KeysLookup(keys, ascSortOrder);
 
     return new OIndexAbstractCursor() {
-      private final Iterator<?> keysIterator = sortedKeys.iterator();
-
       private Iterator<ORID> currentIterator = OEmptyIterator.IDENTIFIABLE_INSTANCE;
       private Object currentKey;
 
@@ -358,37 +348,20 @@ public abstract class OIndexMultiValues extends OIndexAbstract<Collection<ORID>>
           return null;
         }
 
-        Object key = null;
         if (!currentIterator.hasNext()) {
-          Collection<ORID> result = null;
-          while (keysIterator.hasNext() && (result == null || result.isEmpty())) {
-            key = keysIterator.next();
-            key = getCollatingValue(key);
-
-            acquireSharedLock();
-            try {
-              while (true) {
-                try {
-                  //noinspection unchecked
-                  result = (Collection<ORID>) storage.getIndexValue(indexId, key);
-                  break;
-                } catch (OInvalidIndexEngineIdException ignore) {
-                  doReloadIndexEngine();
-                }
-              }
-
-            } finally {
-              releaseSharedLock();
-            }
+          ORawPair<Object, Object> result = keysLookup.next();
+          while (result != null && ((Collection<?>) result.getSecond()).isEmpty()) {
+            result = keysLookup.next();
           }
 
-          if (result == null || result.isEmpty()) {
+          if (result == null) {
             currentIterator = null;
             return null;
           }
 
-          currentKey = key;
-          currentIterator = result.iterator();
+          currentKey = result.getFirst();
+          //noinspection unchecked
+          currentIterator = ((Collection<ORID>) result.getSecond()).iterator();
         }
 
         final OIdentifiable resultValue = currentIterator.next();
@@ -19,21 +19,16 @@
  */
 package com.orientechnologies.orient.core.index;
 
-import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.serialization.serializer.stream.OStreamSerializerRID;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -88,46 +83,17 @@ public abstract class OIndexOneValue extends OIndexAbstract<OIdentifiable> {
 
   @Override
   public OIndexCursor iterateEntries(Collection<?> keys, boolean ascSortOrder) {
-    final List<Object> sortedKeys = new ArrayList<Object>(keys);
-    final Comparator<Object> comparator;
-
-    if (ascSortOrder)
-      comparator = ODefaultComparator.INSTANCE;
-    else
-      comparator = Collections.reverseOrder(ODefaultComparator.INSTANCE);
-
-    Collections.sort(sortedKeys, comparator);
+    final KeysLookup keysLookup = new KeysLookup(keys, ascSortOrder);
 
     return new OIndexAbstractCursor() {
-      private Iterator<?> keysIterator = sortedKeys.iterator();
-
       @Override
       public Map.Entry<Object, OIdentifiable> nextEntry() {
-        OIdentifiable result = null;
-        Object key = null;
-        while (keysIterator.hasNext() && result == null) {
-          key = keysIterator.next();
-          key = getCollatingValue(key);
-
-          acquireSharedLock();
-          try {
-            while (true)
-              try {
-                result = (OIdentifiable) storage.getIndexValue(indexId, key);
-                break;
-              } catch (OInvalidIndexEngineIdException ignore) {
-                doReloadIndexEngine();
-              }
-          } finally {
-            releaseSharedLock();
-          }
-        }
-
+        final ORawPair<Object, Object> result = keysLookup.next();
         if (result == null)
           return null;
 
-        final Object resultKey = key;
-        final OIdentifiable resultValue = result;
+        final Object resultKey = result.getFirst();
+        final OIdentifiable resultValue = (OIdentifiable) result.getSecond();
 
         return new Map.Entry<Object, OIdentifiable>() {
           @Override
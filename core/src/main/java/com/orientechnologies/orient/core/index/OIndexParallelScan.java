@@ -0,0 +1,339 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OConfigurationException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Scans indexed clusters on the pool of worker threads (see {@link Orient#trySubmitParallel(Runnable)}) and extracts keys of
+ * documents by {@link OIndexDefinition#getDocumentValueToIndex(ODocument)} during index creation and rebuild.
+ * <p>
+ * Big clusters are split into ranges of cluster positions, so even single cluster is scanned in parallel. Every worker scans
+ * ranges using its own copy of the database session and passes extracted keys in batches to the bounded queue. Batches are
+ * consumed by the thread which populates index, so index itself is changed by a single thread only. If no thread of the pool is
+ * free, clusters are scanned by the thread which populates index. Keys are not collated.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#INDEX_POPULATION_THREADS
+ */
+final class OIndexParallelScan implements AutoCloseable {
+  /**
+   * Amount of documents in a single batch.
+   */
+  private static final int BATCH_SIZE = 1_000;
+
+  /**
+   * Minimum amount of records in a range of cluster positions.
+   */
+  private static final long MIN_RANGE_SIZE = 10_000;
+
+  private static final Batch END = new Batch();
+
+  private final OIndexDefinition indexDefinition;
+  private final OIndexFilter     filter;
+  private final String           indexName;
+
+  private final Queue<Range>               ranges = new ConcurrentLinkedQueue<>();
+  private final BlockingQueue<Batch>       batches;
+  private final AtomicReference<Throwable> error  = new AtomicReference<>();
+
+  private volatile boolean cancelled;
+
+  private int workers;
+  private int completedWorkers;
+
+  /**
+   * Session of the caller thread, it is used to scan clusters if no worker could be started because all threads of the pool are
+   * busy.
+   */
+  private final ODatabaseDocumentInternal      db;
+  private       ORecordIteratorCluster<ORecord> callerRecords;
+
+  /**
+   * @param filter predicate of partial index or {@code null} if all the documents are indexed
+   */
+  OIndexParallelScan(final OIndexDefinition indexDefinition, final OIndexFilter filter, final String indexName,
+      final ODatabaseDocumentInternal db, final Collection<String> clusters, final int threads) {
+    this.indexDefinition = indexDefinition;
+    this.filter = filter;
+    this.indexName = indexName;
+    this.db = db;
+
+    final OStorage storage = db.getStorage();
+    for (final String clusterName : clusters) {
+      final int clusterId = db.getClusterIdByName(clusterName);
+      final long[] range = storage.getClusterDataRange(clusterId);
+      final long count = storage.count(clusterId);
+
+      final long parts = Math.min(threads, count / MIN_RANGE_SIZE);
+      if (parts < 2 || range.length < 2 || range[0] < 0 || range[1] < range[0]) {
+        ranges.add(new Range(clusterId, ORID.CLUSTER_POS_INVALID, ORID.CLUSTER_POS_INVALID));
+        continue;
+      }
+
+      final long rangeSize = (range[1] - range[0]) / parts + 1;
+      for (long from = range[0]; from <= range[1]; from += rangeSize) {
+        ranges.add(new Range(clusterId, from, Math.min(from + rangeSize - 1, range[1])));
+      }
+    }
+
+    batches = new ArrayBlockingQueue<>(4 * threads);
+
+    final int workersCount = Math.min(threads, ranges.size());
+    try {
+      for (int i = 0; i < workersCount; i++) {
+        //sessions are not thread safe, every worker needs its own copy. The copy has to be created on the caller thread
+        final ODatabaseDocumentInternal workerDb = db.copy();
+        final Future<?> worker;
+        try {
+          //the pool does not queue tasks, so workers never wait for threads occupied by other workers blocked on their consumers
+          worker = Orient.instance().trySubmitParallel(() -> runWorker(workerDb));
+        } catch (final RuntimeException e) {
+          workerDb.activateOnCurrentThread();
+          workerDb.close();
+          throw e;
+        }
+
+        if (worker == null) {
+          workerDb.activateOnCurrentThread();
+          workerDb.close();
+          break;
+        }
+
+        workers++;
+      }
+    } catch (final RuntimeException e) {
+      close();
+      throw e;
+    } finally {
+      db.activateOnCurrentThread();
+    }
+  }
+
+  /**
+   * @return Next batch of extracted keys or <code>null</code> if all clusters are scanned.
+   */
+  Batch next() {
+    if (workers == 0) {
+      return nextOnCallerThread();
+    }
+
+    while (completedWorkers < workers) {
+      final Batch batch;
+      try {
+        batch = batches.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new OCommandExecutionException("The index rebuild has been interrupted");
+      }
+
+      if (batch == END) {
+        completedWorkers++;
+        checkError();
+        continue;
+      }
+
+      return batch;
+    }
+
+    checkError();
+    return null;
+  }
+
+  private Batch nextOnCallerThread() {
+    while (true) {
+      if (callerRecords == null) {
+        final Range range = ranges.poll();
+        if (range == null) {
+          return null;
+        }
+
+        callerRecords = new ORecordIteratorCluster<>(db, range.clusterId, range.from, range.to);
+      }
+
+      final Batch batch = nextBatch(callerRecords);
+      if (batch != null) {
+        return batch;
+      }
+
+      callerRecords = null;
+    }
+  }
+
+  /**
+   * Stops workers and waits till all of them are completed.
+   */
+  @Override
+  public void close() {
+    cancelled = true;
+
+    boolean interrupted = false;
+    while (completedWorkers < workers) {
+      try {
+        final Batch batch = batches.poll(100, TimeUnit.MILLISECONDS);
+        if (batch == END) {
+          completedWorkers++;
+        }
+      } catch (final InterruptedException e) {
+        interrupted = true;
+      }
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void checkError() {
+    final Throwable t = error.get();
+    if (t == null) {
+      return;
+    }
+
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    }
+
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+
+    throw OException.wrapException(new OIndexException("Error during scan of clusters of index '" + indexName + "'"), t);
+  }
+
+  private void runWorker(final ODatabaseDocumentInternal workerDb) {
+    try {
+      workerDb.activateOnCurrentThread();
+
+      Range range;
+      while (!cancelled && (range = ranges.poll()) != null) {
+        scan(workerDb, range);
+      }
+    } catch (final InterruptedException e) {
+      cancelled = true;
+      Thread.currentThread().interrupt();
+    } catch (final Throwable t) {
+      error.compareAndSet(null, t);
+      cancelled = true;
+    } finally {
+      try {
+        workerDb.activateOnCurrentThread();
+        workerDb.close();
+      } finally {
+        ODatabaseRecordThreadLocal.instance().remove();
+
+        //consumer always drains the queue till the last worker is completed
+        boolean interrupted = false;
+        while (true) {
+          try {
+            batches.put(END);
+            break;
+          } catch (final InterruptedException e) {
+            interrupted = true;
+          }
+        }
+
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  private void scan(final ODatabaseDocumentInternal workerDb, final Range range) throws InterruptedException {
+    final ORecordIteratorCluster<ORecord> records = new ORecordIteratorCluster<>(workerDb, range.clusterId, range.from, range.to);
+
+    Batch batch;
+    while (!cancelled && (batch = nextBatch(records)) != null) {
+      deliver(batch);
+    }
+  }
+
+  /**
+   * @return Keys of the next {@link #BATCH_SIZE} documents of the range or <code>null</code> if the range is scanned.
+   */
+  private Batch nextBatch(final ORecordIteratorCluster<ORecord> records) {
+    final Batch batch = new Batch();
+    while (!cancelled && batch.documents < BATCH_SIZE && records.hasNext()) {
+      final ORecord record = records.next();
+
+      if (record instanceof ODocument) {
+        final ODocument doc = (ODocument) record;
+
+        if (indexDefinition == null)
+          throw new OConfigurationException(
+              "Index '" + indexName + "' cannot be rebuilt because has no a valid definition (" + indexDefinition + ")");
+
+        final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+
+        if ((fieldValue != null || !indexDefinition.isNullValuesIgnored()) && (filter == null || filter.matches(doc))) {
+          final ORID rid = doc.getIdentity();
+
+          if (fieldValue instanceof Collection) {
+            for (final Object fieldValueItem : (Collection<?>) fieldValue) {
+              batch.entries.add(new ORawPair<>(fieldValueItem, rid));
+            }
+          } else
+            batch.entries.add(new ORawPair<>(fieldValue, rid));
+
+          batch.indexedDocuments++;
+        }
+      }
+      batch.documents++;
+    }
+
+    return batch.documents > 0 ? batch : null;
+  }
+
+  private void deliver(final Batch batch) throws InterruptedException {
+    //the queue is bounded: a slow consumer stops the workers here
+    while (!cancelled && !batches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+      //retry
+    }
+  }
+
+  static final class Batch {
+    final List<ORawPair<Object, ORID>> entries = new ArrayList<>();
+
+    /**
+     * Amount of scanned documents.
+     */
+    int documents;
+
+    /**
+     * Amount of documents which have keys to index.
+     */
+    int indexedDocuments;
+  }
+
+  private static final class Range {
+    private final int  clusterId;
+    private final long from;
+    private final long to;
+
+    private Range(final int clusterId, final long from, final long to) {
+      this.clusterId = clusterId;
+      this.from = from;
+      this.to = to;
+    }
+  }
+}
@@ -81,6 +81,11 @@ public class OIndexUnique extends OIndexOneValue {
     }
   }
 
+  @Override
+  protected OBaseIndexEngine.Validator<Object, ORID> getBulkBuildValidator() {
+    return uniqueValidator;
+  }
+
   @Override
   public boolean canBeUsedInEqualityOperators() {
     return true;
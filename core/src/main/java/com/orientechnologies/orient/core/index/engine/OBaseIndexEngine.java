@@ -10,7 +10,9 @@ import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public interface OBaseIndexEngine {
@@ -33,6 +35,23 @@ public interface OBaseIndexEngine {
 
   Object get(Object key);
 
+  /**
+   * Looks up values of several keys at once. Engines which keep keys ordered may find consecutive keys without the separate search
+   * of each of them.
+   *
+   * @param sortedKeys Keys sorted in ascending order.
+   *
+   * @return Values of the keys in the same order as in the passed in list, <code>null</code> if key is absent.
+   */
+  default List<Object> getMany(final List<Object> sortedKeys) {
+    final List<Object> result = new ArrayList<>(sortedKeys.size());
+    for (final Object key : sortedKeys) {
+      result.add(get(key));
+    }
+
+    return result;
+  }
+
   Object getFirstKey();
 
   Object getLastKey();
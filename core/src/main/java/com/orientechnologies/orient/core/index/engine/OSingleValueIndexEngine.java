@@ -1,8 +1,10 @@
 package com.orientechnologies.orient.core.index.engine;
 
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.id.ORID;
 
 import java.io.IOException;
+import java.util.Iterator;
 
 public interface OSingleValueIndexEngine extends OV1IndexEngine {
   ORID get(Object key);
@@ -11,6 +13,15 @@ public interface OSingleValueIndexEngine extends OV1IndexEngine {
 
   boolean remove(Object key) throws IOException;
 
+  /**
+   * Fills empty index by given entries, keys of entries do not need to be sorted.
+   *
+   * @return <code>false</code> if bulk load is not supported or index is not empty, entries are not consumed in such case.
+   */
+  default boolean bulkLoad(Iterator<ORawPair<Object, ORID>> entries, Validator<Object, ORID> validator) {
+    return false;
+  }
+
   @Override
   default boolean isMultiValue() {
     return false;
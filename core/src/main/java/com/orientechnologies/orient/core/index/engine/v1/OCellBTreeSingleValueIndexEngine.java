@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.index.engine.v1;
 
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.id.ORID;
@@ -16,13 +17,21 @@ import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v1.Cel
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndexEngine, OCellBTreeIndexEngine {
   private static final String DATA_FILE_EXTENSION        = ".cbt";
   private static final String NULL_BUCKET_FILE_EXTENSION = ".nbt";
 
+  /**
+   * Version of the engine which keeps common part of keys once per page of the tree. Pages of such trees can not be read by
+   * versions of the storage which do not support key prefix compression, so they reject indexes of this version.
+   */
+  public static final int KEY_PREFIX_COMPRESSION_VERSION = 4;
+
   private final OCellBTreeSingleValue<Object> sbTree;
   private final String                        name;
   private final int                           id;
@@ -35,6 +44,8 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
       this.sbTree = new CellBTreeSingleValueV1<>(name, id, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
     } else if (version == 3) {
       this.sbTree = new CellBTreeSingleValueV3<>(name, id, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+    } else if (version == KEY_PREFIX_COMPRESSION_VERSION) {
+      this.sbTree = new CellBTreeSingleValueV3<>(name, id, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage, true);
     } else {
       throw new IllegalStateException("Invalid tree version " + version);
     }
@@ -131,6 +142,11 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
     return sbTree.get(key);
   }
 
+  @Override
+  public List<Object> getMany(final List<Object> sortedKeys) {
+    return Collections.unmodifiableList(sbTree.getMany(sortedKeys));
+  }
+
   @Override
   public OIndexCursor cursor(ValuesTransformer valuesTransformer) {
     final Object firstKey = sbTree.firstKey();
@@ -181,6 +197,15 @@ public final class OCellBTreeSingleValueIndexEngine implements OSingleValueIndex
     }
   }
 
+  @Override
+  public boolean bulkLoad(Iterator<ORawPair<Object, ORID>> entries, Validator<Object, ORID> validator) {
+    try {
+      return sbTree.bulkLoad(entries, validator);
+    } catch (IOException e) {
+      throw OException.wrapException(new OIndexException("Error during bulk load of index " + name), e);
+    }
+  }
+
   @Override
   public Object getFirstKey() {
     return sbTree.firstKey();
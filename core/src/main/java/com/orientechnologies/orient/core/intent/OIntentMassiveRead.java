@@ -21,12 +21,15 @@
 package com.orientechnologies.orient.core.intent;
 
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.storage.cache.OSequentialScanHint;
 
 public class OIntentMassiveRead implements OIntent {
   public void begin(final ODatabaseDocumentInternal iDatabase) {
+    OSequentialScanHint.begin();
   }
 
   public void end(final ODatabaseDocumentInternal iDatabase) {
+    OSequentialScanHint.end();
   }
 
   @Override
@@ -110,6 +110,17 @@ public interface OSecurityInternal {
 
   boolean canRead(ODatabaseSession session, ORecord record);
 
+  /**
+   * Checks whether reading of a class or of a property is limited for current session by a security policy, so its values can
+   * not be returned without a check of each record (eg. when a query is answered by the keys of an index).
+   *
+   * @param session  the db session
+   * @param resource the resource to check, in the form <code>database.class.&lt;class&gt;</code> or <code>database.class.&lt;class&gt;.&lt;property&gt;</code>
+   *
+   * @return true if some records (or values of the property) may be hidden to current session
+   */
+  boolean isReadRestrictedBySecurityPolicy(ODatabaseSession session, String resource);
+
   boolean canUpdate(ODatabaseSession session, ORecord record);
 
   boolean canDelete(ODatabaseSession session, ORecord record);
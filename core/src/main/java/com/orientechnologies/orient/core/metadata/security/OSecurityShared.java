@@ -911,6 +911,20 @@ public class OSecurityShared implements OSecurityInternal {
     return true;
   }
 
+  @Override
+  public boolean isReadRestrictedBySecurityPolicy(ODatabaseSession session, String resource) {
+    if (session.getUser() == null) {
+      //executeNoAuth
+      return false;
+    }
+    //properties are hidden by the same predicate that is checked by getFilteredProperties()
+    OSecurityPolicy.Scope scope = resource.indexOf('.', "database.class.".length()) > 0 ?
+        OSecurityPolicy.Scope.CREATE :
+        OSecurityPolicy.Scope.READ;
+    OBooleanExpression predicate = OSecurityEngine.getPredicateForSecurityResource(session, this, resource, scope);
+    return !OBooleanExpression.TRUE.equals(predicate);
+  }
+
   @Override
   public boolean canUpdate(ODatabaseSession session, ORecord record) {
     if (session.getUser() == null) {
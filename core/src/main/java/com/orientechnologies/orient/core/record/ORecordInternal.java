@@ -102,6 +102,14 @@ public class ORecordInternal {
     rec.setContentChanged(changed);
   }
 
+  /**
+   * Internal only. Returns serialized content of the record without serialization of it, so it is <code>null</code> if the record
+   * was changed or was already deserialized.
+   */
+  public static byte[] getSource(final ORecord record) {
+    return ((ORecordAbstract) record).source;
+  }
+
   public static void clearSource(final ORecord record) {
     final ORecordAbstract rec = (ORecordAbstract) record;
     rec.clearSource();
@@ -265,6 +265,11 @@ public class OSymmetricKeySecurity implements OSecurityInternal {
     return delegate.canRead(session, record);
   }
 
+  @Override
+  public boolean isReadRestrictedBySecurityPolicy(ODatabaseSession session, String resource) {
+    return delegate.isReadRestrictedBySecurityPolicy(session, resource);
+  }
+
   @Override
   public boolean canUpdate(ODatabaseSession session, ORecord record) {
     return delegate.canUpdate(session, record);
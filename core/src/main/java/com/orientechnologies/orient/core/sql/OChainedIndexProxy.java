@@ -127,6 +127,10 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
     final Collection<Class<? extends OIndex>> indexTypes = new HashSet<Class<? extends OIndex>>(3);
 
     for (OIndex<?> involvedIndex : involvedIndexes) {
+      if (OIndexFilter.of(involvedIndex) != null)
+        // PARTIAL INDEXES DO NOT CONTAIN ALL THE RECORDS OF THE CLASS
+        continue;
+
       if (!indexTypes.contains(involvedIndex.getInternal().getClass())) {
         result.add(involvedIndex);
         indexTypes.add(involvedIndex.getInternal().getClass());
@@ -160,6 +164,7 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
    * <li>Should be unique or not unique. Other types cannot be used to get all documents with required links.</li>
    * <li>Should not be composite hash index. As soon as hash index does not support partial match search.</li>
    * <li>Composite index that ignores null values should not be used.</li>
+   * <li>Partial index should not be used. As soon as it does not contain all the documents.</li>
    * <li>Hash index is better than tree based indexes.</li>
    * <li>Non composite indexes is better that composite.</li>
    * </ul>
@@ -178,7 +183,7 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
   }
 
   private static int priorityOfUsage(OIndex<?> index) {
-    if (index == null)
+    if (index == null || OIndexFilter.of(index) != null)
       return -1;
 
     final OClass.INDEX_TYPE indexType = OClass.INDEX_TYPE.valueOf(index.getType());
@@ -225,6 +230,7 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
    * <li>Should be unique or not unique. Other types cannot be used to get all documents with required links.</li>
    * <li>Should not be composite hash index. As soon as hash index does not support partial match search.</li>
    * <li>Composite index that ignores null values should not be used.</li>
+   * <li>Partial index should not be used. As soon as it does not contain all the documents.</li>
    * </ul>
    *
    * @param index to check
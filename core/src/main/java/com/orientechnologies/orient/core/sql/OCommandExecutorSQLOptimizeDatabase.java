@@ -29,6 +29,8 @@ import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OCluster;
+import com.orientechnologies.orient.core.storage.OStorage;
 
 import java.util.Iterator;
 import java.util.Map;
@@ -41,14 +43,16 @@ import java.util.Map;
 @SuppressWarnings("unchecked")
 public class OCommandExecutorSQLOptimizeDatabase extends OCommandExecutorSQLAbstract
     implements OCommandDistributedReplicateRequest {
-  public static final String KEYWORD_OPTIMIZE  = "OPTIMIZE";
-  public static final String KEYWORD_DATABASE  = "DATABASE";
-  public static final String KEYWORD_EDGE      = "-LWEDGES";
-  public static final String KEYWORD_NOVERBOSE = "-NOVERBOSE";
+  public static final String KEYWORD_OPTIMIZE         = "OPTIMIZE";
+  public static final String KEYWORD_DATABASE         = "DATABASE";
+  public static final String KEYWORD_EDGE             = "-LWEDGES";
+  public static final String KEYWORD_COMPACT_CLUSTERS = "-COMPACTCLUSTERS";
+  public static final String KEYWORD_NOVERBOSE        = "-NOVERBOSE";
 
-  private boolean optimizeEdges = false;
-  private boolean verbose       = true;
-  private int     batch         = 1000;
+  private boolean optimizeEdges   = false;
+  private boolean compactClusters = false;
+  private boolean verbose         = true;
+  private int     batch           = 1000;
 
   public OCommandExecutorSQLOptimizeDatabase parse(final OCommandRequest iRequest) {
     final OCommandRequestText textRequest = (OCommandRequestText) iRequest;
@@ -77,6 +81,8 @@ public class OCommandExecutorSQLOptimizeDatabase extends OCommandExecutorSQLAbst
         pos = nextWord(parserText, parserTextUpperCase, oldPos, word, true);
         if (word.toString().equals(KEYWORD_EDGE))
           optimizeEdges = true;
+        else if (word.toString().equals(KEYWORD_COMPACT_CLUSTERS))
+          compactClusters = true;
         else if (word.toString().equals(KEYWORD_NOVERBOSE))
           verbose = false;
       }
@@ -96,9 +102,38 @@ public class OCommandExecutorSQLOptimizeDatabase extends OCommandExecutorSQLAbst
     if (optimizeEdges)
       result.append(optimizeEdges());
 
+    if (compactClusters) {
+      if (result.length() > 0)
+        result.append('\n');
+      result.append(compactClusters());
+    }
+
     return result.toString();
   }
 
+  private String compactClusters() {
+    final OStorage storage = getDatabase().getStorage().getUnderlying();
+
+    long releasedBytes = 0;
+    int compactedClusters = 0;
+    for (OCluster cluster : storage.getClusterInstances()) {
+      if (Thread.currentThread().isInterrupted())
+        break;
+
+      if (cluster == null)
+        continue;
+
+      final long clusterReleasedBytes = storage.compactCluster(cluster.getId());
+      releasedBytes += clusterReleasedBytes;
+      compactedClusters++;
+
+      if (verbose)
+        OLogManager.instance().info(this, "Compacted cluster '%s', released %,d bytes", cluster.getName(), clusterReleasedBytes);
+    }
+
+    return "Compacted " + compactedClusters + " clusters, released " + releasedBytes + " bytes";
+  }
+
   private String optimizeEdges() {
     final ODatabaseDocumentInternal db = getDatabase();
 
@@ -208,6 +243,6 @@ public class OCommandExecutorSQLOptimizeDatabase extends OCommandExecutorSQLAbst
   }
 
   public String getSyntax() {
-    return "OPTIMIZE DATABASE [-lwedges]";
+    return "OPTIMIZE DATABASE [-lwedges] [-compactclusters] [-noverbose]";
   }
 }
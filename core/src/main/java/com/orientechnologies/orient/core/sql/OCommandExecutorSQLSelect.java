@@ -2343,6 +2343,10 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     final Set<OIndex<?>> indexes = iSchemaClass.getInvolvedIndexes(fieldNames);
 
     for (OIndex<?> index : indexes) {
+      if (OIndexFilter.of(index) != null)
+        // PARTIAL INDEXES DO NOT CONTAIN ALL THE RECORDS OF THE CLASS
+        continue;
+
       if (orderByOptimizer.canBeUsedByOrderBy(index, orderedFields)) {
         final long indexRebuildVersion = index.getRebuildVersion();
 
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.sql;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexFilter;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.sql.filter.OSQLFilterCondition;
 import com.orientechnologies.orient.core.sql.filter.OSQLFilterItemField;
@@ -43,7 +44,9 @@ public class OFilterAnalyzer {
       result.addAll(OChainedIndexProxy.createProxies(iSchemaClass, searchResultFields.lastField));
     } else {
       for (OIndex<?> involvedIndex : involvedIndexes) {
-        result.add(involvedIndex);
+        // PARTIAL INDEXES DO NOT CONTAIN ALL THE RECORDS OF THE CLASS
+        if (OIndexFilter.of(involvedIndex) == null)
+          result.add(involvedIndex);
       }
     }
 
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.sql.parser.OInteger;
 import com.orientechnologies.orient.core.sql.parser.OTraverseProjectionItem;
@@ -22,7 +23,7 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
   protected List<OResult> results     = new ArrayList<>();
   private   long          cost        = 0;
 
-  Set<ORID> traversed = new ORidSet();
+  Set<ORID> traversed = DistinctExecutionStep.createRidSet();
 
   public AbstractTraverseStep(List<OTraverseProjectionItem> projections, OWhereClause whileClause, OInteger maxDepth,
       OCommandContext ctx, boolean profilingEnabled) {
@@ -90,6 +91,15 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
   }
 
   private void fetchNextBlock(OCommandContext ctx, int nRecords) {
+    try {
+      doFetchNextBlock(ctx, nRecords);
+    } catch (RuntimeException e) {
+      releaseTraversed();
+      throw e;
+    }
+  }
+
+  private void doFetchNextBlock(OCommandContext ctx, int nRecords) {
     if (this.entryPoints == null) {
       this.entryPoints = new ArrayList<OResult>();
     }
@@ -116,12 +126,32 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
 
   protected abstract void fetchNextEntryPoints(OCommandContext ctx, int nRecords);
 
+  /**
+   * Records of the links which are not traversed yet are loaded in batches, see {@link PrefetchRecordsIterator}.
+   */
+  protected Iterator<Object> prefetchNotTraversed(Iterator<?> nextStep, OCommandContext ctx) {
+    return new PrefetchRecordsIterator(nextStep, (ODatabaseDocumentInternal) ctx.getDatabase(), rid -> !traversed.contains(rid));
+  }
+
   protected abstract void fetchNextResults(OCommandContext ctx, int nRecords);
 
   protected boolean isFinished() {
     return entryPoints != null && entryPoints.isEmpty() && results.isEmpty();
   }
 
+  @Override
+  public void close() {
+    releaseTraversed();
+    super.close();
+  }
+
+  private void releaseTraversed() {
+    if (traversed instanceof OOffHeapRidSet) {
+      ((OOffHeapRidSet) traversed).close();
+      traversed = new ORidSet();
+    }
+  }
+
   @Override
   public long getCost() {
     return cost;
@@ -1,29 +1,217 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
 import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created by luigidellaquila on 12/07/16.
+ * <p>
+ * Hash aggregation for GROUP BY and aggregate projections.
+ * <p>
+ * When {@link OGlobalConfiguration#QUERY_PARALLEL_EXECUTION} is enabled and all the aggregate functions can be calculated in
+ * parts (count, sum, avg, min, max), the input is split in batches among the workers started on free threads of {@link
+ * Orient#trySubmitParallel(Runnable)}, each one building its own partial aggregates, that are merged at the end. If no thread is
+ * free, the input is aggregated by the caller thread.
+ * <p>
+ * When {@link OGlobalConfiguration#QUERY_GROUP_BY_SPILL_TO_DISK} is enabled, at most {@link OGlobalConfiguration#QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP}
+ * groups are kept in heap: the records of the other groups are written to partition files (by hash of the GROUP BY key) and
+ * aggregated one partition at a time, after the groups in heap are returned.
  */
 public class AggregateProjectionCalculationStep extends ProjectionCalculationStep {
 
+  private static final int SPILL_PARTITIONS = 16;
+  private static final int MAX_SPILL_LEVEL  = 8;
+
+  private static final List<OResult> END_OF_INPUT = new ArrayList<>(0);
+
   private final OGroupBy groupBy;
 
-  //the key is the GROUP BY key, the value is the (partially) aggregated value
-  private Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
-  private List<OResultInternal>      finalResults     = null;
+  private List<OResultInternal>   finalResults      = null;
+  private Deque<SpilledPartition> pendingPartitions = new ArrayDeque<>();
 
   private int  nextItem = 0;
   private long cost     = 0;
 
+  /**
+   * the records of the groups that did not fit in heap, for a single partition
+   */
+  private static class SpilledPartition {
+    private final int                        level;
+    private final List<OResultSpillFile>     files = new ArrayList<>();
+    private final Map<List<Object>, OResultInternal> seeds = new LinkedHashMap<>();
+
+    SpilledPartition(int level) {
+      this.level = level;
+    }
+
+    void close() {
+      for (OResultSpillFile file : files) {
+        file.close();
+      }
+      files.clear();
+    }
+  }
+
+  /**
+   * max number of groups kept in heap, shared by all the workers of an aggregation
+   */
+  private static class GroupBudget {
+    private final long       max;
+    private final AtomicLong used = new AtomicLong();
+
+    GroupBudget(long max) {
+      this.max = max;
+    }
+
+    boolean tryAcquire() {
+      if (max < 0) {
+        return true;
+      }
+      if (used.incrementAndGet() > max) {
+        used.decrementAndGet();
+        return false;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * the aggregation state of a single thread
+   */
+  private class GroupTable {
+    //the key is the GROUP BY key, the value is the (partially) aggregated value
+    private final Map<List<Object>, OResultInternal> aggregateResults = new LinkedHashMap<>();
+    private final GroupBudget                budget;
+    private final int                        level;
+    private       SpilledPartition[]         partitions;
+
+    GroupTable(GroupBudget budget, int level) {
+      this.budget = budget;
+      this.level = level;
+    }
+
+    void aggregate(OResult next, OCommandContext ctx) {
+      List<Object> key = new ArrayList<>();
+      if (groupBy != null) {
+        for (OExpression item : groupBy.getItems()) {
+          Object val = item.execute(next, ctx);
+          key.add(val);
+        }
+      }
+      OResultInternal preAggr = aggregateResults.get(key);
+      if (preAggr == null) {
+        if (!budget.tryAcquire()) {
+          spill(key, next);
+          return;
+        }
+        preAggr = new OResultInternal();
+        aggregateResults.put(key, preAggr);
+      }
+
+      for (OProjectionItem proj : projection.getItems()) {
+        String alias = proj.getProjectionAlias().getStringValue();
+        if (proj.isAggregate()) {
+          AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
+          if (aggrCtx == null) {
+            aggrCtx = proj.getAggregationContext(ctx);
+            preAggr.setTemporaryProperty(alias, aggrCtx);
+          }
+          aggrCtx.apply(next, ctx);
+        } else {
+          preAggr.setProperty(alias, proj.execute(next, ctx));
+        }
+      }
+    }
+
+    private void spill(List<Object> key, OResult next) {
+      if (level >= MAX_SPILL_LEVEL || !OResultSpillFile.canBeSpilled(next)) {
+        throw new OCommandExecutionException(
+            "Limit of allowed elements for in-heap GROUP BY in a single query exceeded (" + budget.max + ") . You can set "
+                + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey() + " to increase this limit");
+      }
+      if (partitions == null) {
+        partitions = new SpilledPartition[SPILL_PARTITIONS];
+      }
+      int partition = partitionOf(key, level);
+      if (partitions[partition] == null) {
+        partitions[partition] = new SpilledPartition(level + 1);
+        partitions[partition].files.add(new OResultSpillFile("groupBy"));
+      }
+      partitions[partition].files.get(0).write(next);
+    }
+
+    /**
+     * merges the partial aggregates (and the spilled partitions) calculated by another thread
+     */
+    void merge(GroupTable other, OCommandContext ctx) {
+      for (Map.Entry<List<Object>, OResultInternal> entry : other.aggregateResults.entrySet()) {
+        OResultInternal preAggr = aggregateResults.get(entry.getKey());
+        if (preAggr == null) {
+          aggregateResults.put(entry.getKey(), entry.getValue());
+          continue;
+        }
+        OResultInternal partial = entry.getValue();
+        for (String name : partial.getTemporaryProperties()) {
+          Object partialVal = partial.getTemporaryProperty(name);
+          Object val = preAggr.getTemporaryProperty(name);
+          if (val instanceof AggregationContext && partialVal instanceof AggregationContext) {
+            ((AggregationContext) val).merge((AggregationContext) partialVal, ctx);
+          } else if (val == null) {
+            preAggr.setTemporaryProperty(name, partialVal);
+          }
+        }
+      }
+      if (other.partitions != null) {
+        if (partitions == null) {
+          partitions = new SpilledPartition[SPILL_PARTITIONS];
+        }
+        for (int i = 0; i < SPILL_PARTITIONS; i++) {
+          if (other.partitions[i] == null) {
+            continue;
+          }
+          if (partitions[i] == null) {
+            partitions[i] = other.partitions[i];
+          } else {
+            partitions[i].files.addAll(other.partitions[i].files);
+          }
+        }
+      }
+    }
+
+    void discard() {
+      aggregateResults.clear();
+      if (partitions != null) {
+        for (SpilledPartition partition : partitions) {
+          if (partition != null) {
+            partition.close();
+          }
+        }
+        partitions = null;
+      }
+    }
+  }
+
   public AggregateProjectionCalculationStep(OProjection projection, OGroupBy groupBy, OCommandContext ctx,
       boolean profilingEnabled) {
     super(projection, ctx, profilingEnabled);
@@ -41,15 +229,20 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
       @Override
       public boolean hasNext() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (localNext > nRecords) {
           return false;
         }
+        while (nextItem >= finalResults.size()) {
+          if (!aggregateNextPartition(ctx)) {
+            return false;
+          }
+        }
         return true;
       }
 
       @Override
       public OResult next() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (!hasNext()) {
           throw new IllegalStateException();
         }
         OResult result = finalResults.get(nextItem);
@@ -80,16 +273,65 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
       throw new OCommandExecutionException("Cannot execute an aggregation or a GROUP BY without a previous result");
     }
     OExecutionStepInternal prevStep = prev.get();
-    OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
-    while (lastRs.hasNext()) {
-      aggregate(lastRs.next(), ctx);
-      if (!lastRs.hasNext()) {
-        lastRs = prevStep.syncPull(ctx, nRecords);
+    GroupBudget budget = new GroupBudget(OGlobalConfiguration.QUERY_GROUP_BY_SPILL_TO_DISK.getValueAsBoolean() ?
+        OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong() :
+        -1);
+
+    GroupTable table = null;
+    if (canRunInParallel(ctx)) {
+      table = aggregateInParallel(prevStep, ctx, nRecords, budget);
+    }
+    if (table == null) {
+      table = new GroupTable(budget, 0);
+      OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
+      while (lastRs.hasNext()) {
+        OResult next = lastRs.next();
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          table.aggregate(next, ctx);
+        } catch (RuntimeException e) {
+          table.discard();
+          throw e;
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+        if (!lastRs.hasNext()) {
+          lastRs = prevStep.syncPull(ctx, nRecords);
+        }
       }
     }
+    finish(table);
+  }
+
+  /**
+   * calculates the final values of the groups in heap and schedules the spilled partitions (if any) for aggregation
+   */
+  private void finish(GroupTable table) {
+    if (table.partitions != null) {
+      //groups already in heap that also have spilled records are completed together with their partition
+      Iterator<Map.Entry<List<Object>, OResultInternal>> iterator = table.aggregateResults.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<List<Object>, OResultInternal> entry = iterator.next();
+        SpilledPartition partition = table.partitions[partitionOf(entry.getKey(), table.level)];
+        if (partition != null) {
+          partition.seeds.put(entry.getKey(), entry.getValue());
+          iterator.remove();
+        }
+      }
+      for (int i = SPILL_PARTITIONS - 1; i >= 0; i--) {
+        if (table.partitions[i] != null) {
+          pendingPartitions.push(table.partitions[i]);
+        }
+      }
+      table.partitions = null;
+    }
+
     finalResults = new ArrayList<>();
-    finalResults.addAll(aggregateResults.values());
-    aggregateResults.clear();
+    finalResults.addAll(table.aggregateResults.values());
+    table.aggregateResults.clear();
+    nextItem = 0;
     for (OResultInternal item : finalResults) {
       for (String name : item.getTemporaryProperties()) {
         Object prevVal = item.getTemporaryProperty(name);
@@ -100,42 +342,214 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
   }
 
-  private void aggregate(OResult next, OCommandContext ctx) {
+  /**
+   * aggregates the next spilled partition
+   *
+   * @return false if there are no more partitions to aggregate
+   */
+  private boolean aggregateNextPartition(OCommandContext ctx) {
+    SpilledPartition partition = pendingPartitions.poll();
+    if (partition == null) {
+      return false;
+    }
+    GroupTable table = new GroupTable(new GroupBudget(OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong()),
+        partition.level);
+    table.aggregateResults.putAll(partition.seeds);
     long begin = profilingEnabled ? System.nanoTime() : 0;
     try {
-      List<Object> key = new ArrayList<>();
-      if (groupBy != null) {
-        for (OExpression item : groupBy.getItems()) {
-          Object val = item.execute(next, ctx);
-          key.add(val);
+      for (OResultSpillFile file : partition.files) {
+        try (OResultSpillFile.Reader reader = file.read()) {
+          while (reader.hasNext()) {
+            table.aggregate(reader.next(), ctx);
+          }
         }
       }
-      OResultInternal preAggr = aggregateResults.get(key);
-      if (preAggr == null) {
-        preAggr = new OResultInternal();
-        aggregateResults.put(key, preAggr);
+    } catch (RuntimeException e) {
+      table.discard();
+      throw e;
+    } finally {
+      partition.close();
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
       }
+    }
+    finish(table);
+    return true;
+  }
 
-      for (OProjectionItem proj : this.projection.getItems()) {
-        String alias = proj.getProjectionAlias().getStringValue();
-        if (proj.isAggregate()) {
-          AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
-          if (aggrCtx == null) {
-            aggrCtx = proj.getAggregationContext(ctx);
-            preAggr.setTemporaryProperty(alias, aggrCtx);
+  private static int partitionOf(List<Object> key, int level) {
+    int hash = key.hashCode() ^ (level * 0x9E3779B9);
+    hash ^= (hash >>> 16);
+    return (hash & 0x7FFFFFFF) % SPILL_PARTITIONS;
+  }
+
+  private boolean canRunInParallel(OCommandContext ctx) {
+    if (!OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean()
+        || OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger() < 2) {
+      return false;
+    }
+    if (!(ctx.getDatabase() instanceof ODatabaseDocumentInternal) || ((ODatabaseDocumentInternal) ctx.getDatabase()).getTransaction()
+        .isActive()) {
+      return false;
+    }
+    for (OProjectionItem proj : projection.getItems()) {
+      if (proj.isAggregate() && !proj.getAggregationContext(ctx).canMerge()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return <code>null</code> if no worker could be started because all the threads of the pool are busy, in this case the input
+   * was not consumed and has to be aggregated by the caller thread
+   */
+  private GroupTable aggregateInParallel(OExecutionStepInternal prevStep, OCommandContext ctx, int nRecords, GroupBudget budget) {
+    int nWorkers = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger();
+    BlockingQueue<List<OResult>> queue = new ArrayBlockingQueue<>(nWorkers * 2);
+    AtomicBoolean aborted = new AtomicBoolean(false);
+    List<GroupTable> tables = new ArrayList<>();
+    List<Future<?>> workers = new ArrayList<>();
+
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    try {
+      for (int i = 0; i < nWorkers; i++) {
+        //sessions are not thread safe, every worker needs its own copy. The copy has to be created on the caller thread
+        ODatabaseDocumentInternal workerDb = db.copy();
+        OBasicCommandContext workerCtx = new OBasicCommandContext();
+        workerCtx.setParentWithoutOverridingChild(ctx);
+        workerCtx.setInputParameters(ctx.getInputParameters());
+        workerCtx.setDatabase(workerDb);
+        GroupTable table = new GroupTable(budget, 0);
+        Future<?> worker;
+        try {
+          //the pool does not queue tasks, so the workers never wait for threads occupied by the producers of their input
+          worker = Orient.instance().trySubmitParallel(
+              OQueryResultCache.trackReadClusters(() -> runWorker(workerDb, workerCtx, queue, table, aborted)));
+        } catch (RuntimeException e) {
+          workerDb.activateOnCurrentThread();
+          workerDb.close();
+          throw e;
+        }
+        if (worker == null) {
+          workerDb.activateOnCurrentThread();
+          workerDb.close();
+          break;
+        }
+        tables.add(table);
+        workers.add(worker);
+      }
+      db.activateOnCurrentThread();
+      if (workers.isEmpty()) {
+        return null;
+      }
+
+      OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
+      while (lastRs.hasNext()) {
+        List<OResult> batch = new ArrayList<>(nRecords);
+        while (lastRs.hasNext()) {
+          batch.add(lastRs.next());
+        }
+        enqueue(queue, batch, workers);
+        lastRs = prevStep.syncPull(ctx, nRecords);
+      }
+      for (int i = 0; i < workers.size(); i++) {
+        enqueue(queue, END_OF_INPUT, workers);
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } catch (InterruptedException e) {
+      abort(aborted, workers, tables);
+      Thread.currentThread().interrupt();
+      throw new OCommandInterruptedException("The command has been interrupted");
+    } catch (ExecutionException e) {
+      abort(aborted, workers, tables);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw OException.wrapException(new OCommandExecutionException("Error on parallel aggregation"), e.getCause());
+    } catch (RuntimeException e) {
+      abort(aborted, workers, tables);
+      throw e;
+    } finally {
+      db.activateOnCurrentThread();
+    }
+
+    GroupTable result = tables.get(0);
+    for (int i = 1; i < tables.size(); i++) {
+      result.merge(tables.get(i), ctx);
+    }
+    return result;
+  }
+
+  /**
+   * stops the workers, waits for them to complete and deletes their spill files
+   */
+  private void abort(AtomicBoolean aborted, List<Future<?>> workers, List<GroupTable> tables) {
+    aborted.set(true);
+    for (Future<?> worker : workers) {
+      try {
+        worker.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException | RuntimeException e) {
+        //already reported by the caller
+      }
+    }
+    tables.forEach(GroupTable::discard);
+  }
+
+  private void enqueue(BlockingQueue<List<OResult>> queue, List<OResult> batch, List<Future<?>> workers)
+      throws InterruptedException, ExecutionException {
+    while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+      for (Future<?> worker : workers) {
+        if (worker.isDone()) {
+          //a worker failed before the end of the input: report its error
+          worker.get();
+        }
+      }
+    }
+  }
+
+  private void runWorker(ODatabaseDocumentInternal workerDb, OCommandContext workerCtx, BlockingQueue<List<OResult>> queue,
+      GroupTable table, AtomicBoolean aborted) {
+    try {
+      workerDb.activateOnCurrentThread();
+      while (!aborted.get()) {
+        List<OResult> batch = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (batch == END_OF_INPUT) {
+          return;
+        }
+        if (batch != null) {
+          for (OResult item : batch) {
+            table.aggregate(item, workerCtx);
           }
-          aggrCtx.apply(next, ctx);
-        } else {
-          preAggr.setProperty(alias, proj.execute(next, ctx));
         }
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OCommandInterruptedException("The command has been interrupted");
     } finally {
-      if (profilingEnabled) {
-        cost += (System.nanoTime() - begin);
+      try {
+        workerDb.activateOnCurrentThread();
+        workerDb.close();
+      } finally {
+        ODatabaseRecordThreadLocal.instance().remove();
       }
     }
   }
 
+  @Override
+  public void close() {
+    for (SpilledPartition partition : pendingPartitions) {
+      partition.close();
+    }
+    pendingPartitions.clear();
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
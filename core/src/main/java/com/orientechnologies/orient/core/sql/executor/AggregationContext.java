@@ -11,4 +11,22 @@ public interface AggregationContext {
   public Object getFinalValue();
 
   void apply(OResult next, OCommandContext ctx);
+
+  /**
+   * @return true if this aggregation can be calculated in parts (eg. by different threads, on disjoint subsets of the records) and
+   * then combined with {@link #merge(AggregationContext, OCommandContext)}
+   */
+  default boolean canMerge() {
+    return false;
+  }
+
+  /**
+   * merges in this context a partial aggregation of the same kind, calculated on a disjoint subset of the records
+   *
+   * @param partial the partial aggregation
+   * @param ctx     the command context
+   */
+  default void merge(AggregationContext partial, OCommandContext ctx) {
+    throw new UnsupportedOperationException("Aggregation " + getClass().getSimpleName() + " cannot be merged");
+  }
 }
@@ -99,8 +99,9 @@ public class BreadthFirstTraverseStep extends AbstractTraverseStep {
   }
 
   private void addNextEntryPoints(Iterator nextStep, int depth, List<OIdentifiable> path, OCommandContext ctx) {
-    while (nextStep.hasNext()) {
-      addNextEntryPoints(nextStep.next(), depth, path, ctx);
+    Iterator<Object> prefetched = prefetchNotTraversed(nextStep, ctx);
+    while (prefetched.hasNext()) {
+      addNextEntryPoints(prefetched.next(), depth, path, ctx);
     }
   }
 
@@ -7,6 +7,8 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
 
+import java.util.Set;
+
 /**
  * <p>
  * This step is used just as a gate check for classes (eg. for CREATE VERTEX to make sure that the passed class is a vertex class).
@@ -111,4 +113,10 @@ public class CheckClassTypeStep extends AbstractExecutionStep {
   public boolean canBeCached() {
     return true;
   }
+
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    classes.add(targetClass);
+    classes.add(parentClass);
+  }
 }
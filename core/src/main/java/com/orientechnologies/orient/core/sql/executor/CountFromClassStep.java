@@ -8,6 +8,7 @@ import com.orientechnologies.orient.core.sql.parser.OIdentifier;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Returns the number of records contained in a class (including subclasses) Executes a count(*) on a class and returns a single
@@ -112,4 +113,8 @@ public class CountFromClassStep extends AbstractExecutionStep {
     return cost;
   }
 
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    classes.add(target.getStringValue());
+  }
 }
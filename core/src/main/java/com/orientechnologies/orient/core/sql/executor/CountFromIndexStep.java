@@ -8,6 +8,7 @@ import com.orientechnologies.orient.core.sql.parser.OIndexIdentifier;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Returns the number of records contained in an index
@@ -95,4 +96,9 @@ public class CountFromIndexStep extends AbstractExecutionStep {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
     return spaces + "+ CALCULATE INDEX SIZE: " + target;
   }
+
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    indexes.add(target.getIndexName());
+  }
 }
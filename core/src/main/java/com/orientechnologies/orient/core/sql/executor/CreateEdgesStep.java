@@ -287,6 +287,14 @@ public class CreateEdgesStep extends AbstractExecutionStep {
         uniqueIndexName, fromAlias == null ? null : fromAlias.copy(), toAlias == null ? null : toAlias.copy(), wait, retry,
         batch == null ? null : batch.copy(), ctx, profilingEnabled);
   }
-}
-
 
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    if (targetClass != null) {
+      classes.add(targetClass.getStringValue());
+    }
+    if (uniqueIndexName != null) {
+      indexes.add(uniqueIndexName);
+    }
+  }
+}
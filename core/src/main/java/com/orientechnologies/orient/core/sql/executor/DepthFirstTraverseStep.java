@@ -110,8 +110,9 @@ public class DepthFirstTraverseStep extends AbstractTraverseStep {
 
   private void addNextEntryPoints(Iterator nextStep, int depth, List<OIdentifiable> path, List<OIdentifiable> stack,
       OCommandContext ctx) {
-    while (nextStep.hasNext()) {
-      addNextEntryPoints(nextStep.next(), depth, path, stack, ctx);
+    Iterator<Object> prefetched = prefetchNotTraversed(nextStep, ctx);
+    while (prefetched.hasNext()) {
+      addNextEntryPoints(prefetched.next(), depth, path, stack, ctx);
     }
   }
 
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.id.ORID;
 
 import java.util.HashSet;
@@ -15,7 +16,7 @@ import java.util.Set;
 public class DistinctExecutionStep extends AbstractExecutionStep {
 
   Set<OResult> pastItems = new HashSet<>();
-  ORidSet      pastRids  = new ORidSet();
+  Set<ORID>    pastRids  = createRidSet();
 
   OResultSet lastResult = null;
   OResult nextValue;
@@ -81,6 +82,15 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
   }
 
   private void fetchNext(int nRecords) {
+    try {
+      doFetchNext(nRecords);
+    } catch (RuntimeException e) {
+      releaseRidSet();
+      throw e;
+    }
+  }
+
+  private void doFetchNext(int nRecords) {
     while (true) {
       if (nextValue != null) {
         return;
@@ -139,9 +149,21 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void close() {
+    releaseRidSet();
     prev.ifPresent(x -> x.close());
   }
 
+  static Set<ORID> createRidSet() {
+    return OGlobalConfiguration.QUERY_OFF_HEAP_RID_SET.getValueAsBoolean() ? new OOffHeapRidSet() : new ORidSet();
+  }
+
+  private void releaseRidSet() {
+    if (pastRids instanceof OOffHeapRidSet) {
+      ((OOffHeapRidSet) pastRids).close();
+      pastRids = new ORidSet();
+    }
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = OExecutionStepInternal.getIndent(depth, indent) + "+ DISTINCT";
@@ -227,4 +227,11 @@ public class FetchEdgesFromToVerticesStep extends AbstractExecutionStep {
   public OExecutionStep copy(OCommandContext ctx) {
     return new FetchEdgesFromToVerticesStep(fromAlias, toAlias, targetClass, targetCluster, ctx, profilingEnabled);
   }
+
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    if (targetClass != null) {
+      classes.add(targetClass.getStringValue());
+    }
+  }
 }
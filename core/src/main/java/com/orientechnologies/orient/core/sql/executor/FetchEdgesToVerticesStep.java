@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.record.ODirection;
@@ -13,6 +14,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Created by luigidellaquila on 21/02/17.
@@ -95,7 +97,12 @@ public class FetchEdgesToVerticesStep extends AbstractExecutionStep {
       toValues = Collections.singleton(toValues).iterator();
     }
 
-    this.toIter = (Iterator) toValues;
+    if (toValues instanceof OResultSet) {
+      this.toIter = (Iterator) toValues;
+    } else {
+      // links to vertices are loaded in batches, so vertices which share the same page are read together
+      this.toIter = new PrefetchRecordsIterator((Iterator<?>) toValues, (ODatabaseDocumentInternal) ctx.getDatabase(), rid -> true);
+    }
 
     fetchNextEdge();
   }
@@ -162,4 +169,11 @@ public class FetchEdgesToVerticesStep extends AbstractExecutionStep {
     }
     return result;
   }
+
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    if (targetClass != null) {
+      classes.add(targetClass.getStringValue());
+    }
+  }
 }
@@ -262,5 +262,9 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
     result.subSteps = this.subSteps.stream().map(x -> ((OExecutionStepInternal) x).copy(ctx)).collect(Collectors.toList());
     return result;
   }
-}
 
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    classes.add(className);
+  }
+}
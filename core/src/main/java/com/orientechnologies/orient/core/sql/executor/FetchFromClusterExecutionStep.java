@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -10,11 +11,14 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.sql.parser.*;
+import com.orientechnologies.orient.core.storage.cache.OSequentialScanHint;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
@@ -31,6 +35,11 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
   private ORecordIteratorCluster iterator;
   private long cost = 0;
 
+  private OWhereClause        whereClause;
+  private OBinaryRecordFilter binaryFilter;
+  private ORecord             nextRecord;
+  private boolean             nextRecordFetched;
+
   public FetchFromClusterExecutionStep(int clusterId, OCommandContext ctx, boolean profilingEnabled) {
     this(clusterId, null, ctx, profilingEnabled);
   }
@@ -40,6 +49,8 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     super(ctx, profilingEnabled);
     this.clusterId = clusterId;
     this.queryPlanning = queryPlanning;
+    // planner may drop WHERE clause from planning info once it is applied by the next steps
+    this.whereClause = queryPlanning == null ? null : queryPlanning.whereClause;
   }
 
   @Override
@@ -54,6 +65,9 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
         if (ORDER_DESC.equals(order)) {
           iterator.last();
         }
+        if (whereClause != null && OGlobalConfiguration.QUERY_BINARY_FILTER.getValueAsBoolean()) {
+          binaryFilter = OBinaryRecordFilter.create(whereClause, clusterId, ctx);
+        }
       }
       OResultSet rs = new OResultSet() {
 
@@ -62,16 +76,14 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
         @Override
         public boolean hasNext() {
           long begin = profilingEnabled ? System.nanoTime() : 0;
+          OSequentialScanHint.begin();
           try {
             if (nFetched >= nRecords) {
               return false;
             }
-            if (ORDER_DESC.equals(order)) {
-              return iterator.hasPrevious();
-            } else {
-              return iterator.hasNext();
-            }
+            return fetchNextRecord();
           } finally {
+            OSequentialScanHint.end();
             if (profilingEnabled) {
               cost += (System.nanoTime() - begin);
             }
@@ -84,28 +96,25 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
             throw new OCommandInterruptedException("The command has been interrupted");
           }
           long begin = profilingEnabled ? System.nanoTime() : 0;
+          OSequentialScanHint.begin();
           try {
             if (nFetched >= nRecords) {
               throw new IllegalStateException();
             }
-            if (ORDER_DESC.equals(order) && !iterator.hasPrevious()) {
-              throw new IllegalStateException();
-            } else if (!ORDER_DESC.equals(order) && !iterator.hasNext()) {
+            if (!fetchNextRecord()) {
               throw new IllegalStateException();
             }
 
-            ORecord record = null;
-            if (ORDER_DESC.equals(order)) {
-              record = iterator.previous();
-            } else {
-              record = iterator.next();
-            }
+            ORecord record = nextRecord;
+            nextRecord = null;
+            nextRecordFetched = false;
             nFetched++;
             OResultInternal result = new OResultInternal();
             result.element = record;
             ctx.setVariable("$current", result);
             return result;
           } finally {
+            OSequentialScanHint.end();
             if (profilingEnabled) {
               cost += (System.nanoTime() - begin);
             }
@@ -137,6 +146,33 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
 
   }
 
+  /**
+   * Moves iterator to the next record which may match the WHERE clause, records which certainly do not match it are skipped by
+   * {@link OBinaryRecordFilter} without deserialization. Skipped records are still loaded by the iterator.
+   *
+   * @return <code>false</code> if there are no more records in the cluster
+   */
+  private boolean fetchNextRecord() {
+    if (nextRecordFetched) {
+      return true;
+    }
+
+    int skipped = 0;
+    while (ORDER_DESC.equals(order) ? iterator.hasPrevious() : iterator.hasNext()) {
+      ORecord record = ORDER_DESC.equals(order) ? iterator.previous() : iterator.next();
+      if (binaryFilter == null || binaryFilter.mayMatch(record)) {
+        nextRecord = record;
+        nextRecordFetched = true;
+        return true;
+      }
+
+      if (++skipped % 100 == 0 && OExecutionThreadLocal.isInterruptCurrentOperation()) {
+        throw new OCommandInterruptedException("The command has been interrupted");
+      }
+    }
+    return false;
+  }
+
   private long calculateMinClusterPosition() {
     if (queryPlanning == null || queryPlanning.ridRangeConditions == null || queryPlanning.ridRangeConditions.isEmpty()) {
       return -1;
@@ -257,6 +293,16 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
   public OExecutionStep copy(OCommandContext ctx) {
     FetchFromClusterExecutionStep result = new FetchFromClusterExecutionStep(this.clusterId,
         this.queryPlanning == null ? null : this.queryPlanning.copy(), ctx, profilingEnabled);
+    result.whereClause = this.whereClause == null ? null : this.whereClause.copy();
     return result;
   }
+
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OClass clazz = db == null ? null : db.getMetadata().getImmutableSchemaSnapshot().getClassByClusterId(clusterId);
+    if (clazz != null) {
+      classes.add(clazz.getName());
+    }
+  }
 }
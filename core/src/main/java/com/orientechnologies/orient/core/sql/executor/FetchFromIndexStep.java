@@ -5,6 +5,7 @@ import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
@@ -25,7 +26,7 @@ import java.util.stream.Collectors;
  * Created by luigidellaquila on 23/07/16.
  */
 public class FetchFromIndexStep extends AbstractExecutionStep {
-  protected OIndex             index;
+  protected OIndex<?>          index;
   protected OBooleanExpression condition;
   private   OBinaryCondition   additionalRangeCondition;
 
@@ -266,32 +267,32 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     }
     Object rightValue = inCondition.evaluateRight((OResult) null, ctx);
     OEqualsCompareOperator equals = new OEqualsCompareOperator(-1);
-    if (OMultiValue.isMultiValue(rightValue)) {
+    if (OMultiValue.isMultiValue(rightValue) && isBatchLookup(OMultiValue.getSize(rightValue))) {
+      List<Object> keys = new ArrayList<>();
+      for (Object item : OMultiValue.getMultiValueIterable(rightValue)) {
+        keys.addAll(toIndexKey(definition, unboxInItem(item)));
+      }
+      cursor = index.iterateEntries(keys, isOrderAsc());
+    } else if (OMultiValue.isMultiValue(rightValue)) {
       customIterator = new OMultiCollectionIterator<>();
       for (Object item : OMultiValue.getMultiValueIterable(rightValue)) {
-        if (item instanceof OResult) {
-          if (((OResult) item).isElement()) {
-            item = ((OResult) item).getElement().get();
-          } else if (((OResult) item).getPropertyNames().size() == 1) {
-            item = ((OResult) item).getProperty(((OResult) item).getPropertyNames().iterator().next());
-          }
-        }
+        item = unboxInItem(item);
         OIndexCursor localCursor = createCursor(equals, definition, item, ctx);
 
         final Object itemRef = item;
-        customIterator.add(new Iterator<Map.Entry>() {
+        customIterator.add(new Iterator<Map.Entry<Object, OIdentifiable>>() {
           @Override
           public boolean hasNext() {
             return localCursor.hasNext();
           }
 
           @Override
-          public Map.Entry next() {
+          public Map.Entry<Object, OIdentifiable> next() {
             if (!localCursor.hasNext()) {
               throw new IllegalStateException();
             }
             OIdentifiable value = localCursor.next();
-            return new Map.Entry() {
+            return new Map.Entry<Object, OIdentifiable>() {
 
               @Override
               public Object getKey() {
@@ -299,13 +300,13 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
               }
 
               @Override
-              public Object getValue() {
+              public OIdentifiable getValue() {
 
                 return value;
               }
 
               @Override
-              public Object setValue(Object value) {
+              public OIdentifiable setValue(OIdentifiable value) {
                 return null;
               }
             };
@@ -319,6 +320,17 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     fetchNextEntry();
   }
 
+  private Object unboxInItem(Object item) {
+    if (item instanceof OResult) {
+      if (((OResult) item).isElement()) {
+        return ((OResult) item).getElement().get();
+      } else if (((OResult) item).getPropertyNames().size() == 1) {
+        return ((OResult) item).getProperty(((OResult) item).getPropertyNames().iterator().next());
+      }
+    }
+    return item;
+  }
+
   /**
    * it's not key = [...] but a real condition on field names, already ordered (field names will be ignored)
    */
@@ -362,18 +374,22 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
 
     OIndexDefinition indexDef = index.getDefinition();
 
+    boolean batchLookup = condition instanceof OAndBlock && allKeyFieldsEqual((OAndBlock) condition) && isBatchLookup(
+        secondValueCombinations.size());
+    List<Object> batchKeys = new ArrayList<>();
+
     for (int i = 0; i < secondValueCombinations.size(); i++) {
 
       Object secondValue = secondValueCombinations.get(i).execute((OResult) null, ctx);
-      if (secondValue instanceof List && ((List) secondValue).size() == 1 && indexDef.getFields().size() == 1
+      if (secondValue instanceof List && ((List<?>) secondValue).size() == 1 && indexDef.getFields().size() == 1
           && !(indexDef instanceof OIndexDefinitionMultiValue)) {
-        secondValue = ((List) secondValue).get(0);
+        secondValue = ((List<?>) secondValue).get(0);
       }
       secondValue = unboxOResult(secondValue);
       Object thirdValue = thirdValueCombinations.get(i).execute((OResult) null, ctx);
-      if (thirdValue instanceof List && ((List) thirdValue).size() == 1 && indexDef.getFields().size() == 1
+      if (thirdValue instanceof List && ((List<?>) thirdValue).size() == 1 && indexDef.getFields().size() == 1
           && !(indexDef instanceof OIndexDefinitionMultiValue)) {
-        thirdValue = ((List) thirdValue).get(0);
+        thirdValue = ((List<?>) thirdValue).get(0);
       }
       thirdValue = unboxOResult(thirdValue);
 
@@ -384,6 +400,10 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
         //some problems in key conversion, so the params do not match the key types
         continue;
       }
+      if (batchLookup && secondValue != null) {
+        batchKeys.addAll(toIndexKey(indexDef, secondValue));
+        continue;
+      }
       if (index.supportsOrderedIterations()) {
 
         Object from = toBetweenIndexKey(indexDef, secondValue);
@@ -405,17 +425,20 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
       nextCursors.add(cursor);
 
     }
+    if (!batchKeys.isEmpty()) {
+      nextCursors.add(index.iterateEntries(batchKeys, isOrderAsc()));
+    }
     if (nextCursors.size() > 0) {
       cursor = nextCursors.remove(0);
       fetchNextEntry();
     }
   }
 
-  private boolean isFullTextIndex(OIndex index) {
+  private boolean isFullTextIndex(OIndex<?> index) {
     return index.getType().equalsIgnoreCase("FULLTEXT") && !index.getAlgorithm().equalsIgnoreCase("LUCENE");
   }
 
-  private boolean isFullTextHashIndex(OIndex index) {
+  private boolean isFullTextHashIndex(OIndex<?> index) {
     return index.getType().equalsIgnoreCase(OClass.INDEX_TYPE.FULLTEXT_HASH_INDEX.name()) && !index.getAlgorithm()
         .equalsIgnoreCase("LUCENE");
   }
@@ -593,6 +616,25 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     return OType.convert(val, types[0].getDefaultJavaType());
   }
 
+  /**
+   * Many keys of IN conditions are looked up by the single cursor, which sorts them and fetches values of neighbouring keys
+   * together, instead of the separate cursor for each key.
+   *
+   * @see OGlobalConfiguration#QUERY_INDEX_BATCH_LOOKUP_THRESHOLD
+   */
+  private boolean isBatchLookup(int keys) {
+    int threshold = OGlobalConfiguration.QUERY_INDEX_BATCH_LOOKUP_THRESHOLD.getValueAsInteger();
+    return threshold > 0 && keys >= threshold && !isFullTextIndex(index) && !isFullTextHashIndex(index);
+  }
+
+  /**
+   * @return true if condition is an equality on every field of the index, so it is satisfied by exact keys rather than by a range
+   */
+  private boolean allKeyFieldsEqual(OAndBlock condition) {
+    return additionalRangeCondition == null && allEqualities(condition)
+        && condition.getSubBlocks().size() == index.getDefinition().getFields().size();
+  }
+
   private boolean allEqualities(OAndBlock condition) {
     if (condition == null) {
       return false;
@@ -650,9 +692,9 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     }
   }
 
-  private Collection toIndexKey(OIndexDefinition definition, Object rightValue) {
+  private Collection<?> toIndexKey(OIndexDefinition definition, Object rightValue) {
     if (definition.getFields().size() == 1 && rightValue instanceof Collection) {
-      rightValue = ((Collection) rightValue).iterator().next();
+      rightValue = ((Collection<?>) rightValue).iterator().next();
     }
     if (rightValue instanceof List) {
       rightValue = definition.createValue((List<?>) rightValue);
@@ -662,7 +704,7 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     if (!(rightValue instanceof Collection)) {
       rightValue = Collections.singleton(rightValue);
     }
-    return (Collection) rightValue;
+    return (Collection<?>) rightValue;
   }
 
   private Object toBetweenIndexKey(OIndexDefinition definition, Object rightValue) {
@@ -963,4 +1005,11 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
 
   }
 
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    indexes.add(indexName);
+    if (index != null && index.getDefinition() != null && index.getDefinition().getClassName() != null) {
+      classes.add(index.getDefinition().getClassName());
+    }
+  }
 }
@@ -13,6 +13,7 @@ import com.orientechnologies.orient.core.sql.parser.OFromClause;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Created by luigidellaquila on 06/08/16.
@@ -149,4 +150,11 @@ public class FetchFromIndexedFunctionStep extends AbstractExecutionStep {
       throw OException.wrapException(new OCommandExecutionException(""), e);
     }
   }
+
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    if (queryTarget.getItem() != null && queryTarget.getItem().getIdentifier() != null) {
+      classes.add(queryTarget.getItem().getIdentifier().getStringValue());
+    }
+  }
 }
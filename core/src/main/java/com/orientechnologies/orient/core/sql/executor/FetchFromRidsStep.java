@@ -3,9 +3,10 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
-import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -14,9 +15,15 @@ import java.util.stream.Collectors;
  * Created by luigidellaquila on 22/07/16.
  */
 public class FetchFromRidsStep extends AbstractExecutionStep {
+  /**
+   * Amount of records which are loaded from the storage at once, so records which share the same page are read together.
+   */
+  private static final int BATCH_SIZE = 100;
+
   private Collection<ORecordId> rids;
 
   private Iterator<ORecordId> iterator;
+  private Iterator<ORecord>   batch;
 
   private OResult nextResult = null;
 
@@ -28,6 +35,7 @@ public class FetchFromRidsStep extends AbstractExecutionStep {
 
   public void reset() {
     iterator = rids.iterator();
+    batch = Collections.emptyIterator();
     nextResult = null;
   }
 
@@ -41,12 +49,13 @@ public class FetchFromRidsStep extends AbstractExecutionStep {
         if (nextResult != null) {
           return;
         }
-        while (iterator.hasNext()) {
-          ORecordId nextRid = iterator.next();
-          if (nextRid == null) {
+        while (batch.hasNext() || iterator.hasNext()) {
+          if (!batch.hasNext()) {
+            loadBatch(ctx);
             continue;
           }
-          OIdentifiable nextDoc = (OIdentifiable) ctx.getDatabase().load(nextRid);
+
+          ORecord nextDoc = batch.next();
           if (nextDoc == null) {
             continue;
           }
@@ -98,6 +107,17 @@ public class FetchFromRidsStep extends AbstractExecutionStep {
     };
   }
 
+  private void loadBatch(OCommandContext ctx) {
+    List<ORecordId> batchRids = new ArrayList<>(BATCH_SIZE);
+    while (batchRids.size() < BATCH_SIZE && iterator.hasNext()) {
+      ORecordId nextRid = iterator.next();
+      if (nextRid != null) {
+        batchRids.add(nextRid);
+      }
+    }
+    batch = ((ODatabaseDocumentInternal) ctx.getDatabase()).loadRecords(batchRids).iterator();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     return OExecutionStepInternal.getIndent(depth, indent) + "+ FETCH FROM RIDs\n" + OExecutionStepInternal.getIndent(depth, indent)
@@ -0,0 +1,135 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OCacheFileStatistic;
+import com.orientechnologies.orient.core.storage.cache.OLatencyHistogram;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.util.*;
+
+/**
+ * Returns an OResult for each file of the storage, containing statistics of read and write caches for this file
+ */
+public class FetchFromStorageCacheMetadataStep extends AbstractExecutionStep {
+
+  private Iterator<OCacheFileStatistic> statistics;
+  private long                          cost = 0;
+
+  public FetchFromStorageCacheMetadataStep(OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    init(ctx);
+
+    return new OResultSet() {
+      int nFetched = 0;
+
+      @Override
+      public boolean hasNext() {
+        return nFetched < nRecords && statistics.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          if (!hasNext()) {
+            throw new IllegalStateException();
+          }
+
+          nFetched++;
+          return toResult(statistics.next());
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private void init(OCommandContext ctx) {
+    if (statistics != null) {
+      return;
+    }
+
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      List<OCacheFileStatistic> result = Collections.emptyList();
+      if (ctx.getDatabase() instanceof ODatabaseInternal) {
+        OStorage storage = ((ODatabaseInternal) ctx.getDatabase()).getStorage().getUnderlying();
+        if (storage instanceof OAbstractPaginatedStorage) {
+          result = ((OAbstractPaginatedStorage) storage).getCacheFileStatistics();
+        }
+      }
+      statistics = result.iterator();
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private static OResult toResult(OCacheFileStatistic statistic) {
+    OResultInternal result = new OResultInternal();
+    result.setProperty("fileName", statistic.getFileName());
+    result.setProperty("fileId", statistic.getFileId());
+    result.setProperty("readCacheRequests", statistic.getReadCacheRequests());
+    result.setProperty("readCacheHits", statistic.getReadCacheHits());
+    result.setProperty("readCacheMisses", statistic.getReadCacheMisses());
+    result.setProperty("readCacheHitRate", statistic.getReadCacheHitRate());
+    result.setProperty("pagesLoaded", statistic.getPagesLoaded());
+    result.setProperty("pagesEvicted", statistic.getPagesEvicted());
+    result.setProperty("dirtyPages", statistic.getDirtyPages());
+    result.setProperty("writeCacheHits", statistic.getWriteCacheHits());
+    result.setProperty("pagesReadFromDisk", statistic.getPagesReadFromDisk());
+    result.setProperty("pagesFlushed", statistic.getPagesFlushed());
+    result.setProperty("flushLatencyAverage", statistic.getFlushLatencyAverage());
+    result.setProperty("flushLatency99", statistic.getFlushLatency99());
+
+    Map<String, Long> histogram = new LinkedHashMap<>();
+    long[] counts = statistic.getFlushLatencyHistogram();
+    for (int i = 0; i < counts.length; i++) {
+      long upperBound = OLatencyHistogram.upperBound(i);
+      histogram.put(upperBound < 0 ? "inf" : String.valueOf(upperBound), counts[i]);
+    }
+    result.setProperty("flushLatencyHistogram", histogram);
+    return result;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ FETCH STORAGE CACHE METADATA";
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+}
@@ -222,4 +222,11 @@ public class FetchTemporaryFromTxStep extends AbstractExecutionStep {
     FetchTemporaryFromTxStep result = new FetchTemporaryFromTxStep(ctx, this.className, profilingEnabled);
     return result;
   }
+
+  @Override
+  public void collectDependencies(Set<String> classes, Set<String> indexes) {
+    if (className != null) {
+      classes.add(className);
+    }
+  }
 }
@@ -0,0 +1,120 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds results from the keys of index entries instead of loading records the entries point to. It is used when all the fields
+ * the query needs are part of the index key, so no record has to be read from the cluster. Items of the key are converted back to
+ * the types of the properties, as the index may store them converted to the types of its definition.
+ */
+public class GetFieldsFromIndexEntryStep extends AbstractExecutionStep {
+
+  private final List<String> fields;
+  private final OType[]      types;
+
+  private long cost = 0;
+
+  /**
+   * @param fields           names of the fields which form the index key, in the same order as the key items
+   * @param types            types of the properties of the fields, null items for fields that are not declared in the schema
+   * @param ctx              the execution context
+   * @param profilingEnabled enable profiling
+   */
+  public GetFieldsFromIndexEntryStep(List<String> fields, OType[] types, OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.fields = fields;
+    this.types = types;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!prev.isPresent()) {
+      throw new IllegalStateException("filter step requires a previous step");
+    }
+    OResultSet upstream = prev.get().syncPull(ctx, nRecords);
+    return new OResultSet() {
+
+      @Override
+      public boolean hasNext() {
+        return upstream.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        OResult entry = upstream.next();
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          OResultInternal result = new OResultInternal();
+          Object key = entry.getProperty("key");
+          if (fields.size() == 1) {
+            result.setProperty(fields.get(0), convert(key, types[0]));
+          } else {
+            List<?> keyItems = (List<?>) key;
+            for (int i = 0; i < fields.size(); i++) {
+              result.setProperty(fields.get(i), convert(keyItems.get(i), types[i]));
+            }
+          }
+          ctx.setVariable("$current", result);
+          return result;
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+        upstream.close();
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private static Object convert(Object value, OType type) {
+    if (value == null || type == null || type.getDefaultJavaType() == null) {
+      return value;
+    }
+    return OType.convert(value, type.getDefaultJavaType());
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String result = OExecutionStepInternal.getIndent(depth, indent) + "+ EXTRACT FIELDS FROM INDEX ENTRY " + fields;
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new GetFieldsFromIndexEntryStep(new ArrayList<>(fields), types.clone(), ctx, this.profilingEnabled);
+  }
+}
@@ -0,0 +1,374 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryComparator;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryField;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBetweenCondition;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OIsNotNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conditions of the WHERE clause which are evaluated directly against serialized records of the cluster, so records which do not
+ * match them are skipped without deserialization of their properties. Only top level conditions of the WHERE clause which compare
+ * a property of the record with a constant or an input parameter (=, &lt;, &lt;=, &gt;, &gt;=, BETWEEN, IS NULL, IS NOT NULL) are
+ * evaluated, values are compared by {@link OBinaryComparator}.
+ * <p>
+ * Filter rejects only records which certainly do not match the WHERE clause, if a condition can not be evaluated in binary form
+ * (the record is changed, property is absent or values have types which can not be compared in binary form with the same result
+ * as by SQL operators) the record is accepted, so the whole WHERE clause still has to be checked by {@link FilterStep}.
+ * <p>
+ * Filter is applied to records returned by the cluster iterator, so rejected records are still read from the storage and
+ * instantiated with their serialized content, only deserialization of their properties is saved. Records are not filtered before
+ * they are loaded to keep security checks and the local cache of the database in place.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @see OGlobalConfiguration#QUERY_BINARY_FILTER
+ */
+public class OBinaryRecordFilter {
+  private final OClass            clazz;
+  private final OImmutableSchema  schema;
+  private final OBinaryComparator comparator;
+  private final List<Condition>   conditions;
+
+  private OBinaryRecordFilter(final OClass clazz, final OImmutableSchema schema, final List<Condition> conditions) {
+    this.clazz = clazz;
+    this.schema = schema;
+    this.comparator = ORecordSerializerBinary.INSTANCE.getCurrentSerializer().getComparator();
+    this.conditions = conditions;
+  }
+
+  /**
+   * @return filter for the records of the cluster or <code>null</code> if none of the conditions of WHERE clause can be evaluated
+   * in binary form
+   */
+  public static OBinaryRecordFilter create(final OWhereClause whereClause, final int clusterId, final OCommandContext ctx) {
+    if (whereClause == null) {
+      return null;
+    }
+
+    final List<OAndBlock> flattened = whereClause.flatten();
+    if (flattened == null || flattened.size() != 1) {
+      return null;
+    }
+
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (!(db.getSerializer() instanceof ORecordSerializerBinary) || db.getTransaction().isActive()) {
+      return null;
+    }
+
+    final OImmutableSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    final OClass clazz = schema.getClassByClusterId(clusterId);
+    if (clazz == null) {
+      return null;
+    }
+
+    final List<Condition> conditions = new ArrayList<>();
+    for (final OBooleanExpression expression : flattened.get(0).getSubBlocks()) {
+      final Condition condition = createCondition(expression, schema, ctx);
+      if (condition != null) {
+        conditions.add(condition);
+      }
+    }
+
+    if (conditions.isEmpty()) {
+      return null;
+    }
+
+    return new OBinaryRecordFilter(clazz, schema, conditions);
+  }
+
+  /**
+   * @return <code>false</code> if the record certainly does not match the WHERE clause
+   */
+  public boolean mayMatch(final ORecord record) {
+    if (!(record instanceof ODocument) || record.isDirty() || !record.getIdentity().isPersistent()
+        || !(ORecordInternal.getRecordSerializer(record) instanceof ORecordSerializerBinary)) {
+      return true;
+    }
+
+    final byte[] source = ORecordInternal.getSource(record);
+    if (source == null || source.length == 0 || source[0] < 0
+        || source[0] >= ORecordSerializerBinary.INSTANCE.getNumberOfSupportedVersions()) {
+      return true;
+    }
+
+    final ODocumentSerializer serializer = ORecordSerializerBinary.INSTANCE.getSerializer(source[0]);
+    for (final Condition condition : conditions) {
+      if (condition.isFalse(this, source, serializer)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static Condition createCondition(final OBooleanExpression expression, final OImmutableSchema schema,
+      final OCommandContext ctx) {
+    if (expression instanceof OBinaryCondition) {
+      final OBinaryCondition condition = (OBinaryCondition) expression;
+      final String propertyName = getPropertyName(condition.getLeft());
+      final Operator operator = getOperator(condition.getOperator());
+      if (propertyName == null || operator == null || !condition.getRight().isConstant()) {
+        return null;
+      }
+
+      final OBinaryField value = toBinaryField(condition.getRight().execute((OResult) null, ctx), schema);
+      if (value == null) {
+        return null;
+      }
+
+      return new Comparison(propertyName, operator, value);
+    }
+
+    if (expression instanceof OBetweenCondition) {
+      final OBetweenCondition condition = (OBetweenCondition) expression;
+      final String propertyName = getPropertyName(condition.getFirst());
+      if (propertyName == null || !condition.getSecond().isConstant() || !condition.getThird().isConstant()) {
+        return null;
+      }
+
+      final OBinaryField from = toBinaryField(condition.getSecond().execute((OResult) null, ctx), schema);
+      final OBinaryField to = toBinaryField(condition.getThird().execute((OResult) null, ctx), schema);
+      if (from == null || to == null) {
+        return null;
+      }
+
+      return new Between(propertyName, from, to);
+    }
+
+    if (expression instanceof OIsNullCondition) {
+      final String propertyName = getPropertyName(((OIsNullCondition) expression).getExpression());
+      return propertyName == null ? null : new NullCheck(propertyName, true);
+    }
+
+    if (expression instanceof OIsNotNullCondition) {
+      final String propertyName = getPropertyName(((OIsNotNullCondition) expression).getExpression());
+      return propertyName == null ? null : new NullCheck(propertyName, false);
+    }
+
+    return null;
+  }
+
+  /**
+   * @return name of the property if the expression is a reference to the property of the current record
+   */
+  private static String getPropertyName(final OExpression expression) {
+    if (expression == null || !expression.isBaseIdentifier()) {
+      return null;
+    }
+
+    final String name = expression.getDefaultAlias().getStringValue();
+    if (name == null || name.isEmpty() || name.startsWith("$") || name.startsWith("@") || name.equalsIgnoreCase("this")) {
+      return null;
+    }
+
+    return name;
+  }
+
+  private static Operator getOperator(final OBinaryCompareOperator operator) {
+    if (operator instanceof OEqualsCompareOperator) {
+      return Operator.EQ;
+    }
+    if (operator instanceof OLtOperator) {
+      return Operator.LT;
+    }
+    if (operator instanceof OLeOperator) {
+      return Operator.LE;
+    }
+    if (operator instanceof OGtOperator) {
+      return Operator.GT;
+    }
+    if (operator instanceof OGeOperator) {
+      return Operator.GE;
+    }
+
+    return null;
+  }
+
+  private static OBinaryField toBinaryField(final Object value, final OImmutableSchema schema) {
+    if (value == null) {
+      return null;
+    }
+
+    final OType type = OType.getTypeByValue(value);
+    if (type == null || !isSupportedType(type)) {
+      return null;
+    }
+
+    final BytesContainer bytes = new BytesContainer();
+    ORecordSerializerBinary.INSTANCE.getCurrentSerializer().serializeValue(bytes, value, type, null, schema, null);
+    bytes.offset = 0;
+
+    return new OBinaryField(null, type, bytes, null);
+  }
+
+  private static boolean isSupportedType(final OType type) {
+    switch (type) {
+    case BYTE:
+    case SHORT:
+    case INTEGER:
+    case LONG:
+    case FLOAT:
+    case DOUBLE:
+    case STRING:
+    case BOOLEAN:
+    case DATETIME:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  private static boolean isNumber(final OType type) {
+    switch (type) {
+    case BYTE:
+    case SHORT:
+    case INTEGER:
+    case LONG:
+    case FLOAT:
+    case DOUBLE:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if comparison of the values in binary form gives the same result as comparison of them by SQL
+   * operators, which convert values of different types in their own way
+   */
+  private static boolean isComparable(final OType propertyType, final OType valueType) {
+    if (!isSupportedType(propertyType)) {
+      return false;
+    }
+
+    return propertyType == valueType || (isNumber(propertyType) && isNumber(valueType));
+  }
+
+  private OBinaryField readProperty(final byte[] source, final ODocumentSerializer serializer, final String propertyName) {
+    return serializer.deserializeField(new BytesContainer(source, 1), clazz, propertyName, false, schema, null);
+  }
+
+  private enum Operator {
+    EQ, LT, LE, GT, GE
+  }
+
+  private abstract static class Condition {
+    protected final String propertyName;
+
+    protected Condition(final String propertyName) {
+      this.propertyName = propertyName;
+    }
+
+    /**
+     * @return <code>true</code> only if serialized record certainly does not satisfy the condition
+     */
+    protected abstract boolean isFalse(OBinaryRecordFilter filter, byte[] source, ODocumentSerializer serializer);
+  }
+
+  private static final class Comparison extends Condition {
+    private final Operator     operator;
+    private final OBinaryField value;
+
+    private Comparison(final String propertyName, final Operator operator, final OBinaryField value) {
+      super(propertyName);
+      this.operator = operator;
+      this.value = value;
+    }
+
+    @Override
+    protected boolean isFalse(final OBinaryRecordFilter filter, final byte[] source, final ODocumentSerializer serializer) {
+      final OBinaryField property = filter.readProperty(source, serializer, propertyName);
+      if (property == null || !isComparable(property.type, value.type)) {
+        return false;
+      }
+
+      if (operator == Operator.EQ) {
+        return !filter.comparator.isEqual(property, value);
+      }
+
+      final int result = filter.comparator.compare(property, value);
+      switch (operator) {
+      case LT:
+        return result >= 0;
+      case LE:
+        return result > 0;
+      case GT:
+        return result <= 0;
+      case GE:
+        return result < 0;
+      default:
+        return false;
+      }
+    }
+  }
+
+  private static final class Between extends Condition {
+    private final OBinaryField from;
+    private final OBinaryField to;
+
+    private Between(final String propertyName, final OBinaryField from, final OBinaryField to) {
+      super(propertyName);
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected boolean isFalse(final OBinaryRecordFilter filter, final byte[] source, final ODocumentSerializer serializer) {
+      final OBinaryField property = filter.readProperty(source, serializer, propertyName);
+      // BETWEEN converts bounds to the type of the property and ignores collation
+      if (property == null || property.type != from.type || property.type != to.type) {
+        return false;
+      }
+
+      final OBinaryField value = new OBinaryField(property.name, property.type, property.bytes, null);
+      return filter.comparator.compare(value, from) < 0 || filter.comparator.compare(value, to) > 0;
+    }
+  }
+
+  private static final class NullCheck extends Condition {
+    private final boolean isNull;
+
+    private NullCheck(final String propertyName, final boolean isNull) {
+      super(propertyName);
+      this.isNull = isNull;
+    }
+
+    @Override
+    protected boolean isFalse(final OBinaryRecordFilter filter, final byte[] source, final ODocumentSerializer serializer) {
+      boolean nullValue = filter.readProperty(source, serializer, propertyName) == null;
+      if (nullValue) {
+        // property is absent, is null or has type which can not be compared in binary form
+        nullValue = serializer.deserializeFieldTyped(new BytesContainer(source, 1), propertyName, false, filter.schema, null) == null;
+      }
+
+      return nullValue != isNull;
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.orientechnologies.orient.core.command.OCommandContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * <p>Execution Steps are the building blocks of a query execution plan</p> <p>Typically an execution plan is made of a chain of
@@ -76,6 +77,33 @@ public interface OExecutionStepInternal extends OExecutionStep {
     //do nothing
   }
 
+  /**
+   * Adds the names of the classes and of the indexes this step was planned on. Cached execution plans are invalidated only when
+   * one of them changes. By default it collects the dependencies of the sub-steps and of the sub-plans.
+   *
+   * @param classes the class names
+   * @param indexes the index names
+   */
+  default void collectDependencies(Set<String> classes, Set<String> indexes) {
+    collectDependencies(getSubSteps(), classes, indexes);
+    if (getSubExecutionPlans() != null) {
+      for (OExecutionPlan plan : getSubExecutionPlans()) {
+        collectDependencies(plan.getSteps(), classes, indexes);
+      }
+    }
+  }
+
+  static void collectDependencies(List<? extends OExecutionStep> steps, Set<String> classes, Set<String> indexes) {
+    if (steps == null) {
+      return;
+    }
+    for (OExecutionStep step : steps) {
+      if (step instanceof OExecutionStepInternal) {
+        ((OExecutionStepInternal) step).collectDependencies(classes, indexes);
+      }
+    }
+  }
+
   default OResult serialize() {
     throw new UnsupportedOperationException();
   }
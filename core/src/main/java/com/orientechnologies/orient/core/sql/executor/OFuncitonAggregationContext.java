@@ -2,6 +2,11 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionAverage;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMax;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMin;
+import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionSum;
+import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionCount;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 
 import java.util.ArrayList;
@@ -37,4 +42,31 @@ public class OFuncitonAggregationContext implements AggregationContext {
     }
     aggregateFunction.execute(next, null, null, paramValues.toArray(), ctx);
   }
+
+  @Override
+  public boolean canMerge() {
+    if (!aggregateFunction.aggregateResults()) {
+      return false;
+    }
+    return aggregateFunction instanceof OSQLFunctionCount || aggregateFunction instanceof OSQLFunctionSum
+        || aggregateFunction instanceof OSQLFunctionMin || aggregateFunction instanceof OSQLFunctionMax
+        || aggregateFunction instanceof OSQLFunctionAverage;
+  }
+
+  @Override
+  public void merge(AggregationContext partial, OCommandContext ctx) {
+    OSQLFunction partialFunction = ((OFuncitonAggregationContext) partial).aggregateFunction;
+    if (aggregateFunction instanceof OSQLFunctionAverage) {
+      ((OSQLFunctionAverage) aggregateFunction).merge((OSQLFunctionAverage) partialFunction);
+    } else if (aggregateFunction instanceof OSQLFunctionCount) {
+      long total = ((Number) aggregateFunction.getResult()).longValue() + ((Number) partialFunction.getResult()).longValue();
+      aggregateFunction.setResult(total);
+    } else {
+      //sum, min and max: aggregating the partial results gives the same result as aggregating the original values
+      Object partialResult = partialFunction.getResult();
+      if (partialResult != null) {
+        aggregateFunction.execute(null, null, null, new Object[] { partialResult }, ctx);
+      }
+    }
+  }
 }
@@ -0,0 +1,363 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set&lt;ORID&gt; that keeps track of persistent RIDs in direct memory, so that very big DISTINCT and TRAVERSE operations do not
+ * fill the heap with RID instances.
+ * <p>
+ * Cluster positions are split in chunks of {@link #CHUNK_SIZE} positions; each chunk is a bitmap allocated through {@link
+ * ODirectMemoryAllocator} the first time one of its positions is added, so sparse clusters only pay for the chunks they actually
+ * use. Temporary RIDs and positions that do not fit the chunk directory are kept in a plain heap set.
+ * <p>
+ * As for {@link ORidSet}, the iterator returns new RID instances. The direct memory is released on {@link #close()}, the set
+ * cannot be used after that. If the set becomes unreachable without being closed, its chunks are released the next time a set
+ * is created or allocates its first chunk.
+ */
+public class OOffHeapRidSet extends AbstractSet<ORID> implements AutoCloseable {
+
+  private static final int  CHUNK_BITS      = 16;
+  private static final long CHUNK_SIZE      = 1L << CHUNK_BITS;
+  private static final int  CHUNK_BYTES     = (int) (CHUNK_SIZE / 8);
+  private static final long MAX_CHUNK_INDEX = Integer.MAX_VALUE - 8;
+
+  /**
+   * Queue of sets which were garbage collected while they still held direct memory, and references to such sets which are still
+   * alive. References are registered when the set allocates its first chunk and are removed when the set is closed.
+   */
+  private static final ReferenceQueue<OOffHeapRidSet> COLLECTED_SETS = new ReferenceQueue<>();
+  private static final Set<ChunksReference>           LIVE_SETS      = ConcurrentHashMap.newKeySet();
+
+  private final Chunks          chunks;
+  private       ChunksReference reference;
+
+  private Set<ORID> others = new HashSet<>();
+
+  private long    size   = 0;
+  private boolean closed = false;
+
+  public OOffHeapRidSet() {
+    this(ODirectMemoryAllocator.instance());
+  }
+
+  public OOffHeapRidSet(ODirectMemoryAllocator allocator) {
+    this.chunks = new Chunks(allocator);
+    releaseCollectedSets();
+  }
+
+  @Override
+  public int size() {
+    long total = size + others.size();
+    return total <= Integer.MAX_VALUE ? (int) total : Integer.MAX_VALUE;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0L && others.isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof ORID)) {
+      return false;
+    }
+    ORID rid = (ORID) o;
+    if (!isTracked(rid)) {
+      return others.contains(rid);
+    }
+    OPointer chunk = getChunk(rid.getClusterId(), rid.getClusterPosition());
+    if (chunk == null) {
+      return false;
+    }
+    long positionInChunk = rid.getClusterPosition() & (CHUNK_SIZE - 1);
+    int wordOffset = (int) (positionInChunk >>> 6) << 3;
+    long mask = 1L << (positionInChunk & 63);
+    return (chunk.getNativeByteBuffer().getLong(wordOffset) & mask) != 0L;
+  }
+
+  @Override
+  public boolean add(ORID rid) {
+    if (rid == null) {
+      throw new IllegalArgumentException();
+    }
+    checkOpen();
+    if (!isTracked(rid)) {
+      return others.add(rid.copy());
+    }
+    int cluster = rid.getClusterId();
+    long position = rid.getClusterPosition();
+    OPointer chunk = getChunk(cluster, position);
+    if (chunk == null) {
+      chunk = allocateChunk(cluster, (int) (position >>> CHUNK_BITS));
+    }
+    long positionInChunk = position & (CHUNK_SIZE - 1);
+    int wordOffset = (int) (positionInChunk >>> 6) << 3;
+    long mask = 1L << (positionInChunk & 63);
+    ByteBuffer buffer = chunk.getNativeByteBuffer();
+    long word = buffer.getLong(wordOffset);
+    if ((word & mask) != 0L) {
+      return false;
+    }
+    buffer.putLong(wordOffset, word | mask);
+    size++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (!(o instanceof ORID)) {
+      return false;
+    }
+    checkOpen();
+    ORID rid = (ORID) o;
+    if (!isTracked(rid)) {
+      return others.remove(rid);
+    }
+    OPointer chunk = getChunk(rid.getClusterId(), rid.getClusterPosition());
+    if (chunk == null) {
+      return false;
+    }
+    long positionInChunk = rid.getClusterPosition() & (CHUNK_SIZE - 1);
+    int wordOffset = (int) (positionInChunk >>> 6) << 3;
+    long mask = 1L << (positionInChunk & 63);
+    ByteBuffer buffer = chunk.getNativeByteBuffer();
+    long word = buffer.getLong(wordOffset);
+    if ((word & mask) == 0L) {
+      return false;
+    }
+    buffer.putLong(wordOffset, word & ~mask);
+    size--;
+    return true;
+  }
+
+  @Override
+  public Iterator<ORID> iterator() {
+    checkOpen();
+    return new OffHeapRidSetIterator();
+  }
+
+  /**
+   * releases the direct memory, keeping the set usable
+   */
+  @Override
+  public void clear() {
+    checkOpen();
+    chunks.release();
+    others = new HashSet<>();
+    size = 0;
+  }
+
+  /**
+   * @return the amount of direct memory currently used by this set, in bytes
+   */
+  public long getAllocatedBytes() {
+    return chunks.allocatedBytes;
+  }
+
+  /**
+   * releases the direct memory. After this call the set cannot be used anymore
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (reference != null) {
+      LIVE_SETS.remove(reference);
+      reference.clear();
+      reference = null;
+    }
+    chunks.release();
+    others.clear();
+    size = 0;
+  }
+
+  /**
+   * Releases the direct memory of the sets which were garbage collected without being closed.
+   */
+  private static void releaseCollectedSets() {
+    ChunksReference collected;
+    while ((collected = (ChunksReference) COLLECTED_SETS.poll()) != null) {
+      if (LIVE_SETS.remove(collected)) {
+        OLogManager.instance().warnNoDb(OOffHeapRidSet.class,
+            "RID set which uses %d bytes of direct memory was not closed, memory is released after garbage collection",
+            collected.chunks.allocatedBytes);
+        collected.chunks.release();
+      }
+    }
+  }
+
+  private static boolean isTracked(ORID rid) {
+    return rid.getClusterId() >= 0 && rid.getClusterPosition() >= 0
+        && (rid.getClusterPosition() >>> CHUNK_BITS) <= MAX_CHUNK_INDEX;
+  }
+
+  private OPointer getChunk(int cluster, long position) {
+    if (closed || cluster >= chunks.table.length) {
+      return null;
+    }
+    OPointer[] clusterChunks = chunks.table[cluster];
+    long chunkIndex = position >>> CHUNK_BITS;
+    if (clusterChunks == null || chunkIndex >= clusterChunks.length) {
+      return null;
+    }
+    return clusterChunks[(int) chunkIndex];
+  }
+
+  private OPointer allocateChunk(int cluster, int chunkIndex) {
+    if (reference == null) {
+      releaseCollectedSets();
+      reference = new ChunksReference(this, chunks);
+      LIVE_SETS.add(reference);
+    }
+
+    if (cluster >= chunks.table.length) {
+      OPointer[][] oldChunks = chunks.table;
+      chunks.table = new OPointer[Math.max(cluster + 1, oldChunks.length * 2)][];
+      System.arraycopy(oldChunks, 0, chunks.table, 0, oldChunks.length);
+    }
+    OPointer[] clusterChunks = chunks.table[cluster];
+    if (clusterChunks == null) {
+      clusterChunks = new OPointer[Math.max(chunkIndex + 1, 4)];
+      chunks.table[cluster] = clusterChunks;
+    } else if (chunkIndex >= clusterChunks.length) {
+      int newLength = (int) Math.min(Math.max(chunkIndex + 1L, clusterChunks.length * 2L), MAX_CHUNK_INDEX + 1);
+      OPointer[] oldChunks = clusterChunks;
+      clusterChunks = new OPointer[newLength];
+      System.arraycopy(oldChunks, 0, clusterChunks, 0, oldChunks.length);
+      chunks.table[cluster] = clusterChunks;
+    }
+    OPointer chunk = chunks.allocator.allocate(CHUNK_BYTES, -1, true);
+    clusterChunks[chunkIndex] = chunk;
+    chunks.allocatedBytes += CHUNK_BYTES;
+    return chunk;
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("RID set is already closed");
+    }
+  }
+
+  /**
+   * Direct memory of the set. It is kept apart from the set, so it can be released after the set is garbage collected.
+   */
+  private static final class Chunks {
+    private final ODirectMemoryAllocator allocator;
+
+    /*
+     * cluster / chunk. Chunk n of cluster c holds the positions from n * CHUNK_SIZE to (n + 1) * CHUNK_SIZE - 1
+     */
+    private OPointer[][] table = new OPointer[8][];
+
+    private long allocatedBytes = 0;
+
+    private Chunks(ODirectMemoryAllocator allocator) {
+      this.allocator = allocator;
+    }
+
+    private void release() {
+      for (OPointer[] clusterChunks : table) {
+        if (clusterChunks == null) {
+          continue;
+        }
+        for (int i = 0; i < clusterChunks.length; i++) {
+          if (clusterChunks[i] != null) {
+            allocator.deallocate(clusterChunks[i]);
+            clusterChunks[i] = null;
+          }
+        }
+      }
+      table = new OPointer[8][];
+      allocatedBytes = 0;
+    }
+  }
+
+  private static final class ChunksReference extends PhantomReference<OOffHeapRidSet> {
+    private final Chunks chunks;
+
+    private ChunksReference(OOffHeapRidSet set, Chunks chunks) {
+      super(set, COLLECTED_SETS);
+      this.chunks = chunks;
+    }
+  }
+
+  private class OffHeapRidSetIterator implements Iterator<ORID> {
+    private int  cluster    = 0;
+    private int  chunkIndex = 0;
+    private int  wordIndex  = 0;
+    private long word       = 0L;
+
+    private final Iterator<ORID> othersIterator = others.iterator();
+
+    private ORID next;
+
+    OffHeapRidSetIterator() {
+      fetchNext();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public ORID next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      ORID result = next;
+      fetchNext();
+      return result;
+    }
+
+    private void fetchNext() {
+      while (cluster < chunks.table.length) {
+        OPointer[] clusterChunks = chunks.table[cluster];
+        while (clusterChunks != null && chunkIndex < clusterChunks.length) {
+          OPointer chunk = clusterChunks[chunkIndex];
+          if (chunk != null) {
+            ByteBuffer buffer = chunk.getNativeByteBuffer();
+            while (true) {
+              if (word != 0L) {
+                int bit = Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                long position = ((long) chunkIndex << CHUNK_BITS) + (((long) wordIndex - 1) << 6) + bit;
+                next = new ORecordId(cluster, position);
+                return;
+              }
+              if (wordIndex >= CHUNK_BYTES / 8) {
+                break;
+              }
+              word = buffer.getLong(wordIndex << 3);
+              wordIndex++;
+            }
+          }
+          chunkIndex++;
+          wordIndex = 0;
+          word = 0L;
+        }
+        cluster++;
+        chunkIndex = 0;
+        wordIndex = 0;
+        word = 0L;
+      }
+      next = othersIterator.hasNext() ? othersIterator.next() : null;
+    }
+  }
+}
@@ -0,0 +1,480 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OStorageConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OMetadataUpdateListener;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
+import com.orientechnologies.orient.core.sql.parser.OLocalResultSet;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache of results of SELECT statements marked by CACHE keyword, it is shared by all sessions of the database and is bounded by
+ * the estimated size of cached results in bytes. Results are kept per statement, input parameters and user, least recently used
+ * results are evicted first.
+ * <p>
+ * Each cached result is tagged with the clusters it was computed from: clusters of the records which were read during execution
+ * of the statement (also by worker threads of parallel steps) and clusters of the classes and the indexes the execution plan
+ * depends on (see {@link OExecutionStepInternal#collectDependencies(Set, Set)}). Storage tracks the sequence number of the last
+ * committed change of each cluster, so the result is served from the cache only if none of its clusters was changed after the
+ * execution of the statement was started. Any change of metadata removes all results.
+ * <p>
+ * Only projections which consist of values which can be safely shared between sessions (like numbers, strings and identities of
+ * records) are cached, statements which return records or which are executed inside of transaction are always executed.
+ */
+public class OQueryResultCache implements OMetadataUpdateListener {
+  /**
+   * Clusters of the records which are read by the statement executed by the current thread. Worker threads of parallel steps share
+   * the set of the statement which started them, see {@link #trackReadClusters(Runnable)}.
+   */
+  private static final ThreadLocal<Set<Integer>> READ_CLUSTERS = new ThreadLocal<>();
+
+  private final long maxSize;
+
+  private final LinkedHashMap<Key, CachedResult> results = new LinkedHashMap<>(16, 0.75f, true);
+  private       long                             size;
+
+  private final LongAdder hits      = new LongAdder();
+  private final LongAdder misses    = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * @param maxSize maximum size of cached results in bytes, <code>0</code> disables the cache
+   */
+  public OQueryResultCache(final long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Is called for each record which is read by the database, so clusters read by cached statements are known.
+   */
+  public static void onRecordRead(final ORID rid) {
+    final Set<Integer> readClusters = READ_CLUSTERS.get();
+    if (readClusters != null) {
+      readClusters.add(rid.getClusterId());
+    }
+  }
+
+  /**
+   * Wraps the task of worker thread of parallel execution step, so clusters of the records read by the worker are tracked as
+   * dependencies of the statement which started the worker. Has to be called on the thread which executes the statement.
+   */
+  public static Runnable trackReadClusters(final Runnable task) {
+    final Set<Integer> readClusters = READ_CLUSTERS.get();
+    if (readClusters == null) {
+      return task;
+    }
+
+    return () -> {
+      final Set<Integer> workerReadClusters = READ_CLUSTERS.get();
+      READ_CLUSTERS.set(readClusters);
+      try {
+        task.run();
+      } finally {
+        READ_CLUSTERS.set(workerReadClusters);
+      }
+    };
+  }
+
+  /**
+   * Returns result of the statement from the cache or executes the statement and puts its result into the cache.
+   *
+   * @param statement text of the statement
+   * @param params    input parameters of the statement
+   * @param ctx       context of the execution of the statement
+   * @param planner   creates execution plan of the statement
+   */
+  public OResultSet execute(final String statement, final Map<Object, Object> params, final OCommandContext ctx,
+      final Supplier<OInternalExecutionPlan> planner) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final OStorage storage = db.getStorage().getUnderlying();
+
+    final long sequence = storage.getModificationSequence();
+    if (maxSize <= 0 || statement == null || sequence < 0 || db.getTransaction().isActive()) {
+      return new OLocalResultSet(planner.get());
+    }
+
+    final OSecurityUser user = db.getUser();
+    final Key key = new Key(statement, params, user != null ? user.getName() : null);
+
+    final List<OResult> cachedResults = get(key, storage);
+    if (cachedResults != null) {
+      hits.increment();
+
+      final OInternalResultSet resultSet = new OInternalResultSet();
+      for (final OResult result : cachedResults) {
+        resultSet.add((OResult) copy(result, null));
+      }
+      return resultSet;
+    }
+
+    misses.increment();
+
+    final OInternalExecutionPlan plan = planner.get();
+    final List<OResult> results = new ArrayList<>();
+
+    //records are read by worker threads of parallel steps too
+    final Set<Integer> clusters = ConcurrentHashMap.newKeySet();
+    final Set<Integer> outerReadClusters = READ_CLUSTERS.get();
+    READ_CLUSTERS.set(clusters);
+    try (OResultSet resultSet = new OLocalResultSet(plan)) {
+      while (resultSet.hasNext()) {
+        results.add(resultSet.next());
+      }
+    } finally {
+      READ_CLUSTERS.set(outerReadClusters);
+      if (outerReadClusters != null) {
+        outerReadClusters.addAll(clusters);
+      }
+    }
+
+    final OInternalResultSet resultSet = new OInternalResultSet();
+    resultSet.setPlan(plan);
+    for (final OResult result : results) {
+      resultSet.add(result);
+    }
+
+    final long[] resultsSize = new long[1];
+    final List<OResult> resultsCopy = new ArrayList<>(results.size());
+    for (final OResult result : results) {
+      final Object resultCopy = copy(result, resultsSize);
+      if (resultCopy == null) {
+        return resultSet;
+      }
+
+      resultsCopy.add((OResult) resultCopy);
+    }
+
+    if (addPlanDependencies(plan, db, clusters)) {
+      put(key, new CachedResult(resultsCopy, clusters, sequence, resultsSize[0] + statement.length() * 2L));
+    }
+
+    return resultSet;
+  }
+
+  public synchronized void invalidate() {
+    results.clear();
+    size = 0;
+  }
+
+  public synchronized int getResultsCount() {
+    return results.size();
+  }
+
+  /**
+   * @return estimated size of cached results in bytes
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  @Override
+  public void onSchemaUpdate(final String database, final OSchemaShared schema) {
+    invalidate();
+  }
+
+  @Override
+  public void onIndexManagerUpdate(final String database, final OIndexManagerAbstract indexManager) {
+    invalidate();
+  }
+
+  @Override
+  public void onFunctionLibraryUpdate(final String database) {
+    invalidate();
+  }
+
+  @Override
+  public void onSequenceLibraryUpdate(final String database) {
+    invalidate();
+  }
+
+  @Override
+  public void onStorageConfigurationUpdate(final String database, final OStorageConfiguration update) {
+    invalidate();
+  }
+
+  private synchronized List<OResult> get(final Key key, final OStorage storage) {
+    final CachedResult cachedResult = results.get(key);
+    if (cachedResult == null) {
+      return null;
+    }
+
+    for (final int clusterId : cachedResult.clusters) {
+      if (storage.getClusterModificationSequence(clusterId) > cachedResult.sequence) {
+        results.remove(key);
+        size -= cachedResult.size;
+        return null;
+      }
+    }
+
+    return cachedResult.results;
+  }
+
+  private synchronized void put(final Key key, final CachedResult cachedResult) {
+    if (cachedResult.size > maxSize) {
+      return;
+    }
+
+    final CachedResult replaced = results.put(key, cachedResult);
+    if (replaced != null) {
+      size -= replaced.size;
+    }
+    size += cachedResult.size;
+
+    final Iterator<CachedResult> eldest = results.values().iterator();
+    while (size > maxSize && eldest.hasNext()) {
+      size -= eldest.next().size;
+      eldest.remove();
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Adds clusters of the classes and of the indexes the plan depends on.
+   *
+   * @return <code>false</code> if dependencies of the plan are unknown, so its result can not be cached
+   */
+  private static boolean addPlanDependencies(final OInternalExecutionPlan plan, final ODatabaseDocumentInternal db,
+      final Set<Integer> clusters) {
+    final Set<String> classNames = new HashSet<>();
+    final Set<String> indexNames = new HashSet<>();
+    OExecutionStepInternal.collectDependencies(plan.getSteps(), classNames, indexNames);
+    classNames.remove(null);
+    indexNames.remove(null);
+
+    final OSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    for (final String indexName : indexNames) {
+      final OIndex<?> index = db.getMetadata().getIndexManagerInternal().getIndex(db, indexName);
+      final OIndexDefinition definition = index != null ? index.getDefinition() : null;
+      if (definition == null || definition.getClassName() == null) {
+        return false;
+      }
+
+      classNames.add(definition.getClassName());
+    }
+
+    for (final String className : classNames) {
+      final OClass oClass = schema.getClass(className);
+      if (oClass == null) {
+        return false;
+      }
+
+      for (final int clusterId : oClass.getPolymorphicClusterIds()) {
+        clusters.add(clusterId);
+      }
+    }
+
+    return !clusters.isEmpty();
+  }
+
+  /**
+   * Copies value which is part of the result, so it can be shared between sessions.
+   *
+   * @param size accumulates estimated size of copied values, if it is not <code>null</code>
+   *
+   * @return copy of the value or <code>null</code> if value can not be cached
+   */
+  private static Object copy(final Object value, final long[] size) {
+    if (value == null) {
+      return NULL;
+    }
+
+    if (value instanceof String) {
+      addSize(size, 40 + ((String) value).length() * 2L);
+      return value;
+    }
+
+    if (value instanceof Number) {
+      if (value instanceof BigDecimal || value instanceof BigInteger) {
+        addSize(size, 64);
+        return value;
+      }
+
+      if (value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float
+          || value instanceof Short || value instanceof Byte) {
+        addSize(size, 16);
+        return value;
+      }
+
+      return null;
+    }
+
+    if (value instanceof Boolean || value instanceof Character) {
+      addSize(size, 16);
+      return value;
+    }
+
+    if (value instanceof Date) {
+      addSize(size, 24);
+      return ((Date) value).clone();
+    }
+
+    if (value instanceof byte[]) {
+      addSize(size, 16 + ((byte[]) value).length);
+      return ((byte[]) value).clone();
+    }
+
+    if (value instanceof ORID) {
+      final ORID rid = (ORID) value;
+      if (!rid.isPersistent()) {
+        return null;
+      }
+
+      addSize(size, 32);
+      return rid.copy();
+    }
+
+    if (value instanceof OIdentifiable) {
+      // records are bound to the session which loaded them
+      return null;
+    }
+
+    if (value instanceof OResult) {
+      final OResult result = (OResult) value;
+      if (result.isElement() || result.getIdentity().isPresent()) {
+        return null;
+      }
+
+      final OResultInternal resultCopy = new OResultInternal();
+      for (final String propertyName : result.getPropertyNames()) {
+        final Object propertyCopy = copy(result.getProperty(propertyName), size);
+        if (propertyCopy == null) {
+          return null;
+        }
+
+        addSize(size, 40 + propertyName.length() * 2L);
+        resultCopy.setProperty(propertyName, propertyCopy == NULL ? null : propertyCopy);
+      }
+
+      addSize(size, 64);
+      return resultCopy;
+    }
+
+    if (value instanceof List || value instanceof Set) {
+      final Collection<Object> collectionCopy = value instanceof List ? new ArrayList<>() : new LinkedHashSet<>();
+      for (final Object item : (Collection<?>) value) {
+        final Object itemCopy = copy(item, size);
+        if (itemCopy == null) {
+          return null;
+        }
+
+        collectionCopy.add(itemCopy == NULL ? null : itemCopy);
+      }
+
+      addSize(size, 32 + 16L * collectionCopy.size());
+      return collectionCopy;
+    }
+
+    if (value instanceof Map) {
+      final Map<Object, Object> mapCopy = new LinkedHashMap<>();
+      for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        final Object keyCopy = copy(entry.getKey(), size);
+        final Object valueCopy = copy(entry.getValue(), size);
+        if (keyCopy == null || valueCopy == null) {
+          return null;
+        }
+
+        mapCopy.put(keyCopy == NULL ? null : keyCopy, valueCopy == NULL ? null : valueCopy);
+      }
+
+      addSize(size, 48 + 32L * mapCopy.size());
+      return mapCopy;
+    }
+
+    return null;
+  }
+
+  private static void addSize(final long[] size, final long valueSize) {
+    if (size != null) {
+      size[0] += valueSize;
+    }
+  }
+
+  /**
+   * Copy of <code>null</code> value, it differs from the <code>null</code> which means that value can not be cached.
+   */
+  private static final Object NULL = new Object();
+
+  private static final class Key {
+    private final String              statement;
+    private final Map<Object, Object> params;
+    private final String              user;
+
+    private Key(final String statement, final Map<Object, Object> params, final String user) {
+      this.statement = statement;
+      this.params = params == null || params.isEmpty() ? Collections.emptyMap() : new HashMap<>(params);
+      this.user = user;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final Key key = (Key) o;
+      return statement.equals(key.statement) && params.equals(key.params) && Objects.equals(user, key.user);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(statement, params, user);
+    }
+  }
+
+  private static final class CachedResult {
+    private final List<OResult> results;
+    private final Set<Integer>  clusters;
+    private final long          sequence;
+    private final long          size;
+
+    private CachedResult(final List<OResult> results, final Set<Integer> clusters, final long sequence, final long size) {
+      this.results = results;
+      this.clusters = clusters;
+      this.sequence = sequence;
+      this.size = size;
+    }
+  }
+}
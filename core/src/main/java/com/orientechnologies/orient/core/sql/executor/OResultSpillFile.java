@@ -0,0 +1,239 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OVarIntSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+
+import java.io.*;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Temporary file that holds a sequence of {@link OResult}s, used by memory intensive steps (eg. ORDER BY) to keep the heap usage
+ * bounded. Documents are serialized with {@link ORecordSerializerBinary}, projections and metadata with {@link
+ * OResultSerializerNetwork}.
+ * <p>
+ * Only plain {@link OResultInternal} instances can be spilled, see {@link #canBeSpilled(OResult)}. The file is deleted on {@link
+ * #close()}.
+ */
+public class OResultSpillFile implements AutoCloseable {
+
+  private static final byte HAS_ELEMENT      = 1;
+  private static final byte ELEMENT_DOCUMENT = 2;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final File             file;
+  private       DataOutputStream output;
+  private       long             size = 0;
+
+  public OResultSpillFile(String prefix) {
+    try {
+      File dir = new File(Orient.getTempPath(), "spill");
+      if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+        throw new IOException("Cannot create directory " + dir);
+      }
+      this.file = File.createTempFile(prefix, ".spill", dir);
+      this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot create query spill file"), e);
+    }
+  }
+
+  public static boolean canBeSpilled(OResult item) {
+    return item != null && item.getClass() == OResultInternal.class;
+  }
+
+  public void write(OResult item) {
+    if (output == null) {
+      throw new IllegalStateException("Spill file " + file + " is already closed for writing");
+    }
+    BytesContainer bytes = new BytesContainer();
+    serialize((OResultInternal) item, bytes);
+    try {
+      output.writeInt(bytes.offset);
+      output.write(bytes.bytes, 0, bytes.offset);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot write to query spill file " + file), e);
+    }
+    size++;
+  }
+
+  /**
+   * @return the number of results written to this file
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * flushes the pending writes. After this call no more results can be written, but the file can be read with {@link #read()}
+   */
+  public void finishWriting() {
+    if (output == null) {
+      return;
+    }
+    try {
+      output.close();
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot write to query spill file " + file), e);
+    } finally {
+      output = null;
+    }
+  }
+
+  /**
+   * @return an iterator over the results, in the same order they were written. The iterator has to be closed
+   */
+  public Reader read() {
+    finishWriting();
+    try {
+      return new Reader(new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)), size);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot read query spill file " + file), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      finishWriting();
+    } catch (RuntimeException e) {
+      OLogManager.instance().warn(this, "Error on closing query spill file %s", e, file);
+    }
+    if (!file.delete() && file.exists()) {
+      OLogManager.instance().warn(this, "Cannot delete query spill file %s", file);
+    }
+  }
+
+  private static void serialize(OResultInternal item, BytesContainer bytes) {
+    OIdentifiable element = item.element;
+    byte flags = 0;
+    ORecord record = null;
+    if (element != null) {
+      flags |= HAS_ELEMENT;
+      record = element.getRecord();
+      if (record instanceof ODocument) {
+        flags |= ELEMENT_DOCUMENT;
+      }
+    }
+    bytes.bytes[bytes.alloc(1)] = flags;
+
+    if (element != null) {
+      ORID rid = element.getIdentity();
+      OVarIntSerializer.write(bytes, rid.getClusterId());
+      OVarIntSerializer.write(bytes, rid.getClusterPosition());
+      if (record instanceof ODocument) {
+        OVarIntSerializer.write(bytes, record.getVersion());
+        bytes.bytes[bytes.alloc(1)] = (byte) (record.isDirty() ? 1 : 0);
+        byte[] content = ORecordSerializerBinary.INSTANCE.toStream(record);
+        OVarIntSerializer.write(bytes, content.length);
+        System.arraycopy(content, 0, bytes.bytes, bytes.alloc(content.length), content.length);
+      }
+    }
+
+    OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+    OResultInternal projection = new OResultInternal();
+    projection.content = item.content;
+    projection.metadata = item.metadata;
+    serializer.serialize(projection, bytes);
+
+    OResultInternal temporary = new OResultInternal();
+    if (item.temporaryContent != null) {
+      temporary.content.putAll(item.temporaryContent);
+    }
+    serializer.serialize(temporary, bytes);
+  }
+
+  private static OResultInternal deserialize(BytesContainer bytes) {
+    OResultInternal result = new OResultInternal();
+    byte flags = bytes.bytes[bytes.offset];
+    bytes.skip(1);
+
+    if ((flags & HAS_ELEMENT) != 0) {
+      ORecordId rid = new ORecordId(OVarIntSerializer.readAsInteger(bytes), OVarIntSerializer.readAsLong(bytes));
+      if ((flags & ELEMENT_DOCUMENT) != 0) {
+        int version = OVarIntSerializer.readAsInteger(bytes);
+        boolean dirty = bytes.bytes[bytes.offset] != 0;
+        bytes.skip(1);
+        int length = OVarIntSerializer.readAsInteger(bytes);
+        byte[] content = new byte[length];
+        System.arraycopy(bytes.bytes, bytes.offset, content, 0, length);
+        bytes.skip(length);
+
+        ODocument doc = new ODocument();
+        ORecordInternal.setRecordSerializer(doc, ORecordSerializerBinary.INSTANCE);
+        ORecordInternal.fill(doc, rid, version, content, dirty);
+        result.element = doc;
+      } else {
+        //blobs and other records are loaded again from the storage
+        result.element = rid;
+      }
+    }
+
+    OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+    OResultInternal projection = serializer.deserialize(bytes);
+    result.content = projection.content;
+    if (projection.metadata != null) {
+      result.addMetadata(projection.metadata);
+    }
+
+    OResultInternal temporary = serializer.deserialize(bytes);
+    for (Map.Entry<String, Object> entry : temporary.content.entrySet()) {
+      result.setTemporaryProperty(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  public class Reader implements Iterator<OResult>, AutoCloseable {
+    private final DataInputStream input;
+    private       long            remaining;
+
+    private Reader(DataInputStream input, long size) {
+      this.input = input;
+      this.remaining = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public OResult next() {
+      if (remaining <= 0) {
+        throw new NoSuchElementException();
+      }
+      try {
+        byte[] content = new byte[input.readInt()];
+        input.readFully(content);
+        remaining--;
+        return deserialize(new BytesContainer(content));
+      } catch (IOException e) {
+        throw OException.wrapException(new OCommandExecutionException("Cannot read query spill file " + file), e);
+      }
+    }
+
+    @Override
+    public void close() {
+      remaining = 0;
+      try {
+        input.close();
+      } catch (IOException e) {
+        OLogManager.instance().warn(this, "Error on closing query spill file %s", e, file);
+      }
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
@@ -12,9 +13,18 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexAbstract;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.index.OCompositeCollate;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexDefinitionMultiValue;
+import com.orientechnologies.orient.core.index.OIndexFilter;
+import com.orientechnologies.orient.core.index.OPropertyIndexDefinition;
 import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.*;
+import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
+import com.orientechnologies.orient.core.metadata.security.OSecurityShared;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
 import com.orientechnologies.orient.core.sql.parser.*;
 
@@ -559,7 +569,8 @@ public class OSelectExecutionPlanner {
 
     for (OIndex<?> classIndex : clazz.getClassIndexes()) {
       List<String> fields = classIndex.getDefinition().getFields();
-      if (fields.size() == 1 && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())) {
+      if (fields.size() == 1 && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())
+          && isPartialIndexUsable(classIndex, info.flattenedWhereClause.get(0))) {
         OBinaryCondition indexCond = new OBinaryCondition(-1);
         indexCond.setLeft(new OExpression(new OIdentifier("key")));
         indexCond.setOperator(new OEqualsCompareOperator(-1));
@@ -1430,6 +1441,8 @@ public class OSelectExecutionPlanner {
       plan.chain(new FetchFromStorageMetadataStep(ctx, profilingEnabled));
     } else if (metadata.getName().equalsIgnoreCase(OCommandExecutorSQLAbstract.METADATA_DATABASE)) {
       plan.chain(new FetchFromDatabaseMetadataStep(ctx, profilingEnabled));
+    } else if (metadata.getName().equalsIgnoreCase(OCommandExecutorSQLAbstract.METADATA_STORAGE_CACHE)) {
+      plan.chain(new FetchFromStorageCacheMetadataStep(ctx, profilingEnabled));
     } else {
       throw new UnsupportedOperationException("Invalid metadata: " + metadata.getName());
     }
@@ -1578,7 +1591,10 @@ public class OSelectExecutionPlanner {
     }
 
     if (handleClassAsTargetWithIndex(plan, identifier, filterClusters, info, ctx, profilingEnabled)) {
-      plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      if (!isLastStepFieldsFromIndexEntry(plan)) {
+        //index entries are read only if the index is defined on the target class, so there is nothing to filter
+        plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      }
       return;
     }
 
@@ -1596,6 +1612,11 @@ public class OSelectExecutionPlanner {
     String className = identifier.getStringValue();
     OSchema schema = getSchemaFromContext(ctx);
 
+    if (orderByRidAsc == null && schema.getClass(className) != null && handleClassAsTargetInParallel(plan, filterClusters,
+        schema.getClass(className), info, ctx, profilingEnabled)) {
+      return;
+    }
+
     AbstractExecutionStep fetcher;
     if (schema.getClass(className) != null) {
       fetcher = new FetchFromClassExecutionStep(className, filterClusters, info, ctx, orderByRidAsc, profilingEnabled);
@@ -1611,6 +1632,54 @@ public class OSelectExecutionPlanner {
     plan.chain(fetcher);
   }
 
+  /**
+   * splits a full class scan in one branch per cluster, so that the branches can be executed concurrently by a {@link
+   * ParallelExecStep}. When the WHERE condition does not depend on per-record LET items, it is evaluated inside the branches too.
+   *
+   * @return true if the parallel fetch was chained to the plan
+   */
+  private boolean handleClassAsTargetInParallel(OSelectExecutionPlan plan, Set<String> filterClusters, OClass clazz,
+      QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
+    if (!OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean()) {
+      return false;
+    }
+    boolean pushDownWhere = info.whereClause != null && info.perRecordLetClause == null && info.serverToClusters.size() == 1;
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (int clusterId : clazz.getPolymorphicClusterIds()) {
+      if (clusterId < 0) {
+        continue;
+      }
+      String clusterName = ctx.getDatabase().getClusterNameById(clusterId);
+      if (filterClusters != null && !filterClusters.contains(clusterName)) {
+        continue;
+      }
+      OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
+      subPlan.chain(new FetchFromClusterExecutionStep(clusterId, info, ctx, profilingEnabled));
+      if (pushDownWhere) {
+        subPlan.chain(new FilterStep(info.whereClause.copy(), ctx, profilingEnabled));
+      }
+      subPlans.add(subPlan);
+    }
+    if (subPlans.size() < 2) {
+      return false;
+    }
+
+    //records created in current tx. Inside a transaction the branches are executed sequentially anyway
+    OSelectExecutionPlan txPlan = new OSelectExecutionPlan(ctx);
+    txPlan.chain(new FetchTemporaryFromTxStep(ctx, clazz.getName(), profilingEnabled));
+    if (pushDownWhere) {
+      txPlan.chain(new FilterStep(info.whereClause.copy(), ctx, profilingEnabled));
+    }
+    subPlans.add(txPlan);
+
+    plan.chain(new ParallelExecStep(subPlans, ctx, profilingEnabled));
+    if (pushDownWhere) {
+      info.whereClause = null;//already applied in the branches
+      info.flattenedWhereClause = null;
+    }
+    return true;
+  }
+
   private boolean handleClassAsTargetWithIndexedFunction(OSelectExecutionPlan plan, Set<String> filterClusters,
       OIdentifier queryTarget, QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
     if (queryTarget == null) {
@@ -1804,7 +1873,7 @@ public class OSelectExecutionPlanner {
     }
 
     for (OIndex idx : clazz.getIndexes().stream().filter(i -> i.supportsOrderedIterations()).filter(i -> i.getDefinition() != null)
-        .collect(Collectors.toList())) {
+        .filter(i -> OIndexFilter.of(i) == null).collect(Collectors.toList())) {
       List<String> indexFields = idx.getDefinition().getFields();
       if (indexFields.size() < info.orderBy.getItems().size()) {
         continue;
@@ -1863,7 +1932,7 @@ public class OSelectExecutionPlanner {
       QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
 
     List<OExecutionStepInternal> result = handleClassAsTargetWithIndex(targetClass.getStringValue(), filterClusters, info, ctx,
-        profilingEnabled);
+        true, profilingEnabled);
     if (result != null) {
       result.stream().forEach(x -> plan.chain(x));
       info.whereClause = null;
@@ -1930,7 +1999,9 @@ public class OSelectExecutionPlanner {
 
   private List<OExecutionStepInternal> handleClassAsTargetWithIndexRecursive(String targetClass, Set<String> filterClusters,
       QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
-    List<OExecutionStepInternal> result = handleClassAsTargetWithIndex(targetClass, filterClusters, info, ctx, profilingEnabled);
+    //the results of subclasses are filtered by superclass, so they have to be records
+    List<OExecutionStepInternal> result = handleClassAsTargetWithIndex(targetClass, filterClusters, info, ctx, false,
+        profilingEnabled);
     if (result == null) {
       result = new ArrayList<>();
       OClass clazz = getSchemaFromContext(ctx).getClass(targetClass);
@@ -1965,7 +2036,7 @@ public class OSelectExecutionPlanner {
   }
 
   private List<OExecutionStepInternal> handleClassAsTargetWithIndex(String targetClass, Set<String> filterClusters,
-      QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
+      QueryPlanningInfo info, OCommandContext ctx, boolean allowCoveringIndex, boolean profilingEnabled) {
     if (info.flattenedWhereClause == null || info.flattenedWhereClause.size() == 0) {
       return null;
     }
@@ -2002,7 +2073,12 @@ public class OSelectExecutionPlanner {
         filterClusterIds = filterClusters.stream().map(name -> ctx.getDatabase().getClusterIdByName(name)).mapToInt(i -> i)
             .toArray();
       }
-      result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+      if (allowCoveringIndex && coversAllClusters(filterClusterIds, clazz) && isCoveredByIndex(info, desc, clazz, ctx)) {
+        List<String> fields = desc.idx.getDefinition().getFields();
+        result.add(new GetFieldsFromIndexEntryStep(fields, getFieldTypes(clazz, fields), ctx, profilingEnabled));
+      } else {
+        result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+      }
       if (requiresMultipleIndexLookups(desc.keyCondition)) {
         result.add(new DistinctExecutionStep(ctx, profilingEnabled));
       }
@@ -2033,6 +2109,23 @@ public class OSelectExecutionPlanner {
     return result;
   }
 
+  private static boolean isLastStepFieldsFromIndexEntry(OSelectExecutionPlan plan) {
+    List<OExecutionStep> steps = plan.getSteps();
+    return !steps.isEmpty() && steps.get(steps.size() - 1) instanceof GetFieldsFromIndexEntryStep;
+  }
+
+  /**
+   * checks that a cluster filter does not exclude any record the class indexes can point to, so index entries can be used as
+   * they are, without loading the records to check where they are stored
+   */
+  private static boolean coversAllClusters(int[] filterClusterIds, OClass clazz) {
+    if (filterClusterIds == null) {
+      return true;
+    }
+    Set<Integer> filter = Arrays.stream(filterClusterIds).boxed().collect(Collectors.toSet());
+    return Arrays.stream(clazz.getPolymorphicClusterIds()).allMatch(filter::contains);
+  }
+
   private static OSchema getSchemaFromContext(OCommandContext ctx) {
     return ((OMetadataInternal) ctx.getDatabase().getMetadata()).getImmutableSchemaSnapshot();
   }
@@ -2152,6 +2245,120 @@ public class OSelectExecutionPlanner {
     return new ParallelExecStep(subPlans, ctx, profilingEnabled);
   }
 
+  /**
+   * checks if all the fields the query needs after the index lookup are part of the index key, so the query can be answered from
+   * the index entries without loading the records
+   *
+   * @param info  the query planning information
+   * @param desc  the index lookup which fetches the records
+   * @param clazz the target class of the query
+   * @param ctx   the execution context
+   *
+   * @return true if the query can be answered from the keys of the index
+   */
+  private boolean isCoveredByIndex(QueryPlanningInfo info, IndexSearchDescriptor desc, OClass clazz, OCommandContext ctx) {
+    if (!clazz.getName().equals(desc.idx.getDefinition().getClassName())) {
+      //indexes inherited from superclasses contain entries of other classes, that can be filtered only loading the records
+      return false;
+    }
+    if (info.projection == null || info.expand || info.unwind != null || info.groupBy != null || info.aggregateProjection != null
+        || info.preAggregateProjection != null || info.perRecordLetClause != null || info.lockRecord != null) {
+      return false;
+    }
+    if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
+      return false;
+    }
+    if (requiresMultipleIndexLookups(desc.keyCondition)) {
+      //the same record can be found more than once, it can be detected only by its identity
+      return false;
+    }
+    if (!isKeyEqualToFields(desc.idx.getDefinition())) {
+      return false;
+    }
+
+    List<String> indexFields = desc.idx.getDefinition().getFields();
+    Set<String> projectionAliases = new HashSet<>();
+    for (OProjectionItem item : info.projection.getItems()) {
+      if (item.isAll() || item.getNestedProjection() != null || item.getExpression() == null || !item.getExpression()
+          .isBaseIdentifier()) {
+        return false;
+      }
+      if (!indexFields.contains(item.getExpression().getDefaultAlias().getStringValue())) {
+        return false;
+      }
+      projectionAliases.add(item.getProjectionAliasAsString());
+    }
+    if (info.orderBy != null && info.orderBy.getItems() != null) {
+      //ORDER BY items are rewritten as (hidden) projections, that are already checked above
+      for (OOrderByItem item : info.orderBy.getItems()) {
+        if (item.getAlias() == null || item.getModifier() != null || item.getCollate() != null || (!indexFields
+            .contains(item.getAlias()) && !projectionAliases.contains(item.getAlias()))) {
+          return false;
+        }
+      }
+    }
+    return !isReadRestricted(clazz, indexFields, ctx);
+  }
+
+  /**
+   * @return true if some records of the class (or of its subclasses) or values of the fields may be hidden to current user by
+   * record level security (ORestricted or a security policy), so they have to be checked by loading each record
+   */
+  private boolean isReadRestricted(OClass clazz, List<String> fields, OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OSecurityInternal security = db.getSharedContext().getSecurity();
+    List<OClass> classes = new ArrayList<>();
+    classes.add(clazz);
+    classes.addAll(clazz.getAllSubclasses());
+    for (OClass c : classes) {
+      if (c.isSubClassOf(OSecurityShared.RESTRICTED_CLASSNAME)) {
+        return true;
+      }
+      String resource = "database.class." + c.getName();
+      if (security.isReadRestrictedBySecurityPolicy(db, resource)) {
+        return true;
+      }
+      for (String field : fields) {
+        if (security.isReadRestrictedBySecurityPolicy(db, resource + "." + field)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the types of the fields as they are declared in the class, to convert the items of the index key back to them
+   */
+  private OType[] getFieldTypes(OClass clazz, List<String> fields) {
+    OType[] types = new OType[fields.size()];
+    for (int i = 0; i < fields.size(); i++) {
+      OProperty property = clazz.getProperty(fields.get(i));
+      types[i] = property == null ? null : property.getType();
+    }
+    return types;
+  }
+
+  /**
+   * @return true if the items of the index key are the values of the indexed fields as they are stored in the records, that is
+   * the index is not built on collection items and the values are not changed by a collate
+   */
+  private boolean isKeyEqualToFields(OIndexDefinition definition) {
+    if (definition instanceof OCompositeIndexDefinition) {
+      if (((OCompositeIndexDefinition) definition).getMultiValueDefinitionIndex() != -1) {
+        return false;
+      }
+      for (OCollate collate : ((OCompositeCollate) definition.getCollate()).getCollates()) {
+        if (!(collate instanceof ODefaultCollate)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return definition instanceof OPropertyIndexDefinition && !(definition instanceof OIndexDefinitionMultiValue) && (
+        definition.getCollate() == null || definition.getCollate() instanceof ODefaultCollate);
+  }
+
   /**
    * checks whether the condition has CONTAINSANY or similar expressions, that require multiple index evaluations
    *
@@ -2184,16 +2391,30 @@ public class OSelectExecutionPlanner {
    *
    * @return
    */
+  /**
+   * partial indexes contain only the records that match the index predicate, so they can be used only if all the records that
+   * match the condition match the index predicate as well
+   *
+   * @param index the index
+   * @param block the condition the records are searched with
+   *
+   * @return true if the index is not partial or if the condition implies the index predicate
+   */
+  private boolean isPartialIndexUsable(OIndex<?> index, OAndBlock block) {
+    OIndexFilter filter = OIndexFilter.of(index);
+    return filter == null || filter.isImpliedBy(block);
+  }
+
   private IndexSearchDescriptor findBestIndexFor(OCommandContext ctx, Set<OIndex<?>> indexes, OAndBlock block, OClass clazz) {
     //get all valid index descriptors
     List<IndexSearchDescriptor> descriptors = indexes.stream().filter(x -> x.getInternal().canBeUsedInEqualityOperators())
-        .map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz)).filter(Objects::nonNull)
+        .filter(x -> isPartialIndexUsable(x, block)).map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz)).filter(Objects::nonNull)
         .filter(x -> x.keyCondition != null).filter(x -> x.keyCondition.getSubBlocks().size() > 0).collect(Collectors.toList());
 
     List<IndexSearchDescriptor> fullTextIndexDescriptors = indexes.stream().filter(
         idx -> idx.getType().equalsIgnoreCase("FULLTEXT") || idx.getType()
             .equalsIgnoreCase(OClass.INDEX_TYPE.FULLTEXT_HASH_INDEX.name()))
-        .filter(idx -> !idx.getAlgorithm().equalsIgnoreCase("LUCENE"))
+        .filter(idx -> !idx.getAlgorithm().equalsIgnoreCase("LUCENE")).filter(idx -> isPartialIndexUsable(idx, block))
         .map(idx -> buildIndexSearchDescriptorForFulltext(ctx, idx, block, clazz)).filter(Objects::nonNull)
         .filter(x -> x.keyCondition != null).filter(x -> x.keyCondition.getSubBlocks().size() > 0).collect(Collectors.toList());
 
@@ -10,6 +10,10 @@ import java.util.*;
 
 /**
  * Created by luigidellaquila on 11/07/16.
+ * <p>
+ * Sorts the results in heap. If the number of results exceeds {@link OGlobalConfiguration#QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP}
+ * and {@link OGlobalConfiguration#QUERY_ORDER_BY_SPILL_TO_DISK} is enabled, sorted runs are written to temporary files (see {@link
+ * OResultSpillFile}) and merged at read time; otherwise the query fails.
  */
 public class OrderByStep extends AbstractExecutionStep {
   private final OOrderBy orderBy;
@@ -20,6 +24,29 @@ public class OrderByStep extends AbstractExecutionStep {
   List<OResult> cachedResult = null;
   int           nextElement  = 0;
 
+  //external sort
+  private List<OResultSpillFile>  spilledRuns;
+  private PriorityQueue<SortedRun> mergeQueue;
+
+  private static class SortedRun {
+    private final Iterator<OResult> source;
+    private       OResult           head;
+
+    SortedRun(Iterator<OResult> source) {
+      this.source = source;
+      this.head = source.next();
+    }
+
+    boolean advance() {
+      if (source.hasNext()) {
+        head = source.next();
+        return true;
+      }
+      head = null;
+      return false;
+    }
+  }
+
   public OrderByStep(OOrderBy orderBy, OCommandContext ctx, boolean profilingEnabled) {
     this(orderBy, null, ctx, profilingEnabled);
   }
@@ -49,6 +76,9 @@ public class OrderByStep extends AbstractExecutionStep {
         if (currentBatchReturned >= nRecords) {
           return false;
         }
+        if (mergeQueue != null) {
+          return !mergeQueue.isEmpty();
+        }
         if (cachedResult.size() <= nextElement) {
           return false;
         }
@@ -62,6 +92,11 @@ public class OrderByStep extends AbstractExecutionStep {
           if (currentBatchReturned >= nRecords) {
             throw new IllegalStateException();
           }
+          if (mergeQueue != null) {
+            OResult result = nextMerged();
+            currentBatchReturned++;
+            return result;
+          }
           if (cachedResult.size() <= nextElement) {
             throw new IllegalStateException();
           }
@@ -95,6 +130,7 @@ public class OrderByStep extends AbstractExecutionStep {
 
   private void init(OExecutionStepInternal p, OCommandContext ctx) {
     final long maxElementsAllowed = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    final boolean spillToDisk = OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK.getValueAsBoolean() && maxResults == null;
     boolean sorted = true;
     do {
       OResultSet lastBatch = p.syncPull(ctx, 100);
@@ -109,8 +145,12 @@ public class OrderByStep extends AbstractExecutionStep {
         long begin = profilingEnabled ? System.nanoTime() : 0;
         try {
           cachedResult.add(item);
-          if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
+          if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size() && spillToDisk && canBeSpilled()) {
+            spill(ctx);
+            sorted = true;
+          } else if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
             this.cachedResult.clear();
+            closeSpilledRuns();
             throw new OCommandExecutionException("Limit of allowed elements for in-heap ORDER BY in a single query exceeded (" + maxElementsAllowed + ") . You can set "
                     + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey() + " to increase this limit");
           }
@@ -149,6 +189,9 @@ public class OrderByStep extends AbstractExecutionStep {
       if (!sorted) {
         cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
       }
+      if (spilledRuns != null) {
+        initMerge(ctx);
+      }
     } finally {
       if (profilingEnabled) {
         cost += (System.nanoTime() - begin);
@@ -157,6 +200,85 @@ public class OrderByStep extends AbstractExecutionStep {
 
   }
 
+  private boolean canBeSpilled() {
+    for (OResult item : cachedResult) {
+      if (!OResultSpillFile.canBeSpilled(item)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * sorts the buffered results and writes them to a temporary file as a new sorted run
+   */
+  private void spill(OCommandContext ctx) {
+    cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+    if (spilledRuns == null) {
+      spilledRuns = new ArrayList<>();
+    }
+    OResultSpillFile run = new OResultSpillFile("orderBy");
+    spilledRuns.add(run);
+    for (OResult item : cachedResult) {
+      run.write(item);
+    }
+    run.finishWriting();
+    cachedResult = new ArrayList<>();
+  }
+
+  /**
+   * prepares a k-way merge of the spilled runs and of the (already sorted) results still in heap
+   */
+  private void initMerge(OCommandContext ctx) {
+    mergeQueue = new PriorityQueue<>(spilledRuns.size() + 1, (a, b) -> orderBy.compare(a.head, b.head, ctx));
+    for (OResultSpillFile run : spilledRuns) {
+      Iterator<OResult> reader = run.read();
+      if (reader.hasNext()) {
+        mergeQueue.add(new SortedRun(reader));
+      }
+    }
+    if (!cachedResult.isEmpty()) {
+      mergeQueue.add(new SortedRun(cachedResult.iterator()));
+    }
+  }
+
+  private OResult nextMerged() {
+    SortedRun run = mergeQueue.poll();
+    if (run == null) {
+      throw new IllegalStateException();
+    }
+    OResult result = run.head;
+    if (run.advance()) {
+      mergeQueue.add(run);
+    } else if (run.source instanceof OResultSpillFile.Reader) {
+      ((OResultSpillFile.Reader) run.source).close();
+    }
+    return result;
+  }
+
+  private void closeSpilledRuns() {
+    if (mergeQueue != null) {
+      for (SortedRun run : mergeQueue) {
+        if (run.source instanceof OResultSpillFile.Reader) {
+          ((OResultSpillFile.Reader) run.source).close();
+        }
+      }
+      mergeQueue.clear();
+    }
+    if (spilledRuns != null) {
+      for (OResultSpillFile run : spilledRuns) {
+        run.close();
+      }
+      spilledRuns = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    closeSpilledRuns();
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = OExecutionStepInternal.getIndent(depth, indent) + "+ " + orderBy;
@@ -164,6 +286,7 @@ public class OrderByStep extends AbstractExecutionStep {
       result += " (" + getCostFormatted() + ")";
     }
     result += (maxResults != null ? "\n  (buffer size: " + maxResults + ")" : "");
+    result += (spilledRuns != null ? "\n  (sorted runs spilled to disk: " + spilledRuns.size() + ")" : "");
     return result;
   }
 
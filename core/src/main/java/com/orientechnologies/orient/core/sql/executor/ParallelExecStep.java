@@ -1,14 +1,38 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
+ * Executes a list of independent sub-plans (eg. one per cluster or per index lookup) and returns the union of their results.
+ * <p>
+ * When {@link OGlobalConfiguration#QUERY_PARALLEL_EXECUTION} is enabled, the sub-plans are pulled concurrently by a bounded number
+ * of worker threads, each one with its own copy of the database session, and the results are merged through a bounded queue of
+ * batches. Workers are started only on free threads of {@link Orient#trySubmitParallel(Runnable)}. Otherwise (and always inside a
+ * transaction) the sub-plans are executed one after the other on the caller thread.
+ *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
 public class ParallelExecStep extends AbstractExecutionStep {
@@ -17,6 +41,15 @@ public class ParallelExecStep extends AbstractExecutionStep {
   int current = 0;
   private OResultSet currentResultSet = null;
 
+  //parallel execution
+  private          Boolean                           runInParallel;
+  private          BlockingQueue<List<OResult>>      parallelQueue;
+  private          Iterator<OResult>                 currentBatch;
+  private final    AtomicInteger                     nextPlan       = new AtomicInteger();
+  private final    AtomicInteger                     runningWorkers = new AtomicInteger();
+  private final    AtomicReference<RuntimeException> workerError    = new AtomicReference<>();
+  private volatile boolean                           cancelled      = false;
+
   public ParallelExecStep(List<OInternalExecutionPlan> subExecuitonPlans, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
@@ -25,6 +58,12 @@ public class ParallelExecStep extends AbstractExecutionStep {
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (runInParallel == null) {
+      runInParallel = canRunInParallel(ctx) && startWorkers(ctx, nRecords);
+    }
+    if (runInParallel) {
+      return parallelPull(ctx, nRecords);
+    }
     return new OResultSet() {
       int localCount = 0;
 
@@ -87,6 +126,240 @@ public class ParallelExecStep extends AbstractExecutionStep {
     } while (!currentResultSet.hasNext());
   }
 
+  private boolean canRunInParallel(OCommandContext ctx) {
+    if (subExecutionPlans.size() < 2 || !OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean()
+        || getMaxWorkers() < 2) {
+      return false;
+    }
+    if (!(ctx.getDatabase() instanceof ODatabaseDocumentInternal)) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db.getTransaction().isActive()) {
+      //records created or changed in current tx are not visible from other sessions
+      return false;
+    }
+    for (OInternalExecutionPlan plan : subExecutionPlans) {
+      //each worker executes a copy of the sub-plan, bound to its own session
+      if (!plan.canBeCached()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int getMaxWorkers() {
+    return Math.min(subExecutionPlans.size(), OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger());
+  }
+
+  /**
+   * @return <code>false</code> if no worker could be started because all the threads of the pool are busy, in this case the
+   * sub-plans are executed on the caller thread
+   */
+  private boolean startWorkers(OCommandContext ctx, int batchSize) {
+    int nWorkers = getMaxWorkers();
+    int queueSize = Math.max(nWorkers, OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.getValueAsInteger() / Math.max(1, batchSize));
+    parallelQueue = new ArrayBlockingQueue<>(queueSize);
+
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    int started = 0;
+    try {
+      for (int i = 0; i < nWorkers; i++) {
+        //sessions are not thread safe, every worker needs its own copy. The copy has to be created on the caller thread
+        ODatabaseDocumentInternal workerDb = db.copy();
+        OBasicCommandContext workerCtx = new OBasicCommandContext();
+        workerCtx.setParentWithoutOverridingChild(ctx);
+        workerCtx.setInputParameters(ctx.getInputParameters());
+        workerCtx.setDatabase(workerDb);
+
+        runningWorkers.incrementAndGet();
+        Future<?> worker;
+        try {
+          //the pool does not queue tasks, so workers never wait for threads occupied by workers of other queries
+          worker = Orient.instance()
+              .trySubmitParallel(OQueryResultCache.trackReadClusters(() -> runWorker(workerDb, workerCtx, batchSize)));
+        } catch (RuntimeException e) {
+          runningWorkers.decrementAndGet();
+          workerDb.activateOnCurrentThread();
+          workerDb.close();
+          cancelWorkers();
+          throw e;
+        }
+        if (worker == null) {
+          runningWorkers.decrementAndGet();
+          workerDb.activateOnCurrentThread();
+          workerDb.close();
+          break;
+        }
+        started++;
+      }
+    } finally {
+      db.activateOnCurrentThread();
+    }
+    return started > 0;
+  }
+
+  private void runWorker(ODatabaseDocumentInternal workerDb, OCommandContext workerCtx, int batchSize) {
+    try {
+      workerDb.activateOnCurrentThread();
+      int planIndex;
+      while (!cancelled && (planIndex = nextPlan.getAndIncrement()) < subExecutionPlans.size()) {
+        OInternalExecutionPlan plan = subExecutionPlans.get(planIndex).copy(workerCtx);
+        try {
+          drain(plan, batchSize);
+        } finally {
+          plan.close();
+        }
+      }
+    } catch (RuntimeException e) {
+      workerError.compareAndSet(null, e);
+      cancelled = true;
+    } catch (InterruptedException e) {
+      cancelled = true;
+      Thread.currentThread().interrupt();
+    } catch (Throwable t) {
+      workerError.compareAndSet(null,
+          OException.wrapException(new OCommandExecutionException("Error on parallel execution of a query branch"), t));
+      cancelled = true;
+    } finally {
+      try {
+        workerDb.activateOnCurrentThread();
+        workerDb.close();
+      } finally {
+        ODatabaseRecordThreadLocal.instance().remove();
+        runningWorkers.decrementAndGet();
+      }
+    }
+  }
+
+  private void drain(OInternalExecutionPlan plan, int batchSize) throws InterruptedException {
+    while (!cancelled) {
+      OResultSet block = plan.fetchNext(batchSize);
+      List<OResult> batch = new ArrayList<>(batchSize);
+      while (block.hasNext()) {
+        batch.add(block.next());
+      }
+      block.close();
+      if (batch.isEmpty()) {
+        return;
+      }
+      //the queue is bounded: a slow consumer stops the workers here
+      while (!cancelled && !parallelQueue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+        //retry
+      }
+    }
+  }
+
+  private OResultSet parallelPull(OCommandContext ctx, int nRecords) {
+    return new OResultSet() {
+      int localCount = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (localCount >= nRecords) {
+          return false;
+        }
+        while (currentBatch == null || !currentBatch.hasNext()) {
+          List<OResult> batch = nextParallelBatch();
+          if (batch == null) {
+            currentBatch = null;
+            return false;
+          }
+          currentBatch = batch.iterator();
+        }
+        return true;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        localCount++;
+        return currentBatch.next();
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  /**
+   * @return the next batch produced by the workers, null if all the sub-plans are exhausted (or the execution was cancelled)
+   */
+  private List<OResult> nextParallelBatch() {
+    while (true) {
+      checkWorkerError();
+      if (timedOut || cancelled) {
+        return null;
+      }
+      if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
+        cancelWorkers();
+        throw new OCommandInterruptedException("The command has been interrupted");
+      }
+      //read the counter BEFORE polling: when it is zero, every batch is already in the queue
+      boolean finished = runningWorkers.get() == 0;
+      List<OResult> batch;
+      try {
+        batch = finished ? parallelQueue.poll() : parallelQueue.poll(100, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        cancelWorkers();
+        Thread.currentThread().interrupt();
+        throw new OCommandInterruptedException("The command has been interrupted");
+      }
+      if (batch != null) {
+        return batch;
+      }
+      if (finished) {
+        checkWorkerError();
+        return null;
+      }
+    }
+  }
+
+  private void checkWorkerError() {
+    RuntimeException error = workerError.get();
+    if (error != null) {
+      cancelWorkers();
+      throw error;
+    }
+  }
+
+  /**
+   * stops the workers at the next batch boundary. Worker threads are not interrupted on purpose: an interrupt during a file read
+   * would close the storage channels.
+   */
+  private void cancelWorkers() {
+    cancelled = true;
+    if (parallelQueue != null) {
+      parallelQueue.clear();
+    }
+  }
+
+  @Override
+  public void sendTimeout() {
+    cancelWorkers();
+    super.sendTimeout();
+  }
+
+  @Override
+  public void close() {
+    cancelWorkers();
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = "";
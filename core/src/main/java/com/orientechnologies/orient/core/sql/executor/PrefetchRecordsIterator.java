@@ -0,0 +1,88 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.id.OContextualRecordId;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Iterates over items of a collection of links and loads records which are referenced by identities in batches by {@link
+ * ODatabaseDocumentInternal#loadRecords(List)}, so neighbour records which share the same page are read from the storage together.
+ * Identities of loaded records are replaced by the records, other items (records, results, identities of records which do not
+ * exist) are returned as is.
+ */
+public class PrefetchRecordsIterator implements Iterator<Object> {
+  /**
+   * Amount of records which are loaded from the storage at once.
+   */
+  private static final int BATCH_SIZE = 100;
+
+  private final Iterator<?>               items;
+  private final ODatabaseDocumentInternal database;
+  private final Predicate<ORID>           loadRecord;
+
+  private Iterator<Object> batch = Collections.emptyIterator();
+
+  /**
+   * @param loadRecord checks whether record has to be loaded, identities of records which are skipped by the caller (for example
+   *                   already traversed ones) are returned as is
+   */
+  public PrefetchRecordsIterator(Iterator<?> items, ODatabaseDocumentInternal database, Predicate<ORID> loadRecord) {
+    this.items = items;
+    this.database = database;
+    this.loadRecord = loadRecord;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return batch.hasNext() || items.hasNext();
+  }
+
+  @Override
+  public Object next() {
+    if (!batch.hasNext()) {
+      if (!items.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      batch = loadBatch();
+    }
+    return batch.next();
+  }
+
+  private Iterator<Object> loadBatch() {
+    final List<Object> result = new ArrayList<>(BATCH_SIZE);
+    final List<Integer> positions = new ArrayList<>();
+    final List<ORecordId> rids = new ArrayList<>();
+
+    while (result.size() < BATCH_SIZE && items.hasNext()) {
+      final Object item = items.next();
+      // contextual identities carry metadata of the result, so they are loaded by the caller
+      if (item instanceof ORecordId && !(item instanceof OContextualRecordId) && ((ORecordId) item).isPersistent() && loadRecord
+          .test((ORecordId) item)) {
+        positions.add(result.size());
+        rids.add((ORecordId) item);
+      }
+      result.add(item);
+    }
+
+    if (rids.size() > 1) {
+      final List<ORecord> records = database.loadRecords(rids);
+      for (int i = 0; i < records.size(); i++) {
+        final ORecord record = records.get(i);
+        if (record != null) {
+          result.set(positions.get(i), record);
+        }
+      }
+    }
+
+    return result.iterator();
+  }
+}
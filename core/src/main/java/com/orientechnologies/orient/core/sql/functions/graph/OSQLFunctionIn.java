@@ -6,6 +6,7 @@ import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexFilter;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.record.OEdge;
@@ -73,7 +74,17 @@ public class OSQLFunctionIn extends OSQLFunctionMoveFiltered {
     if (indexes == null || indexes.size() == 0) {
       return null;
     }
-    OIndex index = indexes.iterator().next();
+    OIndex index = null;
+    for (OIndex<?> candidate : indexes) {
+      //partial indexes do not contain all the edges
+      if (OIndexFilter.of(candidate) == null) {
+        index = candidate;
+        break;
+      }
+    }
+    if (index == null) {
+      return null;
+    }
 
     OMultiCollectionIterator<OVertex> result = new OMultiCollectionIterator<OVertex>();
     for (OIdentifiable to : iTo) {
@@ -76,6 +76,16 @@ public class OSQLFunctionAverage extends OSQLFunctionMathAbstract {
     }
   }
 
+  /**
+   * Merges in this function the partial sum and count calculated by another instance, on a disjoint set of values.
+   */
+  public void merge(final OSQLFunctionAverage partial) {
+    if (partial.sum != null) {
+      sum = sum == null ? partial.sum : OType.increment(sum, partial.sum);
+      total += partial.total;
+    }
+  }
+
   public String getSyntax() {
     return "avg(<field> [,<field>*])";
   }
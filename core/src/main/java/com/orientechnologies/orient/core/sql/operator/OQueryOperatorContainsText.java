@@ -31,6 +31,7 @@ import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.index.OIndexCursorCollectionValue;
 import com.orientechnologies.orient.core.index.OIndexCursorSingleValue;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexFilter;
 import com.orientechnologies.orient.core.index.OIndexFullText;
 import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
@@ -102,7 +103,7 @@ public class OQueryOperatorContainsText extends OQueryTargetOperator {
 
     OIndex<?> fullTextIndex = null;
     for (final OIndex<?> indexDefinition : prop.getIndexes()) {
-      if (indexDefinition instanceof OIndexFullText) {
+      if (indexDefinition instanceof OIndexFullText && OIndexFilter.of(indexDefinition) == null) {
         fullTextIndex = indexDefinition;
         break;
       }
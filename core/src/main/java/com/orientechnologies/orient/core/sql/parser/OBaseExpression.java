@@ -225,6 +225,11 @@ public class OBaseExpression extends OMathExpression {
     return identifier != null && modifier == null && identifier.isBaseIdentifier();
   }
 
+  @Override
+  public boolean isConstant() {
+    return (number != null || inputParam != null || string != null) && modifier == null;
+  }
+
   @Override
   public OCollate getCollate(OResult currentRecord, OCommandContext ctx) {
     return identifier != null && modifier == null ? identifier.getCollate(currentRecord, ctx) : null;
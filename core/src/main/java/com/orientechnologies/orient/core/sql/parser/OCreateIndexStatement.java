@@ -25,10 +25,12 @@ public class OCreateIndexStatement extends ODDLStatement {
   protected OIndexName        name;
   protected OIdentifier       className;
   protected List<Property>    propertyList = new ArrayList<Property>();
+  protected List<OIdentifier> includeList  = new ArrayList<OIdentifier>();
   protected OIdentifier       type;
   protected OIdentifier       engine;
   protected List<OIdentifier> keyTypes     = new ArrayList<OIdentifier>();
   protected OJson             metadata;
+  protected OWhereClause      whereClause;
   protected boolean           ifNotExists  = false;
 
   public OCreateIndexStatement(int id) {
@@ -67,6 +69,17 @@ public class OCreateIndexStatement extends ODDLStatement {
     List<OCollate> collatesList = calculateCollates(ctx);
     String engine = this.engine == null ? null : this.engine.getStringValue().toUpperCase(Locale.ENGLISH);
     ODocument metadataDoc = calculateMetadata(ctx);
+    if (whereClause != null) {
+      if (propertyList == null || propertyList.size() == 0) {
+        throw new OCommandExecutionException("Only indexes on class properties can have WHERE condition: " + toString());
+      }
+      if (metadataDoc == null) {
+        metadataDoc = new ODocument();
+      }
+      StringBuilder filter = new StringBuilder();
+      whereClause.toString(ctx.getInputParameters(), filter);
+      metadataDoc.field(OIndexFilter.METADATA_FIELD, filter.toString());
+    }
 
     if (propertyList == null || propertyList.size() == 0) {
       OIndexFactory factory = OIndexes.getFactory(type.getStringValue(), null);
@@ -107,6 +120,12 @@ public class OCreateIndexStatement extends ODDLStatement {
     } else {
       String[] fields = calculateProperties(ctx);
       OClass oClass = getIndexClass(ctx);
+      if (includeList != null && includeList.size() > 0) {
+        fields = appendIncludedFields(fields);
+        if (collatesList != null) {
+          collatesList.addAll(Collections.nCopies(includeList.size(), null));
+        }
+      }
       idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc);
     }
 
@@ -158,6 +177,26 @@ public class OCreateIndexStatement extends ODDLStatement {
     return propertyList.stream().map(x -> x.getCompleteKey()).collect(Collectors.toList()).toArray(new String[] {});
   }
 
+  /**
+   * Included fields are stored as the last items of the index key, so queries which use only the fields of the index key can be
+   * answered without loading of records. The fields are part of the key, so they can not be used in the indexes which check
+   * uniqueness of the key.
+   */
+  private String[] appendIncludedFields(String[] fields) {
+    if (!OClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(type.getStringValue())) {
+      throw new OCommandExecutionException(
+          "INCLUDE is supported only by " + OClass.INDEX_TYPE.NOTUNIQUE + " indexes, index type is " + type.getStringValue());
+    }
+    List<String> result = new ArrayList<>(Arrays.asList(fields));
+    for (OIdentifier included : includeList) {
+      if (result.contains(included.getStringValue())) {
+        throw new OCommandExecutionException("Field " + included.getStringValue() + " is already part of the index key");
+      }
+      result.add(included.getStringValue());
+    }
+    return result.toArray(new String[] {});
+  }
+
   /**
    * calculates the indexed class based on the class name
    */
@@ -238,6 +277,18 @@ public class OCreateIndexStatement extends ODDLStatement {
         first = false;
       }
       builder.append(")");
+      if (includeList != null && includeList.size() > 0) {
+        builder.append(" INCLUDE (");
+        first = true;
+        for (OIdentifier included : includeList) {
+          if (!first) {
+            builder.append(", ");
+          }
+          included.toString(params, builder);
+          first = false;
+        }
+        builder.append(")");
+      }
     }
     builder.append(" ");
     type.toString(params, builder);
@@ -260,6 +311,10 @@ public class OCreateIndexStatement extends ODDLStatement {
       builder.append(" METADATA ");
       metadata.toString(params, builder);
     }
+    if (whereClause != null) {
+      builder.append(" WHERE ");
+      whereClause.toString(params, builder);
+    }
   }
 
   @Override
@@ -268,10 +323,12 @@ public class OCreateIndexStatement extends ODDLStatement {
     result.name = name == null ? null : name.copy();
     result.className = className == null ? null : className.copy();
     result.propertyList = propertyList == null ? null : propertyList.stream().map(x -> x.copy()).collect(Collectors.toList());
+    result.includeList = includeList == null ? null : includeList.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.type = type == null ? null : type.copy();
     result.engine = engine == null ? null : engine.copy();
     result.keyTypes = keyTypes == null ? null : keyTypes.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.metadata = metadata == null ? null : metadata.copy();
+    result.whereClause = whereClause == null ? null : whereClause.copy();
     return result;
   }
 
@@ -290,12 +347,16 @@ public class OCreateIndexStatement extends ODDLStatement {
       return false;
     if (propertyList != null ? !propertyList.equals(that.propertyList) : that.propertyList != null)
       return false;
+    if (includeList != null ? !includeList.equals(that.includeList) : that.includeList != null)
+      return false;
     if (type != null ? !type.equals(that.type) : that.type != null)
       return false;
     if (engine != null ? !engine.equals(that.engine) : that.engine != null)
       return false;
     if (keyTypes != null ? !keyTypes.equals(that.keyTypes) : that.keyTypes != null)
       return false;
+    if (whereClause != null ? !whereClause.equals(that.whereClause) : that.whereClause != null)
+      return false;
     return metadata != null ? metadata.equals(that.metadata) : that.metadata == null;
   }
 
@@ -304,10 +365,12 @@ public class OCreateIndexStatement extends ODDLStatement {
     int result = name != null ? name.hashCode() : 0;
     result = 31 * result + (className != null ? className.hashCode() : 0);
     result = 31 * result + (propertyList != null ? propertyList.hashCode() : 0);
+    result = 31 * result + (includeList != null ? includeList.hashCode() : 0);
     result = 31 * result + (type != null ? type.hashCode() : 0);
     result = 31 * result + (engine != null ? engine.hashCode() : 0);
     result = 31 * result + (keyTypes != null ? keyTypes.hashCode() : 0);
     result = 31 * result + (metadata != null ? metadata.hashCode() : 0);
+    result = 31 * result + (whereClause != null ? whereClause.hashCode() : 0);
     return result;
   }
 
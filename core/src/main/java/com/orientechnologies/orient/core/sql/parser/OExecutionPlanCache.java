@@ -1,44 +1,102 @@
 package com.orientechnologies.orient.core.sql.parser;
 
+import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageEntryConfiguration;
 import com.orientechnologies.orient.core.config.OStorageConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.OMetadataUpdateListener;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
 import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OExecutionStepInternal;
 import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 /**
  * This class is an LRU cache for already prepared SQL execution plans. It stores itself in the storage as a resource. It also acts
  * an an entry point for the SQL executor.
+ * <p>
+ * Each plan is tagged with the classes and the indexes it was planned on (see {@link OExecutionStepInternal#collectDependencies(Set,
+ * Set)}), together with a signature of their definition. A schema or index change only removes the plans whose signatures do not
+ * match anymore; plans without known dependencies are removed on any metadata change. Lookups do not take any lock, the LRU order
+ * is approximated with an access counter.
  *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
-public class OExecutionPlanCache implements OMetadataUpdateListener {
+public class OExecutionPlanCache implements OMetadataUpdateListener, OExecutionPlanCacheMXBean {
 
-  Map<String, OInternalExecutionPlan> map;
-  int                                 mapSize;
+  private static final String MBEAN_PREFIX = "com.orientechnologies.orient.core.sql.parser:type=OExecutionPlanCacheMXBean";
 
-  protected long lastInvalidation = -1;
+  Map<String, CachedPlan> map = new ConcurrentHashMap<>();
+  int                     mapSize;
+
+  protected volatile long lastInvalidation = -1;
+
+  private final AtomicLong accessCounter = new AtomicLong();
+  private final LongAdder  hits          = new LongAdder();
+  private final LongAdder  misses        = new LongAdder();
+  private final LongAdder  evictions     = new LongAdder();
+  private final LongAdder  invalidations = new LongAdder();
+
+  private ObjectName mbeanName;
+
+  /**
+   * signature of the storage settings used in planning, see {@link #configurationSignature(OStorageConfiguration)}
+   */
+  private volatile String storageConfigurationSignature;
+
+  /**
+   * An execution plan in the cache, with the signatures of the metadata it depends on
+   */
+  static class CachedPlan {
+    final OInternalExecutionPlan plan;
+    /**
+     * class name (lower case) -> signature of the class definition
+     */
+    final Map<String, String>    classes;
+    /**
+     * class name (lower case) -> signature of the indexes defined on the class
+     */
+    final Map<String, String>    classIndexes;
+    /**
+     * index name -> signature of the index definition
+     */
+    final Map<String, String>    indexes;
+    final boolean                dependsOnAll;
+    volatile long lastAccess;
+
+    CachedPlan(OInternalExecutionPlan plan, Map<String, String> classes, Map<String, String> classIndexes,
+        Map<String, String> indexes, boolean dependsOnAll) {
+      this.plan = plan;
+      this.classes = classes;
+      this.classIndexes = classIndexes;
+      this.indexes = indexes;
+      this.dependsOnAll = dependsOnAll;
+    }
+  }
 
   /**
    * @param size the size of the cache
    */
   public OExecutionPlanCache(int size) {
     this.mapSize = size;
-    map = new LinkedHashMap<String, OInternalExecutionPlan>(size) {
-      protected boolean removeEldestEntry(final Map.Entry<String, OInternalExecutionPlan> eldest) {
-        return super.size() > mapSize;
-      }
-    };
   }
 
   public static long getLastInvalidation(ODatabaseDocumentInternal db) {
@@ -47,9 +105,7 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     }
 
     OExecutionPlanCache resource = db.getSharedContext().getExecutionPlanCache();
-    synchronized (resource) {
-      return resource.lastInvalidation;
-    }
+    return resource.lastInvalidation;
   }
 
   /**
@@ -61,9 +117,7 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     if (OGlobalConfiguration.STATEMENT_CACHE_SIZE.getValueAsInteger() == 0) {
       return false;
     }
-    synchronized (map) {
-      return map.containsKey(statement);
-    }
+    return map.containsKey(statement);
   }
 
   /**
@@ -109,14 +163,33 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
       return;
     }
 
-    synchronized (map) {
-      OInternalExecutionPlan internal = (OInternalExecutionPlan) plan;
-      OBasicCommandContext ctx = new OBasicCommandContext();
-      ctx.setDatabase(db);
-      internal = internal.copy(ctx);
-      //this copy is never used, so it has to be closed to free resources
-      internal.close();
-      map.put(statement, internal);
+    Set<String> classNames = new HashSet<>();
+    Set<String> indexNames = new HashSet<>();
+    OExecutionStepInternal.collectDependencies(plan.getSteps(), classNames, indexNames);
+    classNames.remove(null);
+    indexNames.remove(null);
+
+    OInternalExecutionPlan internal = (OInternalExecutionPlan) plan;
+    OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(db);
+    internal = internal.copy(ctx);
+    //this copy is never used, so it has to be closed to free resources
+    internal.close();
+
+    CachedPlan entry;
+    if ((classNames.isEmpty() && indexNames.isEmpty()) || !(db instanceof ODatabaseDocumentInternal)) {
+      entry = new CachedPlan(internal, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), true);
+    } else {
+      entry = createEntry(internal, classNames, indexNames, ((ODatabaseDocumentInternal) db).getSharedContext().getSchema(),
+          ((ODatabaseDocumentInternal) db).getSharedContext().getIndexManager());
+    }
+    entry.lastAccess = accessCounter.incrementAndGet();
+
+    synchronized (this) {
+      map.put(statement, entry);
+      while (map.size() > mapSize && evictEldest()) {
+        evictions.increment();
+      }
     }
   }
 
@@ -127,23 +200,21 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
    * @return the corresponding executor, taking it from the internal cache, if it exists
    */
   public OExecutionPlan getInternal(String statement, OCommandContext ctx, ODatabaseDocumentInternal db) {
-    OInternalExecutionPlan result;
     if (statement == null) {
       return null;
     }
     if (OGlobalConfiguration.STATEMENT_CACHE_SIZE.getValueAsInteger() == 0) {
       return null;
     }
-    synchronized (map) {
-      //LRU
-      result = map.remove(statement);
-      if (result != null) {
-        map.put(statement, result);
-        result = result.copy(ctx);
-      }
+    CachedPlan entry = map.get(statement);
+    if (entry == null) {
+      misses.increment();
+      return null;
     }
-
-    return result;
+    hits.increment();
+    //LRU
+    entry.lastAccess = accessCounter.incrementAndGet();
+    return entry.plan.copy(ctx);
   }
 
   public void invalidate() {
@@ -153,36 +224,67 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     }
 
     synchronized (this) {
-      synchronized (map) {
-        map.clear();
-      }
+      invalidations.add(map.size());
+      map.clear();
       lastInvalidation = System.currentTimeMillis();
     }
   }
 
   @Override
   public void onSchemaUpdate(String database, OSchemaShared schema) {
-    invalidate();
+    invalidateIf(entry -> {
+      for (Map.Entry<String, String> clazz : entry.classes.entrySet()) {
+        if (!clazz.getValue().equals(classSignature(schema, clazz.getKey()))) {
+          return true;
+        }
+      }
+      return false;
+    });
   }
 
   @Override
   public void onIndexManagerUpdate(String database, OIndexManagerAbstract indexManager) {
-    invalidate();
+    invalidateIf(entry -> {
+      for (Map.Entry<String, String> clazz : entry.classIndexes.entrySet()) {
+        if (!clazz.getValue().equals(classIndexesSignature(indexManager, clazz.getKey()))) {
+          return true;
+        }
+      }
+      for (Map.Entry<String, String> index : entry.indexes.entrySet()) {
+        if (!index.getValue().equals(indexSignature(indexManager.getRawIndex(index.getKey())))) {
+          return true;
+        }
+      }
+      return false;
+    });
   }
 
+  /**
+   * functions and sequences are resolved when the plan is executed, so only the plans without known dependencies are removed
+   */
   @Override
   public void onFunctionLibraryUpdate(String database) {
-    invalidate();
+    invalidateIf(entry -> false);
   }
 
   @Override
   public void onSequenceLibraryUpdate(String database) {
-    invalidate();
+    invalidateIf(entry -> false);
   }
 
+  /**
+   * clusters and index engines are stored in the storage configuration too, but their changes reach plans through the schema and
+   * the index manager, so the whole cache is removed only when the other settings change
+   */
   @Override
   public void onStorageConfigurationUpdate(String database, OStorageConfiguration update) {
-    invalidate();
+    String signature = configurationSignature(update);
+    if (!signature.equals(storageConfigurationSignature)) {
+      storageConfigurationSignature = signature;
+      invalidate();
+    } else {
+      invalidateIf(entry -> false);
+    }
   }
 
   public static OExecutionPlanCache instance(ODatabaseDocumentTx db) {
@@ -193,4 +295,211 @@ public class OExecutionPlanCache implements OMetadataUpdateListener {
     OExecutionPlanCache resource = db.getSharedContext().getExecutionPlanCache();
     return resource;
   }
+
+  /**
+   * Registers the JMX bean that exposes the statistics of this cache
+   *
+   * @param storageName the name of the storage that owns this cache
+   */
+  public synchronized void registerMBean(String storageName) {
+    if (mbeanName != null) {
+      return;
+    }
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = new ObjectName(MBEAN_PREFIX + ",name=" + ObjectName.quote(storageName));
+      if (!server.isRegistered(name)) {
+        server.registerMBean(this, name);
+        mbeanName = name;
+      } else {
+        OLogManager.instance().debug(this, "MBean with name %s is already registered", name.getCanonicalName());
+      }
+    } catch (Exception e) {
+      OLogManager.instance().warn(this, "Error during registration of execution plan cache MBean", e);
+    }
+  }
+
+  /**
+   * Deregisters the JMX bean registered with {@link #registerMBean(String)}
+   */
+  public synchronized void unregisterMBean() {
+    if (mbeanName == null) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+    } catch (Exception e) {
+      OLogManager.instance().warn(this, "Error during unregistration of execution plan cache MBean", e);
+    } finally {
+      mbeanName = null;
+    }
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  @Override
+  public long getInvalidations() {
+    return invalidations.sum();
+  }
+
+  @Override
+  public int getSize() {
+    return map.size();
+  }
+
+  @Override
+  public int getMaxSize() {
+    return mapSize;
+  }
+
+  /**
+   * removes the plans that match the condition, and all the plans without known dependencies
+   */
+  private void invalidateIf(Predicate<CachedPlan> condition) {
+    if (OGlobalConfiguration.STATEMENT_CACHE_SIZE.getValueAsInteger() == 0) {
+      lastInvalidation = System.currentTimeMillis();
+      return;
+    }
+
+    synchronized (this) {
+      Iterator<CachedPlan> iterator = map.values().iterator();
+      try {
+        while (iterator.hasNext()) {
+          CachedPlan entry = iterator.next();
+          if (entry.dependsOnAll || condition.test(entry)) {
+            iterator.remove();
+            invalidations.increment();
+          }
+        }
+      } catch (RuntimeException e) {
+        OLogManager.instance().debug(this, "Cannot check execution plan dependencies, the whole cache is invalidated", e);
+        invalidations.add(map.size());
+        map.clear();
+      }
+      lastInvalidation = System.currentTimeMillis();
+    }
+  }
+
+  private boolean evictEldest() {
+    String eldest = null;
+    long eldestAccess = Long.MAX_VALUE;
+    for (Map.Entry<String, CachedPlan> entry : map.entrySet()) {
+      if (entry.getValue().lastAccess < eldestAccess) {
+        eldestAccess = entry.getValue().lastAccess;
+        eldest = entry.getKey();
+      }
+    }
+    return eldest != null && map.remove(eldest) != null;
+  }
+
+  private static CachedPlan createEntry(OInternalExecutionPlan plan, Set<String> classNames, Set<String> indexNames,
+      OSchemaShared schema, OIndexManagerAbstract indexManager) {
+    Map<String, String> classes = new HashMap<>();
+    for (String className : classNames) {
+      addClassWithSuperclasses(schema, className, classes);
+    }
+
+    Map<String, String> classIndexes = new HashMap<>();
+    for (String className : classes.keySet()) {
+      classIndexes.put(className, classIndexesSignature(indexManager, className));
+    }
+
+    Map<String, String> indexes = new HashMap<>();
+    for (String indexName : indexNames) {
+      indexes.put(indexName, indexSignature(indexManager.getRawIndex(indexName)));
+    }
+    return new CachedPlan(plan, classes, classIndexes, indexes, false);
+  }
+
+  /**
+   * the indexes and the properties of the superclasses are used by the planner as well, so they are dependencies too
+   */
+  private static void addClassWithSuperclasses(OSchemaShared schema, String className, Map<String, String> classes) {
+    String key = className.toLowerCase(Locale.ENGLISH);
+    if (classes.containsKey(key)) {
+      return;
+    }
+    classes.put(key, classSignature(schema, key));
+    OClass clazz = getClass(schema, key);
+    if (clazz != null) {
+      for (OClass superClass : clazz.getSuperClasses()) {
+        addClassWithSuperclasses(schema, superClass.getName(), classes);
+      }
+    }
+  }
+
+  private static OClass getClass(OSchemaShared schema, String className) {
+    OClass clazz = schema.getClass(className);
+    if (clazz == null) {
+      clazz = schema.getView(className);
+    }
+    return clazz;
+  }
+
+  private static String classSignature(OSchemaShared schema, String className) {
+    OClass clazz = getClass(schema, className);
+    if (clazz == null) {
+      return "";
+    }
+    StringBuilder builder = new StringBuilder();
+    builder.append(clazz.getName()).append('|').append(clazz.isAbstract()).append('|').append(clazz.isStrictMode()).append('|');
+    builder.append(clazz.getSuperClassesNames()).append('|').append(Arrays.toString(clazz.getPolymorphicClusterIds()));
+    Set<String> properties = new TreeSet<>();
+    for (OProperty property : clazz.declaredProperties()) {
+      properties.add(property.getName() + ":" + property.getType() + ":" + property.getLinkedType() + ":" + (
+          property.getLinkedClass() == null ? null : property.getLinkedClass().getName()));
+    }
+    builder.append('|').append(properties);
+    return builder.toString();
+  }
+
+  private static String configurationSignature(OStorageConfiguration configuration) {
+    StringBuilder builder = new StringBuilder();
+    builder.append(configuration.getTimeZone() == null ? null : configuration.getTimeZone().getID()).append('|');
+    builder.append(configuration.getDateFormat()).append('|').append(configuration.getDateTimeFormat()).append('|');
+    builder.append(configuration.getLocaleLanguage()).append('|').append(configuration.getLocaleCountry()).append('|');
+    builder.append(configuration.getCharset()).append('|').append(configuration.isStrictSql()).append('|');
+    builder.append(configuration.getClusterSelection()).append('|').append(configuration.getConflictStrategy()).append('|');
+    builder.append(configuration.isValidationEnabled());
+    List<OStorageEntryConfiguration> properties = configuration.getProperties();
+    if (properties != null) {
+      for (OStorageEntryConfiguration property : properties) {
+        builder.append('|').append(property.name).append('=').append(property.value);
+      }
+    }
+    return builder.toString();
+  }
+
+  private static String classIndexesSignature(OIndexManagerAbstract indexManager, String className) {
+    List<OIndex<?>> classIndexes = new ArrayList<>();
+    indexManager.getClassRawIndexes(className, classIndexes);
+    Set<String> signatures = new TreeSet<>();
+    for (OIndex<?> index : classIndexes) {
+      signatures.add(indexSignature(index));
+    }
+    return signatures.toString();
+  }
+
+  private static String indexSignature(OIndex<?> index) {
+    if (index == null) {
+      return "";
+    }
+    OIndexDefinition definition = index.getDefinition();
+    return index.getName() + ":" + index.getType() + ":" + index.getAlgorithm() + ":" + (definition == null ?
+        null :
+        definition.getClassName() + definition.getFields() + definition.isNullValuesIgnored());
+  }
 }
@@ -0,0 +1,37 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+/**
+ * JMX view of the {@link OExecutionPlanCache} of a database.
+ */
+public interface OExecutionPlanCacheMXBean {
+
+  /**
+   * @return the number of lookups that found an execution plan in the cache
+   */
+  long getHits();
+
+  /**
+   * @return the number of lookups that did not find an execution plan in the cache
+   */
+  long getMisses();
+
+  /**
+   * @return the number of execution plans removed to keep the cache within its size
+   */
+  long getEvictions();
+
+  /**
+   * @return the number of execution plans removed because a class, an index or the configuration they depend on has changed
+   */
+  long getInvalidations();
+
+  /**
+   * @return the number of execution plans currently in the cache
+   */
+  int getSize();
+
+  /**
+   * @return the maximum number of execution plans kept in the cache
+   */
+  int getMaxSize();
+}
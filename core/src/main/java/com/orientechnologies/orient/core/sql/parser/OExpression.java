@@ -152,6 +152,17 @@ public class OExpression extends SimpleNode {
     return false;
   }
 
+  /**
+   * @return <code>true</code> if the expression is a literal or an input parameter, so its value depends neither on the current
+   * record nor on the moment of evaluation
+   */
+  public boolean isConstant() {
+    if (booleanValue != null) {
+      return true;
+    }
+    return mathExpression != null && mathExpression.isConstant();
+  }
+
   public boolean isEarlyCalculated(OCommandContext ctx) {
     if (this.mathExpression != null) {
       return this.mathExpression.isEarlyCalculated(ctx);
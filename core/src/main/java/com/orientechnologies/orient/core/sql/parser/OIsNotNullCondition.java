@@ -39,6 +39,10 @@ public class OIsNotNullCondition extends OBooleanExpression {
     return expression.execute(currentRecord, ctx) != null;
   }
 
+  public OExpression getExpression() {
+    return expression;
+  }
+
   public void toString(Map<Object, Object> params, StringBuilder builder) {
     expression.toString(params, builder);
     builder.append(" IS NOT NULL");
@@ -880,6 +880,13 @@ public class OMathExpression extends SimpleNode {
     return false;
   }
 
+  public boolean isConstant() {
+    if (childExpressions.size() == 1) {
+      return childExpressions.get(0).isConstant();
+    }
+    return false;
+  }
+
   public OCollate getCollate(OResult currentRecord, OCommandContext ctx) {
     if (childExpressions.size() == 1)
       return childExpressions.get(0).getCollate(currentRecord, ctx);
@@ -13,6 +13,8 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.OCluster;
+import com.orientechnologies.orient.core.storage.OStorage;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -42,6 +44,11 @@ public class OOptimizeDatabaseStatement extends OSimpleExecStatement {
       result.setProperty("optimizeEdges", edges);
     }
 
+    if (isCompactClusters()) {
+      String clusters = compactClusters();
+      result.setProperty("compactClusters", clusters);
+    }
+
     OInternalResultSet rs = new OInternalResultSet();
     rs.add(result);
     return rs;
@@ -163,6 +170,39 @@ public class OOptimizeDatabaseStatement extends OSimpleExecStatement {
     }
   }
 
+  private String compactClusters() {
+    final ODatabaseDocumentInternal db = getDatabase();
+    final OStorage storage = db.getStorage().getUnderlying();
+
+    long releasedBytes = 0;
+    int compactedClusters = 0;
+    for (OCluster cluster : storage.getClusterInstances()) {
+      if (Thread.currentThread().isInterrupted())
+        break;
+
+      if (cluster == null)
+        continue;
+
+      final long clusterReleasedBytes = storage.compactCluster(cluster.getId());
+      releasedBytes += clusterReleasedBytes;
+      compactedClusters++;
+
+      if (verbose())
+        OLogManager.instance().info(this, "Compacted cluster '%s', released %,d bytes", cluster.getName(), clusterReleasedBytes);
+    }
+
+    return "Compacted " + compactedClusters + " clusters, released " + releasedBytes + " bytes";
+  }
+
+  private boolean isCompactClusters() {
+    for (OCommandLineOption option : options) {
+      if (option.name.getStringValue().equalsIgnoreCase("COMPACTCLUSTERS")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean isOptimizeEdges() {
     for (OCommandLineOption option : options) {
       if (option.name.getStringValue().equalsIgnoreCase("LWEDGES")) {
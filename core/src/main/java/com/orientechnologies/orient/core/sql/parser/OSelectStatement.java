@@ -9,6 +9,7 @@ package com.orientechnologies.orient.core.sql.parser;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
 import com.orientechnologies.orient.core.sql.executor.*;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -46,6 +47,8 @@ public class OSelectStatement extends OStatement {
 
   protected Boolean noCache;
 
+  protected Boolean cache;
+
   public OSelectStatement(int id) {
     super(id);
   }
@@ -213,6 +216,10 @@ public class OSelectStatement extends OStatement {
     if (Boolean.TRUE.equals(noCache)) {
       builder.append(" NOCACHE");
     }
+
+    if (Boolean.TRUE.equals(cache)) {
+      builder.append(" CACHE");
+    }
   }
 
   public void validate() throws OCommandSQLParsingException {
@@ -262,6 +269,9 @@ public class OSelectStatement extends OStatement {
       }
     }
     ctx.setInputParameters(params);
+    if (Boolean.TRUE.equals(cache)) {
+      return executeCached(params, ctx, usePlanCache);
+    }
     OInternalExecutionPlan executionPlan;
     if(usePlanCache) {
       executionPlan = createExecutionPlan(ctx, false);
@@ -281,6 +291,9 @@ public class OSelectStatement extends OStatement {
     }
     ctx.setDatabase(db);
     ctx.setInputParameters(params);
+    if (Boolean.TRUE.equals(cache)) {
+      return executeCached(params, ctx, usePlanCache);
+    }
     OInternalExecutionPlan executionPlan;
     if(usePlanCache) {
       executionPlan = createExecutionPlan(ctx, false);
@@ -292,6 +305,13 @@ public class OSelectStatement extends OStatement {
     return result;
   }
 
+  private OResultSet executeCached(Map<Object, Object> params, OCommandContext ctx, boolean usePlanCache) {
+    String statement = originalStatement != null ? originalStatement : toString();
+    OQueryResultCache resultCache = ((ODatabaseDocumentInternal) ctx.getDatabase()).getSharedContext().getQueryResultCache();
+    return resultCache.execute(statement, params, ctx,
+        () -> usePlanCache ? createExecutionPlan(ctx, false) : createExecutionPlanNoCache(ctx, false));
+  }
+
   public OInternalExecutionPlan createExecutionPlan(OCommandContext ctx, boolean enableProfiling) {
     OSelectExecutionPlanner planner = new OSelectExecutionPlanner(this);
     OInternalExecutionPlan result = planner.createExecutionPlan(ctx, enableProfiling, true);
@@ -329,6 +349,7 @@ public class OSelectStatement extends OStatement {
     result.timeout = timeout == null ? null : timeout.copy();
     result.parallel = parallel;
     result.noCache = noCache;
+    result.cache = cache;
 
     return result;
   }
@@ -370,6 +391,8 @@ public class OSelectStatement extends OStatement {
       return false;
     if (noCache != null ? !noCache.equals(that.noCache) : that.noCache != null)
       return false;
+    if (cache != null ? !cache.equals(that.cache) : that.cache != null)
+      return false;
 
     return true;
   }
@@ -390,6 +413,7 @@ public class OSelectStatement extends OStatement {
     result = 31 * result + (timeout != null ? timeout.hashCode() : 0);
     result = 31 * result + (parallel != null ? parallel.hashCode() : 0);
     result = 31 * result + (noCache != null ? noCache.hashCode() : 0);
+    result = 31 * result + (cache != null ? cache.hashCode() : 0);
     return result;
   }
 
@@ -443,6 +467,10 @@ public class OSelectStatement extends OStatement {
     this.noCache = noCache;
   }
 
+  public void setCache(Boolean cache) {
+    this.cache = cache;
+  }
+
   public OResult serialize() {
     OResultInternal result = (OResultInternal) super.serialize();
     if (target != null) {
@@ -483,6 +511,7 @@ public class OSelectStatement extends OStatement {
     }
     result.setProperty("parallel", parallel);
     result.setProperty("noCache", noCache);
+    result.setProperty("cache", cache);
     return result;
   }
 
@@ -537,6 +566,7 @@ public class OSelectStatement extends OStatement {
 
     parallel = fromResult.getProperty("parallel");
     noCache = fromResult.getProperty("noCache");
+    cache = fromResult.getProperty("cache");
   }
 }
 /* JavaCC - OriginalChecksum=b26959b9726a8cf35d6283eca931da6b (do not edit this line) */
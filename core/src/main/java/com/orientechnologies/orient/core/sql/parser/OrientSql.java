@@ -29,7 +29,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(268);
+        jj_consume_token(269);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -209,6 +209,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -281,7 +282,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           ;
           break;
         default:
@@ -552,6 +553,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case REBUILD:
         token = jj_consume_token(REBUILD);
         break;
+      case INCLUDE:
+        token = jj_consume_token(INCLUDE);
+        break;
       case ID:
         token = jj_consume_token(ID);
         break;
@@ -964,6 +968,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -1034,7 +1039,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           result = ExpressionStatement();
           break;
         default:
@@ -1503,12 +1508,25 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case CACHE:
       case NOCACHE:
-        jj_consume_token(NOCACHE);
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case NOCACHE:
+          jj_consume_token(NOCACHE);
                       jjtn000.noCache = true;
+          break;
+        case CACHE:
+          jj_consume_token(CACHE);
+                                                            jjtn000.cache = true;
+          break;
+        default:
+          jj_la1[29] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
         break;
       default:
-        jj_la1[29] = jj_gen;
+        jj_la1[30] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -1606,6 +1624,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -1676,11 +1695,11 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
         jjtn000.projection = Projection();
         break;
       default:
-        jj_la1[30] = jj_gen;
+        jj_la1[31] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -1690,7 +1709,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.letClause = LetClause();
         break;
       default:
-        jj_la1[31] = jj_gen;
+        jj_la1[32] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1699,7 +1718,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[32] = jj_gen;
+        jj_la1[33] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1707,7 +1726,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.groupBy = GroupBy();
         break;
       default:
-        jj_la1[33] = jj_gen;
+        jj_la1[34] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1715,7 +1734,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.orderBy = OrderBy();
         break;
       default:
-        jj_la1[34] = jj_gen;
+        jj_la1[35] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1723,7 +1742,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.unwind = Unwind();
         break;
       default:
-        jj_la1[35] = jj_gen;
+        jj_la1[36] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1739,7 +1758,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             jjtn000.limit = Limit();
             break;
           default:
-            jj_la1[36] = jj_gen;
+            jj_la1[37] = jj_gen;
             ;
           }
           break;
@@ -1751,18 +1770,18 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             jjtn000.skip = Skip();
             break;
           default:
-            jj_la1[37] = jj_gen;
+            jj_la1[38] = jj_gen;
             ;
           }
           break;
         default:
-          jj_la1[38] = jj_gen;
+          jj_la1[39] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[39] = jj_gen;
+        jj_la1[40] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1770,7 +1789,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.fetchPlan = FetchPlan();
         break;
       default:
-        jj_la1[40] = jj_gen;
+        jj_la1[41] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1778,7 +1797,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.timeout = Timeout();
         break;
       default:
-        jj_la1[41] = jj_gen;
+        jj_la1[42] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1802,13 +1821,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                             jjtn000.lockRecord = com.orientechnologies.orient.core.storage.OStorage.LOCKING_STRATEGY.DEFAULT;
           break;
         default:
-          jj_la1[42] = jj_gen;
+          jj_la1[43] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[43] = jj_gen;
+        jj_la1[44] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1817,16 +1836,29 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                        jjtn000.parallel = true;
         break;
       default:
-        jj_la1[44] = jj_gen;
+        jj_la1[45] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case CACHE:
       case NOCACHE:
-        jj_consume_token(NOCACHE);
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case NOCACHE:
+          jj_consume_token(NOCACHE);
                       jjtn000.noCache = true;
+          break;
+        case CACHE:
+          jj_consume_token(CACHE);
+                                                            jjtn000.cache = true;
+          break;
+        default:
+          jj_la1[46] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
         break;
       default:
-        jj_la1[45] = jj_gen;
+        jj_la1[47] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -1923,6 +1955,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -1990,7 +2023,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[46] = jj_gen;
+            jj_la1[48] = jj_gen;
             break label_2;
           }
           jj_consume_token(COMMA);
@@ -1999,7 +2032,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         break;
       default:
-        jj_la1[47] = jj_gen;
+        jj_la1[49] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -2010,7 +2043,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.maxDepth = Integer();
         break;
       default:
-        jj_la1[48] = jj_gen;
+        jj_la1[50] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2019,7 +2052,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whileClause = WhereClause();
         break;
       default:
-        jj_la1[49] = jj_gen;
+        jj_la1[51] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2027,7 +2060,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[50] = jj_gen;
+        jj_la1[52] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2043,13 +2076,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                   jjtn000.strategy = OTraverseStatement.Strategy.BREADTH_FIRST;
           break;
         default:
-          jj_la1[51] = jj_gen;
+          jj_la1[53] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[52] = jj_gen;
+        jj_la1[54] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -2099,7 +2132,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[53] = jj_gen;
+          jj_la1[55] = jj_gen;
           break label_3;
         }
         jj_consume_token(COMMA);
@@ -2114,7 +2147,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                             jjtn000.notMatchExpressions.add(lastMatchExpr);
           break;
         default:
-          jj_la1[54] = jj_gen;
+          jj_la1[56] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2130,7 +2163,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastNestedProjection = NestedProjection();
           break;
         default:
-          jj_la1[55] = jj_gen;
+          jj_la1[57] = jj_gen;
           ;
         }
       } else if (jj_2_55(2147483647)) {
@@ -2141,7 +2174,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastNestedProjection = NestedProjection();
           break;
         default:
-          jj_la1[56] = jj_gen;
+          jj_la1[58] = jj_gen;
           ;
         }
       } else {
@@ -2154,7 +2187,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         lastReturnAlias = Identifier();
         break;
       default:
-        jj_la1[57] = jj_gen;
+        jj_la1[59] = jj_gen;
         ;
       }
             jjtn000.returnAliases.add(lastReturnAlias);
@@ -2168,7 +2201,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[58] = jj_gen;
+          jj_la1[60] = jj_gen;
           break label_4;
         }
         jj_consume_token(COMMA);
@@ -2179,7 +2212,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastNestedProjection = NestedProjection();
           break;
         default:
-          jj_la1[59] = jj_gen;
+          jj_la1[61] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2188,7 +2221,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastReturnAlias = Identifier();
           break;
         default:
-          jj_la1[60] = jj_gen;
+          jj_la1[62] = jj_gen;
           ;
         }
                 jjtn000.returnAliases.add(lastReturnAlias);
@@ -2201,7 +2234,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.groupBy = GroupBy();
         break;
       default:
-        jj_la1[61] = jj_gen;
+        jj_la1[63] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2209,7 +2242,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.orderBy = OrderBy();
         break;
       default:
-        jj_la1[62] = jj_gen;
+        jj_la1[64] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2217,7 +2250,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.unwind = Unwind();
         break;
       default:
-        jj_la1[63] = jj_gen;
+        jj_la1[65] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2226,7 +2259,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.skip = Skip();
         break;
       default:
-        jj_la1[64] = jj_gen;
+        jj_la1[66] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2234,7 +2267,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[65] = jj_gen;
+        jj_la1[67] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -2281,7 +2314,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                               jjtn000.returnBefore = true;
         break;
       default:
-        jj_la1[66] = jj_gen;
+        jj_la1[68] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2290,7 +2323,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[67] = jj_gen;
+        jj_la1[69] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2298,7 +2331,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[68] = jj_gen;
+        jj_la1[70] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2307,7 +2340,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[69] = jj_gen;
+        jj_la1[71] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2352,7 +2385,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                   jjtn000.from = true;
         break;
       default:
-        jj_la1[70] = jj_gen;
+        jj_la1[72] = jj_gen;
         ;
       }
       jjtn000.fromClause = FromClause();
@@ -2363,7 +2396,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                               jjtn000.returnBefore = true;
         break;
       default:
-        jj_la1[71] = jj_gen;
+        jj_la1[73] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2372,7 +2405,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[72] = jj_gen;
+        jj_la1[74] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2380,7 +2413,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[73] = jj_gen;
+        jj_la1[75] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2388,7 +2421,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[74] = jj_gen;
+        jj_la1[76] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2479,7 +2512,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 269:
         jjtn000.rid = Rid();
         break;
       case LBRACKET:
@@ -2488,7 +2521,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 269:
           lastRid = Rid();
                     jjtn000.rids = new ArrayList();
                     jjtn000.rids.add(lastRid);
@@ -2499,7 +2532,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
               ;
               break;
             default:
-              jj_la1[75] = jj_gen;
+              jj_la1[77] = jj_gen;
               break label_5;
             }
             jj_consume_token(COMMA);
@@ -2508,13 +2541,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           }
           break;
         default:
-          jj_la1[76] = jj_gen;
+          jj_la1[78] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[77] = jj_gen;
+        jj_la1[79] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2522,199 +2555,200 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case BATCH:
         jjtn000.batch = Batch();
         break;
-      default:
-        jj_la1[78] = jj_gen;
-        ;
-      }
-    jjtree.closeNodeScope(jjtn000, true);
-    jjtc000 = false;
-    jjtn000.jjtSetLastToken(getToken(0));
-   {if (true) return jjtn000;}
-    } catch (Throwable jjte000) {
-  if (jjtc000) {
-    jjtree.clearNodeScope(jjtn000);
-    jjtc000 = false;
-  } else {
-    jjtree.popNode();
-  }
-  if (jjte000 instanceof RuntimeException) {
-    {if (true) throw (RuntimeException)jjte000;}
-  }
-  if (jjte000 instanceof ParseException) {
-    {if (true) throw (ParseException)jjte000;}
-  }
-  {if (true) throw (Error)jjte000;}
-    } finally {
-  if (jjtc000) {
-    jjtree.closeNodeScope(jjtn000, true);
-    jjtn000.jjtSetLastToken(getToken(0));
-  }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public ODeleteEdgeStatement DeleteEdgeFromToStatement() throws ParseException {
- /*@bgen(jjtree) DeleteEdgeFromToStatement */
-    ODeleteEdgeFromToStatement jjtn000 = new ODeleteEdgeFromToStatement(JJTDELETEEDGEFROMTOSTATEMENT);
-    boolean jjtc000 = true;
-    jjtree.openNodeScope(jjtn000);
-    jjtn000.jjtSetFirstToken(getToken(1));ORid lastRid;
-    try {
-      jj_consume_token(DELETE);
-      jj_consume_token(EDGE);
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case TO:
-      case VALUE:
-      case VALUES:
-      case SET:
-      case ADD:
-      case PUT:
-      case MERGE:
-      case CONTENT:
-      case REMOVE:
-      case ORDER:
-      case GROUP:
-      case OFFSET:
-      case RECORD:
-      case CACHE:
-      case CYCLE:
-      case NOLIMIT:
-      case NOCYCLE:
-      case LUCENE:
-      case NEAR:
-      case WITHIN:
-      case MINDEPTH:
-      case CLASS:
-      case SUPERCLASS:
-      case CLASSES:
-      case SUPERCLASSES:
-      case VIEW:
-      case UPDATABLE:
-      case EXCEPTION:
-      case PROFILE:
-      case STORAGE:
-      case ON:
-      case OFF:
-      case TRUNCATE:
-      case FIND:
-      case REFERENCES:
-      case EXTENDS:
-      case CLUSTERS:
-      case ABSTRACT:
-      case ALTER:
-      case NAME:
-      case SHORTNAME:
-      case OVERSIZE:
-      case STRICTMODE:
-      case ADDCLUSTER:
-      case REMOVECLUSTER:
-      case CUSTOM:
-      case CLUSTERSELECTION:
-      case DESCRIPTION:
-      case ENCRYPTION:
-      case DROP:
-      case PROPERTY:
-      case FORCE:
-      case METADATA:
-      case INDEX:
-      case COLLATE:
-      case ENGINE:
-      case REBUILD:
-      case ID:
-      case DATABASE:
-      case OPTIMIZE:
-      case LINK:
-      case TYPE:
-      case INVERSE:
-      case EXPLAIN:
-      case GRANT:
-      case REVOKE:
-      case READ:
-      case EXECUTE:
-      case ALL:
-      case NONE:
-      case FUNCTION:
-      case PARAMETERS:
-      case IDEMPOTENT:
-      case LANGUAGE:
-      case BEGIN:
-      case COMMIT:
-      case ROLLBACK:
-      case IF:
-      case ELSE:
-      case CONTINUE:
-      case FAIL:
-      case ISOLATION:
-      case SLEEP:
-      case CONSOLE:
-      case BLOB:
-      case SHARED:
-      case DEFAULT_:
-      case SEQUENCE:
-      case START:
-      case OPTIONAL:
-      case COUNT:
-      case HA:
-      case STATUS:
-      case SERVER:
-      case SYNC:
-      case EXISTS:
-      case MOVE:
-      case DEPTH_ALIAS:
-      case PATH_ALIAS:
-      case IDENTIFIED:
-      case ROLE:
-      case USER:
-      case RID:
-      case SECURITY:
-      case POLICY:
-      case DEFAULTCLUSTER:
-      case IN:
-      case KEY:
-      case IDENTIFIER:
-      case QUOTED_IDENTIFIER:
-        jjtn000.className = Identifier();
-        break;
-      default:
-        jj_la1[79] = jj_gen;
-        ;
-      }
-      jj_consume_token(FROM);
-      jjtn000.leftExpression = Expression();
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case TO:
-        jj_consume_token(TO);
-        jjtn000.rightExpression = Expression();
-        break;
       default:
         jj_la1[80] = jj_gen;
         ;
       }
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case WHERE:
-        jj_consume_token(WHERE);
-        jjtn000.whereClause = WhereClause();
-        break;
-      default:
-        jj_la1[81] = jj_gen;
-        ;
-      }
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case LIMIT:
-        jjtn000.limit = Limit();
-        break;
-      default:
-        jj_la1[82] = jj_gen;
-        ;
-      }
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case BATCH:
-        jjtn000.batch = Batch();
-        break;
-      default:
-        jj_la1[83] = jj_gen;
-        ;
-      }
+    jjtree.closeNodeScope(jjtn000, true);
+    jjtc000 = false;
+    jjtn000.jjtSetLastToken(getToken(0));
+   {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+  if (jjtc000) {
+    jjtree.clearNodeScope(jjtn000);
+    jjtc000 = false;
+  } else {
+    jjtree.popNode();
+  }
+  if (jjte000 instanceof RuntimeException) {
+    {if (true) throw (RuntimeException)jjte000;}
+  }
+  if (jjte000 instanceof ParseException) {
+    {if (true) throw (ParseException)jjte000;}
+  }
+  {if (true) throw (Error)jjte000;}
+    } finally {
+  if (jjtc000) {
+    jjtree.closeNodeScope(jjtn000, true);
+    jjtn000.jjtSetLastToken(getToken(0));
+  }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public ODeleteEdgeStatement DeleteEdgeFromToStatement() throws ParseException {
+ /*@bgen(jjtree) DeleteEdgeFromToStatement */
+    ODeleteEdgeFromToStatement jjtn000 = new ODeleteEdgeFromToStatement(JJTDELETEEDGEFROMTOSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));ORid lastRid;
+    try {
+      jj_consume_token(DELETE);
+      jj_consume_token(EDGE);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case TO:
+      case VALUE:
+      case VALUES:
+      case SET:
+      case ADD:
+      case PUT:
+      case MERGE:
+      case CONTENT:
+      case REMOVE:
+      case ORDER:
+      case GROUP:
+      case OFFSET:
+      case RECORD:
+      case CACHE:
+      case CYCLE:
+      case NOLIMIT:
+      case NOCYCLE:
+      case LUCENE:
+      case NEAR:
+      case WITHIN:
+      case MINDEPTH:
+      case CLASS:
+      case SUPERCLASS:
+      case CLASSES:
+      case SUPERCLASSES:
+      case VIEW:
+      case UPDATABLE:
+      case EXCEPTION:
+      case PROFILE:
+      case STORAGE:
+      case ON:
+      case OFF:
+      case TRUNCATE:
+      case FIND:
+      case REFERENCES:
+      case EXTENDS:
+      case CLUSTERS:
+      case ABSTRACT:
+      case ALTER:
+      case NAME:
+      case SHORTNAME:
+      case OVERSIZE:
+      case STRICTMODE:
+      case ADDCLUSTER:
+      case REMOVECLUSTER:
+      case CUSTOM:
+      case CLUSTERSELECTION:
+      case DESCRIPTION:
+      case ENCRYPTION:
+      case DROP:
+      case PROPERTY:
+      case FORCE:
+      case METADATA:
+      case INDEX:
+      case COLLATE:
+      case ENGINE:
+      case REBUILD:
+      case INCLUDE:
+      case ID:
+      case DATABASE:
+      case OPTIMIZE:
+      case LINK:
+      case TYPE:
+      case INVERSE:
+      case EXPLAIN:
+      case GRANT:
+      case REVOKE:
+      case READ:
+      case EXECUTE:
+      case ALL:
+      case NONE:
+      case FUNCTION:
+      case PARAMETERS:
+      case IDEMPOTENT:
+      case LANGUAGE:
+      case BEGIN:
+      case COMMIT:
+      case ROLLBACK:
+      case IF:
+      case ELSE:
+      case CONTINUE:
+      case FAIL:
+      case ISOLATION:
+      case SLEEP:
+      case CONSOLE:
+      case BLOB:
+      case SHARED:
+      case DEFAULT_:
+      case SEQUENCE:
+      case START:
+      case OPTIONAL:
+      case COUNT:
+      case HA:
+      case STATUS:
+      case SERVER:
+      case SYNC:
+      case EXISTS:
+      case MOVE:
+      case DEPTH_ALIAS:
+      case PATH_ALIAS:
+      case IDENTIFIED:
+      case ROLE:
+      case USER:
+      case RID:
+      case SECURITY:
+      case POLICY:
+      case DEFAULTCLUSTER:
+      case IN:
+      case KEY:
+      case IDENTIFIER:
+      case QUOTED_IDENTIFIER:
+        jjtn000.className = Identifier();
+        break;
+      default:
+        jj_la1[81] = jj_gen;
+        ;
+      }
+      jj_consume_token(FROM);
+      jjtn000.leftExpression = Expression();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case TO:
+        jj_consume_token(TO);
+        jjtn000.rightExpression = Expression();
+        break;
+      default:
+        jj_la1[82] = jj_gen;
+        ;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case WHERE:
+        jj_consume_token(WHERE);
+        jjtn000.whereClause = WhereClause();
+        break;
+      default:
+        jj_la1[83] = jj_gen;
+        ;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case LIMIT:
+        jjtn000.limit = Limit();
+        break;
+      default:
+        jj_la1[84] = jj_gen;
+        ;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case BATCH:
+        jjtn000.batch = Batch();
+        break;
+      default:
+        jj_la1[85] = jj_gen;
+        ;
+      }
     jjtree.closeNodeScope(jjtn000, true);
     jjtc000 = false;
     jjtn000.jjtSetLastToken(getToken(0));
@@ -2760,7 +2794,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[84] = jj_gen;
+        jj_la1[86] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2768,7 +2802,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[85] = jj_gen;
+        jj_la1[87] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2776,7 +2810,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[86] = jj_gen;
+        jj_la1[88] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -2823,7 +2857,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[87] = jj_gen;
+        jj_la1[89] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2831,7 +2865,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[88] = jj_gen;
+        jj_la1[90] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2839,7 +2873,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[89] = jj_gen;
+        jj_la1[91] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -2936,6 +2970,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -2992,7 +3027,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.className = Identifier();
         break;
       default:
-        jj_la1[90] = jj_gen;
+        jj_la1[92] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3001,7 +3036,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[91] = jj_gen;
+        jj_la1[93] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3009,7 +3044,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[92] = jj_gen;
+        jj_la1[94] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3017,7 +3052,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[93] = jj_gen;
+        jj_la1[95] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -3073,7 +3108,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[94] = jj_gen;
+          jj_la1[96] = jj_gen;
           break label_6;
         }
       }
@@ -3083,7 +3118,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[95] = jj_gen;
+        jj_la1[97] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3099,7 +3134,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                                         jjtn000.returnAfter = true;
           break;
         default:
-          jj_la1[96] = jj_gen;
+          jj_la1[98] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3162,6 +3197,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3232,16 +3268,16 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           jjtn000.returnProjection = Projection();
           break;
         default:
-          jj_la1[97] = jj_gen;
+          jj_la1[99] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[98] = jj_gen;
+        jj_la1[100] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3250,7 +3286,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[99] = jj_gen;
+        jj_la1[101] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3274,13 +3310,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                         jjtn000.lockRecord = com.orientechnologies.orient.core.storage.OStorage.LOCKING_STRATEGY.DEFAULT;
           break;
         default:
-          jj_la1[100] = jj_gen;
+          jj_la1[102] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[101] = jj_gen;
+        jj_la1[103] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3288,7 +3324,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[102] = jj_gen;
+        jj_la1[104] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3296,7 +3332,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.timeout = Timeout();
         break;
       default:
-        jj_la1[103] = jj_gen;
+        jj_la1[105] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -3351,7 +3387,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[104] = jj_gen;
+          jj_la1[106] = jj_gen;
           break label_7;
         }
       }
@@ -3361,7 +3397,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[105] = jj_gen;
+        jj_la1[107] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3381,7 +3417,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                                                                               jjtn000.returnCount = true;
           break;
         default:
-          jj_la1[106] = jj_gen;
+          jj_la1[108] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3444,6 +3480,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3514,16 +3551,16 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           jjtn000.returnProjection = Projection();
           break;
         default:
-          jj_la1[107] = jj_gen;
+          jj_la1[109] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[108] = jj_gen;
+        jj_la1[110] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3532,7 +3569,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[109] = jj_gen;
+        jj_la1[111] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3556,13 +3593,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                             jjtn000.lockRecord = com.orientechnologies.orient.core.storage.OStorage.LOCKING_STRATEGY.DEFAULT;
           break;
         default:
-          jj_la1[110] = jj_gen;
+          jj_la1[112] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[111] = jj_gen;
+        jj_la1[113] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3570,7 +3607,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[112] = jj_gen;
+        jj_la1[114] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3578,7 +3615,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.timeout = Timeout();
         break;
       default:
-        jj_la1[113] = jj_gen;
+        jj_la1[115] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3631,7 +3668,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[114] = jj_gen;
+            jj_la1[116] = jj_gen;
             break label_8;
           }
           jj_consume_token(COMMA);
@@ -3651,7 +3688,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[115] = jj_gen;
+            jj_la1[117] = jj_gen;
             break label_9;
           }
           jj_consume_token(COMMA);
@@ -3671,7 +3708,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                             jjtn000.type = OUpdateOperations.TYPE_CONTENT;
           break;
         default:
-          jj_la1[116] = jj_gen;
+          jj_la1[118] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3689,7 +3726,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                         jjtn000.type = OUpdateOperations.TYPE_ADD;
           break;
         default:
-          jj_la1[117] = jj_gen;
+          jj_la1[119] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3702,7 +3739,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[118] = jj_gen;
+            jj_la1[120] = jj_gen;
             break label_10;
           }
           jj_consume_token(COMMA);
@@ -3722,7 +3759,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[119] = jj_gen;
+            jj_la1[121] = jj_gen;
             break label_11;
           }
           jj_consume_token(COMMA);
@@ -3731,7 +3768,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         break;
       default:
-        jj_la1[120] = jj_gen;
+        jj_la1[122] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3776,7 +3813,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.leftModifier = Modifier();
         break;
       default:
-        jj_la1[121] = jj_gen;
+        jj_la1[123] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3801,7 +3838,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                         jjtn000.operator = OUpdateItem.OPERATOR_SLASHASSIGN;
         break;
       default:
-        jj_la1[122] = jj_gen;
+        jj_la1[124] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3847,7 +3884,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.leftModifier = Modifier();
         break;
       default:
-        jj_la1[123] = jj_gen;
+        jj_la1[125] = jj_gen;
         ;
       }
       jj_consume_token(EQ);
@@ -3893,7 +3930,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.right = Expression();
         break;
       default:
-        jj_la1[124] = jj_gen;
+        jj_la1[126] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4069,6 +4106,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -4129,7 +4167,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             jjtn000.targetClusterName = Identifier();
             break;
           default:
-            jj_la1[125] = jj_gen;
+            jj_la1[127] = jj_gen;
             ;
           }
           break;
@@ -4138,7 +4176,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jjtn000.targetCluster = Cluster();
           break;
         default:
-          jj_la1[126] = jj_gen;
+          jj_la1[128] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4154,7 +4192,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.returnStatement = Projection();
         break;
       default:
-        jj_la1[127] = jj_gen;
+        jj_la1[129] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4167,7 +4205,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                    jjtn000.selectWithFrom = true;
           break;
         default:
-          jj_la1[128] = jj_gen;
+          jj_la1[130] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4180,14 +4218,14 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
               jjtn000.selectStatement = SelectWithoutTargetStatement();
               break;
             default:
-              jj_la1[129] = jj_gen;
+              jj_la1[131] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[131] = jj_gen;
+          jj_la1[133] = jj_gen;
           if (jj_2_65(2)) {
             jj_consume_token(LPAREN);
             if (jj_2_64(2147483647)) {
@@ -4198,7 +4236,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                 jjtn000.selectStatement = SelectWithoutTargetStatement();
                 break;
               default:
-                jj_la1[130] = jj_gen;
+                jj_la1[132] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -4212,7 +4250,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         break;
       default:
-        jj_la1[132] = jj_gen;
+        jj_la1[134] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4221,7 +4259,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                  jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[133] = jj_gen;
+        jj_la1[135] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -4272,7 +4310,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[134] = jj_gen;
+            jj_la1[136] = jj_gen;
             break label_12;
           }
           jj_consume_token(COMMA);
@@ -4294,7 +4332,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[135] = jj_gen;
+            jj_la1[137] = jj_gen;
             break label_13;
           }
           jj_consume_token(COMMA);
@@ -4309,7 +4347,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[136] = jj_gen;
+            jj_la1[138] = jj_gen;
             break label_14;
           }
           jj_consume_token(COMMA);
@@ -4325,7 +4363,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
               ;
               break;
             default:
-              jj_la1[137] = jj_gen;
+              jj_la1[139] = jj_gen;
               break label_15;
             }
             jj_consume_token(COMMA);
@@ -4349,7 +4387,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[138] = jj_gen;
+            jj_la1[140] = jj_gen;
             break label_16;
           }
           jj_consume_token(COMMA);
@@ -4372,13 +4410,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             jjtn000.contentInputParam = InputParameter();
             break;
           default:
-            jj_la1[139] = jj_gen;
+            jj_la1[141] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[140] = jj_gen;
+          jj_la1[142] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4448,7 +4486,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.targetClusterName = Identifier();
         break;
       default:
-        jj_la1[141] = jj_gen;
+        jj_la1[143] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4495,7 +4533,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jjtn000.targetClusterName = Identifier();
           break;
         default:
-          jj_la1[142] = jj_gen;
+          jj_la1[144] = jj_gen;
           ;
         }
       } else if (jj_2_69(2147483647)) {
@@ -4510,7 +4548,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.returnStatement = Projection();
         break;
       default:
-        jj_la1[143] = jj_gen;
+        jj_la1[145] = jj_gen;
         ;
       }
       if (jj_2_70(2147483647)) {
@@ -4604,7 +4642,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.targetClass = Identifier();
         break;
       default:
-        jj_la1[144] = jj_gen;
+        jj_la1[146] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4619,7 +4657,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.updateOperations = UpdateOperations();
         break;
       default:
-        jj_la1[145] = jj_gen;
+        jj_la1[147] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4627,7 +4665,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[146] = jj_gen;
+        jj_la1[148] = jj_gen;
         ;
       }
      jjtree.closeNodeScope(jjtn000, true);
@@ -4724,6 +4762,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -4784,12 +4823,12 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jjtn000.targetClusterName = Identifier();
           break;
         default:
-          jj_la1[147] = jj_gen;
+          jj_la1[149] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[148] = jj_gen;
+        jj_la1[150] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4798,7 +4837,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[149] = jj_gen;
+        jj_la1[151] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -4812,7 +4851,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.body = InsertBody();
         break;
       default:
-        jj_la1[150] = jj_gen;
+        jj_la1[152] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4820,7 +4859,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.retry = Retry();
         break;
       default:
-        jj_la1[151] = jj_gen;
+        jj_la1[153] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4828,7 +4867,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.wait = Wait();
         break;
       default:
-        jj_la1[152] = jj_gen;
+        jj_la1[154] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4836,7 +4875,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[153] = jj_gen;
+        jj_la1[155] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -4881,7 +4920,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         result = NamedParameter();
         break;
       default:
-        jj_la1[154] = jj_gen;
+        jj_la1[156] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5002,6 +5041,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5071,7 +5111,7 @@ Token token;
                             jjtn000.paramName = token.image;
         break;
       default:
-        jj_la1[155] = jj_gen;
+        jj_la1[157] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5122,7 +5162,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[156] = jj_gen;
+            jj_la1[158] = jj_gen;
             break label_17;
           }
           jj_consume_token(COMMA);
@@ -5143,7 +5183,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[157] = jj_gen;
+              jj_la1[159] = jj_gen;
               break label_18;
             }
             jj_consume_token(COMMA);
@@ -5152,7 +5192,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[158] = jj_gen;
+          jj_la1[160] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -5198,7 +5238,7 @@ Token token;
         jjtn000.nestedProjection = NestedProjection();
         break;
       default:
-        jj_la1[159] = jj_gen;
+        jj_la1[161] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5207,7 +5247,7 @@ Token token;
         jjtn000.alias = Alias();
         break;
       default:
-        jj_la1[160] = jj_gen;
+        jj_la1[162] = jj_gen;
         ;
       }
    jjtree.closeNodeScope(jjtn000, true);
@@ -5261,7 +5301,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[161] = jj_gen;
+          jj_la1[163] = jj_gen;
           break label_19;
         }
         jj_consume_token(COMMA);
@@ -5372,6 +5412,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5442,14 +5483,14 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case BANG:
           jj_consume_token(BANG);
                  jjtn000.exclude = true;
           break;
         default:
-          jj_la1[162] = jj_gen;
+          jj_la1[164] = jj_gen;
           ;
         }
         jjtn000.expression = Expression();
@@ -5459,12 +5500,12 @@ Token token;
                  jjtn000.rightWildcard = true;
           break;
         default:
-          jj_la1[163] = jj_gen;
+          jj_la1[165] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[164] = jj_gen;
+        jj_la1[166] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5473,7 +5514,7 @@ Token token;
         jjtn000.expansion = NestedProjection();
         break;
       default:
-        jj_la1[165] = jj_gen;
+        jj_la1[167] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5482,7 +5523,7 @@ Token token;
         jjtn000.alias = Identifier();
         break;
       default:
-        jj_la1[166] = jj_gen;
+        jj_la1[168] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -5615,7 +5656,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[167] = jj_gen;
+          jj_la1[169] = jj_gen;
           break label_20;
         }
         jj_consume_token(COMMA);
@@ -5688,14 +5729,14 @@ Token token;
                            jjtn000.newRange = true; jjtn000.included = true;
           break;
         default:
-          jj_la1[168] = jj_gen;
+          jj_la1[170] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         jjtn000.toSelector = ArrayNumberSelector();
         break;
       default:
-        jj_la1[169] = jj_gen;
+        jj_la1[171] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5848,6 +5889,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5908,7 +5950,7 @@ Token token;
                            jjtn000.name = new OIdentifier("distinct");
         break;
       default:
-        jj_la1[170] = jj_gen;
+        jj_la1[172] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5972,6 +6014,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -6042,7 +6085,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
         lastExpression = Expression();
                                            jjtn000.params.add(lastExpression);
         label_21:
@@ -6052,7 +6095,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[171] = jj_gen;
+            jj_la1[173] = jj_gen;
             break label_21;
           }
           jj_consume_token(COMMA);
@@ -6061,7 +6104,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[172] = jj_gen;
+        jj_la1[174] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -6161,6 +6204,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -6231,7 +6275,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
         lastExpression = Expression();
                                             jjtn000.params.add(lastExpression);
         label_22:
@@ -6241,7 +6285,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[173] = jj_gen;
+            jj_la1[175] = jj_gen;
             break label_22;
           }
           jj_consume_token(COMMA);
@@ -6250,7 +6294,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[174] = jj_gen;
+        jj_la1[176] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -6297,7 +6341,7 @@ Token token;
                  jjtn000.self = true;
           break;
         default:
-          jj_la1[175] = jj_gen;
+          jj_la1[177] = jj_gen;
           if (jj_2_78(2147483647)) {
             jjtn000.collection = Collection();
           } else {
@@ -6351,7 +6395,7 @@ Token token;
                    jjtn000.star = true;
           break;
         default:
-          jj_la1[176] = jj_gen;
+          jj_la1[178] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6451,7 +6495,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[177] = jj_gen;
+        jj_la1[179] = jj_gen;
         if (jj_2_87(2147483647)) {
           jjtn000.methodCall = MethodCall();
         } else {
@@ -6461,7 +6505,7 @@ Token token;
             jjtn000.suffix = SuffixIdentifier();
             break;
           default:
-            jj_la1[178] = jj_gen;
+            jj_la1[180] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -6524,7 +6568,7 @@ Token token;
                   jjtn000.booleanValue = false; jjtn000.value = false;
           break;
         default:
-          jj_la1[179] = jj_gen;
+          jj_la1[181] = jj_gen;
           if (jj_2_90(2147483647)) {
             jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
@@ -6538,7 +6582,7 @@ Token token;
                                jjtn000.value = jjtn000.json;
               break;
             default:
-              jj_la1[180] = jj_gen;
+              jj_la1[182] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -6592,7 +6636,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[181] = jj_gen;
+          jj_la1[183] = jj_gen;
           break label_23;
         }
       }
@@ -6644,7 +6688,7 @@ Token token;
                   jjtn000.booleanValue = false; jjtn000.value = false;
         break;
       default:
-        jj_la1[182] = jj_gen;
+        jj_la1[184] = jj_gen;
         if (jj_2_92(2147483647)) {
           jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
@@ -6658,7 +6702,7 @@ Token token;
                                jjtn000.value = jjtn000.json;
             break;
           default:
-            jj_la1[183] = jj_gen;
+            jj_la1[185] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -6754,7 +6798,7 @@ Token token;
                             jjtn000.operators.add(OMathExpression.Operator.XOR);
           break;
         default:
-          jj_la1[184] = jj_gen;
+          jj_la1[186] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6904,6 +6948,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -6974,14 +7019,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           jjtn000.expression = Expression();
           break;
         case INSERT:
           jjtn000.statement = InsertStatement();
           break;
         default:
-          jj_la1[185] = jj_gen;
+          jj_la1[187] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7084,6 +7129,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -7171,7 +7217,7 @@ Token token;
                                               jjtn000.string = token.image;
           break;
         default:
-          jj_la1[186] = jj_gen;
+          jj_la1[188] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7182,7 +7228,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[187] = jj_gen;
+        jj_la1[189] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7265,7 +7311,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[188] = jj_gen;
+          jj_la1[190] = jj_gen;
           break label_25;
         }
         jj_consume_token(COMMA);
@@ -7318,7 +7364,7 @@ Token token;
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[189] = jj_gen;
+          jj_la1[191] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7364,12 +7410,12 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 269:
         lastRid = Rid();
                           jjtn000.rids.add(lastRid);
         break;
       default:
-        jj_la1[194] = jj_gen;
+        jj_la1[196] = jj_gen;
         if (jj_2_105(2)) {
           jj_consume_token(LBRACKET);
           lastRid = Rid();
@@ -7381,7 +7427,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[190] = jj_gen;
+              jj_la1[192] = jj_gen;
               break label_26;
             }
             jj_consume_token(COMMA);
@@ -7403,7 +7449,7 @@ Token token;
                                                jjtn000.inputParams.add(lastParam);
               break;
             default:
-              jj_la1[191] = jj_gen;
+              jj_la1[193] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -7415,7 +7461,7 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[192] = jj_gen;
+                jj_la1[194] = jj_gen;
                 break label_27;
               }
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -7429,7 +7475,7 @@ Token token;
                                                jjtn000.inputParams.add(lastParam);
                 break;
               default:
-                jj_la1[193] = jj_gen;
+                jj_la1[195] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -7444,7 +7490,7 @@ Token token;
             jjtn000.clusterList = ClusterList();
             break;
           default:
-            jj_la1[195] = jj_gen;
+            jj_la1[197] = jj_gen;
             if (jj_2_106(2147483647)) {
               jjtn000.index = IndexIdentifier();
             } else {
@@ -7467,7 +7513,7 @@ Token token;
                 jjtn000.inputParam = InputParameter();
                 break;
               default:
-                jj_la1[196] = jj_gen;
+                jj_la1[198] = jj_gen;
                 if (jj_2_107(2)) {
                   jjtn000.functionCall = FunctionCall();
                   if (jj_2_103(2147483647)) {
@@ -7534,6 +7580,7 @@ Token token;
                   case COLLATE:
                   case ENGINE:
                   case REBUILD:
+                  case INCLUDE:
                   case ID:
                   case DATABASE:
                   case OPTIMIZE:
@@ -7595,7 +7642,7 @@ Token token;
                     }
                     break;
                   default:
-                    jj_la1[197] = jj_gen;
+                    jj_la1[199] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                   }
@@ -7649,7 +7696,7 @@ Token token;
                                                  jjtn000.clusterNumber = Integer.parseInt(cName.image.split(":")[1]);
         break;
       default:
-        jj_la1[198] = jj_gen;
+        jj_la1[200] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7734,6 +7781,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -7796,7 +7844,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[199] = jj_gen;
+            jj_la1[201] = jj_gen;
             break label_28;
           }
           jj_consume_token(COMMA);
@@ -7805,7 +7853,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[200] = jj_gen;
+        jj_la1[202] = jj_gen;
         ;
       }
       jj_consume_token(RBRACKET);
@@ -7868,12 +7916,12 @@ Token token;
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 269:
-        jj_consume_token(269);
+      case 270:
+        jj_consume_token(270);
                              builder.append("__@recordmap@___");
         break;
       default:
-        jj_la1[201] = jj_gen;
+        jj_la1[203] = jj_gen;
         ;
       }
       lastIdentifier = Identifier();
@@ -7886,7 +7934,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[202] = jj_gen;
+          jj_la1[204] = jj_gen;
           break label_29;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -7899,7 +7947,7 @@ Token token;
                       builder.append("-");
           break;
         default:
-          jj_la1[203] = jj_gen;
+          jj_la1[205] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7964,14 +8012,14 @@ Token token;
                                                        jjtn000.type = OIndexIdentifier.Type.VALUESDESC;
           break;
         default:
-          jj_la1[204] = jj_gen;
+          jj_la1[206] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
                 jjtn000.indexNameString = token.image.split(":")[1];
         break;
       default:
-        jj_la1[205] = jj_gen;
+        jj_la1[207] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8053,7 +8101,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[206] = jj_gen;
+          jj_la1[208] = jj_gen;
           break label_30;
         }
         jj_consume_token(OR);
@@ -8103,7 +8151,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[207] = jj_gen;
+          jj_la1[209] = jj_gen;
           break label_31;
         }
         jj_consume_token(AND);
@@ -8215,6 +8263,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -8285,7 +8334,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
         if (jj_2_110(2147483647)) {
           jjtn000.sub = ConditionBlock();
         } else if (jj_2_111(2147483647)) {
@@ -8296,7 +8345,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[208] = jj_gen;
+        jj_la1[210] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8414,7 +8463,7 @@ Token token;
               result = OBooleanExpression.FALSE;
           break;
         default:
-          jj_la1[209] = jj_gen;
+          jj_la1[211] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -8495,7 +8544,7 @@ Token token;
         result = ScAndOperator();
         break;
       default:
-        jj_la1[210] = jj_gen;
+        jj_la1[212] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8816,7 +8865,7 @@ Token token;
                  jjtn000.doubleEquals = true;
         break;
       default:
-        jj_la1[211] = jj_gen;
+        jj_la1[213] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8866,14 +8915,14 @@ Token token;
                    jjtn000.not = true;
           break;
         default:
-          jj_la1[212] = jj_gen;
+          jj_la1[214] = jj_gen;
           ;
         }
         jjtn000.inOperator = InOperator();
         jjtn000.right = Expression();
         break;
       default:
-        jj_la1[213] = jj_gen;
+        jj_la1[215] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9054,6 +9103,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -9118,7 +9168,7 @@ Token token;
                                                  jjtn000.rightString = token.image;
         break;
       default:
-        jj_la1[214] = jj_gen;
+        jj_la1[216] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9235,6 +9285,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9305,7 +9356,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_32:
@@ -9315,7 +9366,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[215] = jj_gen;
+              jj_la1[217] = jj_gen;
               break label_32;
             }
             jj_consume_token(COMMA);
@@ -9324,7 +9375,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[216] = jj_gen;
+          jj_la1[218] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -9392,6 +9443,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9462,7 +9514,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_33:
@@ -9472,7 +9524,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[217] = jj_gen;
+              jj_la1[219] = jj_gen;
               break label_33;
             }
             jj_consume_token(COMMA);
@@ -9481,7 +9533,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[218] = jj_gen;
+          jj_la1[220] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -9546,6 +9598,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9616,7 +9669,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           lastExpression = Expression();
                                                     jjtn000.rightExpressions.add(lastExpression);
           label_34:
@@ -9626,7 +9679,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[219] = jj_gen;
+              jj_la1[221] = jj_gen;
               break label_34;
             }
             jj_consume_token(COMMA);
@@ -9635,13 +9688,13 @@ Token token;
           }
           break;
         default:
-          jj_la1[220] = jj_gen;
+          jj_la1[222] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[221] = jj_gen;
+        jj_la1[223] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9947,7 +10000,7 @@ Token token;
             jjtn000.rightStatement = SelectWithoutTargetStatement();
             break;
           default:
-            jj_la1[222] = jj_gen;
+            jj_la1[224] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -10016,6 +10069,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10086,7 +10140,7 @@ Token token;
           jjtn000.rightMathExpression = MathExpression();
           break;
         default:
-          jj_la1[223] = jj_gen;
+          jj_la1[225] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10138,7 +10192,7 @@ Token token;
             jjtn000.rightStatement = SelectWithoutTargetStatement();
             break;
           default:
-            jj_la1[224] = jj_gen;
+            jj_la1[226] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -10207,6 +10261,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10277,7 +10332,7 @@ Token token;
           jjtn000.rightMathExpression = MathExpression();
           break;
         default:
-          jj_la1[225] = jj_gen;
+          jj_la1[227] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10464,7 +10519,7 @@ Token token;
           jjtn000.rightParam = InputParameter();
           break;
         default:
-          jj_la1[226] = jj_gen;
+          jj_la1[228] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10568,6 +10623,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -10625,7 +10681,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
                     lastItem = new OOrderByItem();
                     jjtn000.items.add(lastItem);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10686,6 +10742,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10748,14 +10805,14 @@ Token token;
                                                        lastItem.modifier = lastModifier;
             break;
           default:
-            jj_la1[227] = jj_gen;
+            jj_la1[229] = jj_gen;
             ;
           }
           break;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 269:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10763,7 +10820,7 @@ Token token;
                                                      lastItem.recordAttr = lastToken.image;
           break;
         default:
-          jj_la1[228] = jj_gen;
+          jj_la1[230] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10780,13 +10837,13 @@ Token token;
                                                                       lastItem.type = OOrderByItem.ASC;
             break;
           default:
-            jj_la1[229] = jj_gen;
+            jj_la1[231] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[230] = jj_gen;
+          jj_la1[232] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10795,7 +10852,7 @@ Token token;
           lastItem.collate = Expression();
           break;
         default:
-          jj_la1[231] = jj_gen;
+          jj_la1[233] = jj_gen;
           ;
         }
         break;
@@ -10861,6 +10918,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10923,14 +10981,14 @@ Token token;
                                                        lastItem.modifier = lastModifier;
             break;
           default:
-            jj_la1[232] = jj_gen;
+            jj_la1[234] = jj_gen;
             ;
           }
           break;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 269:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10938,7 +10996,7 @@ Token token;
                                                      lastItem.recordAttr = lastToken.image;
           break;
         default:
-          jj_la1[233] = jj_gen;
+          jj_la1[235] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10955,13 +11013,13 @@ Token token;
                                                                       lastItem.type = OOrderByItem.ASC;
             break;
           default:
-            jj_la1[234] = jj_gen;
+            jj_la1[236] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[235] = jj_gen;
+          jj_la1[237] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10970,13 +11028,13 @@ Token token;
           lastItem.collate = Expression();
           break;
         default:
-          jj_la1[236] = jj_gen;
+          jj_la1[238] = jj_gen;
           ;
         }
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[237] = jj_gen;
+        jj_la1[239] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -10987,7 +11045,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[238] = jj_gen;
+          jj_la1[240] = jj_gen;
           break label_35;
         }
         jj_consume_token(COMMA);
@@ -11049,6 +11107,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -11106,7 +11165,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
                         lastItem = new OOrderByItem();
                         jjtn000.items.add(lastItem);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -11167,6 +11226,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case INCLUDE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -11229,14 +11289,14 @@ Token token;
                                                            lastItem.modifier = lastModifier;
               break;
             default:
-              jj_la1[239] = jj_gen;
+              jj_la1[241] = jj_gen;
               ;
             }
             break;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 268:
+          case 269:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -11244,7 +11304,7 @@ Token token;
                                                          lastItem.recordAttr = lastToken.image;
             break;
           default:
-            jj_la1[240] = jj_gen;
+            jj_la1[242] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -11261,13 +11321,13 @@ Token token;
                                                                           lastItem.type = OOrderByItem.ASC;
               break;
             default:
-              jj_la1[241] = jj_gen;
+              jj_la1[243] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[242] = jj_gen;
+            jj_la1[244] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -11276,7 +11336,7 @@ Token token;
             lastItem.collate = Expression();
             break;
           default:
-            jj_la1[243] = jj_gen;
+            jj_la1[245] = jj_gen;
             ;
           }
           break;
@@ -11342,6 +11402,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case INCLUDE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -11404,14 +11465,14 @@ Token token;
                                                            lastItem.modifier = lastModifier;
               break;
             default:
-              jj_la1[244] = jj_gen;
+              jj_la1[246] = jj_gen;
               ;
             }
             break;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 268:
+          case 269:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -11419,7 +11480,7 @@ Token token;
                                                          lastItem.recordAttr = lastToken.image;
             break;
           default:
-            jj_la1[245] = jj_gen;
+            jj_la1[247] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -11436,13 +11497,13 @@ Token token;
                                                                           lastItem.type = OOrderByItem.ASC;
               break;
             default:
-              jj_la1[246] = jj_gen;
+              jj_la1[248] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[247] = jj_gen;
+            jj_la1[249] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -11451,13 +11512,13 @@ Token token;
             lastItem.collate = Expression();
             break;
           default:
-            jj_la1[248] = jj_gen;
+            jj_la1[250] = jj_gen;
             ;
           }
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[249] = jj_gen;
+          jj_la1[251] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -11507,7 +11568,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[250] = jj_gen;
+          jj_la1[252] = jj_gen;
           break label_36;
         }
         jj_consume_token(COMMA);
@@ -11558,7 +11619,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[251] = jj_gen;
+          jj_la1[253] = jj_gen;
           break label_37;
         }
         jj_consume_token(COMMA);
@@ -11610,7 +11671,7 @@ Token token;
         jjtn000.inputParam = InputParameter();
         break;
       default:
-        jj_la1[252] = jj_gen;
+        jj_la1[254] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -11661,7 +11722,7 @@ Token token;
           jjtn000.inputParam = InputParameter();
           break;
         default:
-          jj_la1[253] = jj_gen;
+          jj_la1[255] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -11678,13 +11739,13 @@ Token token;
           jjtn000.inputParam = InputParameter();
           break;
         default:
-          jj_la1[254] = jj_gen;
+          jj_la1[256] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[255] = jj_gen;
+        jj_la1[257] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -11733,7 +11794,7 @@ Token token;
         jjtn000.inputParam = InputParameter();
         break;
       default:
-        jj_la1[256] = jj_gen;
+        jj_la1[258] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -11787,13 +11848,13 @@ Token token;
                                 jjtn000.failureStrategy = OTimeout.EXCEPTION;
           break;
         default:
-          jj_la1[257] = jj_gen;
+          jj_la1[259] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[258] = jj_gen;
+        jj_la1[260] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -11962,6 +12023,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -12032,7 +12094,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
         lastExpression = Expression();
                                             jjtn000.expressions.add(lastExpression);
         label_38:
@@ -12042,7 +12104,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[259] = jj_gen;
+            jj_la1[261] = jj_gen;
             break label_38;
           }
           jj_consume_token(COMMA);
@@ -12051,7 +12113,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[260] = jj_gen;
+        jj_la1[262] = jj_gen;
         ;
       }
       jj_consume_token(RBRACKET);
@@ -12094,127 +12156,13 @@ Token token;
                                                  jjtn000.items.add(lastItem);
       label_39:
       while (true) {
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case TO:
-        case VALUE:
-        case VALUES:
-        case SET:
-        case ADD:
-        case PUT:
-        case MERGE:
-        case CONTENT:
-        case REMOVE:
-        case ORDER:
-        case GROUP:
-        case OFFSET:
-        case RECORD:
-        case CACHE:
-        case CYCLE:
-        case NOLIMIT:
-        case NOCYCLE:
-        case LUCENE:
-        case NEAR:
-        case WITHIN:
-        case MINDEPTH:
-        case CLASS:
-        case SUPERCLASS:
-        case CLASSES:
-        case SUPERCLASSES:
-        case VIEW:
-        case UPDATABLE:
-        case EXCEPTION:
-        case PROFILE:
-        case STORAGE:
-        case ON:
-        case OFF:
-        case TRUNCATE:
-        case FIND:
-        case REFERENCES:
-        case EXTENDS:
-        case CLUSTERS:
-        case ABSTRACT:
-        case ALTER:
-        case NAME:
-        case SHORTNAME:
-        case OVERSIZE:
-        case STRICTMODE:
-        case ADDCLUSTER:
-        case REMOVECLUSTER:
-        case CUSTOM:
-        case CLUSTERSELECTION:
-        case DESCRIPTION:
-        case ENCRYPTION:
-        case DROP:
-        case PROPERTY:
-        case FORCE:
-        case METADATA:
-        case INDEX:
-        case COLLATE:
-        case ENGINE:
-        case REBUILD:
-        case ID:
-        case DATABASE:
-        case OPTIMIZE:
-        case LINK:
-        case TYPE:
-        case INVERSE:
-        case EXPLAIN:
-        case GRANT:
-        case REVOKE:
-        case READ:
-        case EXECUTE:
-        case ALL:
-        case NONE:
-        case FUNCTION:
-        case PARAMETERS:
-        case IDEMPOTENT:
-        case LANGUAGE:
-        case BEGIN:
-        case COMMIT:
-        case ROLLBACK:
-        case IF:
-        case ELSE:
-        case CONTINUE:
-        case FAIL:
-        case ISOLATION:
-        case SLEEP:
-        case CONSOLE:
-        case BLOB:
-        case SHARED:
-        case DEFAULT_:
-        case SEQUENCE:
-        case START:
-        case OPTIONAL:
-        case COUNT:
-        case HA:
-        case STATUS:
-        case SERVER:
-        case SYNC:
-        case EXISTS:
-        case MOVE:
-        case DEPTH_ALIAS:
-        case PATH_ALIAS:
-        case IDENTIFIED:
-        case ROLE:
-        case USER:
-        case RID:
-        case SECURITY:
-        case POLICY:
-        case DEFAULTCLUSTER:
-        case LBRACKET:
-        case STAR:
-        case IN:
-        case KEY:
-        case IDENTIFIER:
-        case QUOTED_IDENTIFIER:
+        if (jj_2_143(2)) {
           ;
-          break;
-        default:
-          jj_la1[261] = jj_gen;
+        } else {
           break label_39;
         }
         lastItem = FetchPlanItem();
-                                       jjtn000.items.add(lastItem);
+                                                    jjtn000.items.add(lastItem);
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -12313,6 +12261,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -12380,14 +12329,14 @@ Token token;
                              jjtn000.leftStar = true;
             break;
           default:
-            jj_la1[262] = jj_gen;
+            jj_la1[263] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[263] = jj_gen;
+          jj_la1[264] = jj_gen;
           ;
         }
         lastIdentifier = Identifier();
@@ -12398,7 +12347,7 @@ Token token;
                                                                              lastStarred = true;
           break;
         default:
-          jj_la1[264] = jj_gen;
+          jj_la1[265] = jj_gen;
           ;
         }
                 String field = lastIdentifier.getValue();
@@ -12413,7 +12362,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[265] = jj_gen;
+            jj_la1[266] = jj_gen;
             break label_40;
           }
           jj_consume_token(DOT);
@@ -12425,7 +12374,7 @@ Token token;
                                                                                         lastStarred = true;
             break;
           default:
-            jj_la1[266] = jj_gen;
+            jj_la1[267] = jj_gen;
             ;
           }
                      field = lastIdentifier.getValue();
@@ -12436,7 +12385,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[267] = jj_gen;
+        jj_la1[268] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12477,7 +12426,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_143(2147483647)) {
+      if (jj_2_144(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {
         ;
@@ -12576,6 +12525,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -12692,6 +12642,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -12761,7 +12712,7 @@ Token token;
                                               lastItem.leftString = token.image.substring(1, token.image.length() - 1);
           break;
         default:
-          jj_la1[268] = jj_gen;
+          jj_la1[269] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -12775,7 +12726,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[269] = jj_gen;
+            jj_la1[270] = jj_gen;
             break label_41;
           }
           jj_consume_token(COMMA);
@@ -12838,6 +12789,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case INCLUDE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -12907,7 +12859,7 @@ Token token;
                                                   lastItem.leftString = token.image.substring(1, token.image.length() - 1);
             break;
           default:
-            jj_la1[270] = jj_gen;
+            jj_la1[271] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -12917,7 +12869,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[271] = jj_gen;
+        jj_la1[272] = jj_gen;
         ;
       }
       jj_consume_token(RBRACE);
@@ -12966,16 +12918,16 @@ Token token;
           ;
           break;
         default:
-          jj_la1[272] = jj_gen;
+          jj_la1[273] = jj_gen;
           break label_42;
         }
-        if (jj_2_144(3)) {
+        if (jj_2_145(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_145(3)) {
-          nextItem = MultiMatchPathItemArrows();
         } else if (jj_2_146(3)) {
+          nextItem = MultiMatchPathItemArrows();
+        } else if (jj_2_147(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_147(2147483647)) {
+        } else if (jj_2_148(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -12983,8 +12935,8 @@ Token token;
             nextItem = InPathItem();
             break;
           default:
-            jj_la1[273] = jj_gen;
-            if (jj_2_148(2147483647)) {
+            jj_la1[274] = jj_gen;
+            if (jj_2_149(2147483647)) {
               nextItem = BothPathItem();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -12992,7 +12944,7 @@ Token token;
                 nextItem = FieldMatchPathItem();
                 break;
               default:
-                jj_la1[274] = jj_gen;
+                jj_la1[275] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -13041,7 +12993,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[275] = jj_gen;
+        jj_la1[276] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -13085,7 +13037,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[276] = jj_gen;
+        jj_la1[277] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -13128,7 +13080,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[277] = jj_gen;
+        jj_la1[278] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -13171,7 +13123,7 @@ Token token;
                                               jjtn000.items.add(nextItem);
       label_43:
       while (true) {
-        if (jj_2_149(2147483647)) {
+        if (jj_2_150(2147483647)) {
           ;
         } else {
           break label_43;
@@ -13185,7 +13137,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[278] = jj_gen;
+        jj_la1[279] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -13227,13 +13179,13 @@ Token token;
       jj_consume_token(LPAREN);
       label_44:
       while (true) {
-        if (jj_2_150(2147483647)) {
+        if (jj_2_151(2147483647)) {
           nextItem = OutPathItemOpt();
                                                jjtn000.items.add(nextItem);
-        } else if (jj_2_151(2147483647)) {
+        } else if (jj_2_152(2147483647)) {
           nextItem = InPathItemOpt();
                                               jjtn000.items.add(nextItem);
-        } else if (jj_2_152(2147483647)) {
+        } else if (jj_2_153(2147483647)) {
           nextItem = BothPathItemOpt();
                                                 jjtn000.items.add(nextItem);
         } else {
@@ -13251,7 +13203,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[279] = jj_gen;
+          jj_la1[280] = jj_gen;
           break label_44;
         }
       }
@@ -13261,7 +13213,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[280] = jj_gen;
+        jj_la1[281] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -13322,7 +13274,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[281] = jj_gen;
+            jj_la1[282] = jj_gen;
             break label_45;
           }
           jj_consume_token(COMMA);
@@ -13331,7 +13283,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[282] = jj_gen;
+        jj_la1[283] = jj_gen;
         ;
       }
       jj_consume_token(RBRACE);
@@ -13441,6 +13393,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13501,7 +13454,7 @@ Token token;
           jjtn000.clusterId = Integer();
           break;
         default:
-          jj_la1[283] = jj_gen;
+          jj_la1[284] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -13518,7 +13471,7 @@ Token token;
                                                          jjtn000.clusterId = new OInteger(-1); jjtn000.clusterId.setValue(Integer.parseInt(lastToken.image.split(":")[1]));
           break;
         default:
-          jj_la1[284] = jj_gen;
+          jj_la1[285] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -13565,7 +13518,7 @@ Token token;
                           jjtn000.optional = false;
           break;
         default:
-          jj_la1[285] = jj_gen;
+          jj_la1[286] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -13581,7 +13534,7 @@ Token token;
         jjtn000.pathAlias = Identifier();
         break;
       default:
-        jj_la1[286] = jj_gen;
+        jj_la1[287] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13680,6 +13633,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13736,7 +13690,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[287] = jj_gen;
+          jj_la1[288] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -13745,7 +13699,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[288] = jj_gen;
+        jj_la1[289] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13858,6 +13812,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13914,7 +13869,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[289] = jj_gen;
+          jj_la1[290] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -13923,7 +13878,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[290] = jj_gen;
+        jj_la1[291] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14034,6 +13989,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14090,7 +14046,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[291] = jj_gen;
+          jj_la1[292] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -14099,7 +14055,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[292] = jj_gen;
+        jj_la1[293] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14210,6 +14166,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14266,7 +14223,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[293] = jj_gen;
+          jj_la1[294] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -14275,7 +14232,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[294] = jj_gen;
+        jj_la1[295] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14285,7 +14242,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[295] = jj_gen;
+        jj_la1[296] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14395,6 +14352,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14451,7 +14409,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[296] = jj_gen;
+          jj_la1[297] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -14460,7 +14418,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[297] = jj_gen;
+        jj_la1[298] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14469,7 +14427,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[298] = jj_gen;
+        jj_la1[299] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14578,6 +14536,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14634,7 +14593,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[299] = jj_gen;
+          jj_la1[300] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -14643,7 +14602,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[300] = jj_gen;
+        jj_la1[301] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14652,7 +14611,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[301] = jj_gen;
+        jj_la1[302] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14712,7 +14671,7 @@ Token token;
                        jjtn000.on = false;
         break;
       default:
-        jj_la1[302] = jj_gen;
+        jj_la1[303] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14745,7 +14704,7 @@ Token token;
                          jjtn000.polymorphic = true;
         break;
       default:
-        jj_la1[303] = jj_gen;
+        jj_la1[304] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14754,7 +14713,7 @@ Token token;
                     jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[304] = jj_gen;
+        jj_la1[305] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -14851,6 +14810,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -14911,7 +14871,7 @@ Token token;
         jjtn000.clusterNumber = Integer();
         break;
       default:
-        jj_la1[305] = jj_gen;
+        jj_la1[306] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14921,7 +14881,7 @@ Token token;
                     jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[306] = jj_gen;
+        jj_la1[307] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -14964,7 +14924,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 269:
         jjtn000.record = Rid();
         break;
       case LBRACKET:
@@ -14974,7 +14934,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 269:
           lastRecord = Rid();
                                                      jjtn000.records.add(lastRecord);
           label_46:
@@ -14984,7 +14944,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[307] = jj_gen;
+              jj_la1[308] = jj_gen;
               break label_46;
             }
             jj_consume_token(COMMA);
@@ -14993,13 +14953,13 @@ Token token;
           }
           break;
         default:
-          jj_la1[308] = jj_gen;
+          jj_la1[309] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[309] = jj_gen;
+        jj_la1[310] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15043,7 +15003,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 269:
         jjtn000.rid = Rid();
         break;
       case LPAREN:
@@ -15052,7 +15012,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[310] = jj_gen;
+        jj_la1[311] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15118,6 +15078,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15178,7 +15139,7 @@ Token token;
           lastTarget = Cluster();
           break;
         default:
-          jj_la1[311] = jj_gen;
+          jj_la1[312] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15190,7 +15151,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[312] = jj_gen;
+            jj_la1[313] = jj_gen;
             break label_47;
           }
           jj_consume_token(COMMA);
@@ -15252,6 +15213,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case INCLUDE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -15312,7 +15274,7 @@ Token token;
             lastTarget = Cluster();
             break;
           default:
-            jj_la1[313] = jj_gen;
+            jj_la1[314] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -15321,7 +15283,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[314] = jj_gen;
+        jj_la1[315] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -15370,7 +15332,7 @@ Token token;
                                         jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[315] = jj_gen;
+        jj_la1[316] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15385,7 +15347,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[316] = jj_gen;
+            jj_la1[317] = jj_gen;
             break label_48;
           }
           jj_consume_token(COMMA);
@@ -15394,7 +15356,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[317] = jj_gen;
+        jj_la1[318] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15409,7 +15371,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[318] = jj_gen;
+            jj_la1[319] = jj_gen;
             break label_49;
           }
           jj_consume_token(COMMA);
@@ -15418,7 +15380,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[319] = jj_gen;
+        jj_la1[320] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15427,7 +15389,7 @@ Token token;
         jjtn000.totalClusterNo = Integer();
         break;
       default:
-        jj_la1[320] = jj_gen;
+        jj_la1[321] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15436,7 +15398,7 @@ Token token;
                                jjtn000.abstractClass = true;
         break;
       default:
-        jj_la1[321] = jj_gen;
+        jj_la1[322] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -15484,7 +15446,7 @@ Token token;
                                         jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[322] = jj_gen;
+        jj_la1[323] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -15497,7 +15459,7 @@ Token token;
         jjtn000.metadata = Json();
         break;
       default:
-        jj_la1[323] = jj_gen;
+        jj_la1[324] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -15607,6 +15569,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15666,7 +15629,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[324] = jj_gen;
+          jj_la1[325] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15687,13 +15650,13 @@ Token token;
                                                  jjtn000.remove = true;
             break;
           default:
-            jj_la1[325] = jj_gen;
+            jj_la1[326] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[326] = jj_gen;
+          jj_la1[327] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15754,6 +15717,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15814,7 +15778,7 @@ Token token;
                                          jjtn000.identifierValue = null;
           break;
         default:
-          jj_la1[327] = jj_gen;
+          jj_la1[328] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15881,6 +15845,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15943,7 +15908,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[328] = jj_gen;
+              jj_la1[329] = jj_gen;
               break label_50;
             }
             jj_consume_token(COMMA);
@@ -15956,7 +15921,7 @@ Token token;
                                          jjtn000.identifierListValue = null;
           break;
         default:
-          jj_la1[329] = jj_gen;
+          jj_la1[330] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15979,7 +15944,7 @@ Token token;
                                                   jjtn000.booleanValue = false;
           break;
         default:
-          jj_la1[330] = jj_gen;
+          jj_la1[331] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16045,6 +16010,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16105,7 +16071,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[331] = jj_gen;
+          jj_la1[332] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16171,6 +16137,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16231,7 +16198,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[332] = jj_gen;
+          jj_la1[333] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16256,7 +16223,7 @@ Token token;
                                                   jjtn000.booleanValue = false;
           break;
         default:
-          jj_la1[333] = jj_gen;
+          jj_la1[334] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16322,6 +16289,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16377,8 +16345,8 @@ Token token;
         case QUOTED_IDENTIFIER:
           jjtn000.identifierValue = Identifier();
           break;
-        case 270:
-          jj_consume_token(270);
+        case 271:
+          jj_consume_token(271);
                                                 jjtn000.customString = "round-robin";
           break;
         case RID_STRING:
@@ -16387,7 +16355,7 @@ Token token;
                                                                     jjtn000.customString = jjtn000.customString.substring(1, jjtn000.customString.length() - 1);
           break;
         default:
-          jj_la1[334] = jj_gen;
+          jj_la1[335] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16453,6 +16421,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16512,7 +16481,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[335] = jj_gen;
+          jj_la1[336] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16578,6 +16547,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16637,7 +16607,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[336] = jj_gen;
+          jj_la1[337] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16706,6 +16676,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16762,13 +16733,13 @@ Token token;
           jjtn000.defaultClusterName = Identifier();
           break;
         default:
-          jj_la1[337] = jj_gen;
+          jj_la1[338] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[338] = jj_gen;
+        jj_la1[339] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16778,7 +16749,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[339] = jj_gen;
+        jj_la1[340] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16825,7 +16796,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[340] = jj_gen;
+        jj_la1[341] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -16834,7 +16805,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[341] = jj_gen;
+        jj_la1[342] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16881,7 +16852,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[342] = jj_gen;
+        jj_la1[343] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16941,7 +16912,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_153(3)) {
+      if (jj_2_154(3)) {
         IfNotExists();
                                                    jjtn000.ifNotExists = true;
       } else {
@@ -17006,6 +16977,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -17062,7 +17034,7 @@ Token token;
         jjtn000.linkedType = Identifier();
         break;
       default:
-        jj_la1[343] = jj_gen;
+        jj_la1[344] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17077,7 +17049,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[344] = jj_gen;
+            jj_la1[345] = jj_gen;
             break label_51;
           }
           jj_consume_token(COMMA);
@@ -17087,7 +17059,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[345] = jj_gen;
+        jj_la1[346] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17096,7 +17068,7 @@ Token token;
                              jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[346] = jj_gen;
+        jj_la1[347] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -17178,7 +17150,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_154(3)) {
+      if (jj_2_155(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -17242,6 +17214,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17299,7 +17272,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[347] = jj_gen;
+          jj_la1[348] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -17350,7 +17323,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[348] = jj_gen;
+        jj_la1[349] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17359,7 +17332,7 @@ Token token;
                     jjtn000.force = true;
         break;
       default:
-        jj_la1[349] = jj_gen;
+        jj_la1[350] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -17401,7 +17374,7 @@ Token token;
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_156(4)) {
+      if (jj_2_158(4)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case IF:
           jj_consume_token(IF);
@@ -17410,7 +17383,7 @@ Token token;
                                    jjtn000.ifNotExists = true;
           break;
         default:
-          jj_la1[350] = jj_gen;
+          jj_la1[351] = jj_gen;
           ;
         }
         jj_consume_token(ON);
@@ -17474,6 +17447,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17539,7 +17513,7 @@ Token token;
                     jjtn000.propertyList.add(lastProperty);
           break;
         default:
-          jj_la1[351] = jj_gen;
+          jj_la1[352] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -17556,13 +17530,13 @@ Token token;
                               lastProperty.byValue = true;
             break;
           default:
-            jj_la1[352] = jj_gen;
+            jj_la1[353] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[353] = jj_gen;
+          jj_la1[354] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17571,7 +17545,7 @@ Token token;
           lastProperty.collate = Identifier();
           break;
         default:
-          jj_la1[354] = jj_gen;
+          jj_la1[355] = jj_gen;
           ;
         }
         label_52:
@@ -17581,7 +17555,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[355] = jj_gen;
+            jj_la1[356] = jj_gen;
             break label_52;
           }
           jj_consume_token(COMMA);
@@ -17643,6 +17617,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case INCLUDE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -17708,7 +17683,7 @@ Token token;
                         jjtn000.propertyList.add(lastProperty);
             break;
           default:
-            jj_la1[356] = jj_gen;
+            jj_la1[357] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -17725,13 +17700,13 @@ Token token;
                                   lastProperty.byValue = true;
               break;
             default:
-              jj_la1[357] = jj_gen;
+              jj_la1[358] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[358] = jj_gen;
+            jj_la1[359] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17740,11 +17715,34 @@ Token token;
             lastProperty.collate = Identifier();
             break;
           default:
-            jj_la1[359] = jj_gen;
+            jj_la1[360] = jj_gen;
             ;
           }
         }
         jj_consume_token(RPAREN);
+        if (jj_2_156(2)) {
+          jj_consume_token(INCLUDE);
+          jj_consume_token(LPAREN);
+          lastIdentifier = Identifier();
+                                                jjtn000.includeList.add(lastIdentifier);
+          label_53:
+          while (true) {
+            switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+            case COMMA:
+              ;
+              break;
+            default:
+              jj_la1[361] = jj_gen;
+              break label_53;
+            }
+            jj_consume_token(COMMA);
+            lastIdentifier = Identifier();
+                                                            jjtn000.includeList.add(lastIdentifier);
+          }
+          jj_consume_token(RPAREN);
+        } else {
+          ;
+        }
         jjtn000.type = Identifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17805,6 +17803,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17858,7 +17857,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_155(3)) {
+          if (jj_2_157(3)) {
             jj_consume_token(IF);
             jj_consume_token(NOT);
             jj_consume_token(EXISTS);
@@ -17923,6 +17922,7 @@ Token token;
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case INCLUDE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -17979,19 +17979,19 @@ Token token;
               jjtn000.type = Identifier();
               break;
             default:
-              jj_la1[360] = jj_gen;
+              jj_la1[362] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[361] = jj_gen;
+          jj_la1[363] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
       }
-      if (jj_2_159(2)) {
+      if (jj_2_161(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18052,6 +18052,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -18105,7 +18106,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_157(2)) {
+          if (jj_2_159(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -18167,6 +18168,7 @@ Token token;
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case INCLUDE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -18222,15 +18224,15 @@ Token token;
             case QUOTED_IDENTIFIER:
               lastIdentifier = Identifier();
                                                    jjtn000.keyTypes.add(lastIdentifier);
-              label_53:
+              label_54:
               while (true) {
                 switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[362] = jj_gen;
-                  break label_53;
+                  jj_la1[364] = jj_gen;
+                  break label_54;
                 }
                 jj_consume_token(COMMA);
                 lastIdentifier = Identifier();
@@ -18242,19 +18244,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[363] = jj_gen;
+                jj_la1[365] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[364] = jj_gen;
+              jj_la1[366] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[365] = jj_gen;
+          jj_la1[367] = jj_gen;
           ;
         }
       } else {
@@ -18316,6 +18318,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -18369,7 +18372,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_158(2)) {
+          if (jj_2_160(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -18431,6 +18434,7 @@ Token token;
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case INCLUDE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -18486,15 +18490,15 @@ Token token;
             case QUOTED_IDENTIFIER:
               lastIdentifier = Identifier();
                                                    jjtn000.keyTypes.add(lastIdentifier);
-              label_54:
+              label_55:
               while (true) {
                 switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[366] = jj_gen;
-                  break label_54;
+                  jj_la1[368] = jj_gen;
+                  break label_55;
                 }
                 jj_consume_token(COMMA);
                 lastIdentifier = Identifier();
@@ -18506,21 +18510,30 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[367] = jj_gen;
+                jj_la1[369] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[368] = jj_gen;
+              jj_la1[370] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[369] = jj_gen;
+          jj_la1[371] = jj_gen;
           ;
         }
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case WHERE:
+        jj_consume_token(WHERE);
+        jjtn000.whereClause = WhereClause();
+        break;
+      default:
+        jj_la1[372] = jj_gen;
+        ;
       }
           jjtree.closeNodeScope(jjtn000, true);
           jjtc000 = false;
@@ -18616,6 +18629,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -18669,7 +18683,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 269:
+      case 270:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -18677,7 +18691,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[370] = jj_gen;
+        jj_la1[373] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18775,6 +18789,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -18828,7 +18843,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 269:
+      case 270:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -18836,7 +18851,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[371] = jj_gen;
+        jj_la1[374] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18847,7 +18862,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[372] = jj_gen;
+        jj_la1[375] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18895,7 +18910,7 @@ Token token;
                                  jjtn000.blob = true;
         break;
       default:
-        jj_la1[373] = jj_gen;
+        jj_la1[376] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18908,7 +18923,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[374] = jj_gen;
+        jj_la1[377] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18917,7 +18932,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[375] = jj_gen;
+        jj_la1[378] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18963,7 +18978,7 @@ Token token;
                    jjtn000.starred = true;
         break;
       default:
-        jj_la1[376] = jj_gen;
+        jj_la1[379] = jj_gen;
         ;
       }
       jjtn000.attributeName = Identifier();
@@ -19062,6 +19077,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -19122,7 +19138,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[377] = jj_gen;
+        jj_la1[380] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19133,7 +19149,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[378] = jj_gen;
+        jj_la1[381] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -19172,7 +19188,7 @@ Token token;
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_160(3)) {
+      if (jj_2_162(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -19236,6 +19252,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -19293,7 +19310,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[379] = jj_gen;
+          jj_la1[382] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -19370,15 +19387,15 @@ Token token;
     try {
       jj_consume_token(OPTIMIZE);
       jj_consume_token(DATABASE);
-      label_55:
+      label_56:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case MINUS:
           ;
           break;
         default:
-          jj_la1[380] = jj_gen;
-          break label_55;
+          jj_la1[383] = jj_gen;
+          break label_56;
         }
         lastOption = CommandLineOption();
                                                jjtn000.options.add(lastOption);
@@ -19483,6 +19500,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -19542,7 +19560,7 @@ Token token;
         jjtn000.sourceRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[381] = jj_gen;
+        jj_la1[384] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19607,6 +19625,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -19666,7 +19685,7 @@ Token token;
         jjtn000.destRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[382] = jj_gen;
+        jj_la1[385] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19676,7 +19695,7 @@ Token token;
                       jjtn000.inverse = true;
         break;
       default:
-        jj_la1[383] = jj_gen;
+        jj_la1[386] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19815,7 +19834,7 @@ Token token;
                  jjtn000.permission = "NONE";
         break;
       default:
-        jj_la1[384] = jj_gen;
+        jj_la1[387] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19905,6 +19924,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -19961,7 +19981,7 @@ Token token;
         jjtn000.identifier = Identifier();
         break;
       default:
-        jj_la1[385] = jj_gen;
+        jj_la1[388] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -20004,15 +20024,15 @@ Token token;
       jj_consume_token(ON);
       lastItem = ResourcePathItem();
                                         jjtn000.resourceChain.add(lastItem);
-      label_56:
+      label_57:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case DOT:
           ;
           break;
         default:
-          jj_la1[386] = jj_gen;
-          break label_56;
+          jj_la1[389] = jj_gen;
+          break label_57;
         }
         jj_consume_token(DOT);
         lastItem = ResourcePathItem();
@@ -20059,15 +20079,15 @@ Token token;
       jj_consume_token(ON);
       lastItem = ResourcePathItem();
                                         jjtn000.resourceChain.add(lastItem);
-      label_57:
+      label_58:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case DOT:
           ;
           break;
         default:
-          jj_la1[387] = jj_gen;
-          break label_57;
+          jj_la1[390] = jj_gen;
+          break label_58;
         }
         jj_consume_token(DOT);
         lastItem = ResourcePathItem();
@@ -20122,15 +20142,15 @@ Token token;
         lastIdentifier = Identifier();
                 jjtn000.parameters = new ArrayList<OIdentifier>();
                 jjtn000.parameters.add(lastIdentifier);
-        label_58:
+        label_59:
         while (true) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
           case COMMA:
             ;
             break;
           default:
-            jj_la1[388] = jj_gen;
-            break label_58;
+            jj_la1[391] = jj_gen;
+            break label_59;
           }
           jj_consume_token(COMMA);
           lastIdentifier = Identifier();
@@ -20139,7 +20159,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[389] = jj_gen;
+        jj_la1[392] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -20155,13 +20175,13 @@ Token token;
                           jjtn000.idempotent = false;
           break;
         default:
-          jj_la1[390] = jj_gen;
+          jj_la1[393] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[391] = jj_gen;
+        jj_la1[394] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -20170,7 +20190,7 @@ Token token;
         jjtn000.language = Identifier();
         break;
       default:
-        jj_la1[392] = jj_gen;
+        jj_la1[395] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20271,6 +20291,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -20331,7 +20352,7 @@ Token token;
         jjtn000.passwordString = String();
         break;
       default:
-        jj_la1[393] = jj_gen;
+        jj_la1[396] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -20396,6 +20417,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -20512,6 +20534,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case INCLUDE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -20567,15 +20590,15 @@ Token token;
           case QUOTED_IDENTIFIER:
             lastIdentifier = Identifier();
                                                  jjtn000.roles.add(lastIdentifier);
-            label_59:
+            label_60:
             while (true) {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
               case COMMA:
                 ;
                 break;
               default:
-                jj_la1[394] = jj_gen;
-                break label_59;
+                jj_la1[397] = jj_gen;
+                break label_60;
               }
               jj_consume_token(COMMA);
               lastIdentifier = Identifier();
@@ -20583,19 +20606,19 @@ Token token;
             }
             break;
           default:
-            jj_la1[395] = jj_gen;
+            jj_la1[398] = jj_gen;
             ;
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[396] = jj_gen;
+          jj_la1[399] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[397] = jj_gen;
+        jj_la1[400] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20673,7 +20696,7 @@ Token token;
       jj_consume_token(ALTER);
       jj_consume_token(ROLE);
       jjtn000.name = Identifier();
-      label_60:
+      label_61:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SET:
@@ -20696,7 +20719,7 @@ Token token;
             lastSecurityResource, null));
           break;
         default:
-          jj_la1[398] = jj_gen;
+          jj_la1[401] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20706,8 +20729,8 @@ Token token;
           ;
           break;
         default:
-          jj_la1[399] = jj_gen;
-          break label_60;
+          jj_la1[402] = jj_gen;
+          break label_61;
         }
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20747,9 +20770,9 @@ Token token;
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_161(2147483647)) {
+      if (jj_2_163(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_162(2147483647)) {
+      } else if (jj_2_164(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -20796,7 +20819,7 @@ Token token;
         jjtn000.isolation = Identifier();
         break;
       default:
-        jj_la1[400] = jj_gen;
+        jj_la1[403] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20845,7 +20868,7 @@ Token token;
           case LBRACE:
                     jjtn000.elseStatements = new ArrayList();
             jj_consume_token(LBRACE);
-            label_61:
+            label_62:
             while (true) {
               last = StatementInternal();
                                                  jjtn000.elseStatements.add(last);
@@ -20881,8 +20904,8 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[401] = jj_gen;
-                break label_61;
+                jj_la1[404] = jj_gen;
+                break label_62;
               }
             }
             jj_consume_token(RBRACE);
@@ -20899,13 +20922,13 @@ Token token;
                                                                                       jjtn000.elseFail = true;
                 break;
               default:
-                jj_la1[402] = jj_gen;
+                jj_la1[405] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
               break;
             default:
-              jj_la1[403] = jj_gen;
+              jj_la1[406] = jj_gen;
               ;
             }
             break;
@@ -20921,24 +20944,24 @@ Token token;
                                                                             jjtn000.elseFail = true;
               break;
             default:
-              jj_la1[404] = jj_gen;
+              jj_la1[407] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[405] = jj_gen;
+            jj_la1[408] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[406] = jj_gen;
+          jj_la1[409] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[407] = jj_gen;
+        jj_la1[410] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21056,6 +21079,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -21126,11 +21150,11 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 269:
         jjtn000.expression = Expression();
         break;
       default:
-        jj_la1[408] = jj_gen;
+        jj_la1[411] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21172,7 +21196,7 @@ Token token;
       jjtn000.expression = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_62:
+      label_63:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -21243,6 +21267,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -21315,14 +21340,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           ;
           break;
         default:
-          jj_la1[409] = jj_gen;
-          break label_62;
+          jj_la1[412] = jj_gen;
+          break label_63;
         }
-        if (jj_2_163(2147483647)) {
+        if (jj_2_165(2147483647)) {
           last = StatementSemicolon();
                                           jjtn000.statements.add(last);
         } else {
@@ -21343,7 +21368,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[410] = jj_gen;
+            jj_la1[413] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21469,7 +21494,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[411] = jj_gen;
+        jj_la1[414] = jj_gen;
         ;
       }
       jj_consume_token(TYPE);
@@ -21481,7 +21506,7 @@ Token token;
             }else{
                 {if (true) throw new ParseException();}
             }
-      label_63:
+      label_64:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case INCREMENT:
@@ -21494,8 +21519,8 @@ Token token;
           ;
           break;
         default:
-          jj_la1[412] = jj_gen;
-          break label_63;
+          jj_la1[415] = jj_gen;
+          break label_64;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case START:
@@ -21522,7 +21547,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[413] = jj_gen;
+            jj_la1[416] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21540,7 +21565,7 @@ Token token;
                        jjtn000.positive = false;
           break;
         default:
-          jj_la1[414] = jj_gen;
+          jj_la1[417] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21582,7 +21607,7 @@ Token token;
       jj_consume_token(ALTER);
       jj_consume_token(SEQUENCE);
       jjtn000.name = Identifier();
-      label_64:
+      label_65:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case INCREMENT:
@@ -21596,8 +21621,8 @@ Token token;
           ;
           break;
         default:
-          jj_la1[415] = jj_gen;
-          break label_64;
+          jj_la1[418] = jj_gen;
+          break label_65;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case START:
@@ -21624,7 +21649,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[416] = jj_gen;
+            jj_la1[419] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21645,144 +21670,6 @@ Token token;
           jj_consume_token(NOLIMIT);
                           jjtn000.turnLimitOff = true;
           break;
-        default:
-          jj_la1[417] = jj_gen;
-          jj_consume_token(-1);
-          throw new ParseException();
-        }
-      }
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {if (true) return jjtn000;}
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {if (true) throw (RuntimeException)jjte000;}
-      }
-      if (jjte000 instanceof ParseException) {
-        {if (true) throw (ParseException)jjte000;}
-      }
-      {if (true) throw (Error)jjte000;}
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public ODropSequenceStatement DropSequenceStatement() throws ParseException {
- /*@bgen(jjtree) DropSequenceStatement */
- ODropSequenceStatement jjtn000 = new ODropSequenceStatement(JJTDROPSEQUENCESTATEMENT);
- boolean jjtc000 = true;
- jjtree.openNodeScope(jjtn000);
- jjtn000.jjtSetFirstToken(getToken(1));OIdentifier lastIdentifier;
-    try {
-      jj_consume_token(DROP);
-      jj_consume_token(SEQUENCE);
-      jjtn000.name = Identifier();
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case IF:
-        jj_consume_token(IF);
-        jj_consume_token(EXISTS);
-                          jjtn000.ifExists = true;
-        break;
-      default:
-        jj_la1[418] = jj_gen;
-        ;
-      }
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {if (true) return jjtn000;}
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {if (true) throw (RuntimeException)jjte000;}
-      }
-      if (jjte000 instanceof ParseException) {
-        {if (true) throw (ParseException)jjte000;}
-      }
-      {if (true) throw (Error)jjte000;}
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public OHaStatusStatement HaStatusStatement() throws ParseException {
- /*@bgen(jjtree) HaStatusStatement */
- OHaStatusStatement jjtn000 = new OHaStatusStatement(JJTHASTATUSSTATEMENT);
- boolean jjtc000 = true;
- jjtree.openNodeScope(jjtn000);
- jjtn000.jjtSetFirstToken(getToken(1));Token token;
-    try {
-      jj_consume_token(HA);
-      jj_consume_token(STATUS);
-      label_65:
-      while (true) {
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 271:
-        case 272:
-        case 273:
-        case 274:
-        case 275:
-        case 276:
-        case 277:
-          ;
-          break;
-        default:
-          jj_la1[419] = jj_gen;
-          break label_65;
-        }
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 271:
-          token = jj_consume_token(271);
-                                 jjtn000.servers = true;
-          break;
-        case 272:
-          token = jj_consume_token(272);
-                            jjtn000.db = true;
-          break;
-        case 273:
-          token = jj_consume_token(273);
-                                 jjtn000.latency = true;
-          break;
-        case 274:
-          token = jj_consume_token(274);
-                                  jjtn000.messages = true;
-          break;
-        case 275:
-          token = jj_consume_token(275);
-                               jjtn000.locks = true;
-          break;
-        case 276:
-          token = jj_consume_token(276);
-                jjtn000.servers = true;
-                jjtn000.db = true;
-                jjtn000.latency = true;
-                jjtn000.messages = true;
-                jjtn000.locks = true;
-          break;
-        case 277:
-          token = jj_consume_token(277);
-                                     jjtn000.outputText = true;
-          break;
         default:
           jj_la1[420] = jj_gen;
           jj_consume_token(-1);
@@ -21793,30 +21680,168 @@ Token token;
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
       {if (true) return jjtn000;}
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public OHaRemoveServerStatement HaRemoveServerStatement() throws ParseException {
- /*@bgen(jjtree) HaRemoveServerStatement */
-  OHaRemoveServerStatement jjtn000 = new OHaRemoveServerStatement(JJTHAREMOVESERVERSTATEMENT);
-  boolean jjtc000 = true;
-  jjtree.openNodeScope(jjtn000);
-  jjtn000.jjtSetFirstToken(getToken(1));
-    try {
-      jj_consume_token(HA);
-      jj_consume_token(REMOVE);
-      jj_consume_token(SERVER);
-      jjtn000.serverName = Identifier();
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public ODropSequenceStatement DropSequenceStatement() throws ParseException {
+ /*@bgen(jjtree) DropSequenceStatement */
+ ODropSequenceStatement jjtn000 = new ODropSequenceStatement(JJTDROPSEQUENCESTATEMENT);
+ boolean jjtc000 = true;
+ jjtree.openNodeScope(jjtn000);
+ jjtn000.jjtSetFirstToken(getToken(1));OIdentifier lastIdentifier;
+    try {
+      jj_consume_token(DROP);
+      jj_consume_token(SEQUENCE);
+      jjtn000.name = Identifier();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case IF:
+        jj_consume_token(IF);
+        jj_consume_token(EXISTS);
+                          jjtn000.ifExists = true;
+        break;
+      default:
+        jj_la1[421] = jj_gen;
+        ;
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OHaStatusStatement HaStatusStatement() throws ParseException {
+ /*@bgen(jjtree) HaStatusStatement */
+ OHaStatusStatement jjtn000 = new OHaStatusStatement(JJTHASTATUSSTATEMENT);
+ boolean jjtc000 = true;
+ jjtree.openNodeScope(jjtn000);
+ jjtn000.jjtSetFirstToken(getToken(1));Token token;
+    try {
+      jj_consume_token(HA);
+      jj_consume_token(STATUS);
+      label_66:
+      while (true) {
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case 272:
+        case 273:
+        case 274:
+        case 275:
+        case 276:
+        case 277:
+        case 278:
+          ;
+          break;
+        default:
+          jj_la1[422] = jj_gen;
+          break label_66;
+        }
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case 272:
+          token = jj_consume_token(272);
+                                 jjtn000.servers = true;
+          break;
+        case 273:
+          token = jj_consume_token(273);
+                            jjtn000.db = true;
+          break;
+        case 274:
+          token = jj_consume_token(274);
+                                 jjtn000.latency = true;
+          break;
+        case 275:
+          token = jj_consume_token(275);
+                                  jjtn000.messages = true;
+          break;
+        case 276:
+          token = jj_consume_token(276);
+                               jjtn000.locks = true;
+          break;
+        case 277:
+          token = jj_consume_token(277);
+                jjtn000.servers = true;
+                jjtn000.db = true;
+                jjtn000.latency = true;
+                jjtn000.messages = true;
+                jjtn000.locks = true;
+          break;
+        case 278:
+          token = jj_consume_token(278);
+                                     jjtn000.outputText = true;
+          break;
+        default:
+          jj_la1[423] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {if (true) return jjtn000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OHaRemoveServerStatement HaRemoveServerStatement() throws ParseException {
+ /*@bgen(jjtree) HaRemoveServerStatement */
+  OHaRemoveServerStatement jjtn000 = new OHaRemoveServerStatement(JJTHAREMOVESERVERSTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(HA);
+      jj_consume_token(REMOVE);
+      jj_consume_token(SERVER);
+      jjtn000.serverName = Identifier();
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {if (true) return jjtn000;}
     } catch (Throwable jjte000) {
       if (jjtc000) {
         jjtree.clearNodeScope(jjtn000);
@@ -21850,28 +21875,28 @@ Token token;
       jj_consume_token(HA);
       jj_consume_token(SYNC);
       jj_consume_token(DATABASE);
-      label_66:
+      label_67:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 278:
         case 279:
+        case 280:
           ;
           break;
         default:
-          jj_la1[421] = jj_gen;
-          break label_66;
+          jj_la1[424] = jj_gen;
+          break label_67;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 278:
-          jj_consume_token(278);
-                      jjtn000.force = true;
-          break;
         case 279:
           jj_consume_token(279);
+                      jjtn000.force = true;
+          break;
+        case 280:
+          jj_consume_token(280);
                       jjtn000.full = true;
           break;
         default:
-          jj_la1[422] = jj_gen;
+          jj_la1[425] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21901,25 +21926,25 @@ Token token;
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 280:
       case 281:
+      case 282:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 280:
-          jj_consume_token(280);
-                                 jjtn000.modeFull = true;
-          break;
         case 281:
           jj_consume_token(281);
+                                 jjtn000.modeFull = true;
+          break;
+        case 282:
+          jj_consume_token(282);
                           jjtn000.modeMerge = true;
           break;
         default:
-          jj_la1[423] = jj_gen;
+          jj_la1[426] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[424] = jj_gen;
+        jj_la1[427] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22003,7 +22028,7 @@ Token token;
       jjtn000.loopValues = Expression();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_67:
+      label_68:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -22074,6 +22099,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -22146,14 +22172,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           ;
           break;
         default:
-          jj_la1[425] = jj_gen;
-          break label_67;
+          jj_la1[428] = jj_gen;
+          break label_68;
         }
-        if (jj_2_164(2147483647)) {
+        if (jj_2_166(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -22174,7 +22200,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[426] = jj_gen;
+            jj_la1[429] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22220,7 +22246,7 @@ Token token;
       jjtn000.condition = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_68:
+      label_69:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -22291,6 +22317,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case INCLUDE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -22363,14 +22390,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 269:
           ;
           break;
         default:
-          jj_la1[427] = jj_gen;
-          break label_68;
+          jj_la1[430] = jj_gen;
+          break label_69;
         }
-        if (jj_2_165(2147483647)) {
+        if (jj_2_167(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -22391,7 +22418,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[428] = jj_gen;
+            jj_la1[431] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22494,6 +22521,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case INCLUDE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -22602,7 +22630,7 @@ Token token;
                                       jjtn000.identifier = new OIdentifier(token.image);
         break;
       default:
-        jj_la1[429] = jj_gen;
+        jj_la1[432] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -22612,7 +22640,7 @@ Token token;
         jjtn000.next = SecurityResourceSegment();
         break;
       default:
-        jj_la1[430] = jj_gen;
+        jj_la1[433] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22702,19 +22730,19 @@ Token token;
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[431] = jj_gen;
+          jj_la1[434] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
-        label_69:
+        label_70:
         while (true) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
           case COMMA:
             ;
             break;
           default:
-            jj_la1[432] = jj_gen;
-            break label_69;
+            jj_la1[435] = jj_gen;
+            break label_70;
           }
           jj_consume_token(COMMA);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -22763,14 +22791,14 @@ Token token;
             jj_consume_token(RPAREN);
             break;
           default:
-            jj_la1[433] = jj_gen;
+            jj_la1[436] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
         }
         break;
       default:
-        jj_la1[434] = jj_gen;
+        jj_la1[437] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22811,7 +22839,7 @@ Token token;
       jj_consume_token(SECURITY);
       jj_consume_token(POLICY);
       jjtn000.name = Identifier();
-      label_70:
+      label_71:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SET:
@@ -22862,19 +22890,19 @@ Token token;
             jj_consume_token(RPAREN);
             break;
           default:
-            jj_la1[435] = jj_gen;
+            jj_la1[438] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
-          label_71:
+          label_72:
           while (true) {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
             case COMMA:
               ;
               break;
             default:
-              jj_la1[436] = jj_gen;
-              break label_71;
+              jj_la1[439] = jj_gen;
+              break label_72;
             }
             jj_consume_token(COMMA);
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -22923,7 +22951,7 @@ Token token;
               jj_consume_token(RPAREN);
               break;
             default:
-              jj_la1[437] = jj_gen;
+              jj_la1[440] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -22959,19 +22987,19 @@ Token token;
                         jjtn000.removeExecute = true;
             break;
           default:
-            jj_la1[438] = jj_gen;
+            jj_la1[441] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
-          label_72:
+          label_73:
           while (true) {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
             case COMMA:
               ;
               break;
             default:
-              jj_la1[439] = jj_gen;
-              break label_72;
+              jj_la1[442] = jj_gen;
+              break label_73;
             }
             jj_consume_token(COMMA);
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -23002,14 +23030,14 @@ Token token;
                             jjtn000.removeExecute = true;
               break;
             default:
-              jj_la1[440] = jj_gen;
+              jj_la1[443] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[441] = jj_gen;
+          jj_la1[444] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -23019,8 +23047,8 @@ Token token;
           ;
           break;
         default:
-          jj_la1[442] = jj_gen;
-          break label_70;
+          jj_la1[445] = jj_gen;
+          break label_71;
         }
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24205,267 +24233,264 @@ Token token;
     finally { jj_save(164, xla); }
   }
 
-  private boolean jj_3_129() {
-    if (jj_3R_159()) return true;
-    return false;
+  private boolean jj_2_166(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_166(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(165, xla); }
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_159()) return true;
+  private boolean jj_2_167(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_167(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(166, xla); }
+  }
+
+  private boolean jj_3R_221() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_448()) {
+    if (jj_3R_450()) {
     jj_scanpos = xsp;
-    if (jj_3R_449()) {
+    if (jj_3R_451()) {
     jj_scanpos = xsp;
-    if (jj_3R_450()) return true;
+    if (jj_3R_452()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_441() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3_128() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_159()) return true;
-    if (jj_3R_438()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_160()) return true;
+    if (jj_3R_440()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_128()) {
     jj_scanpos = xsp;
-    if (jj_3R_439()) return true;
+    if (jj_3R_441()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_159()) return true;
-    if (jj_3R_436()) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_212() {
+    if (jj_3R_160()) return true;
+    if (jj_3R_438()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
+  private boolean jj_3R_566() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
+  private boolean jj_3R_389() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_560()) jj_scanpos = xsp;
-    if (jj_3R_433()) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_566()) jj_scanpos = xsp;
+    if (jj_3R_435()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_3R_436()) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_388() {
+    if (jj_3R_438()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
+  private boolean jj_3R_181() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_386()) {
+    if (jj_3R_388()) {
     jj_scanpos = xsp;
-    if (jj_3R_387()) return true;
+    if (jj_3R_389()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_846() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_845() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_697() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_837()) {
+    if (jj_3R_845()) {
     jj_scanpos = xsp;
-    if (jj_3R_838()) return true;
+    if (jj_3R_846()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_438() {
+  private boolean jj_3R_440() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
+  private boolean jj_3R_709() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_701() {
+  private boolean jj_3R_708() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_707() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_706() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_703() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_702() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
+  private boolean jj_3R_701() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_698() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
-    if (jj_3R_702()) return true;
+  private boolean jj_3R_606() {
+    if (jj_3R_709()) return true;
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_3R_701()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_708()) return true;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_700()) return true;
+  private boolean jj_3R_604() {
+    if (jj_3R_707()) return true;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_3R_699()) return true;
+  private boolean jj_3R_603() {
+    if (jj_3R_706()) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
-    if (jj_3R_690()) return true;
+  private boolean jj_3R_594() {
+    if (jj_3R_697()) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_3R_698()) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_705()) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
-    if (jj_3R_697()) return true;
+  private boolean jj_3R_601() {
+    if (jj_3R_704()) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_3R_696()) return true;
+  private boolean jj_3R_600() {
+    if (jj_3R_703()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_3R_695()) return true;
+  private boolean jj_3R_599() {
+    if (jj_3R_702()) return true;
     return false;
   }
 
-  private boolean jj_3R_592() {
-    if (jj_3R_694()) return true;
+  private boolean jj_3R_598() {
+    if (jj_3R_701()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
-    if (jj_3R_693()) return true;
+  private boolean jj_3R_597() {
+    if (jj_3R_700()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
-    if (jj_3R_692()) return true;
+  private boolean jj_3R_596() {
+    if (jj_3R_699()) return true;
     return false;
   }
 
-  private boolean jj_3R_589() {
-    if (jj_3R_691()) return true;
+  private boolean jj_3R_595() {
+    if (jj_3R_698()) return true;
     return false;
   }
 
   private boolean jj_3_126() {
-    if (jj_3R_219()) return true;
+    if (jj_3R_220()) return true;
     return false;
   }
 
   private boolean jj_3_127() {
-    if (jj_3R_220()) return true;
+    if (jj_3R_221()) return true;
     return false;
   }
 
   private boolean jj_3_125() {
-    if (jj_3R_218()) return true;
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
+  private boolean jj_3R_438() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_588()) {
-    jj_scanpos = xsp;
-    if (jj_3R_589()) {
-    jj_scanpos = xsp;
-    if (jj_3R_590()) {
-    jj_scanpos = xsp;
-    if (jj_3R_591()) {
-    jj_scanpos = xsp;
-    if (jj_3R_592()) {
-    jj_scanpos = xsp;
-    if (jj_3R_593()) {
-    jj_scanpos = xsp;
     if (jj_3R_594()) {
     jj_scanpos = xsp;
     if (jj_3R_595()) {
@@ -24478,7 +24503,19 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_599()) {
     jj_scanpos = xsp;
-    if (jj_3R_600()) return true;
+    if (jj_3R_600()) {
+    jj_scanpos = xsp;
+    if (jj_3R_601()) {
+    jj_scanpos = xsp;
+    if (jj_3R_602()) {
+    jj_scanpos = xsp;
+    if (jj_3R_603()) {
+    jj_scanpos = xsp;
+    if (jj_3R_604()) {
+    jj_scanpos = xsp;
+    if (jj_3R_605()) {
+    jj_scanpos = xsp;
+    if (jj_3R_606()) return true;
     }
     }
     }
@@ -24494,173 +24531,169 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_432() {
+  private boolean jj_3R_434() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_431() {
+  private boolean jj_3R_433() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_124() {
-    if (jj_3R_217()) return true;
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
   private boolean jj_3_122() {
-    if (jj_3R_215()) return true;
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
   private boolean jj_3_123() {
-    if (jj_3R_216()) return true;
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3R_430() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
   private boolean jj_3_121() {
-    if (jj_3R_214()) return true;
+    if (jj_3R_215()) return true;
     return false;
   }
 
   private boolean jj_3_120() {
-    if (jj_3R_213()) return true;
+    if (jj_3R_214()) return true;
     return false;
   }
 
   private boolean jj_3_119() {
-    if (jj_3R_212()) return true;
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_217()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
   private boolean jj_3_118() {
-    if (jj_3R_211()) return true;
+    if (jj_3R_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3R_425() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
   private boolean jj_3_116() {
-    if (jj_3R_209()) return true;
+    if (jj_3R_210()) return true;
     return false;
   }
 
   private boolean jj_3_117() {
-    if (jj_3R_210()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_3R_212()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
   private boolean jj_3_115() {
-    if (jj_3R_208()) return true;
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_423() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_114() {
-    if (jj_3R_207()) return true;
+    if (jj_3R_208()) return true;
     return false;
   }
 
   private boolean jj_3_113() {
-    if (jj_3R_206()) return true;
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
   private boolean jj_3_112() {
-    if (jj_3R_205()) return true;
+    if (jj_3R_206()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_422() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
   private boolean jj_3R_420() {
-    if (jj_3R_210()) return true;
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
+  private boolean jj_3R_419() {
     if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
+  private boolean jj_3R_418() {
     if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
+  private boolean jj_3R_417() {
     if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_3R_205()) return true;
-    return false;
-  }
-
   private boolean jj_3_111() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
+  private boolean jj_3R_204() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_415()) {
-    jj_scanpos = xsp;
-    if (jj_3R_416()) {
-    jj_scanpos = xsp;
     if (jj_3R_417()) {
     jj_scanpos = xsp;
     if (jj_3R_418()) {
@@ -24691,7 +24724,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_431()) {
     jj_scanpos = xsp;
-    if (jj_3R_432()) return true;
+    if (jj_3R_432()) {
+    jj_scanpos = xsp;
+    if (jj_3R_433()) {
+    jj_scanpos = xsp;
+    if (jj_3R_434()) return true;
     }
     }
     }
@@ -24713,389 +24750,389 @@ Token token;
   }
 
   private boolean jj_3_110() {
-    if (jj_3R_203()) return true;
+    if (jj_3R_204()) return true;
     return false;
   }
 
   private boolean jj_3_109() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
+  private boolean jj_3R_205() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_108() {
-    if (jj_3R_203()) return true;
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3R_832() {
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_831() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3R_830() {
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_685() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) {
+    if (jj_3R_831()) {
     jj_scanpos = xsp;
-    if (jj_3R_824()) return true;
+    if (jj_3R_832()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_821() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_829() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_821()) {
+    if (jj_3R_829()) {
     jj_scanpos = xsp;
-    if (jj_3R_822()) return true;
+    if (jj_3R_830()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_564() {
+  private boolean jj_3R_570() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_677()) {
+    if (jj_3R_684()) {
     jj_scanpos = xsp;
-    if (jj_3R_678()) return true;
+    if (jj_3R_685()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_565() {
+  private boolean jj_3R_571() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_564()) return true;
+    if (jj_3R_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
+  private boolean jj_3R_394() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_391()) return true;
+    if (jj_3R_393()) return true;
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_3R_564()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_570()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_565()) { jj_scanpos = xsp; break; }
+      if (jj_3R_571()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_182() {
-    if (jj_3R_391()) return true;
+  private boolean jj_3R_183() {
+    if (jj_3R_393()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_392()) { jj_scanpos = xsp; break; }
+      if (jj_3R_394()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_477() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_481() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
+  private boolean jj_3R_554() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
+  private boolean jj_3R_553() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
+  private boolean jj_3R_552() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
+  private boolean jj_3R_368() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_546()) {
+    if (jj_3R_552()) {
     jj_scanpos = xsp;
-    if (jj_3R_547()) {
+    if (jj_3R_553()) {
     jj_scanpos = xsp;
-    if (jj_3R_548()) return true;
+    if (jj_3R_554()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_365() {
+  private boolean jj_3R_367() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_545()) return true;
+    if (jj_3R_551()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_166() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_365()) {
+    if (jj_3R_367()) {
     jj_scanpos = xsp;
-    if (jj_3R_366()) return true;
+    if (jj_3R_368()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_824() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_823() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_667() {
+  private boolean jj_3R_674() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_815()) {
+    if (jj_3R_823()) {
     jj_scanpos = xsp;
-    if (jj_3R_816()) return true;
+    if (jj_3R_824()) return true;
     }
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_666() {
-    if (jj_scan_token(269)) return true;
+  private boolean jj_3R_673() {
+    if (jj_scan_token(270)) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
+  private boolean jj_3R_551() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_666()) jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
+    if (jj_3R_673()) jj_scanpos = xsp;
+    if (jj_3R_170()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_667()) { jj_scanpos = xsp; break; }
+      if (jj_3R_674()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1007() {
+  private boolean jj_3R_1015() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_903() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_911() {
+    if (jj_3R_170()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1007()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1015()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_784() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_773() {
+  private boolean jj_3R_783() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_903()) jj_scanpos = xsp;
+    if (jj_3R_911()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
-    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_372() {
+    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
+  private boolean jj_3R_371() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
   private boolean jj_3_103() {
-    if (jj_3R_185()) return true;
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_172() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_369()) {
+    if (jj_3R_371()) {
     jj_scanpos = xsp;
-    if (jj_3R_370()) return true;
+    if (jj_3R_372()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_777() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_787() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
   private boolean jj_3_102() {
-    if (jj_3R_185()) return true;
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_786() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_637() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_777()) jj_scanpos = xsp;
+    if (jj_3R_787()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_775() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_785() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
   private boolean jj_3_107() {
-    if (jj_3R_175()) return true;
+    if (jj_3R_176()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_776()) jj_scanpos = xsp;
+    if (jj_3R_786()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_627() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_636() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
   private boolean jj_3_106() {
-    if (jj_3R_165()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_635() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_775()) jj_scanpos = xsp;
+    if (jj_3R_785()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_625() {
-    if (jj_3R_774()) return true;
+  private boolean jj_3R_634() {
+    if (jj_3R_784()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_633() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_910() {
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
-    if (jj_3R_773()) return true;
+  private boolean jj_3R_632() {
+    if (jj_3R_783()) return true;
     return false;
   }
 
-  private boolean jj_3R_651() {
+  private boolean jj_3R_660() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_650()) return true;
+    if (jj_3R_659()) return true;
     return false;
   }
 
-  private boolean jj_3R_772() {
+  private boolean jj_3R_782() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_901()) {
+    if (jj_3R_909()) {
     jj_scanpos = xsp;
-    if (jj_3R_902()) return true;
+    if (jj_3R_910()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_901() {
+  private boolean jj_3R_909() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_556()) return true;
+    if (jj_3R_562()) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_631() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_771() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_781() {
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_770() {
-    if (jj_3R_556()) return true;
+  private boolean jj_3R_780() {
+    if (jj_3R_562()) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
+  private boolean jj_3R_779() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
+  private boolean jj_3R_630() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_770()) {
+    if (jj_3R_780()) {
     jj_scanpos = xsp;
-    if (jj_3R_771()) return true;
+    if (jj_3R_781()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_772()) { jj_scanpos = xsp; break; }
+      if (jj_3R_782()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -25103,45 +25140,45 @@ Token token;
 
   private boolean jj_3_105() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_769()) { jj_scanpos = xsp; break; }
+      if (jj_3R_779()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_629() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
+  private boolean jj_3R_476() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_620()) {
+    if (jj_3R_629()) {
     jj_scanpos = xsp;
     if (jj_3_105()) {
     jj_scanpos = xsp;
-    if (jj_3R_621()) {
+    if (jj_3R_630()) {
     jj_scanpos = xsp;
-    if (jj_3R_622()) {
+    if (jj_3R_631()) {
     jj_scanpos = xsp;
-    if (jj_3R_623()) {
+    if (jj_3R_632()) {
     jj_scanpos = xsp;
-    if (jj_3R_624()) {
+    if (jj_3R_633()) {
     jj_scanpos = xsp;
-    if (jj_3R_625()) {
+    if (jj_3R_634()) {
     jj_scanpos = xsp;
-    if (jj_3R_626()) {
+    if (jj_3R_635()) {
     jj_scanpos = xsp;
-    if (jj_3R_627()) {
+    if (jj_3R_636()) {
     jj_scanpos = xsp;
     if (jj_3_107()) {
     jj_scanpos = xsp;
-    if (jj_3R_628()) return true;
+    if (jj_3R_637()) return true;
     }
     }
     }
@@ -25156,250 +25193,250 @@ Token token;
   }
 
   private boolean jj_3_101() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_803() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_802() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_650() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_659() {
+    if (jj_3R_170()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_792()) {
+    if (jj_3R_802()) {
     jj_scanpos = xsp;
-    if (jj_3R_793()) return true;
+    if (jj_3R_803()) return true;
     }
     return false;
   }
 
   private boolean jj_3_100() {
-    if (jj_3R_185()) return true;
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_534() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_650()) return true;
+    if (jj_3R_659()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_651()) { jj_scanpos = xsp; break; }
+      if (jj_3R_660()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_3R_472()) return true;
+  private boolean jj_3R_265() {
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_591() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
   private boolean jj_3_99() {
-    if (jj_3R_185()) return true;
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
+  private boolean jj_3R_590() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_583() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_589() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
   private boolean jj_3_98() {
-    if (jj_3R_185()) return true;
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_588() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_409() {
+  private boolean jj_3R_411() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_583()) {
+    if (jj_3R_589()) {
     jj_scanpos = xsp;
-    if (jj_3R_584()) return true;
+    if (jj_3R_590()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_585()) jj_scanpos = xsp;
+    if (jj_3R_591()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_587() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_410() {
+    if (jj_3R_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_582()) jj_scanpos = xsp;
+    if (jj_3R_588()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_580()) return true;
+  private boolean jj_3R_409() {
+    if (jj_3R_586()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_581()) jj_scanpos = xsp;
+    if (jj_3R_587()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_499()) return true;
+  private boolean jj_3R_408() {
+    if (jj_3R_503()) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_202() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_406()) {
+    if (jj_3R_408()) {
     jj_scanpos = xsp;
-    if (jj_3R_407()) {
+    if (jj_3R_409()) {
     jj_scanpos = xsp;
-    if (jj_3R_408()) {
+    if (jj_3R_410()) {
     jj_scanpos = xsp;
-    if (jj_3R_409()) return true;
+    if (jj_3R_411()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_312()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_314()) return true;
     return false;
   }
 
   private boolean jj_3_97() {
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
   private boolean jj_3_96() {
-    if (jj_3R_201()) return true;
+    if (jj_3R_202()) return true;
     return false;
   }
 
   private boolean jj_3_95() {
-    if (jj_3R_200()) return true;
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
+  private boolean jj_3R_201() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_97()) {
     jj_scanpos = xsp;
-    if (jj_3R_404()) {
+    if (jj_3R_406()) {
     jj_scanpos = xsp;
-    if (jj_3R_405()) return true;
+    if (jj_3R_407()) return true;
     }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3R_405() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_200()) return true;
+  private boolean jj_3R_404() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
+  private boolean jj_3R_200() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_402()) {
+    if (jj_3R_404()) {
     jj_scanpos = xsp;
-    if (jj_3R_403()) return true;
+    if (jj_3R_405()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_199() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_198() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_196() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_195() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_194() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_193() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_192() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_191() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_190() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
+  private boolean jj_3R_189() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -25407,8 +25444,6 @@ Token token;
   private boolean jj_3_94() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_188()) {
-    jj_scanpos = xsp;
     if (jj_3R_189()) {
     jj_scanpos = xsp;
     if (jj_3R_190()) {
@@ -25427,7 +25462,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_197()) {
     jj_scanpos = xsp;
-    if (jj_3R_198()) return true;
+    if (jj_3R_198()) {
+    jj_scanpos = xsp;
+    if (jj_3R_199()) return true;
     }
     }
     }
@@ -25438,12 +25475,12 @@ Token token;
     }
     }
     }
-    if (jj_3R_199()) return true;
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_188() {
+    if (jj_3R_200()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -25453,59 +25490,75 @@ Token token;
   }
 
   private boolean jj_3_93() {
-    if (jj_3R_187()) return true;
+    if (jj_3R_188()) return true;
     return false;
   }
 
   private boolean jj_3_92() {
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_237()) return true;
+  private boolean jj_3R_585() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_584() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_583() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
+  private boolean jj_3R_582() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
+  private boolean jj_3R_581() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
+  private boolean jj_3R_1069() {
+    if (jj_scan_token(EXECUTE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_580() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
+  private boolean jj_3R_1068() {
+    if (jj_scan_token(DELETE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1067() {
+    if (jj_scan_token(AFTER)) return true;
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_402() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_574()) {
+    if (jj_3R_580()) {
     jj_scanpos = xsp;
-    if (jj_3R_575()) {
+    if (jj_3R_581()) {
     jj_scanpos = xsp;
-    if (jj_3R_576()) {
+    if (jj_3R_582()) {
     jj_scanpos = xsp;
-    if (jj_3R_577()) {
+    if (jj_3R_583()) {
     jj_scanpos = xsp;
-    if (jj_3R_578()) {
+    if (jj_3R_584()) {
     jj_scanpos = xsp;
-    if (jj_3R_579()) return true;
+    if (jj_3R_585()) return true;
     }
     }
     }
@@ -25514,80 +25567,43 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_1063() {
-    if (jj_scan_token(EXECUTE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_401() {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_400()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1062() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1061() {
-    if (jj_scan_token(AFTER)) return true;
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1060() {
+  private boolean jj_3R_1066() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1059() {
+  private boolean jj_3R_1065() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_1058() {
-    if (jj_scan_token(CREATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3_91() {
-    if (jj_3R_187()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_186() {
-    if (jj_3R_400()) return true;
-    Token xsp;
-    if (jj_3R_401()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_401()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_403() {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_402()) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_1064() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_998() {
+  private boolean jj_3R_1006() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1058()) {
+    if (jj_3R_1064()) {
     jj_scanpos = xsp;
-    if (jj_3R_1059()) {
+    if (jj_3R_1065()) {
     jj_scanpos = xsp;
-    if (jj_3R_1060()) {
+    if (jj_3R_1066()) {
     jj_scanpos = xsp;
-    if (jj_3R_1061()) {
+    if (jj_3R_1067()) {
     jj_scanpos = xsp;
-    if (jj_3R_1062()) {
+    if (jj_3R_1068()) {
     jj_scanpos = xsp;
-    if (jj_3R_1063()) return true;
+    if (jj_3R_1069()) return true;
     }
     }
     }
@@ -25596,141 +25612,137 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_997() {
+  private boolean jj_3R_1005() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_3R_237()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_996() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_187() {
+    if (jj_3R_402()) return true;
+    Token xsp;
+    if (jj_3R_403()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_403()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_1004() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_995() {
+  private boolean jj_3R_1003() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3_90() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_994() {
+  private boolean jj_3R_1002() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_3R_173()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_993() {
+  private boolean jj_3R_1001() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_348() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_992() {
+  private boolean jj_3R_1000() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_342() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1057() {
+  private boolean jj_3R_1063() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_341() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
-  private boolean jj_3_88() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_1056() {
+  private boolean jj_3R_1062() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1055() {
+  private boolean jj_3_89() {
+    if (jj_3R_187()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1061() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_340() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_346() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_1054() {
+  private boolean jj_3R_1060() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_345() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(REMOVE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_992()) {
+    if (jj_3R_1000()) {
     jj_scanpos = xsp;
-    if (jj_3R_993()) {
+    if (jj_3R_1001()) {
     jj_scanpos = xsp;
-    if (jj_3R_994()) {
+    if (jj_3R_1002()) {
     jj_scanpos = xsp;
-    if (jj_3R_995()) {
+    if (jj_3R_1003()) {
     jj_scanpos = xsp;
-    if (jj_3R_996()) {
+    if (jj_3R_1004()) {
     jj_scanpos = xsp;
-    if (jj_3R_997()) return true;
+    if (jj_3R_1005()) return true;
     }
     }
     }
@@ -25738,110 +25750,104 @@ Token token;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_998()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1006()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_184()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1053() {
+  private boolean jj_3R_1059() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_182()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_159() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_340()) {
-    jj_scanpos = xsp;
-    if (jj_3R_341()) {
-    jj_scanpos = xsp;
-    if (jj_3R_342()) {
-    jj_scanpos = xsp;
-    if (jj_3R_343()) {
-    jj_scanpos = xsp;
-    if (jj_3R_344()) {
-    jj_scanpos = xsp;
-    if (jj_3R_345()) {
-    jj_scanpos = xsp;
-    if (jj_3R_346()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_344() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1052() {
+  private boolean jj_3R_1058() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_343() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_88() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3_83() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_342() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_179()) return true;
+  private boolean jj_3_86() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
+  private boolean jj_3_87() {
+    if (jj_3R_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3_85() {
     if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_160() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_342()) {
+    jj_scanpos = xsp;
+    if (jj_3R_343()) {
+    jj_scanpos = xsp;
+    if (jj_3R_344()) {
+    jj_scanpos = xsp;
+    if (jj_3R_345()) {
+    jj_scanpos = xsp;
+    if (jj_3R_346()) {
+    jj_scanpos = xsp;
+    if (jj_3R_347()) {
+    jj_scanpos = xsp;
+    if (jj_3R_348()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_991() {
+  private boolean jj_3R_999() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1052()) {
+    if (jj_3R_1058()) {
     jj_scanpos = xsp;
-    if (jj_3R_1053()) {
+    if (jj_3R_1059()) {
     jj_scanpos = xsp;
-    if (jj_3R_1054()) {
+    if (jj_3R_1060()) {
     jj_scanpos = xsp;
-    if (jj_3R_1055()) {
+    if (jj_3R_1061()) {
     jj_scanpos = xsp;
-    if (jj_3R_1056()) {
+    if (jj_3R_1062()) {
     jj_scanpos = xsp;
-    if (jj_3R_1057()) return true;
+    if (jj_3R_1063()) return true;
     }
     }
     }
@@ -25850,126 +25856,133 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_990() {
+  private boolean jj_3R_998() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_3R_182()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_989() {
+  private boolean jj_3R_997() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_988() {
+  private boolean jj_3_84() {
+    if (jj_3R_182()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_401() {
+    if (jj_3R_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_996() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_571() {
+  private boolean jj_3_83() {
     if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_987() {
+  private boolean jj_3R_400() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_180()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_995() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_579() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_986() {
+  private boolean jj_3R_994() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_985() {
+  private boolean jj_3R_399() {
+    if (jj_3R_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_993() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_570()) {
-    jj_scanpos = xsp;
-    if (jj_3R_571()) {
-    jj_scanpos = xsp;
-    if (jj_3R_572()) {
-    jj_scanpos = xsp;
-    if (jj_3R_573()) return true;
-    }
-    }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_578() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_577() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
+  private boolean jj_3R_576() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_754() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_875()) {
+    if (jj_3R_883()) {
     jj_scanpos = xsp;
-    if (jj_3R_876()) return true;
+    if (jj_3R_884()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_985()) {
+    if (jj_3R_993()) {
     jj_scanpos = xsp;
-    if (jj_3R_986()) {
+    if (jj_3R_994()) {
     jj_scanpos = xsp;
-    if (jj_3R_987()) {
+    if (jj_3R_995()) {
     jj_scanpos = xsp;
-    if (jj_3R_988()) {
+    if (jj_3R_996()) {
     jj_scanpos = xsp;
-    if (jj_3R_989()) {
+    if (jj_3R_997()) {
     jj_scanpos = xsp;
-    if (jj_3R_990()) return true;
+    if (jj_3R_998()) return true;
     }
     }
     }
@@ -25977,165 +25990,169 @@ Token token;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_991()) { jj_scanpos = xsp; break; }
+      if (jj_3R_999()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3_81() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_398() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_576()) {
+    jj_scanpos = xsp;
+    if (jj_3R_577()) {
+    jj_scanpos = xsp;
+    if (jj_3R_578()) {
+    jj_scanpos = xsp;
+    if (jj_3R_579()) return true;
+    }
+    }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
+  private boolean jj_3R_92() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
-    if (jj_3R_744()) return true;
+    if (jj_3R_754()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_744()) { jj_scanpos = xsp; break; }
+      if (jj_3R_754()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_185() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_396()) {
-    jj_scanpos = xsp;
-    if (jj_3R_397()) {
-    jj_scanpos = xsp;
-    if (jj_3R_398()) return true;
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_399()) jj_scanpos = xsp;
+  private boolean jj_3R_564() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_984() {
+  private boolean jj_3R_992() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_983() {
+  private boolean jj_3R_991() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_982() {
+  private boolean jj_3_82() {
+    if (jj_3R_180()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_990() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3_81() {
     if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_981() {
+  private boolean jj_3R_989() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
-    if (jj_3R_178()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_980() {
+  private boolean jj_3R_988() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_186() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_398()) {
+    jj_scanpos = xsp;
+    if (jj_3R_399()) {
+    jj_scanpos = xsp;
+    if (jj_3R_400()) return true;
+    }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_401()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_979() {
+  private boolean jj_3R_987() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_79() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_694() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_686()) {
-    jj_scanpos = xsp;
-    if (jj_3R_687()) return true;
-    }
+  private boolean jj_3R_693() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_881() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_874() {
+  private boolean jj_3R_882() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_979()) {
+    if (jj_3R_987()) {
     jj_scanpos = xsp;
-    if (jj_3R_980()) {
+    if (jj_3R_988()) {
     jj_scanpos = xsp;
-    if (jj_3R_981()) {
+    if (jj_3R_989()) {
     jj_scanpos = xsp;
-    if (jj_3R_982()) {
+    if (jj_3R_990()) {
     jj_scanpos = xsp;
-    if (jj_3R_983()) {
+    if (jj_3R_991()) {
     jj_scanpos = xsp;
-    if (jj_3R_984()) return true;
+    if (jj_3R_992()) return true;
     }
     }
     }
@@ -26144,111 +26161,103 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_586() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_693()) {
+    jj_scanpos = xsp;
+    if (jj_3R_694()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_880() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_176()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_383() {
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_871() {
+  private boolean jj_3R_879() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_878() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_387() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_877() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_383()) {
-    jj_scanpos = xsp;
-    if (jj_3R_384()) {
-    jj_scanpos = xsp;
-    if (jj_3R_385()) return true;
-    }
-    }
+  private boolean jj_3R_386() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3R_385() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_753() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_868()) {
+    if (jj_3R_876()) {
     jj_scanpos = xsp;
-    if (jj_3R_869()) {
+    if (jj_3R_877()) {
     jj_scanpos = xsp;
-    if (jj_3R_870()) {
+    if (jj_3R_878()) {
     jj_scanpos = xsp;
-    if (jj_3R_871()) {
+    if (jj_3R_879()) {
     jj_scanpos = xsp;
-    if (jj_3R_872()) {
+    if (jj_3R_880()) {
     jj_scanpos = xsp;
-    if (jj_3R_873()) return true;
+    if (jj_3R_881()) return true;
     }
     }
     }
@@ -26256,197 +26265,199 @@ Token token;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_874()) { jj_scanpos = xsp; break; }
+      if (jj_3R_882()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_90() {
+  private boolean jj_3R_180() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_385()) {
+    jj_scanpos = xsp;
+    if (jj_3R_386()) {
+    jj_scanpos = xsp;
+    if (jj_3R_387()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_91() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_743()) jj_scanpos = xsp;
+    if (jj_3R_753()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_384() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_380()) {
-    jj_scanpos = xsp;
-    if (jj_3R_381()) {
-    jj_scanpos = xsp;
-    if (jj_3R_382()) return true;
-    }
-    }
+  private boolean jj_3R_1057() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_986()) return true;
     return false;
   }
 
-  private boolean jj_3R_1051() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_978()) return true;
+  private boolean jj_3R_383() {
+    if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1050() {
+  private boolean jj_3R_1056() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
-    if (jj_3R_159()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_569()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_1055() {
+    if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_1049() {
-    if (jj_scan_token(CONTAINSKEY)) return true;
+  private boolean jj_3R_382() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_1048() {
+  private boolean jj_3R_1054() {
     if (jj_scan_token(CONTAINSANY)) return true;
     return false;
   }
 
-  private boolean jj_3R_1047() {
+  private boolean jj_3R_1053() {
     if (jj_scan_token(CONTAINSALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_1046() {
-    if (jj_scan_token(CONTAINS)) return true;
+  private boolean jj_3R_575() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_1045() {
-    if (jj_scan_token(EDGE)) return true;
+  private boolean jj_3R_179() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_382()) {
+    jj_scanpos = xsp;
+    if (jj_3R_383()) {
+    jj_scanpos = xsp;
+    if (jj_3R_384()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_1052() {
+    if (jj_scan_token(CONTAINS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_397() {
+    if (jj_3R_160()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_395()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_575()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_1044() {
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_1051() {
+    if (jj_scan_token(EDGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1043() {
-    if (jj_scan_token(LIKE)) return true;
+  private boolean jj_3R_1050() {
+    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_3R_159()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_558()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_1049() {
+    if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1042() {
+  private boolean jj_3R_1048() {
     if (jj_scan_token(SELECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_1041() {
+  private boolean jj_3R_1047() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_1040() {
+  private boolean jj_3R_1046() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_scan_token(DISTINCT)) return true;
+  private boolean jj_3R_185() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_170()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_397()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1039() {
+  private boolean jj_3R_1045() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_1044() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_1038() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_380() {
+    if (jj_3R_160()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_564()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_1037() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_1043() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1036() {
+  private boolean jj_3R_1042() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_376()) {
-    jj_scanpos = xsp;
-    if (jj_3R_377()) return true;
-    }
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_378()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_379() {
+    if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_978() {
+  private boolean jj_3R_378() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_986() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1036()) {
-    jj_scanpos = xsp;
-    if (jj_3R_1037()) {
-    jj_scanpos = xsp;
-    if (jj_3R_1038()) {
-    jj_scanpos = xsp;
-    if (jj_3R_1039()) {
-    jj_scanpos = xsp;
-    if (jj_3R_1040()) {
-    jj_scanpos = xsp;
-    if (jj_3R_1041()) {
-    jj_scanpos = xsp;
     if (jj_3R_1042()) {
     jj_scanpos = xsp;
     if (jj_3R_1043()) {
@@ -26463,7 +26474,19 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_1049()) {
     jj_scanpos = xsp;
-    if (jj_3R_1050()) return true;
+    if (jj_3R_1050()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1051()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1052()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1053()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1054()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1055()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1056()) return true;
     }
     }
     }
@@ -26479,62 +26502,66 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1051()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_177() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+    if (jj_3R_1057()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_165() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_176() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_378()) {
+    jj_scanpos = xsp;
+    if (jj_3R_379()) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_380()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1080() {
-    if (jj_3R_1005()) return true;
+  private boolean jj_3_167() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_1086() {
+    if (jj_3R_1013()) return true;
     return false;
   }
 
-  private boolean jj_3R_1079() {
-    if (jj_3R_1006()) return true;
+  private boolean jj_3R_1085() {
+    if (jj_3R_1014()) return true;
     return false;
   }
 
-  private boolean jj_3R_1078() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_1084() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_scan_token(ELLIPSIS)) return true;
+  private boolean jj_3R_178() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1077() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_1083() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_1068() {
+  private boolean jj_3R_1074() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1077()) {
+    if (jj_3R_1083()) {
     jj_scanpos = xsp;
-    if (jj_3R_1078()) {
+    if (jj_3R_1084()) {
     jj_scanpos = xsp;
-    if (jj_3R_1079()) {
+    if (jj_3R_1085()) {
     jj_scanpos = xsp;
-    if (jj_3R_1080()) {
+    if (jj_3R_1086()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(196)) return true;
+    if (jj_scan_token(197)) return true;
     }
     }
     }
@@ -26542,80 +26569,85 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_562() {
-    if (jj_scan_token(RANGE)) return true;
+  private boolean jj_3R_561() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1005() {
+  private boolean jj_3R_569() {
+    if (jj_scan_token(ELLIPSIS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1013() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1068()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1074()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_3R_561()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_562()) {
-    jj_scanpos = xsp;
-    if (jj_3R_563()) return true;
-    }
-    if (jj_3R_561()) return true;
+  private boolean jj_3R_568() {
+    if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3_164() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3_166() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_1084() {
-    if (jj_3R_1005()) return true;
+  private boolean jj_3R_1090() {
+    if (jj_3R_1013()) return true;
     return false;
   }
 
-  private boolean jj_3R_1083() {
-    if (jj_3R_1006()) return true;
+  private boolean jj_3R_392() {
+    if (jj_3R_567()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_568()) {
+    jj_scanpos = xsp;
+    if (jj_3R_569()) return true;
+    }
+    if (jj_3R_567()) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
+  private boolean jj_3R_1089() {
+    if (jj_3R_1014()) return true;
     return false;
   }
 
-  private boolean jj_3R_1082() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_1088() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_1081() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_1087() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_1069() {
+  private boolean jj_3R_1075() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1081()) {
+    if (jj_3R_1087()) {
     jj_scanpos = xsp;
-    if (jj_3R_1082()) {
+    if (jj_3R_1088()) {
     jj_scanpos = xsp;
-    if (jj_3R_1083()) {
+    if (jj_3R_1089()) {
     jj_scanpos = xsp;
-    if (jj_3R_1084()) {
+    if (jj_3R_1090()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(196)) return true;
+    if (jj_scan_token(197)) return true;
     }
     }
     }
@@ -26623,319 +26655,318 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_388() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
+  private boolean jj_3R_391() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1006() {
+  private boolean jj_3R_1014() {
     if (jj_scan_token(FOREACH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(IN)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1069()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1075()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_390() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_182() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_388()) {
+    if (jj_3R_390()) {
     jj_scanpos = xsp;
-    if (jj_3R_389()) {
+    if (jj_3R_391()) {
     jj_scanpos = xsp;
-    if (jj_3R_390()) return true;
+    if (jj_3R_392()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_394() {
+  private boolean jj_3R_396() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_393()) return true;
+    if (jj_3R_395()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_120() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_170()) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_529() {
+    if (jj_scan_token(282)) return true;
     return false;
   }
 
   private boolean jj_3_76() {
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
-    if (jj_3R_393()) return true;
+  private boolean jj_3R_184() {
+    if (jj_3R_395()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_394()) { jj_scanpos = xsp; break; }
+      if (jj_3R_396()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_75() {
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_313() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_528()) {
+    jj_scanpos = xsp;
+    if (jj_3R_529()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_525() {
+  private boolean jj_3R_528() {
     if (jj_scan_token(281)) return true;
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_524()) {
-    jj_scanpos = xsp;
-    if (jj_3R_525()) return true;
-    }
+  private boolean jj_3_74() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_524() {
-    if (jj_scan_token(280)) return true;
+  private boolean jj_3R_682() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_119() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_170()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_313()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3_73() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3_73() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_527() {
+    if (jj_scan_token(280)) return true;
     return false;
   }
 
   private boolean jj_3_72() {
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
+  private boolean jj_3R_567() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_675()) {
+    if (jj_3R_682()) {
     jj_scanpos = xsp;
-    if (jj_3R_676()) return true;
+    if (jj_3R_683()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_118() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_312() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_311()) jj_scanpos = xsp;
+    if (jj_3R_526()) {
+    jj_scanpos = xsp;
+    if (jj_3R_527()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_526() {
+    if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_scan_token(279)) return true;
+  private boolean jj_3R_574() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_522()) {
-    jj_scanpos = xsp;
-    if (jj_3R_523()) return true;
-    }
+  private boolean jj_3R_573() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_scan_token(278)) return true;
+  private boolean jj_3R_118() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_312()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_566() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_572() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_393() {
+  private boolean jj_3R_395() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_566()) {
+    if (jj_3R_572()) {
     jj_scanpos = xsp;
-    if (jj_3R_567()) {
+    if (jj_3R_573()) {
     jj_scanpos = xsp;
-    if (jj_3R_568()) return true;
+    if (jj_3R_574()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_117() {
+  private boolean jj_3R_116() {
     if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_310()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(SERVER)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_525() {
+    if (jj_scan_token(278)) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
+  private boolean jj_3R_945() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_828() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_939() {
+  private boolean jj_3R_827() {
+    if (jj_3R_560()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_944() {
     if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_524() {
+    if (jj_scan_token(277)) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_778() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_818() {
+  private boolean jj_3R_826() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_939()) jj_scanpos = xsp;
-    if (jj_3R_159()) return true;
+    if (jj_3R_944()) jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_940()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_521() {
-    if (jj_scan_token(277)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_817() {
-    if (jj_scan_token(STAR)) return true;
+    if (jj_3R_945()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_520() {
+  private boolean jj_3R_523() {
     if (jj_scan_token(276)) return true;
     return false;
   }
 
-  private boolean jj_3R_669() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_817()) {
-    jj_scanpos = xsp;
-    if (jj_3R_818()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_819()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_820()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_767() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_825() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
+  private boolean jj_3R_522() {
     if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
+  private boolean jj_3R_521() {
     if (jj_scan_token(274)) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
+  private boolean jj_3R_520() {
     if (jj_scan_token(273)) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_scan_token(272)) return true;
+  private boolean jj_3R_676() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_825()) {
+    jj_scanpos = xsp;
+    if (jj_3R_826()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_827()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_828()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_309() {
+  private boolean jj_3R_311() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_515()) {
+    if (jj_3R_519()) {
     jj_scanpos = xsp;
-    if (jj_3R_516()) {
+    if (jj_3R_520()) {
     jj_scanpos = xsp;
-    if (jj_3R_517()) {
+    if (jj_3R_521()) {
     jj_scanpos = xsp;
-    if (jj_3R_518()) {
+    if (jj_3R_522()) {
     jj_scanpos = xsp;
-    if (jj_3R_519()) {
+    if (jj_3R_523()) {
     jj_scanpos = xsp;
-    if (jj_3R_520()) {
+    if (jj_3R_524()) {
     jj_scanpos = xsp;
-    if (jj_3R_521()) return true;
+    if (jj_3R_525()) return true;
     }
     }
     }
@@ -26945,176 +26976,161 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_scan_token(271)) return true;
+  private boolean jj_3R_519() {
+    if (jj_scan_token(272)) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
+  private boolean jj_3R_777() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_669()) return true;
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
+  private boolean jj_3R_117() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(STATUS)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_309()) { jj_scanpos = xsp; break; }
+      if (jj_3R_311()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_752() {
+  private boolean jj_3R_762() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_669()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_670()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_677() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_676()) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
+  private boolean jj_3R_107() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_752()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_372() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_555()) return true;
+    if (jj_3R_762()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_891() {
+  private boolean jj_3R_899() {
     if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_371() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_898() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_1010() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1002() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_560() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_676()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_677()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_889() {
+  private boolean jj_3R_897() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_888() {
+  private boolean jj_3R_896() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_1001() {
+  private boolean jj_3R_1009() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_371()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_372()) jj_scanpos = xsp;
+  private boolean jj_3R_374() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_561()) return true;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_373() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_173() {
+    if (jj_3R_160()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_768()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_373()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_374()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_887() {
+  private boolean jj_3R_895() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1001()) {
+    if (jj_3R_1009()) {
     jj_scanpos = xsp;
-    if (jj_3R_1002()) return true;
+    if (jj_3R_1010()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_886() {
-    if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3_71() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_3R_172()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_767()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_894() {
+    if (jj_scan_token(LIMIT)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_893() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_751() {
+  private boolean jj_3R_761() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_884()) {
+    if (jj_3R_892()) {
     jj_scanpos = xsp;
-    if (jj_3R_885()) {
+    if (jj_3R_893()) {
     jj_scanpos = xsp;
-    if (jj_3R_886()) {
+    if (jj_3R_894()) {
     jj_scanpos = xsp;
-    if (jj_3R_887()) {
+    if (jj_3R_895()) {
     jj_scanpos = xsp;
-    if (jj_3R_888()) {
+    if (jj_3R_896()) {
     jj_scanpos = xsp;
-    if (jj_3R_889()) {
+    if (jj_3R_897()) {
     jj_scanpos = xsp;
-    if (jj_3R_890()) {
+    if (jj_3R_898()) {
     jj_scanpos = xsp;
-    if (jj_3R_891()) return true;
+    if (jj_3R_899()) return true;
     }
     }
     }
@@ -27125,147 +27141,157 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_892() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_626() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_173()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_616()) {
-    jj_scanpos = xsp;
-    if (jj_3R_617()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_778()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_672() {
-    if (jj_scan_token(SKIP2)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_674() {
-    if (jj_scan_token(FROM)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_671() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_625() {
+    if (jj_3R_173()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_777()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_673() {
-    if (jj_scan_token(LIMIT)) return true;
+  private boolean jj_3R_471() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_625()) {
+    jj_scanpos = xsp;
+    if (jj_3R_626()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_104() {
+  private boolean jj_3R_105() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_751()) { jj_scanpos = xsp; break; }
+      if (jj_3R_761()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3R_891() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_1000() {
+  private boolean jj_3R_1008() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
+  private boolean jj_3R_890() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_881() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_679() {
+    if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_999() {
+  private boolean jj_3R_681() {
+    if (jj_scan_token(FROM)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_889() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1007() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
-    if (jj_scan_token(COLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_671()) {
-    jj_scanpos = xsp;
-    if (jj_3R_672()) {
-    jj_scanpos = xsp;
-    if (jj_3R_673()) {
-    jj_scanpos = xsp;
-    if (jj_3R_674()) return true;
-    }
-    }
-    }
+  private boolean jj_3R_678() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_468() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_680() {
+    if (jj_scan_token(LIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_888() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_999()) {
+    if (jj_3R_1007()) {
     jj_scanpos = xsp;
-    if (jj_3R_1000()) return true;
+    if (jj_3R_1008()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_887() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
-    if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_563() {
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_678()) {
+    jj_scanpos = xsp;
+    if (jj_3R_679()) {
+    jj_scanpos = xsp;
+    if (jj_3R_680()) {
+    jj_scanpos = xsp;
+    if (jj_3R_681()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_886() {
+    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
+  private boolean jj_3R_756() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_877()) {
+    if (jj_3R_885()) {
     jj_scanpos = xsp;
-    if (jj_3R_878()) {
+    if (jj_3R_886()) {
     jj_scanpos = xsp;
-    if (jj_3R_879()) {
+    if (jj_3R_887()) {
     jj_scanpos = xsp;
-    if (jj_3R_880()) {
+    if (jj_3R_888()) {
     jj_scanpos = xsp;
-    if (jj_3R_881()) {
+    if (jj_3R_889()) {
     jj_scanpos = xsp;
-    if (jj_3R_882()) {
+    if (jj_3R_890()) {
     jj_scanpos = xsp;
-    if (jj_3R_883()) return true;
+    if (jj_3R_891()) return true;
     }
     }
     }
@@ -27275,189 +27301,188 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_877() {
+  private boolean jj_3R_885() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_375() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_472() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_556()) return true;
+  private boolean jj_3R_562() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_377() {
+    if (jj_3R_563()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_376() {
+    if (jj_3R_562()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_755() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_175() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_374()) {
+    if (jj_3R_376()) {
     jj_scanpos = xsp;
-    if (jj_3R_375()) return true;
+    if (jj_3R_377()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_745() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_93() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_170()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_755()) jj_scanpos = xsp;
+    if (jj_scan_token(TYPE)) return true;
+    if (jj_3R_170()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_756()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_263() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_262() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_261() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_92() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_169()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_745()) jj_scanpos = xsp;
-    if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_169()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_746()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_1082() {
+    if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
+  private boolean jj_3R_260() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_259() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_468()) jj_scanpos = xsp;
+    if (jj_3R_472()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1076() {
+  private boolean jj_3R_325() {
+    if (jj_scan_token(CONSOLE)) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_170()) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1073() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_scan_token(CONSOLE)) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_324() {
+    if (jj_scan_token(SLEEP)) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_1067() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3_165() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
+  private boolean jj_3R_98() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_257()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_258()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_159()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_159()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_259()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_260()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_160()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_160()) return true;
     xsp = jj_scanpos;
     if (jj_3R_261()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_262()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_263()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_264()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_750() {
-    if (jj_3R_471()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_749() {
-    if (jj_3R_473()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_322() {
-    if (jj_scan_token(SLEEP)) return true;
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3_163() {
-    if (jj_3R_74()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_748() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_908() {
+    if (jj_3R_1014()) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
-    if (jj_3R_1006()) return true;
+  private boolean jj_3R_907() {
+    if (jj_3R_1013()) return true;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_760() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
-    if (jj_3R_1005()) return true;
+  private boolean jj_3R_759() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_906() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
+  private boolean jj_3R_776() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_897()) {
+    if (jj_3R_905()) {
     jj_scanpos = xsp;
-    if (jj_3R_898()) {
+    if (jj_3R_906()) {
     jj_scanpos = xsp;
-    if (jj_3R_899()) {
+    if (jj_3R_907()) {
     jj_scanpos = xsp;
-    if (jj_3R_900()) {
+    if (jj_3R_908()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(196)) return true;
+    if (jj_scan_token(197)) return true;
     }
     }
     }
@@ -27465,498 +27490,531 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_897() {
-    if (jj_3R_74()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_313() {
-    if (jj_scan_token(MOVE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_472()) return true;
-    if (jj_scan_token(TO)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_747()) {
-    jj_scanpos = xsp;
-    if (jj_3R_748()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_750()) jj_scanpos = xsp;
+  private boolean jj_3R_905() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3_70() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_758() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3_69() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_757() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
+  private boolean jj_3R_326() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_766()) { jj_scanpos = xsp; break; }
+      if (jj_3R_776()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_533() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_315() {
+    if (jj_scan_token(MOVE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_476()) return true;
+    if (jj_scan_token(TO)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_757()) {
+    jj_scanpos = xsp;
+    if (jj_3R_758()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_759()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_760()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_255() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3_70() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_68() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3_69() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_470() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_253() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_1081() {
+    if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_257() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_1075() {
-    if (jj_scan_token(CONTINUE)) return true;
+  private boolean jj_3_68() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_321() {
+  private boolean jj_3R_323() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_529()) jj_scanpos = xsp;
+    if (jj_3R_533()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_3R_169()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_466()) jj_scanpos = xsp;
+  private boolean jj_3R_256() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_1066() {
+  private boolean jj_3R_255() {
+    if (jj_3R_172()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_94() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1072() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1065() {
+  private boolean jj_3R_1071() {
     if (jj_scan_token(AND)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1075()) {
+    if (jj_3R_1081()) {
     jj_scanpos = xsp;
-    if (jj_3R_1076()) return true;
+    if (jj_3R_1082()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1004() {
+  private boolean jj_3R_1012() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1066()) {
+    if (jj_3R_1072()) {
     jj_scanpos = xsp;
-    if (jj_3R_1067()) return true;
+    if (jj_3R_1073()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_320() {
+  private boolean jj_3R_322() {
     if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_1064() {
-    if (jj_3R_76()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_94() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_254() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_252()) {
-    jj_scanpos = xsp;
-    if (jj_3R_253()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_254()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_255()) jj_scanpos = xsp;
+    if (jj_3R_470()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_1070() {
+    if (jj_3R_77()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_1003() {
+  private boolean jj_3R_1011() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    if (jj_3R_1064()) return true;
+    if (jj_3R_1070()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1064()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1070()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1065()) jj_scanpos = xsp;
+    if (jj_3R_1071()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_95() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_904() {
+    if (jj_scan_token(ELSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_256()) jj_scanpos = xsp;
+    if (jj_3R_1011()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1012()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_896() {
-    if (jj_scan_token(ELSE)) return true;
+  private boolean jj_3R_95() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1003()) {
+    if (jj_3R_254()) {
     jj_scanpos = xsp;
-    if (jj_3R_1004()) return true;
+    if (jj_3R_255()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_256()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_257()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_73()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_896()) jj_scanpos = xsp;
+  private boolean jj_3R_258() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_532() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_74()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_904()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_96() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_170()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_258()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_3R_237()) return true;
+  private boolean jj_3R_559() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
+  private boolean jj_3R_321() {
     if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_528()) jj_scanpos = xsp;
+    if (jj_3R_532()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_162() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_97() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_558() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
-    if (jj_scan_token(CONTENT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_552()) {
-    jj_scanpos = xsp;
-    if (jj_3R_553()) return true;
-    }
+  private boolean jj_3_164() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_531() {
+    if (jj_scan_token(ISOLATION)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3_161() {
-    if (jj_3R_238()) return true;
+  private boolean jj_3_163() {
+    if (jj_3R_240()) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
+  private boolean jj_3R_320() {
     if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_527()) jj_scanpos = xsp;
+    if (jj_3R_531()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_615() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_369() {
+    if (jj_scan_token(CONTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_558()) {
+    jj_scanpos = xsp;
+    if (jj_3R_559()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_614() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_624() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_668() {
+  private boolean jj_3R_557() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_170()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_551()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_623() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
+  private boolean jj_3R_675() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_469() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) {
+    if (jj_3R_623()) {
     jj_scanpos = xsp;
-    if (jj_3R_615()) return true;
+    if (jj_3R_624()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_550() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3_67() {
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_170()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_668()) { jj_scanpos = xsp; break; }
+      if (jj_3R_557()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
+  private boolean jj_3R_556() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_160()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_675()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_875() {
     if (jj_scan_token(REMOVE)) return true;
     if (jj_scan_token(POLICY)) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_978()) return true;
+    if (jj_3R_986()) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_555() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
+  private boolean jj_3R_752() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_866()) {
+    if (jj_3R_874()) {
     jj_scanpos = xsp;
-    if (jj_3R_867()) return true;
+    if (jj_3R_875()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_874() {
     if (jj_scan_token(SET)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_978()) return true;
+    if (jj_3R_986()) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
+  private boolean jj_3R_171() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_90() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(ROLE)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
-    if (jj_3R_742()) return true;
+    if (jj_3R_752()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_742()) { jj_scanpos = xsp; break; }
+      if (jj_3R_752()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_1041() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_89() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_985() {
+    if (jj_3R_170()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1041()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_66() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_170()) { jj_scanpos = xsp; break; }
+      if (jj_3R_171()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_549()) { jj_scanpos = xsp; break; }
+      if (jj_3R_555()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_550()) { jj_scanpos = xsp; break; }
+      if (jj_3R_556()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1035() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_88() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
   private boolean jj_3_64() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_977() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_873() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1035()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_985()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_825() {
+  private boolean jj_3R_833() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
+  private boolean jj_3R_167() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_66()) {
     jj_scanpos = xsp;
     if (jj_3_67()) {
     jj_scanpos = xsp;
-    if (jj_3R_367()) return true;
+    if (jj_3R_369()) return true;
     }
     }
     return false;
   }
 
+  private boolean jj_3R_169() {
+    if (jj_3R_370()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_872() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
   private boolean jj_3R_168() {
-    if (jj_3R_368()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_63() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_865() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_751() {
+    if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_977()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_3R_872()) {
+    jj_scanpos = xsp;
+    if (jj_3R_873()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_692() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_685() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_750() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_864() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_749() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_955() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_960() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
@@ -27964,559 +28022,544 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_167()) {
+    if (jj_3R_168()) {
     jj_scanpos = xsp;
-    if (jj_3R_168()) return true;
+    if (jj_3R_169()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_741() {
-    if (jj_scan_token(ROLE)) return true;
+  private boolean jj_3R_959() {
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_835() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_864()) {
+    if (jj_3R_959()) {
     jj_scanpos = xsp;
-    if (jj_3R_865()) return true;
+    if (jj_3R_960()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_954() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_740() {
-    if (jj_3R_601()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_739() {
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_827() {
+  private boolean jj_3R_88() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_170()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_954()) {
+    if (jj_3R_749()) {
     jj_scanpos = xsp;
-    if (jj_3R_955()) return true;
+    if (jj_3R_750()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_751()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_62() {
-    if (jj_3R_166()) return true;
+    if (jj_3R_167()) return true;
     return false;
   }
 
   private boolean jj_3_61() {
-    if (jj_3R_165()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_826() {
+  private boolean jj_3R_834() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_691() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_826()) jj_scanpos = xsp;
+    if (jj_3R_834()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) {
+    if (jj_3R_835()) {
     jj_scanpos = xsp;
     if (jj_3_65()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_681() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_87() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_739()) {
-    jj_scanpos = xsp;
-    if (jj_3R_740()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_741()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_680() {
-    if (jj_3R_169()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_825()) jj_scanpos = xsp;
+  private boolean jj_3R_748() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_871() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_688() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_870() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_687() {
+    if (jj_3R_170()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_833()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_863() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_690() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_689() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_862() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_686() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_737() {
+  private boolean jj_3R_747() {
     if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_862()) {
+    if (jj_3R_870()) {
     jj_scanpos = xsp;
-    if (jj_3R_863()) return true;
+    if (jj_3R_871()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_919() {
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_869() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
+  private boolean jj_3R_746() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_170()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_869()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_314() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_679()) {
+    if (jj_3R_686()) {
     jj_scanpos = xsp;
-    if (jj_3R_680()) {
+    if (jj_3R_687()) {
     jj_scanpos = xsp;
-    if (jj_3R_681()) return true;
+    if (jj_3R_688()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_682()) jj_scanpos = xsp;
+    if (jj_3R_689()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_683()) jj_scanpos = xsp;
+    if (jj_3R_690()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_684()) jj_scanpos = xsp;
+    if (jj_3R_691()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_685()) jj_scanpos = xsp;
+    if (jj_3R_692()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_736() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_87() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_170()) return true;
+    if (jj_3R_607()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_861()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_746()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_747()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_748()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_780() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_790() {
+    if (jj_3R_170()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_3R_601()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_736()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_737()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_738()) jj_scanpos = xsp;
+  private boolean jj_3R_775() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_773()) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_798() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_911()) jj_scanpos = xsp;
+    if (jj_3R_919()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_910() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_918() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_763()) return true;
+  private boolean jj_3R_319() {
+    if (jj_scan_token(REVOKE)) return true;
+    if (jj_3R_530()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_773()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_775()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_796() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_910()) jj_scanpos = xsp;
+    if (jj_3R_918()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+  private boolean jj_3R_774() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_773()) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_scan_token(REVOKE)) return true;
-    if (jj_3R_526()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_763()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_765()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_917() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
+  private boolean jj_3R_914() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
+  private boolean jj_3R_916() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_913() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_907() {
+  private boolean jj_3R_915() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
+  private boolean jj_3R_490() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_764() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_763()) return true;
+  private boolean jj_3R_912() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_318() {
+    if (jj_scan_token(GRANT)) return true;
+    if (jj_3R_530()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_773()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_774()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_788()) return true;
+    if (jj_3R_798()) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_903() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_788() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_904()) jj_scanpos = xsp;
+    if (jj_3R_912()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_905()) {
+    if (jj_3R_913()) {
     jj_scanpos = xsp;
-    if (jj_3R_906()) {
+    if (jj_3R_914()) {
     jj_scanpos = xsp;
-    if (jj_3R_907()) {
+    if (jj_3R_915()) {
     jj_scanpos = xsp;
-    if (jj_3R_908()) {
+    if (jj_3R_916()) {
     jj_scanpos = xsp;
-    if (jj_3R_909()) return true;
+    if (jj_3R_917()) return true;
     }
     }
     }
     }
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
-    if (jj_scan_token(GRANT)) return true;
-    if (jj_3R_526()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_763()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_764()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_902() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
+  private boolean jj_3R_901() {
+    if (jj_scan_token(CLUSTER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_797() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_786()) return true;
+    if (jj_3R_796()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_642() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_788()) return true;
+    if (jj_3R_798()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_789()) { jj_scanpos = xsp; break; }
+      if (jj_3R_799()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_895() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_773() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_901()) {
+    jj_scanpos = xsp;
+    if (jj_3R_902()) {
+    jj_scanpos = xsp;
+    if (jj_3R_903()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_785() {
+  private boolean jj_3R_795() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_794() {
+    if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
-    if (jj_scan_token(INCREMENT)) return true;
+  private boolean jj_3R_658() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_893() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_657() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_893()) {
-    jj_scanpos = xsp;
-    if (jj_3R_894()) {
-    jj_scanpos = xsp;
-    if (jj_3R_895()) return true;
-    }
-    }
+  private boolean jj_3R_656() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_783() {
+  private boolean jj_3R_793() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
+  private boolean jj_3R_655() {
+    if (jj_scan_token(DELETE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_792() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
+  private boolean jj_3R_654() {
+    if (jj_scan_token(UPDATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_641() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_784()) {
+    if (jj_3R_794()) {
     jj_scanpos = xsp;
-    if (jj_3R_785()) return true;
+    if (jj_3R_795()) return true;
     }
-    if (jj_3R_786()) return true;
+    if (jj_3R_796()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_787()) { jj_scanpos = xsp; break; }
+      if (jj_3R_797()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_649() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_648() {
-    if (jj_scan_token(ALL)) return true;
+  private boolean jj_3R_653() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_647() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_652() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
+  private boolean jj_3R_791() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_780()) return true;
+    if (jj_3R_790()) return true;
     return false;
   }
 
-  private boolean jj_3R_646() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_485() {
+  private boolean jj_3R_489() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_631() {
+  private boolean jj_3R_530() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_782()) {
+    if (jj_3R_652()) {
     jj_scanpos = xsp;
-    if (jj_3R_783()) return true;
+    if (jj_3R_653()) {
+    jj_scanpos = xsp;
+    if (jj_3R_654()) {
+    jj_scanpos = xsp;
+    if (jj_3R_655()) {
+    jj_scanpos = xsp;
+    if (jj_3R_656()) {
+    jj_scanpos = xsp;
+    if (jj_3R_657()) {
+    jj_scanpos = xsp;
+    if (jj_3R_658()) return true;
+    }
+    }
+    }
+    }
+    }
     }
-    if (jj_3R_237()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_644() {
-    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_643() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_640() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_792()) {
+    jj_scanpos = xsp;
+    if (jj_3R_793()) return true;
+    }
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
+  private boolean jj_3R_789() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_778()) return true;
+    if (jj_3R_788()) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
+  private boolean jj_3R_639() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_780()) return true;
+    if (jj_3R_790()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_781()) { jj_scanpos = xsp; break; }
+      if (jj_3R_791()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_526() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_643()) {
-    jj_scanpos = xsp;
-    if (jj_3R_644()) {
-    jj_scanpos = xsp;
-    if (jj_3R_645()) {
-    jj_scanpos = xsp;
-    if (jj_3R_646()) {
-    jj_scanpos = xsp;
-    if (jj_3R_647()) {
-    jj_scanpos = xsp;
-    if (jj_3R_648()) {
-    jj_scanpos = xsp;
-    if (jj_3R_649()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_157() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_638() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_778()) return true;
+    if (jj_3R_788()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_779()) { jj_scanpos = xsp; break; }
+      if (jj_3R_789()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_156() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_468() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
+  private boolean jj_3R_477() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_629()) {
+    if (jj_3R_638()) {
     jj_scanpos = xsp;
-    if (jj_3R_630()) {
+    if (jj_3R_639()) {
     jj_scanpos = xsp;
-    if (jj_3R_631()) {
+    if (jj_3R_640()) {
     jj_scanpos = xsp;
-    if (jj_3R_632()) {
+    if (jj_3R_641()) {
     jj_scanpos = xsp;
-    if (jj_3R_633()) return true;
+    if (jj_3R_642()) return true;
     }
     }
     }
@@ -28524,178 +28567,168 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_744() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_745() {
+    if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_scan_token(AFTER)) return true;
+  private boolean jj_3R_743() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_495() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_279() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_479() {
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_494() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_278() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_scan_token(INVERSE)) return true;
+  private boolean jj_3R_742() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_493() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_733() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_741() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_492() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_491() {
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
+  private boolean jj_3R_277() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_488()) {
+    if (jj_3R_492()) {
     jj_scanpos = xsp;
-    if (jj_3R_489()) {
+    if (jj_3R_493()) {
     jj_scanpos = xsp;
-    if (jj_3R_490()) {
+    if (jj_3R_494()) {
     jj_scanpos = xsp;
-    if (jj_3R_491()) return true;
+    if (jj_3R_495()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_731() {
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_274() {
+  private boolean jj_3R_276() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
+  private boolean jj_3R_488() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
+  private boolean jj_3R_275() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_484()) {
+    if (jj_3R_488()) {
     jj_scanpos = xsp;
-    if (jj_3R_485()) {
+    if (jj_3R_489()) {
     jj_scanpos = xsp;
-    if (jj_3R_486()) return true;
+    if (jj_3R_490()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_487()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_272() {
-    if (jj_scan_token(UPSERT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_271() {
-    if (jj_3R_473()) return true;
+    if (jj_3R_491()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_85() {
+  private boolean jj_3R_86() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(LINK)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_731()) {
+    if (jj_3R_741()) {
     jj_scanpos = xsp;
-    if (jj_3R_732()) return true;
+    if (jj_3R_742()) return true;
     }
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_733()) {
+    if (jj_3R_743()) {
     jj_scanpos = xsp;
-    if (jj_3R_734()) return true;
+    if (jj_3R_744()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_735()) jj_scanpos = xsp;
+    if (jj_3R_745()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_762() {
-    if (jj_3R_892()) return true;
+  private boolean jj_3R_274() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
+  private boolean jj_3R_772() {
+    if (jj_3R_900()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_273() {
+    if (jj_3R_477()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_100() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_265()) return true;
     Token xsp;
-    if (jj_3R_271()) return true;
+    if (jj_3R_273()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_271()) { jj_scanpos = xsp; break; }
+      if (jj_3R_273()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_272()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_273()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_274()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_275()) jj_scanpos = xsp;
@@ -28703,153 +28736,169 @@ Token token;
     if (jj_3R_276()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_277()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_278()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_279()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_270() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_317() {
+    if (jj_scan_token(OPTIMIZE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_772()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_269() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_272() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_271() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_480() {
+    if (jj_3R_471()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_485() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
+  private boolean jj_3R_484() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
+  private boolean jj_3R_483() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
-    if (jj_scan_token(OPTIMIZE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_762()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_900() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_478() {
+  private boolean jj_3R_482() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
+  private boolean jj_3R_478() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
+  private boolean jj_3R_270() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_478()) {
+    if (jj_3R_482()) {
     jj_scanpos = xsp;
-    if (jj_3R_479()) {
+    if (jj_3R_483()) {
     jj_scanpos = xsp;
-    if (jj_3R_480()) {
+    if (jj_3R_484()) {
     jj_scanpos = xsp;
-    if (jj_3R_481()) return true;
+    if (jj_3R_485()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_267() {
+  private boolean jj_3R_269() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_268() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_474()) {
+    if (jj_3R_478()) {
     jj_scanpos = xsp;
-    if (jj_3R_475()) return true;
+    if (jj_3R_479()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_476()) jj_scanpos = xsp;
+    if (jj_3R_480()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_892() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_771() {
+    if (jj_3R_170()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_265() {
+  private boolean jj_3R_267() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
-    if (jj_3R_473()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_761() {
-    if (jj_3R_169()) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_266() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3_160() {
+  private boolean jj_3_162() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
+  private boolean jj_3R_115() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_160()) {
+    if (jj_3_162()) {
     jj_scanpos = xsp;
-    if (jj_3R_761()) return true;
+    if (jj_3R_771()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_98() {
+  private boolean jj_3R_769() {
+    if (jj_3R_74()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_768() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_770() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_99() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_265()) return true;
     Token xsp;
-    if (jj_3R_264()) return true;
+    if (jj_3R_266()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_264()) { jj_scanpos = xsp; break; }
+      if (jj_3R_266()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_265()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_266()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_267()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_268()) jj_scanpos = xsp;
@@ -28857,555 +28906,568 @@ Token token;
     if (jj_3R_269()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_270()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_271()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_272()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_759() {
-    if (jj_3R_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_364() {
-    if (jj_3R_471()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_363() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_366() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_365() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_362() {
+  private boolean jj_3R_364() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_760() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_361() {
-    if (jj_3R_169()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_113() {
+  private boolean jj_3R_114() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_758()) {
+    if (jj_3R_768()) {
     jj_scanpos = xsp;
-    if (jj_3R_759()) return true;
+    if (jj_3R_769()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_760()) jj_scanpos = xsp;
+    if (jj_3R_770()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_164() {
+  private boolean jj_3R_363() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_310() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_165() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_361()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_362()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_363()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_364()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_365()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_366()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_308() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_113() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_170()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_310()) jj_scanpos = xsp;
+    if (jj_3R_170()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_357() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_359() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_358() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
+  private boolean jj_3R_357() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_112() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_169()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_308()) jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_730() {
+  private boolean jj_3R_740() {
     if (jj_scan_token(ID)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_729() {
+  private boolean jj_3R_739() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
+  private boolean jj_3R_253() {
     if (jj_scan_token(BLOB)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_163() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_355()) jj_scanpos = xsp;
+    if (jj_3R_357()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_356()) jj_scanpos = xsp;
+    if (jj_3R_358()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_357()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_360() {
-    if (jj_3R_471()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_359() {
-    if (jj_3R_482()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_358() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_359()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_84() {
+  private boolean jj_3R_85() {
     if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(256)) {
+    if (jj_scan_token(257)) {
     jj_scanpos = xsp;
-    if (jj_3R_251()) return true;
+    if (jj_3R_253()) return true;
     }
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_729()) jj_scanpos = xsp;
+    if (jj_3R_739()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_730()) jj_scanpos = xsp;
+    if (jj_3R_740()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_756() {
+  private boolean jj_3R_766() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_757() {
+  private boolean jj_3R_767() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_3R_545()) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_159()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_360()) jj_scanpos = xsp;
+  private boolean jj_3R_361() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
+  private boolean jj_3R_765() {
+    if (jj_3R_551()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_360() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_481()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_112() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_755()) {
+    if (jj_3R_765()) {
     jj_scanpos = xsp;
-    if (jj_3R_756()) return true;
+    if (jj_3R_766()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_757()) jj_scanpos = xsp;
+    if (jj_3R_767()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_754() {
+  private boolean jj_3R_764() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    if (jj_3R_545()) return true;
+  private boolean jj_3R_763() {
+    if (jj_3R_551()) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_164() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    if (jj_3R_170()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_160()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_360()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_361()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_362()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_1040() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_1034() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_237()) return true;
+  private boolean jj_3R_1039() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1033() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_316() {
+    if (jj_scan_token(REBUILD)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_763()) {
+    jj_scanpos = xsp;
+    if (jj_3R_764()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_352() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+  private boolean jj_3R_356() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_355() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
-    if (jj_scan_token(REBUILD)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_753()) {
-    jj_scanpos = xsp;
-    if (jj_3R_754()) return true;
-    }
+  private boolean jj_3R_354() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_353() {
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_976() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_984() {
+    if (jj_3R_170()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1033()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1039()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1034()) jj_scanpos = xsp;
+    if (jj_3R_1040()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_158() {
+  private boolean jj_3R_738() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_481()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_352() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3_160() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_237()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_868() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_158()) {
+    if (jj_3_160()) {
     jj_scanpos = xsp;
-    if (jj_3R_976()) return true;
+    if (jj_3R_984()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1032() {
+  private boolean jj_3R_1038() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_237()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_1031() {
+  private boolean jj_3R_1037() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_737() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_868()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_983() {
+    if (jj_3R_170()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1037()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_1038()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_665() {
+  private boolean jj_3R_672() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_162() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_350()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_159()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_351()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_352()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_160()) return true;
     xsp = jj_scanpos;
     if (jj_3R_353()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_354()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_355()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_356()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_349() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_351() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_860()) jj_scanpos = xsp;
+  private boolean jj_3_159() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_975() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_867() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1031()) { jj_scanpos = xsp; break; }
-    }
     xsp = jj_scanpos;
-    if (jj_3R_1032()) jj_scanpos = xsp;
+    if (jj_3_159()) {
+    jj_scanpos = xsp;
+    if (jj_3R_983()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_174()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_665()) { jj_scanpos = xsp; break; }
+      if (jj_3R_672()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_157() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_237()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_859() {
+  private boolean jj_3_161() {
+    if (jj_scan_token(ENGINE)) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_157()) {
-    jj_scanpos = xsp;
-    if (jj_3R_975()) return true;
-    }
+    if (jj_3R_867()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_348() {
+  private boolean jj_3R_350() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_544()) jj_scanpos = xsp;
+    if (jj_3R_550()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_866() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3_159() {
-    if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_169()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_859()) jj_scanpos = xsp;
+  private boolean jj_3R_349() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_858() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_982() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3_155() {
+  private boolean jj_3_157() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_736() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_157()) {
+    jj_scanpos = xsp;
+    if (jj_3R_866()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_156() {
+    if (jj_scan_token(INCLUDE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_170()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_982()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_60() {
-    if (jj_3R_164()) return true;
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_1030() {
+  private boolean jj_3R_1036() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_974() {
+  private boolean jj_3R_981() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1029() {
+  private boolean jj_3R_1035() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
   private boolean jj_3_59() {
-    if (jj_3R_163()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_727() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_155()) {
-    jj_scanpos = xsp;
-    if (jj_3R_858()) return true;
-    }
+    if (jj_3R_164()) return true;
     return false;
   }
 
   private boolean jj_3_58() {
-    if (jj_3R_162()) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_160() {
+  private boolean jj_3R_161() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_347()) {
+    if (jj_3R_349()) {
     jj_scanpos = xsp;
-    if (jj_3R_348()) return true;
+    if (jj_3R_350()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_349()) jj_scanpos = xsp;
+    if (jj_3R_351()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_973() {
+  private boolean jj_3R_980() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1029()) {
+    if (jj_3R_1035()) {
     jj_scanpos = xsp;
-    if (jj_3R_1030()) return true;
+    if (jj_3R_1036()) return true;
     }
     return false;
   }
 
   private boolean jj_3_57() {
-    if (jj_3R_161()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_252() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
   private boolean jj_3_56() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_972() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_979() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_971() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_978() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_246() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_248() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
+  private boolean jj_3R_80() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_246()) {
-    jj_scanpos = xsp;
-    if (jj_3R_247()) {
-    jj_scanpos = xsp;
     if (jj_3R_248()) {
     jj_scanpos = xsp;
     if (jj_3R_249()) {
     jj_scanpos = xsp;
-    if (jj_3R_250()) return true;
+    if (jj_3R_250()) {
+    jj_scanpos = xsp;
+    if (jj_3R_251()) {
+    jj_scanpos = xsp;
+    if (jj_3R_252()) return true;
     }
     }
     }
@@ -29413,726 +29475,746 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_865() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_971()) {
+    if (jj_3R_978()) {
     jj_scanpos = xsp;
-    if (jj_3R_972()) return true;
+    if (jj_3R_979()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_973()) jj_scanpos = xsp;
+    if (jj_3R_980()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_974()) jj_scanpos = xsp;
+    if (jj_3R_981()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3R_723() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3R_722() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_970() {
+  private boolean jj_3R_977() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_716() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_725() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_864() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
+  private boolean jj_3R_721() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_724() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_969() {
+  private boolean jj_3R_976() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
+  private boolean jj_3R_863() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_969()) {
+    if (jj_3R_976()) {
     jj_scanpos = xsp;
-    if (jj_3R_970()) return true;
+    if (jj_3R_977()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_711() {
+  private boolean jj_3R_720() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_719() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_709() {
+  private boolean jj_3R_718() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_78() {
+  private boolean jj_3R_79() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_712()) jj_scanpos = xsp;
-    if (jj_3R_263()) return true;
+    if (jj_3R_721()) jj_scanpos = xsp;
+    if (jj_3R_265()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_713()) jj_scanpos = xsp;
+    if (jj_3R_722()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) jj_scanpos = xsp;
+    if (jj_3R_723()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_715()) jj_scanpos = xsp;
+    if (jj_3R_724()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_716()) jj_scanpos = xsp;
+    if (jj_3R_725()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3R_717() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_238() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_237() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_953() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_958() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_957() {
+    if (jj_3R_666()) return true;
     return false;
   }
 
-  private boolean jj_3R_951() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_956() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_950() {
-    if (jj_3R_532()) return true;
+  private boolean jj_3R_955() {
+    if (jj_3R_536()) return true;
     return false;
   }
 
-  private boolean jj_3R_77() {
+  private boolean jj_3R_78() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_265()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_708()) jj_scanpos = xsp;
+    if (jj_3R_717()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_709()) jj_scanpos = xsp;
+    if (jj_3R_718()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_710()) jj_scanpos = xsp;
+    if (jj_3R_719()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_711()) jj_scanpos = xsp;
+    if (jj_3R_720()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_234() {
+  private boolean jj_3R_236() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_954() {
+    if (jj_3R_535()) return true;
     return false;
   }
 
-  private boolean jj_3R_1026() {
+  private boolean jj_3R_1032() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1025() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_1031() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3_156() {
+  private boolean jj_3_158() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_234()) jj_scanpos = xsp;
+    if (jj_3R_236()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_235()) {
+    if (jj_3R_237()) {
     jj_scanpos = xsp;
-    if (jj_3R_236()) return true;
+    if (jj_3R_238()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_855()) jj_scanpos = xsp;
+    if (jj_3R_863()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3R_864()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_857()) { jj_scanpos = xsp; break; }
+      if (jj_3R_865()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_169()) return true;
+    xsp = jj_scanpos;
+    if (jj_3_156()) jj_scanpos = xsp;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_948() {
+  private boolean jj_3R_953() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1025()) jj_scanpos = xsp;
+    if (jj_3R_1031()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1026()) jj_scanpos = xsp;
+    if (jj_3R_1032()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_83() {
+  private boolean jj_3R_84() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_545()) return true;
+    if (jj_3R_551()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_156()) {
+    if (jj_3_158()) {
     jj_scanpos = xsp;
-    if (jj_3R_727()) return true;
+    if (jj_3R_736()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_159()) {
+    if (jj_3_161()) {
     jj_scanpos = xsp;
-    if (jj_3R_728()) return true;
+    if (jj_3R_737()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_738()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_55() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_1024() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_1030() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
+  private boolean jj_3R_952() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_307() {
+  private boolean jj_3R_309() {
     if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1023() {
-    if (jj_3R_554()) return true;
+  private boolean jj_3R_1029() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
+  private boolean jj_3R_308() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_946() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_951() {
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1024()) jj_scanpos = xsp;
+    if (jj_3R_1030()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_305() {
-    if (jj_3R_169()) return true;
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_307() {
+    if (jj_3R_170()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
+  private boolean jj_3R_111() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_306()) jj_scanpos = xsp;
+    if (jj_3R_308()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_307()) jj_scanpos = xsp;
+    if (jj_3R_309()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_54() {
     if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1023()) jj_scanpos = xsp;
+    if (jj_3R_1029()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1022() {
+  private boolean jj_3R_1028() {
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_689()) return true;
+    if (jj_3R_696()) return true;
     return false;
   }
 
-  private boolean jj_3R_1021() {
-    if (jj_3R_689()) return true;
+  private boolean jj_3R_1027() {
+    if (jj_3R_696()) return true;
     return false;
   }
 
-  private boolean jj_3_154() {
+  private boolean jj_3_155() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_945() {
+  private boolean jj_3R_950() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1021()) {
+    if (jj_3R_1027()) {
     jj_scanpos = xsp;
-    if (jj_3R_1022()) return true;
+    if (jj_3R_1028()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_587() {
+  private boolean jj_3R_546() {
+    if (jj_scan_token(CACHE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_593() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_689()) return true;
+    if (jj_3R_696()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_945()) { jj_scanpos = xsp; break; }
+      if (jj_3R_950()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
     if (jj_3_54()) {
     jj_scanpos = xsp;
-    if (jj_3R_946()) return true;
+    if (jj_3R_951()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_947()) jj_scanpos = xsp;
+    if (jj_3R_952()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_948()) { jj_scanpos = xsp; break; }
+      if (jj_3R_953()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_949()) jj_scanpos = xsp;
+    if (jj_3R_954()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_950()) jj_scanpos = xsp;
+    if (jj_3R_955()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_951()) jj_scanpos = xsp;
+    if (jj_3R_956()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_952()) jj_scanpos = xsp;
+    if (jj_3R_957()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_953()) jj_scanpos = xsp;
+    if (jj_3R_958()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_109() {
+  private boolean jj_3R_110() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_154()) {
+    if (jj_3_155()) {
     jj_scanpos = xsp;
-    if (jj_3R_305()) return true;
+    if (jj_3R_307()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1019() {
+  private boolean jj_3R_1025() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1018() {
+  private boolean jj_3R_1024() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_968() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_975() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
+  private boolean jj_3R_949() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1018()) {
+    if (jj_3R_1024()) {
     jj_scanpos = xsp;
-    if (jj_3R_1019()) return true;
+    if (jj_3R_1025()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_943() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_948() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_942() {
+  private boolean jj_3R_947() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
+  private boolean jj_3R_735() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_854() {
+  private boolean jj_3R_862() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_853()) return true;
+    if (jj_3R_861()) return true;
     return false;
   }
 
-  private boolean jj_3R_1017() {
+  private boolean jj_3R_1023() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_828()) return true;
+    if (jj_3R_836()) return true;
     return false;
   }
 
-  private boolean jj_3R_941() {
+  private boolean jj_3R_946() {
     if (jj_scan_token(MAXDEPTH)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_733() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
+  private boolean jj_3R_734() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_853()) return true;
+    if (jj_3R_861()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_854()) { jj_scanpos = xsp; break; }
+      if (jj_3R_862()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
-    if (jj_3R_828()) return true;
+  private boolean jj_3R_695() {
+    if (jj_3R_836()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1017()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1023()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_659() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_668() {
+    if (jj_3R_666()) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_861() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_968()) jj_scanpos = xsp;
+    if (jj_3R_975()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_3R_233()) return true;
+  private boolean jj_3_154() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_667() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
+  private boolean jj_3R_592() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_688()) jj_scanpos = xsp;
+    if (jj_3R_695()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
+    if (jj_3R_265()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_941()) jj_scanpos = xsp;
+    if (jj_3R_946()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_942()) jj_scanpos = xsp;
+    if (jj_3R_947()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_943()) jj_scanpos = xsp;
+    if (jj_3R_948()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_944()) jj_scanpos = xsp;
+    if (jj_3R_949()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_540() {
+  private boolean jj_3R_544() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
-    if (jj_scan_token(NOCACHE)) return true;
+  private boolean jj_3R_338() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_545()) {
+    jj_scanpos = xsp;
+    if (jj_3R_546()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_539() {
+  private boolean jj_3R_543() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
+  private boolean jj_3R_545() {
+    if (jj_scan_token(NOCACHE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_337() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
+  private boolean jj_3R_968() {
+    if (jj_scan_token(CACHE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_542() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
+  private boolean jj_3R_541() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
+  private boolean jj_3R_83() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_153()) jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
+    if (jj_3_154()) jj_scanpos = xsp;
+    if (jj_3R_170()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_724()) jj_scanpos = xsp;
+    if (jj_3R_733()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_725()) jj_scanpos = xsp;
+    if (jj_3R_734()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_726()) jj_scanpos = xsp;
+    if (jj_3R_735()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1028() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_1034() {
+    if (jj_3R_666()) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_539() {
+    if (jj_3R_486()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_659()) jj_scanpos = xsp;
+    if (jj_3R_668()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_334() {
+  private boolean jj_3R_336() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_537()) {
+    if (jj_3R_541()) {
     jj_scanpos = xsp;
-    if (jj_3R_538()) {
+    if (jj_3R_542()) {
     jj_scanpos = xsp;
-    if (jj_3R_539()) {
+    if (jj_3R_543()) {
     jj_scanpos = xsp;
-    if (jj_3R_540()) return true;
+    if (jj_3R_544()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_333() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_335() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
+  private boolean jj_3R_333() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_534()) {
+    if (jj_3R_538()) {
     jj_scanpos = xsp;
-    if (jj_3R_535()) return true;
+    if (jj_3R_539()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_534() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_538() {
+    if (jj_3R_666()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_658()) jj_scanpos = xsp;
+    if (jj_3R_667()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_334() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_1027() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_1033() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
+  private boolean jj_3R_235() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
+  private boolean jj_3R_306() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_330() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_332() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
-    if (jj_3R_532()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_536()) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_330() {
+    if (jj_3R_535()) return true;
     return false;
   }
 
-  private boolean jj_3R_108() {
+  private boolean jj_3R_109() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_304()) jj_scanpos = xsp;
+    if (jj_3R_306()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_327() {
+  private boolean jj_3R_329() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_326() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_328() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_327() {
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
+  private boolean jj_3R_305() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
+  private boolean jj_3R_304() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_516() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_107() {
+  private boolean jj_3R_108() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_302()) jj_scanpos = xsp;
+    if (jj_3R_304()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_303()) jj_scanpos = xsp;
+    if (jj_3R_305()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_957() {
-    if (jj_3R_482()) return true;
+  private boolean jj_3R_962() {
+    if (jj_3R_486()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1028()) jj_scanpos = xsp;
+    if (jj_3R_1034()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_157() {
+  private boolean jj_3R_158() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_325()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_263()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_326()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_327()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_265()) return true;
     xsp = jj_scanpos;
     if (jj_3R_328()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -30151,287 +30233,301 @@ Token token;
     if (jj_3R_335()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_336()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_337()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_338()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_518() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_956() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_961() {
+    if (jj_3R_666()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1027()) jj_scanpos = xsp;
+    if (jj_3R_1033()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_839() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_956()) {
+    if (jj_3R_961()) {
     jj_scanpos = xsp;
-    if (jj_3R_957()) return true;
+    if (jj_3R_962()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_961() {
+  private boolean jj_3R_966() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_517() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_960() {
+  private boolean jj_3R_967() {
+    if (jj_scan_token(NOCACHE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_965() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_836() {
-    if (jj_scan_token(NOCACHE)) return true;
+  private boolean jj_3R_844() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_967()) {
+    jj_scanpos = xsp;
+    if (jj_3R_968()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_515() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_959() {
+  private boolean jj_3R_964() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_958() {
+  private boolean jj_3R_963() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
+  private boolean jj_3R_302() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_513()) {
+    if (jj_3R_517()) {
     jj_scanpos = xsp;
-    if (jj_3R_514()) return true;
+    if (jj_3R_518()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_scan_token(270)) return true;
+  private boolean jj_3R_513() {
+    if (jj_scan_token(271)) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_301() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_512()) {
+    if (jj_3R_516()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_512() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_834() {
+  private boolean jj_3R_842() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_958()) {
+    if (jj_3R_963()) {
     jj_scanpos = xsp;
-    if (jj_3R_959()) {
+    if (jj_3R_964()) {
     jj_scanpos = xsp;
-    if (jj_3R_960()) {
+    if (jj_3R_965()) {
     jj_scanpos = xsp;
-    if (jj_3R_961()) return true;
+    if (jj_3R_966()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_833() {
-    if (jj_3R_483()) return true;
+  private boolean jj_3R_841() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_840() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_300() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_511()) {
+    if (jj_3R_515()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_507() {
+  private boolean jj_3R_511() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_830() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_838() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
-    if (jj_3R_530()) return true;
+  private boolean jj_3R_837() {
+    if (jj_3R_534()) return true;
     return false;
   }
 
-  private boolean jj_3R_506() {
+  private boolean jj_3R_510() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_53() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
+  private boolean jj_3R_299() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_508()) {
+    if (jj_3R_512()) {
     jj_scanpos = xsp;
-    if (jj_3R_509()) {
+    if (jj_3R_513()) {
     jj_scanpos = xsp;
-    if (jj_3R_510()) return true;
+    if (jj_3R_514()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_368() {
+  private boolean jj_3R_370() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_467()) return true;
+    if (jj_3R_471()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_829()) jj_scanpos = xsp;
+    if (jj_3R_837()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_830()) jj_scanpos = xsp;
+    if (jj_3R_838()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_831()) jj_scanpos = xsp;
+    if (jj_3R_839()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_832()) jj_scanpos = xsp;
+    if (jj_3R_840()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_833()) jj_scanpos = xsp;
+    if (jj_3R_841()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) jj_scanpos = xsp;
+    if (jj_3R_842()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_835()) jj_scanpos = xsp;
+    if (jj_3R_843()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_836()) jj_scanpos = xsp;
+    if (jj_3R_844()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_52() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_415() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_509() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_586()) return true;
+  private boolean jj_3R_414() {
+    if (jj_3R_592()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_508() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_413() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_298() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_506()) {
+    if (jj_3R_510()) {
     jj_scanpos = xsp;
-    if (jj_3R_507()) return true;
+    if (jj_3R_511()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_507() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_506() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
+  private boolean jj_3R_203() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_410()) {
-    jj_scanpos = xsp;
-    if (jj_3R_411()) {
-    jj_scanpos = xsp;
     if (jj_3R_412()) {
     jj_scanpos = xsp;
     if (jj_3R_413()) {
     jj_scanpos = xsp;
-    if (jj_3R_414()) return true;
+    if (jj_3R_414()) {
+    jj_scanpos = xsp;
+    if (jj_3R_415()) {
+    jj_scanpos = xsp;
+    if (jj_3R_416()) return true;
     }
     }
     }
@@ -30439,358 +30535,358 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_295() {
+  private boolean jj_3R_297() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_501() {
+  private boolean jj_3R_505() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
+  private boolean jj_3R_296() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
+    if (jj_3R_508()) {
     jj_scanpos = xsp;
-    if (jj_3R_505()) return true;
+    if (jj_3R_509()) return true;
     }
     return false;
   }
 
   private boolean jj_3_49() {
-    if (jj_3R_119()) return true;
+    if (jj_3R_120()) return true;
     return false;
   }
 
   private boolean jj_3_51() {
-    if (jj_3R_156()) return true;
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_467() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
+  private boolean jj_3R_504() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_48() {
-    if (jj_3R_118()) return true;
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_649() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3_47() {
-    if (jj_3R_117()) return true;
+    if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_469()) return true;
     return false;
   }
 
-  private boolean jj_3R_293() {
+  private boolean jj_3R_295() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) {
+    if (jj_3R_506()) {
     jj_scanpos = xsp;
-    if (jj_3R_503()) return true;
+    if (jj_3R_507()) return true;
     }
     return false;
   }
 
   private boolean jj_3_46() {
-    if (jj_3R_116()) return true;
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
-    if (jj_3R_119()) return true;
+  private boolean jj_3R_156() {
+    if (jj_3R_120()) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_246() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
   private boolean jj_3_45() {
-    if (jj_3R_115()) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_243() {
-    if (jj_3R_464()) return true;
+  private boolean jj_3R_245() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
-    if (jj_3R_118()) return true;
+  private boolean jj_3R_155() {
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
+  private boolean jj_3R_502() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
-    if (jj_3R_117()) return true;
+  private boolean jj_3R_154() {
+    if (jj_3R_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
-    if (jj_3R_116()) return true;
+  private boolean jj_3R_153() {
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_500()) {
+    if (jj_3R_504()) {
     jj_scanpos = xsp;
-    if (jj_3R_501()) return true;
+    if (jj_3R_505()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_3R_115()) return true;
+  private boolean jj_3R_152() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_501() {
+    if (jj_3R_170()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_640()) { jj_scanpos = xsp; break; }
+      if (jj_3R_649()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_151() {
+    if (jj_3R_326()) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_3R_323()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_325()) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
+  private boolean jj_3R_293() {
     if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_499()) return true;
+    if (jj_3R_503()) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_3R_322()) return true;
+  private boolean jj_3R_149() {
+    if (jj_3R_324()) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_323()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_322()) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
+  private boolean jj_3R_500() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_321()) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_499() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_318()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_320()) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_317()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_319()) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_648() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_3R_316()) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_318()) return true;
     return false;
   }
 
   private boolean jj_3_42() {
-    if (jj_3R_112()) return true;
+    if (jj_3R_113()) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_315()) return true;
+  private boolean jj_3R_142() {
+    if (jj_3R_317()) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_498() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_638()) {
+    if (jj_3R_647()) {
     jj_scanpos = xsp;
-    if (jj_3R_639()) return true;
+    if (jj_3R_648()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_638() {
+  private boolean jj_3R_647() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
+  private boolean jj_3R_292() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_497()) {
+    if (jj_3R_501()) {
     jj_scanpos = xsp;
-    if (jj_3R_498()) return true;
+    if (jj_3R_502()) return true;
     }
     return false;
   }
 
   private boolean jj_3_44() {
-    if (jj_3R_114()) return true;
+    if (jj_3R_115()) return true;
     return false;
   }
 
   private boolean jj_3_43() {
-    if (jj_3R_113()) return true;
+    if (jj_3R_114()) return true;
     return false;
   }
 
   private boolean jj_3_40() {
-    if (jj_3R_110()) return true;
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_112()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_113()) return true;
     return false;
   }
 
   private boolean jj_3_39() {
-    if (jj_3R_109()) return true;
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_497() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3_41() {
-    if (jj_3R_111()) return true;
+    if (jj_3R_112()) return true;
     return false;
   }
 
   private boolean jj_3_38() {
-    if (jj_3R_108()) return true;
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_314()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_316()) return true;
     return false;
   }
 
   private boolean jj_3_37() {
-    if (jj_3R_107()) return true;
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_139() {
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_138() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_289() {
+  private boolean jj_3R_291() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_494()) jj_scanpos = xsp;
+    if (jj_3R_498()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_495()) {
+    if (jj_3R_499()) {
     jj_scanpos = xsp;
-    if (jj_3R_496()) return true;
+    if (jj_3R_500()) return true;
     }
     return false;
   }
 
   private boolean jj_3_35() {
-    if (jj_3R_105()) return true;
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_137() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3R_136() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
   private boolean jj_3_33() {
-    if (jj_3R_103()) return true;
+    if (jj_3R_104()) return true;
     return false;
   }
 
   private boolean jj_3_36() {
-    if (jj_3R_106()) return true;
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
+  private boolean jj_3R_290() {
     if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_493()) {
+    if (jj_3R_497()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
@@ -30798,71 +30894,67 @@ Token token;
   }
 
   private boolean jj_3_32() {
-    if (jj_3R_102()) return true;
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
   private boolean jj_3_31() {
-    if (jj_3R_101()) return true;
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(NAME)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3_34() {
-    if (jj_3R_104()) return true;
+    if (jj_3R_105()) return true;
     return false;
   }
 
   private boolean jj_3_30() {
-    if (jj_3R_100()) return true;
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_134() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_133() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
   private boolean jj_3_29() {
-    if (jj_3R_99()) return true;
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
   private boolean jj_3_28() {
-    if (jj_3R_98()) return true;
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
+  private boolean jj_3R_106() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_287()) {
-    jj_scanpos = xsp;
-    if (jj_3R_288()) {
-    jj_scanpos = xsp;
     if (jj_3R_289()) {
     jj_scanpos = xsp;
     if (jj_3R_290()) {
@@ -30885,7 +30977,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_299()) {
     jj_scanpos = xsp;
-    if (jj_3R_300()) return true;
+    if (jj_3R_300()) {
+    jj_scanpos = xsp;
+    if (jj_3R_301()) {
+    jj_scanpos = xsp;
+    if (jj_3R_302()) return true;
     }
     }
     }
@@ -30900,42 +30996,42 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_301()) jj_scanpos = xsp;
+    if (jj_3R_303()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_131() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
   private boolean jj_3_27() {
-    if (jj_3R_97()) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_313()) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
   private boolean jj_3_26() {
-    if (jj_3R_96()) return true;
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
+  private boolean jj_3R_732() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_237()) return true;
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
+  private boolean jj_3R_731() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
@@ -30943,127 +31039,127 @@ Token token;
   }
 
   private boolean jj_3_25() {
-    if (jj_3R_95()) return true;
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_128() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_852() {
+  private boolean jj_3R_860() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
   private boolean jj_3_24() {
-    if (jj_3R_94()) return true;
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_127() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
   private boolean jj_3_23() {
-    if (jj_3R_93()) return true;
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_126() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_859() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
+  private boolean jj_3R_730() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
+  private boolean jj_3R_728() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_852()) { jj_scanpos = xsp; break; }
+      if (jj_3R_860()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_720() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(CLUSTERS)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_81() {
+  private boolean jj_3R_82() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_722()) jj_scanpos = xsp;
+    if (jj_3R_731()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_723()) jj_scanpos = xsp;
+    if (jj_3R_732()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_124() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_123() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
+  private boolean jj_3R_727() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_851()) { jj_scanpos = xsp; break; }
+      if (jj_3R_859()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_22() {
-    if (jj_3R_92()) return true;
+    if (jj_3R_93()) return true;
     return false;
   }
 
   private boolean jj_3_21() {
-    if (jj_3R_91()) return true;
+    if (jj_3R_92()) return true;
     return false;
   }
 
   private boolean jj_3_20() {
-    if (jj_3R_90()) return true;
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
+  private boolean jj_3R_726() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
@@ -31071,177 +31167,177 @@ Token token;
   }
 
   private boolean jj_3_19() {
-    if (jj_3R_89()) return true;
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_670() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
   private boolean jj_3_18() {
-    if (jj_3R_88()) return true;
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_669() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3_17() {
-    if (jj_3R_87()) return true;
+    if (jj_3R_88()) return true;
     return false;
   }
 
   private boolean jj_3_16() {
-    if (jj_3R_86()) return true;
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
+  private boolean jj_3R_81() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_717()) jj_scanpos = xsp;
+    if (jj_3R_726()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_718()) jj_scanpos = xsp;
+    if (jj_3R_727()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_719()) jj_scanpos = xsp;
+    if (jj_3R_728()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_720()) jj_scanpos = xsp;
+    if (jj_3R_729()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_721()) jj_scanpos = xsp;
+    if (jj_3R_730()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_15() {
-    if (jj_3R_85()) return true;
+    if (jj_3R_86()) return true;
     return false;
   }
 
   private boolean jj_3_14() {
-    if (jj_3R_84()) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
   private boolean jj_3_13() {
-    if (jj_3R_83()) return true;
+    if (jj_3R_84()) return true;
     return false;
   }
 
   private boolean jj_3_12() {
-    if (jj_3R_82()) return true;
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
+  private boolean jj_3R_549() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_662()) {
+    if (jj_3R_669()) {
     jj_scanpos = xsp;
-    if (jj_3R_663()) return true;
+    if (jj_3R_670()) return true;
     }
     return false;
   }
 
   private boolean jj_3_11() {
-    if (jj_3R_81()) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
   private boolean jj_3_10() {
-    if (jj_3R_80()) return true;
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_312()) return true;
+  private boolean jj_3R_122() {
+    if (jj_3R_314()) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3R_646() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_541() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3_9() {
-    if (jj_3R_79()) return true;
+    if (jj_3R_80()) return true;
     return false;
   }
 
   private boolean jj_3_8() {
-    if (jj_3R_78()) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
+  private boolean jj_3R_341() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_541()) {
+    if (jj_3R_547()) {
     jj_scanpos = xsp;
-    if (jj_3R_542()) return true;
+    if (jj_3R_548()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_543()) { jj_scanpos = xsp; break; }
+      if (jj_3R_549()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
   private boolean jj_3_7() {
-    if (jj_3R_77()) return true;
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_496() {
+    if (jj_3R_174()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_637()) { jj_scanpos = xsp; break; }
+      if (jj_3R_646()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_121() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_338() {
+  private boolean jj_3R_340() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_76()) return true;
+    if (jj_3R_77()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_339() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
   private boolean jj_3_50() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_120()) {
+    if (jj_3R_121()) {
     jj_scanpos = xsp;
     if (jj_3_7()) {
     jj_scanpos = xsp;
@@ -31249,7 +31345,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_9()) {
     jj_scanpos = xsp;
-    if (jj_3R_121()) {
+    if (jj_3R_122()) {
     jj_scanpos = xsp;
     if (jj_3_10()) {
     jj_scanpos = xsp;
@@ -31277,8 +31373,6 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_22()) {
     jj_scanpos = xsp;
-    if (jj_3R_122()) {
-    jj_scanpos = xsp;
     if (jj_3R_123()) {
     jj_scanpos = xsp;
     if (jj_3R_124()) {
@@ -31301,14 +31395,14 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_133()) {
     jj_scanpos = xsp;
-    if (jj_3_34()) {
-    jj_scanpos = xsp;
     if (jj_3R_134()) {
     jj_scanpos = xsp;
-    if (jj_3_36()) {
+    if (jj_3_34()) {
     jj_scanpos = xsp;
     if (jj_3R_135()) {
     jj_scanpos = xsp;
+    if (jj_3_36()) {
+    jj_scanpos = xsp;
     if (jj_3R_136()) {
     jj_scanpos = xsp;
     if (jj_3R_137()) {
@@ -31317,16 +31411,16 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_139()) {
     jj_scanpos = xsp;
+    if (jj_3R_140()) {
+    jj_scanpos = xsp;
     if (jj_3_41()) {
     jj_scanpos = xsp;
-    if (jj_3R_140()) {
+    if (jj_3R_141()) {
     jj_scanpos = xsp;
     if (jj_3_43()) {
     jj_scanpos = xsp;
     if (jj_3_44()) {
     jj_scanpos = xsp;
-    if (jj_3R_141()) {
-    jj_scanpos = xsp;
     if (jj_3R_142()) {
     jj_scanpos = xsp;
     if (jj_3R_143()) {
@@ -31353,7 +31447,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_154()) {
     jj_scanpos = xsp;
-    if (jj_3R_155()) return true;
+    if (jj_3R_155()) {
+    jj_scanpos = xsp;
+    if (jj_3R_156()) return true;
     }
     }
     }
@@ -31413,520 +31509,527 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_159() {
     if (jj_scan_token(FIND)) return true;
     if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_337()) {
+    if (jj_3R_339()) {
     jj_scanpos = xsp;
-    if (jj_3R_338()) return true;
+    if (jj_3R_340()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_339()) jj_scanpos = xsp;
+    if (jj_3R_341()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_6() {
-    if (jj_3R_76()) return true;
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_76() {
+  private boolean jj_3R_77() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_50()) {
     jj_scanpos = xsp;
-    if (jj_3R_243()) {
+    if (jj_3R_245()) {
     jj_scanpos = xsp;
-    if (jj_3R_244()) {
+    if (jj_3R_246()) {
     jj_scanpos = xsp;
-    if (jj_3R_245()) return true;
+    if (jj_3R_247()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_288() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_492()) jj_scanpos = xsp;
+    if (jj_3R_496()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_287() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_3R_463()) return true;
+  private boolean jj_3R_243() {
+    if (jj_3R_467()) return true;
     return false;
   }
 
-  private boolean jj_3R_240() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_242() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_103() {
+  private boolean jj_3R_104() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_285()) {
+    if (jj_3R_287()) {
     jj_scanpos = xsp;
-    if (jj_3R_286()) return true;
+    if (jj_3R_288()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_74() {
+  private boolean jj_3R_75() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_240()) {
+    if (jj_3R_242()) {
     jj_scanpos = xsp;
-    if (jj_3R_241()) return true;
+    if (jj_3R_243()) return true;
     }
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_283() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_285() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
   private boolean jj_3_5() {
-    if (jj_3R_75()) return true;
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_284() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_284() {
+  private boolean jj_3R_286() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
   private boolean jj_3_4() {
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_240() {
+    if (jj_3R_77()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(196)) jj_scanpos = xsp;
+    if (jj_scan_token(197)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_102() {
+  private boolean jj_3R_103() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_282()) {
+    if (jj_3R_284()) {
     jj_scanpos = xsp;
-    if (jj_3R_283()) return true;
+    if (jj_3R_285()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_284()) jj_scanpos = xsp;
+    if (jj_3R_286()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_642() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3R_651() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_641() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_650() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_283() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
+  private boolean jj_3R_503() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_641()) {
+    if (jj_3R_650()) {
     jj_scanpos = xsp;
-    if (jj_3R_642()) return true;
+    if (jj_3R_651()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_279() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
+  private boolean jj_3R_102() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_280()) jj_scanpos = xsp;
+    if (jj_3R_282()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_281()) jj_scanpos = xsp;
+    if (jj_3R_283()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_242() {
+  private boolean jj_3R_244() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
+  private boolean jj_3R_76() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_242()) jj_scanpos = xsp;
+    if (jj_3R_244()) jj_scanpos = xsp;
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3R_101() {
     if (jj_scan_token(PROFILE)) return true;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_278()) {
+    if (jj_3R_280()) {
     jj_scanpos = xsp;
-    if (jj_3R_279()) return true;
+    if (jj_3R_281()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_239() {
+  private boolean jj_3R_241() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
+  private boolean jj_3R_74() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_239()) jj_scanpos = xsp;
+    if (jj_3R_241()) jj_scanpos = xsp;
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_466() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_461() {
+  private boolean jj_3R_465() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_613()) jj_scanpos = xsp;
+    if (jj_3R_622()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
+  private boolean jj_3R_234() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_461()) {
+    if (jj_3R_465()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(218)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_462()) jj_scanpos = xsp;
+    if (jj_3R_466()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_612() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_621() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_464() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_463() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_612()) jj_scanpos = xsp;
+    if (jj_3R_621()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_233() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_459()) {
+    if (jj_3R_463()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(218)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_460()) jj_scanpos = xsp;
+    if (jj_3R_464()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_611() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_620() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_462() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_461() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_611()) jj_scanpos = xsp;
+    if (jj_3R_620()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_232() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_457()) {
+    if (jj_3R_461()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(218)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_458()) jj_scanpos = xsp;
+    if (jj_3R_462()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_619() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_459() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_610()) jj_scanpos = xsp;
+    if (jj_3R_619()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
+  private boolean jj_3R_231() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_455()) {
+    if (jj_3R_459()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(218)) return true;
     }
-    if (jj_3R_454()) return true;
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_1093() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_1099() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1090() {
+  private boolean jj_3R_1096() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1093()) jj_scanpos = xsp;
+    if (jj_3R_1099()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1085() {
+  private boolean jj_3R_1091() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1090()) {
+    if (jj_3R_1096()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(218)) return true;
     }
-    if (jj_3R_454()) return true;
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_617() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
+  private boolean jj_3R_457() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_608()) jj_scanpos = xsp;
+    if (jj_3R_617()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_230() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_453()) {
+    if (jj_3R_457()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(218)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_454()) return true;
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_967() {
+  private boolean jj_3R_974() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
+  private boolean jj_3R_858() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_966() {
+  private boolean jj_3R_973() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_857() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_856() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_966()) {
+    if (jj_3R_973()) {
     jj_scanpos = xsp;
-    if (jj_3R_967()) return true;
+    if (jj_3R_974()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_847() {
+  private boolean jj_3R_855() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_854() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_845() {
+  private boolean jj_3R_853() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_477()) return true;
+    if (jj_3R_481()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_965() {
+  private boolean jj_3R_972() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
+  private boolean jj_3R_852() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_964() {
+  private boolean jj_3R_971() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
+  private boolean jj_3R_851() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_970() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_962() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_969() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
+  private boolean jj_3R_850() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_964()) {
+    if (jj_3R_971()) {
     jj_scanpos = xsp;
-    if (jj_3R_965()) return true;
+    if (jj_3R_972()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_841() {
+  private boolean jj_3R_849() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_962()) {
+    if (jj_3R_969()) {
     jj_scanpos = xsp;
-    if (jj_3R_963()) return true;
+    if (jj_3R_970()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_848() {
+    if (jj_scan_token(CLASSES)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_170() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(257)) {
+    if (jj_scan_token(258)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(243)) {
+    if (jj_scan_token(244)) {
     jj_scanpos = xsp;
     if (jj_scan_token(28)) {
     jj_scanpos = xsp;
@@ -31942,7 +32045,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(39)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(254)) {
+    if (jj_scan_token(255)) {
     jj_scanpos = xsp;
     if (jj_scan_token(45)) {
     jj_scanpos = xsp;
@@ -32098,6 +32201,8 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(142)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(143)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(59)) {
     jj_scanpos = xsp;
     if (jj_scan_token(60)) {
@@ -32106,13 +32211,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(63)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(143)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(144)) {
     jj_scanpos = xsp;
     if (jj_scan_token(145)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(147)) {
+    if (jj_scan_token(146)) {
     jj_scanpos = xsp;
     if (jj_scan_token(148)) {
     jj_scanpos = xsp;
@@ -32122,7 +32225,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(151)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(153)) {
+    if (jj_scan_token(152)) {
     jj_scanpos = xsp;
     if (jj_scan_token(154)) {
     jj_scanpos = xsp;
@@ -32136,13 +32239,16 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(159)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(162)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(160)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(163)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(161)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(258)) return true;
+    if (jj_scan_token(162)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(259)) return true;
+    }
     }
     }
     }
@@ -32255,52 +32361,45 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_scan_token(CLASSES)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_707() {
+  private boolean jj_3R_716() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_706()) return true;
+    if (jj_3R_715()) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_847() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_715() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_839()) {
+    if (jj_3R_847()) {
     jj_scanpos = xsp;
-    if (jj_3R_840()) {
+    if (jj_3R_848()) {
     jj_scanpos = xsp;
-    if (jj_3R_841()) {
+    if (jj_3R_849()) {
     jj_scanpos = xsp;
-    if (jj_3R_842()) {
+    if (jj_3R_850()) {
     jj_scanpos = xsp;
-    if (jj_3R_843()) {
+    if (jj_3R_851()) {
     jj_scanpos = xsp;
-    if (jj_3R_844()) {
+    if (jj_3R_852()) {
     jj_scanpos = xsp;
-    if (jj_3R_845()) {
+    if (jj_3R_853()) {
     jj_scanpos = xsp;
-    if (jj_3R_846()) {
+    if (jj_3R_854()) {
     jj_scanpos = xsp;
-    if (jj_3R_847()) {
+    if (jj_3R_855()) {
     jj_scanpos = xsp;
-    if (jj_3R_848()) {
+    if (jj_3R_856()) {
     jj_scanpos = xsp;
-    if (jj_3R_849()) {
+    if (jj_3R_857()) {
     jj_scanpos = xsp;
-    if (jj_3R_850()) return true;
+    if (jj_3R_858()) return true;
     }
     }
     }
@@ -32315,276 +32414,276 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_3R_706()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_715()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_707()) { jj_scanpos = xsp; break; }
+      if (jj_3R_716()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_601() {
+  private boolean jj_3R_607() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(185)) {
+    if (jj_scan_token(186)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(166)) return true;
+    if (jj_scan_token(167)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3_153() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3_152() {
-    if (jj_3R_232()) return true;
+  private boolean jj_3_3() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3_151() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3_152() {
+    if (jj_3R_233()) return true;
     return false;
   }
 
-  private boolean jj_3_150() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3_151() {
+    if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
+  private boolean jj_3R_458() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_609()) jj_scanpos = xsp;
+    if (jj_3R_618()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1087() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_1093() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_607() {
-    if (jj_3R_232()) return true;
+  private boolean jj_3R_616() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3R_615() {
+    if (jj_3R_233()) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3R_614() {
+    if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
+  private boolean jj_3R_455() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_605()) {
+    if (jj_3R_614()) {
     jj_scanpos = xsp;
-    if (jj_3R_606()) {
+    if (jj_3R_615()) {
     jj_scanpos = xsp;
-    if (jj_3R_607()) return true;
+    if (jj_3R_616()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3_149() {
-    if (jj_3R_225()) return true;
+  private boolean jj_3_150() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
+  private boolean jj_3R_228() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_451()) return true;
+    if (jj_3R_455()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_451()) { jj_scanpos = xsp; break; }
+      if (jj_3R_455()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1087()) jj_scanpos = xsp;
+    if (jj_3R_1093()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1089() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_1095() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_1088() {
-    if (jj_3R_225()) return true;
+  private boolean jj_3R_1094() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
+  private boolean jj_3R_375() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(165)) {
+    if (jj_scan_token(166)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(166)) return true;
+    if (jj_scan_token(167)) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
   private boolean jj_3_2() {
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
   private boolean jj_3_1() {
-    if (jj_scan_token(268)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_scan_token(269)) return true;
+    if (jj_3R_74()) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
+  private boolean jj_3R_229() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_452()) return true;
+    if (jj_3R_456()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1088()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1094()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1089()) jj_scanpos = xsp;
+    if (jj_3R_1095()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1092() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_1098() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
+  private boolean jj_3R_174() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_1()) {
     jj_scanpos = xsp;
     if (jj_3_2()) {
     jj_scanpos = xsp;
-    if (jj_3R_373()) return true;
+    if (jj_3R_375()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_452() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_456() {
+    if (jj_3R_176()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1092()) jj_scanpos = xsp;
+    if (jj_3R_1098()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1091() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_1097() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_1086() {
+  private boolean jj_3R_1092() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1091()) jj_scanpos = xsp;
+    if (jj_3R_1097()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_148() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3_149() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_460() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3_147() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_148() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_1074() {
-    if (jj_3R_1086()) return true;
+  private boolean jj_3R_1080() {
+    if (jj_3R_1092()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_227() {
+    if (jj_3R_185()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_456()) jj_scanpos = xsp;
+    if (jj_3R_460()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_1079() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_1073() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3R_1078() {
+    if (jj_3R_1091()) return true;
     return false;
   }
 
-  private boolean jj_3R_1072() {
-    if (jj_3R_1085()) return true;
+  private boolean jj_3R_1077() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_1071() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_147() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
   private boolean jj_3_146() {
-    if (jj_3R_227()) return true;
+    if (jj_3R_228()) return true;
     return false;
   }
 
   private boolean jj_3_145() {
-    if (jj_3R_226()) return true;
-    return false;
-  }
-
-  private boolean jj_3_144() {
-    if (jj_3R_225()) return true;
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_1020() {
+  private boolean jj_3R_1026() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_144()) {
-    jj_scanpos = xsp;
     if (jj_3_145()) {
     jj_scanpos = xsp;
     if (jj_3_146()) {
     jj_scanpos = xsp;
-    if (jj_3R_1071()) {
+    if (jj_3_147()) {
     jj_scanpos = xsp;
-    if (jj_3R_1072()) {
+    if (jj_3R_1077()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1078()) {
     jj_scanpos = xsp;
-    if (jj_3R_1073()) {
+    if (jj_3R_1079()) {
     jj_scanpos = xsp;
-    if (jj_3R_1074()) return true;
+    if (jj_3R_1080()) return true;
     }
     }
     }
@@ -32594,834 +32693,834 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_1016() {
+  private boolean jj_3R_1022() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_696() {
+    if (jj_3R_458()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1020()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1026()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_938() {
+  private boolean jj_3R_943() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_937() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_942() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
+  private boolean jj_3R_941() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_935() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_940() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_814() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_935()) {
+    if (jj_3R_940()) {
     jj_scanpos = xsp;
-    if (jj_3R_936()) {
+    if (jj_3R_941()) {
     jj_scanpos = xsp;
-    if (jj_3R_937()) {
+    if (jj_3R_942()) {
     jj_scanpos = xsp;
-    if (jj_3R_938()) return true;
+    if (jj_3R_943()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
+  private boolean jj_3R_821() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_933() {
+  private boolean jj_3R_612() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_812() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_820() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_811() {
+  private boolean jj_3R_819() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_810() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_818() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_671() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_810()) {
+    if (jj_3R_818()) {
     jj_scanpos = xsp;
-    if (jj_3R_811()) {
+    if (jj_3R_819()) {
     jj_scanpos = xsp;
-    if (jj_3R_812()) {
+    if (jj_3R_820()) {
     jj_scanpos = xsp;
-    if (jj_3R_813()) return true;
+    if (jj_3R_821()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_814()) { jj_scanpos = xsp; break; }
+      if (jj_3R_822()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_143() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_144() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
+  private boolean jj_3R_239() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_664()) jj_scanpos = xsp;
+    if (jj_3R_671()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1070() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_1076() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_828() {
-    if (jj_3R_580()) return true;
+  private boolean jj_3R_836() {
+    if (jj_3R_586()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1070()) jj_scanpos = xsp;
+    if (jj_3R_1076()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_934() {
+  private boolean jj_3R_613() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1016()) jj_scanpos = xsp;
+    if (jj_3R_1022()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1015() {
+  private boolean jj_3R_714() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_1014() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_713() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_932() {
+  private boolean jj_3R_611() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1014()) {
+    if (jj_3R_713()) {
     jj_scanpos = xsp;
-    if (jj_3R_1015()) return true;
+    if (jj_3R_714()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
+  private boolean jj_3R_454() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_932()) jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
+    if (jj_3R_611()) jj_scanpos = xsp;
+    if (jj_3R_170()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_933()) jj_scanpos = xsp;
+    if (jj_3R_612()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_934()) { jj_scanpos = xsp; break; }
+      if (jj_3R_613()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_453() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
+  private boolean jj_3R_226() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_808()) {
+    if (jj_3R_453()) {
     jj_scanpos = xsp;
-    if (jj_3R_809()) return true;
+    if (jj_3R_454()) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
-    if (jj_3R_660()) return true;
+  private boolean jj_3_143() {
+    if (jj_3R_226()) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_540() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_660()) return true;
+    if (jj_3R_226()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_661()) { jj_scanpos = xsp; break; }
+      if (jj_3_143()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_559() {
+  private boolean jj_3R_565() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_381() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_559()) { jj_scanpos = xsp; break; }
+      if (jj_3R_565()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_177() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_379()) jj_scanpos = xsp;
+    if (jj_3R_381()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_473() {
     if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
+  private boolean jj_3R_474() {
     if (jj_scan_token(WAIT)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
+  private boolean jj_3R_645() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_790()) {
+    if (jj_3R_800()) {
     jj_scanpos = xsp;
-    if (jj_3R_791()) return true;
+    if (jj_3R_801()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_800() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(TIMEOUT)) return true;
-    if (jj_3R_73()) return true;
+    if (jj_3R_74()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_636()) jj_scanpos = xsp;
+    if (jj_3R_645()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_628() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_627() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_931() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_939() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_930() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_938() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_475() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_618()) {
+    if (jj_3R_627()) {
     jj_scanpos = xsp;
-    if (jj_3R_619()) return true;
+    if (jj_3R_628()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_929() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_937() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_928() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_936() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
+  private boolean jj_3R_817() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_930()) {
+    if (jj_3R_938()) {
     jj_scanpos = xsp;
-    if (jj_3R_931()) return true;
+    if (jj_3R_939()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1013() {
+  private boolean jj_3R_1021() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_816() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_928()) {
+    if (jj_3R_936()) {
     jj_scanpos = xsp;
-    if (jj_3R_929()) return true;
+    if (jj_3R_937()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_657() {
+  private boolean jj_3R_666() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_806()) {
+    if (jj_3R_816()) {
     jj_scanpos = xsp;
-    if (jj_3R_807()) return true;
+    if (jj_3R_817()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_635() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_644() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_643() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_1010() {
+  private boolean jj_3R_1018() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
+  private boolean jj_3R_486() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_634()) {
+    if (jj_3R_643()) {
     jj_scanpos = xsp;
-    if (jj_3R_635()) return true;
+    if (jj_3R_644()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_656() {
+  private boolean jj_3R_665() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
+  private boolean jj_3R_661() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_537() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_170()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_656()) { jj_scanpos = xsp; break; }
+      if (jj_3R_665()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1011() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_1019() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_925() {
+  private boolean jj_3R_933() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_924() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_932() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_927() {
+  private boolean jj_3R_935() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_1012() {
+  private boolean jj_3R_1020() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_926() {
+  private boolean jj_3R_934() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1012()) {
+    if (jj_3R_1020()) {
     jj_scanpos = xsp;
-    if (jj_3R_1013()) return true;
+    if (jj_3R_1021()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_917() {
+  private boolean jj_3R_925() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_923() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_931() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1011()) jj_scanpos = xsp;
+    if (jj_3R_1019()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_535() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_652()) { jj_scanpos = xsp; break; }
+      if (jj_3R_661()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1008() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_1016() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_920() {
+  private boolean jj_3R_928() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_919() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_927() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_922() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_1009() {
+  private boolean jj_3R_1017() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_921() {
+  private boolean jj_3R_929() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1009()) {
+    if (jj_3R_1017()) {
     jj_scanpos = xsp;
-    if (jj_3R_1010()) return true;
+    if (jj_3R_1018()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_815() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_923()) {
+    if (jj_3R_931()) {
     jj_scanpos = xsp;
-    if (jj_3R_924()) {
+    if (jj_3R_932()) {
     jj_scanpos = xsp;
-    if (jj_3R_925()) return true;
+    if (jj_3R_933()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_926()) jj_scanpos = xsp;
+    if (jj_3R_934()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_927()) jj_scanpos = xsp;
+    if (jj_3R_935()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_914() {
+  private boolean jj_3R_922() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_918() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_926() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1008()) jj_scanpos = xsp;
+    if (jj_3R_1016()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_814() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_918()) {
+    if (jj_3R_926()) {
     jj_scanpos = xsp;
-    if (jj_3R_919()) {
+    if (jj_3R_927()) {
     jj_scanpos = xsp;
-    if (jj_3R_920()) return true;
+    if (jj_3R_928()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_921()) jj_scanpos = xsp;
+    if (jj_3R_929()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_922()) jj_scanpos = xsp;
+    if (jj_3R_930()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_655() {
+  private boolean jj_3R_664() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_804()) {
+    if (jj_3R_814()) {
     jj_scanpos = xsp;
-    if (jj_3R_805()) return true;
+    if (jj_3R_815()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_915() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_923() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_811() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_810() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_813() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_812() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_916()) {
+    if (jj_3R_924()) {
     jj_scanpos = xsp;
-    if (jj_3R_917()) return true;
+    if (jj_3R_925()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_916() {
+  private boolean jj_3R_924() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_809() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_915()) jj_scanpos = xsp;
+    if (jj_3R_923()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_912() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_920() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_806() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_805() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_808() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_797() {
+  private boolean jj_3R_807() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_913()) {
+    if (jj_3R_921()) {
     jj_scanpos = xsp;
-    if (jj_3R_914()) return true;
+    if (jj_3R_922()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_913() {
+  private boolean jj_3R_921() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_654() {
+  private boolean jj_3R_663() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_799()) {
+    if (jj_3R_809()) {
     jj_scanpos = xsp;
-    if (jj_3R_800()) {
+    if (jj_3R_810()) {
     jj_scanpos = xsp;
-    if (jj_3R_801()) return true;
+    if (jj_3R_811()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_802()) jj_scanpos = xsp;
+    if (jj_3R_812()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_803()) jj_scanpos = xsp;
+    if (jj_3R_813()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_804() {
+    if (jj_3R_170()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_912()) jj_scanpos = xsp;
+    if (jj_3R_920()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_653() {
+  private boolean jj_3R_662() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_794()) {
+    if (jj_3R_804()) {
     jj_scanpos = xsp;
-    if (jj_3R_795()) {
+    if (jj_3R_805()) {
     jj_scanpos = xsp;
-    if (jj_3R_796()) return true;
+    if (jj_3R_806()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_807()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_798()) jj_scanpos = xsp;
+    if (jj_3R_808()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_536() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_653()) {
+    if (jj_3R_662()) {
     jj_scanpos = xsp;
-    if (jj_3R_654()) return true;
+    if (jj_3R_663()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_655()) { jj_scanpos = xsp; break; }
+      if (jj_3R_664()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_142() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_447() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
+  private boolean jj_3R_446() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_445() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_444() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3_141() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_219() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_442()) {
+    if (jj_3R_444()) {
     jj_scanpos = xsp;
-    if (jj_3R_443()) {
+    if (jj_3R_445()) {
     jj_scanpos = xsp;
-    if (jj_3R_444()) {
+    if (jj_3R_446()) {
     jj_scanpos = xsp;
-    if (jj_3R_445()) return true;
+    if (jj_3R_447()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_441() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_443() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_218() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3_140() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_139() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_140()) {
     jj_scanpos = xsp;
-    if (jj_3R_441()) return true;
+    if (jj_3R_443()) return true;
     }
     return false;
   }
 
   private boolean jj_3_138() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_135() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_138()) {
     jj_scanpos = xsp;
-    if (jj_3R_440()) return true;
+    if (jj_3R_442()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_435() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_437() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_225() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
   private boolean jj_3_137() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_224() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
@@ -33429,54 +33528,54 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_223()) {
+    if (jj_3R_224()) {
     jj_scanpos = xsp;
-    if (jj_3R_224()) return true;
+    if (jj_3R_225()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_132() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_211() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_433()) return true;
+    if (jj_3R_435()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_136()) {
     jj_scanpos = xsp;
     if (jj_3_137()) {
     jj_scanpos = xsp;
-    if (jj_3R_435()) return true;
+    if (jj_3R_437()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_368()) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
   private boolean jj_3_134() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_174()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_436() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
@@ -33484,198 +33583,203 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_221()) {
+    if (jj_3R_222()) {
     jj_scanpos = xsp;
-    if (jj_3R_222()) return true;
+    if (jj_3R_223()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_131() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_159()) return true;
-    if (jj_3R_433()) return true;
+  private boolean jj_3R_210() {
+    if (jj_3R_160()) return true;
+    if (jj_3R_435()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_133()) {
     jj_scanpos = xsp;
     if (jj_3_134()) {
     jj_scanpos = xsp;
-    if (jj_3R_434()) return true;
+    if (jj_3R_436()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_433() {
+  private boolean jj_3R_435() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_437() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_439() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
   private boolean jj_3_130() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_182()) return true;
+    if (jj_3R_183()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_214() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_130()) {
     jj_scanpos = xsp;
-    if (jj_3R_437()) return true;
+    if (jj_3R_439()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_206() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_207() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_712() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_610() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_705()) { jj_scanpos = xsp; break; }
+      if (jj_3R_712()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_704() {
+  private boolean jj_3R_711() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_160()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_609() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_704()) { jj_scanpos = xsp; break; }
+      if (jj_3R_711()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_703() {
+  private boolean jj_3R_710() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
+  private boolean jj_3R_449() {
     if (jj_scan_token(BETWEEN)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_603()) jj_scanpos = xsp;
+    if (jj_3R_609()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     if (jj_scan_token(AND)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_604()) jj_scanpos = xsp;
+    if (jj_3R_610()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_608() {
+    if (jj_3R_160()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_703()) { jj_scanpos = xsp; break; }
+      if (jj_3R_710()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_446() {
-    if (jj_3R_436()) return true;
+  private boolean jj_3R_448() {
+    if (jj_3R_438()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_602()) jj_scanpos = xsp;
+    if (jj_3R_608()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
+  private boolean jj_3R_452() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
+  private boolean jj_3R_220() {
     if (jj_scan_token(KEY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_446()) {
+    if (jj_3R_448()) {
     jj_scanpos = xsp;
-    if (jj_3R_447()) return true;
+    if (jj_3R_449()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_449() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_450() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3_129() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
@@ -33689,7 +33793,7 @@ Token token;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[443];
+  final private int[] jj_la1 = new int[446];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -33711,33 +33815,33 @@ Token token;
       jj_la1_init_8();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0xfd49f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x10000000,0x10000000,0x0,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfd49f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfd49f800,0x1000000,0xfd49f800,0x1000000,0xfc47c800,0x0,0x18000,0x0,0x18000,0x10000000,0x18000,0x0,0x18000,0x18000,0x0,0x18000,0x10000000,0x10000000,};
+      jj_la1_0 = new int[] {0x0,0x0,0xfd49f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x800000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x10000000,0x10000000,0x0,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfd49f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfd49f800,0x1000000,0xfd49f800,0x1000000,0xfc47c800,0x0,0x18000,0x0,0x18000,0x10000000,0x18000,0x0,0x18000,0x18000,0x0,0x18000,0x10000000,0x10000000,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0xdc8821a3,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x2,0x2,0x0,0x4080000,0x0,0x8,0x0,0x0,0x0,0x2000000,0xd88021a3,0xdc8821a3,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xdc8821a3,0x0,0xdc8821a3,0x0,0xd8802183,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x300000,0x0,0x300000,0x2,0x2,};
+      jj_la1_1 = new int[] {0x0,0x0,0xdc8821a3,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x28000000,0x28000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x28000000,0x28000000,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x2,0x2,0x0,0x4080000,0x0,0x8,0x0,0x0,0x0,0x2000000,0xd88021a3,0xdc8821a3,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xdc8821a3,0x0,0xdc8821a3,0x0,0xd8802183,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x300000,0x0,0x300000,0x2,0x2,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0xff7ffce0,0x200,0x0,0x0,0x18,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xe0,0x0,0x0,0xe0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xe0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x300000,0x800000,0x1,0xff7ffce0,0x1,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xd0005000,0x1,0x0,0x1,0x0,0xff7ffce0,0x0,0x0,0x1,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_2 = new int[] {0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0xff7ffce0,0x200,0x0,0x0,0x18,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xe0,0x0,0x0,0xe0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xe0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x300000,0x800000,0x1,0xff7ffce0,0x1,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xd0005000,0x1,0x0,0x1,0x0,0xff7ffce0,0x0,0x0,0x1,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x8000,0x1840000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x400,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x10000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x200000,0x1e000000,0xffffffff,0x0,0x0,0x0,0x40000000,0x0,0x80000000,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x1c48100,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x6000000,0x0,0x6000000,0x0,0x6000000,0x0,0x6000000,0x6000000,0x0,0x6000000,0x0,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x8000,0x3080000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x400,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x20000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x400000,0x3c000000,0xffffffff,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x3888100,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xc000000,0x0,0xc000000,0x0,0xc000000,0x0,0xc000000,0xc000000,0x0,0xc000000,0x0,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x0,0xffffffff,0x1000010,0x0,0xfefbffff,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x2000000,0x0,0x61e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x20000,0xfeffffff,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8c010000,0xfefbffff,0x0,0x0,0x8c010000,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0xfefbffff,0xfefbffff,0x0,0x0,0x10,0x0,0x10,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x10,0x0,0x10,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0xfefbffff,0xfefbffff,0xfefbffff,0x10,0x800,0x10,0x0,0x0,0xfefbffff,0x10,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x20000000,0x0,0x0,0x100,0x208061e,0xc0,0x0,0xc0,0xc0,0x20,0x0,0xfeffffff,0xffffffff,0x1000010,0x10,0x8000,0x0,0x8000,0x8000,0x0,0x8000,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x1000010,0xffffffff,0x1000010,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_4 = new int[] {0x0,0x0,0xffffffff,0x2000020,0x0,0xfdf7ffff,0x0,0x0,0x0,0xfdffffff,0x0,0x0,0x4000000,0x0,0xc3c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6000,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6000,0x0,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0x0,0x6000,0x0,0x0,0x0,0x0,0x0,0x40000,0xfdffffff,0x0,0x0,0x6000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0xfdffffff,0x0,0xfdffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0xfdffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0xfdffffff,0x0,0xfdffffff,0x0,0xfdffffff,0x0,0x0,0xfdffffff,0x0,0xfdffffff,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffff,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0xfdf7ffff,0x0,0xfdf7ffff,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18020000,0xfdf7ffff,0x0,0x0,0x18020000,0xfdf7ffff,0x0,0xfdf7ffff,0x0,0xfdf7ffff,0x0,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0xfdf7ffff,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0x0,0xfdf7ffff,0x0,0xfdf7ffff,0xfdf7ffff,0x0,0xfdf7ffff,0xfdf7ffff,0xfdf7ffff,0xfdf7ffff,0x0,0x0,0x20,0x0,0x20,0xfdf7ffff,0x0,0x0,0x0,0xfdf7ffff,0x20,0x0,0x20,0xfdf7ffff,0x0,0x0,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0xfdf7ffff,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0xfdf7ffff,0x0,0xfdf7ffff,0xfdf7ffff,0x20,0x1000,0x20,0x0,0x0,0xfdf7ffff,0x20,0xfdf7ffff,0x0,0xfdf7ffff,0xfdf7ffff,0x0,0x0,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x1,0x2,0xfdf7ffff,0x0,0xfdf7ffff,0xfdf7ffff,0x40000000,0x0,0x0,0x200,0x4100c3c,0x180,0x0,0x180,0x180,0x40,0x0,0xfdffffff,0xffffffff,0x2000020,0x20,0x10000,0x0,0x10000,0x10000,0x0,0x10000,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x2000020,0xffffffff,0x2000020,0xfdf7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x60,0x0,0x7308805f,0x0,0x2000040,0x7,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x40000000,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0xc008000,0x7,0x0,0x7308805f,0x0,0x7308805f,0x8,0x0,0x0,0x0,0x30000000,0x0,0x0,0x30000000,0x0,0x0,0x7308805f,0x3000040,0x308805f,0x0,0x40000000,0x0,0x0,0x0,0x0,0x8000,0x0,0x40000000,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x30000000,0x0,0x0,0x0,0x0,0x3000047,0x0,0x7308805f,0x0,0x7308805f,0x0,0x7308805f,0x0,0x0,0x4308805f,0x0,0x4308805f,0x3000040,0x0,0x8017,0x0,0x0,0x0,0x0,0x8017,0x0,0x0,0x0,0x40008017,0x0,0x0,0x8017,0x0,0x0,0x0,0x0,0x8017,0x0,0x0,0x0,0x40008017,0x0,0x0,0x8000,0x8000,0x8000,0x0,0x8000,0x0,0x0,0x0,0x7308805f,0x7,0x8000,0x0,0x0,0x0,0x0,0x7,0x3000057,0x0,0x3000057,0x3000057,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x30000000,0x0,0x7,0x0,0x7,0x0,0x7,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x0,0x8000,0x8000,0x40008000,0x7,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x7,0x0,0x7,0x30000000,0x8007,0x8007,0x30000000,0x2000047,0x7,0x7,0x8007,0x4,0x0,0x0,0x0,0x0,0x7,0x0,0x40000000,0x0,0x7,0x0,0x0,0x0,0x17,0x0,0x0,0x0,0x0,0x17,0x0,0x0,0x0,0x7,0x7,0x0,0x0,0x7,0x7,0x0,0x0,0x7,0x7,0x7,0x7,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x7,0x0,0x17,0x17,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x30000000,0x0,0x0,0x2000047,0x0,0x7,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x7308805f,0x0,0x0,0x0,0x30000000,0x0,0x0,0x30000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x7308805f,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_5 = new int[] {0xc0,0x0,0xe61100bf,0x0,0x4000080,0xf,0x0,0x0,0x0,0xe61100bf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe61100bf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x10000,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x0,0xe61100bf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe61100bf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf,0x0,0x80000000,0x0,0x0,0x0,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe61100bf,0x0,0x0,0x0,0x0,0x18010000,0xf,0x0,0xe61100bf,0x0,0xe61100bf,0x10,0x0,0x0,0x0,0x60000000,0x0,0x0,0x60000000,0x0,0x0,0xe61100bf,0x6000080,0x61100bf,0x0,0x80000000,0x0,0x0,0x0,0x0,0x10000,0x0,0x80000000,0xf,0x0,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe61100bf,0x60000000,0x0,0x0,0x0,0x0,0x600008f,0x0,0xe61100bf,0x0,0xe61100bf,0x0,0xe61100bf,0x0,0x0,0x861100bf,0x0,0x861100bf,0x6000080,0x0,0x1002f,0x0,0x0,0x0,0x0,0x1002f,0x0,0x0,0x0,0x8001002f,0x0,0x0,0x1002f,0x0,0x0,0x0,0x0,0x1002f,0x0,0x0,0x0,0x8001002f,0x0,0x0,0x10000,0x10000,0x10000,0x0,0x10000,0x0,0x0,0x0,0xe61100bf,0x10000,0x0,0x0,0x0,0x0,0xf,0x60000af,0x0,0x60000af,0x60000af,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1000f,0x0,0x60000000,0x1,0xf,0x0,0xf,0x0,0xf,0x0,0xf,0x0,0x0,0xf,0x0,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x1000f,0x0,0x0,0x10000,0x10000,0x80010000,0xf,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf,0x0,0x0,0xf,0x0,0xf,0x60000000,0x1000f,0x1000f,0x60000000,0x400008f,0xf,0xf,0x1000f,0x8,0x0,0x0,0x0,0x0,0xf,0x0,0x80000000,0x0,0xf,0x0,0x0,0x0,0x2f,0x0,0x0,0x0,0x0,0x2f,0x0,0x0,0x0,0x0,0xf,0xf,0x0,0x0,0xf,0xf,0x0,0x0,0xf,0xf,0x0,0xf,0xf,0x0,0x0,0x0,0x0,0x0,0x1000f,0x0,0xf,0x0,0x2f,0x2f,0x0,0x0,0xf,0x0,0x0,0x0,0x0,0x60000000,0x0,0x0,0x400008f,0x0,0xf,0xf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe61100bf,0xe61100bf,0x0,0x0,0x0,0x60000000,0x0,0x0,0x60000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe61100bf,0x0,0xe61100bf,0x0,0xf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x1,0x18030015,0x10,0x0,0x0,0x8000000,0x8000000,0x10,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x10000004,0x0,0x0,0x0,0x0,0x0,0x20,0x1,0x20000,0x20000,0x0,0x20,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x8000001,0x8000005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x0,0x0,0x20,0x20,0x0,0x44,0x400,0x44,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x20,0x20,0x20,0x30001,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x20,0x20,0x0,0x20000,0x0,0x20,0x4000,0x10000000,0x18034005,0x20000,0x0,0x20,0x0,0x30000,0x0,0x20,0x18030005,0x20,0x18030005,0x0,0x10000000,0x4,0x40,0x0,0x1,0x400000,0x0,0x1,0xfc000000,0x18030005,0x0,0x18030004,0x20,0x0,0x20,0x30000,0x20020,0x20020,0x8000001,0x4,0x30000,0x0,0x0,0x20,0x0,0x0,0x8000040,0x8000040,0x0,0x0,0x0,0x0,0x18030005,0x0,0xbc3c00,0xc00,0x0,0xbc3c00,0x0,0x20,0x18030005,0x20,0x18030005,0x20,0x18030005,0xbc3c00,0x0,0x18030004,0x0,0x18030004,0x30000,0x44,0x8000001,0x0,0x0,0x0,0x44,0x8000001,0x0,0x0,0x0,0x8000001,0x20,0x44,0x8000001,0x0,0x0,0x0,0x44,0x8000001,0x0,0x0,0x0,0x8000001,0x20,0x20,0x8030000,0x8030000,0x8030000,0x0,0x8030000,0x0,0x0,0x20,0x18030005,0x10000004,0x18000000,0x4,0x10000000,0x40,0x10000000,0x10000004,0x0,0x20,0x0,0x0,0xa001040,0x1000,0x40,0x1,0x1,0x1,0x1,0xa001000,0x1,0x20,0x0,0x8000000,0x0,0x0,0x0,0x0,0xa000000,0x0,0xa000000,0x0,0xa000000,0x0,0xa000000,0x1,0x0,0xa000000,0x1,0x0,0xa000000,0x1,0x0,0x0,0x0,0x8000000,0x0,0x20,0x8000001,0x8000005,0x8000001,0x0,0x20,0x0,0x4,0x0,0x20,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0xc000000,0xc000000,0x0,0x20,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x10000000,0x8000000,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x10000000,0x40,0x40,0x20,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x18030005,0x18030015,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030015,0x10,0x18030015,0x10,0x10000000,0x40,0x0,0x20,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x0,};
+      jj_la1_6 = new int[] {0x0,0x2,0x3006002a,0x20,0x0,0x0,0x10000000,0x10000000,0x20,0x3006000a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006000a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x20000008,0x0,0x0,0x0,0x0,0x0,0x40,0x2,0x40000,0x40000,0x0,0x40,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x10000002,0x1000000a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006000a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006000a,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x40,0x0,0x0,0x40,0x40,0x0,0x88,0x800,0x88,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x40,0x40,0x40,0x40,0x60002,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60000,0x0,0x40,0x40,0x0,0x40000,0x0,0x40,0x8000,0x20000000,0x3006800a,0x40000,0x0,0x40,0x0,0x60000,0x0,0x40,0x3006000a,0x40,0x3006000a,0x0,0x20000000,0x8,0x80,0x0,0x2,0x800000,0x0,0x2,0xf8000000,0x3006000a,0x0,0x30060008,0x40,0x0,0x40,0x60000,0x40040,0x40040,0x10000002,0x8,0x60000,0x0,0x0,0x40,0x0,0x0,0x10000080,0x10000080,0x0,0x0,0x0,0x0,0x3006000a,0x0,0x1787800,0x1800,0x0,0x1787800,0x0,0x40,0x3006000a,0x40,0x3006000a,0x40,0x3006000a,0x1787800,0x0,0x30060008,0x0,0x30060008,0x60000,0x88,0x10000002,0x0,0x0,0x0,0x88,0x10000002,0x0,0x0,0x0,0x10000002,0x40,0x88,0x10000002,0x0,0x0,0x0,0x88,0x10000002,0x0,0x0,0x0,0x10000002,0x40,0x40,0x10060000,0x10060000,0x10060000,0x0,0x10060000,0x0,0x0,0x40,0x3006000a,0x30000000,0x8,0x20000000,0x80,0x20000000,0x20000008,0x0,0x40,0x0,0x0,0x14002080,0x2000,0x80,0x2,0x2,0x2,0x2,0x14002000,0x2,0x40,0x0,0x10000000,0x0,0x0,0x0,0x0,0x14000000,0x0,0x14000000,0x0,0x14000000,0x0,0x14000000,0x2,0x0,0x14000000,0x2,0x0,0x14000000,0x2,0x0,0x0,0x0,0x10000000,0x0,0x40,0x10000002,0x1000000a,0x10000002,0x0,0x40,0x0,0x8,0x0,0x40,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x18000000,0x18000000,0x0,0x40,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x40,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x20000000,0x10000000,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x20000000,0x80,0x80,0x40,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x3006000a,0x3006002a,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006002a,0x20,0x3006002a,0x20,0x20000000,0x80,0x0,0x40,0x0,0x0,0x0,0x40,0x0,0x0,0x40,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x78,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x30000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc007,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400c0000,0x0,0x4100000,0x0,0x40000,0x41c0000,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x4500000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x40080000,0x40080000,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x40000000,0x0,0x0,0x0,0x40080000,0x40000000,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x40080000,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x4f980000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_7 = new int[] {0x0,0x0,0x80100000,0x0,0x0,0x80100000,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x60000,0x0,0x80100000,0x0,0x80100000,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800f,0x80100000,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80180000,0x0,0x8200000,0x0,0x80000,0x8380000,0x80100000,0x0,0x80100000,0x0,0x80100000,0x0,0x80100000,0x8a00000,0x0,0x80100000,0x0,0x80100000,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x80100000,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x80100000,0x80100000,0x0,0x80100000,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x80100000,0x0,0x80100000,0x0,0x80100000,0x0,0x80100000,0x0,0x0,0x80100000,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x80100000,0x0,0x80100000,0x0,0x80100000,0x80100000,0x0,0x80100000,0x80100000,0x80100000,0x80100000,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x80100000,0x0,0x0,0x0,0x80100000,0x80000000,0x0,0x0,0x0,0x80100000,0x80000000,0x0,0x0,0x0,0x80100000,0x80100000,0x0,0x0,0x80100000,0x80100000,0x0,0x0,0x80100000,0x80100000,0x0,0x80100000,0x80100000,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x80100000,0x0,0x80100000,0x80100000,0x0,0x0,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x80100000,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x80100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80100000,0x0,0x80100000,0x0,0x9f300000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x1006,0x0,0x0,0x6,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x186,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x180,0x0,0x0,0x1,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x1006,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x181,0x200,0x6,0x180,0x0,0x6,0x2000,0x0,0x0,0x70,0x78,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x1006,0x0,0x1006,0x0,0x1006,0x0,0x0,0x6,0x0,0x6,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x1006,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x181,0x6,0x180,0x0,0x181,0x6,0x0,0x6,0x0,0x6,0x0,0x6,0x0,0x0,0x6,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x1000,0x1000,0x1000,0x186,0x0,0x186,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x6,0x0,0x6,0x0,0x6,0x6,0x0,0x4006,0x6,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x6,0x0,0x0,0x6,0x6,0x0,0x0,0x6,0x6,0x2006,0x2006,0x0,0x1,0x0,0x0,0x0,0x6,0x0,0x6,0x0,0x6,0x6,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3f8000,0x3f8000,0xc00000,0xc00000,0x3000000,0x3000000,0x1006,0x0,0x1006,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_8 = new int[] {0x0,0x0,0x200c,0x0,0x0,0xc,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x30c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x300,0x0,0x0,0x2,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x200c,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x302,0x400,0xc,0x300,0x0,0xc,0x4000,0x0,0x0,0xe0,0xf0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x200c,0x0,0x200c,0x0,0x200c,0x0,0x0,0xc,0x0,0xc,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x200c,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c,0x0,0x0,0x0,0x0,0x0,0xc,0xc,0x0,0xc,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x302,0xc,0x300,0x0,0x302,0xc,0x0,0xc,0x0,0xc,0x0,0xc,0x0,0x0,0xc,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x2000,0x2000,0x2000,0x30c,0x0,0x30c,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0xc,0x0,0xc,0x0,0xc,0xc,0x0,0x800c,0xc,0xc,0xc,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0xc,0xc,0x0,0x0,0xc,0xc,0x0,0x0,0xc,0xc,0x0,0x400c,0x400c,0x0,0x2,0x0,0x0,0x0,0xc,0x0,0xc,0x0,0xc,0xc,0x0,0x0,0xe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0xc,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c,0x200c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f0000,0x7f0000,0x1800000,0x1800000,0x6000000,0x6000000,0x200c,0x0,0x200c,0x0,0xe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[165];
+  final private JJCalls[] jj_2_rtns = new JJCalls[167];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -33747,7 +33851,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33758,7 +33862,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33768,7 +33872,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33779,7 +33883,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 446; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33891,12 +33995,12 @@ Token token;
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[282];
+    boolean[] la1tokens = new boolean[283];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 443; i++) {
+    for (int i = 0; i < 446; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -33929,7 +34033,7 @@ Token token;
         }
       }
     }
-    for (int i = 0; i < 282; i++) {
+    for (int i = 0; i < 283; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -33956,7 +34060,7 @@ Token token;
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 165; i++) {
+    for (int i = 0; i < 167; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -34128,6 +34232,8 @@ Token token;
             case 162: jj_3_163(); break;
             case 163: jj_3_164(); break;
             case 164: jj_3_165(); break;
+            case 165: jj_3_166(); break;
+            case 166: jj_3_167(); break;
           }
         }
         p = p.next;
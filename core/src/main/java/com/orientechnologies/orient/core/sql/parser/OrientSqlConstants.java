@@ -217,317 +217,319 @@ public interface OrientSqlConstants {
   /** RegularExpression Id. */
   int REBUILD = 111;
   /** RegularExpression Id. */
-  int ID = 112;
+  int INCLUDE = 112;
   /** RegularExpression Id. */
-  int DATABASE = 113;
+  int ID = 113;
   /** RegularExpression Id. */
-  int OPTIMIZE = 114;
+  int DATABASE = 114;
   /** RegularExpression Id. */
-  int LINK = 115;
+  int OPTIMIZE = 115;
   /** RegularExpression Id. */
-  int TYPE = 116;
+  int LINK = 116;
   /** RegularExpression Id. */
-  int INVERSE = 117;
+  int TYPE = 117;
   /** RegularExpression Id. */
-  int EXPLAIN = 118;
+  int INVERSE = 118;
   /** RegularExpression Id. */
-  int GRANT = 119;
+  int EXPLAIN = 119;
   /** RegularExpression Id. */
-  int REVOKE = 120;
+  int GRANT = 120;
   /** RegularExpression Id. */
-  int READ = 121;
+  int REVOKE = 121;
   /** RegularExpression Id. */
-  int EXECUTE = 122;
+  int READ = 122;
   /** RegularExpression Id. */
-  int ALL = 123;
+  int EXECUTE = 123;
   /** RegularExpression Id. */
-  int NONE = 124;
+  int ALL = 124;
   /** RegularExpression Id. */
-  int FUNCTION = 125;
+  int NONE = 125;
   /** RegularExpression Id. */
-  int PARAMETERS = 126;
+  int FUNCTION = 126;
   /** RegularExpression Id. */
-  int IDEMPOTENT = 127;
+  int PARAMETERS = 127;
   /** RegularExpression Id. */
-  int LANGUAGE = 128;
+  int IDEMPOTENT = 128;
   /** RegularExpression Id. */
-  int BEGIN = 129;
+  int LANGUAGE = 129;
   /** RegularExpression Id. */
-  int COMMIT = 130;
+  int BEGIN = 130;
   /** RegularExpression Id. */
-  int ROLLBACK = 131;
+  int COMMIT = 131;
   /** RegularExpression Id. */
-  int IF = 132;
+  int ROLLBACK = 132;
   /** RegularExpression Id. */
-  int ELSE = 133;
+  int IF = 133;
   /** RegularExpression Id. */
-  int CONTINUE = 134;
+  int ELSE = 134;
   /** RegularExpression Id. */
-  int FAIL = 135;
+  int CONTINUE = 135;
   /** RegularExpression Id. */
-  int ISOLATION = 136;
+  int FAIL = 136;
   /** RegularExpression Id. */
-  int SLEEP = 137;
+  int ISOLATION = 137;
   /** RegularExpression Id. */
-  int CONSOLE = 138;
+  int SLEEP = 138;
   /** RegularExpression Id. */
-  int BLOB = 139;
+  int CONSOLE = 139;
   /** RegularExpression Id. */
-  int SHARED = 140;
+  int BLOB = 140;
   /** RegularExpression Id. */
-  int DEFAULT_ = 141;
+  int SHARED = 141;
   /** RegularExpression Id. */
-  int SEQUENCE = 142;
+  int DEFAULT_ = 142;
   /** RegularExpression Id. */
-  int START = 143;
+  int SEQUENCE = 143;
   /** RegularExpression Id. */
-  int OPTIONAL = 144;
+  int START = 144;
   /** RegularExpression Id. */
-  int COUNT = 145;
+  int OPTIONAL = 145;
   /** RegularExpression Id. */
-  int DISTINCT = 146;
+  int COUNT = 146;
   /** RegularExpression Id. */
-  int HA = 147;
+  int DISTINCT = 147;
   /** RegularExpression Id. */
-  int STATUS = 148;
+  int HA = 148;
   /** RegularExpression Id. */
-  int SERVER = 149;
+  int STATUS = 149;
   /** RegularExpression Id. */
-  int SYNC = 150;
+  int SERVER = 150;
   /** RegularExpression Id. */
-  int EXISTS = 151;
+  int SYNC = 151;
   /** RegularExpression Id. */
-  int FOREACH = 152;
+  int EXISTS = 152;
   /** RegularExpression Id. */
-  int MOVE = 153;
+  int FOREACH = 153;
   /** RegularExpression Id. */
-  int DEPTH_ALIAS = 154;
+  int MOVE = 154;
   /** RegularExpression Id. */
-  int PATH_ALIAS = 155;
+  int DEPTH_ALIAS = 155;
   /** RegularExpression Id. */
-  int IDENTIFIED = 156;
+  int PATH_ALIAS = 156;
   /** RegularExpression Id. */
-  int ROLE = 157;
+  int IDENTIFIED = 157;
   /** RegularExpression Id. */
-  int USER = 158;
+  int ROLE = 158;
   /** RegularExpression Id. */
-  int RID = 159;
+  int USER = 159;
   /** RegularExpression Id. */
-  int SECURITY = 160;
+  int RID = 160;
   /** RegularExpression Id. */
-  int POLICY = 161;
+  int SECURITY = 161;
   /** RegularExpression Id. */
-  int DEFAULTCLUSTER = 162;
+  int POLICY = 162;
   /** RegularExpression Id. */
-  int THIS = 163;
+  int DEFAULTCLUSTER = 163;
   /** RegularExpression Id. */
-  int RECORD_ATTRIBUTE = 164;
+  int THIS = 164;
   /** RegularExpression Id. */
-  int RID_ATTR = 165;
+  int RECORD_ATTRIBUTE = 165;
   /** RegularExpression Id. */
-  int RID_STRING = 166;
+  int RID_ATTR = 166;
   /** RegularExpression Id. */
-  int CLASS_ATTR = 167;
+  int RID_STRING = 167;
   /** RegularExpression Id. */
-  int VERSION_ATTR = 168;
+  int CLASS_ATTR = 168;
   /** RegularExpression Id. */
-  int SIZE_ATTR = 169;
+  int VERSION_ATTR = 169;
   /** RegularExpression Id. */
-  int TYPE_ATTR = 170;
+  int SIZE_ATTR = 170;
   /** RegularExpression Id. */
-  int RAW_ATTR = 171;
+  int TYPE_ATTR = 171;
   /** RegularExpression Id. */
-  int RID_ID_ATTR = 172;
+  int RAW_ATTR = 172;
   /** RegularExpression Id. */
-  int RID_POS_ATTR = 173;
+  int RID_ID_ATTR = 173;
   /** RegularExpression Id. */
-  int FIELDS_ATTR = 174;
+  int RID_POS_ATTR = 174;
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 175;
+  int FIELDS_ATTR = 175;
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 176;
+  int INTEGER_LITERAL = 176;
   /** RegularExpression Id. */
-  int HEX_LITERAL = 177;
+  int DECIMAL_LITERAL = 177;
   /** RegularExpression Id. */
-  int OCTAL_LITERAL = 178;
+  int HEX_LITERAL = 178;
   /** RegularExpression Id. */
-  int FLOATING_POINT_LITERAL = 179;
+  int OCTAL_LITERAL = 179;
   /** RegularExpression Id. */
-  int DECIMAL_FLOATING_POINT_LITERAL = 180;
+  int FLOATING_POINT_LITERAL = 180;
   /** RegularExpression Id. */
-  int DECIMAL_EXPONENT = 181;
+  int DECIMAL_FLOATING_POINT_LITERAL = 181;
   /** RegularExpression Id. */
-  int HEXADECIMAL_FLOATING_POINT_LITERAL = 182;
+  int DECIMAL_EXPONENT = 182;
   /** RegularExpression Id. */
-  int HEXADECIMAL_EXPONENT = 183;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 183;
   /** RegularExpression Id. */
-  int CHARACTER_LITERAL = 184;
+  int HEXADECIMAL_EXPONENT = 184;
   /** RegularExpression Id. */
-  int STRING_LITERAL = 185;
+  int CHARACTER_LITERAL = 185;
   /** RegularExpression Id. */
-  int INTEGER_RANGE = 186;
+  int STRING_LITERAL = 186;
   /** RegularExpression Id. */
-  int ELLIPSIS_INTEGER_RANGE = 187;
+  int INTEGER_RANGE = 187;
   /** RegularExpression Id. */
-  int TRUE = 188;
+  int ELLIPSIS_INTEGER_RANGE = 188;
   /** RegularExpression Id. */
-  int FALSE = 189;
+  int TRUE = 189;
   /** RegularExpression Id. */
-  int LPAREN = 190;
+  int FALSE = 190;
   /** RegularExpression Id. */
-  int RPAREN = 191;
+  int LPAREN = 191;
   /** RegularExpression Id. */
-  int LBRACE = 192;
+  int RPAREN = 192;
   /** RegularExpression Id. */
-  int RBRACE = 193;
+  int LBRACE = 193;
   /** RegularExpression Id. */
-  int LBRACKET = 194;
+  int RBRACE = 194;
   /** RegularExpression Id. */
-  int RBRACKET = 195;
+  int LBRACKET = 195;
   /** RegularExpression Id. */
-  int SEMICOLON = 196;
+  int RBRACKET = 196;
   /** RegularExpression Id. */
-  int COMMA = 197;
+  int SEMICOLON = 197;
   /** RegularExpression Id. */
-  int DOT = 198;
+  int COMMA = 198;
   /** RegularExpression Id. */
-  int AT = 199;
+  int DOT = 199;
   /** RegularExpression Id. */
-  int DOLLAR = 200;
+  int AT = 200;
   /** RegularExpression Id. */
-  int BACKTICK = 201;
+  int DOLLAR = 201;
   /** RegularExpression Id. */
-  int EQ = 202;
+  int BACKTICK = 202;
   /** RegularExpression Id. */
-  int EQEQ = 203;
+  int EQ = 203;
   /** RegularExpression Id. */
-  int LT = 204;
+  int EQEQ = 204;
   /** RegularExpression Id. */
-  int GT = 205;
+  int LT = 205;
   /** RegularExpression Id. */
-  int BANG = 206;
+  int GT = 206;
   /** RegularExpression Id. */
-  int TILDE = 207;
+  int BANG = 207;
   /** RegularExpression Id. */
-  int HOOK = 208;
+  int TILDE = 208;
   /** RegularExpression Id. */
-  int COLON = 209;
+  int HOOK = 209;
   /** RegularExpression Id. */
-  int LE = 210;
+  int COLON = 210;
   /** RegularExpression Id. */
-  int GE = 211;
+  int LE = 211;
   /** RegularExpression Id. */
-  int NE = 212;
+  int GE = 212;
   /** RegularExpression Id. */
-  int NEQ = 213;
+  int NE = 213;
   /** RegularExpression Id. */
-  int SC_OR = 214;
+  int NEQ = 214;
   /** RegularExpression Id. */
-  int SC_AND = 215;
+  int SC_OR = 215;
   /** RegularExpression Id. */
-  int INCR = 216;
+  int SC_AND = 216;
   /** RegularExpression Id. */
-  int DECR = 217;
+  int INCR = 217;
   /** RegularExpression Id. */
-  int PLUS = 218;
+  int DECR = 218;
   /** RegularExpression Id. */
-  int MINUS = 219;
+  int PLUS = 219;
   /** RegularExpression Id. */
-  int STAR = 220;
+  int MINUS = 220;
   /** RegularExpression Id. */
-  int SLASH = 221;
+  int STAR = 221;
   /** RegularExpression Id. */
-  int BIT_AND = 222;
+  int SLASH = 222;
   /** RegularExpression Id. */
-  int BIT_OR = 223;
+  int BIT_AND = 223;
   /** RegularExpression Id. */
-  int XOR = 224;
+  int BIT_OR = 224;
   /** RegularExpression Id. */
-  int REM = 225;
+  int XOR = 225;
   /** RegularExpression Id. */
-  int LSHIFT = 226;
+  int REM = 226;
   /** RegularExpression Id. */
-  int PLUSASSIGN = 227;
+  int LSHIFT = 227;
   /** RegularExpression Id. */
-  int MINUSASSIGN = 228;
+  int PLUSASSIGN = 228;
   /** RegularExpression Id. */
-  int STARASSIGN = 229;
+  int MINUSASSIGN = 229;
   /** RegularExpression Id. */
-  int SLASHASSIGN = 230;
+  int STARASSIGN = 230;
   /** RegularExpression Id. */
-  int ANDASSIGN = 231;
+  int SLASHASSIGN = 231;
   /** RegularExpression Id. */
-  int ORASSIGN = 232;
+  int ANDASSIGN = 232;
   /** RegularExpression Id. */
-  int XORASSIGN = 233;
+  int ORASSIGN = 233;
   /** RegularExpression Id. */
-  int REMASSIGN = 234;
+  int XORASSIGN = 234;
   /** RegularExpression Id. */
-  int LSHIFTASSIGN = 235;
+  int REMASSIGN = 235;
   /** RegularExpression Id. */
-  int RSIGNEDSHIFTASSIGN = 236;
+  int LSHIFTASSIGN = 236;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFTASSIGN = 237;
+  int RSIGNEDSHIFTASSIGN = 237;
   /** RegularExpression Id. */
-  int RSHIFT = 238;
+  int RUNSIGNEDSHIFTASSIGN = 238;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFT = 239;
+  int RSHIFT = 239;
   /** RegularExpression Id. */
-  int ELLIPSIS = 240;
+  int RUNSIGNEDSHIFT = 240;
   /** RegularExpression Id. */
-  int RANGE = 241;
+  int ELLIPSIS = 241;
   /** RegularExpression Id. */
-  int NOT = 242;
+  int RANGE = 242;
   /** RegularExpression Id. */
-  int IN = 243;
+  int NOT = 243;
   /** RegularExpression Id. */
-  int LIKE = 244;
+  int IN = 244;
   /** RegularExpression Id. */
-  int IS = 245;
+  int LIKE = 245;
   /** RegularExpression Id. */
-  int BETWEEN = 246;
+  int IS = 246;
   /** RegularExpression Id. */
-  int CONTAINS = 247;
+  int BETWEEN = 247;
   /** RegularExpression Id. */
-  int CONTAINSALL = 248;
+  int CONTAINS = 248;
   /** RegularExpression Id. */
-  int CONTAINSANY = 249;
+  int CONTAINSALL = 249;
   /** RegularExpression Id. */
-  int CONTAINSKEY = 250;
+  int CONTAINSANY = 250;
   /** RegularExpression Id. */
-  int CONTAINSVALUE = 251;
+  int CONTAINSKEY = 251;
   /** RegularExpression Id. */
-  int CONTAINSTEXT = 252;
+  int CONTAINSVALUE = 252;
   /** RegularExpression Id. */
-  int MATCHES = 253;
+  int CONTAINSTEXT = 253;
   /** RegularExpression Id. */
-  int KEY = 254;
+  int MATCHES = 254;
   /** RegularExpression Id. */
-  int INSTANCEOF = 255;
+  int KEY = 255;
   /** RegularExpression Id. */
-  int CLUSTER = 256;
+  int INSTANCEOF = 256;
   /** RegularExpression Id. */
-  int IDENTIFIER = 257;
+  int CLUSTER = 257;
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 258;
+  int IDENTIFIER = 258;
   /** RegularExpression Id. */
-  int INDEX_COLON = 259;
+  int QUOTED_IDENTIFIER = 259;
   /** RegularExpression Id. */
-  int INDEXVALUES_IDENTIFIER = 260;
+  int INDEX_COLON = 260;
   /** RegularExpression Id. */
-  int INDEXVALUESASC_IDENTIFIER = 261;
+  int INDEXVALUES_IDENTIFIER = 261;
   /** RegularExpression Id. */
-  int INDEXVALUESDESC_IDENTIFIER = 262;
+  int INDEXVALUESASC_IDENTIFIER = 262;
   /** RegularExpression Id. */
-  int CLUSTER_IDENTIFIER = 263;
+  int INDEXVALUESDESC_IDENTIFIER = 263;
   /** RegularExpression Id. */
-  int CLUSTER_NUMBER_IDENTIFIER = 264;
+  int CLUSTER_IDENTIFIER = 264;
   /** RegularExpression Id. */
-  int METADATA_IDENTIFIER = 265;
+  int CLUSTER_NUMBER_IDENTIFIER = 265;
   /** RegularExpression Id. */
-  int LETTER = 266;
+  int METADATA_IDENTIFIER = 266;
   /** RegularExpression Id. */
-  int PART_LETTER = 267;
+  int LETTER = 267;
+  /** RegularExpression Id. */
+  int PART_LETTER = 268;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -650,6 +652,7 @@ public interface OrientSqlConstants {
     "<COLLATE>",
     "<ENGINE>",
     "<REBUILD>",
+    "<INCLUDE>",
     "<ID>",
     "<DATABASE>",
     "<OPTIMIZE>",
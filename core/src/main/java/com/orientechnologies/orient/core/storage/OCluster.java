@@ -21,15 +21,19 @@ package com.orientechnologies.orient.core.storage;
 
 import com.orientechnologies.orient.core.config.OStorageClusterConfiguration;
 import com.orientechnologies.orient.core.conflict.ORecordConflictStrategy;
+import com.orientechnologies.orient.core.exception.OPaginatedClusterException;
 import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
 import com.orientechnologies.orient.core.storage.impl.local.OClusterBrowsePage;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 public interface OCluster {
 
   enum ATTRIBUTES {
-    NAME, CONFLICTSTRATEGY, STATUS, ENCRYPTION
+    NAME, CONFLICTSTRATEGY, STATUS, ENCRYPTION, COMPRESSION
   }
 
   void configure(int iId, String iClusterName) throws IOException;
@@ -54,6 +58,26 @@ public interface OCluster {
 
   String encryption();
 
+  /**
+   * Changes compression of records of the cluster. Records which are already stored keep the compression they were written with
+   * till they are updated.
+   *
+   * @param compressionName name of compression registered in {@link com.orientechnologies.orient.core.compression.OCompressionFactory}
+   */
+  default void setCompression(final String compressionName) {
+    throw new OPaginatedClusterException("Compression of records is not supported by cluster '" + getName() + "'", getName());
+  }
+
+  /**
+   * Moves records of the cluster so they occupy less pages and releases pages which became free. Identities of records are not
+   * changed, cluster remains available during compaction.
+   *
+   * @return amount of released bytes, {@code 0} if cluster does not support compaction
+   */
+  default long compact() throws IOException {
+    return 0;
+  }
+
   long getTombstonesCount();
 
   /**
@@ -86,6 +110,24 @@ public interface OCluster {
 
   ORawBuffer readRecordIfVersionIsNotLatest(long clusterPosition, int recordVersion) throws IOException, ORecordNotFoundException;
 
+  /**
+   * Reads several records at once, implementations may group records by pages they are stored in, so each page is loaded only once.
+   *
+   * @param clusterPositions positions of records to read, in any order
+   *
+   * @return records mapped by their positions, absent records are not included
+   */
+  default Map<Long, ORawBuffer> readRecords(final Collection<Long> clusterPositions) throws IOException {
+    final Map<Long, ORawBuffer> result = new HashMap<>(clusterPositions.size());
+    for (final Long clusterPosition : clusterPositions) {
+      final ORawBuffer buffer = readRecord(clusterPosition, false);
+      if (buffer != null) {
+        result.put(clusterPosition, buffer);
+      }
+    }
+    return result;
+  }
+
   boolean exists();
 
   /**
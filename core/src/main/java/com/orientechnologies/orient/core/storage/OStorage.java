@@ -27,6 +27,7 @@ import com.orientechnologies.orient.core.config.OStorageConfiguration;
 import com.orientechnologies.orient.core.conflict.ORecordConflictStrategy;
 import com.orientechnologies.orient.core.db.record.OCurrentStorageComponentsFactory;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.exception.OPaginatedClusterException;
 import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
@@ -38,7 +39,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
@@ -88,8 +91,61 @@ public interface OStorage extends OBackupable, OSharedContainer {
   OStorageOperationResult<ORawBuffer> readRecordIfVersionIsNotLatest(ORecordId rid, String fetchPlan, boolean ignoreCache,
       int recordVersion) throws ORecordNotFoundException;
 
+  /**
+   * Reads several records at once. Implementations may group records by clusters and pages they are stored in, so each page is
+   * loaded only once and pages are loaded in the order of their position in the file.
+   *
+   * @param rids identities of records to read, in any order
+   *
+   * @return records mapped by their identities, absent records are not included
+   *
+   * @throws ORecordNotFoundException if one of the records belongs to the cluster which does not exist
+   */
+  default Map<ORecordId, ORawBuffer> readRecords(final Collection<ORecordId> rids) throws ORecordNotFoundException {
+    final Map<ORecordId, ORawBuffer> result = new HashMap<>(rids.size());
+    for (final ORecordId rid : rids) {
+      final ORawBuffer buffer = readRecord(rid, null, false, false, null).getResult();
+      if (buffer != null) {
+        result.put(rid, buffer);
+      }
+    }
+    return result;
+  }
+
   OStorageOperationResult<Boolean> deleteRecord(ORecordId iRecordId, int iVersion, int iMode, ORecordCallback<Boolean> iCallback);
 
+  /**
+   * Compacts the cluster without putting it offline, identities of records are preserved.
+   *
+   * @return amount of bytes released by the cluster
+   *
+   * @see OCluster#compact()
+   */
+  default long compactCluster(final int clusterId) {
+    final String clusterName = getClusterById(clusterId).getName();
+    throw new OPaginatedClusterException(
+        "Compaction of cluster '" + clusterName + "' is not supported by storage '" + getName() + "'", clusterName);
+  }
+
+  /**
+   * Each committed change of records of the storage gets next number of the sequence.
+   *
+   * @return number of the last committed change of records or <code>-1</code> if changes are not tracked by storage
+   *
+   * @see #getClusterModificationSequence(int)
+   */
+  default long getModificationSequence() {
+    return -1;
+  }
+
+  /**
+   * @return number of the last committed change of records of the cluster, it is never bigger than {@link
+   * #getModificationSequence()}, or <code>-1</code> if changes are not tracked by storage
+   */
+  default long getClusterModificationSequence(final int clusterId) {
+    return -1;
+  }
+
   ORecordMetadata getRecordMetadata(final ORID rid);
 
   boolean cleanOutRecord(ORecordId recordId, int recordVersion, int iMode, ORecordCallback<Boolean> callback);
@@ -0,0 +1,142 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+/**
+ * Snapshot of statistics of read and write caches for single file (cluster, index, ridbag and so on) of the storage.
+ * <p>
+ * Read cache fills counters of requests, hits, loads and evictions, write cache fills the rest of them. Counters are gathered
+ * only if {@link com.orientechnologies.orient.core.config.OGlobalConfiguration#DISK_CACHE_STATISTICS} is switched on.
+ */
+public final class OCacheFileStatistic {
+  private final String fileName;
+  private final long   fileId;
+
+  private long readCacheRequests;
+  private long readCacheHits;
+  private long pagesLoaded;
+  private long pagesEvicted;
+
+  private long   dirtyPages;
+  private long   writeCacheHits;
+  private long   pagesReadFromDisk;
+  private long   pagesFlushed;
+  private long[] flushLatencyHistogram = new long[OLatencyHistogram.BUCKETS];
+  private long   flushLatencyAverage;
+  private long   flushLatency99;
+
+  public OCacheFileStatistic(final String fileName, final long fileId) {
+    this.fileName = fileName;
+    this.fileId = fileId;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public long getFileId() {
+    return fileId;
+  }
+
+  /**
+   * @return Amount of page requests to read cache
+   */
+  public long getReadCacheRequests() {
+    return readCacheRequests;
+  }
+
+  /**
+   * @return Amount of page requests which were served by read cache without load of the page from write cache
+   */
+  public long getReadCacheHits() {
+    return readCacheHits;
+  }
+
+  public long getReadCacheMisses() {
+    return readCacheRequests - readCacheHits;
+  }
+
+  /**
+   * @return Percent of read cache hits or <code>-1</code> if there were no requests
+   */
+  public int getReadCacheHitRate() {
+    if (readCacheRequests == 0) {
+      return -1;
+    }
+
+    return (int) (readCacheHits * 100 / readCacheRequests);
+  }
+
+  /**
+   * @return Amount of pages which were loaded to read cache from write cache
+   */
+  public long getPagesLoaded() {
+    return pagesLoaded;
+  }
+
+  /**
+   * @return Amount of pages which were evicted from read cache
+   */
+  public long getPagesEvicted() {
+    return pagesEvicted;
+  }
+
+  /**
+   * @return Amount of pages which are changed but not flushed to the disk yet
+   */
+  public long getDirtyPages() {
+    return dirtyPages;
+  }
+
+  /**
+   * @return Amount of pages which were loaded from write cache without access to the disk
+   */
+  public long getWriteCacheHits() {
+    return writeCacheHits;
+  }
+
+  public long getPagesReadFromDisk() {
+    return pagesReadFromDisk;
+  }
+
+  public long getPagesFlushed() {
+    return pagesFlushed;
+  }
+
+  /**
+   * @return Amount of flushes of pages of this file in each bucket of {@link OLatencyHistogram}
+   */
+  public long[] getFlushLatencyHistogram() {
+    return flushLatencyHistogram;
+  }
+
+  /**
+   * @return Average latency of flush in microseconds
+   */
+  public long getFlushLatencyAverage() {
+    return flushLatencyAverage;
+  }
+
+  /**
+   * @return 99th percentile of flush latency in microseconds, see {@link OLatencyHistogram#getPercentile(double)}
+   */
+  public long getFlushLatency99() {
+    return flushLatency99;
+  }
+
+  public void setReadCacheStatistic(final long requests, final long hits, final long pagesLoaded, final long pagesEvicted) {
+    this.readCacheRequests = requests;
+    this.readCacheHits = hits;
+    this.pagesLoaded = pagesLoaded;
+    this.pagesEvicted = pagesEvicted;
+  }
+
+  public void setWriteCacheStatistic(final long dirtyPages, final long writeCacheHits, final long pagesReadFromDisk,
+      final long pagesFlushed, final OLatencyHistogram flushLatency) {
+    this.dirtyPages = dirtyPages;
+    this.writeCacheHits = writeCacheHits;
+    this.pagesReadFromDisk = pagesReadFromDisk;
+    this.pagesFlushed = pagesFlushed;
+    this.flushLatencyHistogram = flushLatency.getCounts();
+    this.flushLatencyAverage = flushLatency.getAverage();
+    this.flushLatency99 = flushLatency.getPercentile(99);
+  }
+}
@@ -0,0 +1,120 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of latencies with exponential buckets. Upper bound of bucket <code>i</code> is <code>2^i</code>
+ * microseconds, the last bucket contains all latencies which are bigger than upper bound of the previous one.
+ */
+public final class OLatencyHistogram {
+  /**
+   * Amount of buckets, the upper bound of the last bounded bucket is about 1 second.
+   */
+  public static final int BUCKETS = 22;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+  private final LongAdder   sum     = new LongAdder();
+
+  public OLatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * @param latency Latency in nanoseconds
+   */
+  public void record(final long latency) {
+    final long micros = Math.max(latency / 1_000, 0);
+    sum.add(micros);
+
+    buckets[bucket(micros)].increment();
+  }
+
+  /**
+   * @return Amount of latencies registered in each bucket.
+   */
+  public long[] getCounts() {
+    final long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets[i].sum();
+    }
+
+    return counts;
+  }
+
+  /**
+   * @return Amount of registered latencies.
+   */
+  public long getCount() {
+    long count = 0;
+    for (final LongAdder bucket : buckets) {
+      count += bucket.sum();
+    }
+
+    return count;
+  }
+
+  /**
+   * @return Average latency in microseconds or <code>0</code> if there are no registered latencies.
+   */
+  public long getAverage() {
+    final long count = getCount();
+    if (count == 0) {
+      return 0;
+    }
+
+    return sum.sum() / count;
+  }
+
+  /**
+   * @param percentile Percentile in range <code>(0, 100]</code>
+   *
+   * @return Upper bound in microseconds of the bucket which contains given percentile of latencies, or <code>-1</code> if it is
+   * in the last unbounded bucket, or <code>0</code> if there are no registered latencies.
+   */
+  public long getPercentile(final double percentile) {
+    final long[] counts = getCounts();
+
+    long total = 0;
+    for (final long count : counts) {
+      total += count;
+    }
+
+    if (total == 0) {
+      return 0;
+    }
+
+    final long threshold = (long) Math.ceil(total * percentile / 100);
+    long accumulated = 0;
+    for (int i = 0; i < BUCKETS - 1; i++) {
+      accumulated += counts[i];
+      if (accumulated >= threshold) {
+        return upperBound(i);
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * @return Upper bound of bucket in microseconds or <code>-1</code> for the last unbounded bucket.
+   */
+  public static long upperBound(final int bucket) {
+    if (bucket >= BUCKETS - 1) {
+      return -1;
+    }
+
+    return 1L << bucket;
+  }
+
+  private static int bucket(final long micros) {
+    if (micros <= 1) {
+      return 0;
+    }
+
+    // index of the smallest power of two which is not less than latency
+    final int bucket = 64 - Long.numberOfLeadingZeros(micros - 1);
+    return Math.min(bucket, BUCKETS - 1);
+  }
+}
@@ -0,0 +1,29 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+/**
+ * Marks pages loaded by the current thread as part of a sequential scan (full cluster scan, database export and so on).
+ * <p>
+ * Read cache may use this hint to avoid eviction of the working set by pages which are read only once. Calls of {@link #begin()}
+ * and {@link #end()} may be nested, hint is active till the last {@link #end()} call.
+ */
+public final class OSequentialScanHint {
+  private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+  private OSequentialScanHint() {
+  }
+
+  public static void begin() {
+    DEPTH.get()[0]++;
+  }
+
+  public static void end() {
+    final int[] depth = DEPTH.get();
+    if (depth[0] > 0) {
+      depth[0]--;
+    }
+  }
+
+  public static boolean isActive() {
+    return DEPTH.get()[0] > 0;
+  }
+}
@@ -32,6 +32,9 @@ import java.util.concurrent.locks.ReentrantLock;
  * processing. But that is true only for threads which cause loading of additional pages from write cache to disk cache. Window
  * TinyLFU policy is used as cache eviction policy because it prevents usage of ghost entries and as result considerably decrease
  * usage of heap memory.
+ * <p>
+ * If cache is scan resistant, pages which are loaded by threads marked by {@link OSequentialScanHint} bypass admission of
+ * eviction policy, so sequential scans do not evict the working set.
  */
 public final class AsyncReadCache implements OReadCache {
   private static final int NCPU                   = Runtime.getRuntime().availableProcessors();
@@ -48,10 +51,13 @@ public final class AsyncReadCache implements OReadCache {
   private final int                       maxCacheSize;
 
   private final boolean trackHitRate;
+  private final boolean scanResistant;
 
   private final LongAdder requests = new LongAdder();
   private final LongAdder hits     = new LongAdder();
 
+  private final ConcurrentHashMap<Long, FileStatistic> fileStatistics = new ConcurrentHashMap<>();
+
   /**
    * Status which indicates whether flush of buffers should be performed or may be delayed.
    */
@@ -63,15 +69,21 @@ public final class AsyncReadCache implements OReadCache {
 
   public AsyncReadCache(final OByteBufferPool bufferPool, final long maxCacheSizeInBytes, final int pageSize,
       final boolean trackHitRate) {
+    this(bufferPool, maxCacheSizeInBytes, pageSize, trackHitRate, false);
+  }
+
+  public AsyncReadCache(final OByteBufferPool bufferPool, final long maxCacheSizeInBytes, final int pageSize,
+      final boolean trackHitRate, final boolean scanResistant) {
     evictionLock.lock();
     try {
       this.pageSize = pageSize;
       this.bufferPool = bufferPool;
 
       this.trackHitRate = trackHitRate;
+      this.scanResistant = scanResistant;
       this.maxCacheSize = (int) (maxCacheSizeInBytes / pageSize);
       this.data = new ConcurrentHashMap<>(this.maxCacheSize);
-      policy = new WTinyLFUPolicy(data, new FrequencySketch(), cacheSize);
+      policy = new WTinyLFUPolicy(data, new FrequencySketch(), cacheSize, trackHitRate ? this::onEviction : null);
       policy.setMaxSize(this.maxCacheSize);
     } finally {
       evictionLock.unlock();
@@ -92,7 +104,7 @@ public final class AsyncReadCache implements OReadCache {
   @Override
   public final OCacheEntry loadForWrite(final long fileId, final long pageIndex, final boolean checkPinnedPages,
       final OWriteCache writeCache, final boolean verifyChecksums, final OLogSequenceNumber startLSN) {
-    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, false);
 
     if (cacheEntry != null) {
       cacheEntry.acquireExclusiveLock();
@@ -106,16 +118,22 @@ public final class AsyncReadCache implements OReadCache {
   @Override
   public final OCacheEntry loadForRead(final long fileId, final long pageIndex, final boolean checkPinnedPages,
       final OWriteCache writeCache, final boolean verifyChecksums) {
-    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, scanResistant && OSequentialScanHint.isActive());
   }
 
   private OCacheEntry doLoad(final long extFileId, final int pageIndex, final OWriteCache writeCache,
-      final boolean verifyChecksums) {
+      final boolean verifyChecksums, final boolean scan) {
     final long fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), extFileId);
     final PageKey pageKey = new PageKey(fileId, pageIndex);
 
+    final FileStatistic fileStatistic;
     if (trackHitRate) {
       requests.increment();
+
+      fileStatistic = fileStatistics.computeIfAbsent(fileId, (id) -> new FileStatistic());
+      fileStatistic.requests.increment();
+    } else {
+      fileStatistic = null;
     }
 
     while (true) {
@@ -127,10 +145,14 @@ public final class AsyncReadCache implements OReadCache {
 
       if (cacheEntry != null) {
         if (cacheEntry.acquireEntry()) {
-          afterRead(cacheEntry);
+          // pages accessed by scans are not counted by eviction policy
+          if (!scan) {
+            afterRead(cacheEntry);
+          }
 
           if (trackHitRate) {
             hits.increment();
+            fileStatistic.hits.increment();
           }
 
           return cacheEntry;
@@ -166,11 +188,22 @@ public final class AsyncReadCache implements OReadCache {
           if (read[0]) {
             if (trackHitRate) {
               hits.increment();
+              fileStatistic.hits.increment();
             }
 
-            afterRead(cacheEntry);
+            if (!scan) {
+              afterRead(cacheEntry);
+            }
           } else {
-            afterAdd(cacheEntry);
+            if (trackHitRate) {
+              fileStatistic.loads.increment();
+            }
+
+            if (scan) {
+              afterScanAdd(cacheEntry);
+            } else {
+              afterAdd(cacheEntry);
+            }
 
             try {
               writeCache.checkCacheOverflow();
@@ -284,6 +317,10 @@ public final class AsyncReadCache implements OReadCache {
     afterWrite(() -> policy.onAdd(entry));
   }
 
+  private void afterScanAdd(final OCacheEntry entry) {
+    afterWrite(() -> policy.onScanAdd(entry));
+  }
+
   private void afterWrite(final Runnable command) {
     writeBuffer.offer(command);
 
@@ -420,6 +457,7 @@ public final class AsyncReadCache implements OReadCache {
     final int filledUpTo = (int) writeCache.getFilledUpTo(fileId);
 
     clearFile(fileId, filledUpTo, writeCache);
+    fileStatistics.remove(fileId);
     writeCache.close(fileId, flush);
   }
 
@@ -428,6 +466,7 @@ public final class AsyncReadCache implements OReadCache {
     final int filledUpTo = (int) writeCache.getFilledUpTo(fileId);
 
     clearFile(fileId, filledUpTo, writeCache);
+    fileStatistics.remove(fileId);
     writeCache.deleteFile(fileId);
   }
 
@@ -441,6 +480,7 @@ public final class AsyncReadCache implements OReadCache {
 
     for (final ORawPair<Long, Integer> entry : filledUpTo) {
       clearFile(entry.getFirst(), entry.getSecond(), writeCache);
+      fileStatistics.remove(entry.getFirst());
     }
 
     writeCache.delete();
@@ -456,6 +496,7 @@ public final class AsyncReadCache implements OReadCache {
 
     for (final ORawPair<Long, Integer> entry : filledUpTo) {
       clearFile(entry.getFirst(), entry.getSecond(), writeCache);
+      fileStatistics.remove(entry.getFirst());
     }
 
     writeCache.close();
@@ -519,6 +560,54 @@ public final class AsyncReadCache implements OReadCache {
     return (int) ((hits.sum() * 100) / reqSum);
   }
 
+  /**
+   * @return percent of page requests of the given file which were served without load of the page from write cache, or
+   * <code>-1</code> if hit rate is not tracked or there were no requests for this file.
+   */
+  public int hitRate(long fileId, final OWriteCache writeCache) {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final FileStatistic fileStatistic = fileStatistics.get(fileId);
+    if (fileStatistic == null) {
+      return -1;
+    }
+
+    final long reqSum = fileStatistic.requests.sum();
+    if (reqSum == 0) {
+      return -1;
+    }
+
+    return (int) ((fileStatistic.hits.sum() * 100) / reqSum);
+  }
+
+  /**
+   * Fills read cache counters of the file with id {@link OCacheFileStatistic#getFileId()}, counters are gathered only if hit rate
+   * is tracked.
+   */
+  public void fillStatistic(final OCacheFileStatistic statistic, final OWriteCache writeCache) {
+    final long fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), statistic.getFileId());
+
+    final FileStatistic fileStatistic = fileStatistics.get(fileId);
+    if (fileStatistic != null) {
+      statistic.setReadCacheStatistic(fileStatistic.requests.sum(), fileStatistic.hits.sum(), fileStatistic.loads.sum(),
+          fileStatistic.evictions.sum());
+    }
+  }
+
+  private void onEviction(final long fileId) {
+    final FileStatistic fileStatistic = fileStatistics.get(fileId);
+    if (fileStatistic != null) {
+      fileStatistic.evictions.increment();
+    }
+  }
+
+  private static final class FileStatistic {
+    private final LongAdder requests  = new LongAdder();
+    private final LongAdder hits      = new LongAdder();
+    private final LongAdder loads     = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+  }
+
   private enum DrainStatus {
     IDLE {
       @Override
@@ -6,13 +6,19 @@ import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 
 /**
  * Window TinyLFU eviction policy https://arxiv.org/pdf/1512.00727.pdf.
+ * <p>
+ * Pages which are loaded by sequential scans (see {@link #onScanAdd(OCacheEntry)}) are not counted by admittor and are kept in
+ * a small separate LRU list which shares space with eden. They are evicted directly from this list unless they are accessed by
+ * a regular read, in such case they are moved to eden, so scans do not push the working set out of the cache.
  */
 final class WTinyLFUPolicy {
   private static final int EDEN_PERCENT         = 20;
   private static final int PROBATIONARY_PERCENT = 20;
+  private static final int SCAN_PERCENT         = 25;
 
   private volatile int                                     maxSize;
   private final    ConcurrentHashMap<PageKey, OCacheEntry> data;
@@ -20,22 +26,35 @@ final class WTinyLFUPolicy {
 
   private final AtomicInteger cacheSize;
 
+  /**
+   * Is notified with id of the file of each evicted page, may be <code>null</code>.
+   */
+  private final LongConsumer evictionListener;
+
   private final LRUList eden       = new LRUList();
   private final LRUList probation  = new LRUList();
   private final LRUList protection = new LRUList();
+  private final LRUList scan       = new LRUList();
 
   private int maxEdenSize;
+  private int maxScanSize;
   private int maxProtectedSize;
   private int maxSecondLevelSize;
 
   WTinyLFUPolicy(final ConcurrentHashMap<PageKey, OCacheEntry> data, final Admittor admittor, final AtomicInteger cacheSize) {
+    this(data, admittor, cacheSize, null);
+  }
+
+  WTinyLFUPolicy(final ConcurrentHashMap<PageKey, OCacheEntry> data, final Admittor admittor, final AtomicInteger cacheSize,
+      final LongConsumer evictionListener) {
     this.data = data;
     this.admittor = admittor;
     this.cacheSize = cacheSize;
+    this.evictionListener = evictionListener;
   }
 
   public void setMaxSize(final int maxSize) {
-    if (eden.size() + protection.size() + probation.size() > maxSize) {
+    if (eden.size() + protection.size() + probation.size() + scan.size() > maxSize) {
       throw new IllegalStateException(
           "Can set maximum cache size to " + maxSize + " because current cache size is bigger than requested");
     }
@@ -67,6 +86,12 @@ final class WTinyLFUPolicy {
         protection.moveToTheTail(cacheEntry);
       } else if (eden.contains(cacheEntry)) {
         eden.moveToTheTail(cacheEntry);
+      } else if (scan.contains(cacheEntry)) {
+        // page loaded by scan is used by regular read, it may be part of working set
+        scan.remove(cacheEntry);
+        eden.moveToTheTail(cacheEntry);
+
+        purgeEden();
       }
     }
 
@@ -93,8 +118,65 @@ final class WTinyLFUPolicy {
     assert probation.size() + protection.size() <= maxSecondLevelSize;
   }
 
+  /**
+   * Adds page loaded by sequential scan. Frequency of such page is not incremented and once the list of scanned pages is full the
+   * oldest of them is evicted without competition with the pages of the main space.
+   */
+  void onScanAdd(final OCacheEntry cacheEntry) {
+    if (cacheEntry.isAlive()) {
+      assert !eden.contains(cacheEntry);
+      assert !probation.contains(cacheEntry);
+      assert !protection.contains(cacheEntry);
+      assert !scan.contains(cacheEntry);
+
+      scan.moveToTheTail(cacheEntry);
+
+      purgeScan(maxScanSize);
+      purgeEden();
+    }
+
+    assert eden.size() <= maxEdenSize;
+  }
+
+  private void purgeScan(final int maxSize) {
+    int entriesToCheck = scan.size();
+
+    while (scan.size() > maxSize && entriesToCheck > 0) {
+      entriesToCheck--;
+
+      final OCacheEntry candidate = scan.poll();
+      assert candidate != null;
+
+      if (candidate.freeze()) {
+        evict(candidate);
+      } else {
+        // page is in use, it will be evicted later
+        scan.moveToTheTail(candidate);
+      }
+    }
+  }
+
+  private void evict(final OCacheEntry victim) {
+    final boolean removed = data.remove(new PageKey(victim.getFileId(), (int) victim.getPageIndex()), victim);
+    victim.makeDead();
+
+    if (removed) {
+      cacheSize.decrementAndGet();
+    }
+
+    final OCachePointer pointer = victim.getCachePointer();
+
+    pointer.decrementReadersReferrer();
+    victim.clearCachePointer();
+
+    if (evictionListener != null) {
+      evictionListener.accept(victim.getFileId());
+    }
+  }
+
   private void purgeEden() {
-    while (eden.size() > maxEdenSize) {
+    // pages of scan share space with eden
+    while (eden.size() > 0 && eden.size() + scan.size() > maxEdenSize) {
       final OCacheEntry candidate = eden.poll();
       assert candidate != null;
 
@@ -114,33 +196,13 @@ final class WTinyLFUPolicy {
           probation.moveToTheTail(candidate);
 
           if (victim.freeze()) {
-            final boolean removed = data.remove(new PageKey(victim.getFileId(), (int) victim.getPageIndex()), victim);
-            victim.makeDead();
-
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
-
-            final OCachePointer pointer = victim.getCachePointer();
-
-            pointer.decrementReadersReferrer();
-            victim.clearCachePointer();
+            evict(victim);
           } else {
             eden.moveToTheTail(victim);
           }
         } else {
           if (candidate.freeze()) {
-            final boolean removed = data.remove(new PageKey(candidate.getFileId(), (int) candidate.getPageIndex()), candidate);
-            candidate.makeDead();
-
-            if (removed) {
-              cacheSize.decrementAndGet();
-            }
-
-            final OCachePointer pointer = candidate.getCachePointer();
-
-            pointer.decrementReadersReferrer();
-            candidate.clearCachePointer();
+            evict(candidate);
           } else {
             eden.moveToTheTail(candidate);
           }
@@ -148,6 +210,10 @@ final class WTinyLFUPolicy {
       }
     }
 
+    if (eden.size() + scan.size() > maxEdenSize) {
+      purgeScan(maxEdenSize - eden.size());
+    }
+
     assert protection.size() <= maxProtectedSize;
   }
 
@@ -160,6 +226,8 @@ final class WTinyLFUPolicy {
       protection.remove(cacheEntry);
     } else if (eden.contains(cacheEntry)) {
       eden.remove(cacheEntry);
+    } else if (scan.contains(cacheEntry)) {
+      scan.remove(cacheEntry);
     }
 
     cacheEntry.makeDead();
@@ -173,6 +241,7 @@ final class WTinyLFUPolicy {
     maxEdenSize = maxSize * EDEN_PERCENT / 100;
     maxProtectedSize = maxSize - maxEdenSize - (maxSize - maxEdenSize) * PROBATIONARY_PERCENT / 100;
     maxSecondLevelSize = maxSize - maxEdenSize;
+    maxScanSize = Math.max(1, maxEdenSize * SCAN_PERCENT / 100);
   }
 
   Iterator<OCacheEntry> eden() {
@@ -187,14 +256,19 @@ final class WTinyLFUPolicy {
     return probation.iterator();
   }
 
+  Iterator<OCacheEntry> scan() {
+    return scan.iterator();
+  }
+
   void assertSize() {
-    assert eden.size() + probation.size() + protection.size() == cacheSize.get() && data.size() == cacheSize.get()
+    assert eden.size() + probation.size() + protection.size() + scan.size() == cacheSize.get() && data.size() == cacheSize.get()
         && cacheSize.get() <= maxSize;
   }
 
   void assertConsistency() {
     for (final OCacheEntry cacheEntry : data.values()) {
-      assert eden.contains(cacheEntry) || protection.contains(cacheEntry) || probation.contains(cacheEntry);
+      assert eden.contains(cacheEntry) || protection.contains(cacheEntry) || probation.contains(cacheEntry) || scan
+          .contains(cacheEntry);
     }
 
     int counter = 0;
@@ -213,6 +287,11 @@ final class WTinyLFUPolicy {
       counter++;
     }
 
+    for (final OCacheEntry cacheEntry : scan) {
+      assert data.get(new PageKey(cacheEntry.getFileId(), (int) cacheEntry.getPageIndex())) == cacheEntry;
+      counter++;
+    }
+
     assert counter == data.size();
   }
 }
@@ -46,7 +46,9 @@ import com.orientechnologies.orient.core.exception.*;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
+import com.orientechnologies.orient.core.storage.cache.OCacheFileStatistic;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OLatencyHistogram;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLog;
@@ -287,6 +289,16 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
    */
   private final LongAdder cacheOverflowCountSum = new LongAdder();
 
+  /**
+   * Whether per file statistics of write cache are gathered.
+   */
+  private final boolean trackStatistics = OGlobalConfiguration.DISK_CACHE_STATISTICS.getValueAsBoolean();
+
+  /**
+   * Per file statistics of write cache, key is internal id of the file.
+   */
+  private final ConcurrentHashMap<Integer, FileStatistic> fileStatistics = new ConcurrentHashMap<>();
+
   /**
    * Serialized is used to encode/decode names of files are managed by write cache.
    */
@@ -1063,6 +1075,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
     writeCacheSize.incrementAndGet();
 
+    if (trackStatistics) {
+      fileStatistic(pageKey.fileId).dirtyPages.increment();
+    }
+
     dataPointer.setWritersListener(this);
     dataPointer.incrementWritersReferrer();
   }
@@ -1104,6 +1120,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           final OCachePointer filePagePointer = loadFileContent(intId, startPageIndex, verifyChecksums);
           if (filePagePointer != null) {
             filePagePointer.incrementReadersReferrer();
+
+            if (trackStatistics) {
+              fileStatistic(intId).pagesReadFromDisk.increment();
+            }
           }
 
           return filePagePointer;
@@ -1117,6 +1137,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       cacheHit.setValue(true);
 
+      if (trackStatistics) {
+        fileStatistic(intId).writeCacheHits.increment();
+      }
+
       return pagePointer;
     } finally {
       filesLock.releaseReadLock();
@@ -1236,6 +1260,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       if (file != null) {
         writeNameIdEntry(new NameFileIdEntry(file.getFirst(), -intId, file.getSecond()), true);
       }
+
+      fileStatistics.remove(intId);
     } finally {
       filesLock.releaseWriteLock();
     }
@@ -1431,6 +1457,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       if (!files.close(fileId)) {
         throw new OStorageException("Can not close file with id " + internalFileId(fileId) + " because it is still in use");
       }
+
+      fileStatistics.remove(intId);
     } finally {
       filesLock.releaseWriteLock();
     }
@@ -1664,6 +1692,36 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     return exclusiveWriteCacheSize.get();
   }
 
+  /**
+   * Fills write cache counters of the file with id {@link OCacheFileStatistic#getFileId()}, counters are gathered only if
+   * statistics are enabled.
+   */
+  public void fillStatistic(final OCacheFileStatistic statistic) {
+    final int intId = extractFileId(statistic.getFileId());
+
+    final FileStatistic fileStatistic = fileStatistics.get(intId);
+    if (fileStatistic != null) {
+      statistic.setWriteCacheStatistic(fileStatistic.dirtyPages.sum(), fileStatistic.writeCacheHits.sum(),
+          fileStatistic.pagesReadFromDisk.sum(), fileStatistic.pagesFlushed.sum(), fileStatistic.flushLatency);
+    } else {
+      statistic.setWriteCacheStatistic(0, 0, 0, 0, new OLatencyHistogram());
+    }
+  }
+
+  private FileStatistic fileStatistic(final int intId) {
+    return fileStatistics.computeIfAbsent(intId, (id) -> new FileStatistic());
+  }
+
+  /**
+   * Statistics of deleted or closed files are removed, so they are not created again if their pages are flushed after that.
+   */
+  private void decrementDirtyPages(final int intId) {
+    final FileStatistic fileStatistic = fileStatistics.get(intId);
+    if (fileStatistic != null) {
+      fileStatistic.dirtyPages.decrement();
+    }
+  }
+
   private static void openFile(final OFile fileClassic) {
     if (fileClassic.exists()) {
       if (!fileClassic.isOpen()) {
@@ -2298,6 +2356,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             pagePointer.setWritersListener(null);
             writeCacheSize.decrementAndGet();
 
+            if (trackStatistics) {
+              decrementDirtyPages(internalFileId);
+            }
+
             removeFromDirtyPages(pageKey);
           } finally {
             pagePointer.releaseExclusiveLock();
@@ -2361,6 +2423,14 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     }
   }
 
+  private static final class FileStatistic {
+    private final LongAdder         dirtyPages        = new LongAdder();
+    private final LongAdder         writeCacheHits    = new LongAdder();
+    private final LongAdder         pagesReadFromDisk = new LongAdder();
+    private final LongAdder         pagesFlushed      = new LongAdder();
+    private final OLatencyHistogram flushLatency      = new OLatencyHistogram();
+  }
+
   private static final class PageKey implements Comparable<PageKey> {
     private final int  fileId;
     private final long pageIndex;
@@ -2870,6 +2940,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       final List<OClosableEntry<Long, OFile>> acquiredFiles = new ArrayList<>(buffersByFileId.size());
       final List<IOResult> ioResults = new ArrayList<>(buffersByFileId.size());
+      //internal file id and start time of each write, used for flush latency statistics
+      final List<ORawPair<Integer, Long>> writeStarts = new ArrayList<>(buffersByFileId.size());
 
       final Iterator<Map.Entry<Long, List<ORawPair<Long, ByteBuffer>>>> filesIterator = buffersByFileId.entrySet().iterator();
       Map.Entry<Long, List<ORawPair<Long, ByteBuffer>>> entry = null;
@@ -2889,6 +2961,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
           final List<ORawPair<Long, ByteBuffer>> bufferList = entry.getValue();
 
+          writeStarts.add(new ORawPair<>(internalFileId(entry.getKey()), trackStatistics ? System.nanoTime() : 0L));
           ioResults.add(file.write(bufferList));
           acquiredFiles.add(fileEntry);
 
@@ -2897,16 +2970,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           assert ioResults.size() == acquiredFiles.size();
 
           if (!ioResults.isEmpty()) {
-            for (final IOResult ioResult : ioResults) {
-              ioResult.await();
-            }
-
-            for (final OClosableEntry<Long, OFile> closableEntry : acquiredFiles) {
-              files.release(closableEntry);
-            }
-
-            ioResults.clear();
-            acquiredFiles.clear();
+            awaitWrites(ioResults, acquiredFiles, writeStarts);
           } else {
             Thread.yield();
           }
@@ -2916,13 +2980,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       assert ioResults.size() == acquiredFiles.size();
 
       if (!ioResults.isEmpty()) {
-        for (final IOResult ioResult : ioResults) {
-          ioResult.await();
-        }
-
-        for (final OClosableEntry<Long, OFile> closableEntry : acquiredFiles) {
-          files.release(closableEntry);
-        }
+        awaitWrites(ioResults, acquiredFiles, writeStarts);
       }
 
     } finally {
@@ -2935,6 +2993,12 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       fsyncFiles();
     }
 
+    if (trackStatistics) {
+      for (int i = 0; i < chunks.size(); i++) {
+        fileStatistic(chunkFileIds[i]).pagesFlushed.add(chunks.get(i).size());
+      }
+    }
+
     for (final List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk : chunks) {
       for (final OQuarto<Long, ByteBuffer, OPointer, OCachePointer> chunkPage : chunk) {
         final OCachePointer pointer = chunkPage.four;
@@ -2953,6 +3017,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
               writeCachePages.remove(pageKey);
               writeCacheSize.decrementAndGet();
 
+              if (trackStatistics) {
+                decrementDirtyPages(pageKey.fileId);
+              }
+
               pointer.decrementWritersReferrer();
               pointer.setWritersListener(null);
             }
@@ -2970,6 +3038,30 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     return flushedPages;
   }
 
+  /**
+   * Waits for the completion of the writes of the acquired files and releases them. If statistics are gathered, the time from the
+   * start of the write of each file till its completion is recorded as flush latency of that file.
+   */
+  private void awaitWrites(final List<IOResult> ioResults, final List<OClosableEntry<Long, OFile>> acquiredFiles,
+      final List<ORawPair<Integer, Long>> writeStarts) {
+    for (int i = 0; i < ioResults.size(); i++) {
+      ioResults.get(i).await();
+
+      if (trackStatistics) {
+        final ORawPair<Integer, Long> writeStart = writeStarts.get(i);
+        fileStatistic(writeStart.getFirst()).flushLatency.record(System.nanoTime() - writeStart.getSecond());
+      }
+    }
+
+    for (final OClosableEntry<Long, OFile> closableEntry : acquiredFiles) {
+      files.release(closableEntry);
+    }
+
+    ioResults.clear();
+    acquiredFiles.clear();
+    writeStarts.clear();
+  }
+
   private void flushExclusiveWriteCache(final CountDownLatch latch, long pagesToFlush) throws InterruptedException, IOException {
     final Iterator<PageKey> iterator = exclusiveWritePages.iterator();
 
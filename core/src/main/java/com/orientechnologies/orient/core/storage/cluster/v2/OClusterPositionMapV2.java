@@ -327,14 +327,15 @@ public final class OClusterPositionMapV2 extends OClusterPositionMap {
         index = 0;
       } else {
         int entriesCount = 0;
-        final long startIndex = cacheEntry.getPageIndex() * OClusterPositionMapBucket.MAX_ENTRIES + index;
+        // the first page of the file is not a bucket
+        final long startIndex = (cacheEntry.getPageIndex() - 1) * OClusterPositionMapBucket.MAX_ENTRIES + index;
 
         result = new OClusterPositionEntry[resultSize];
         for (int i = 0; i < resultSize; i++) {
           if (bucket.exists(i + index)) {
             final OClusterPositionMapBucket.PositionEntry val = bucket.get(i + index);
             assert val != null;
-            result[entriesCount] = new OClusterPositionEntry(index + i, val.getPageIndex(), val.getRecordPosition());
+            result[entriesCount] = new OClusterPositionEntry(startIndex + i, val.getPageIndex(), val.getRecordPosition());
             entriesCount++;
           }
         }
@@ -21,6 +21,13 @@ import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.OGZIPCompression;
+import com.orientechnologies.orient.core.compression.impl.OHighZIPCompression;
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import com.orientechnologies.orient.core.compression.impl.OLowZIPCompression;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.config.OStorageClusterConfiguration;
 import com.orientechnologies.orient.core.config.OStoragePaginatedClusterConfiguration;
@@ -46,21 +53,42 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.co.pag
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.DISK_CACHE_PAGE_SIZE;
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY;
 
 /**
+ * Serves clusters of binary versions 2 and 3. Clusters of version 3 store content of each record prefixed by the identifier of
+ * compression which was used to write it, so compression of the cluster may be changed at any time and records written with the
+ * previous compression still can be read.
+ *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 10/7/13
  */
 public final class OPaginatedClusterV2 extends OPaginatedCluster {
-  private static final int     STATE_ENTRY_INDEX = 0;
-  private static final int     BINARY_VERSION    = 2;
-  private final        boolean addRidMetadata    = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.getValueAsBoolean();
+  private static final int     STATE_ENTRY_INDEX         = 0;
+  private static final int     BINARY_VERSION            = 2;
+  private static final int     COMPRESSED_BINARY_VERSION = 3;
+  private final        boolean addRidMetadata            = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL
+      .getValueAsBoolean();
+
+  /**
+   * Compressions which may be used by clusters of version 3, index of compression is stored together with each record, so new
+   * compressions may only be added to the end of the list.
+   */
+  private static final String[] RECORD_COMPRESSIONS = { ONothingCompression.NAME, OLZ4Compression.NAME, OGZIPCompression.NAME,
+      OLowZIPCompression.NAME, OHighZIPCompression.NAME };
+
+  /**
+   * Records which are smaller than this size are not compressed, gain of their compression does not justify its cost.
+   */
+  private static final int MIN_COMPRESSED_RECORD_SIZE = 64;
+
+  /**
+   * Maximum amount of pages of each list of free pages which are checked to find the page for the record moved during compaction.
+   */
+  private static final int MAX_RELOCATION_CANDIDATES = 16;
 
   private static final int DISK_PAGE_SIZE           = DISK_CACHE_PAGE_SIZE.getValueAsInteger();
   private static final int LOWEST_FREELIST_BOUNDARY = PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
@@ -70,10 +98,12 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   private static final int ONE_KB                   = 1024;
 
   private final    boolean                 systemCluster;
+  private final    int                     binaryVersion;
   private final    OClusterPositionMapV2   clusterPositionMap;
   private volatile int                     id;
   private          long                    fileId;
   private          ORecordConflictStrategy recordConflictStrategy;
+  private volatile int                     compressionId;
 
   private static final class AddEntryResult {
     private final long pageIndex;
@@ -103,14 +133,24 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   }
 
   public OPaginatedClusterV2(final String name, final OAbstractPaginatedStorage storage) {
-    this(name, OPaginatedCluster.DEF_EXTENSION, OClusterPositionMap.DEF_EXTENSION, storage);
+    this(name, BINARY_VERSION, storage);
+  }
+
+  public OPaginatedClusterV2(final String name, final int binaryVersion, final OAbstractPaginatedStorage storage) {
+    this(name, binaryVersion, OPaginatedCluster.DEF_EXTENSION, OClusterPositionMap.DEF_EXTENSION, storage);
   }
 
   public OPaginatedClusterV2(final String name, final String dataExtension, final String cpmExtension,
       final OAbstractPaginatedStorage storage) {
+    this(name, BINARY_VERSION, dataExtension, cpmExtension, storage);
+  }
+
+  public OPaginatedClusterV2(final String name, final int binaryVersion, final String dataExtension, final String cpmExtension,
+      final OAbstractPaginatedStorage storage) {
     super(storage, name, dataExtension, name + dataExtension);
 
     systemCluster = OMetadataInternal.SYSTEM_CLUSTER.contains(name);
+    this.binaryVersion = binaryVersion;
 
     clusterPositionMap = new OClusterPositionMapV2(storage, getName(), getFullName(), cpmExtension);
   }
@@ -119,7 +159,8 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   public void configure(final int id, final String clusterName) throws IOException {
     acquireExclusiveLock();
     try {
-      init(id, clusterName, null);
+      init(id, clusterName, null, storage.getConfiguration().getContextConfiguration()
+          .getValueAsString(OGlobalConfiguration.STORAGE_COMPRESSION_METHOD));
     } finally {
       releaseExclusiveLock();
     }
@@ -143,7 +184,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
   @Override
   public int getBinaryVersion() {
-    return BINARY_VERSION;
+    return binaryVersion;
   }
 
   @Override
@@ -152,8 +193,8 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     try {
       return new OStoragePaginatedClusterConfiguration(id, getName(), null, true,
           OStoragePaginatedClusterConfiguration.DEFAULT_GROW_FACTOR, OStoragePaginatedClusterConfiguration.DEFAULT_GROW_FACTOR,
-          null, null, null, recordConflictStrategy != null ? recordConflictStrategy.getName() : null,
-          OStorageClusterConfiguration.STATUS.ONLINE, BINARY_VERSION);
+          compression(), null, null, recordConflictStrategy != null ? recordConflictStrategy.getName() : null,
+          OStorageClusterConfiguration.STATUS.ONLINE, binaryVersion);
 
     } finally {
       releaseSharedLock();
@@ -164,7 +205,8 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   public void configure(final OStorage storage, final OStorageClusterConfiguration config) throws IOException {
     acquireExclusiveLock();
     try {
-      init(config.getId(), config.getName(), ((OStoragePaginatedClusterConfiguration) config).conflictStrategy);
+      final OStoragePaginatedClusterConfiguration paginatedConfig = (OStoragePaginatedClusterConfiguration) config;
+      init(config.getId(), config.getName(), paginatedConfig.conflictStrategy, paginatedConfig.compression);
     } finally {
       releaseExclusiveLock();
     }
@@ -312,7 +354,11 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   public String compression() {
     acquireSharedLock();
     try {
-      return null;
+      if (binaryVersion < COMPRESSED_BINARY_VERSION) {
+        return null;
+      }
+
+      return RECORD_COMPRESSIONS[compressionId];
     } finally {
       releaseSharedLock();
     }
@@ -359,7 +405,9 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     try {
       acquireExclusiveLock();
       try {
-        final int entryContentLength = getEntryContentLength(content.length);
+        final byte[] storedContent = compressContent(content);
+
+        final int entryContentLength = getEntryContentLength(storedContent.length);
 
         if (entryContentLength < OClusterPage.MAX_RECORD_SIZE) {
           final byte[] entryContent = new byte[entryContentLength];
@@ -368,11 +416,11 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
           entryContent[entryPosition] = recordType;
           entryPosition++;
 
-          OIntegerSerializer.INSTANCE.serializeNative(content.length, entryContent, entryPosition);
+          OIntegerSerializer.INSTANCE.serializeNative(storedContent.length, entryContent, entryPosition);
           entryPosition += OIntegerSerializer.INT_SIZE;
 
-          System.arraycopy(content, 0, entryContent, entryPosition, content.length);
-          entryPosition += content.length;
+          System.arraycopy(storedContent, 0, entryContent, entryPosition, storedContent.length);
+          entryPosition += storedContent.length;
 
           entryContent[entryPosition] = 1;
           entryPosition++;
@@ -400,7 +448,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
           return createPhysicalPosition(recordType, clusterPosition, addEntryResult.recordVersion);
         } else {
-          final int entrySize = content.length + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
+          final int entrySize = storedContent.length + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
 
           int fullEntryPosition = 0;
           final byte[] fullEntry = new byte[entrySize];
@@ -408,74 +456,22 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
           fullEntry[fullEntryPosition] = recordType;
           fullEntryPosition++;
 
-          OIntegerSerializer.INSTANCE.serializeNative(content.length, fullEntry, fullEntryPosition);
+          OIntegerSerializer.INSTANCE.serializeNative(storedContent.length, fullEntry, fullEntryPosition);
           fullEntryPosition += OIntegerSerializer.INT_SIZE;
 
-          System.arraycopy(content, 0, fullEntry, fullEntryPosition, content.length);
-
-          long prevPageRecordPointer = -1;
-          long firstPageIndex = -1;
-          int firstPagePosition = -1;
+          System.arraycopy(storedContent, 0, fullEntry, fullEntryPosition, storedContent.length);
 
-          int version = 0;
+          final AddEntryResult addEntryResult = addFullEntry(recordVersion, fullEntry, atomicOperation);
 
-          int from = 0;
-          int to = from + (OClusterPage.MAX_RECORD_SIZE - OByteSerializer.BYTE_SIZE - OLongSerializer.LONG_SIZE);
-
-          int recordsSizeDiff = 0;
-
-          do {
-            final byte[] entryContent = new byte[to - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE];
-            System.arraycopy(fullEntry, from, entryContent, 0, to - from);
-
-            if (from > 0) {
-              entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 0;
-            } else {
-              entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 1;
-            }
-
-            OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryContent.length - OLongSerializer.LONG_SIZE);
-
-            final AddEntryResult addEntryResult = addEntry(recordVersion, entryContent, atomicOperation);
-            recordsSizeDiff += addEntryResult.recordsSizeDiff;
-
-            if (firstPageIndex == -1) {
-              firstPageIndex = addEntryResult.pageIndex;
-              firstPagePosition = addEntryResult.pagePosition;
-              version = addEntryResult.recordVersion;
-            }
-
-            final long addedPagePointer = createPagePointer(addEntryResult.pageIndex, addEntryResult.pagePosition);
-            if (prevPageRecordPointer >= 0) {
-              final long prevPageIndex = getPageIndex(prevPageRecordPointer);
-              final int prevPageRecordPosition = getRecordPosition(prevPageRecordPointer);
-
-              final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false, true);
-              try {
-                final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry);
-                prevPage.setRecordLongValue(prevPageRecordPosition, -OLongSerializer.LONG_SIZE, addedPagePointer);
-              } finally {
-                releasePageFromWrite(atomicOperation, prevPageCacheEntry);
-              }
-            }
-
-            prevPageRecordPointer = addedPagePointer;
-            from = to;
-            to = to + (OClusterPage.MAX_RECORD_SIZE - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE);
-            if (to > fullEntry.length) {
-              to = fullEntry.length;
-            }
-
-          } while (from < to);
-
-          updateClusterState(1, recordsSizeDiff, atomicOperation);
+          updateClusterState(1, addEntryResult.recordsSizeDiff, atomicOperation);
           final long clusterPosition;
           if (allocatedPosition != null) {
             clusterPositionMap.update(allocatedPosition.clusterPosition,
-                new OClusterPositionMapBucket.PositionEntry(firstPageIndex, firstPagePosition), atomicOperation);
+                new OClusterPositionMapBucket.PositionEntry(addEntryResult.pageIndex, addEntryResult.pagePosition),
+                atomicOperation);
             clusterPosition = allocatedPosition.clusterPosition;
           } else {
-            clusterPosition = clusterPositionMap.add(firstPageIndex, firstPagePosition, atomicOperation);
+            clusterPosition = clusterPositionMap.add(addEntryResult.pageIndex, addEntryResult.pagePosition, atomicOperation);
           }
 
           addAtomicOperationMetadata(new ORecordId(id, clusterPosition), atomicOperation);
@@ -483,7 +479,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
           atomicOperation.addComponentOperation(new OPaginatedClusterCreateRecordCO(id, content, recordVersion, recordType,
               allocatedPosition != null ? allocatedPosition.clusterPosition : -1, clusterPosition));
 
-          return createPhysicalPosition(recordType, clusterPosition, version);
+          return createPhysicalPosition(recordType, clusterPosition, addEntryResult.recordVersion);
 
         }
       } finally {
@@ -557,6 +553,142 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     }
   }
 
+  /**
+   * Positions of records are resolved first, then records are read in the order of pages they are stored in. Each page is loaded
+   * once for all the records it contains, and runs of adjacent pages are loaded together. Records which span several pages are
+   * read one by one.
+   */
+  @Override
+  public Map<Long, ORawBuffer> readRecords(final Collection<Long> clusterPositions) throws IOException {
+    final long[] positions = new long[clusterPositions.size()];
+    int positionsCount = 0;
+    for (final Long clusterPosition : clusterPositions) {
+      positions[positionsCount++] = clusterPosition;
+    }
+    Arrays.sort(positions);
+
+    final Map<Long, ORawBuffer> result = new HashMap<>(positions.length);
+    final int maxPagesToPrefetch = OGlobalConfiguration.QUERY_SCAN_PREFETCH_PAGES.getValueAsInteger();
+
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
+
+        final List<RecordLocation> locations = new ArrayList<>(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+          if (i > 0 && positions[i] == positions[i - 1]) {
+            continue;
+          }
+
+          final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(positions[i], 1, atomicOperation);
+          if (positionEntry != null) {
+            locations.add(new RecordLocation(positions[i], positionEntry.getPageIndex(), positionEntry.getRecordPosition()));
+          }
+        }
+        locations.sort(Comparator.comparingLong((RecordLocation location) -> location.pageIndex)
+            .thenComparingInt(location -> location.recordPosition));
+
+        final long fileSize;
+        final OCacheEntry stateCacheEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
+        try {
+          fileSize = new OPaginatedClusterStateV2(stateCacheEntry).getFileSize();
+        } finally {
+          releasePageFromRead(atomicOperation, stateCacheEntry);
+        }
+
+        long prefetchedTill = -1;
+        int index = 0;
+        while (index < locations.size()) {
+          final long pageIndex = locations.get(index).pageIndex;
+
+          int pageCount = 1;
+          if (pageIndex > prefetchedTill) {
+            // count pages which follow current one without gaps, they are loaded from the disk together
+            long lastPage = pageIndex;
+            for (int i = index + 1; i < locations.size() && pageCount < maxPagesToPrefetch; i++) {
+              final long nextPage = locations.get(i).pageIndex;
+              if (nextPage == lastPage) {
+                continue;
+              }
+              if (nextPage != lastPage + 1) {
+                break;
+              }
+
+              lastPage = nextPage;
+              pageCount++;
+            }
+
+            pageCount = (int) Math.max(1, Math.min(fileSize + 1 - pageIndex, pageCount));
+            prefetchedTill = pageIndex + pageCount - 1;
+          }
+
+          final List<RecordLocation> splitRecords = new ArrayList<>();
+          final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, pageCount);
+          try {
+            final OClusterPage localPage = new OClusterPage(cacheEntry);
+            while (index < locations.size() && locations.get(index).pageIndex == pageIndex) {
+              final RecordLocation location = locations.get(index);
+              index++;
+
+              if (localPage.isDeleted(location.recordPosition)) {
+                continue;
+              }
+
+              final byte[] content = localPage
+                  .getRecordBinaryValue(location.recordPosition, 0, localPage.getRecordSize(location.recordPosition));
+              if (content[content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] == 0) {
+                continue;
+              }
+
+              final long nextPagePointer = OLongSerializer.INSTANCE
+                  .deserializeNative(content, content.length - OLongSerializer.LONG_SIZE);
+              if (nextPagePointer >= 0) {
+                splitRecords.add(location);
+                continue;
+              }
+
+              final int contentSize = OIntegerSerializer.INSTANCE.deserializeNative(content, OByteSerializer.BYTE_SIZE);
+              final int contentStart = OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE;
+              result.put(location.clusterPosition,
+                  new ORawBuffer(uncompressContent(content, contentStart, contentSize),
+                      localPage.getRecordVersion(location.recordPosition), content[0]));
+            }
+          } finally {
+            releasePageFromRead(atomicOperation, cacheEntry);
+          }
+
+          for (final RecordLocation location : splitRecords) {
+            final ORawBuffer buffer = internalReadRecord(location.clusterPosition, location.pageIndex, location.recordPosition, 1,
+                atomicOperation);
+            if (buffer != null) {
+              result.put(location.clusterPosition, buffer);
+            }
+          }
+        }
+
+        return result;
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  private static final class RecordLocation {
+    private final long clusterPosition;
+    private final long pageIndex;
+    private final int  recordPosition;
+
+    private RecordLocation(final long clusterPosition, final long pageIndex, final int recordPosition) {
+      this.clusterPosition = clusterPosition;
+      this.pageIndex = pageIndex;
+      this.recordPosition = recordPosition;
+    }
+  }
+
   private ORawBuffer internalReadRecord(final long clusterPosition, final long pageIndex, final int recordPosition, int pageCount,
       final OAtomicOperation atomicOperation) throws IOException {
     if (pageCount > 1) {
@@ -591,7 +723,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     final int readContentSize = OIntegerSerializer.INSTANCE.deserializeNative(fullContent, fullContentPosition);
     fullContentPosition += OIntegerSerializer.INT_SIZE;
 
-    byte[] recordContent = Arrays.copyOfRange(fullContent, fullContentPosition, fullContentPosition + readContentSize);
+    byte[] recordContent = uncompressContent(fullContent, fullContentPosition, readContentSize);
 
     return new ORawBuffer(recordContent, recordVersion, recordType);
   }
@@ -732,7 +864,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         final int readContentSize = OIntegerSerializer.INSTANCE.deserializeNative(fullContent, fullContentPosition);
         fullContentPosition += OIntegerSerializer.INT_SIZE;
 
-        byte[] recordContent = Arrays.copyOfRange(fullContent, fullContentPosition, fullContentPosition + readContentSize);
+        byte[] recordContent = uncompressContent(fullContent, fullContentPosition, readContentSize);
 
         atomicOperation.addComponentOperation(
             new OPaginatedClusterDeleteRecordCO(id, clusterPosition, recordContent, recordVersion, recordType));
@@ -757,6 +889,8 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     try {
       acquireExclusiveLock();
       try {
+        final byte[] storedContent = compressContent(content);
+
         final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(clusterPosition, 1, atomicOperation);
 
         if (positionEntry == null) {
@@ -789,11 +923,11 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
           if (updateEntry == null) {
             if (from == 0) {
-              entrySize = Math.min(getEntryContentLength(content.length), OClusterPage.MAX_RECORD_SIZE);
+              entrySize = Math.min(getEntryContentLength(storedContent.length), OClusterPage.MAX_RECORD_SIZE);
               to = entrySize - (2 * OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE + OLongSerializer.LONG_SIZE);
             } else {
-              entrySize = Math
-                  .min(content.length - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE, OClusterPage.MAX_RECORD_SIZE);
+              entrySize = Math.min(storedContent.length - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE,
+                  OClusterPage.MAX_RECORD_SIZE);
               to = from + entrySize - (OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE);
             }
 
@@ -804,11 +938,11 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
               updateEntry[entryPosition] = recordType;
               entryPosition++;
 
-              OIntegerSerializer.INSTANCE.serializeNative(content.length, updateEntry, entryPosition);
+              OIntegerSerializer.INSTANCE.serializeNative(storedContent.length, updateEntry, entryPosition);
               entryPosition += OIntegerSerializer.INT_SIZE;
             }
 
-            System.arraycopy(content, from, updateEntry, entryPosition, to - from);
+            System.arraycopy(storedContent, from, updateEntry, entryPosition, to - from);
             entryPosition += to - from;
 
             if (nextPageIndex == positionEntry.getPageIndex()) {
@@ -819,7 +953,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
             OLongSerializer.INSTANCE.serializeNative(-1, updateEntry, entryPosition);
 
-            assert to >= content.length || entrySize == OClusterPage.MAX_RECORD_SIZE;
+            assert to >= storedContent.length || entrySize == OClusterPage.MAX_RECORD_SIZE;
           } else {
             entrySize = updateEntry.length;
 
@@ -965,7 +1099,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
             updateEntry = null;
           }
-        } while (to < content.length || updateEntry != null);
+        } while (to < storedContent.length || updateEntry != null);
 
         // clear unneeded pages
         while (nextEntryPointer >= 0) {
@@ -1020,8 +1154,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         final int oldReadContentSize = OIntegerSerializer.INSTANCE.deserializeNative(oldFullContent, oldFullContentPosition);
         oldFullContentPosition += OIntegerSerializer.INT_SIZE;
 
-        byte[] oldRecordContent = Arrays
-            .copyOfRange(oldFullContent, oldFullContentPosition, oldFullContentPosition + oldReadContentSize);
+        byte[] oldRecordContent = uncompressContent(oldFullContent, oldFullContentPosition, oldReadContentSize);
 
         assert oldRecordVersion >= 0;
 
@@ -1357,13 +1490,18 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     }
   }
 
-  private void init(final int id, final String name, final String conflictStrategy) throws IOException {
+  private void init(final int id, final String name, final String conflictStrategy, final String compression)
+      throws IOException {
     OFileUtils.checkValidName(name);
 
     if (conflictStrategy != null) {
       this.recordConflictStrategy = Orient.instance().getRecordConflictStrategy().getStrategy(conflictStrategy);
     }
 
+    if (binaryVersion >= COMPRESSED_BINARY_VERSION && compression != null) {
+      this.compressionId = getCompressionId(compression);
+    }
+
     this.id = id;
   }
 
@@ -1387,6 +1525,88 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public void setCompression(final String compressionName) {
+    acquireExclusiveLock();
+    try {
+      if (binaryVersion < COMPRESSED_BINARY_VERSION) {
+        throw new OPaginatedClusterException(
+            "Compression of records is supported only by clusters of binary version " + COMPRESSED_BINARY_VERSION
+                + " and above, cluster has binary version " + binaryVersion, this);
+      }
+
+      compressionId = getCompressionId(compressionName);
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  private int getCompressionId(final String compressionName) {
+    if (compressionName == null || compressionName.isEmpty()) {
+      return 0;
+    }
+
+    for (int i = 0; i < RECORD_COMPRESSIONS.length; i++) {
+      if (RECORD_COMPRESSIONS[i].equalsIgnoreCase(compressionName)) {
+        return i;
+      }
+    }
+
+    throw new OPaginatedClusterException(
+        "Compression '" + compressionName + "' is not supported by cluster, supported compressions are " + Arrays
+            .toString(RECORD_COMPRESSIONS), this);
+  }
+
+  /**
+   * @return content of record which is stored in the cluster, for clusters of version 3 content is compressed and prefixed by the
+   * identifier of compression, content which does not become smaller after compression is stored as is.
+   */
+  private byte[] compressContent(final byte[] content) {
+    if (binaryVersion < COMPRESSED_BINARY_VERSION) {
+      return content;
+    }
+
+    int compressionId = this.compressionId;
+    byte[] storedContent = content;
+    if (compressionId > 0 && content.length >= MIN_COMPRESSED_RECORD_SIZE) {
+      final OCompression compression = OCompressionFactory.INSTANCE.getCompression(RECORD_COMPRESSIONS[compressionId], null);
+      storedContent = compression.compress(content);
+
+      if (storedContent.length >= content.length) {
+        storedContent = content;
+        compressionId = 0;
+      }
+    } else {
+      compressionId = 0;
+    }
+
+    final byte[] result = new byte[storedContent.length + OByteSerializer.BYTE_SIZE];
+    result[0] = (byte) compressionId;
+    System.arraycopy(storedContent, 0, result, OByteSerializer.BYTE_SIZE, storedContent.length);
+    return result;
+  }
+
+  /**
+   * Reverse operation of {@link #compressContent(byte[])}, returns content of record stored in the given range of the entry.
+   */
+  private byte[] uncompressContent(final byte[] entry, final int from, final int size) {
+    if (binaryVersion < COMPRESSED_BINARY_VERSION) {
+      return Arrays.copyOfRange(entry, from, from + size);
+    }
+
+    final int compressionId = entry[from];
+    if (compressionId == 0) {
+      return Arrays.copyOfRange(entry, from + OByteSerializer.BYTE_SIZE, from + size);
+    }
+
+    if (compressionId < 0 || compressionId >= RECORD_COMPRESSIONS.length) {
+      throw new OPaginatedClusterException("Record was written with unknown compression " + compressionId, this);
+    }
+
+    return OCompressionFactory.INSTANCE.getCompression(RECORD_COMPRESSIONS[compressionId], null)
+        .uncompress(entry, from + OByteSerializer.BYTE_SIZE, size - OByteSerializer.BYTE_SIZE);
+  }
+
   private static OPhysicalPosition createPhysicalPosition(final byte recordType, final long clusterPosition, final int version) {
     final OPhysicalPosition physicalPosition = new OPhysicalPosition();
     physicalPosition.recordType = recordType;
@@ -1544,6 +1764,73 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     return new AddEntryResult(pageIndex, position, finalVersion, recordSizesDiff);
   }
 
+  /**
+   * Splits full entry of the record (type, size and content of the record) into the chunks which fit into the pages, and adds
+   * them to the cluster linking each chunk with the next one.
+   *
+   * @return location of the first chunk of the record
+   */
+  private AddEntryResult addFullEntry(final int recordVersion, final byte[] fullEntry, final OAtomicOperation atomicOperation)
+      throws IOException {
+    long prevPageRecordPointer = -1;
+    long firstPageIndex = -1;
+    int firstPagePosition = -1;
+
+    int version = 0;
+
+    int from = 0;
+    int to = Math.min(from + (OClusterPage.MAX_RECORD_SIZE - OByteSerializer.BYTE_SIZE - OLongSerializer.LONG_SIZE),
+        fullEntry.length);
+
+    int recordsSizeDiff = 0;
+
+    do {
+      final byte[] entryContent = new byte[to - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE];
+      System.arraycopy(fullEntry, from, entryContent, 0, to - from);
+
+      if (from > 0) {
+        entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 0;
+      } else {
+        entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 1;
+      }
+
+      OLongSerializer.INSTANCE.serializeNative(-1L, entryContent, entryContent.length - OLongSerializer.LONG_SIZE);
+
+      final AddEntryResult addEntryResult = addEntry(recordVersion, entryContent, atomicOperation);
+      recordsSizeDiff += addEntryResult.recordsSizeDiff;
+
+      if (firstPageIndex == -1) {
+        firstPageIndex = addEntryResult.pageIndex;
+        firstPagePosition = addEntryResult.pagePosition;
+        version = addEntryResult.recordVersion;
+      }
+
+      final long addedPagePointer = createPagePointer(addEntryResult.pageIndex, addEntryResult.pagePosition);
+      if (prevPageRecordPointer >= 0) {
+        final long prevPageIndex = getPageIndex(prevPageRecordPointer);
+        final int prevPageRecordPosition = getRecordPosition(prevPageRecordPointer);
+
+        final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false, true);
+        try {
+          final OClusterPage prevPage = new OClusterPage(prevPageCacheEntry);
+          prevPage.setRecordLongValue(prevPageRecordPosition, -OLongSerializer.LONG_SIZE, addedPagePointer);
+        } finally {
+          releasePageFromWrite(atomicOperation, prevPageCacheEntry);
+        }
+      }
+
+      prevPageRecordPointer = addedPagePointer;
+      from = to;
+      to = to + (OClusterPage.MAX_RECORD_SIZE - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE);
+      if (to > fullEntry.length) {
+        to = fullEntry.length;
+      }
+
+    } while (from < to);
+
+    return new AddEntryResult(firstPageIndex, firstPagePosition, version, recordsSizeDiff);
+  }
+
   private FindFreePageResult findFreePage(final int contentSize, final OAtomicOperation atomicOperation) throws IOException {
     int freePageIndex = contentSize / ONE_KB;
     freePageIndex -= PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
@@ -1826,6 +2113,307 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     return "plocal cluster: " + getName();
   }
 
+  /**
+   * Compacts cluster without putting it offline. Records which are stored in pages which are not full (pages which are tracked by
+   * lists of free pages) are moved, each one inside of its own atomic operation, into the pages which are located closer to the
+   * head of the cluster and have less free space. Records which are split between several pages are not moved. Identities of
+   * records are preserved because only their locations stored in position map are changed. Empty pages at the end of the cluster
+   * are released after that, they are reused before the file of cluster grows again.
+   *
+   * @return amount of bytes released at the end of the cluster
+   */
+  @Override
+  public long compact() throws IOException {
+    // records are processed starting from the end of the cluster, so the last pages are emptied first and records are put into
+    // the pages which are closest to its head. Pages which received records may be emptied later, so records are processed
+    // again till they are not moved anymore, records are moved only towards the head of the cluster, so that ends.
+    boolean moved;
+    do {
+      moved = false;
+
+      long firstPosition = Long.MAX_VALUE;
+      while (true) {
+        final long[] positions;
+        atomicOperationsManager.acquireReadLock(this);
+        try {
+          acquireSharedLock();
+          try {
+            positions = clusterPositionMap.lowerPositions(firstPosition, OAtomicOperationsManager.getCurrentOperation());
+          } finally {
+            releaseSharedLock();
+          }
+        } finally {
+          atomicOperationsManager.releaseReadLock(this);
+        }
+
+        if (positions.length == 0) {
+          break;
+        }
+
+        for (int i = positions.length - 1; i >= 0; i--) {
+          moved |= relocateRecord(positions[i]);
+        }
+
+        firstPosition = positions[0];
+      }
+    } while (moved);
+
+    return (long) releaseTrailingPages() * OClusterPage.PAGE_SIZE;
+  }
+
+  /**
+   * @return <code>true</code> if record is moved into another page
+   */
+  private boolean relocateRecord(final long clusterPosition) throws IOException {
+    boolean rollback = false;
+    final OAtomicOperation atomicOperation = startAtomicOperation(true);
+    try {
+      acquireExclusiveLock();
+      try {
+        final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(clusterPosition, 1, atomicOperation);
+        if (positionEntry == null) {
+          return false;
+        }
+
+        final long pageIndex = positionEntry.getPageIndex();
+        final int recordPosition = positionEntry.getRecordPosition();
+
+        final long targetPageIndex;
+        final OCacheEntry sourceCacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        try {
+          final OClusterPage sourcePage = new OClusterPage(sourceCacheEntry);
+          if (sourcePage.isDeleted(recordPosition) || calculateFreePageIndex(sourcePage) < 0) {
+            return false;
+          }
+
+          // records which are split between several pages are not moved
+          if (sourcePage.getRecordLongValue(recordPosition, -OLongSerializer.LONG_SIZE) >= 0) {
+            return false;
+          }
+
+          final int recordSize = sourcePage.getRecordSize(recordPosition);
+          targetPageIndex = findRelocationPage(recordSize, pageIndex, sourcePage.getFreeSpace() + recordSize, atomicOperation);
+          if (targetPageIndex < 0) {
+            return false;
+          }
+        } finally {
+          releasePageFromRead(atomicOperation, sourceCacheEntry);
+        }
+
+        final int recordVersion;
+        final byte[] content;
+        final int removedContentSize;
+        final int sourceFreePageIndex;
+        final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false, true);
+        try {
+          final OClusterPage localPage = new OClusterPage(cacheEntry);
+          sourceFreePageIndex = calculateFreePageIndex(localPage);
+          recordVersion = localPage.getRecordVersion(recordPosition);
+
+          final int initialFreeSpace = localPage.getFreeSpace();
+          content = localPage.deleteRecord(recordPosition, true);
+          atomicOperation.addDeletedRecordPosition(id, cacheEntry.getPageIndex(), recordPosition);
+          assert content != null;
+
+          removedContentSize = localPage.getFreeSpace() - initialFreeSpace;
+        } finally {
+          releasePageFromWrite(atomicOperation, cacheEntry);
+        }
+
+        updateFreePagesIndex(sourceFreePageIndex, pageIndex, atomicOperation);
+
+        // content is moved as is, so compressed records are not uncompressed and compressed again
+        final int targetPosition;
+        final int addedContentSize;
+        final int targetFreePageIndex;
+        final OCacheEntry targetCacheEntry = loadPageForWrite(atomicOperation, fileId, targetPageIndex, false, true);
+        try {
+          final OClusterPage targetPage = new OClusterPage(targetCacheEntry);
+          targetFreePageIndex = calculateFreePageIndex(targetPage);
+
+          final int initialFreeSpace = targetPage.getFreeSpace();
+          targetPosition = targetPage.appendRecord(recordVersion, content, -1,
+              atomicOperation.getBookedRecordPositions(id, targetCacheEntry.getPageIndex()));
+          assert targetPosition >= 0;
+
+          addedContentSize = initialFreeSpace - targetPage.getFreeSpace();
+        } finally {
+          releasePageFromWrite(atomicOperation, targetCacheEntry);
+        }
+
+        updateFreePagesIndex(targetFreePageIndex, targetPageIndex, atomicOperation);
+
+        clusterPositionMap.update(clusterPosition, new OClusterPositionMapBucket.PositionEntry(targetPageIndex, targetPosition),
+            atomicOperation);
+        updateClusterState(0, addedContentSize - removedContentSize, atomicOperation);
+        return true;
+      } finally {
+        releaseExclusiveLock();
+      }
+    } catch (final Exception e) {
+      rollback = true;
+      throw e;
+    } finally {
+      endAtomicOperation(rollback);
+    }
+  }
+
+  /**
+   * Finds page for the record which is moved during compaction. Only not empty pages which are located before the source page and
+   * have less free space once the record is added than the source page has once the record is removed are used, so records are
+   * moved towards the head of the cluster into denser pages and pages at its end become empty. Each list of free pages is checked
+   * only partially, see {@link #MAX_RELOCATION_CANDIDATES}, the checked page which is closest to the head of the cluster is used.
+   *
+   * @param recordSize      size of the moved record
+   * @param sourcePageIndex index of the page which contains the record
+   * @param sourceFreeSpace free space of the page which contains the record after the record is removed
+   *
+   * @return index of the page or <code>-1</code> if there is no suitable page
+   */
+  private long findRelocationPage(final int recordSize, final long sourcePageIndex, final int sourceFreeSpace,
+      final OAtomicOperation atomicOperation) throws IOException {
+    int freePageIndex = recordSize / ONE_KB;
+    freePageIndex -= LOWEST_FREELIST_BOUNDARY;
+    if (freePageIndex < 0) {
+      freePageIndex = 0;
+    }
+
+    // the page which is closest to the head of the cluster is chosen, so pages at its end are not filled by records moved from
+    // the pages which follow them
+    long targetPageIndex = sourcePageIndex;
+    final int lastFreePageIndex = Math
+        .min((sourceFreeSpace + recordSize) / ONE_KB - LOWEST_FREELIST_BOUNDARY, FREE_LIST_SIZE - 1);
+    for (; freePageIndex <= lastFreePageIndex; freePageIndex++) {
+      long pageIndex;
+      final OCacheEntry stateCacheEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, true);
+      try {
+        pageIndex = new OPaginatedClusterStateV2(stateCacheEntry).getFreeListPage(freePageIndex);
+      } finally {
+        releasePageFromRead(atomicOperation, stateCacheEntry);
+      }
+
+      for (int candidates = 0; pageIndex >= 0 && candidates < MAX_RELOCATION_CANDIDATES; candidates++) {
+        final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        try {
+          final OClusterPage localPage = new OClusterPage(cacheEntry);
+          if (pageIndex < targetPageIndex && !localPage.isEmpty() && localPage.getFreeSpace() - recordSize < sourceFreeSpace
+              && localPage.getMaxRecordSize() >= recordSize) {
+            targetPageIndex = pageIndex;
+          }
+
+          pageIndex = localPage.getNextPage();
+        } finally {
+          releasePageFromRead(atomicOperation, cacheEntry);
+        }
+      }
+    }
+
+    return targetPageIndex < sourcePageIndex ? targetPageIndex : -1;
+  }
+
+  /**
+   * Removes pages which do not contain any record from the end of the cluster.
+   *
+   * @return amount of released pages
+   */
+  private int releaseTrailingPages() throws IOException {
+    boolean rollback = false;
+    final OAtomicOperation atomicOperation = startAtomicOperation(true);
+    try {
+      acquireExclusiveLock();
+      try {
+        int fileSize;
+        final OCacheEntry stateCacheEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, false);
+        try {
+          fileSize = new OPaginatedClusterStateV2(stateCacheEntry).getFileSize();
+        } finally {
+          releasePageFromRead(atomicOperation, stateCacheEntry);
+        }
+
+        int releasedPages = 0;
+        while (fileSize > 0) {
+          final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, fileSize, false, true);
+          try {
+            final OClusterPage localPage = new OClusterPage(cacheEntry);
+            if (localPage.getRecordsCount() > 0) {
+              break;
+            }
+
+            removeFromFreePagesList(localPage, fileSize, atomicOperation);
+          } finally {
+            releasePageFromWrite(atomicOperation, cacheEntry);
+          }
+
+          fileSize--;
+          releasedPages++;
+        }
+
+        if (releasedPages > 0) {
+          // released pages are initialized again once they are allocated
+          final OCacheEntry stateEntry = loadPageForWrite(atomicOperation, fileId, STATE_ENTRY_INDEX, false, true);
+          try {
+            new OPaginatedClusterStateV2(stateEntry).setFileSize(fileSize);
+          } finally {
+            releasePageFromWrite(atomicOperation, stateEntry);
+          }
+        }
+
+        return releasedPages;
+      } finally {
+        releaseExclusiveLock();
+      }
+    } catch (final Exception e) {
+      rollback = true;
+      throw e;
+    } finally {
+      endAtomicOperation(rollback);
+    }
+  }
+
+  private void removeFromFreePagesList(final OClusterPage localPage, final long pageIndex, final OAtomicOperation atomicOperation)
+      throws IOException {
+    final int freePageIndex = calculateFreePageIndex(localPage);
+    if (freePageIndex < 0) {
+      return;
+    }
+
+    final long nextPageIndex = localPage.getNextPage();
+    final long prevPageIndex = localPage.getPrevPage();
+
+    if (prevPageIndex >= 0) {
+      final OCacheEntry prevPageCacheEntry = loadPageForWrite(atomicOperation, fileId, prevPageIndex, false, true);
+      try {
+        new OClusterPage(prevPageCacheEntry).setNextPage(nextPageIndex);
+      } finally {
+        releasePageFromWrite(atomicOperation, prevPageCacheEntry);
+      }
+    } else {
+      final long firstFreePage;
+      final OCacheEntry pinnedStateEntry = loadPageForRead(atomicOperation, fileId, STATE_ENTRY_INDEX, true);
+      try {
+        firstFreePage = new OPaginatedClusterStateV2(pinnedStateEntry).getFreeListPage(freePageIndex);
+      } finally {
+        releasePageFromRead(atomicOperation, pinnedStateEntry);
+      }
+
+      if (firstFreePage == pageIndex) {
+        updateFreePagesList(freePageIndex, nextPageIndex, atomicOperation);
+      }
+    }
+
+    if (nextPageIndex >= 0) {
+      final OCacheEntry nextPageCacheEntry = loadPageForWrite(atomicOperation, fileId, nextPageIndex, false, true);
+      try {
+        new OClusterPage(nextPageCacheEntry).setPrevPage(prevPageIndex);
+      } finally {
+        releasePageFromWrite(atomicOperation, nextPageCacheEntry);
+      }
+    }
+
+    localPage.setNextPage(-1);
+    localPage.setPrevPage(-1);
+  }
+
   @Override
   public OClusterBrowsePage nextPage(final long lastPosition) throws IOException {
     atomicOperationsManager.acquireReadLock(this);
@@ -392,7 +392,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     final String aesKeyEncoded = contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_ENCRYPTION_KEY);
     final byte[] aesKey = aesKeyEncoded == null ? null : Base64.getDecoder().decode(aesKeyEncoded);
 
-    return new OCASDiskWriteAheadLog(name, storagePath, directory.toPath(),
+    final OCASDiskWriteAheadLog restoreLog = new OCASDiskWriteAheadLog(name, storagePath, directory.toPath(),
         contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_CACHE_SIZE),
         contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_BUFFER_SIZE), aesKey, iv,
         contextConfiguration.getValueAsLong(OGlobalConfiguration.WAL_SEGMENTS_INTERVAL) * 60 * 1_000_000_000L,
@@ -404,6 +404,17 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
         contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC),
         contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
         contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+    restoreLog.setMinCompressedRecordSize(walMinCompressedRecordSize(contextConfiguration));
+
+    return restoreLog;
+  }
+
+  private static int walMinCompressedRecordSize(final OContextConfiguration contextConfiguration) {
+    if (!contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_RECORD_COMPRESSION)) {
+      return -1;
+    }
+
+    return contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_RECORD_COMPRESSION_MIN_SIZE);
   }
 
   @Override
@@ -623,6 +634,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
           contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
           contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
 
+      diskWriteAheadLog.setMinCompressedRecordSize(walMinCompressedRecordSize(contextConfiguration));
+      diskWriteAheadLog.setGroupCommitWindow(contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_WINDOW));
       diskWriteAheadLog.addLowDiskSpaceListener(this);
       writeAheadLog = diskWriteAheadLog;
       writeAheadLog.addFullCheckpointListener(this);
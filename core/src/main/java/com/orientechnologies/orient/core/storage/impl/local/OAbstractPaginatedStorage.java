@@ -36,9 +36,11 @@ import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.OCallable;
 import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
 import com.orientechnologies.orient.core.command.OCommandExecutor;
 import com.orientechnologies.orient.core.command.OCommandManager;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
@@ -81,10 +83,13 @@ import com.orientechnologies.orient.core.serialization.serializer.record.ORecord
 import com.orientechnologies.orient.core.sharding.auto.OAutoShardingIndexEngine;
 import com.orientechnologies.orient.core.storage.*;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheFileStatistic;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.chm.AsyncReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cluster.OOfflineCluster;
 import com.orientechnologies.orient.core.storage.cluster.OPaginatedCluster;
 import com.orientechnologies.orient.core.storage.config.OClusterBasedStorageConfiguration;
@@ -99,6 +104,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OC
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OWriteableWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.co.indexengine.OIndexEngineCreateCO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.co.indexengine.OIndexEngineDeleteCO;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OCacheStatistics;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
@@ -168,6 +174,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private final OPerformanceStatisticManager performanceStatisticManager = new OPerformanceStatisticManager(this,
       OGlobalConfiguration.STORAGE_PROFILER_SNAPSHOT_INTERVAL.getValueAsInteger() * 1000000L,
       OGlobalConfiguration.STORAGE_PROFILER_CLEANUP_INTERVAL.getValueAsInteger() * 1000000L);
+  private final OCacheStatistics             cacheStatistics             = new OCacheStatistics(this);
 
   protected volatile OWriteAheadLog          writeAheadLog;
   private            OStorageRecoverListener recoverListener;
@@ -184,6 +191,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private volatile   OLowDiskSpaceInformation lowDiskSpace;
   private volatile   boolean                  modificationLock;
   private volatile   boolean                  readLock;
+  private volatile   boolean                  groupCommit;
+  private volatile   OSharedRecordCache       sharedRecordCache;
   /**
    * Set of pages which were detected as broken and need to be repaired.
    */
@@ -212,6 +221,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   private final AtomicLong txCommit       = new AtomicLong(0);
   private final AtomicLong txRollback     = new AtomicLong(0);
 
+  private final AtomicLong                       modificationSequence         = new AtomicLong();
+  private final ConcurrentHashMap<Integer, Long> clusterModificationSequences = new ConcurrentHashMap<>();
+
   private final AtomicInteger sessionCount  = new AtomicInteger(0);
   private final AtomicLong    lastCloseTime = new AtomicLong(System.currentTimeMillis());
 
@@ -247,6 +259,14 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private static OSharedRecordCache createSharedRecordCache(final OContextConfiguration contextConfiguration) {
+    if (!contextConfiguration.getValueAsBoolean(OGlobalConfiguration.CACHE_SHARED_ENABLED)) {
+      return null;
+    }
+
+    return new OSharedRecordCache(contextConfiguration.getValueAsInteger(OGlobalConfiguration.CACHE_SHARED_SIZE) * 1024L * 1024);
+  }
+
   private static TreeMap<String, OTransactionIndexChanges> getSortedIndexOperations(final OTransactionInternal clientTx) {
     return new TreeMap<>(clientTx.getIndexOperations());
   }
@@ -289,6 +309,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         readIv();
 
         initWalAndDiskCache(contextConfiguration);
+        groupCommit = contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_GROUP_COMMIT);
+        sharedRecordCache = createSharedRecordCache(contextConfiguration);
+        if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.DISK_CACHE_STATISTICS)) {
+          cacheStatistics.registerMBean(name, id);
+        }
         atomicOperationsManager = new OAtomicOperationsManager(this,
             contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_TRACK_PAGE_OPERATIONS_IN_TX),
             contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_PAGE_OPERATIONS_CACHE_SIZE) * 1024 * 1024);
@@ -529,6 +554,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         initIv();
 
         initWalAndDiskCache(contextConfiguration);
+        groupCommit = contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_GROUP_COMMIT);
+        sharedRecordCache = createSharedRecordCache(contextConfiguration);
+        if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.DISK_CACHE_STATISTICS)) {
+          cacheStatistics.registerMBean(name, id);
+        }
         atomicOperationsManager = new OAtomicOperationsManager(this,
             contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_TRACK_PAGE_OPERATIONS_IN_TX),
             contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_PAGE_OPERATIONS_CACHE_SIZE) * 1024 * 1024);
@@ -799,6 +829,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         sbTreeCollectionManager.deleteComponentByClusterId(clusterId);
 
+        final OSharedRecordCache recordCache = sharedRecordCache;
+        if (recordCache != null) {
+          recordCache.invalidateCluster(clusterId);
+        }
+
+        markClusterModified(clusterId);
+
         return true;
       } catch (final Exception e) {
         throw OException.wrapException(new OStorageException("Error while removing cluster '" + clusterId + "'"), e);
@@ -917,6 +954,34 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  @Override
+  public final long compactCluster(final int clusterId) {
+    try {
+      checkOpenness();
+      checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        final OCluster cluster = doGetAndCheckCluster(clusterId);
+        makeStorageDirty();
+
+        return cluster.compact();
+      } catch (final IOException ioe) {
+        throw OException.wrapException(new OStorageException("Error during compaction of cluster " + clusterId), ioe);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   @Override
   public final long[] getClusterDataRange(final int iClusterId) {
     try {
@@ -1511,6 +1576,58 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  @Override
+  public Map<ORecordId, ORawBuffer> readRecords(final Collection<ORecordId> rids) {
+    try {
+      checkOpenness();
+
+      final Map<Integer, List<ORecordId>> ridsByCluster = new TreeMap<>();
+      for (final ORecordId rid : rids) {
+        if (rid.isPersistent()) {
+          ridsByCluster.computeIfAbsent(rid.getClusterId(), k -> new ArrayList<>()).add(rid);
+        }
+      }
+
+      final Map<ORecordId, ORawBuffer> result = new HashMap<>(rids.size());
+      for (final Map.Entry<Integer, List<ORecordId>> entry : ridsByCluster.entrySet()) {
+        final OCluster cluster;
+        try {
+          cluster = getClusterById(entry.getKey());
+        } catch (final IllegalArgumentException e) {
+          throw OException.wrapException(new ORecordNotFoundException(entry.getValue().get(0)), e);
+        }
+
+        if (readLock) {
+          // records are locked one by one
+          for (final ORecordId rid : entry.getValue()) {
+            final ORawBuffer buffer = readRecord(cluster, rid, false);
+            if (buffer != null) {
+              result.put(rid, buffer);
+            }
+          }
+        } else if (transaction.get() != null) {
+          doReadRecords(cluster, entry.getValue(), result);
+        } else {
+          stateLock.acquireReadLock();
+          try {
+            checkOpenness();
+            doReadRecords(cluster, entry.getValue(), result);
+          } finally {
+            stateLock.releaseReadLock();
+          }
+        }
+      }
+
+      return result;
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   @Override
   public final OStorageOperationResult<ORawBuffer> readRecordIfVersionIsNotLatest(final ORecordId rid, final String fetchPlan,
       final boolean ignoreCache, final int recordVersion) throws ORecordNotFoundException {
@@ -1571,6 +1688,39 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return atomicOperationsManager;
   }
 
+  /**
+   * @return cache of records shared by all sessions of the storage or <code>null</code> if it is disabled
+   *
+   * @see OGlobalConfiguration#CACHE_SHARED_ENABLED
+   */
+  public final OSharedRecordCache getSharedRecordCache() {
+    return sharedRecordCache;
+  }
+
+  private void invalidateCachedRecord(final ORID rid) {
+    final OSharedRecordCache recordCache = sharedRecordCache;
+    if (recordCache != null) {
+      recordCache.invalidate(rid);
+    }
+  }
+
+  @Override
+  public final long getModificationSequence() {
+    return modificationSequence.get();
+  }
+
+  @Override
+  public final long getClusterModificationSequence(final int clusterId) {
+    return clusterModificationSequences.getOrDefault(clusterId, 0L);
+  }
+
+  /**
+   * Should be called once changes of records of the cluster are committed.
+   */
+  private void markClusterModified(final int clusterId) {
+    clusterModificationSequences.merge(clusterId, modificationSequence.incrementAndGet(), Math::max);
+  }
+
   public OWriteAheadLog getWALInstance() {
     return writeAheadLog;
   }
@@ -1645,6 +1795,46 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * @return Statistics of read and write caches for each file of the storage sorted by file name. Counters are gathered only if
+   * {@link OGlobalConfiguration#DISK_CACHE_STATISTICS} is switched on, otherwise only amount of dirty pages is provided.
+   */
+  public List<OCacheFileStatistic> getCacheFileStatistics() {
+    try {
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        final Map<String, Long> files = writeCache.files();
+        final List<OCacheFileStatistic> statistics = new ArrayList<>(files.size());
+        for (final Map.Entry<String, Long> file : files.entrySet()) {
+          final OCacheFileStatistic statistic = new OCacheFileStatistic(file.getKey(), file.getValue());
+
+          if (readCache instanceof AsyncReadCache) {
+            ((AsyncReadCache) readCache).fillStatistic(statistic, writeCache);
+          }
+
+          if (writeCache instanceof OWOWCache) {
+            ((OWOWCache) writeCache).fillStatistic(statistic);
+          }
+
+          statistics.add(statistic);
+        }
+
+        statistics.sort(Comparator.comparing(OCacheFileStatistic::getFileName));
+        return statistics;
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   @Override
   public final <V> V callInLock(final Callable<V> iCallable, final boolean iExclusiveLock) {
     try {
@@ -1915,6 +2105,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       final List<ORecordOperation> result = new ArrayList<>(8);
+      OLogSequenceNumber commitLsn = null;
       stateLock.acquireReadLock();
       try {
         if (modificationLock) {
@@ -2020,10 +2211,23 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             if (rollback) {
               rollback(transaction);
             } else {
-              endStorageTx(transaction, recordOperations);
+              commitLsn = endStorageTx(transaction, recordOperations);
             }
 
             this.transaction.set(null);
+
+            final Set<Integer> modifiedClusters = new HashSet<>();
+            for (final ORecordOperation recordOperation : recordOperations) {
+              if (recordOperation.type == ORecordOperation.UPDATED || recordOperation.type == ORecordOperation.DELETED) {
+                invalidateCachedRecord(recordOperation.getRID());
+              }
+
+              modifiedClusters.add(recordOperation.getRID().getClusterId());
+            }
+
+            for (final int clusterId : modifiedClusters) {
+              markClusterModified(clusterId);
+            }
           }
         } finally {
           atomicOperationsManager.ensureThatComponentsUnlocked();
@@ -2053,6 +2257,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
       }
 
+      // wait for the disk sync only once all locks are released, so concurrent commits can join the same sync
+      if (groupCommit && commitLsn != null && writeAheadLog != null) {
+        writeAheadLog.syncUpTo(commitLsn);
+      }
+
       if (OLogManager.instance().isDebugEnabled()) {
         OLogManager.instance()
             .debug(this, "%d Committed transaction %d on database '%s' (result=%s)", Thread.currentThread().getId(),
@@ -2679,6 +2888,52 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return engine.get(key);
   }
 
+  /**
+   * Looks up values of several keys of index at once.
+   *
+   * @param sortedKeys Keys sorted in ascending order.
+   *
+   * @return Values of the keys in the same order as in the passed in list, <code>null</code> if key is absent.
+   *
+   * @see OBaseIndexEngine#getMany(List)
+   */
+  public List<Object> getIndexValues(int indexId, final List<Object> sortedKeys) throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      if (transaction.get() != null) {
+        return doGetIndexValues(indexId, sortedKeys);
+      }
+
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        return doGetIndexValues(indexId, sortedKeys);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private List<Object> doGetIndexValues(final int indexId, final List<Object> sortedKeys) throws OInvalidIndexEngineIdException {
+    checkIndexId(indexId);
+
+    final OBaseIndexEngine engine = indexEngines.get(indexId);
+    assert indexId == engine.getId();
+
+    return engine.getMany(sortedKeys);
+  }
+
   public OBaseIndexEngine getIndexEngine(int indexId) throws OInvalidIndexEngineIdException {
     indexId = extractInternalId(indexId);
 
@@ -3069,6 +3324,65 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Fills empty index with the given index id by the given entries, keys of entries do not need to be sorted. Entries with equal
+   * keys are validated by the provided validator the same way as in {@link #validatedPutIndexValue(int, Object, ORID,
+   * OBaseIndexEngine.Validator)}.
+   *
+   * @return {@code false} if index engine does not support bulk load or index is not empty, entries are not consumed in such case.
+   */
+  public boolean bulkLoadIndex(int indexId, final Iterator<ORawPair<Object, ORID>> entries,
+      final OBaseIndexEngine.Validator<Object, ORID> validator) throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      if (transaction.get() != null) {
+        return doBulkLoadIndex(indexId, entries, validator);
+      }
+
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        checkLowDiskSpaceRequestsAndReadOnlyConditions();
+
+        return doBulkLoadIndex(indexId, entries, validator);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  private boolean doBulkLoadIndex(final int indexId, final Iterator<ORawPair<Object, ORID>> entries,
+      final OBaseIndexEngine.Validator<Object, ORID> validator) throws OInvalidIndexEngineIdException {
+    try {
+      checkIndexId(indexId);
+
+      final OBaseIndexEngine engine = indexEngines.get(indexId);
+      assert indexId == engine.getId();
+
+      if (!(engine instanceof OSingleValueIndexEngine)) {
+        return false;
+      }
+
+      makeStorageDirty();
+
+      return ((OSingleValueIndexEngine) engine).bulkLoad(entries, validator);
+    } catch (final IOException e) {
+      throw OException.wrapException(new OStorageException("Cannot perform bulk load of the index"), e);
+    }
+  }
+
   public Object getIndexFirstKey(int indexId) throws OInvalidIndexEngineIdException {
     indexId = extractInternalId(indexId);
 
@@ -4578,13 +4892,15 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  private void endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
+  private OLogSequenceNumber endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
       throws IOException {
-    atomicOperationsManager.endAtomicOperation(false);
+    final OLogSequenceNumber lsn = atomicOperationsManager.endAtomicOperation(false);
     assert OAtomicOperationsManager.getCurrentOperation() == null;
 
     OTransactionAbstract.updateCacheFromEntries(txi.getDatabase(), recordOperations, true);
     txCommit.incrementAndGet();
+
+    return lsn;
   }
 
   private void startStorageTx(final OTransactionInternal clientTx) throws IOException {
@@ -4660,6 +4976,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         throw ODatabaseException.wrapException(new OStorageException("Error during creation of record"), e);
       } finally {
         atomicOperationsManager.endAtomicOperation(rollback);
+        markClusterModified(cluster.getId());
       }
 
       if (callback != null) {
@@ -4732,6 +5049,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             .wrapException(new OStorageException("Error on updating record " + rid + " (cluster: " + cluster.getName() + ")"), e);
       } finally {
         atomicOperationsManager.endAtomicOperation(rollback);
+        invalidateCachedRecord(rid);
+        markClusterModified(rid.getClusterId());
       }
 
       //if we do not update content of the record we should keep version of the record the same
@@ -4805,6 +5124,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         throw e;
       } finally {
         atomicOperationsManager.endAtomicOperation(rollback);
+        invalidateCachedRecord(rid);
+        markClusterModified(rid.getClusterId());
       }
 
       if (OLogManager.instance().isDebugEnabled()) {
@@ -4855,8 +5176,23 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   private ORawBuffer doReadRecord(final OCluster clusterSegment, final ORecordId rid, final boolean prefetchRecords) {
     try {
+      // records changed by not committed atomic operation of the current thread should not be cached
+      final OSharedRecordCache recordCache = OAtomicOperationsManager.getCurrentOperation() == null ? sharedRecordCache : null;
+
+      final ORawBuffer buff;
+      if (recordCache != null) {
+        final ORawBuffer cachedBuff = recordCache.get(rid);
+        if (cachedBuff != null) {
+          recordRead.incrementAndGet();
+          return cachedBuff;
+        }
 
-      final ORawBuffer buff = clusterSegment.readRecord(rid.getClusterPosition(), prefetchRecords);
+        final long stamp = recordCache.stamp();
+        buff = clusterSegment.readRecord(rid.getClusterPosition(), prefetchRecords);
+        recordCache.put(rid, buff, stamp);
+      } else {
+        buff = clusterSegment.readRecord(rid.getClusterPosition(), prefetchRecords);
+      }
 
       if (buff != null && OLogManager.instance().isDebugEnabled()) {
         OLogManager.instance()
@@ -4871,6 +5207,51 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private void doReadRecords(final OCluster cluster, List<ORecordId> rids, final Map<ORecordId, ORawBuffer> result) {
+    final OSharedRecordCache recordCache = OAtomicOperationsManager.getCurrentOperation() == null ? sharedRecordCache : null;
+    if (recordCache != null) {
+      final List<ORecordId> notCachedRids = new ArrayList<>(rids.size());
+      for (final ORecordId rid : rids) {
+        final ORawBuffer cachedBuffer = recordCache.get(rid);
+        if (cachedBuffer != null) {
+          result.put(rid, cachedBuffer);
+          recordRead.incrementAndGet();
+        } else {
+          notCachedRids.add(rid);
+        }
+      }
+
+      rids = notCachedRids;
+      if (rids.isEmpty()) {
+        return;
+      }
+    }
+
+    final List<Long> positions = new ArrayList<>(rids.size());
+    for (final ORecordId rid : rids) {
+      positions.add(rid.getClusterPosition());
+    }
+
+    try {
+      final long stamp = recordCache != null ? recordCache.stamp() : 0;
+      final Map<Long, ORawBuffer> buffers = cluster.readRecords(positions);
+      for (final ORecordId rid : rids) {
+        final ORawBuffer buffer = buffers.get(rid.getClusterPosition());
+        if (buffer != null) {
+          result.put(rid, buffer);
+
+          if (recordCache != null) {
+            recordCache.put(rid, buffer, stamp);
+          }
+        }
+      }
+
+      recordRead.addAndGet(buffers.size());
+    } catch (final IOException e) {
+      throw OException.wrapException(new OStorageException("Error during read of records of cluster " + cluster.getName()), e);
+    }
+  }
+
   private static ORawBuffer doReadRecordIfNotLatest(final OCluster cluster, final ORecordId rid, final int recordVersion)
       throws ORecordNotFoundException {
     try {
@@ -4958,8 +5339,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     if (clusterName != null) {
       clusterName = clusterName.toLowerCase(configuration.getLocaleInstance());
 
-      cluster = OPaginatedClusterFactory
-          .createCluster(clusterName, configuration.getVersion(), OPaginatedCluster.getLatestBinaryVersion(), this);
+      cluster = OPaginatedClusterFactory.createCluster(clusterName, configuration.getVersion(),
+          configuration.getContextConfiguration().getValueAsInteger(OGlobalConfiguration.STORAGE_CLUSTER_VERSION), this);
       cluster.configure(clusterPos, clusterName);
     } else {
       cluster = null;
@@ -5094,6 +5475,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           configuration.getContextConfiguration().getValueAsString(OGlobalConfiguration.STORAGE_ENCRYPTION_KEY));
       changed = true;
       break;
+    case COMPRESSION:
+      cluster.setCompression(stringValue);
+      changed = true;
+      break;
     default:
       throw new IllegalArgumentException("Runtime change of attribute '" + attribute + " is not supported");
     }
@@ -5149,6 +5534,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         sbTreeCollectionManager.close();
 
+        if (sharedRecordCache != null) {
+          sharedRecordCache.clear();
+          sharedRecordCache = null;
+        }
+
         // we close all files inside cache system so we only clear cluster metadata
         clusters.clear();
         clusterMap.clear();
@@ -5209,6 +5599,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           OLogManager.instance().error(this, "MBean for write cache cannot be unregistered", e);
         }
 
+        cacheStatistics.unregisterMBean();
+
         postCloseSteps(onDelete, jvmError.get() != null);
         transaction = null;
       } else {
@@ -5625,8 +6017,24 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
       long lastReportTime = 0;
 
+      final boolean parallelRestore = OGlobalConfiguration.WAL_PARALLEL_RESTORE.getValueAsBoolean();
+      OWALReadAheadReader readAheadReader = null;
+      OPageRedoExecutor redoExecutor = null;
+      RuntimeException restoreError = null;
+
       try {
-        List<OWriteableWALRecord> records = writeAheadLog.read(lsn, 1_000);
+        List<OWriteableWALRecord> records;
+        if (parallelRestore) {
+          readAheadReader = new OWALReadAheadReader(writeAheadLog, lsn,
+              OGlobalConfiguration.WAL_RESTORE_BATCH_SIZE.getValueAsInteger(), 2, name);
+          redoExecutor = new OPageRedoExecutor(Math.max(1, OGlobalConfiguration.WAL_PARALLEL_RESTORE_THREADS.getValueAsInteger()),
+              this::restorePageChanges, name);
+
+          records = readAheadReader.nextBatch();
+        } else {
+          records = writeAheadLog.read(lsn, 1_000);
+        }
+
         while (!records.isEmpty()) {
           for (final OWriteableWALRecord walRecord : records) {
             logSequenceNumber = walRecord.getLsn();
@@ -5638,7 +6046,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               // in case of data restore from fuzzy checkpoint part of operations may be already flushed to the disk
               if (atomicUnit != null) {
                 atomicUnit.add(walRecord);
-                restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+                restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, redoExecutor);
               }
 
             } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -5685,18 +6093,46 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             }
           }
 
-          records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+          if (readAheadReader != null) {
+            records = readAheadReader.nextBatch();
+          } else {
+            records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
+          }
+        }
+
+        if (redoExecutor != null) {
+          redoExecutor.awaitCompletion();
         }
       } catch (final OWALPageBrokenException e) {
         OLogManager.instance()
             .errorNoDb(this, "Data restore was paused because broken WAL page was found. The rest of changes will be rolled back.",
                 e);
       } catch (final RuntimeException e) {
+        restoreError = e;
         OLogManager.instance().errorNoDb(this,
             "Data restore was paused because of exception. The rest of changes will be rolled back and WAL files will be backed up."
                 + " Please report issue about this exception to bug tracker and provide WAL files which are backed up in 'wal_backup' directory.",
             e);
         backUpWAL(e);
+      } finally {
+        if (readAheadReader != null) {
+          readAheadReader.close();
+        }
+
+        if (redoExecutor != null) {
+          try {
+            // changes which were already scheduled are valid, they belong to completed atomic operations
+            redoExecutor.awaitCompletion();
+          } catch (final RuntimeException e) {
+            // failure which was already reported above pauses restore as in case of sequential restore, any other failure means
+            // that changes of completed atomic operations were lost
+            if (e != restoreError) {
+              throw e;
+            }
+          } finally {
+            redoExecutor.close();
+          }
+        }
       }
 
       if (atLeastOnePageUpdate.getValue()) {
@@ -5785,9 +6221,22 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   @SuppressWarnings("WeakerAccess")
   protected final void restoreAtomicUnit(final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
       throws IOException {
+    restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, null);
+  }
+
+  /**
+   * @param redoExecutor if not <code>null</code> page changes are applied by the threads of the given executor, file creation and
+   *                     deletion are performed only once all previously scheduled page changes are applied.
+   */
+  private void restoreAtomicUnit(final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate,
+      final OPageRedoExecutor redoExecutor) throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
     for (final OWALRecord walRecord : atomicUnit) {
+      if (redoExecutor != null && (walRecord instanceof OFileDeletedWALRecord || walRecord instanceof OFileCreatedWALRecord)) {
+        redoExecutor.awaitCompletion();
+      }
+
       if (walRecord instanceof OFileDeletedWALRecord) {
         final OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
@@ -5815,26 +6264,19 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
-        fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
+        if (redoExecutor == null) {
+          restorePageChanges(updatePageRecord);
+        } else {
+          // pages are allocated by the single thread, so that redo threads only load pages which already exist
+          fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
+          final long pageIndex = updatePageRecord.getPageIndex();
 
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
+          while (writeCache.getFilledUpTo(fileId) <= pageIndex) {
+            final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+            readCache.releaseFromWrite(cacheEntry, writeCache, true);
+          }
 
-        try {
-          final ODurablePage durablePage = new ODurablePage(cacheEntry);
-          durablePage.restoreChanges(updatePageRecord.getChanges());
-          durablePage.setLsn(updatePageRecord.getLsn());
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
+          redoExecutor.submit(updatePageRecord);
         }
 
         atLeastOnePageUpdate.setValue(true);
@@ -5853,6 +6295,30 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private void restorePageChanges(final OUpdatePageRecord updatePageRecord) throws IOException {
+    final long fileId = writeCache.externalFileId(writeCache.internalFileId(updatePageRecord.getFileId()));
+    final long pageIndex = updatePageRecord.getPageIndex();
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
+    if (cacheEntry == null) {
+      do {
+        if (cacheEntry != null) {
+          readCache.releaseFromWrite(cacheEntry, writeCache, true);
+        }
+
+        cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+      } while (cacheEntry.getPageIndex() != pageIndex);
+    }
+
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      durablePage.restoreChanges(updatePageRecord.getChanges());
+      durablePage.setLsn(updatePageRecord.getLsn());
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
   /**
    * Method which is called before any data modification operation to check alarm conditions such as: <ol> <li>Low disk space</li>
    * <li>Exception during data flush in background threads</li> <li>Broken files</li> </ol>
@@ -6084,6 +6550,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     Orient.instance().getProfiler()
         .registerHookValue("db." + this.name + ".txRollback", "Number of rolled back transactions", OProfiler.METRIC_TYPE.COUNTER,
             new AtomicLongOProfilerHookValue(txRollback), "db.*.txRollback");
+
+    Orient.instance().getProfiler()
+        .registerHookValue("db." + this.name + ".sharedCacheHitRatio", "Ratio of reads of records served by shared record cache",
+            OProfiler.METRIC_TYPE.STAT, () -> {
+              final OSharedRecordCache recordCache = sharedRecordCache;
+              return recordCache != null ? recordCache.getHitRatio() : null;
+            }, "db.*.sharedCacheHitRatio");
   }
 
   protected final RuntimeException logAndPrepareForRethrow(final RuntimeException runtimeException) {
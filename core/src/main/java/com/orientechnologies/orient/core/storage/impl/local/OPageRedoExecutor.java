@@ -0,0 +1,184 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies page changes read from the WAL with several threads during data restore.
+ * <p>
+ * Changes are partitioned by <code>(fileId, pageIndex)</code>, every partition is served by a single thread in FIFO order, so
+ * changes of the same page are applied in the same LSN order they have in the WAL, while changes of different pages are applied in
+ * parallel. Operations which are not page local (creation and deletion of files) have to call {@link #awaitCompletion()} before
+ * they are performed.
+ */
+final class OPageRedoExecutor implements AutoCloseable {
+  private static final int QUEUE_SIZE = 4 * 1024;
+
+  /**
+   * Applies changes of single page, called by the redo threads
+   */
+  interface PageRedo {
+    void restorePage(OUpdatePageRecord updatePageRecord) throws IOException;
+  }
+
+  private final PageRedo                               pageRedo;
+  private final List<BlockingQueue<OUpdatePageRecord>> queues;
+  private final Thread[]                               threads;
+
+  private final    Object                     completionLock = new Object();
+  private          long                       pendingRecords = 0;
+  private final    AtomicReference<Throwable> error          = new AtomicReference<>();
+  private volatile boolean                    stopped;
+
+  OPageRedoExecutor(final int threadsCount, final PageRedo pageRedo, final String storageName) {
+    this.pageRedo = pageRedo;
+
+    queues = new ArrayList<>(threadsCount);
+    threads = new Thread[threadsCount];
+
+    for (int i = 0; i < threadsCount; i++) {
+      final BlockingQueue<OUpdatePageRecord> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+      queues.add(queue);
+
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, () -> redoPages(queue),
+          "OrientDB WAL redo (" + storageName + ") " + i);
+      thread.setDaemon(true);
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      threads[i] = thread;
+    }
+
+    for (final Thread thread : threads) {
+      thread.start();
+    }
+  }
+
+  /**
+   * Schedules changes of the page, they are applied after all the changes of the same page which were scheduled before.
+   */
+  void submit(final OUpdatePageRecord updatePageRecord) {
+    checkError();
+
+    synchronized (completionLock) {
+      pendingRecords++;
+    }
+
+    final int partition = partition(updatePageRecord.getFileId(), updatePageRecord.getPageIndex());
+    final BlockingQueue<OUpdatePageRecord> queue = queues.get(partition);
+    try {
+      while (!queue.offer(updatePageRecord, 100, TimeUnit.MILLISECONDS)) {
+        checkError();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("WAL redo was interrupted"), e);
+    }
+  }
+
+  /**
+   * Waits till all scheduled changes are applied.
+   */
+  void awaitCompletion() {
+    synchronized (completionLock) {
+      while (pendingRecords > 0 && error.get() == null) {
+        try {
+          completionLock.wait(100);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw OException.wrapException(new OStorageException("WAL redo was interrupted"), e);
+        }
+      }
+    }
+
+    checkError();
+  }
+
+  @Override
+  public void close() {
+    stopped = true;
+    for (final Thread thread : threads) {
+      try {
+        thread.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void redoPages(final BlockingQueue<OUpdatePageRecord> queue) {
+    while (true) {
+      final OUpdatePageRecord updatePageRecord;
+      try {
+        updatePageRecord = queue.poll(100, TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        fail(e);
+        return;
+      }
+
+      if (updatePageRecord == null) {
+        if (stopped) {
+          return;
+        }
+        continue;
+      }
+
+      try {
+        if (error.get() == null) {
+          pageRedo.restorePage(updatePageRecord);
+        }
+      } catch (final Throwable t) {
+        fail(t);
+      } finally {
+        synchronized (completionLock) {
+          pendingRecords--;
+          if (pendingRecords == 0 || error.get() != null) {
+            completionLock.notifyAll();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Keeps the first error, checked exceptions are wrapped once, so the same exception is thrown by all the calls of {@link
+   * #submit(OUpdatePageRecord)} and {@link #awaitCompletion()}.
+   */
+  private void fail(final Throwable t) {
+    if (t instanceof RuntimeException || t instanceof Error) {
+      error.compareAndSet(null, t);
+    } else {
+      error.compareAndSet(null, OException.wrapException(new OStorageException("Error during restore of page changes"), t));
+    }
+  }
+
+  private void checkError() {
+    final Throwable t = error.get();
+    if (t == null) {
+      return;
+    }
+
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+
+    throw (RuntimeException) t;
+  }
+
+  private int partition(final long fileId, final long pageIndex) {
+    long hash = fileId * 31 + pageIndex;
+    hash ^= (hash >>> 32);
+    hash ^= (hash >>> 16);
+    return (int) ((hash & Long.MAX_VALUE) % queues.size());
+  }
+}
@@ -0,0 +1,125 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OWriteableWALRecord;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads batches of WAL records in a dedicated thread, so that reading and deserialization of the next WAL pages overlap with the
+ * replay of the current batch during data restore.
+ * <p>
+ * Batches are returned in the same order as {@link OWriteAheadLog#read(OLogSequenceNumber, int)} and {@link
+ * OWriteAheadLog#next(OLogSequenceNumber, int)} would return them. An exception thrown by the reader thread is rethrown by {@link
+ * #nextBatch()} once all the batches read before it are consumed.
+ */
+final class OWALReadAheadReader implements AutoCloseable {
+  private static final List<OWriteableWALRecord> END_OF_LOG = Collections.emptyList();
+
+  private final OWriteAheadLog                            writeAheadLog;
+  private final OLogSequenceNumber                        startLsn;
+  private final int                                       batchSize;
+  private final BlockingQueue<List<OWriteableWALRecord>> batches;
+  private final Thread                                    readerThread;
+
+  private volatile Throwable error;
+  private volatile boolean   stopped;
+  private          boolean   endReached;
+
+  OWALReadAheadReader(final OWriteAheadLog writeAheadLog, final OLogSequenceNumber startLsn, final int batchSize,
+      final int batchesAhead, final String storageName) {
+    this.writeAheadLog = writeAheadLog;
+    this.startLsn = startLsn;
+    this.batchSize = batchSize;
+    this.batches = new ArrayBlockingQueue<>(Math.max(1, batchesAhead) + 1);
+
+    readerThread = new Thread(OStorageAbstract.storageThreadGroup, this::readRecords,
+        "OrientDB WAL read ahead (" + storageName + ")");
+    readerThread.setDaemon(true);
+    readerThread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+    readerThread.start();
+  }
+
+  /**
+   * @return the next batch of WAL records, or an empty list when the end of the log is reached
+   */
+  List<OWriteableWALRecord> nextBatch() throws IOException {
+    if (endReached) {
+      return END_OF_LOG;
+    }
+
+    final List<OWriteableWALRecord> batch;
+    try {
+      batch = batches.take();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("WAL read ahead was interrupted"), e);
+    }
+
+    if (batch == END_OF_LOG) {
+      endReached = true;
+
+      final Throwable readError = error;
+      if (readError instanceof IOException) {
+        throw (IOException) readError;
+      } else if (readError instanceof RuntimeException) {
+        throw (RuntimeException) readError;
+      } else if (readError instanceof Error) {
+        throw (Error) readError;
+      } else if (readError != null) {
+        throw OException.wrapException(new OStorageException("Error during reading of WAL"), readError);
+      }
+    }
+
+    return batch;
+  }
+
+  @Override
+  public void close() {
+    stopped = true;
+    batches.clear();
+
+    try {
+      readerThread.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void readRecords() {
+    try {
+      List<OWriteableWALRecord> records = writeAheadLog.read(startLsn, batchSize);
+      while (!records.isEmpty() && !stopped) {
+        enqueue(records);
+        records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), batchSize);
+      }
+    } catch (final Throwable t) {
+      error = t;
+    } finally {
+      try {
+        enqueue(END_OF_LOG);
+      } catch (final InterruptedException e) {
+        OLogManager.instance().errorNoDb(this, "WAL read ahead thread was interrupted", e);
+      }
+    }
+  }
+
+  private void enqueue(final List<OWriteableWALRecord> records) throws InterruptedException {
+    while (!stopped) {
+      if (batches.offer(records, 100, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+}
@@ -66,6 +66,14 @@ public interface OAtomicOperation {
 
   Iterable<String> lockedObjects();
 
+  /**
+   * Registers action which is executed if this atomic operation is rolled back, before locks of its components are released. Only
+   * the first action registered under the given key is kept, so component may register its action on each change.
+   */
+  void addRollbackAction(String key, Runnable action);
+
+  Iterable<Runnable> rollbackActions();
+
   void addDeletedRecordPosition(final int clusterId, final int pageIndex, final int recordPosition);
 
   Set<Integer> getBookedRecordPositions(final int clusterId, final int pageIndex);
@@ -65,6 +65,8 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
 
   private final Map<ORawPair<Integer, Integer>, Set<Integer>> deletedRecordPositions = new HashMap<>();
 
+  private final Map<String, Runnable> rollbackActions = new LinkedHashMap<>();
+
   OAtomicOperationBinaryTracking(final OLogSequenceNumber startLSN, final OOperationUnitId operationUnitId,
       final OReadCache readCache, final OWriteCache writeCache, final int storageId) {
     this.storageId = storageId;
@@ -589,6 +591,16 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
     return lockedObjects;
   }
 
+  @Override
+  public void addRollbackAction(final String key, final Runnable action) {
+    rollbackActions.putIfAbsent(key, action);
+  }
+
+  @Override
+  public Iterable<Runnable> rollbackActions() {
+    return rollbackActions.values();
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -47,6 +47,8 @@ final class OAtomicOperationPageOperationsTracking implements OAtomicOperation {
 
   private final Map<ORawPair<Integer, Integer>, Set<Integer>> deletedRecordPositions = new HashMap<>();
 
+  private final Map<String, Runnable> rollbackActions = new LinkedHashMap<>();
+
   OAtomicOperationPageOperationsTracking(OReadCache readCache, OWriteCache writeCache, OWriteAheadLog writeAheadLog,
       OOperationUnitId operationUnitId, int operationsCacheLimit, OLogSequenceNumber startLSN) {
     this.readCache = readCache;
@@ -192,6 +194,16 @@ final class OAtomicOperationPageOperationsTracking implements OAtomicOperation {
     return lockedObjects;
   }
 
+  @Override
+  public void addRollbackAction(final String key, final Runnable action) {
+    rollbackActions.putIfAbsent(key, action);
+  }
+
+  @Override
+  public Iterable<Runnable> rollbackActions() {
+    return rollbackActions.values();
+  }
+
   @Override
   public void rollbackInProgress() {
     rollbackInProgress = true;
@@ -53,6 +53,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -97,6 +98,14 @@ public class OAtomicOperationsManager {
   private final OReadCache                         readCache;
   private final OWriteCache                        writeCache;
 
+  /**
+   * Write stamps of components which are held by atomic operations together with exclusive component locks, they are used by
+   * readers which traverse component pages without acquisition of any lock and validate read data at the end. Only populated if
+   * {@link OGlobalConfiguration#INDEX_OPTIMISTIC_READS} is switched on.
+   */
+  private final ConcurrentMap<String, StampedLock> optimisticLocks = new ConcurrentHashMap<>();
+  private final boolean                           optimisticReads;
+
   public OAtomicOperationsManager(OAbstractPaginatedStorage storage, boolean trackPageOperations, int operationsCacheLimit) {
     this.storage = storage;
     this.writeAheadLog = storage.getWALInstance();
@@ -105,6 +114,7 @@ public class OAtomicOperationsManager {
 
     this.trackPageOperations = trackPageOperations;
     this.operationsCacheLimit = operationsCacheLimit;
+    this.optimisticReads = OGlobalConfiguration.INDEX_OPTIMISTIC_READS.getValueAsBoolean();
   }
 
   /**
@@ -204,7 +214,7 @@ public class OAtomicOperationsManager {
         final String lockedObject = lockedObjectIterator.next();
         lockedObjectIterator.remove();
 
-        lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
+        releaseExclusiveLock(lockedObject);
       }
 
       throw e;
@@ -391,16 +401,24 @@ public class OAtomicOperationsManager {
             lsn = null;
           }
         } finally {
-          final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
-
-          while (lockedObjectIterator.hasNext()) {
-            final String lockedObject = lockedObjectIterator.next();
-            lockedObjectIterator.remove();
-
-            lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
+          try {
+            if (operation.isRollbackInProgress()) {
+              for (final Runnable action : operation.rollbackActions()) {
+                action.run();
+              }
+            }
+          } finally {
+            final Iterator<String> lockedObjectIterator = operation.lockedObjects().iterator();
+
+            while (lockedObjectIterator.hasNext()) {
+              final String lockedObject = lockedObjectIterator.next();
+              lockedObjectIterator.remove();
+
+              releaseExclusiveLock(lockedObject);
+            }
+
+            currentOperation.set(null);
           }
-
-          currentOperation.set(null);
         }
       } else {
         lsn = null;
@@ -431,7 +449,7 @@ public class OAtomicOperationsManager {
         final String lockedObject = lockedObjectIterator.next();
         lockedObjectIterator.remove();
 
-        lockManager.releaseLock(this, lockedObject, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
+        releaseExclusiveLock(lockedObject);
       }
     }
   }
@@ -449,6 +467,51 @@ public class OAtomicOperationsManager {
 
     lockManager.acquireLock(lockName, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
     operation.addLockedObject(lockName);
+
+    if (optimisticReads) {
+      optimisticLock(lockName).writeLock();
+    }
+  }
+
+  private void releaseExclusiveLock(final String lockName) {
+    if (optimisticReads) {
+      optimisticLock(lockName).tryUnlockWrite();
+    }
+
+    lockManager.releaseLock(this, lockName, OOneEntryPerKeyLockManager.LOCK.EXCLUSIVE);
+  }
+
+  private StampedLock optimisticLock(final String lockName) {
+    final StampedLock lock = optimisticLocks.get(lockName);
+    if (lock != null) {
+      return lock;
+    }
+
+    return optimisticLocks.computeIfAbsent(lockName, (name) -> new StampedLock());
+  }
+
+  /**
+   * Starts optimistic read of the data of the given component. Optimistic read does not acquire any lock, so pages of the
+   * component may be changed by concurrent atomic operation during the read and all data gathered during the read should be
+   * validated by {@link #validateOptimisticRead(ODurableComponent, long)} before it is used.
+   *
+   * @return stamp of the read or {@code 0} if optimistic reads are switched off or component is changed by atomic operation at
+   * the moment.
+   */
+  public long tryOptimisticRead(ODurableComponent durableComponent) {
+    if (!optimisticReads) {
+      return 0;
+    }
+
+    return optimisticLock(durableComponent.getLockName()).tryOptimisticRead();
+  }
+
+  /**
+   * @return {@code true} if none of atomic operations acquired exclusive lock on the given component since the optimistic read
+   * with the given stamp was started.
+   */
+  public boolean validateOptimisticRead(ODurableComponent durableComponent, long stamp) {
+    return stamp != 0 && optimisticLock(durableComponent.getLockName()).validate(stamp);
   }
 
   /**
@@ -112,6 +112,29 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
     return atomicOperationsManager.startAtomicOperation(this, trackNonTxOperations);
   }
 
+  /**
+   * Starts read of component data without acquisition of locks. Read is not started if it is performed inside of atomic operation,
+   * because changes of atomic operation are not visible to the optimistic readers.
+   *
+   * @return stamp of the read or {@code 0} if data should be read under the lock.
+   *
+   * @see OAtomicOperationsManager#tryOptimisticRead(ODurableComponent)
+   */
+  protected long tryOptimisticRead() {
+    if (OAtomicOperationsManager.getCurrentOperation() != null) {
+      return 0;
+    }
+
+    return atomicOperationsManager.tryOptimisticRead(this);
+  }
+
+  /**
+   * @see OAtomicOperationsManager#validateOptimisticRead(ODurableComponent, long)
+   */
+  protected boolean validateOptimisticRead(final long stamp) {
+    return atomicOperationsManager.validateOptimisticRead(this, stamp);
+  }
+
   protected long getFilledUpTo(final OAtomicOperation atomicOperation, final long fileId) {
     if (atomicOperation == null) {
       return writeCache.getFilledUpTo(fileId);
@@ -158,6 +158,10 @@ public class OMemoryWriteAheadLog extends OAbstractWriteAheadLog {
     event.run();
   }
 
+  @Override
+  public void syncUpTo(OLogSequenceNumber lsn) {
+  }
+
   @Override
   public boolean appendNewSegment() {
     return false;
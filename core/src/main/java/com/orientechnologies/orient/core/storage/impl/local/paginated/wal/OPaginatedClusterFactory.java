@@ -47,7 +47,8 @@ public final class OPaginatedClusterFactory {
     case 1:
       return new OPaginatedClusterV1(name, storage);
     case 2:
-      return new OPaginatedClusterV2(name, storage);
+    case 3:
+      return new OPaginatedClusterV2(name, binaryVersion, storage);
     default:
       throw new IllegalStateException("Invalid binary version of cluster " + binaryVersion);
     }
@@ -61,7 +62,8 @@ public final class OPaginatedClusterFactory {
     case 1:
       return new OPaginatedClusterV1(name, dataExtension, cpmExtension, storage);
     case 2:
-      return new OPaginatedClusterV2(name, dataExtension, cpmExtension, storage);
+    case 3:
+      return new OPaginatedClusterV2(name, binaryVersion, dataExtension, cpmExtension, storage);
     default:
       throw new IllegalStateException("Invalid binary version of cluster " + binaryVersion);
     }
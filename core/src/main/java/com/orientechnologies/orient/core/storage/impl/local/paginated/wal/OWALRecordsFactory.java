@@ -89,10 +89,22 @@ public final class OWALRecordsFactory {
 
   public static final OWALRecordsFactory INSTANCE = new OWALRecordsFactory();
 
-  private static final LZ4Factory factory                    = LZ4Factory.fastestInstance();
-  private static final int        MIN_COMPRESSED_RECORD_SIZE = 8 * 1024;
+  public static final int MIN_COMPRESSED_RECORD_SIZE = 8 * 1024;
+
+  private static final LZ4Factory factory = LZ4Factory.fastestInstance();
 
   public static OPair<ByteBuffer, Long> toStream(final OWriteableWALRecord walRecord) {
+    return toStream(walRecord, MIN_COMPRESSED_RECORD_SIZE);
+  }
+
+  /**
+   * Serializes WAL record, records which are not smaller than <code>minCompressedRecordSize</code> are compressed by LZ4 if
+   * compression decreases their size.
+   *
+   * @param minCompressedRecordSize minimal size of serialized record which is compressed, if value is not positive records are
+   *                                not compressed at all
+   */
+  public static OPair<ByteBuffer, Long> toStream(final OWriteableWALRecord walRecord, final int minCompressedRecordSize) {
     final int contentSize = walRecord.serializedSize() + 1;
 
     final ByteBuffer content = ByteBuffer.allocate(contentSize).order(ByteOrder.nativeOrder());
@@ -101,7 +113,7 @@ public final class OWALRecordsFactory {
     content.put(recordId);
     walRecord.toStream(content);
 
-    if (MIN_COMPRESSED_RECORD_SIZE <= 0 || contentSize < MIN_COMPRESSED_RECORD_SIZE) {
+    if (minCompressedRecordSize <= 0 || contentSize < minCompressedRecordSize) {
       return new OPair<>(content, 0L);
     }
 
@@ -146,6 +146,14 @@ public interface OWriteAheadLog {
    */
   void addEventAt(OLogSequenceNumber lsn, Runnable event);
 
+  /**
+   * Forces the write of the log content up to the given LSN to the disk and waits till it is done. Implementations may coalesce
+   * requests of concurrent threads, so that a single fsync serves all of them (group commit).
+   *
+   * @param lsn the LSN of the last record which has to be durable once this method returns.
+   */
+  void syncUpTo(OLogSequenceNumber lsn);
+
   /**
    * Adds new segment so all subsequent log entries will be added to this new segment.
    * New segment can not be appended if:
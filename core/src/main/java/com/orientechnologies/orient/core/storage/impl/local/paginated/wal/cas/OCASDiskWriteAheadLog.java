@@ -13,6 +13,7 @@ import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.types.OModifiableLong;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OInvalidStorageEncryptionKeyException;
 import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -46,6 +47,7 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -202,6 +204,17 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
   private final LongAdder threadsWaitingSum   = new LongAdder();
   private final LongAdder threadsWaitingCount = new LongAdder();
 
+  private volatile int minCompressedRecordSize = OWALRecordsFactory.MIN_COMPRESSED_RECORD_SIZE;
+
+  private final LongAdder compressionInputBytes  = new LongAdder();
+  private final LongAdder compressionOutputBytes = new LongAdder();
+  private final LongAdder compressionTime        = new LongAdder();
+
+  private volatile int           groupCommitWindow   = OGlobalConfiguration.WAL_GROUP_COMMIT_WINDOW.getValueAsInteger();
+  private final    AtomicBoolean groupSyncScheduled  = new AtomicBoolean();
+  private final    LongAdder     groupSyncRequests   = new LongAdder();
+  private final    LongAdder     groupSyncsPerformed = new LongAdder();
+
   private long reportTs = -1;
 
   private volatile boolean stopWrite = false;
@@ -891,6 +904,77 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The first thread which requests a sync schedules it after the group commit window (see {@link #setGroupCommitWindow(int)}),
+   * threads which request a sync within this window are released by the same fsync through {@link #addEventAt(OLogSequenceNumber,
+   * Runnable)} events.
+   */
+  @Override
+  public void syncUpTo(final OLogSequenceNumber lsn) {
+    final OLogSequenceNumber localFlushedLsn = flushedLSN;
+    if (localFlushedLsn != null && lsn.compareTo(localFlushedLsn) <= 0) {
+      return;
+    }
+
+    groupSyncRequests.increment();
+
+    final CountDownLatch syncLatch = new CountDownLatch(1);
+    addEventAt(lsn, syncLatch::countDown);
+
+    scheduleGroupSync();
+
+    try {
+      while (!syncLatch.await(commitDelay, TimeUnit.MILLISECONDS)) {
+        if (stopWrite) {
+          throw new OStorageException("WAL was closed before records were synced on disk");
+        }
+
+        // previous sync may have been done before our record was written, request one more
+        scheduleGroupSync();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OStorageException("Waiting for WAL sync was interrupted"), e);
+    }
+  }
+
+  private void scheduleGroupSync() {
+    if (groupSyncScheduled.compareAndSet(false, true)) {
+      commitExecutor.schedule(() -> {
+        // records which are logged after this point will request the next sync
+        groupSyncScheduled.set(false);
+        groupSyncsPerformed.increment();
+
+        new RecordsWriter(true, true, false).run();
+      }, groupCommitWindow, TimeUnit.MICROSECONDS);
+    }
+  }
+
+  /**
+   * Sets the interval during which requests of {@link #syncUpTo(OLogSequenceNumber)} are collected to be served by a single fsync.
+   *
+   * @param groupCommitWindow interval in microseconds
+   */
+  public void setGroupCommitWindow(final int groupCommitWindow) {
+    this.groupCommitWindow = Math.max(0, groupCommitWindow);
+  }
+
+  /**
+   * @return the number of {@link #syncUpTo(OLogSequenceNumber)} requests which had to wait for fsync since the WAL was opened
+   */
+  public long getGroupSyncRequests() {
+    return groupSyncRequests.sum();
+  }
+
+  /**
+   * @return the number of fsyncs performed to serve {@link #syncUpTo(OLogSequenceNumber)} requests since the WAL was opened
+   */
+  public long getGroupSyncsPerformed() {
+    return groupSyncsPerformed.sum();
+  }
+
   public void delete() throws IOException {
     final List<Long> segmentsToDelete = new ArrayList<>(this.segments.size());
     segmentsToDelete.addAll(segments);
@@ -1288,7 +1372,18 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
 
   private OLogSequenceNumber doLogRecord(final OWriteableWALRecord writeableRecord) {
     if (writeableRecord.getBinaryContentLen() < 0) {
-      final OPair<ByteBuffer, Long> serializedRecord = OWALRecordsFactory.toStream(writeableRecord);
+      final int minCompressedRecordSize = this.minCompressedRecordSize;
+      final int recordSize = writeableRecord.serializedSize() + 1;
+      final boolean compressionCandidate = minCompressedRecordSize > 0 && recordSize >= minCompressedRecordSize;
+
+      final long startTs = compressionCandidate ? System.nanoTime() : 0;
+      final OPair<ByteBuffer, Long> serializedRecord = OWALRecordsFactory.toStream(writeableRecord, minCompressedRecordSize);
+      if (compressionCandidate) {
+        compressionTime.add(System.nanoTime() - startTs);
+        compressionInputBytes.add(recordSize);
+        compressionOutputBytes.add(serializedRecord.key.limit());
+      }
+
       writeableRecord.setBinaryContent(serializedRecord.key, serializedRecord.value);
     }
 
@@ -1462,6 +1557,39 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
     }
   }
 
+  /**
+   * Sets minimal size of serialized record which is compressed by LZ4 before it is written to the WAL.
+   *
+   * @param minCompressedRecordSize minimal size of compressed record in bytes, if value is not positive compression is switched
+   *                                off
+   */
+  public void setMinCompressedRecordSize(final int minCompressedRecordSize) {
+    this.minCompressedRecordSize = minCompressedRecordSize;
+  }
+
+  /**
+   * @return total size of records (in bytes) which were passed to the compression since the WAL was opened, or since the last
+   * report of WAL statistics if printing of performance statistic is switched on
+   */
+  public long getCompressionInputBytes() {
+    return compressionInputBytes.sum();
+  }
+
+  /**
+   * @return total size of records (in bytes) which were passed to the compression, after the compression. Records which were not
+   * compressed because compression did not decrease their size are accounted with their original size.
+   */
+  public long getCompressionOutputBytes() {
+    return compressionOutputBytes.sum();
+  }
+
+  /**
+   * @return time in nanoseconds spent on serialization and compression of the records which were passed to the compression
+   */
+  public long getCompressionTime() {
+    return compressionTime.sum();
+  }
+
   public OLogSequenceNumber getFlushedLsn() {
     return flushedLSN;
   }
@@ -2197,6 +2325,10 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
       });
     }
 
+    private long kbPerSecond(final long bytes, final long nanos) {
+      return (long) (bytes * 1_000_000_000.0 / nanos / 1024);
+    }
+
     private void printReport() {
       final long ts = System.nanoTime();
       final long reportInterval;
@@ -2220,10 +2352,26 @@ public final class OCASDiskWriteAheadLog implements OWriteAheadLog {
 
         OLogManager.instance().infoNoDb(this, "WAL stat:%s: %d KB was written, write speed is %d KB/s. FSync count %d. "
                 + "Avg. fsync time %d ms. %d times threads were waiting for WAL. Avg wait interval %d ms.", storageName,
-            bytesWritten / 1024, writtenTime > 0 ? 1_000_000_000L * bytesWritten / writtenTime / 1024 : -1, fsyncCount,
+            bytesWritten / 1024, writtenTime > 0 ? kbPerSecond(bytesWritten, writtenTime) : -1, fsyncCount,
             fsyncCount > 0 ? fsyncTime / fsyncCount / 1_000_000 : -1, threadsWaitingCount,
             threadsWaitingCount > 0 ? threadsWaitingSum / threadsWaitingCount / 1_000_000 : -1);
 
+        final long compressionInputBytes = OCASDiskWriteAheadLog.this.compressionInputBytes.sum();
+        if (compressionInputBytes > 0) {
+          final long compressionOutputBytes = OCASDiskWriteAheadLog.this.compressionOutputBytes.sum();
+          final long compressionTime = OCASDiskWriteAheadLog.this.compressionTime.sum();
+
+          OLogManager.instance().infoNoDb(this,
+              "WAL compression stat:%s: %d KB were compressed to %d KB, compression ratio is %.2f. "
+                  + "Compression speed is %d KB/s.", storageName, compressionInputBytes / 1024, compressionOutputBytes / 1024,
+              (double) compressionInputBytes / compressionOutputBytes,
+              compressionTime > 0 ? kbPerSecond(compressionInputBytes, compressionTime) : -1);
+
+          OCASDiskWriteAheadLog.this.compressionInputBytes.add(-compressionInputBytes);
+          OCASDiskWriteAheadLog.this.compressionOutputBytes.add(-compressionOutputBytes);
+          OCASDiskWriteAheadLog.this.compressionTime.add(-compressionTime);
+        }
+
         //noinspection NonAtomicOperationOnVolatileField
         OCASDiskWriteAheadLog.this.bytesWrittenSum -= bytesWritten;
         //noinspection NonAtomicOperationOnVolatileField
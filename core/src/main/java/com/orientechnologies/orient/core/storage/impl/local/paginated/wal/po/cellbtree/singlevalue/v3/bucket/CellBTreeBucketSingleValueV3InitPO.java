@@ -10,18 +10,20 @@ import java.nio.ByteBuffer;
 
 public final class CellBTreeBucketSingleValueV3InitPO extends PageOperationRecord {
   private boolean isLeaf;
+  private boolean keyPrefixCompression;
 
   public CellBTreeBucketSingleValueV3InitPO() {
   }
 
-  public CellBTreeBucketSingleValueV3InitPO(boolean isLeaf) {
+  public CellBTreeBucketSingleValueV3InitPO(boolean isLeaf, boolean keyPrefixCompression) {
     this.isLeaf = isLeaf;
+    this.keyPrefixCompression = keyPrefixCompression;
   }
 
   @Override
   public void redo(OCacheEntry cacheEntry) {
     final CellBTreeSingleValueBucketV3 bucket = new CellBTreeSingleValueBucketV3(cacheEntry);
-    bucket.init(isLeaf);
+    bucket.init(isLeaf, keyPrefixCompression);
   }
 
   @Override
@@ -42,13 +44,22 @@ public final class CellBTreeBucketSingleValueV3InitPO extends PageOperationRecor
   protected void serializeToByteBuffer(ByteBuffer buffer) {
     super.serializeToByteBuffer(buffer);
 
-    buffer.put(isLeaf ? (byte) 1 : 0);
+    // records written before introduction of key prefix compression contain leaf flag only
+    byte flags = isLeaf ? (byte) 1 : 0;
+    if (keyPrefixCompression) {
+      flags |= 2;
+    }
+
+    buffer.put(flags);
   }
 
   @Override
   protected void deserializeFromByteBuffer(ByteBuffer buffer) {
     super.deserializeFromByteBuffer(buffer);
 
-    isLeaf = buffer.get() > 0;
+    final byte flags = buffer.get();
+
+    isLeaf = (flags & 1) != 0;
+    keyPrefixCompression = (flags & 2) != 0;
   }
 }
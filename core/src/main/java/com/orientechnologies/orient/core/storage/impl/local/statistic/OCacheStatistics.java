@@ -0,0 +1,128 @@
+package com.orientechnologies.orient.core.storage.impl.local.statistic;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.storage.cache.OCacheFileStatistic;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementation of {@link OCacheStatisticsMXBean} which delegates to {@link OAbstractPaginatedStorage#getCacheFileStatistics()}.
+ * Statistics of all files are gathered at most once per {@link #SNAPSHOT_INTERVAL} milliseconds, so attributes which are read
+ * together by JMX clients are gathered only once.
+ */
+public final class OCacheStatistics implements OCacheStatisticsMXBean {
+  private static final String MBEAN_PREFIX = "com.orientechnologies.orient.core.storage.impl.local.statistic:type=OCacheStatisticsMXBean";
+
+  private static final long SNAPSHOT_INTERVAL = 1_000;
+
+  private final OAbstractPaginatedStorage storage;
+
+  private ObjectName mbeanName;
+
+  private volatile Snapshot snapshot;
+
+  public OCacheStatistics(final OAbstractPaginatedStorage storage) {
+    this.storage = storage;
+  }
+
+  /**
+   * Registers JMX bean for the storage of this instance.
+   *
+   * @param storageName Name of the storage
+   * @param storageId   Id of the storage
+   */
+  public synchronized void registerMBean(final String storageName, final int storageId) {
+    if (mbeanName != null) {
+      return;
+    }
+
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = new ObjectName(MBEAN_PREFIX + ",name=" + ObjectName.quote(storageName) + ",id=" + storageId);
+      if (!server.isRegistered(name)) {
+        server.registerMBean(this, name);
+        mbeanName = name;
+      } else {
+        OLogManager.instance().warn(this,
+            "MBean with name %s has already registered. Probably your system was not shutdown correctly"
+                + " or you have several running applications which use OrientDB engine inside", name.getCanonicalName());
+      }
+    } catch (final Exception e) {
+      OLogManager.instance().warn(this, "Error during registration of cache statistics MBean", e);
+    }
+  }
+
+  /**
+   * Deregisters JMX bean registered by {@link #registerMBean(String, int)}.
+   */
+  public synchronized void unregisterMBean() {
+    if (mbeanName == null) {
+      return;
+    }
+
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+    } catch (final Exception e) {
+      OLogManager.instance().warn(this, "Error during unregistration of cache statistics MBean", e);
+    } finally {
+      mbeanName = null;
+    }
+  }
+
+  @Override
+  public List<OCacheFileStatistic> getFileStatistics() {
+    return snapshot().fileStatistics;
+  }
+
+  @Override
+  public int getReadCacheHitRate() {
+    return snapshot().readCacheHitRate;
+  }
+
+  @Override
+  public long getDirtyPages() {
+    return snapshot().dirtyPages;
+  }
+
+  private Snapshot snapshot() {
+    final long now = System.currentTimeMillis();
+
+    Snapshot current = snapshot;
+    if (current == null || now - current.timestamp >= SNAPSHOT_INTERVAL) {
+      current = new Snapshot(now, storage.getCacheFileStatistics());
+      snapshot = current;
+    }
+
+    return current;
+  }
+
+  private static final class Snapshot {
+    private final long                      timestamp;
+    private final List<OCacheFileStatistic> fileStatistics;
+    private final int                       readCacheHitRate;
+    private final long                      dirtyPages;
+
+    private Snapshot(final long timestamp, final List<OCacheFileStatistic> fileStatistics) {
+      this.timestamp = timestamp;
+      this.fileStatistics = Collections.unmodifiableList(fileStatistics);
+
+      long requests = 0;
+      long hits = 0;
+      long dirtyPages = 0;
+
+      for (final OCacheFileStatistic statistic : fileStatistics) {
+        requests += statistic.getReadCacheRequests();
+        hits += statistic.getReadCacheHits();
+        dirtyPages += statistic.getDirtyPages();
+      }
+
+      this.readCacheHitRate = requests == 0 ? -1 : (int) (hits * 100 / requests);
+      this.dirtyPages = dirtyPages;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.orientechnologies.orient.core.storage.impl.local.statistic;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheFileStatistic;
+
+import java.util.List;
+
+/**
+ * JMX bean which exposes per file statistics of read and write caches of the storage.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#DISK_CACHE_STATISTICS
+ */
+public interface OCacheStatisticsMXBean {
+  /**
+   * @return Statistics of read and write caches for each file of the storage
+   */
+  List<OCacheFileStatistic> getFileStatistics();
+
+  /**
+   * @return Percent of page requests which were served by read cache for all files of the storage, or <code>-1</code> if there
+   * were no requests
+   */
+  int getReadCacheHitRate();
+
+  /**
+   * @return Amount of pages which are changed but not flushed to the disk yet for all files of the storage
+   */
+  long getDirtyPages();
+}
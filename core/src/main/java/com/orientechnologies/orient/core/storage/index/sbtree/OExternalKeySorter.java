@@ -0,0 +1,223 @@
+package com.orientechnologies.orient.core.storage.index.sbtree;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * External merge sort of index entries which is used during bulk build of index.
+ * <p>
+ * Entries are accumulated in memory till the size of the buffer is reached, then they are sorted and spilled to the temporary file
+ * as a single sorted run. At the end all runs are merged by the heap of their heads. Entries with equal keys are returned in the
+ * order of their addition.
+ */
+public final class OExternalKeySorter<K> implements Closeable {
+  /**
+   * Approximate amount of memory consumed by single entry in addition to the serialized key.
+   */
+  private static final int ENTRY_OVERHEAD = 64;
+
+  private final OBinarySerializer<K>  keySerializer;
+  private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
+  private final long                  bufferSize;
+
+  private final List<Entry<K>> buffer = new ArrayList<>();
+  private       long           bufferedBytes;
+
+  private final List<Run> runs = new ArrayList<>();
+
+  private final List<DataInputStream> openedRuns = new ArrayList<>();
+
+  /**
+   * @param keySerializer Serializer which is used to deserialize keys spilled to the disk
+   * @param bufferSize    Size of memory buffer in bytes
+   */
+  public OExternalKeySorter(final OBinarySerializer<K> keySerializer, final long bufferSize) {
+    this.keySerializer = keySerializer;
+    this.bufferSize = bufferSize;
+  }
+
+  public void add(final K key, final byte[] serializedKey, final ORID value) throws IOException {
+    buffer.add(new Entry<>(key, serializedKey, value));
+    bufferedBytes += serializedKey.length + ENTRY_OVERHEAD;
+
+    if (bufferedBytes >= bufferSize) {
+      spill();
+    }
+  }
+
+  /**
+   * @return Amount of sorted runs spilled to the disk
+   */
+  public int getRuns() {
+    return runs.size();
+  }
+
+  /**
+   * @return Iterator over all added entries sorted by key, no entries may be added after this call.
+   */
+  public Iterator<Entry<K>> sorted() throws IOException {
+    if (runs.isEmpty()) {
+      buffer.sort((first, second) -> comparator.compare(first.key, second.key));
+      return buffer.iterator();
+    }
+
+    if (!buffer.isEmpty()) {
+      spill();
+    }
+
+    return new MergeIterator();
+  }
+
+  @Override
+  public void close() {
+    for (final DataInputStream stream : openedRuns) {
+      try {
+        stream.close();
+      } catch (final IOException e) {
+        OLogManager.instance().warn(this, "Can not close file of sorted run of index keys", e);
+      }
+    }
+    openedRuns.clear();
+
+    for (final Run run : runs) {
+      try {
+        Files.deleteIfExists(run.path);
+      } catch (final IOException e) {
+        OLogManager.instance().warn(this, "Can not delete file of sorted run of index keys %s", e, run.path);
+      }
+    }
+    runs.clear();
+
+    buffer.clear();
+    bufferedBytes = 0;
+  }
+
+  private void spill() throws IOException {
+    buffer.sort((first, second) -> comparator.compare(first.key, second.key));
+
+    final Path path = Files.createTempFile("orientdb-index-keys", ".srt");
+    runs.add(new Run(path, buffer.size()));
+
+    try (final DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      for (final Entry<K> entry : buffer) {
+        stream.writeInt(entry.serializedKey.length);
+        stream.write(entry.serializedKey);
+        stream.writeShort(entry.value.getClusterId());
+        stream.writeLong(entry.value.getClusterPosition());
+      }
+    }
+
+    buffer.clear();
+    bufferedBytes = 0;
+  }
+
+  public static final class Entry<K> {
+    public final K      key;
+    public final byte[] serializedKey;
+    public final ORID   value;
+
+    public Entry(final K key, final byte[] serializedKey, final ORID value) {
+      this.key = key;
+      this.serializedKey = serializedKey;
+      this.value = value;
+    }
+  }
+
+  private static final class Run {
+    private final Path path;
+    private final long size;
+
+    private Run(final Path path, final long size) {
+      this.path = path;
+      this.size = size;
+    }
+  }
+
+  private final class RunCursor {
+    private final int             index;
+    private final DataInputStream stream;
+    private       long            remaining;
+    private       Entry<K>        head;
+
+    private RunCursor(final int index, final Run run) throws IOException {
+      this.index = index;
+      this.stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path)));
+      this.remaining = run.size;
+
+      openedRuns.add(stream);
+    }
+
+    private boolean advance() throws IOException {
+      if (remaining == 0) {
+        head = null;
+        return false;
+      }
+
+      final byte[] serializedKey = new byte[stream.readInt()];
+      stream.readFully(serializedKey);
+      final int clusterId = stream.readShort();
+      final long clusterPosition = stream.readLong();
+
+      head = new Entry<>(keySerializer.deserializeNativeObject(serializedKey, 0), serializedKey,
+          new ORecordId(clusterId, clusterPosition));
+      remaining--;
+
+      return true;
+    }
+  }
+
+  private final class MergeIterator implements Iterator<Entry<K>> {
+    private final PriorityQueue<RunCursor> heads = new PriorityQueue<>(runs.size(), (first, second) -> {
+      final int result = comparator.compare(first.head.key, second.head.key);
+      if (result != 0) {
+        return result;
+      }
+
+      // entries with equal keys are returned in order of their addition
+      return Integer.compare(first.index, second.index);
+    });
+
+    private MergeIterator() throws IOException {
+      for (int i = 0; i < runs.size(); i++) {
+        final RunCursor cursor = new RunCursor(i, runs.get(i));
+        if (cursor.advance()) {
+          heads.add(cursor);
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public Entry<K> next() {
+      final RunCursor cursor = heads.poll();
+      if (cursor == null) {
+        throw new NoSuchElementException();
+      }
+
+      final Entry<K> entry = cursor.head;
+      try {
+        if (cursor.advance()) {
+          heads.add(cursor);
+        }
+      } catch (final IOException e) {
+        throw OException.wrapException(new OStorageException("Error during reading of sorted run of index keys"), e);
+      }
+
+      return entry;
+    }
+  }
+}
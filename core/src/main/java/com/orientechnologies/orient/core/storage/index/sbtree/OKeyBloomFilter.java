@@ -0,0 +1,88 @@
+package com.orientechnologies.orient.core.storage.index.sbtree;
+
+import com.orientechnologies.common.hash.OMurmurHash3;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of serialized index keys which is used to prove that key is absent in the index without the lookup of index pages.
+ * <p>
+ * Keys are never removed from the filter, so removed keys only increase the rate of false positives. Filter is sized for the given
+ * capacity, once more keys than capacity are added filter reports that it is {@link #isOverloaded()} and should be rebuilt with
+ * bigger capacity. Keys are added by single writer, but the filter may be queried concurrently with additions.
+ */
+public final class OKeyBloomFilter {
+  private static final int SEED = 0x5BD1E995;
+
+  private final AtomicLongArray bits;
+  private final long            bitsCount;
+  private final int             hashFunctions;
+  private final long            capacity;
+
+  private volatile long keysCount;
+
+  /**
+   * @param capacity   Amount of keys which can be added to the filter till it is overloaded
+   * @param bitsPerKey Amount of bits reserved for each key, 10 bits per key give about 1% of false positives
+   */
+  public OKeyBloomFilter(final long capacity, final int bitsPerKey) {
+    this.capacity = Math.max(capacity, 1);
+
+    final long words = Math.max((this.capacity * bitsPerKey + 63) / 64, 1);
+    if (words > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Bloom filter with capacity " + capacity + " is too big");
+    }
+
+    this.bits = new AtomicLongArray((int) words);
+    this.bitsCount = words * 64;
+    this.hashFunctions = Math.max(1, (int) Math.round(bitsPerKey * Math.log(2)));
+  }
+
+  public void add(final byte[] serializedKey) {
+    final long hash = OMurmurHash3.murmurHash3_x64_64(serializedKey, SEED);
+    final int hash1 = (int) hash;
+    final int hash2 = (int) (hash >>> 32);
+
+    for (int i = 0; i < hashFunctions; i++) {
+      final long bit = bitIndex(hash1 + i * hash2);
+      final int word = (int) (bit >>> 6);
+      final long mask = 1L << bit;
+
+      long value = bits.get(word);
+      while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+        value = bits.get(word);
+      }
+    }
+
+    keysCount++;
+  }
+
+  /**
+   * @return {@code false} if key was never added to the filter, {@code true} if key may be added to the filter.
+   */
+  public boolean mightContain(final byte[] serializedKey) {
+    final long hash = OMurmurHash3.murmurHash3_x64_64(serializedKey, SEED);
+    final int hash1 = (int) hash;
+    final int hash2 = (int) (hash >>> 32);
+
+    for (int i = 0; i < hashFunctions; i++) {
+      final long bit = bitIndex(hash1 + i * hash2);
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @return {@code true} if more keys than capacity of the filter were added, so rate of false positives is higher than expected.
+   */
+  public boolean isOverloaded() {
+    return keysCount > capacity;
+  }
+
+  private long bitIndex(final int hash) {
+    return (hash & 0xFFFFFFFFL) % bitsCount;
+  }
+}
@@ -77,6 +77,11 @@ public final class OCellBTreeMultiValueV3<K> extends ODurableComponent implement
 
   private static final int MAX_PATH_LENGTH = OGlobalConfiguration.SBTREE_MAX_DEPTH.getValueAsInteger();
 
+  /**
+   * Amount of attempts to look up key without locks, if tree is changed during each of them key is looked up under the lock.
+   */
+  private static final int MAX_OPTIMISTIC_READ_ATTEMPTS = 3;
+
   private static final int  ENTRY_POINT_INDEX = 0;
   private static final long ROOT_INDEX        = 1;
 
@@ -171,112 +176,148 @@ public final class OCellBTreeMultiValueV3<K> extends ODurableComponent implement
   }
 
   public List<ORID> get(K key) {
+    if (key != null) {
+      key = keySerializer.preprocess(key, (Object[]) keyTypes);
+    }
+
+    for (int attempt = 0; attempt < MAX_OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+      final long stamp = tryOptimisticRead();
+      if (stamp == 0) {
+        break;
+      }
+
+      try {
+        final List<ORID> values = doGet(key, null, stamp);
+        if (validateOptimisticRead(stamp)) {
+          return values;
+        }
+      } catch (final IOException | RuntimeException e) {
+        //pages were changed during the read, otherwise the same error is thrown by the lookup under the lock
+        if (validateOptimisticRead(stamp)) {
+          break;
+        }
+      }
+    }
+
     atomicOperationsManager.acquireReadLock(this);
     try {
       acquireSharedLock();
       try {
-        final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
-        if (key != null) {
-          key = keySerializer.preprocess(key, (Object[]) keyTypes);
+        return doGet(key, OAtomicOperationsManager.getCurrentOperation(), 0);
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException
+          .wrapException(new OCellBTreeMultiValueException("Error during retrieving  of sbtree with name " + getName(), this), e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
 
-          final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
-          if (bucketSearchResult.itemIndex < 0) {
-            return Collections.emptyList();
-          }
+  /**
+   * Looks up already preprocessed key. If {@code stamp} is not {@code 0} key is looked up without locks and result has to be
+   * validated by the caller, lookup is stopped as soon as tree is found to be changed.
+   */
+  private List<ORID> doGet(final K key, final OAtomicOperation atomicOperation, final long stamp) throws IOException {
+    if (key != null) {
+      final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation, stamp);
+      if (bucketSearchResult == null || bucketSearchResult.itemIndex < 0) {
+        return Collections.emptyList();
+      }
 
-          final long pageIndex = bucketSearchResult.pageIndex;
-          final int itemIndex = bucketSearchResult.itemIndex;
+      final long pageIndex = bucketSearchResult.pageIndex;
+      final int itemIndex = bucketSearchResult.itemIndex;
 
-          long leftSibling = -1;
-          long rightSibling = -1;
+      long leftSibling = -1;
+      long rightSibling = -1;
 
-          final List<ORID> result = new ArrayList<>(8);
-          OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
-          try {
-            final Bucket<K> bucket = new Bucket<>(cacheEntry, keySerializer, multiContainer);
-            result.addAll(bucket.getValues(itemIndex));
+      final List<ORID> result = new ArrayList<>(8);
+      OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        final Bucket<K> bucket = new Bucket<>(cacheEntry, keySerializer, multiContainer);
+        result.addAll(bucket.getValues(itemIndex));
 
-            if (itemIndex == 0) {
-              leftSibling = bucket.getLeftSibling();
-            }
+        if (itemIndex == 0) {
+          leftSibling = bucket.getLeftSibling();
+        }
 
-            if (itemIndex == bucket.size() - 1) {
-              rightSibling = bucket.getRightSibling();
-            }
-          } finally {
-            releasePageFromRead(atomicOperation, cacheEntry);
-          }
+        if (itemIndex == bucket.size() - 1) {
+          rightSibling = bucket.getRightSibling();
+        }
+      } finally {
+        releasePageFromRead(atomicOperation, cacheEntry);
+      }
 
-          while (leftSibling >= 0) {
-            cacheEntry = loadPageForRead(atomicOperation, fileId, leftSibling, false);
-            try {
-              final Bucket<K> bucket = new Bucket<>(cacheEntry, keySerializer, multiContainer);
-              final int size = bucket.size();
+      while (leftSibling >= 0) {
+        if (stamp != 0 && !validateOptimisticRead(stamp)) {
+          return Collections.emptyList();
+        }
 
-              if (size > 0) {
-                if (bucket.getKey(size - 1).equals(key)) {
-                  result.addAll(bucket.getValues(size - 1));
+        cacheEntry = loadPageForRead(atomicOperation, fileId, leftSibling, false);
+        try {
+          final Bucket<K> bucket = new Bucket<>(cacheEntry, keySerializer, multiContainer);
+          final int size = bucket.size();
 
-                  if (size == 1) {
-                    leftSibling = bucket.getLeftSibling();
-                  } else {
-                    leftSibling = -1;
-                  }
-                } else {
-                  leftSibling = -1;
-                }
-              } else {
+          if (size > 0) {
+            if (bucket.getKey(size - 1).equals(key)) {
+              result.addAll(bucket.getValues(size - 1));
+
+              if (size == 1) {
                 leftSibling = bucket.getLeftSibling();
+              } else {
+                leftSibling = -1;
               }
-            } finally {
-              releasePageFromRead(atomicOperation, cacheEntry);
+            } else {
+              leftSibling = -1;
             }
+          } else {
+            leftSibling = bucket.getLeftSibling();
           }
+        } finally {
+          releasePageFromRead(atomicOperation, cacheEntry);
+        }
+      }
 
-          while (rightSibling >= 0) {
-            cacheEntry = loadPageForRead(atomicOperation, fileId, rightSibling, false);
-            try {
-              final Bucket<K> bucket = new Bucket<>(cacheEntry, keySerializer, multiContainer);
-              final int size = bucket.size();
+      while (rightSibling >= 0) {
+        if (stamp != 0 && !validateOptimisticRead(stamp)) {
+          return Collections.emptyList();
+        }
 
-              if (size > 0) {
-                if (bucket.getKey(0).equals(key)) {
-                  result.addAll(bucket.getValues(0));
+        cacheEntry = loadPageForRead(atomicOperation, fileId, rightSibling, false);
+        try {
+          final Bucket<K> bucket = new Bucket<>(cacheEntry, keySerializer, multiContainer);
+          final int size = bucket.size();
 
-                  if (size == 1) {
-                    rightSibling = bucket.getRightSibling();
-                  } else {
-                    rightSibling = -1;
-                  }
-                } else {
-                  rightSibling = -1;
-                }
-              } else {
+          if (size > 0) {
+            if (bucket.getKey(0).equals(key)) {
+              result.addAll(bucket.getValues(0));
+
+              if (size == 1) {
                 rightSibling = bucket.getRightSibling();
+              } else {
+                rightSibling = -1;
               }
-            } finally {
-              releasePageFromRead(atomicOperation, cacheEntry);
+            } else {
+              rightSibling = -1;
             }
+          } else {
+            rightSibling = bucket.getRightSibling();
           }
-
-          return result;
-        } else {
-          final OCacheEntry nullCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
-          try {
-            final ONullBucket nullBucket = new ONullBucket(nullCacheEntry, multiContainer);
-            return nullBucket.getValues();
-          } finally {
-            releasePageFromRead(atomicOperation, nullCacheEntry);
-          }
+        } finally {
+          releasePageFromRead(atomicOperation, cacheEntry);
         }
+      }
+
+      return result;
+    } else {
+      final OCacheEntry nullCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
+      try {
+        final ONullBucket nullBucket = new ONullBucket(nullCacheEntry, multiContainer);
+        return nullBucket.getValues();
       } finally {
-        releaseSharedLock();
+        releasePageFromRead(atomicOperation, nullCacheEntry);
       }
-    } catch (final IOException e) {
-      throw OException
-          .wrapException(new OCellBTreeMultiValueException("Error during retrieving  of sbtree with name " + getName(), this), e);
-    } finally {
-      atomicOperationsManager.releaseReadLock(this);
     }
   }
 
@@ -1346,6 +1387,14 @@ public final class OCellBTreeMultiValueV3<K> extends ODurableComponent implement
   }
 
   private BucketSearchResult findBucket(final K key, final OAtomicOperation atomicOperation) throws IOException {
+    return findBucket(key, atomicOperation, 0);
+  }
+
+  /**
+   * @param stamp stamp of optimistic read or {@code 0} if tree is locked, in case of optimistic read {@code null} is returned if
+   *              tree was changed during the search
+   */
+  private BucketSearchResult findBucket(final K key, final OAtomicOperation atomicOperation, final long stamp) throws IOException {
     long pageIndex = ROOT_INDEX;
 
     int depth = 0;
@@ -1379,6 +1428,10 @@ public final class OCellBTreeMultiValueV3<K> extends ODurableComponent implement
       } finally {
         releasePageFromRead(atomicOperation, bucketEntry);
       }
+
+      if (stamp != 0 && !validateOptimisticRead(stamp)) {
+        return null;
+      }
     }
   }
 
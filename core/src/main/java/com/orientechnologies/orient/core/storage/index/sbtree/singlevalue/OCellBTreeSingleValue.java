@@ -1,12 +1,16 @@
 package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue;
 
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 public interface OCellBTreeSingleValue<K> {
@@ -14,11 +18,35 @@ public interface OCellBTreeSingleValue<K> {
 
   ORID get(K key);
 
+  /**
+   * Looks up values of several keys at once, keys are expected to be sorted in ascending order.
+   *
+   * @return Values of the keys in the same order, <code>null</code> if key is absent.
+   */
+  default List<ORID> getMany(final List<K> sortedKeys) {
+    final List<ORID> result = new ArrayList<>(sortedKeys.size());
+    for (final K key : sortedKeys) {
+      result.add(get(key));
+    }
+
+    return result;
+  }
+
   void put(K key, ORID value) throws IOException;
 
   boolean validatedPut(K key, ORID value, OBaseIndexEngine.Validator<K, ORID> validator)
           throws IOException;
 
+  /**
+   * Fills empty tree by given entries, keys of entries do not need to be sorted.
+   *
+   * @return <code>false</code> if bulk load is not supported or tree is not empty, entries are not consumed in such case.
+   */
+  default boolean bulkLoad(Iterator<ORawPair<K, ORID>> entries, OBaseIndexEngine.Validator<K, ORID> validator)
+      throws IOException {
+    return false;
+  }
+
   void close();
 
   void delete() throws IOException;
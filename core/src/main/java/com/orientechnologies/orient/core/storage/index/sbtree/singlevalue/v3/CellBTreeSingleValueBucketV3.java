@@ -29,17 +29,32 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODura
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cellbtree.singlevalue.v3.bucket.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 /**
+ * Bucket of the tree which is created with key prefix compression keeps the longest common part of serialized keys in the header
+ * of the page and stores only the rest of each key. Common part is recalculated when entries are added in bulk, split or shrink,
+ * and is shortened if inserted key does not contain it. If common part is too short to decrease the size of the page, entries are
+ * stored in the same format as in bucket without compression.
+ *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 8/7/13
  */
 public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   private static final int RID_SIZE = OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE;
 
+  /**
+   * Flags which are stored in the byte at {@link #IS_LEAF_OFFSET}. Pages created without key prefix compression contain leaf flag
+   * only. Pages with key prefix compression belong to trees of separate version of index engine (see {@link
+   * com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine#KEY_PREFIX_COMPRESSION_VERSION}), so they
+   * are never read by the code which expects leaf flag only.
+   */
+  private static final byte LEAF_FLAG       = 1;
+  private static final byte KEY_PREFIX_FLAG = 2;
+
   private static final int FREE_POINTER_OFFSET  = NEXT_FREE_POSITION;
   private static final int SIZE_OFFSET          = FREE_POINTER_OFFSET + OIntegerSerializer.INT_SIZE;
   private static final int IS_LEAF_OFFSET       = SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
@@ -48,6 +63,22 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
 
   private static final int POSITIONS_ARRAY_OFFSET = RIGHT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
 
+  /**
+   * Header of the bucket with key prefix compression contains position of the common part inside of the serialized key, its size
+   * and content. Array of positions of entries follows the common part.
+   */
+  private static final int KEY_PREFIX_START_OFFSET = RIGHT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
+  private static final int KEY_PREFIX_SIZE_OFFSET  = KEY_PREFIX_START_OFFSET + OByteSerializer.BYTE_SIZE;
+  private static final int KEY_PREFIX_OFFSET       = KEY_PREFIX_SIZE_OFFSET + OShortSerializer.SHORT_SIZE;
+
+  /**
+   * Positions inside of the serialized key where common part of keys is searched. Serialized keys of variable length usually start
+   * with their size (short for strings, int for composite keys), which differs even if the rest of the keys is the same.
+   */
+  private static final int[] KEY_PREFIX_STARTS = { 0, OShortSerializer.SHORT_SIZE, OIntegerSerializer.INT_SIZE };
+
+  private static final int MAX_COMPRESSED_KEY_SIZE = 0xFFFF;
+
   private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
 
   public CellBTreeSingleValueBucketV3(final OCacheEntry cacheEntry) {
@@ -59,25 +90,38 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       throw new IllegalStateException("Type of bucket can be changed only bucket if bucket is empty");
     }
 
-    final boolean isLeaf = isLeaf();
-    if (isLeaf) {
-      setByteValue(IS_LEAF_OFFSET, (byte) 0);
-    } else {
-      setByteValue(IS_LEAF_OFFSET, (byte) 1);
-    }
+    setByteValue(IS_LEAF_OFFSET, (byte) (getByteValue(IS_LEAF_OFFSET) ^ LEAF_FLAG));
 
     addPageOperation(new CellBTreeBucketSingleValueV3SwitchBucketTypePO());
   }
 
   public void init(boolean isLeaf) {
+    init(isLeaf, false);
+  }
+
+  /**
+   * @param keyPrefixCompression Whether common part of keys should be stored once per page, this format of the page can not be
+   *                             changed later.
+   */
+  public void init(final boolean isLeaf, final boolean keyPrefixCompression) {
     setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
     setIntValue(SIZE_OFFSET, 0);
 
-    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+    byte flags = isLeaf ? LEAF_FLAG : 0;
+    if (keyPrefixCompression) {
+      flags |= KEY_PREFIX_FLAG;
+    }
+
+    setByteValue(IS_LEAF_OFFSET, flags);
     setLongValue(LEFT_SIBLING_OFFSET, -1);
     setLongValue(RIGHT_SIBLING_OFFSET, -1);
 
-    addPageOperation(new CellBTreeBucketSingleValueV3InitPO(isLeaf));
+    if (keyPrefixCompression) {
+      setByteValue(KEY_PREFIX_START_OFFSET, (byte) 0);
+      setShortValue(KEY_PREFIX_SIZE_OFFSET, (short) 0);
+    }
+
+    addPageOperation(new CellBTreeBucketSingleValueV3InitPO(isLeaf, keyPrefixCompression));
   }
 
   public boolean isEmpty() {
@@ -106,19 +150,20 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   }
 
   public void removeLeafEntry(final int entryIndex, byte[] key, byte[] value) {
-    final int entryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
+    final int positionsOffset = positionsOffset();
+    final int entryPosition = getIntValue(positionsOffset + entryIndex * OIntegerSerializer.INT_SIZE);
 
     final int entrySize;
     if (isLeaf()) {
-      entrySize = key.length + RID_SIZE;
+      entrySize = compressedKeySize(key.length, keyPrefixSize()) + RID_SIZE;
     } else {
       throw new IllegalStateException("Remove is applies to leaf buckets only");
     }
 
     int size = getIntValue(SIZE_OFFSET);
     if (entryIndex < size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsOffset + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
+          positionsOffset + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
     }
 
     size--;
@@ -131,7 +176,7 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
 
     setIntValue(FREE_POINTER_OFFSET, freePointer + entrySize);
 
-    int currentPositionOffset = POSITIONS_ARRAY_OFFSET;
+    int currentPositionOffset = positionsOffset;
 
     for (int i = 0; i < size; i++) {
       final int currentEntryPosition = getIntValue(currentPositionOffset);
@@ -149,16 +194,17 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       throw new IllegalStateException("Remove is applied to non-leaf buckets only");
     }
 
-    final int entryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
-    final int entrySize = key.length + 2 * OIntegerSerializer.INT_SIZE;
+    final int positionsOffset = positionsOffset();
+    final int entryPosition = getIntValue(positionsOffset + entryIndex * OIntegerSerializer.INT_SIZE);
+    final int entrySize = compressedKeySize(key.length, keyPrefixSize()) + 2 * OIntegerSerializer.INT_SIZE;
     int size = getIntValue(SIZE_OFFSET);
 
     final int leftChild = getIntValue(entryPosition);
     final int rightChild = getIntValue(entryPosition + OIntegerSerializer.INT_SIZE);
 
     if (entryIndex < size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsOffset + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
+          positionsOffset + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
     }
 
     size--;
@@ -171,7 +217,7 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
 
     setIntValue(FREE_POINTER_OFFSET, freePointer + entrySize);
 
-    int currentPositionOffset = POSITIONS_ARRAY_OFFSET;
+    int currentPositionOffset = positionsOffset;
 
     for (int i = 0; i < size; i++) {
       final int currentEntryPosition = getIntValue(currentPositionOffset);
@@ -183,12 +229,12 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
 
     if (prevChild >= 0) {
       if (entryIndex > 0) {
-        final int prevEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (entryIndex - 1) * OIntegerSerializer.INT_SIZE);
+        final int prevEntryPosition = getIntValue(positionsOffset + (entryIndex - 1) * OIntegerSerializer.INT_SIZE);
         setIntValue(prevEntryPosition + OIntegerSerializer.INT_SIZE, prevChild);
       }
 
       if (entryIndex < size) {
-        final int nextEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
+        final int nextEntryPosition = getIntValue(positionsOffset + entryIndex * OIntegerSerializer.INT_SIZE);
         setIntValue(nextEntryPosition, prevChild);
       }
     }
@@ -201,14 +247,15 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   }
 
   public SBTreeEntry<K> getEntry(final int entryIndex, final OBinarySerializer<K> keySerializer) {
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int prefixSize = keyPrefixSize();
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset(prefixSize));
 
     if (isLeaf()) {
       final K key;
 
-      key = deserializeFromDirectMemory(keySerializer, entryPosition);
+      key = readKey(entryPosition, prefixSize, keySerializer);
 
-      entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+      entryPosition += keySizeInPage(entryPosition, prefixSize, keySerializer);
 
       final int clusterId = getShortValue(entryPosition);
       final long clusterPosition = getLongValue(entryPosition + OShortSerializer.SHORT_SIZE);
@@ -221,7 +268,7 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       final int rightChild = getIntValue(entryPosition);
       entryPosition += OIntegerSerializer.INT_SIZE;
 
-      final K key = deserializeFromDirectMemory(keySerializer, entryPosition);
+      final K key = readKey(entryPosition, prefixSize, keySerializer);
 
       return new SBTreeEntry<>(leftChild, rightChild, key, null);
     }
@@ -230,7 +277,7 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   public int getLeft(final int entryIndex) {
     assert !isLeaf();
 
-    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset());
 
     return getIntValue(entryPosition);
   }
@@ -238,13 +285,21 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   public int getRight(final int entryIndex) {
     assert !isLeaf();
 
-    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset());
 
     return getIntValue(entryPosition + OIntegerSerializer.INT_SIZE);
   }
 
+  /**
+   * @return Entry in the format of bucket without key prefix compression, so it may be added to any other bucket.
+   */
   public byte[] getRawEntry(final int entryIndex, final OBinarySerializer<K> keySerializer) {
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int prefixSize = keyPrefixSize();
+    if (prefixSize > 0) {
+      return getDecompressedEntry(entryIndex, prefixSize);
+    }
+
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset(prefixSize));
     final int startEntryPosition = entryPosition;
 
     if (isLeaf()) {
@@ -270,10 +325,11 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   public ORID getValue(final int entryIndex, final OBinarySerializer<K> keySerializer) {
     assert isLeaf();
 
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int prefixSize = keyPrefixSize();
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset(prefixSize));
 
     // skip key
-    entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+    entryPosition += keySizeInPage(entryPosition, prefixSize, keySerializer);
 
     final int clusterId = getShortValue(entryPosition);
     final long clusterPosition = getLongValue(entryPosition + OShortSerializer.SHORT_SIZE);
@@ -284,39 +340,67 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   byte[] getRawValue(final int entryIndex, final OBinarySerializer<K> keySerializer) {
     assert isLeaf();
 
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int prefixSize = keyPrefixSize();
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset(prefixSize));
 
     // skip key
-    entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+    entryPosition += keySizeInPage(entryPosition, prefixSize, keySerializer);
 
     return getBinaryValue(entryPosition, RID_SIZE);
   }
 
   public K getKey(final int index, final OBinarySerializer<K> keySerializer) {
-    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    final int prefixSize = keyPrefixSize();
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsOffset(prefixSize));
 
     if (!isLeaf()) {
       entryPosition += 2 * OIntegerSerializer.INT_SIZE;
     }
 
-    return deserializeFromDirectMemory(keySerializer, entryPosition);
+    return readKey(entryPosition, prefixSize, keySerializer);
   }
 
   public boolean isLeaf() {
-    return getByteValue(IS_LEAF_OFFSET) > 0;
+    return (getByteValue(IS_LEAF_OFFSET) & LEAF_FLAG) != 0;
+  }
+
+  public boolean isKeyPrefixCompressed() {
+    return (getByteValue(IS_LEAF_OFFSET) & KEY_PREFIX_FLAG) != 0;
   }
 
   public void addAll(final List<byte[]> rawEntries, final OBinarySerializer<K> keySerializer) {
     final int currentSize = size();
-    for (int i = 0; i < rawEntries.size(); i++) {
-      appendRawEntry(i + currentSize, rawEntries.get(i));
-    }
 
-    setIntValue(SIZE_OFFSET, rawEntries.size() + currentSize);
+    if (isKeyPrefixCompressed()) {
+      final List<byte[]> entries = new ArrayList<>(currentSize + rawEntries.size());
+      for (int i = 0; i < currentSize; i++) {
+        entries.add(getRawEntry(i, keySerializer));
+      }
+      entries.addAll(rawEntries);
+
+      writeEntries(entries);
+    } else {
+      for (int i = 0; i < rawEntries.size(); i++) {
+        appendRawEntry(i + currentSize, rawEntries.get(i));
+      }
+
+      setIntValue(SIZE_OFFSET, rawEntries.size() + currentSize);
+    }
 
     addPageOperation(new CellBTreeBucketSingleValueV3AddAllPO(currentSize, rawEntries, keySerializer));
   }
 
+  /**
+   * @param entriesCount Amount of raw entries
+   * @param entriesSize  Total size of raw entries in bytes
+   *
+   * @return <code>true</code> if given raw entries fit into the empty bucket of any format, see {@link #addAll(List,
+   * OBinarySerializer)}
+   */
+  public static boolean isEnoughSpace(final int entriesCount, final int entriesSize) {
+    return MAX_PAGE_SIZE_BYTES - entriesSize >= entriesCount * OIntegerSerializer.INT_SIZE + KEY_PREFIX_OFFSET;
+  }
+
   public void shrink(final int newSize, final OBinarySerializer<K> keySerializer) {
     final int currentSize = size();
     final List<byte[]> rawEntries = new ArrayList<>(newSize);
@@ -330,41 +414,53 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       removedEntries.add(getRawEntry(i, keySerializer));
     }
 
-    setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
+    if (isKeyPrefixCompressed()) {
+      writeEntries(rawEntries);
+    } else {
+      setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
 
-    for (int i = 0; i < newSize; i++) {
-      appendRawEntry(i, rawEntries.get(i));
-    }
+      for (int i = 0; i < newSize; i++) {
+        appendRawEntry(i, rawEntries.get(i));
+      }
 
-    setIntValue(SIZE_OFFSET, newSize);
+      setIntValue(SIZE_OFFSET, newSize);
+    }
 
     addPageOperation(new CellBTreeBucketSingleValueV3ShrinkPO(newSize, removedEntries, keySerializer));
   }
 
   public boolean addLeafEntry(final int index, final byte[] serializedKey, final byte[] serializedValue) {
-    final int entrySize = serializedKey.length + serializedValue.length;
-
     assert isLeaf();
+
+    if (!updateKeyPrefix(serializedKey, serializedValue.length)) {
+      return false;
+    }
+
+    final int prefixSize = keyPrefixSize();
+    final int positionsOffset = positionsOffset(prefixSize);
+    final byte[] key = compressKey(serializedKey, prefixSize);
+
+    final int entrySize = key.length + serializedValue.length;
     final int size = getIntValue(SIZE_OFFSET);
 
     int freePointer = getIntValue(FREE_POINTER_OFFSET);
-    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET) {
+    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + positionsOffset) {
       return false;
     }
 
     if (index <= size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsOffset + index * OIntegerSerializer.INT_SIZE, positionsOffset + (index + 1) * OIntegerSerializer.INT_SIZE,
+          (size - index) * OIntegerSerializer.INT_SIZE);
     }
 
     freePointer -= entrySize;
 
     setIntValue(FREE_POINTER_OFFSET, freePointer);
-    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, freePointer);
+    setIntValue(positionsOffset + index * OIntegerSerializer.INT_SIZE, freePointer);
     setIntValue(SIZE_OFFSET, size + 1);
 
-    setBinaryValue(freePointer, serializedKey);
-    setBinaryValue(freePointer + serializedKey.length, serializedValue);
+    setBinaryValue(freePointer, key);
+    setBinaryValue(freePointer + key.length, serializedValue);
 
     addPageOperation(new CellBTreeBucketSingleValueV3AddLeafEntryPO(index, serializedKey, serializedValue));
 
@@ -385,44 +481,50 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       final boolean updateNeighbors) {
     assert !isLeaf();
 
-    final int keySize = key.length;
+    if (!updateKeyPrefix(key, 2 * OIntegerSerializer.INT_SIZE)) {
+      return false;
+    }
+
+    final int prefixSize = keyPrefixSize();
+    final int positionsOffset = positionsOffset(prefixSize);
+    final byte[] storedKey = compressKey(key, prefixSize);
 
-    final int entrySize = keySize + 2 * OIntegerSerializer.INT_SIZE;
+    final int entrySize = storedKey.length + 2 * OIntegerSerializer.INT_SIZE;
 
     int size = size();
     int freePointer = getIntValue(FREE_POINTER_OFFSET);
-    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET) {
+    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + positionsOffset) {
       return false;
     }
 
     if (index <= size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsOffset + index * OIntegerSerializer.INT_SIZE, positionsOffset + (index + 1) * OIntegerSerializer.INT_SIZE,
+          (size - index) * OIntegerSerializer.INT_SIZE);
     }
 
     freePointer -= entrySize;
 
     setIntValue(FREE_POINTER_OFFSET, freePointer);
-    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, freePointer);
+    setIntValue(positionsOffset + index * OIntegerSerializer.INT_SIZE, freePointer);
     setIntValue(SIZE_OFFSET, size + 1);
 
     freePointer += setIntValue(freePointer, leftChild);
     freePointer += setIntValue(freePointer, rightChild);
 
-    setBinaryValue(freePointer, key);
+    setBinaryValue(freePointer, storedKey);
 
     size++;
 
     int prevChild = -1;
     if (updateNeighbors && size > 1) {
       if (index < size - 1) {
-        final int nextEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE);
+        final int nextEntryPosition = getIntValue(positionsOffset + (index + 1) * OIntegerSerializer.INT_SIZE);
         prevChild = getIntValue(nextEntryPosition);
         setIntValue(nextEntryPosition, rightChild);
       }
 
       if (index > 0) {
-        final int prevEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index - 1) * OIntegerSerializer.INT_SIZE);
+        final int prevEntryPosition = getIntValue(positionsOffset + (index - 1) * OIntegerSerializer.INT_SIZE);
         prevChild = getIntValue(prevEntryPosition + OIntegerSerializer.INT_SIZE);
         setIntValue(prevEntryPosition + OIntegerSerializer.INT_SIZE, leftChild);
       }
@@ -435,7 +537,9 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   }
 
   public void updateValue(final int index, final byte[] value, final int keySize) {
-    final int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET) + keySize;
+    final int prefixSize = keyPrefixSize();
+    final int entryPosition =
+        getIntValue(index * OIntegerSerializer.INT_SIZE + positionsOffset(prefixSize)) + compressedKeySize(keySize, prefixSize);
 
     final byte[] prevValue = getBinaryValue(entryPosition, RID_SIZE);
 
@@ -466,6 +570,301 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
     return getLongValue(RIGHT_SIBLING_OFFSET);
   }
 
+  /**
+   * @return Size of common part of keys or <code>0</code> if keys are stored as is.
+   */
+  private int keyPrefixSize() {
+    if (!isKeyPrefixCompressed()) {
+      return 0;
+    }
+
+    return getShortValue(KEY_PREFIX_SIZE_OFFSET) & MAX_COMPRESSED_KEY_SIZE;
+  }
+
+  private int positionsOffset() {
+    return positionsOffset(keyPrefixSize());
+  }
+
+  private int positionsOffset(final int prefixSize) {
+    if (!isKeyPrefixCompressed()) {
+      return POSITIONS_ARRAY_OFFSET;
+    }
+
+    return KEY_PREFIX_OFFSET + prefixSize;
+  }
+
+  private int keySizeInPage(final int keyPosition, final int prefixSize, final OBinarySerializer<K> keySerializer) {
+    if (prefixSize == 0) {
+      return getObjectSizeInDirectMemory(keySerializer, keyPosition);
+    }
+
+    return compressedKeySize(getShortValue(keyPosition) & MAX_COMPRESSED_KEY_SIZE, prefixSize);
+  }
+
+  private K readKey(final int keyPosition, final int prefixSize, final OBinarySerializer<K> keySerializer) {
+    if (prefixSize == 0) {
+      return deserializeFromDirectMemory(keySerializer, keyPosition);
+    }
+
+    return keySerializer.deserializeNativeObject(decompressKey(keyPosition, prefixSize), 0);
+  }
+
+  /**
+   * Restores serialized key from the part stored in the entry and common part stored in the header of the page.
+   */
+  private byte[] decompressKey(final int keyPosition, final int prefixSize) {
+    final int keySize = getShortValue(keyPosition) & MAX_COMPRESSED_KEY_SIZE;
+    final int prefixStart = getByteValue(KEY_PREFIX_START_OFFSET);
+    final int suffixSize = keySize - prefixStart - prefixSize;
+
+    final byte[] key = new byte[keySize];
+    final int position = keyPosition + OShortSerializer.SHORT_SIZE;
+
+    if (prefixStart > 0) {
+      System.arraycopy(getBinaryValue(position, prefixStart), 0, key, 0, prefixStart);
+    }
+
+    System.arraycopy(getBinaryValue(KEY_PREFIX_OFFSET, prefixSize), 0, key, prefixStart, prefixSize);
+
+    if (suffixSize > 0) {
+      System.arraycopy(getBinaryValue(position + prefixStart, suffixSize), 0, key, prefixStart + prefixSize, suffixSize);
+    }
+
+    return key;
+  }
+
+  private byte[] getDecompressedEntry(final int entryIndex, final int prefixSize) {
+    final int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsOffset(prefixSize));
+
+    if (isLeaf()) {
+      final byte[] key = decompressKey(entryPosition, prefixSize);
+      final byte[] rawEntry = Arrays.copyOf(key, key.length + RID_SIZE);
+
+      final byte[] value = getBinaryValue(entryPosition + compressedKeySize(key.length, prefixSize), RID_SIZE);
+      System.arraycopy(value, 0, rawEntry, key.length, RID_SIZE);
+
+      return rawEntry;
+    } else {
+      final byte[] key = decompressKey(entryPosition + 2 * OIntegerSerializer.INT_SIZE, prefixSize);
+      final byte[] rawEntry = new byte[key.length + 2 * OIntegerSerializer.INT_SIZE];
+
+      System.arraycopy(getBinaryValue(entryPosition, 2 * OIntegerSerializer.INT_SIZE), 0, rawEntry, 0,
+          2 * OIntegerSerializer.INT_SIZE);
+      System.arraycopy(key, 0, rawEntry, 2 * OIntegerSerializer.INT_SIZE, key.length);
+
+      return rawEntry;
+    }
+  }
+
+  private byte[] compressKey(final byte[] key, final int prefixSize) {
+    if (prefixSize == 0) {
+      return key;
+    }
+
+    return compress(key, 0, key.length, getByteValue(KEY_PREFIX_START_OFFSET), prefixSize);
+  }
+
+  private static int compressedKeySize(final int keySize, final int prefixSize) {
+    if (prefixSize == 0) {
+      return keySize;
+    }
+
+    return OShortSerializer.SHORT_SIZE + keySize - prefixSize;
+  }
+
+  /**
+   * Replaces common part of the key which starts at <code>keyOffset</code> inside of <code>data</code> by the size of the key.
+   */
+  private static byte[] compress(final byte[] data, final int keyOffset, final int keySize, final int prefixStart,
+      final int prefixSize) {
+    final byte[] result = new byte[data.length + OShortSerializer.SHORT_SIZE - prefixSize];
+
+    System.arraycopy(data, 0, result, 0, keyOffset);
+    OShortSerializer.INSTANCE.serializeNative((short) keySize, result, keyOffset);
+    System.arraycopy(data, keyOffset, result, keyOffset + OShortSerializer.SHORT_SIZE, prefixStart);
+
+    final int suffixOffset = keyOffset + prefixStart + prefixSize;
+    System.arraycopy(data, suffixOffset, result, keyOffset + OShortSerializer.SHORT_SIZE + prefixStart, data.length - suffixOffset);
+
+    return result;
+  }
+
+  private static byte[] keyOfRawEntry(final byte[] rawEntry, final boolean isLeaf) {
+    if (isLeaf) {
+      return Arrays.copyOf(rawEntry, rawEntry.length - RID_SIZE);
+    }
+
+    return Arrays.copyOfRange(rawEntry, 2 * OIntegerSerializer.INT_SIZE, rawEntry.length);
+  }
+
+  /**
+   * Shortens common part of keys of the page if it is not contained in the key which is going to be inserted. Common part is
+   * shortened at least by half, so page is rewritten only a few times even if each inserted key shares less bytes with the rest of
+   * keys, the longest common part is calculated again when page is split or shrunk.
+   *
+   * @param key       Serialized key which is going to be inserted
+   * @param entrySize Size of the inserted entry without the key
+   *
+   * @return <code>false</code> if page does not have enough space for the entries with shortened common part of keys, in such case
+   * page is not changed.
+   */
+  private boolean updateKeyPrefix(final byte[] key, final int entrySize) {
+    final int prefixSize = keyPrefixSize();
+
+    if (prefixSize == 0) {
+      return true;
+    }
+
+    final int prefixStart = getByteValue(KEY_PREFIX_START_OFFSET);
+    final byte[] prefix = getBinaryValue(KEY_PREFIX_OFFSET, prefixSize);
+    final int maxCommonSize = Math.min(prefixSize, key.length - prefixStart);
+
+    int commonSize = 0;
+    while (commonSize < maxCommonSize && prefix[commonSize] == key[prefixStart + commonSize]) {
+      commonSize++;
+    }
+
+    if (commonSize == prefixSize) {
+      return true;
+    }
+
+    int newPrefixSize = Math.min(commonSize, prefixSize / 2);
+    if (newPrefixSize <= OShortSerializer.SHORT_SIZE) {
+      // size of each key is stored instead of the common part, so too short common part does not decrease size of the page
+      newPrefixSize = 0;
+    }
+
+    final boolean isLeaf = isLeaf();
+    final int size = size();
+    final int valueSize = isLeaf ? RID_SIZE : 2 * OIntegerSerializer.INT_SIZE;
+
+    final List<byte[]> rawEntries = new ArrayList<>(size);
+
+    int pageSize =
+        KEY_PREFIX_OFFSET + newPrefixSize + (size + 1) * OIntegerSerializer.INT_SIZE + compressedKeySize(key.length, newPrefixSize)
+            + entrySize;
+    for (int i = 0; i < size; i++) {
+      final byte[] rawEntry = getDecompressedEntry(i, prefixSize);
+      rawEntries.add(rawEntry);
+
+      pageSize += compressedKeySize(rawEntry.length - valueSize, newPrefixSize) + valueSize;
+    }
+
+    if (pageSize > MAX_PAGE_SIZE_BYTES) {
+      return false;
+    }
+
+    writeEntries(rawEntries, isLeaf, newPrefixSize > 0 ? prefixStart : 0, Arrays.copyOf(prefix, newPrefixSize));
+    return true;
+  }
+
+  private void writeEntries(final List<byte[]> rawEntries) {
+    final boolean isLeaf = isLeaf();
+
+    final List<byte[]> keys = new ArrayList<>(rawEntries.size());
+    for (final byte[] rawEntry : rawEntries) {
+      keys.add(keyOfRawEntry(rawEntry, isLeaf));
+    }
+
+    final int[] prefix = findKeyPrefix(keys);
+    final byte[] prefixBytes;
+    if (prefix[1] > 0) {
+      prefixBytes = Arrays.copyOfRange(keys.get(0), prefix[0], prefix[0] + prefix[1]);
+    } else {
+      prefixBytes = new byte[0];
+    }
+
+    writeEntries(rawEntries, isLeaf, prefix[0], prefixBytes);
+  }
+
+  /**
+   * Rewrites content of the page with key prefix compression using given common part of keys.
+   */
+  private void writeEntries(final List<byte[]> rawEntries, final boolean isLeaf, final int prefixStart, final byte[] prefix) {
+    setByteValue(KEY_PREFIX_START_OFFSET, (byte) prefixStart);
+    setShortValue(KEY_PREFIX_SIZE_OFFSET, (short) prefix.length);
+
+    if (prefix.length > 0) {
+      setBinaryValue(KEY_PREFIX_OFFSET, prefix);
+    }
+
+    final int positionsOffset = KEY_PREFIX_OFFSET + prefix.length;
+    final int keyOffset = isLeaf ? 0 : 2 * OIntegerSerializer.INT_SIZE;
+    final int valueSize = isLeaf ? RID_SIZE : 0;
+
+    int freePointer = MAX_PAGE_SIZE_BYTES;
+    for (int i = 0; i < rawEntries.size(); i++) {
+      final byte[] rawEntry = rawEntries.get(i);
+
+      final byte[] entry;
+      if (prefix.length > 0) {
+        entry = compress(rawEntry, keyOffset, rawEntry.length - keyOffset - valueSize, prefixStart, prefix.length);
+      } else {
+        entry = rawEntry;
+      }
+
+      freePointer -= entry.length;
+
+      setIntValue(positionsOffset + i * OIntegerSerializer.INT_SIZE, freePointer);
+      setBinaryValue(freePointer, entry);
+    }
+
+    setIntValue(FREE_POINTER_OFFSET, freePointer);
+    setIntValue(SIZE_OFFSET, rawEntries.size());
+  }
+
+  /**
+   * Finds the longest common part of serialized keys which decreases size of the page if it is stored once in the header.
+   *
+   * @return Position of the common part inside of the key and its size, size is <code>0</code> if keys should be stored as is.
+   */
+  private static int[] findKeyPrefix(final List<byte[]> keys) {
+    final int[] result = new int[2];
+    if (keys.isEmpty()) {
+      return result;
+    }
+
+    for (final byte[] key : keys) {
+      if (key.length > MAX_COMPRESSED_KEY_SIZE) {
+        return result;
+      }
+    }
+
+    final byte[] firstKey = keys.get(0);
+    long bestGain = 0;
+
+    for (final int prefixStart : KEY_PREFIX_STARTS) {
+      int prefixSize = firstKey.length - prefixStart;
+
+      for (int i = 1; i < keys.size() && prefixSize > 0; i++) {
+        final byte[] key = keys.get(i);
+        prefixSize = Math.min(prefixSize, key.length - prefixStart);
+
+        int n = 0;
+        while (n < prefixSize && key[prefixStart + n] == firstKey[prefixStart + n]) {
+          n++;
+        }
+
+        prefixSize = n;
+      }
+
+      if (prefixSize <= 0) {
+        continue;
+      }
+
+      // every key stores its size instead of the common part, the common part itself is stored once
+      final long gain = (long) keys.size() * (prefixSize - OShortSerializer.SHORT_SIZE) - prefixSize;
+      if (gain > bestGain) {
+        bestGain = gain;
+
+        result[0] = prefixStart;
+        result[1] = prefixSize;
+      }
+    }
+
+    return result;
+  }
+
   public static final class SBTreeEntry<K> implements Comparable<SBTreeEntry<K>> {
     private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
 
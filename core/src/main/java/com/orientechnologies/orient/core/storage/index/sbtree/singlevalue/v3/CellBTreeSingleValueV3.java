@@ -22,9 +22,13 @@ package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
 
 import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.encryption.OEncryption;
 import com.orientechnologies.orient.core.exception.NotEmptyComponentCanNotBeRemovedException;
@@ -45,10 +49,13 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.co.cellbtreesinglevalue.OCellBTreeSingleValuePutCO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.co.cellbtreesinglevalue.OCellBTreeSingleValueRemoveCO;
+import com.orientechnologies.orient.core.storage.index.sbtree.OExternalKeySorter;
+import com.orientechnologies.orient.core.storage.index.sbtree.OKeyBloomFilter;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This is implementation which is based on B+-tree implementation threaded tree. The main differences are:
@@ -78,6 +85,27 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
 
   private static final int MAX_PATH_LENGTH = OGlobalConfiguration.SBTREE_MAX_DEPTH.getValueAsInteger();
 
+  /**
+   * Amount of attempts to look up key without locks, if tree is changed during each of them key is looked up under the lock.
+   */
+  private static final int MAX_OPTIMISTIC_READ_ATTEMPTS = 3;
+
+  /**
+   * Maximum amount of pages written by single atomic operation during bulk load of the tree.
+   */
+  private static final int BULK_LOAD_PAGES_PER_OPERATION = 1024;
+
+  /**
+   * Minimal amount of keys for which Bloom filter is sized, so filter of small tree is not rebuilt on each few insertions.
+   */
+  private static final int MIN_BLOOM_FILTER_CAPACITY = 1024;
+
+  /**
+   * Maximum amount of leaf pages which are scanned under the lock during the build of the Bloom filter, changes of the tree wait
+   * only for the scan of such portion of pages, not for the whole build.
+   */
+  private static final int BLOOM_FILTER_BUILD_PAGES_PER_LOCK = 64;
+
   private static final int                   ENTRY_POINT_INDEX = 0;
   private static final long                  ROOT_INDEX        = 1;
   private final        Comparator<? super K> comparator        = ODefaultComparator.INSTANCE;
@@ -89,12 +117,50 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
   private       OBinarySerializer<K> keySerializer;
   private       OType[]              keyTypes;
 
+  /**
+   * Whether pages of the tree keep common part of keys once per page and separator keys of non-leaf pages are truncated. Such trees
+   * are created by separate version of index engine, so they are not opened by versions of the storage which do not know this
+   * format of pages.
+   */
+  private final boolean keyPrefixCompression;
+
   private final int indexId;
 
+  private final boolean useBloomFilter = OGlobalConfiguration.INDEX_BLOOM_FILTER.getValueAsBoolean();
+
+  /**
+   * Filter of all keys of the tree. It is built in the background from the committed pages of the tree, see {@link
+   * #buildBloomFilter()}, and is {@code null} till it is built, after bulk load and after rollback of any atomic operation which
+   * changed the tree. Keys are added to the filter before they are added to the pages, so key which is absent in the filter is
+   * absent in the tree.
+   */
+  private volatile OKeyBloomFilter bloomFilter;
+
+  /**
+   * Filter which is built at the moment, keys added to the tree during the build are added to this filter too. Filter is discarded
+   * by setting this field to {@code null}. Accessed only under the lock of the tree in atomic operations manager.
+   */
+  private OKeyBloomFilter bloomFilterInBuild;
+
+  private final Runnable discardBloomFilter = () -> {
+    bloomFilter = null;
+    bloomFilterInBuild = null;
+    scheduleBloomFilterBuild();
+  };
+
+  private final    AtomicBoolean bloomFilterBuildScheduled = new AtomicBoolean();
+  private volatile boolean       bloomFilterBuildRequested;
+
   public CellBTreeSingleValueV3(final String name, int indexId, final String dataFileExtension, final String nullFileExtension,
       final OAbstractPaginatedStorage storage) {
+    this(name, indexId, dataFileExtension, nullFileExtension, storage, false);
+  }
+
+  public CellBTreeSingleValueV3(final String name, int indexId, final String dataFileExtension, final String nullFileExtension,
+      final OAbstractPaginatedStorage storage, final boolean keyPrefixCompression) {
     super(storage, name, dataFileExtension, name + dataFileExtension);
     this.indexId = indexId;
+    this.keyPrefixCompression = keyPrefixCompression;
     acquireExclusiveLock();
     try {
       this.nullFileExtension = nullFileExtension;
@@ -136,7 +202,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
         try {
           @SuppressWarnings("unused")
           final CellBTreeSingleValueBucketV3<K> rootBucket = new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
-          rootBucket.init(true);
+          rootBucket.init(true, keyPrefixCompression);
         } finally {
           releasePageFromWrite(atomicOperation, rootCacheEntry);
         }
@@ -150,6 +216,10 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
           releasePageFromWrite(atomicOperation, nullCacheEntry);
         }
 
+        if (useBloomFilter) {
+          bloomFilter = new OKeyBloomFilter(MIN_BLOOM_FILTER_CAPACITY,
+              OGlobalConfiguration.INDEX_BLOOM_FILTER_BITS_PER_KEY.getValueAsInteger());
+        }
       } finally {
         releaseExclusiveLock();
       }
@@ -163,37 +233,187 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
   }
 
   public ORID get(K key) {
+    if (key != null) {
+      //noinspection RedundantCast
+      key = keySerializer.preprocess(key, (Object[]) keyTypes);
+      if (!mightContain(key)) {
+        return null;
+      }
+    }
+
+    for (int attempt = 0; attempt < MAX_OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+      final long stamp = tryOptimisticRead();
+      if (stamp == 0) {
+        break;
+      }
+
+      try {
+        final ORID value = doGet(key, null, stamp);
+        if (validateOptimisticRead(stamp)) {
+          return value;
+        }
+      } catch (final IOException e) {
+        if (validateOptimisticRead(stamp)) {
+          throw OException.wrapException(
+              new CellBTreeSingleValueV3Exception("Error during retrieving  of sbtree with name " + getName(), this), e);
+        }
+      } catch (final Throwable t) {
+        //any error may be caused by pages which were changed during the read, it is thrown only if pages were not changed
+        if (validateOptimisticRead(stamp)) {
+          throw t;
+        }
+      }
+    }
+
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        return doGet(key, OAtomicOperationsManager.getCurrentOperation(), 0);
+      } finally {
+        releaseSharedLock();
+      }
+    } catch (final IOException e) {
+      throw OException
+          .wrapException(new CellBTreeSingleValueV3Exception("Error during retrieving  of sbtree with name " + getName(), this), e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
+  /**
+   * Runs read without locks several times till tree is not changed during the read.
+   *
+   * @return {@code false} if tree was changed during each attempt, so read has to be repeated under the lock
+   */
+  private boolean readOptimistically(final OptimisticRead read) throws IOException {
+    for (int attempt = 0; attempt < MAX_OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+      final long stamp = tryOptimisticRead();
+      if (stamp == 0) {
+        return false;
+      }
+
+      try {
+        if (read.read(stamp) && validateOptimisticRead(stamp)) {
+          return true;
+        }
+      } catch (final Throwable t) {
+        //any error may be caused by pages which were changed during the read, it is thrown only if pages were not changed
+        if (validateOptimisticRead(stamp)) {
+          throw t;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Looks up already preprocessed key. If {@code stamp} is not {@code 0} key is looked up without locks and result has to be
+   * validated by the caller, lookup is stopped as soon as tree is found to be changed.
+   */
+  private ORID doGet(final K key, final OAtomicOperation atomicOperation, final long stamp) throws IOException {
+    if (key != null) {
+      final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation, stamp);
+      if (bucketSearchResult == null || bucketSearchResult.itemIndex < 0) {
+        return null;
+      }
+
+      final long pageIndex = bucketSearchResult.pageIndex;
+      final OCacheEntry keyBucketCacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        final CellBTreeSingleValueBucketV3<K> keyBucket = new CellBTreeSingleValueBucketV3<>(keyBucketCacheEntry);
+        return keyBucket.getValue(bucketSearchResult.itemIndex, keySerializer);
+      } finally {
+        releasePageFromRead(atomicOperation, keyBucketCacheEntry);
+      }
+    } else {
+      final OCacheEntry nullBucketCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
+      try {
+        final CellBTreeSingleValueV3NullBucket nullBucket = new CellBTreeSingleValueV3NullBucket(nullBucketCacheEntry);
+        return nullBucket.getValue();
+      } finally {
+        releasePageFromRead(atomicOperation, nullBucketCacheEntry);
+      }
+    }
+  }
+
+  /**
+   * Looks up values of several keys at once. Keys are expected to be sorted in ascending order, so consecutive keys which fall into
+   * the range of keys of the already loaded leaf page are found by binary search inside of this page instead of the descent from
+   * the root.
+   */
+  @Override
+  public List<ORID> getMany(final List<K> sortedKeys) {
     atomicOperationsManager.acquireReadLock(this);
     try {
       acquireSharedLock();
       try {
         final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
-        if (key != null) {
-          //noinspection RedundantCast
-          key = keySerializer.preprocess(key, (Object[]) keyTypes);
+        final List<ORID> result = new ArrayList<>(sortedKeys.size());
 
-          final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
-          if (bucketSearchResult.itemIndex < 0) {
-            return null;
-          }
+        OCacheEntry leafCacheEntry = null;
+        try {
+          CellBTreeSingleValueBucketV3<K> leaf = null;
+          K leafFirstKey = null;
+          K leafLastKey = null;
+
+          for (K key : sortedKeys) {
+            if (key == null) {
+              final OCacheEntry nullBucketCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
+              try {
+                final CellBTreeSingleValueV3NullBucket nullBucket = new CellBTreeSingleValueV3NullBucket(nullBucketCacheEntry);
+                result.add(nullBucket.getValue());
+              } finally {
+                releasePageFromRead(atomicOperation, nullBucketCacheEntry);
+              }
 
-          final long pageIndex = bucketSearchResult.pageIndex;
-          final OCacheEntry keyBucketCacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
-          try {
-            final CellBTreeSingleValueBucketV3<K> keyBucket = new CellBTreeSingleValueBucketV3<>(keyBucketCacheEntry);
-            return keyBucket.getValue(bucketSearchResult.itemIndex, keySerializer);
-          } finally {
-            releasePageFromRead(atomicOperation, keyBucketCacheEntry);
+              continue;
+            }
+
+            //noinspection RedundantCast
+            key = keySerializer.preprocess(key, (Object[]) keyTypes);
+            if (!mightContain(key)) {
+              result.add(null);
+              continue;
+            }
+
+            final int itemIndex;
+            if (leaf != null && comparator.compare(key, leafFirstKey) >= 0 && comparator.compare(key, leafLastKey) <= 0) {
+              itemIndex = leaf.find(key, keySerializer);
+            } else {
+              if (leafCacheEntry != null) {
+                releasePageFromRead(atomicOperation, leafCacheEntry);
+                leafCacheEntry = null;
+                leaf = null;
+              }
+
+              final BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
+              itemIndex = bucketSearchResult.itemIndex;
+
+              leafCacheEntry = loadPageForRead(atomicOperation, fileId, bucketSearchResult.pageIndex, false);
+              final CellBTreeSingleValueBucketV3<K> bucket = new CellBTreeSingleValueBucketV3<>(leafCacheEntry);
+              if (!bucket.isEmpty()) {
+                leaf = bucket;
+                leafFirstKey = bucket.getKey(0, keySerializer);
+                leafLastKey = bucket.getKey(bucket.size() - 1, keySerializer);
+              }
+            }
+
+            if (itemIndex >= 0) {
+              assert leaf != null;
+              result.add(leaf.getValue(itemIndex, keySerializer));
+            } else {
+              result.add(null);
+            }
           }
-        } else {
-          final OCacheEntry nullBucketCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
-          try {
-            final CellBTreeSingleValueV3NullBucket nullBucket = new CellBTreeSingleValueV3NullBucket(nullBucketCacheEntry);
-            return nullBucket.getValue();
-          } finally {
-            releasePageFromRead(atomicOperation, nullBucketCacheEntry);
+        } finally {
+          if (leafCacheEntry != null) {
+            releasePageFromRead(atomicOperation, leafCacheEntry);
           }
         }
+
+        return result;
       } finally {
         releaseSharedLock();
       }
@@ -214,6 +434,98 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
     return update(key, value, validator);
   }
 
+  /**
+   * Fills empty tree by entries which are not sorted yet. Keys are sorted by {@link OExternalKeySorter} and tree is built
+   * bottom-up from fully packed leaf and non-leaf pages, so there are no descents from the root and no splits of pages. Entries
+   * with equal keys are passed to the validator the same way as if they were put one by one.
+   */
+  @Override
+  public boolean bulkLoad(final Iterator<ORawPair<K, ORID>> entries, final OBaseIndexEngine.Validator<K, ORID> validator)
+      throws IOException {
+    acquireExclusiveLock();
+    try {
+      final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
+      final OCacheEntry entryPointCacheEntry = loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+      try {
+        final CellBTreeSingleValueEntryPointV3<K> entryPoint = new CellBTreeSingleValueEntryPointV3<>(entryPointCacheEntry);
+        if (entryPoint.getTreeSize() > 0) {
+          return false;
+        }
+      } finally {
+        releasePageFromRead(atomicOperation, entryPointCacheEntry);
+      }
+
+      //pages are written bypassing the filter, so it is built again once tree is loaded
+      bloomFilter = null;
+      bloomFilterInBuild = null;
+
+      final long bufferSize = OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER.getValueAsLong() * 1024 * 1024;
+      try (final OExternalKeySorter<K> sorter = new OExternalKeySorter<>(keySerializer, bufferSize)) {
+        while (entries.hasNext()) {
+          final ORawPair<K, ORID> entry = entries.next();
+
+          K key = entry.getFirst();
+          if (key == null) {
+            update(null, entry.getSecond(), validator);
+            continue;
+          }
+
+          //noinspection RedundantCast
+          key = keySerializer.preprocess(key, (Object[]) keyTypes);
+          //noinspection RedundantCast
+          sorter.add(key, keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes), entry.getSecond());
+        }
+
+        buildTree(sorter.sorted(), validator);
+      }
+
+      return true;
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  private void buildTree(final Iterator<OExternalKeySorter.Entry<K>> sortedEntries,
+      final OBaseIndexEngine.Validator<K, ORID> validator) throws IOException {
+    final BulkBuilder builder = new BulkBuilder();
+
+    boolean rollback = false;
+    try {
+      OExternalKeySorter.Entry<K> pendingEntry = null;
+      while (sortedEntries.hasNext()) {
+        final OExternalKeySorter.Entry<K> entry = sortedEntries.next();
+        final boolean duplicate = pendingEntry != null && comparator.compare(pendingEntry.key, entry.key) == 0;
+
+        ORID value = entry.value;
+        if (validator != null) {
+          final Object result = validator.validate(entry.key, duplicate ? pendingEntry.value : null, value);
+          if (result == OBaseIndexEngine.Validator.IGNORE) {
+            continue;
+          }
+
+          value = (ORID) result;
+        }
+
+        if (pendingEntry != null && !duplicate) {
+          builder.addLeafEntry(pendingEntry);
+        }
+
+        pendingEntry = new OExternalKeySorter.Entry<>(entry.key, entry.serializedKey, value);
+      }
+
+      if (pendingEntry != null) {
+        builder.addLeafEntry(pendingEntry);
+      }
+
+      builder.complete();
+    } catch (final Exception e) {
+      rollback = true;
+      throw e;
+    } finally {
+      builder.endOperation(rollback);
+    }
+  }
+
   private boolean update(K key, ORID value, final OBaseIndexEngine.Validator<K, ORID> validator) throws IOException {
     boolean rollback = false;
     final OAtomicOperation atomicOperation = startAtomicOperation(true);
@@ -233,6 +545,8 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
                 getName());
           }
 
+          addToBloomFilter(serializedKey, atomicOperation);
+
           UpdateBucketSearchResult bucketSearchResult = findBucketForUpdate(key, atomicOperation);
 
           OCacheEntry keyBucketCacheEntry = loadPageForWrite(atomicOperation, fileId, bucketSearchResult.getLastPathItem(), false,
@@ -394,6 +708,9 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
 
         deleteFile(atomicOperation, fileId);
         deleteFile(atomicOperation, nullBucketFileId);
+        bloomFilter = null;
+        bloomFilterInBuild = null;
+        bloomFilterBuildRequested = false;
       } finally {
         releaseExclusiveLock();
       }
@@ -417,11 +734,25 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
       this.keySize = keySize;
       this.keyTypes = keyTypes;
       this.keySerializer = keySerializer;
+
+      final OCacheEntry rootCacheEntry = loadPageForRead(atomicOperation, fileId, ROOT_INDEX, false);
+      try {
+        final CellBTreeSingleValueBucketV3<K> rootBucket = new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
+        if (rootBucket.isKeyPrefixCompressed() != keyPrefixCompression) {
+          throw new CellBTreeSingleValueV3Exception(
+              "Format of pages of sbtree " + name + " does not match version of index, key prefix compression is " + (
+                  keyPrefixCompression ? "expected" : "not expected"), this);
+        }
+      } finally {
+        releasePageFromRead(atomicOperation, rootCacheEntry);
+      }
     } catch (final IOException e) {
       throw OException.wrapException(new CellBTreeSingleValueV3Exception("Exception during loading of sbtree " + name, this), e);
     } finally {
       releaseExclusiveLock();
     }
+
+    scheduleBloomFilterBuild();
   }
 
   public long size() {
@@ -466,6 +797,8 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
             return null;
           }
 
+          discardBloomFilterOnRollback(atomicOperation);
+
           //noinspection RedundantCast
           final byte[] serializedKey = keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes);
           final OCacheEntry keyBucketCacheEntry = loadPageForWrite(atomicOperation, fileId, bucketSearchResult.pageIndex, false,
@@ -512,6 +845,168 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
     }
   }
 
+  /**
+   * @return {@code false} if preprocessed key is known to be absent in the tree.
+   */
+  private boolean mightContain(final K key) {
+    final OKeyBloomFilter filter = bloomFilter;
+    //noinspection RedundantCast
+    return filter == null || filter.mightContain(keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes));
+  }
+
+  /**
+   * Adds key to the Bloom filter before it is added to the tree. If the filter contains too many keys, new filter is built in the
+   * background, till then keys are added to both filters. Has to be called under the exclusive lock.
+   */
+  private void addToBloomFilter(final byte[] serializedKey, final OAtomicOperation atomicOperation) {
+    if (!useBloomFilter) {
+      return;
+    }
+
+    discardBloomFilterOnRollback(atomicOperation);
+
+    final OKeyBloomFilter filter = bloomFilter;
+    if (filter != null) {
+      filter.add(serializedKey);
+
+      if (filter.isOverloaded()) {
+        scheduleBloomFilterBuild();
+      }
+    } else {
+      scheduleBloomFilterBuild();
+    }
+
+    if (bloomFilterInBuild != null) {
+      bloomFilterInBuild.add(serializedKey);
+    }
+  }
+
+  /**
+   * Rollback of atomic operation returns pages of the tree to their committed state, so the filter which was changed by this
+   * operation is discarded and built again from the committed pages.
+   */
+  private void discardBloomFilterOnRollback(final OAtomicOperation atomicOperation) {
+    if (useBloomFilter) {
+      atomicOperation.addRollbackAction(getLockName(), discardBloomFilter);
+    }
+  }
+
+  private void scheduleBloomFilterBuild() {
+    if (!useBloomFilter) {
+      return;
+    }
+
+    bloomFilterBuildRequested = true;
+    if (bloomFilterBuildScheduled.compareAndSet(false, true)) {
+      Orient.instance().submit(this::buildBloomFilterInBackground);
+    }
+  }
+
+  private void buildBloomFilterInBackground() {
+    try {
+      while (bloomFilterBuildRequested) {
+        bloomFilterBuildRequested = false;
+        buildBloomFilter();
+      }
+    } catch (final Exception e) {
+      OLogManager.instance()
+          .warn(this, "Error during build of Bloom filter of index %s, keys are looked up in index pages", e, getName());
+    } finally {
+      bloomFilterBuildScheduled.set(false);
+    }
+
+    if (bloomFilterBuildRequested) {
+      scheduleBloomFilterBuild();
+    }
+  }
+
+  /**
+   * Builds the filter from the committed pages of the tree. Leaf pages are scanned by portions of {@link
+   * #BLOOM_FILTER_BUILD_PAGES_PER_LOCK} pages, the scan of each portion continues from the last key of the previous portion. Lock
+   * of the tree in atomic operations manager is held only during the scan of single portion, so the pages are not changed by atomic
+   * operations which are not completed yet. Keys added to the tree between portions are added to the filter by {@link
+   * #addToBloomFilter(byte[], OAtomicOperation)}. Filter is published only if it was not discarded during the build.
+   */
+  private void buildBloomFilter() throws IOException {
+    OKeyBloomFilter filter = null;
+    K lastKey = null;
+
+    while (true) {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          if (filter == null) {
+            if (!isFileExists(null, getFullName())) {
+              return;
+            }
+
+            final long treeSize;
+            final OCacheEntry entryPointCacheEntry = loadPageForRead(null, fileId, ENTRY_POINT_INDEX, false);
+            try {
+              final CellBTreeSingleValueEntryPointV3<K> entryPoint = new CellBTreeSingleValueEntryPointV3<>(entryPointCacheEntry);
+              treeSize = entryPoint.getTreeSize();
+            } finally {
+              releasePageFromRead(null, entryPointCacheEntry);
+            }
+
+            filter = new OKeyBloomFilter(Math.max(2 * treeSize, MIN_BLOOM_FILTER_CAPACITY),
+                OGlobalConfiguration.INDEX_BLOOM_FILTER_BITS_PER_KEY.getValueAsInteger());
+            bloomFilterInBuild = filter;
+          } else if (bloomFilterInBuild != filter) {
+            return;
+          }
+
+          long pageIndex;
+          if (lastKey == null) {
+            final BucketSearchResult firstItem = firstItem(null);
+            pageIndex = firstItem == null ? -1 : firstItem.pageIndex;
+          } else {
+            pageIndex = findBucket(lastKey, null).pageIndex;
+          }
+
+          int pages = 0;
+          while (pageIndex >= 0 && pages < BLOOM_FILTER_BUILD_PAGES_PER_LOCK) {
+            final OCacheEntry cacheEntry = loadPageForRead(null, fileId, pageIndex, false);
+            try {
+              final CellBTreeSingleValueBucketV3<K> bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
+              final int size = bucket.size();
+              for (int i = 0; i < size; i++) {
+                final K key = bucket.getKey(i, keySerializer);
+                //noinspection RedundantCast
+                filter.add(keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes));
+                lastKey = key;
+              }
+
+              pageIndex = bucket.getRightSibling();
+            } finally {
+              releasePageFromRead(null, cacheEntry);
+            }
+
+            pages++;
+          }
+
+          if (pageIndex < 0) {
+            bloomFilter = filter;
+            bloomFilterInBuild = null;
+            return;
+          }
+        } finally {
+          releaseSharedLock();
+        }
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if keys are looked up in the Bloom filter before they are looked up in the pages of the tree.
+   */
+  boolean hasBloomFilter() {
+    return bloomFilter != null;
+  }
+
   private ORID removeNullBucket(final OAtomicOperation atomicOperation) throws IOException {
     ORID removedValue;
     final OCacheEntry nullCacheEntry = loadPageForWrite(atomicOperation, nullBucketFileId, 0, false, true);
@@ -978,7 +1473,12 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
     final int bucketSize = bucketToSplit.size();
 
     final int indexToSplit = bucketSize >>> 1;
-    final K separationKey = bucketToSplit.getKey(indexToSplit, keySerializer);
+    K separationKey = bucketToSplit.getKey(indexToSplit, keySerializer);
+
+    // inserted key which is placed at the end of the left bucket may be bigger than truncated separator
+    if (splitLeaf && keyPrefixCompression && indexToSplit > 0 && keyIndex != indexToSplit) {
+      separationKey = separatorKey(bucketToSplit.getKey(indexToSplit - 1, keySerializer), separationKey);
+    }
     final List<byte[]> rightEntries = new ArrayList<>(indexToSplit);
 
     final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
@@ -1022,7 +1522,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
 
     try {
       final CellBTreeSingleValueBucketV3<K> newRightBucket = new CellBTreeSingleValueBucketV3<>(rightBucketEntry);
-      newRightBucket.init(splitLeaf);
+      newRightBucket.init(splitLeaf, keyPrefixCompression);
       newRightBucket.addAll(rightEntries, keySerializer);
 
       bucketToSplit.shrink(indexToSplit, keySerializer);
@@ -1144,7 +1644,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
 
     try {
       final CellBTreeSingleValueBucketV3<K> newLeftBucket = new CellBTreeSingleValueBucketV3<>(leftBucketEntry);
-      newLeftBucket.init(splitLeaf);
+      newLeftBucket.init(splitLeaf, keyPrefixCompression);
       newLeftBucket.addAll(leftEntries, keySerializer);
 
       if (splitLeaf) {
@@ -1157,7 +1657,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
 
     try {
       final CellBTreeSingleValueBucketV3<K> newRightBucket = new CellBTreeSingleValueBucketV3<>(rightBucketEntry);
-      newRightBucket.init(splitLeaf);
+      newRightBucket.init(splitLeaf, keyPrefixCompression);
       newRightBucket.addAll(rightEntries, keySerializer);
 
       if (splitLeaf) {
@@ -1200,9 +1700,66 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
     return new UpdateBucketSearchResult(itemPointers, resultPath, keyIndex - indexToSplit - 1);
   }
 
-  private BucketSearchResult findBucket(final K key, final OAtomicOperation atomicOperation) throws IOException {
-    long pageIndex = ROOT_INDEX;
-
+  /**
+   * Suffix truncation of separator keys. Finds the shortest key which is bigger than the last key of the left page and is not bigger
+   * than the first key of the right page. String items are cut after the first different character, items of composite key which
+   * follow the first different item are dropped, because composite keys are compared by the common amount of items.
+   */
+  @SuppressWarnings("unchecked")
+  private K separatorKey(final K leftKey, final K rightKey) {
+    if (leftKey instanceof OCompositeKey && rightKey instanceof OCompositeKey) {
+      final List<Object> leftItems = ((OCompositeKey) leftKey).getKeys();
+      final List<Object> rightItems = ((OCompositeKey) rightKey).getKeys();
+
+      final int size = Math.min(leftItems.size(), rightItems.size());
+      for (int i = 0; i < size; i++) {
+        final Object leftItem = leftItems.get(i);
+        final Object rightItem = rightItems.get(i);
+
+        if (ODefaultComparator.INSTANCE.compare(leftItem, rightItem) != 0) {
+          final OCompositeKey separator = new OCompositeKey(rightItems.subList(0, i));
+          separator.addKey(separatorItem(leftItem, rightItem));
+
+          return (K) separator;
+        }
+      }
+
+      return rightKey;
+    }
+
+    return (K) separatorItem(leftKey, rightKey);
+  }
+
+  private static Object separatorItem(final Object leftItem, final Object rightItem) {
+    if (leftItem instanceof String && rightItem instanceof String) {
+      final String left = (String) leftItem;
+      final String right = (String) rightItem;
+
+      final int size = Math.min(left.length(), right.length());
+      int commonSize = 0;
+      while (commonSize < size && left.charAt(commonSize) == right.charAt(commonSize)) {
+        commonSize++;
+      }
+
+      if (commonSize < right.length()) {
+        return right.substring(0, commonSize + 1);
+      }
+    }
+
+    return rightItem;
+  }
+
+  private BucketSearchResult findBucket(final K key, final OAtomicOperation atomicOperation) throws IOException {
+    return findBucket(key, atomicOperation, 0);
+  }
+
+  /**
+   * @param stamp stamp of optimistic read or {@code 0} if tree is locked, in case of optimistic read {@code null} is returned if
+   *              tree was changed during the search
+   */
+  private BucketSearchResult findBucket(final K key, final OAtomicOperation atomicOperation, final long stamp) throws IOException {
+    long pageIndex = ROOT_INDEX;
+
     int depth = 0;
     while (true) {
       depth++;
@@ -1234,6 +1791,10 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
       } finally {
         releasePageFromRead(atomicOperation, bucketEntry);
       }
+
+      if (stamp != 0 && !validateOptimisticRead(stamp)) {
+        return null;
+      }
     }
   }
 
@@ -1352,6 +1913,16 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
     LOWEST_BOUNDARY
   }
 
+  /**
+   * Read which is performed without locks, see {@link #readOptimistically(OptimisticRead)}.
+   */
+  private interface OptimisticRead {
+    /**
+     * @return {@code false} if tree was changed during the read
+     */
+    boolean read(long stamp) throws IOException;
+  }
+
   private static final class BucketSearchResult {
     private final int  itemIndex;
     private final long pageIndex;
@@ -1388,6 +1959,282 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
     }
   }
 
+  /**
+   * Builds tree bottom-up from sorted entries. Pages of each level are filled from left to right till they are full, written page
+   * is added as a child to the current page of the parent level. Non-leaf page is written only when the next page of the same
+   * level contains at least one key, so the last page of the level may take the last key of the previous one. Content of the top
+   * level is written into the root page. Pages are written in a series of atomic operations to limit memory consumed by a single
+   * operation, the tree stays empty till the root page is written.
+   */
+  private final class BulkBuilder {
+    private final List<BulkLevel> levels = new ArrayList<>(8);
+
+    private OAtomicOperation atomicOperation;
+    private int              pagesInOperation;
+
+    private int  pagesSize = -1;
+    private long treeSize;
+    private int  lastLeaf  = -1;
+    private K    lastKey;
+
+    private BulkBuilder() {
+      levels.add(new BulkLevel(true));
+    }
+
+    private void addLeafEntry(final OExternalKeySorter.Entry<K> entry) throws IOException {
+      final byte[] serializedKey = entry.serializedKey;
+      final byte[] rawEntry = new byte[serializedKey.length + OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
+
+      System.arraycopy(serializedKey, 0, rawEntry, 0, serializedKey.length);
+      OShortSerializer.INSTANCE.serializeNative((short) entry.value.getClusterId(), rawEntry, serializedKey.length);
+      OLongSerializer.INSTANCE
+          .serializeNative(entry.value.getClusterPosition(), rawEntry, serializedKey.length + OShortSerializer.SHORT_SIZE);
+
+      final BulkLevel leafLevel = levels.get(0);
+      if (!leafLevel.entries.isEmpty() && !leafLevel.isEnoughSpace(rawEntry)) {
+        addChild(1, leafLevel.separator, writePage(true, leafLevel.entries));
+
+        if (keyPrefixCompression) {
+          leafLevel.clear(keySerializer.serializeNativeAsWhole(separatorKey(lastKey, entry.key), (Object[]) keyTypes));
+        } else {
+          leafLevel.clear(serializedKey);
+        }
+      }
+
+      leafLevel.add(rawEntry);
+      lastKey = entry.key;
+      treeSize++;
+    }
+
+    private void addChild(final int depth, final byte[] separator, final int child) throws IOException {
+      if (levels.size() == depth) {
+        levels.add(new BulkLevel(false));
+      }
+
+      final BulkLevel level = levels.get(depth);
+      if (level.lastChild < 0) {
+        level.separator = separator;
+        level.lastChild = child;
+        return;
+      }
+
+      final byte[] rawEntry = nonLeafEntry(level.lastChild, child, separator);
+      if (!level.isEnoughSpace(rawEntry)) {
+        assert level.fullPage == null;
+
+        level.fullPage = level.entries;
+        level.fullPageSeparator = level.separator;
+
+        level.clear(separator);
+        level.lastChild = child;
+        return;
+      }
+
+      if (level.fullPage != null) {
+        writeFullPage(depth, level);
+      }
+
+      level.add(rawEntry);
+      level.lastChild = child;
+    }
+
+    private void complete() throws IOException {
+      int depth = 0;
+      while (depth < levels.size() - 1 || levels.get(depth).fullPage != null) {
+        final BulkLevel level = levels.get(depth);
+
+        if (level.fullPage != null && level.entries.isEmpty()) {
+          // current page contains single child, so last key of the previous page is moved to it
+          assert level.fullPage.size() > 1;
+
+          final byte[] lastEntry = level.fullPage.remove(level.fullPage.size() - 1);
+          final int lastChild = OIntegerSerializer.INSTANCE.deserializeNative(lastEntry, OIntegerSerializer.INT_SIZE);
+
+          level.add(nonLeafEntry(lastChild, level.lastChild, level.separator));
+          level.separator = Arrays.copyOfRange(lastEntry, 2 * OIntegerSerializer.INT_SIZE, lastEntry.length);
+        }
+
+        if (level.fullPage != null) {
+          writeFullPage(depth, level);
+        }
+
+        addChild(depth + 1, level.separator, writePage(level.leaf, level.entries));
+        depth++;
+      }
+
+      final BulkLevel rootLevel = levels.get(depth);
+      startOperation();
+
+      final OCacheEntry rootCacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false, true);
+      try {
+        final CellBTreeSingleValueBucketV3<K> rootBucket = new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
+        if (!rootLevel.leaf) {
+          rootBucket.switchBucketType();
+        }
+
+        if (!rootLevel.entries.isEmpty()) {
+          rootBucket.addAll(rootLevel.entries, keySerializer);
+        }
+      } finally {
+        releasePageFromWrite(atomicOperation, rootCacheEntry);
+      }
+
+      final OCacheEntry entryPointCacheEntry = loadPageForWrite(atomicOperation, fileId, ENTRY_POINT_INDEX, false, true);
+      try {
+        final CellBTreeSingleValueEntryPointV3<K> entryPoint = new CellBTreeSingleValueEntryPointV3<>(entryPointCacheEntry);
+        if (pagesSize >= 0) {
+          entryPoint.setPagesSize(pagesSize);
+        }
+        entryPoint.setTreeSize(entryPoint.getTreeSize() + treeSize);
+      } finally {
+        releasePageFromWrite(atomicOperation, entryPointCacheEntry);
+      }
+    }
+
+    private void writeFullPage(final int depth, final BulkLevel level) throws IOException {
+      final List<byte[]> fullPage = level.fullPage;
+      final byte[] fullPageSeparator = level.fullPageSeparator;
+
+      level.fullPage = null;
+      level.fullPageSeparator = null;
+
+      addChild(depth + 1, fullPageSeparator, writePage(false, fullPage));
+    }
+
+    private int writePage(final boolean leaf, final List<byte[]> entries) throws IOException {
+      startOperation();
+
+      final int pageIndex;
+      final OCacheEntry cacheEntry = allocatePage();
+      try {
+        pageIndex = cacheEntry.getPageIndex();
+
+        final CellBTreeSingleValueBucketV3<K> bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
+        bucket.init(leaf, keyPrefixCompression);
+        bucket.addAll(entries, keySerializer);
+
+        if (leaf && lastLeaf >= 0) {
+          bucket.setLeftSibling(lastLeaf);
+        }
+      } finally {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+      }
+
+      if (leaf) {
+        if (lastLeaf >= 0) {
+          final OCacheEntry lastLeafCacheEntry = loadPageForWrite(atomicOperation, fileId, lastLeaf, false, true);
+          try {
+            final CellBTreeSingleValueBucketV3<K> lastLeafBucket = new CellBTreeSingleValueBucketV3<>(lastLeafCacheEntry);
+            lastLeafBucket.setRightSibling(pageIndex);
+          } finally {
+            releasePageFromWrite(atomicOperation, lastLeafCacheEntry);
+          }
+        }
+
+        lastLeaf = pageIndex;
+      }
+
+      pagesInOperation++;
+      if (pagesInOperation >= BULK_LOAD_PAGES_PER_OPERATION) {
+        endOperation(false);
+      }
+
+      return pageIndex;
+    }
+
+    private OCacheEntry allocatePage() throws IOException {
+      if (pagesSize < 0) {
+        final OCacheEntry entryPointCacheEntry = loadPageForRead(atomicOperation, fileId, ENTRY_POINT_INDEX, false);
+        try {
+          final CellBTreeSingleValueEntryPointV3<K> entryPoint = new CellBTreeSingleValueEntryPointV3<>(entryPointCacheEntry);
+          pagesSize = entryPoint.getPagesSize();
+        } finally {
+          releasePageFromRead(atomicOperation, entryPointCacheEntry);
+        }
+      }
+
+      if (pagesSize < getFilledUpTo(atomicOperation, fileId) - 1) {
+        pagesSize++;
+        return loadPageForWrite(atomicOperation, fileId, pagesSize, false, false);
+      }
+
+      final OCacheEntry cacheEntry = addPage(atomicOperation, fileId);
+      pagesSize = cacheEntry.getPageIndex();
+
+      return cacheEntry;
+    }
+
+    private void startOperation() throws IOException {
+      if (atomicOperation == null) {
+        atomicOperation = startAtomicOperation(true);
+        pagesInOperation = 0;
+      }
+    }
+
+    private void endOperation(final boolean rollback) throws IOException {
+      if (atomicOperation != null) {
+        atomicOperation = null;
+        endAtomicOperation(rollback);
+      }
+    }
+
+    private byte[] nonLeafEntry(final int leftChild, final int rightChild, final byte[] key) {
+      final byte[] rawEntry = new byte[2 * OIntegerSerializer.INT_SIZE + key.length];
+
+      OIntegerSerializer.INSTANCE.serializeNative(leftChild, rawEntry, 0);
+      OIntegerSerializer.INSTANCE.serializeNative(rightChild, rawEntry, OIntegerSerializer.INT_SIZE);
+      System.arraycopy(key, 0, rawEntry, 2 * OIntegerSerializer.INT_SIZE, key.length);
+
+      return rawEntry;
+    }
+  }
+
+  private static final class BulkLevel {
+    private final boolean      leaf;
+    private       List<byte[]> entries = new ArrayList<>();
+    private       int          entriesSize;
+
+    /**
+     * Key which separates current page from the previous page of the same level, <code>null</code> for the first page.
+     */
+    private byte[] separator;
+
+    /**
+     * The rightmost child of current non-leaf page or <code>-1</code> if page is empty.
+     */
+    private int lastChild = -1;
+
+    /**
+     * Full non-leaf page which is not written yet.
+     */
+    private List<byte[]> fullPage;
+    private byte[]       fullPageSeparator;
+
+    private BulkLevel(final boolean leaf) {
+      this.leaf = leaf;
+    }
+
+    private boolean isEnoughSpace(final byte[] rawEntry) {
+      return CellBTreeSingleValueBucketV3.isEnoughSpace(entries.size() + 1, entriesSize + rawEntry.length);
+    }
+
+    private void add(final byte[] rawEntry) {
+      entries.add(rawEntry);
+      entriesSize += rawEntry.length;
+    }
+
+    /**
+     * Starts new page of the level, list of entries of the previous page is not reused because it is referenced by page
+     * operations.
+     */
+    private void clear(final byte[] separator) {
+      entries = new ArrayList<>();
+      entriesSize = 0;
+
+      this.separator = separator;
+    }
+  }
+
   public final class OSBTreeFullKeyCursor implements OCellBTreeKeyCursor<K> {
     private long pageIndex;
     private int  itemIndex;
@@ -1528,81 +2375,25 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
         prefetchSize = 1;
       }
 
-      atomicOperationsManager.acquireReadLock(CellBTreeSingleValueV3.this);
+      final int batchSize = prefetchSize;
       try {
-        acquireSharedLock();
-        try {
-          final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
-
-          final BucketSearchResult bucketSearchResult;
-
-          if (fromKey != null) {
-            bucketSearchResult = findBucket(fromKey, atomicOperation);
-          } else {
-            bucketSearchResult = firstItem(atomicOperation);
-          }
-
-          if (bucketSearchResult == null) {
-            dataCacheIterator = null;
-            return null;
-          }
-
-          long pageIndex = bucketSearchResult.pageIndex;
-          int itemIndex;
-
-          if (bucketSearchResult.itemIndex >= 0) {
-            itemIndex = fromKeyInclusive ? bucketSearchResult.itemIndex : bucketSearchResult.itemIndex + 1;
-          } else {
-            itemIndex = -bucketSearchResult.itemIndex - 1;
-          }
-
-          mainCycle:
-          while (dataCache.size() < prefetchSize) {
-            if (pageIndex == -1) {
-              break;
-            }
-
-            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        //first batch of the cursor without boundary is read under the lock
+        if (fromKey == null || !readOptimistically(stamp -> fetchNextBatch(batchSize, null, stamp))) {
+          atomicOperationsManager.acquireReadLock(CellBTreeSingleValueV3.this);
+          try {
+            acquireSharedLock();
             try {
-              final CellBTreeSingleValueBucketV3<K> bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
-              final int bucketSize = bucket.size();
-              if (itemIndex >= bucketSize) {
-                pageIndex = bucket.getRightSibling();
-                itemIndex = 0;
-                continue;
-              }
-
-              while (itemIndex < bucketSize && dataCache.size() < prefetchSize) {
-                final Map.Entry<K, ORID> entry = convertToMapEntry(bucket.getEntry(itemIndex, keySerializer));
-                itemIndex++;
-
-                if (fromKey != null && (fromKeyInclusive
-                    ? comparator.compare(entry.getKey(), fromKey) < 0
-                    : comparator.compare(entry.getKey(), fromKey) <= 0)) {
-                  continue;
-                }
-
-                if (toKey != null && (toKeyInclusive
-                    ? comparator.compare(entry.getKey(), toKey) > 0
-                    : comparator.compare(entry.getKey(), toKey) >= 0)) {
-                  break mainCycle;
-                }
-
-                dataCache.add(entry);
-              }
-
+              fetchNextBatch(batchSize, OAtomicOperationsManager.getCurrentOperation(), 0);
             } finally {
-              releasePageFromRead(atomicOperation, cacheEntry);
+              releaseSharedLock();
             }
+          } finally {
+            atomicOperationsManager.releaseReadLock(CellBTreeSingleValueV3.this);
           }
-        } finally {
-          releaseSharedLock();
         }
       } catch (final IOException e) {
         throw OException
             .wrapException(new CellBTreeSingleValueV3Exception("Error during element iteration", CellBTreeSingleValueV3.this), e);
-      } finally {
-        atomicOperationsManager.releaseReadLock(CellBTreeSingleValueV3.this);
       }
 
       if (dataCache.isEmpty()) {
@@ -1619,6 +2410,86 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
 
       return entry;
     }
+
+    /**
+     * Reads next entries of the cursor into {@link #dataCache}.
+     *
+     * @param stamp stamp of optimistic read or {@code 0} if tree is locked
+     *
+     * @return {@code false} if tree was changed during optimistic read
+     */
+    private boolean fetchNextBatch(final int prefetchSize, final OAtomicOperation atomicOperation, final long stamp)
+        throws IOException {
+      dataCache.clear();
+
+      final BucketSearchResult bucketSearchResult;
+
+      if (fromKey != null) {
+        bucketSearchResult = findBucket(fromKey, atomicOperation, stamp);
+      } else {
+        bucketSearchResult = firstItem(atomicOperation);
+      }
+
+      if (bucketSearchResult == null) {
+        //tree is empty or it was changed during optimistic read
+        return stamp == 0;
+      }
+
+      long pageIndex = bucketSearchResult.pageIndex;
+      int itemIndex;
+
+      if (bucketSearchResult.itemIndex >= 0) {
+        itemIndex = fromKeyInclusive ? bucketSearchResult.itemIndex : bucketSearchResult.itemIndex + 1;
+      } else {
+        itemIndex = -bucketSearchResult.itemIndex - 1;
+      }
+
+      mainCycle:
+      while (dataCache.size() < prefetchSize) {
+        if (pageIndex == -1) {
+          break;
+        }
+
+        if (stamp != 0 && !validateOptimisticRead(stamp)) {
+          return false;
+        }
+
+        final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        try {
+          final CellBTreeSingleValueBucketV3<K> bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
+          final int bucketSize = bucket.size();
+          if (itemIndex >= bucketSize) {
+            pageIndex = bucket.getRightSibling();
+            itemIndex = 0;
+            continue;
+          }
+
+          while (itemIndex < bucketSize && dataCache.size() < prefetchSize) {
+            final Map.Entry<K, ORID> entry = convertToMapEntry(bucket.getEntry(itemIndex, keySerializer));
+            itemIndex++;
+
+            if (fromKey != null && (fromKeyInclusive
+                ? comparator.compare(entry.getKey(), fromKey) < 0
+                : comparator.compare(entry.getKey(), fromKey) <= 0)) {
+              continue;
+            }
+
+            if (toKey != null && (toKeyInclusive
+                ? comparator.compare(entry.getKey(), toKey) > 0
+                : comparator.compare(entry.getKey(), toKey) >= 0)) {
+              break mainCycle;
+            }
+
+            dataCache.add(entry);
+          }
+
+        } finally {
+          releasePageFromRead(atomicOperation, cacheEntry);
+        }
+      }
+
+      return true;
+    }
   }
 
   private final class OSBTreeCursorBackward implements OCellBTreeCursor<K, ORID> {
@@ -1662,84 +2533,25 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
         prefetchSize = OGlobalConfiguration.INDEX_CURSOR_PREFETCH_SIZE.getValueAsInteger();
       }
 
-      atomicOperationsManager.acquireReadLock(CellBTreeSingleValueV3.this);
+      final int batchSize = prefetchSize;
       try {
-        acquireSharedLock();
-        try {
-          final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
-
-          final BucketSearchResult bucketSearchResult;
-
-          if (toKey != null) {
-            bucketSearchResult = findBucket(toKey, atomicOperation);
-          } else {
-            bucketSearchResult = lastItem(atomicOperation);
-          }
-
-          if (bucketSearchResult == null) {
-            dataCacheIterator = null;
-            return null;
-          }
-
-          long pageIndex = bucketSearchResult.pageIndex;
-
-          int itemIndex;
-          if (bucketSearchResult.itemIndex >= 0) {
-            itemIndex = toKeyInclusive ? bucketSearchResult.itemIndex : bucketSearchResult.itemIndex - 1;
-          } else {
-            itemIndex = -bucketSearchResult.itemIndex - 2;
-          }
-
-          mainCycle:
-          while (dataCache.size() < prefetchSize) {
-            if (pageIndex == -1) {
-              break;
-            }
-
-            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        //first batch of the cursor without boundary is read under the lock
+        if (toKey == null || !readOptimistically(stamp -> fetchNextBatch(batchSize, null, stamp))) {
+          atomicOperationsManager.acquireReadLock(CellBTreeSingleValueV3.this);
+          try {
+            acquireSharedLock();
             try {
-              final CellBTreeSingleValueBucketV3<K> bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
-              if (itemIndex >= bucket.size()) {
-                itemIndex = bucket.size() - 1;
-              }
-
-              if (itemIndex < 0) {
-                pageIndex = bucket.getLeftSibling();
-                itemIndex = Integer.MAX_VALUE;
-                continue;
-              }
-
-              while (itemIndex >= 0 && dataCache.size() < prefetchSize) {
-                final Map.Entry<K, ORID> entry = convertToMapEntry(bucket.getEntry(itemIndex, keySerializer));
-                itemIndex--;
-
-                if (toKey != null && (toKeyInclusive
-                    ? comparator.compare(entry.getKey(), toKey) > 0
-                    : comparator.compare(entry.getKey(), toKey) >= 0)) {
-                  continue;
-                }
-
-                if (fromKey != null && (fromKeyInclusive
-                    ? comparator.compare(entry.getKey(), fromKey) < 0
-                    : comparator.compare(entry.getKey(), fromKey) <= 0)) {
-                  break mainCycle;
-                }
-
-                dataCache.add(entry);
-              }
-
+              fetchNextBatch(batchSize, OAtomicOperationsManager.getCurrentOperation(), 0);
             } finally {
-              releasePageFromRead(atomicOperation, cacheEntry);
+              releaseSharedLock();
             }
+          } finally {
+            atomicOperationsManager.releaseReadLock(CellBTreeSingleValueV3.this);
           }
-        } finally {
-          releaseSharedLock();
         }
       } catch (final IOException e) {
         throw OException
             .wrapException(new CellBTreeSingleValueV3Exception("Error during element iteration", CellBTreeSingleValueV3.this), e);
-      } finally {
-        atomicOperationsManager.releaseReadLock(CellBTreeSingleValueV3.this);
       }
 
       if (dataCache.isEmpty()) {
@@ -1756,5 +2568,88 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent implement
 
       return entry;
     }
+
+    /**
+     * Reads next entries of the cursor into {@link #dataCache}.
+     *
+     * @param stamp stamp of optimistic read or {@code 0} if tree is locked
+     *
+     * @return {@code false} if tree was changed during optimistic read
+     */
+    private boolean fetchNextBatch(final int prefetchSize, final OAtomicOperation atomicOperation, final long stamp)
+        throws IOException {
+      dataCache.clear();
+
+      final BucketSearchResult bucketSearchResult;
+
+      if (toKey != null) {
+        bucketSearchResult = findBucket(toKey, atomicOperation, stamp);
+      } else {
+        bucketSearchResult = lastItem(atomicOperation);
+      }
+
+      if (bucketSearchResult == null) {
+        //tree is empty or it was changed during optimistic read
+        return stamp == 0;
+      }
+
+      long pageIndex = bucketSearchResult.pageIndex;
+
+      int itemIndex;
+      if (bucketSearchResult.itemIndex >= 0) {
+        itemIndex = toKeyInclusive ? bucketSearchResult.itemIndex : bucketSearchResult.itemIndex - 1;
+      } else {
+        itemIndex = -bucketSearchResult.itemIndex - 2;
+      }
+
+      mainCycle:
+      while (dataCache.size() < prefetchSize) {
+        if (pageIndex == -1) {
+          break;
+        }
+
+        if (stamp != 0 && !validateOptimisticRead(stamp)) {
+          return false;
+        }
+
+        final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+        try {
+          final CellBTreeSingleValueBucketV3<K> bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
+          if (itemIndex >= bucket.size()) {
+            itemIndex = bucket.size() - 1;
+          }
+
+          if (itemIndex < 0) {
+            pageIndex = bucket.getLeftSibling();
+            itemIndex = Integer.MAX_VALUE;
+            continue;
+          }
+
+          while (itemIndex >= 0 && dataCache.size() < prefetchSize) {
+            final Map.Entry<K, ORID> entry = convertToMapEntry(bucket.getEntry(itemIndex, keySerializer));
+            itemIndex--;
+
+            if (toKey != null && (toKeyInclusive
+                ? comparator.compare(entry.getKey(), toKey) > 0
+                : comparator.compare(entry.getKey(), toKey) >= 0)) {
+              continue;
+            }
+
+            if (fromKey != null && (fromKeyInclusive
+                ? comparator.compare(entry.getKey(), fromKey) < 0
+                : comparator.compare(entry.getKey(), fromKey) <= 0)) {
+              break mainCycle;
+            }
+
+            dataCache.add(entry);
+          }
+
+        } finally {
+          releasePageFromRead(atomicOperation, cacheEntry);
+        }
+      }
+
+      return true;
+    }
   }
 }
@@ -0,0 +1,107 @@
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OSharedRecordCacheTest {
+  @Test
+  public void testPutGet() {
+    final OSharedRecordCache cache = new OSharedRecordCache(1024 * 1024);
+
+    final ORecordId rid = new ORecordId(10, 1);
+    Assert.assertNull(cache.get(rid));
+
+    final byte[] content = new byte[] { 1, 2, 3 };
+    cache.put(rid, new ORawBuffer(content, 4, (byte) 'd'), cache.stamp());
+
+    // changes of the passed and returned content are not visible to the cache
+    content[0] = 42;
+    final ORawBuffer buffer = cache.get(new ORecordId(10, 1));
+    Assert.assertNotNull(buffer);
+    Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, buffer.buffer);
+    Assert.assertEquals(4, buffer.version);
+    Assert.assertEquals('d', buffer.recordType);
+
+    buffer.buffer[1] = 42;
+    Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, cache.get(rid).buffer);
+
+    Assert.assertEquals(2, cache.getHits(10));
+    Assert.assertEquals(1, cache.getMisses(10));
+    Assert.assertEquals(2.0 / 3, cache.getHitRatio(10), 0.001);
+    Assert.assertEquals(0, cache.getHitRatio(11), 0.001);
+  }
+
+  @Test
+  public void testInvalidate() {
+    final OSharedRecordCache cache = new OSharedRecordCache(1024 * 1024);
+
+    final ORecordId rid = new ORecordId(10, 1);
+    cache.put(rid, new ORawBuffer(new byte[] { 1 }, 1, (byte) 'd'), cache.stamp());
+    cache.put(new ORecordId(11, 1), new ORawBuffer(new byte[] { 1 }, 1, (byte) 'd'), cache.stamp());
+
+    cache.invalidate(rid);
+    Assert.assertNull(cache.get(rid));
+    Assert.assertNotNull(cache.get(new ORecordId(11, 1)));
+
+    cache.invalidateCluster(11);
+    Assert.assertNull(cache.get(new ORecordId(11, 1)));
+    Assert.assertEquals(0, cache.getRecordsCount());
+    Assert.assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testStaleRecordIsNotCached() {
+    final OSharedRecordCache cache = new OSharedRecordCache(1024 * 1024);
+
+    final ORecordId rid = new ORecordId(10, 1);
+    final long stamp = cache.stamp();
+
+    // record is changed after it was read by other thread but before it was put into the cache
+    cache.invalidate(rid);
+    cache.put(rid, new ORawBuffer(new byte[] { 1 }, 1, (byte) 'd'), stamp);
+
+    Assert.assertNull(cache.get(rid));
+  }
+
+  @Test
+  public void testSizeLimit() {
+    final int maxSize = 64 * 1024;
+    final OSharedRecordCache cache = new OSharedRecordCache(maxSize);
+
+    for (int i = 0; i < 10_000; i++) {
+      cache.put(new ORecordId(10, i), new ORawBuffer(new byte[100], 1, (byte) 'd'), cache.stamp());
+      Assert.assertTrue(cache.getSize() <= maxSize);
+    }
+
+    Assert.assertTrue(cache.getRecordsCount() > 0);
+    Assert.assertTrue(cache.getRecordsCount() < 10_000);
+  }
+
+  @Test
+  public void testFrequentlyReadRecordsAreKept() {
+    final int maxSize = 64 * 1024;
+    final OSharedRecordCache cache = new OSharedRecordCache(maxSize);
+
+    final int hotRecords = 50;
+    for (int i = 0; i < hotRecords; i++) {
+      cache.put(new ORecordId(10, i), new ORawBuffer(new byte[100], 1, (byte) 'd'), cache.stamp());
+    }
+
+    // records which are read only once do not push out records which are read all the time
+    for (int i = 0; i < 10_000; i++) {
+      cache.put(new ORecordId(11, i), new ORawBuffer(new byte[100], 1, (byte) 'd'), cache.stamp());
+
+      if (i % 100 == 0) {
+        for (int n = 0; n < hotRecords; n++) {
+          Assert.assertNotNull(cache.get(new ORecordId(10, n)));
+        }
+      }
+    }
+
+    for (int i = 0; i < hotRecords; i++) {
+      Assert.assertNotNull(cache.get(new ORecordId(10, i)));
+    }
+  }
+}
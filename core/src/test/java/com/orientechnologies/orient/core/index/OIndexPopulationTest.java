@@ -0,0 +1,133 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.listener.OProgressListener;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public class OIndexPopulationTest {
+  private static final int DOCUMENTS = 60_000;
+
+  private ODatabaseDocumentTx db;
+
+  private int     populationThreads;
+  private boolean bulkBuild;
+
+  @Before
+  public void before() {
+    populationThreads = OGlobalConfiguration.INDEX_POPULATION_THREADS.getValueAsInteger();
+    bulkBuild = OGlobalConfiguration.INDEX_BULK_BUILD.getValueAsBoolean();
+
+    db = new ODatabaseDocumentTx("memory:" + OIndexPopulationTest.class.getSimpleName());
+    db.create();
+
+    final OClass person = db.getMetadata().getSchema().createClass("Person", 2);
+    person.createProperty("id", OType.INTEGER);
+    person.createProperty("tags", OType.EMBEDDEDLIST, OType.STRING);
+
+    for (int i = 0; i < DOCUMENTS; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("id", i);
+      document.field("tags", Arrays.asList("t" + (i % 100), "u" + (i % 7)));
+      document.save();
+    }
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.INDEX_POPULATION_THREADS.setValue(populationThreads);
+    OGlobalConfiguration.INDEX_BULK_BUILD.setValue(bulkBuild);
+
+    db.drop();
+  }
+
+  @Test
+  public void testParallelPopulation() {
+    OGlobalConfiguration.INDEX_POPULATION_THREADS.setValue(4);
+    OGlobalConfiguration.INDEX_BULK_BUILD.setValue(false);
+
+    assertPopulation();
+  }
+
+  @Test
+  public void testParallelBulkBuild() {
+    OGlobalConfiguration.INDEX_POPULATION_THREADS.setValue(4);
+    OGlobalConfiguration.INDEX_BULK_BUILD.setValue(true);
+
+    assertPopulation();
+  }
+
+  private void assertPopulation() {
+    final OClass person = db.getMetadata().getSchema().getClass("Person");
+
+    final ProgressListener uniqueProgress = new ProgressListener();
+    final OIndex<?> unique = person.createIndex("Person.id", OClass.INDEX_TYPE.UNIQUE, uniqueProgress, "id");
+    uniqueProgress.assertCompleted();
+
+    final ProgressListener notUniqueProgress = new ProgressListener();
+    final OIndex<?> notUnique = person.createIndex("Person.tags", OClass.INDEX_TYPE.NOTUNIQUE, notUniqueProgress, "tags");
+    notUniqueProgress.assertCompleted();
+
+    assertIndexes(unique, notUnique);
+
+    final ProgressListener rebuildProgress = new ProgressListener();
+    Assert.assertEquals(DOCUMENTS, unique.rebuild(rebuildProgress));
+    rebuildProgress.assertCompleted();
+
+    Assert.assertEquals(DOCUMENTS, notUnique.rebuild());
+
+    assertIndexes(unique, notUnique);
+  }
+
+  private void assertIndexes(final OIndex<?> unique, final OIndex<?> notUnique) {
+    Assert.assertEquals(DOCUMENTS, unique.getSize());
+    for (int i = 0; i < DOCUMENTS; i += 997) {
+      final ODocument document = ((OIdentifiable) unique.get(i)).getRecord();
+      Assert.assertEquals(i, (int) document.field("id"));
+    }
+    Assert.assertNull(unique.get(DOCUMENTS));
+
+    Assert.assertEquals(DOCUMENTS / 100, ((Collection<?>) notUnique.get("t5")).size());
+    Assert.assertEquals(DOCUMENTS / 7 + 1, ((Collection<?>) notUnique.get("u3")).size());
+  }
+
+  private static final class ProgressListener implements OProgressListener {
+    private long    total    = -1;
+    private long    counter;
+    private boolean succeed;
+
+    @Override
+    public void onBegin(final Object iTask, final long iTotal, final Object iMetadata) {
+      total = iTotal;
+    }
+
+    @Override
+    public boolean onProgress(final Object iTask, final long iCounter, final float iPercent) {
+      Assert.assertTrue(iCounter >= counter);
+      Assert.assertTrue(iCounter <= total);
+      counter = iCounter;
+      return true;
+    }
+
+    @Override
+    public void onCompletition(final Object iTask, final boolean iSucceed) {
+      succeed = iSucceed;
+    }
+
+    private void assertCompleted() {
+      Assert.assertTrue(succeed);
+      Assert.assertEquals(DOCUMENTS, total);
+      Assert.assertEquals(DOCUMENTS, counter);
+    }
+  }
+}
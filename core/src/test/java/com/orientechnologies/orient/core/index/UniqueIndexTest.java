@@ -1,8 +1,10 @@
 package com.orientechnologies.orient.core.index;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeSingleValueIndexEngine;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
@@ -93,6 +95,43 @@ public class UniqueIndexTest {
     Assert.assertEquals(result.size(), 1);
   }
 
+  @Test
+  public void testUniqueWithKeyPrefixCompression() {
+    final boolean keyPrefixCompression = OGlobalConfiguration.INDEX_KEY_PREFIX_COMPRESSION.getValueAsBoolean();
+    OGlobalConfiguration.INDEX_KEY_PREFIX_COMPRESSION.setValue(true);
+    try {
+      final OSchema schema = db.getMetadata().getSchema();
+      OClass userClass = schema.createClass("User");
+      userClass.createProperty("MailAddress", OType.STRING).createIndex(OClass.INDEX_TYPE.UNIQUE);
+    } finally {
+      OGlobalConfiguration.INDEX_KEY_PREFIX_COMPRESSION.setValue(keyPrefixCompression);
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument user = new ODocument("User");
+      user.field("MailAddress", "user" + i + "@doe.com");
+      db.save(user);
+    }
+
+    db.close();
+    db.open("admin", "admin");
+
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("User.MailAddress");
+    Assert.assertEquals(OCellBTreeSingleValueIndexEngine.KEY_PREFIX_COMPRESSION_VERSION, index.getVersion());
+
+    try {
+      ODocument toUp = new ODocument("User");
+      toUp.field("MailAddress", "user42@doe.com");
+
+      db.save(toUp);
+      Assert.fail("Expected record duplicate exception");
+    } catch (ORecordDuplicatedException ex) {
+    }
+
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>("select from User where MailAddress = 'user42@doe.com'"));
+    Assert.assertEquals(result.size(), 1);
+  }
+
   @After
   public void after() {
     db.drop();
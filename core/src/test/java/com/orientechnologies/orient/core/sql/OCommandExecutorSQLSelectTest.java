@@ -1592,6 +1592,24 @@ public class OCommandExecutorSQLSelectTest {
     assertEquals((int)results.get(0).field("x"), 2);
   }
 
+  @Test
+  public void testPartialIndexIsNotUsed() {
+    String className = "testPartialIndexIsNotUsed";
+
+    db.command(new OCommandSQL("create class " + className)).execute();
+    db.command(new OCommandSQL("create property " + className + ".name STRING")).execute();
+    db.command(new OCommandSQL("create property " + className + ".status STRING")).execute();
+    db.command("create index " + className + ".name on " + className + " (name) NOTUNIQUE where status = 'active'").close();
+    db.command(new OCommandSQL("insert into " + className + " SET name = 'foo', status = 'active'")).execute();
+    db.command(new OCommandSQL("insert into " + className + " SET name = 'foo', status = 'inactive'")).execute();
+
+    List<ODocument> results = db.query(new OSQLSynchQuery<ODocument>("SELECT * FROM " + className + " WHERE name = 'foo'"));
+    assertEquals(results.size(), 2);
+
+    results = db.query(new OSQLSynchQuery<ODocument>("SELECT * FROM " + className + " ORDER BY name LIMIT 10"));
+    assertEquals(results.size(), 2);
+  }
+
   private long indexUsages(ODatabaseDocumentTx db) {
     final long oldIndexUsage;
     try {
@@ -0,0 +1,138 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class OBinaryRecordFilterTest extends TestUtilsFixture {
+
+  @Test
+  public void testMayMatch() {
+    OClass clazz = createClassInstance();
+    clazz.createProperty("name", OType.STRING).setCollate("ci");
+    clazz.createProperty("val", OType.INTEGER);
+
+    ODocument first = new ODocument(clazz.getName());
+    first.field("name", "Foo");
+    first.field("val", 5);
+    first.field("tag", "a");
+    first.save();
+
+    ODocument second = new ODocument(clazz.getName());
+    second.field("name", "bar");
+    second.field("val", 10);
+    second.save();
+
+    ORID rid1 = first.getIdentity();
+    ORID rid2 = second.getIdentity();
+
+    Assert.assertTrue(mayMatch(clazz, rid1, "val = 5"));
+    Assert.assertFalse(mayMatch(clazz, rid2, "val = 5"));
+    Assert.assertFalse(mayMatch(clazz, rid1, "val > 7"));
+    Assert.assertTrue(mayMatch(clazz, rid2, "val > 7"));
+    Assert.assertTrue(mayMatch(clazz, rid1, "val <= 5.5"));
+    Assert.assertFalse(mayMatch(clazz, rid2, "val <= 5.5"));
+    Assert.assertFalse(mayMatch(clazz, rid1, "val between 6 and 20"));
+    Assert.assertTrue(mayMatch(clazz, rid2, "val between 6 and 20"));
+    Assert.assertFalse(mayMatch(clazz, rid1, "val = ?", 10));
+    Assert.assertTrue(mayMatch(clazz, rid2, "val = ?", 10));
+
+    // collation of the property is taken into account
+    Assert.assertTrue(mayMatch(clazz, rid1, "name = 'foo'"));
+    Assert.assertFalse(mayMatch(clazz, rid2, "name = 'foo'"));
+
+    Assert.assertFalse(mayMatch(clazz, rid1, "tag is null"));
+    Assert.assertTrue(mayMatch(clazz, rid2, "tag is null"));
+    Assert.assertTrue(mayMatch(clazz, rid1, "tag is not null"));
+    Assert.assertFalse(mayMatch(clazz, rid2, "tag is not null"));
+
+    Assert.assertFalse(mayMatch(clazz, rid1, "val = 5 and name = 'bar'"));
+    Assert.assertFalse(mayMatch(clazz, rid2, "val = 5 and name = 'bar'"));
+
+    // conditions which can not be evaluated in binary form do not reject records
+    Assert.assertTrue(mayMatch(clazz, rid1, "val = 10 or name = 'foo'"));
+    Assert.assertTrue(mayMatch(clazz, rid2, "val = '5'"));
+    Assert.assertTrue(mayMatch(clazz, rid1, "tag = 5"));
+    Assert.assertTrue(mayMatch(clazz, rid2, "tag = 'a'"));
+    Assert.assertTrue(mayMatch(clazz, rid2, "val = val"));
+  }
+
+  @Test
+  public void testQueryResults() {
+    OClass clazz = createClassInstance();
+    clazz.createProperty("val", OType.INTEGER);
+    for (int i = 0; i < 100; i++) {
+      ODocument document = new ODocument(clazz.getName());
+      document.field("name", "name" + i);
+      document.field("val", i);
+      if (i % 3 == 0) {
+        document.field("tag", i % 2 == 0 ? "even" : "odd");
+      }
+      document.save();
+    }
+
+    String[] conditions = new String[] { "val = 42", "val > 90", "val >= 10 and val < 20", "val between 10 and 15",
+        "tag is null", "tag is not null and val < 30", "tag = 'odd'", "name = 'name7'", "val < 10.5", "val > 3 or tag = 'even'",
+        "val = '42'" };
+
+    boolean oldValue = OGlobalConfiguration.QUERY_BINARY_FILTER.getValueAsBoolean();
+    try {
+      for (String condition : conditions) {
+        String query = "select from " + clazz.getName() + " where " + condition;
+
+        OGlobalConfiguration.QUERY_BINARY_FILTER.setValue(false);
+        Set<ORID> expected = execute(query);
+
+        OGlobalConfiguration.QUERY_BINARY_FILTER.setValue(true);
+        ((ODatabaseDocumentInternal) database).getLocalCache().clear();
+        Assert.assertEquals(condition, expected, execute(query));
+        Assert.assertEquals(condition, expected, execute(query + " order by @rid desc"));
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_BINARY_FILTER.setValue(oldValue);
+    }
+  }
+
+  private static Set<ORID> execute(String query) {
+    Set<ORID> result = new HashSet<>();
+    try (OResultSet resultSet = database.query(query)) {
+      while (resultSet.hasNext()) {
+        result.add(resultSet.next().getIdentity().get());
+      }
+    }
+    return result;
+  }
+
+  private static boolean mayMatch(OClass clazz, ORID rid, String condition, Object... args) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) database;
+    OSelectStatement statement = (OSelectStatement) OSQLEngine
+        .parse("select from " + clazz.getName() + " where " + condition, db);
+
+    OBasicCommandContext context = new OBasicCommandContext();
+    context.setDatabase(db);
+    Map<Object, Object> params = new HashMap<>();
+    for (int i = 0; i < args.length; i++) {
+      params.put(i, args[i]);
+    }
+    context.setInputParameters(params);
+
+    OBinaryRecordFilter filter = OBinaryRecordFilter.create(statement.getWhereClause(), rid.getClusterId(), context);
+
+    // records are not deserialized yet only once they are loaded from the storage
+    db.getLocalCache().clear();
+    return filter == null || filter.mayMatch(db.load(rid));
+  }
+}
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
@@ -10,6 +11,8 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 /**
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
@@ -67,4 +70,26 @@ public class OCreateIndexStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testInclude() {
+    String className = "testInclude";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+
+    db.command("create index " + className + ".name on " + className + " (name) include (surname) notunique").close();
+    OIndex<?> idx = db.getMetadata().getIndexManagerInternal().getIndex(db, className + ".name");
+    Assert.assertNotNull(idx);
+    Assert.assertFalse(idx.isUnique());
+    Assert.assertEquals(Arrays.asList("name", "surname"), idx.getDefinition().getFields());
+
+    try {
+      db.command("create index " + className + ".surname on " + className + " (surname) include (name) unique").close();
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+      // included fields can not take part in the uniqueness check
+    }
+    Assert.assertNull(db.getMetadata().getIndexManagerInternal().getIndex(db, className + ".surname"));
+  }
+
 }
@@ -0,0 +1,130 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class OOffHeapRidSetTest {
+
+  @Test
+  public void testAddContainsRemove() {
+    try (OOffHeapRidSet set = new OOffHeapRidSet()) {
+      ORID rid = new ORecordId(12, 100);
+      Assert.assertFalse(set.contains(rid));
+      Assert.assertTrue(set.add(rid));
+      Assert.assertFalse(set.add(new ORecordId(12, 100)));
+      Assert.assertTrue(set.contains(rid));
+      Assert.assertFalse(set.contains(new ORecordId(12, 101)));
+      Assert.assertFalse(set.contains(new ORecordId(11, 100)));
+      Assert.assertEquals(1, set.size());
+
+      Assert.assertTrue(set.remove(rid));
+      Assert.assertFalse(set.remove(rid));
+      Assert.assertFalse(set.contains(rid));
+      Assert.assertTrue(set.isEmpty());
+    }
+  }
+
+  @Test
+  public void testChunkBoundaries() {
+    try (OOffHeapRidSet set = new OOffHeapRidSet()) {
+      long[] positions = { 0, 1, 62, 63, 64, 65535, 65536, 65537, 10_000_000L, Integer.MAX_VALUE * 10L };
+      for (long position : positions) {
+        Assert.assertTrue(set.add(new ORecordId(3, position)));
+      }
+      for (long position : positions) {
+        Assert.assertTrue(set.contains(new ORecordId(3, position)));
+        Assert.assertFalse(set.contains(new ORecordId(4, position)));
+      }
+      Assert.assertEquals(positions.length, set.size());
+    }
+  }
+
+  @Test
+  public void testIterator() {
+    try (OOffHeapRidSet set = new OOffHeapRidSet()) {
+      List<ORID> expected = new ArrayList<>();
+      for (int cluster = 0; cluster < 20; cluster += 3) {
+        for (long position = cluster; position < 200_000; position += 997) {
+          expected.add(new ORecordId(cluster, position));
+        }
+      }
+      for (int i = expected.size() - 1; i >= 0; i--) {
+        set.add(expected.get(i));
+      }
+
+      Iterator<ORID> iterator = set.iterator();
+      for (ORID rid : expected) {
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(rid, iterator.next());
+      }
+      Assert.assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test
+  public void testTemporaryRids() {
+    try (OOffHeapRidSet set = new OOffHeapRidSet()) {
+      ORID rid = new ORecordId(12, -3);
+      Assert.assertTrue(set.add(rid));
+      Assert.assertTrue(set.contains(new ORecordId(12, -3)));
+      Assert.assertFalse(set.contains(new ORecordId(12, 3)));
+
+      set.add(new ORecordId(12, 3));
+      Assert.assertEquals(2, set.size());
+      int count = 0;
+      for (ORID ignored : set) {
+        count++;
+      }
+      Assert.assertEquals(2, count);
+    }
+  }
+
+  @Test
+  public void testMemoryIsReleased() {
+    ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    OOffHeapRidSet set = new OOffHeapRidSet(allocator);
+    for (long i = 0; i < 1_000_000; i += 7) {
+      set.add(new ORecordId(5, i));
+    }
+    Assert.assertTrue(allocator.getMemoryConsumption() > 0);
+    Assert.assertEquals(allocator.getMemoryConsumption(), set.getAllocatedBytes());
+
+    set.clear();
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertTrue(set.isEmpty());
+
+    set.add(new ORecordId(5, 1));
+    Assert.assertTrue(allocator.getMemoryConsumption() > 0);
+
+    set.close();
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertFalse(set.contains(new ORecordId(5, 1)));
+  }
+
+  @Test
+  public void testMemoryOfNotClosedSetIsReleased() throws Exception {
+    ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    OOffHeapRidSet set = new OOffHeapRidSet(allocator);
+    for (long i = 0; i < 1_000_000; i += 7) {
+      set.add(new ORecordId(5, i));
+    }
+    Assert.assertTrue(allocator.getMemoryConsumption() > 0);
+
+    //noinspection UnusedAssignment
+    set = null;
+
+    for (int i = 0; i < 100 && allocator.getMemoryConsumption() > 0; i++) {
+      System.gc();
+      Thread.sleep(10);
+      new OOffHeapRidSet(allocator).close();
+    }
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+  }
+}
@@ -1,6 +1,8 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
@@ -8,6 +10,7 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.viewmanager.ViewCreationListener;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.metadata.schema.*;
 import com.orientechnologies.orient.core.record.OElement;
@@ -945,6 +948,20 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testQueryMetadataStorageCache() {
+    OResultSet result = db.query("select from metadata:storageCache");
+    printExecutionPlan(result);
+    Assert.assertTrue(result.hasNext());
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertNotNull(item.getProperty("fileName"));
+      Assert.assertNotNull(item.getProperty("dirtyPages"));
+      Assert.assertNotNull(item.getProperty("readCacheHitRate"));
+    }
+    result.close();
+  }
+
   @Test
   public void testNonExistingRids() {
     OResultSet result = db.query("select from #0:100000000");
@@ -3311,6 +3328,175 @@ public class OSelectStatementExecutionTest {
 
   }
 
+  @Test
+  public void testInWithIndexBatchLookup() {
+    String className = "testInWithIndexBatchLookup";
+    OClass clazz = db.createClassIfNotExist(className);
+    clazz.createProperty("id", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+    clazz.createProperty("tag", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    for (int i = 0; i < 300; i++) {
+      db.command("insert into " + className + " set id = ?, tag = ?", i, "tag" + i % 10);
+    }
+
+    List<Integer> ids = new ArrayList<>();
+    for (int i = 500; i >= 0; i -= 3) {
+      ids.add(i);
+    }
+    List<String> tags = Arrays.asList("tag7", "tag3", "tag42");
+
+    int oldValue = OGlobalConfiguration.QUERY_INDEX_BATCH_LOOKUP_THRESHOLD.getValueAsInteger();
+    for (int threshold : new int[] { 0, 2 }) {
+      OGlobalConfiguration.QUERY_INDEX_BATCH_LOOKUP_THRESHOLD.setValue(threshold);
+      try {
+        try (OResultSet result = db.query("select from " + className + " where id in ?", ids)) {
+          Set<Integer> found = new HashSet<>();
+          while (result.hasNext()) {
+            int id = result.next().getProperty("id");
+            Assert.assertTrue(found.add(id));
+            Assert.assertEquals(2, id % 3);
+          }
+          Assert.assertEquals(100, found.size());
+          Assert.assertTrue(result.getExecutionPlan().get().getSteps().stream().anyMatch(x -> x instanceof FetchFromIndexStep));
+        }
+
+        try (OResultSet result = db.query("select from " + className + " where tag in ?", tags)) {
+          int count = 0;
+          while (result.hasNext()) {
+            String tag = result.next().getProperty("tag");
+            Assert.assertTrue(tag.equals("tag7") || tag.equals("tag3"));
+            count++;
+          }
+          Assert.assertEquals(60, count);
+        }
+
+        try (OResultSet result = db.query("select from index:" + className + ".id where key in ?", ids)) {
+          Assert.assertEquals(100, result.stream().count());
+        }
+      } finally {
+        OGlobalConfiguration.QUERY_INDEX_BATCH_LOOKUP_THRESHOLD.setValue(oldValue);
+      }
+    }
+  }
+
+  @Test
+  public void testCoveringIndex() {
+    String className = "testCoveringIndex";
+    OClass clazz = db.createClassIfNotExist(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    clazz.createProperty("age", OType.INTEGER);
+    clazz.createIndex(className + ".name_surname", OClass.INDEX_TYPE.NOTUNIQUE, "name", "surname");
+
+    for (int i = 0; i < 100; i++) {
+      db.command("insert into " + className + " set name = ?, surname = ?, age = ?", "name" + i % 10, "surname" + i, i);
+    }
+
+    try (OResultSet result = db.query("select name, surname as s from " + className + " where name = 'name3' order by surname")) {
+      List<String> surnames = new ArrayList<>();
+      while (result.hasNext()) {
+        OResult item = result.next();
+        Assert.assertEquals("name3", item.getProperty("name"));
+        Assert.assertFalse(item.isElement());
+        surnames.add(item.getProperty("s"));
+      }
+      List<String> expected = new ArrayList<>();
+      for (int i = 3; i < 100; i += 10) {
+        expected.add("surname" + i);
+      }
+      Collections.sort(expected);
+      Assert.assertEquals(expected, surnames);
+
+      List<OExecutionStep> steps = result.getExecutionPlan().get().getSteps();
+      Assert.assertTrue(steps.stream().anyMatch(x -> x instanceof GetFieldsFromIndexEntryStep));
+      Assert.assertFalse(steps.stream().anyMatch(x -> x instanceof GetValueFromIndexEntryStep));
+    }
+
+    try (OResultSet result = db.query("select surname, age from " + className + " where name = 'name3' and surname = 'surname13'")) {
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals(13, (int) result.next().getProperty("age"));
+      Assert.assertFalse(result.hasNext());
+      Assert.assertTrue(
+          result.getExecutionPlan().get().getSteps().stream().anyMatch(x -> x instanceof GetValueFromIndexEntryStep));
+    }
+  }
+
+  @Test
+  public void testCoveringIndexOnRestrictedClass() {
+    String className = "testCoveringIndexOnRestrictedClass";
+    OClass clazz = db.getMetadata().getSchema().createClass(className, db.getMetadata().getSchema().getClass("ORestricted"));
+    clazz.createProperty("name", OType.STRING);
+    clazz.createIndex(className + ".name", OClass.INDEX_TYPE.NOTUNIQUE, "name");
+
+    ORID reader;
+    try (OResultSet result = db.query("select from OUser where name = 'reader'")) {
+      reader = result.next().getIdentity().get();
+    }
+    db.command("insert into " + className + " set name = 'foo', val = 1").close();
+    db.command("insert into " + className + " set name = 'foo', val = 2, _allowRead = [" + reader + "]").close();
+
+    String query = "select name from " + className + " where name = 'foo'";
+    try (OResultSet result = db.query(query)) {
+      Assert.assertEquals(2, result.stream().count());
+    }
+
+    ODatabaseDocument readerDb = new ODatabaseDocumentTx("memory:OSelectStatementExecutionTest");
+    readerDb.open("reader", "reader");
+    try (OResultSet result = readerDb.query(query)) {
+      List<OExecutionStep> steps = result.getExecutionPlan().get().getSteps();
+      Assert.assertFalse(steps.stream().anyMatch(x -> x instanceof GetFieldsFromIndexEntryStep));
+      Assert.assertEquals(1, result.stream().count());
+    } finally {
+      readerDb.close();
+      db.activateOnCurrentThread();
+    }
+  }
+
+  @Test
+  public void testPartialIndex() {
+    String className = "testPartialIndex";
+    OClass clazz = db.createClassIfNotExist(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("status", OType.STRING);
+
+    for (int i = 0; i < 20; i++) {
+      db.command("insert into " + className + " set name = ?, status = ?", "name" + i % 5, i % 2 == 0 ? "active" : "inactive");
+    }
+
+    ODocument metadata = new ODocument();
+    metadata.field("where", "status = 'active'");
+    OIndex<?> index = clazz
+        .createIndex(className + ".name", OClass.INDEX_TYPE.NOTUNIQUE.name(), null, metadata, new String[] { "name" });
+    Assert.assertEquals(10, index.getSize());
+
+    db.command("update " + className + " set status = 'inactive' where name = 'name0' and status = 'active'").close();
+    Assert.assertEquals(8, index.getSize());
+    db.command("update " + className + " set status = 'active' where name = 'name1'").close();
+    Assert.assertEquals(10, index.getSize());
+    db.command("delete from " + className + " where name = 'name2'").close();
+    Assert.assertEquals(8, index.getSize());
+
+    try (OResultSet result = db.query("select from " + className + " where name = 'name1' and status = 'active'")) {
+      int count = 0;
+      while (result.hasNext()) {
+        Assert.assertEquals("name1", result.next().getProperty("name"));
+        count++;
+      }
+      Assert.assertEquals(4, count);
+      Assert.assertTrue(result.getExecutionPlan().get().getSteps().stream().anyMatch(x -> x instanceof FetchFromIndexStep));
+    }
+
+    try (OResultSet result = db.query("select from " + className + " where name = 'name3'")) {
+      int count = 0;
+      while (result.hasNext()) {
+        Assert.assertEquals("name3", result.next().getProperty("name"));
+        count++;
+      }
+      Assert.assertEquals(4, count);
+      Assert.assertFalse(result.getExecutionPlan().get().getSteps().stream().anyMatch(x -> x instanceof FetchFromIndexStep));
+    }
+  }
+
   @Test
   public void testIndexChain() {
     String className1 = "testIndexChain1";
@@ -3577,4 +3763,367 @@ public class OSelectStatementExecutionTest {
       OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
     }
   }
+
+  @Test
+  public void testOrderBySpillToDisk() {
+    Long oldValue = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    Boolean oldSpill = OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK.getValueAsBoolean();
+    try {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(3);
+      OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK.setValue(true);
+
+      String className = "testOrderBySpillToDisk";
+
+      db.createClassIfNotExist(className);
+
+      for (int i = 0; i < 20; i++) {
+        db.command("INSERT INTO " + className + " set name = ?, val = ?", "n" + ((i * 7) % 20), i).close();
+      }
+
+      try (OResultSet result = db.query("select from " + className + " ORDER BY name")) {
+        String last = null;
+        int count = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          Assert.assertTrue(item.isElement());
+          String name = item.getProperty("name");
+          if (last != null) {
+            Assert.assertTrue(last.compareTo(name) <= 0);
+          }
+          last = name;
+          count++;
+        }
+        Assert.assertEquals(20, count);
+      }
+
+      try (OResultSet result = db.query("select name, val from " + className + " ORDER BY val desc")) {
+        for (int i = 19; i >= 0; i--) {
+          Assert.assertEquals(i, (int) result.next().getProperty("val"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
+      OGlobalConfiguration.QUERY_ORDER_BY_SPILL_TO_DISK.setValue(oldSpill);
+    }
+  }
+
+  @Test
+  public void testGroupBySpillToDisk() {
+    Long oldValue = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    Boolean oldSpill = OGlobalConfiguration.QUERY_GROUP_BY_SPILL_TO_DISK.getValueAsBoolean();
+    try {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(3);
+      OGlobalConfiguration.QUERY_GROUP_BY_SPILL_TO_DISK.setValue(true);
+
+      String className = "testGroupBySpillToDisk";
+      db.createClassIfNotExist(className);
+      for (int i = 0; i < 100; i++) {
+        db.command("INSERT INTO " + className + " set type = ?, val = ?", "t" + (i % 20), i).close();
+      }
+
+      try (OResultSet result = db.query("select type, count(*) as count, sum(val) as total from " + className + " group by type")) {
+        Map<String, Long> totals = new HashMap<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          Assert.assertEquals(5L, (long) item.getProperty("count"));
+          Assert.assertNull(totals.put(item.getProperty("type"), ((Number) item.getProperty("total")).longValue()));
+        }
+        Assert.assertEquals(20, totals.size());
+        for (int i = 0; i < 20; i++) {
+          Assert.assertEquals(5 * i + 200, (long) totals.get("t" + i));
+        }
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
+      OGlobalConfiguration.QUERY_GROUP_BY_SPILL_TO_DISK.setValue(oldSpill);
+    }
+  }
+
+  @Test
+  public void testParallelGroupBy() {
+    Boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean();
+    Integer oldThreads = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(true);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(4);
+
+      String className = "testParallelGroupBy";
+      db.createClassIfNotExist(className);
+      for (int i = 0; i < 1000; i++) {
+        db.command("INSERT INTO " + className + " set type = ?, val = ?", "t" + (i % 10), i).close();
+      }
+
+      try (OResultSet result = db.query(
+          "select type, count(*) as count, sum(val) as total, avg(val) as average, min(val) as minimum, max(val) as maximum from "
+              + className + " group by type")) {
+        int groups = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          int type = Integer.parseInt(((String) item.getProperty("type")).substring(1));
+          Assert.assertEquals(100L, (long) item.getProperty("count"));
+          Assert.assertEquals(49500 + 100 * type, ((Number) item.getProperty("total")).intValue());
+          Assert.assertEquals(495 + type, ((Number) item.getProperty("average")).intValue());
+          Assert.assertEquals(type, ((Number) item.getProperty("minimum")).intValue());
+          Assert.assertEquals(990 + type, ((Number) item.getProperty("maximum")).intValue());
+          groups++;
+        }
+        Assert.assertEquals(10, groups);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(oldValue);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(oldThreads);
+    }
+  }
+
+  @Test
+  public void testParallelClassScan() {
+    Boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean();
+    Integer oldThreads = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(true);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(4);
+
+      String className = "testParallelClassScan";
+      OClass clazz = db.getMetadata().getSchema().createClass(className, 8);
+
+      for (int i = 0; i < 1000; i++) {
+        db.command("INSERT INTO " + className + " set name = ?, val = ?", "name" + i, i).close();
+      }
+
+      try (OResultSet result = db.query("select from " + className + " where val >= 500")) {
+        printExecutionPlan(result);
+        Set<Integer> values = new HashSet<>();
+        while (result.hasNext()) {
+          Assert.assertTrue(values.add(result.next().getProperty("val")));
+        }
+        Assert.assertEquals(500, values.size());
+        for (Integer val : values) {
+          Assert.assertTrue(val >= 500);
+        }
+
+        OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+        Assert.assertEquals(ParallelExecStep.class, plan.getSteps().get(0).getClass());
+        Assert.assertEquals(clazz.getClusterIds().length + 1,
+            ((ParallelExecStep) plan.getSteps().get(0)).getSubExecutionPlans().size());
+      }
+
+      try (OResultSet result = db.query("select count(*) as count from " + className)) {
+        Assert.assertEquals(1000L, (long) result.next().getProperty("count"));
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(oldValue);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(oldThreads);
+    }
+  }
+
+  @Test
+  public void testParallelClassScanOnBusyPool() {
+    Boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean();
+    Integer oldThreads = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(true);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(4);
+
+      String className = "testParallelClassScanOnBusyPool";
+      db.getMetadata().getSchema().createClass(className, 8);
+      for (int i = 0; i < 1000; i++) {
+        db.command("INSERT INTO " + className + " set name = ?, val = ?", "name" + i, i).close();
+      }
+
+      //all the threads of the pool are busy: the branches have to run on the caller thread
+      int busy = 0;
+      while (busy <= OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_POOL_SIZE.getValueAsInteger()
+          && Orient.instance().trySubmitParallel(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }) != null) {
+        busy++;
+      }
+      Assert.assertNull(Orient.instance().trySubmitParallel(() -> {
+      }));
+
+      try (OResultSet result = db.query("select from " + className + " where val >= 500")) {
+        Set<Integer> values = new HashSet<>();
+        while (result.hasNext()) {
+          Assert.assertTrue(values.add(result.next().getProperty("val")));
+        }
+        Assert.assertEquals(500, values.size());
+      }
+    } finally {
+      release.countDown();
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(oldValue);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(oldThreads);
+    }
+  }
+
+  @Test
+  public void testParallelGroupByOnBusyPool() {
+    Boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean();
+    Integer oldThreads = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(true);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(4);
+
+      String className = "testParallelGroupByOnBusyPool";
+      db.getMetadata().getSchema().createClass(className, 8);
+      for (int i = 0; i < 1000; i++) {
+        db.command("INSERT INTO " + className + " set type = ?, val = ?", "t" + (i % 10), i).close();
+      }
+
+      //all the threads of the pool are busy: both the scan and the aggregation have to run on the caller thread
+      int busy = 0;
+      while (busy <= OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_POOL_SIZE.getValueAsInteger()
+          && Orient.instance().trySubmitParallel(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }) != null) {
+        busy++;
+      }
+      Assert.assertNull(Orient.instance().trySubmitParallel(() -> {
+      }));
+
+      try (OResultSet result = db.query("select type, count(*) as count, sum(val) as total from " + className + " group by type")) {
+        int groups = 0;
+        while (result.hasNext()) {
+          OResult item = result.next();
+          int type = Integer.parseInt(((String) item.getProperty("type")).substring(1));
+          Assert.assertEquals(100L, (long) item.getProperty("count"));
+          Assert.assertEquals(49500 + 100 * type, ((Number) item.getProperty("total")).intValue());
+          groups++;
+        }
+        Assert.assertEquals(10, groups);
+      }
+    } finally {
+      release.countDown();
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(oldValue);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(oldThreads);
+    }
+  }
+
+  @Test
+  public void testCacheKeyword() {
+    String className = "testCacheKeyword";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 10; i++) {
+      db.command("INSERT INTO " + className + " set name = ?, val = ?", "name" + i, i).close();
+    }
+
+    OQueryResultCache cache = ((ODatabaseDocumentInternal) db).getSharedContext().getQueryResultCache();
+    String query = "select count(*) as count, max(val) as max from " + className + " CACHE";
+
+    long hits = cache.getHits();
+    for (int i = 0; i < 3; i++) {
+      try (OResultSet result = db.query(query)) {
+        OResult item = result.next();
+        Assert.assertEquals(10L, (long) item.getProperty("count"));
+        Assert.assertEquals(9, (int) item.getProperty("max"));
+        Assert.assertFalse(result.hasNext());
+      }
+    }
+    Assert.assertEquals(hits + 2, cache.getHits());
+
+    db.command("INSERT INTO " + className + " set name = ?, val = ?", "name10", 10).close();
+    try (OResultSet result = db.query(query)) {
+      OResult item = result.next();
+      Assert.assertEquals(11L, (long) item.getProperty("count"));
+      Assert.assertEquals(10, (int) item.getProperty("max"));
+    }
+    Assert.assertEquals(hits + 2, cache.getHits());
+
+    db.command("UPDATE " + className + " set val = 20 where val = 10").close();
+    try (OResultSet result = db.query(query)) {
+      Assert.assertEquals(20, (int) result.next().getProperty("max"));
+    }
+    try (OResultSet result = db.query(query)) {
+      Assert.assertEquals(20, (int) result.next().getProperty("max"));
+    }
+    Assert.assertEquals(hits + 3, cache.getHits());
+  }
+
+  @Test
+  public void testCacheKeywordParameters() {
+    String className = "testCacheKeywordParameters";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 10; i++) {
+      db.command("INSERT INTO " + className + " set name = ?, val = ?", "name" + i, i).close();
+    }
+
+    String query = "select name from " + className + " where val < ? order by name CACHE";
+    for (int i = 0; i < 2; i++) {
+      try (OResultSet result = db.query(query, 2)) {
+        Assert.assertEquals("name0", result.next().getProperty("name"));
+        Assert.assertEquals("name1", result.next().getProperty("name"));
+        Assert.assertFalse(result.hasNext());
+      }
+      try (OResultSet result = db.query(query, 1)) {
+        Assert.assertEquals("name0", result.next().getProperty("name"));
+        Assert.assertFalse(result.hasNext());
+      }
+    }
+  }
+
+  @Test
+  public void testCacheKeywordParallelLinkedClass() {
+    Boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.getValueAsBoolean();
+    Integer oldThreads = OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.getValueAsInteger();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(true);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(4);
+
+      String addressClassName = "testCacheKeywordParallelLinkedClassAddress";
+      String personClassName = "testCacheKeywordParallelLinkedClassPerson";
+      db.getMetadata().getSchema().createClass(addressClassName);
+      db.getMetadata().getSchema().createClass(personClassName, 8);
+
+      List<OElement> addresses = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        OElement address = db.newElement(addressClassName);
+        address.setProperty("zip", i);
+        addresses.add(address.save());
+      }
+      for (int i = 0; i < 1000; i++) {
+        OElement person = db.newElement(personClassName);
+        person.setProperty("address", addresses.get(i % 10));
+        person.save();
+      }
+
+      OQueryResultCache cache = ((ODatabaseDocumentInternal) db).getSharedContext().getQueryResultCache();
+      //linked records are read by the branches of the parallel class scan which evaluate the WHERE condition
+      String filterQuery = "select @rid as id from " + personClassName + " where address.zip = 0 CACHE";
+      String sumQuery = "select sum(address.zip) as total from " + personClassName + " CACHE";
+
+      long hits = cache.getHits();
+      for (int i = 0; i < 2; i++) {
+        try (OResultSet result = db.query(filterQuery)) {
+          Assert.assertEquals(100, result.stream().count());
+        }
+        try (OResultSet result = db.query(sumQuery)) {
+          Assert.assertEquals(4500, ((Number) result.next().getProperty("total")).intValue());
+        }
+      }
+      Assert.assertEquals(hits + 2, cache.getHits());
+
+      //only the linked records are changed, clusters of the linked class are dependencies of the results as well
+      db.command("UPDATE " + addressClassName + " set zip = 100 where zip = 0").close();
+      try (OResultSet result = db.query(filterQuery)) {
+        Assert.assertFalse(result.hasNext());
+      }
+      try (OResultSet result = db.query(sumQuery)) {
+        Assert.assertEquals(14500, ((Number) result.next().getProperty("total")).intValue());
+      }
+      Assert.assertEquals(hits + 2, cache.getHits());
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION.setValue(oldValue);
+      OGlobalConfiguration.QUERY_PARALLEL_EXECUTION_MAX_THREADS.setValue(oldThreads);
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import org.junit.AfterClass;
@@ -165,4 +166,34 @@ public class OTraverseStatementExecutionTest {
     result.close();
   }
 
+
+  @Test
+  public void testTraverseOffHeapRidSet() {
+    boolean oldValue = OGlobalConfiguration.QUERY_OFF_HEAP_RID_SET.getValueAsBoolean();
+    try {
+      OGlobalConfiguration.QUERY_OFF_HEAP_RID_SET.setValue(true);
+
+      String classPrefix = "testTraverseOffHeapRidSet_";
+      db.createVertexClass(classPrefix + "V");
+      db.createEdgeClass(classPrefix + "E");
+      for (int i = 0; i < 10; i++) {
+        db.command("create vertex " + classPrefix + "V set name = ?", "n" + i).close();
+      }
+      for (int i = 0; i < 10; i++) {
+        db.command("create edge " + classPrefix + "E from (select from " + classPrefix + "V where name = ?) to (select from "
+            + classPrefix + "V where name = ?)", "n" + i, "n" + ((i + 1) % 10)).close();
+      }
+
+      OResultSet result = db.query("traverse out() from (select from " + classPrefix + "V where name = 'n0')");
+      for (int i = 0; i < 10; i++) {
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertEquals(i, item.getMetadata("$depth"));
+      }
+      Assert.assertFalse(result.hasNext());
+      result.close();
+    } finally {
+      OGlobalConfiguration.QUERY_OFF_HEAP_RID_SET.setValue(oldValue);
+    }
+  }
 }
@@ -33,4 +33,24 @@ public class OCreateIndexStatementTest extends OParserTestAbstract {
     checkWrongSyntax("CREATE INDEX Foo.bar IF EXISTS on Foo (bar) UNIQUE");
   }
 
+  @Test
+  public void testInclude() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar, baz) include (qux, quux) NOTUNIQUE METADATA {'foo':'bar'}");
+    checkRightSyntax("CREATE INDEX Foo.bar IF NOT EXISTS on Foo (bar collate CI) INCLUDE (baz) NOTUNIQUE ENGINE SBTREE");
+    checkRightSyntax("CREATE INDEX include on Foo (include) NOTUNIQUE");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE () NOTUNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE baz NOTUNIQUE");
+  }
+
+  @Test
+  public void testWhere() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE active = true");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) UNIQUE METADATA {'foo':'bar'} WHERE status = 'active' and deleted = false");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE where active = true or admin = true");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE");
+  }
+
 }
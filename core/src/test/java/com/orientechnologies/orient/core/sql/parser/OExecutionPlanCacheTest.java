@@ -15,7 +15,10 @@ public class OExecutionPlanCacheTest {
     ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:OExecutionPlanCacheTest");
     db.create();
     OExecutionPlanCache cache = OExecutionPlanCache.instance(db);
-    String stm = "SELECT FROM OUser";
+    String unrelatedStm = "SELECT FROM OUser";
+    String stm = "SELECT FROM " + testName;
+
+    OClass clazz = db.getMetadata().getSchema().createClass(testName);
 
     /*
      * the cache has a mechanism that guarantees that if you are doing execution planning
@@ -28,35 +31,67 @@ public class OExecutionPlanCacheTest {
     Thread.sleep(2);
 
     //schema changes
+    db.query(unrelatedStm).close();
     db.query(stm).close();
     cache = OExecutionPlanCache.instance(db);
+    Assert.assertTrue(cache.contains(unrelatedStm));
     Assert.assertTrue(cache.contains(stm));
 
-    OClass clazz = db.getMetadata().getSchema().createClass(testName);
+    OProperty prop = clazz.createProperty("name", OType.STRING);
     Assert.assertFalse(cache.contains(stm));
+    Assert.assertTrue(cache.contains(unrelatedStm));
 
     Thread.sleep(2);
 
-    //schema changes 2
+    //index changes
     db.query(stm).close();
     cache = OExecutionPlanCache.instance(db);
     Assert.assertTrue(cache.contains(stm));
 
-    OProperty prop = clazz.createProperty("name", OType.STRING);
+    prop.createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
     Assert.assertFalse(cache.contains(stm));
+    Assert.assertTrue(cache.contains(unrelatedStm));
 
     Thread.sleep(2);
 
-    //index changes
+    //new subclass, the polymorphic clusters change
     db.query(stm).close();
     cache = OExecutionPlanCache.instance(db);
     Assert.assertTrue(cache.contains(stm));
 
-    prop.createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    db.getMetadata().getSchema().createClass(testName + "Sub", clazz);
     Assert.assertFalse(cache.contains(stm));
+    Assert.assertTrue(cache.contains(unrelatedStm));
 
     db.close();
 
   }
 
+  @Test
+  public void testStatistics() throws InterruptedException {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:OExecutionPlanCacheTestStatistics");
+    db.create();
+    try {
+      OExecutionPlanCache cache = OExecutionPlanCache.instance(db);
+      String stm = "SELECT FROM OUser";
+
+      Thread.sleep(2);
+
+      long hits = cache.getHits();
+      long misses = cache.getMisses();
+      db.query(stm).close();
+      Assert.assertTrue(cache.getMisses() > misses);
+      db.query(stm).close();
+      Assert.assertTrue(cache.getHits() > hits);
+      Assert.assertTrue(cache.getSize() > 0);
+
+      long invalidations = cache.getInvalidations();
+      cache.invalidate();
+      Assert.assertTrue(cache.getInvalidations() > invalidations);
+      Assert.assertEquals(0, cache.getSize());
+    } finally {
+      db.drop();
+    }
+  }
+
 }
@@ -10,6 +10,7 @@ public class OOptimizeDatabaseStatementTest extends OParserTestAbstract {
     checkRightSyntax("optimize database");
     checkRightSyntax("OPTIMIZE DATABASE -lwedges -noverbose");
     checkRightSyntax("OPTIMIZE DATABASE -lwedges");
+    checkRightSyntax("OPTIMIZE DATABASE -compactclusters -noverbose");
 
 
   }
@@ -0,0 +1,41 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OLatencyHistogramTest {
+  @Test
+  public void testEmpty() {
+    final OLatencyHistogram histogram = new OLatencyHistogram();
+
+    Assert.assertEquals(0, histogram.getCount());
+    Assert.assertEquals(0, histogram.getAverage());
+    Assert.assertEquals(0, histogram.getPercentile(99));
+    Assert.assertArrayEquals(new long[OLatencyHistogram.BUCKETS], histogram.getCounts());
+  }
+
+  @Test
+  public void testBuckets() {
+    final OLatencyHistogram histogram = new OLatencyHistogram();
+
+    histogram.record(500);
+    histogram.record(1_000);
+    histogram.record(2_000);
+    histogram.record(3_000);
+    histogram.record(1_000_000);
+    histogram.record(10_000_000_000L);
+
+    final long[] counts = histogram.getCounts();
+    Assert.assertEquals(2, counts[0]);
+    Assert.assertEquals(1, counts[1]);
+    Assert.assertEquals(1, counts[2]);
+    Assert.assertEquals(1, counts[10]);
+    Assert.assertEquals(1, counts[OLatencyHistogram.BUCKETS - 1]);
+    Assert.assertEquals(6, histogram.getCount());
+
+    Assert.assertEquals(1, histogram.getPercentile(30));
+    Assert.assertEquals(4, histogram.getPercentile(60));
+    Assert.assertEquals(1024, histogram.getPercentile(80));
+    Assert.assertEquals(-1, histogram.getPercentile(99));
+  }
+}
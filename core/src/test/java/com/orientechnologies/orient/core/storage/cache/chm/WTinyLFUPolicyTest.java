@@ -654,6 +654,64 @@ public class WTinyLFUPolicyTest {
     clearPointers(wTinyLFU);
   }
 
+  @Test
+  public void testScanDoesNotEvictMainSpace() {
+    ODirectMemoryAllocator memoryAllocator = new ODirectMemoryAllocator();
+    OByteBufferPool pool = new OByteBufferPool(1, memoryAllocator, 0);
+
+    ConcurrentHashMap<PageKey, OCacheEntry> data = new ConcurrentHashMap<>();
+    Admittor admittor = mock(Admittor.class);
+
+    AtomicInteger cacheSize = new AtomicInteger();
+    WTinyLFUPolicy wTinyLFU = new WTinyLFUPolicy(data, admittor, cacheSize);
+    wTinyLFU.setMaxSize(15);
+
+    OCacheEntry[] cacheEntries = new OCacheEntry[15];
+    OCachePointer[] cachePointers = new OCachePointer[15];
+
+    generateEntries(cacheEntries, cachePointers, pool);
+
+    for (int i = 0; i < 5; i++) {
+      cacheSize.incrementAndGet();
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      wTinyLFU.onAdd(cacheEntries[i]);
+    }
+
+    for (int i = 5; i < 15; i++) {
+      cacheSize.incrementAndGet();
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      wTinyLFU.onScanAdd(cacheEntries[i]);
+    }
+
+    Mockito.verify(admittor, Mockito.never()).increment(Mockito.anyInt());
+
+    Assert.assertArrayEquals(new OCacheEntry[] { cacheEntries[14] }, toArray(wTinyLFU.scan()));
+    Assert.assertArrayEquals(new OCacheEntry[] { cacheEntries[4], cacheEntries[3] }, toArray(wTinyLFU.eden()));
+    Assert.assertArrayEquals(new OCacheEntry[] { cacheEntries[2], cacheEntries[1], cacheEntries[0] },
+        toArray(wTinyLFU.probation()));
+
+    for (int i = 5; i < 14; i++) {
+      Assert.assertTrue(cacheEntries[i].isDead());
+    }
+
+    for (int i = 0; i < 5; i++) {
+      Assert.assertTrue(cacheEntries[i].isAlive());
+    }
+
+    Assert.assertEquals(6, cacheSize.get());
+
+    wTinyLFU.onAccess(cacheEntries[14]);
+
+    Assert.assertFalse(wTinyLFU.scan().hasNext());
+    Assert.assertArrayEquals(new OCacheEntry[] { cacheEntries[14], cacheEntries[4], cacheEntries[3] }, toArray(wTinyLFU.eden()));
+
+    wTinyLFU.assertSize();
+    wTinyLFU.assertConsistency();
+
+    Assert.assertEquals(6, memoryAllocator.getMemoryConsumption());
+    clearPointers(wTinyLFU);
+  }
+
   private static OCacheEntry[] toArray(Iterator<OCacheEntry> iterator) {
     final List<OCacheEntry> entries = new ArrayList<>();
     while (iterator.hasNext()) {
@@ -679,6 +737,7 @@ public class WTinyLFUPolicyTest {
     clearQueue(policy.eden());
     clearQueue(policy.probation());
     clearQueue(policy.protection());
+    clearQueue(policy.scan());
   }
 
   private static void clearQueue(final Iterator<OCacheEntry> iterator) {
@@ -322,6 +322,59 @@ public abstract class LocalPaginatedClusterAbstract {
     }
   }
 
+  @Test
+  public void testReadRecords() throws IOException {
+    final int records = 10000;
+
+    long seed = System.currentTimeMillis();
+    Random random = new Random(seed);
+
+    System.out.println("testReadRecords seed : " + seed);
+
+    Map<Long, byte[]> positionRecordMap = new HashMap<>();
+    List<Long> positions = new ArrayList<>();
+
+    final int recordVersion = 2;
+    for (int i = 0; i < records; i++) {
+      // one of twenty records spans several pages
+      int recordSize = random.nextInt(20) == 0 ?
+          random.nextInt(2 * OClusterPage.MAX_RECORD_SIZE) + OClusterPage.MAX_RECORD_SIZE + 1 :
+          random.nextInt(200) + 1;
+      byte[] record = new byte[recordSize];
+      random.nextBytes(record);
+
+      final OPhysicalPosition physicalPosition = paginatedCluster.createRecord(record, recordVersion, (byte) 2, null);
+      positionRecordMap.put(physicalPosition.clusterPosition, record);
+      positions.add(physicalPosition.clusterPosition);
+    }
+
+    Set<Long> deletedPositions = new HashSet<>();
+    for (int i = 0; i < records / 10; i++) {
+      final long position = positions.get(random.nextInt(positions.size()));
+      if (deletedPositions.add(position)) {
+        Assert.assertTrue(paginatedCluster.deleteRecord(position));
+        positionRecordMap.remove(position);
+      }
+    }
+
+    List<Long> requestedPositions = new ArrayList<>(positions);
+    requestedPositions.add(positions.get(0));
+    requestedPositions.add(Long.MAX_VALUE / 2);
+    Collections.shuffle(requestedPositions, random);
+
+    final Map<Long, ORawBuffer> result = paginatedCluster.readRecords(requestedPositions);
+    Assert.assertEquals(positionRecordMap.size(), result.size());
+
+    for (Map.Entry<Long, byte[]> entry : positionRecordMap.entrySet()) {
+      ORawBuffer rawBuffer = result.get(entry.getKey());
+      Assert.assertNotNull(rawBuffer);
+
+      Assert.assertEquals(rawBuffer.version, recordVersion);
+      Assertions.assertThat(rawBuffer.buffer).isEqualTo(entry.getValue());
+      Assert.assertEquals(rawBuffer.recordType, 2);
+    }
+  }
+
   @Test
   public void testAllocatePositionMap() throws IOException {
     OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
@@ -6,12 +6,22 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
 import com.orientechnologies.orient.core.storage.cluster.LocalPaginatedClusterAbstract;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.assertj.core.api.Assertions;
+import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
 
 public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract {
   @BeforeClass
@@ -38,4 +48,75 @@ public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract
     paginatedCluster.configure(42, "paginatedClusterTest");
     paginatedCluster.create();
   }
+
+  @Test
+  public void testCompact() throws IOException {
+    final int records = 10000;
+    final long seed = System.currentTimeMillis();
+    final Random random = new Random(seed);
+
+    System.out.println("testCompact seed : " + seed);
+
+    final OPaginatedClusterV2 cluster = new OPaginatedClusterV2("compactClusterTest", storage);
+    cluster.configure(43, "compactClusterTest");
+    cluster.create();
+
+    final Map<Long, byte[]> positionRecordMap = new HashMap<>();
+    for (int i = 0; i < records; i++) {
+      // records at the head of the cluster are bigger than the page, so they are split between several pages
+      final int recordSize = i < records / 500 ?
+          random.nextInt(2 * OClusterPage.MAX_RECORD_SIZE) + OClusterPage.MAX_RECORD_SIZE :
+          random.nextInt(OClusterPage.MAX_RECORD_SIZE / 8) + 1;
+      final byte[] record = new byte[recordSize];
+      random.nextBytes(record);
+
+      final OPhysicalPosition physicalPosition = cluster.createRecord(record, i, (byte) 2, null);
+      positionRecordMap.put(physicalPosition.clusterPosition, record);
+    }
+
+    final long pagesCount = storage.getWriteCache().getFilledUpTo(cluster.getFileId());
+
+    final Iterator<Long> positionIterator = positionRecordMap.keySet().iterator();
+    while (positionIterator.hasNext()) {
+      final long clusterPosition = positionIterator.next();
+      if (random.nextInt(10) < 8) {
+        Assert.assertTrue(cluster.deleteRecord(clusterPosition));
+        positionIterator.remove();
+      }
+    }
+
+    // most of the pages contain only a fifth of the records, so at least a half of the file is released
+    final long releasedSize = cluster.compact();
+    Assert.assertTrue(releasedSize + " bytes of " + pagesCount + " pages are released",
+        releasedSize >= pagesCount / 2 * OClusterPage.PAGE_SIZE);
+
+    Assert.assertEquals(positionRecordMap.size(), cluster.getEntries());
+    assertRecords(cluster, positionRecordMap);
+
+    // released pages are reused by the new records, so the file does not grow
+    long addedSize = 0;
+    while (addedSize < releasedSize / 2) {
+      final byte[] record = new byte[random.nextInt(OClusterPage.MAX_RECORD_SIZE / 8) + 1];
+      random.nextBytes(record);
+
+      final OPhysicalPosition physicalPosition = cluster.createRecord(record, 1, (byte) 2, null);
+      positionRecordMap.put(physicalPosition.clusterPosition, record);
+      addedSize += record.length;
+    }
+
+    Assert.assertEquals(pagesCount, storage.getWriteCache().getFilledUpTo(cluster.getFileId()));
+    Assert.assertEquals(positionRecordMap.size(), cluster.getEntries());
+    assertRecords(cluster, positionRecordMap);
+  }
+
+  private static void assertRecords(final OPaginatedClusterV2 cluster, final Map<Long, byte[]> positionRecordMap)
+      throws IOException {
+    for (Map.Entry<Long, byte[]> entry : positionRecordMap.entrySet()) {
+      final ORawBuffer rawBuffer = cluster.readRecord(entry.getKey(), false);
+      Assert.assertNotNull(rawBuffer);
+
+      Assertions.assertThat(rawBuffer.buffer).isEqualTo(entry.getValue());
+      Assert.assertEquals(2, rawBuffer.recordType);
+    }
+  }
 }
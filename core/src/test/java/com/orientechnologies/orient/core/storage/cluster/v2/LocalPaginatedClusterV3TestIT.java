@@ -0,0 +1,112 @@
+package com.orientechnologies.orient.core.storage.cluster.v2;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.compression.impl.OGZIPCompression;
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OPaginatedClusterException;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cluster.LocalPaginatedClusterAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class LocalPaginatedClusterV3TestIT extends LocalPaginatedClusterAbstract {
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    buildDirectory += File.separator + LocalPaginatedClusterV3TestIT.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    dbName = "clusterTest";
+
+    final OrientDBConfig config = OrientDBConfig.builder().addConfig(OGlobalConfiguration.STORAGE_TRACK_PAGE_OPERATIONS_IN_TX, true)
+        .build();
+    orientDB = new OrientDB("plocal:" + buildDirectory, config);
+    orientDB.create(dbName, ODatabaseType.PLOCAL);
+
+    databaseDocumentTx = (ODatabaseDocumentInternal) orientDB.open(dbName, "admin", "admin");
+
+    storage = (OAbstractPaginatedStorage) databaseDocumentTx.getStorage();
+
+    paginatedCluster = new OPaginatedClusterV2("paginatedClusterTest", 3, storage);
+    paginatedCluster.configure(42, "paginatedClusterTest");
+    paginatedCluster.create();
+    paginatedCluster.setCompression(OLZ4Compression.NAME);
+  }
+
+  @Test
+  public void testCompressedRecords() throws IOException {
+    final long seed = System.currentTimeMillis();
+    final Random random = new Random(seed);
+
+    System.out.println("testCompressedRecords seed : " + seed);
+
+    final Map<Long, byte[]> positionRecordMap = new HashMap<>();
+    try {
+      for (int i = 0; i < 1000; i++) {
+        // switch compression in the middle, records written before the switch should be still readable
+        if (i == 500) {
+          paginatedCluster.setCompression(OGZIPCompression.NAME);
+          Assert.assertEquals(OGZIPCompression.NAME, paginatedCluster.compression());
+        }
+
+        final byte[] record = generateDocumentLikeRecord(random, random.nextInt(3000) + 1);
+        final OPhysicalPosition physicalPosition = paginatedCluster.createRecord(record, 1, (byte) 2, null);
+        positionRecordMap.put(physicalPosition.clusterPosition, record);
+      }
+
+      paginatedCluster.setCompression(OLZ4Compression.NAME);
+      for (Map.Entry<Long, byte[]> entry : positionRecordMap.entrySet()) {
+        if (random.nextBoolean()) {
+          final byte[] record = generateDocumentLikeRecord(random, random.nextInt(3000) + 1);
+          paginatedCluster.updateRecord(entry.getKey(), record, 2, (byte) 2);
+          entry.setValue(record);
+        }
+      }
+
+      for (Map.Entry<Long, byte[]> entry : positionRecordMap.entrySet()) {
+        final ORawBuffer rawBuffer = paginatedCluster.readRecord(entry.getKey(), false);
+        Assert.assertNotNull(rawBuffer);
+        Assert.assertArrayEquals(entry.getValue(), rawBuffer.buffer);
+      }
+
+      final Map<Long, ORawBuffer> result = paginatedCluster.readRecords(positionRecordMap.keySet());
+      for (Map.Entry<Long, byte[]> entry : positionRecordMap.entrySet()) {
+        Assert.assertArrayEquals(entry.getValue(), result.get(entry.getKey()).buffer);
+      }
+    } finally {
+      paginatedCluster.setCompression(OLZ4Compression.NAME);
+    }
+  }
+
+  @Test(expected = OPaginatedClusterException.class)
+  public void testUnsupportedCompression() {
+    paginatedCluster.setCompression("unknown");
+  }
+
+  private static byte[] generateDocumentLikeRecord(final Random random, final int size) {
+    final String[] words = { "name", "surname", "status", "active", "city", "Rome", "London", "\"", ":", "," };
+    final StringBuilder builder = new StringBuilder(size);
+    while (builder.length() < size) {
+      builder.append(words[random.nextInt(words.length)]);
+    }
+    builder.setLength(size);
+    return builder.toString().getBytes();
+  }
+}
@@ -0,0 +1,92 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OPageRedoExecutorTest {
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() {
+    final int filesCount = 4;
+    final int pagesCount = 64;
+    final int changesCount = 100;
+
+    final OOperationUnitId operationUnitId = OOperationUnitId.generateId();
+    final Map<OUpdatePageRecord, Integer> changeNumbers = Collections.synchronizedMap(new IdentityHashMap<>());
+    final Map<String, List<Integer>> appliedChanges = new ConcurrentHashMap<>();
+
+    try (OPageRedoExecutor redoExecutor = new OPageRedoExecutor(4,
+        updatePageRecord -> appliedChanges.get(updatePageRecord.getFileId() + ":" + updatePageRecord.getPageIndex())
+            .add(changeNumbers.get(updatePageRecord)), "testChangesOfPageAreAppliedInOrder")) {
+      for (int fileId = 0; fileId < filesCount; fileId++) {
+        for (int pageIndex = 0; pageIndex < pagesCount; pageIndex++) {
+          appliedChanges.put(fileId + ":" + pageIndex, new ArrayList<>());
+        }
+      }
+
+      for (int n = 0; n < changesCount; n++) {
+        for (int pageIndex = 0; pageIndex < pagesCount; pageIndex++) {
+          for (int fileId = 0; fileId < filesCount; fileId++) {
+            final OUpdatePageRecord updatePageRecord = new OUpdatePageRecord(pageIndex, fileId, operationUnitId, null);
+            changeNumbers.put(updatePageRecord, n);
+            redoExecutor.submit(updatePageRecord);
+          }
+        }
+      }
+
+      redoExecutor.awaitCompletion();
+    }
+
+    for (final List<Integer> pageChanges : appliedChanges.values()) {
+      Assert.assertEquals(changesCount, pageChanges.size());
+      for (int n = 0; n < changesCount; n++) {
+        Assert.assertEquals(n, pageChanges.get(n).intValue());
+      }
+    }
+  }
+
+  @Test
+  public void testFailureIsPropagated() {
+    final OOperationUnitId operationUnitId = OOperationUnitId.generateId();
+    final AtomicInteger appliedChanges = new AtomicInteger();
+
+    try (OPageRedoExecutor redoExecutor = new OPageRedoExecutor(2, updatePageRecord -> {
+      if (updatePageRecord.getPageIndex() == 10) {
+        throw new IOException("Page can not be restored");
+      }
+      appliedChanges.incrementAndGet();
+    }, "testFailureIsPropagated")) {
+      for (int pageIndex = 0; pageIndex < 20; pageIndex++) {
+        redoExecutor.submit(new OUpdatePageRecord(pageIndex, 0, operationUnitId, null));
+      }
+
+      try {
+        redoExecutor.awaitCompletion();
+        Assert.fail();
+      } catch (final OStorageException e) {
+        Assert.assertTrue(e.getCause() instanceof IOException);
+
+        // the same failure is reported by all the following calls
+        try {
+          redoExecutor.awaitCompletion();
+          Assert.fail();
+        } catch (final OStorageException other) {
+          Assert.assertSame(e, other);
+        }
+      }
+    }
+
+    Assert.assertTrue(appliedChanges.get() < 20);
+  }
+}
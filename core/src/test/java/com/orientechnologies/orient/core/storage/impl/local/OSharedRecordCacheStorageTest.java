@@ -0,0 +1,164 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that records served by {@link OSharedRecordCache} are the same as records stored in the clusters, when records are
+ * changed by other sessions.
+ */
+public class OSharedRecordCacheStorageTest {
+  private OrientDB                  orientDB;
+  private ODatabaseSession          first;
+  private ODatabaseSession          second;
+  private OAbstractPaginatedStorage storage;
+  private OSharedRecordCache        recordCache;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.builder().addConfig(OGlobalConfiguration.CACHE_SHARED_ENABLED, true).build());
+    orientDB.create("test", ODatabaseType.MEMORY);
+
+    second = orientDB.open("test", "admin", "admin");
+    first = orientDB.open("test", "admin", "admin");
+    first.createClass("Test");
+
+    storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) first).getStorage();
+    recordCache = storage.getSharedRecordCache();
+    Assert.assertNotNull(recordCache);
+  }
+
+  @After
+  public void after() {
+    second.activateOnCurrentThread();
+    second.close();
+
+    first.activateOnCurrentThread();
+    first.close();
+
+    orientDB.drop("test");
+    orientDB.close();
+  }
+
+  @Test
+  public void testUpdateInTransaction() {
+    final ORID rid = createRecord("value");
+    Assert.assertEquals("value", load(second, rid).getProperty("name"));
+    Assert.assertNotNull(recordCache.get(rid));
+
+    first.activateOnCurrentThread();
+    first.begin();
+    final OElement element = first.load(rid);
+    element.setProperty("name", "newValue");
+    first.save(element);
+    first.commit();
+
+    Assert.assertEquals("newValue", load(second, rid).getProperty("name"));
+    Assert.assertEquals("newValue", load(second, rid).getProperty("name"));
+  }
+
+  @Test
+  public void testDeleteInTransaction() {
+    final ORID rid = createRecord("value");
+    Assert.assertNotNull(load(second, rid));
+    Assert.assertNotNull(recordCache.get(rid));
+
+    first.activateOnCurrentThread();
+    first.begin();
+    first.delete(rid);
+    first.commit();
+
+    Assert.assertNull(load(second, rid));
+    Assert.assertNull(recordCache.get(rid));
+  }
+
+  @Test
+  public void testNonTxUpdate() {
+    final ORID rid = createRecord("value");
+    Assert.assertEquals("value", load(second, rid).getProperty("name"));
+
+    final OElement element = load(first, rid);
+    element.setProperty("name", "newValue");
+    first.save(element);
+
+    Assert.assertEquals("newValue", load(second, rid).getProperty("name"));
+    Assert.assertEquals("newValue", load(second, rid).getProperty("name"));
+  }
+
+  @Test
+  public void testNonTxDelete() {
+    final ORID rid = createRecord("value");
+    Assert.assertNotNull(load(second, rid));
+
+    first.activateOnCurrentThread();
+    first.delete(rid);
+
+    Assert.assertNull(load(second, rid));
+    Assert.assertNull(recordCache.get(rid));
+  }
+
+  @Test
+  public void testDropCluster() {
+    final int clusterId = first.addCluster("testDropCluster");
+
+    first.activateOnCurrentThread();
+    final OElement element = first.newElement();
+    element.setProperty("name", "value");
+    final ORID rid = first.save(element, "testDropCluster").getIdentity();
+
+    Assert.assertNotNull(load(second, rid));
+    Assert.assertNotNull(recordCache.get(rid));
+
+    first.activateOnCurrentThread();
+    Assert.assertTrue(first.dropCluster(clusterId));
+
+    Assert.assertNull(recordCache.get(rid));
+  }
+
+  @Test
+  public void testNoCachingInsideOfAtomicOperation() throws Exception {
+    final ORID rid = createRecord("value");
+    Assert.assertNull(recordCache.get(rid));
+
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+    atomicOperationsManager.startAtomicOperation((String) null, false);
+    try {
+      Assert.assertNotNull(storage.readRecord((ORecordId) rid, null, false, false, null).getResult());
+      Assert.assertNull(recordCache.get(rid));
+    } finally {
+      atomicOperationsManager.endAtomicOperation(false);
+    }
+
+    Assert.assertNotNull(storage.readRecord((ORecordId) rid, null, false, false, null).getResult());
+    Assert.assertNotNull(recordCache.get(rid));
+  }
+
+  private ORID createRecord(final String name) {
+    first.activateOnCurrentThread();
+    final OElement element = first.newElement("Test");
+    element.setProperty("name", name);
+    return first.save(element).getIdentity();
+  }
+
+  /**
+   * Loads record bypassing the cache of the session, so it is read from the storage.
+   */
+  private static OElement load(final ODatabaseSession session, final ORID rid) {
+    session.activateOnCurrentThread();
+    session.getLocalCache().clear();
+    return session.load(rid);
+  }
+}
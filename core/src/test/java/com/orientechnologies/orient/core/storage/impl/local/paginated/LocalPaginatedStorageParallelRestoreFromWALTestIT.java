@@ -0,0 +1,181 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that data restored from WAL with parallel application of page changes (see {@link
+ * OGlobalConfiguration#WAL_PARALLEL_RESTORE}) is the same as data restored sequentially.
+ * <p>
+ * Database is filled without checkpoints, its files are copied without close and then the copies are opened, so that all the
+ * changes are replayed from the WAL.
+ */
+public class LocalPaginatedStorageParallelRestoreFromWALTestIT {
+  private static final String BASE_NAME = "baseParallelRestoreFromWAL";
+
+  private File buildDir;
+
+  private boolean oldParallelRestore;
+  private int     oldRestoreThreads;
+  private int     oldCheckpointInterval;
+
+  @Before
+  public void before() {
+    oldParallelRestore = OGlobalConfiguration.WAL_PARALLEL_RESTORE.getValueAsBoolean();
+    oldRestoreThreads = OGlobalConfiguration.WAL_PARALLEL_RESTORE_THREADS.getValueAsInteger();
+    oldCheckpointInterval = OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.getValueAsInteger();
+
+    OGlobalConfiguration.FILE_LOCK.setValue(false);
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(100000000);
+
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    buildDir = new File(buildDirectory, "localPaginatedStorageParallelRestoreFromWAL");
+    OFileUtils.deleteRecursively(buildDir);
+    Assert.assertTrue(buildDir.mkdirs());
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.WAL_PARALLEL_RESTORE.setValue(oldParallelRestore);
+    OGlobalConfiguration.WAL_PARALLEL_RESTORE_THREADS.setValue(oldRestoreThreads);
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(oldCheckpointInterval);
+
+    // databases are still opened by the comparison, their storages are closed before the files are removed
+    ODatabaseDocumentTx.closeAll();
+
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  @Test
+  public void testParallelRestore() throws Exception {
+    final ODatabaseDocumentTx baseDocumentTx = new ODatabaseDocumentTx("plocal:" + new File(buildDir, BASE_NAME).getAbsolutePath());
+    baseDocumentTx.create();
+
+    final long recordsCount = fillDatabase(baseDocumentTx);
+    // all the changes are written to the WAL, so copies do not depend on the timing of background flush of WAL
+    ((OAbstractPaginatedStorage) baseDocumentTx.getStorage()).getWALInstance().flush();
+
+    copyDataWithoutClose(BASE_NAME, "sequentialRestore");
+    // both restores start from the same files
+    copyDataWithoutClose("sequentialRestore", "parallelRestore");
+
+    final OStorage baseStorage = baseDocumentTx.getStorage();
+    baseDocumentTx.close();
+    baseStorage.close();
+
+    Assert.assertEquals(recordsCount, restore("sequentialRestore", false));
+    Assert.assertEquals(recordsCount, restore("parallelRestore", true));
+
+    final ODatabaseCompare databaseCompare = new ODatabaseCompare(
+        "plocal:" + new File(buildDir, "sequentialRestore").getAbsolutePath(),
+        "plocal:" + new File(buildDir, "parallelRestore").getAbsolutePath(), "admin", "admin", System.out::println);
+    databaseCompare.setCompareIndexMetadata(true);
+
+    Assert.assertTrue(databaseCompare.compare());
+  }
+
+  private long restore(final String name, final boolean parallel) {
+    OGlobalConfiguration.WAL_PARALLEL_RESTORE.setValue(parallel);
+    OGlobalConfiguration.WAL_PARALLEL_RESTORE_THREADS.setValue(4);
+
+    final ODatabaseDocumentTx databaseDocumentTx = new ODatabaseDocumentTx("plocal:" + new File(buildDir, name).getAbsolutePath());
+    databaseDocumentTx.open("admin", "admin");
+    try {
+      return databaseDocumentTx.countClass("TestClass");
+    } finally {
+      final OStorage storage = databaseDocumentTx.getStorage();
+      databaseDocumentTx.close();
+      storage.close();
+    }
+  }
+
+  /**
+   * @return count of records which are left in the database
+   */
+  private static long fillDatabase(final ODatabaseDocumentTx databaseDocumentTx) {
+    final OClass testClass = databaseDocumentTx.getMetadata().getSchema().createClass("TestClass", 8, null);
+    testClass.createProperty("id", OType.LONG);
+    testClass.createProperty("name", OType.STRING);
+    testClass.createProperty("data", OType.BINARY);
+    testClass.createIndex("TestClass.id", OClass.INDEX_TYPE.UNIQUE, "id");
+    testClass.createIndex("TestClass.name", OClass.INDEX_TYPE.NOTUNIQUE, "name");
+
+    final Random random = new Random(42);
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      final byte[] data = new byte[random.nextInt(1024)];
+      random.nextBytes(data);
+
+      final ODocument document = new ODocument(testClass);
+      document.field("id", i);
+      document.field("name", "name" + random.nextInt(1_000));
+      document.field("data", data);
+      document.save();
+
+      rids.add(document.getIdentity());
+
+      // updates and deletions change the same pages many times, so their changes have to be applied in the same order
+      if (random.nextInt(4) == 0) {
+        final ODocument updated = databaseDocumentTx.load(rids.get(random.nextInt(rids.size())));
+        final byte[] newData = new byte[random.nextInt(2048)];
+        random.nextBytes(newData);
+
+        updated.field("name", "name" + random.nextInt(1_000));
+        updated.field("data", newData);
+        updated.save();
+      }
+
+      if (random.nextInt(5) == 0) {
+        databaseDocumentTx.delete(rids.remove(random.nextInt(rids.size())));
+      }
+    }
+
+    return rids.size();
+  }
+
+  private void copyDataWithoutClose(final String from, final String to) throws IOException {
+    final File fromDir = new File(buildDir, from);
+    final File toDir = new File(buildDir, to);
+    Assert.assertTrue(toDir.mkdirs());
+
+    final File[] storageFiles = fromDir.listFiles();
+    Assert.assertNotNull(storageFiles);
+
+    for (final File storageFile : storageFiles) {
+      final String fileName = storageFile.getName();
+      if (fileName.equals("dirty.fl")) {
+        continue;
+      }
+
+      final String copyName;
+      // segments of WAL and of double write log are named after the storage
+      if (fileName.startsWith(from + ".") || fileName.startsWith(from + "_")) {
+        copyName = to + fileName.substring(from.length());
+      } else {
+        copyName = fileName;
+      }
+
+      Files.copy(storageFile.toPath(), new File(toDir, copyName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+
+/**
+ * Compares the time of data restore from WAL with sequential and parallel application of page changes (see {@link
+ * OGlobalConfiguration#WAL_PARALLEL_RESTORE}).
+ * <p>
+ * Database is filled without checkpoints, its files are copied without close and then the copies are opened, so that all the
+ * changes are replayed from the WAL.
+ */
+public class LocalPaginatedStorageRestoreFromWALBenchmark {
+  private static final String BASE_NAME = "baseRestoreFromWALBenchmark";
+
+  private static final int RECORDS_COUNT = 1_000_000;
+
+  private File buildDir;
+
+  public static void main(String[] args) throws Exception {
+    new LocalPaginatedStorageRestoreFromWALBenchmark().benchmark();
+  }
+
+  public void benchmark() throws Exception {
+    OGlobalConfiguration.FILE_LOCK.setValue(false);
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(100000000);
+
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    buildDir = new File(buildDirectory, "localPaginatedStorageRestoreFromWALBenchmark");
+    OFileUtils.deleteRecursively(buildDir);
+    buildDir.mkdirs();
+
+    final ODatabaseDocumentTx baseDocumentTx = new ODatabaseDocumentTx("plocal:" + new File(buildDir, BASE_NAME).getAbsolutePath());
+    baseDocumentTx.create();
+
+    fillDatabase(baseDocumentTx);
+
+    copyDataWithoutClose(BASE_NAME, "sequentialRestoreFromWALBenchmark");
+    copyDataWithoutClose(BASE_NAME, "parallelRestoreFromWALBenchmark");
+
+    final OStorage baseStorage = baseDocumentTx.getStorage();
+    baseDocumentTx.close();
+    baseStorage.close();
+
+    final long sequentialTime = restore("sequentialRestoreFromWALBenchmark", false);
+    final long parallelTime = restore("parallelRestoreFromWALBenchmark", true);
+
+    System.out.printf("Sequential restore : %d ms.%n", sequentialTime);
+    System.out.printf("Parallel restore (%d threads) : %d ms.%n",
+        OGlobalConfiguration.WAL_PARALLEL_RESTORE_THREADS.getValueAsInteger(), parallelTime);
+
+    final ODatabaseCompare databaseCompare = new ODatabaseCompare(
+        "plocal:" + new File(buildDir, "sequentialRestoreFromWALBenchmark").getAbsolutePath(),
+        "plocal:" + new File(buildDir, "parallelRestoreFromWALBenchmark").getAbsolutePath(), "admin", "admin",
+        System.out::println);
+    System.out.println("Restored databases are equal : " + databaseCompare.compare());
+
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  private long restore(String name, boolean parallel) {
+    final boolean oldParallel = OGlobalConfiguration.WAL_PARALLEL_RESTORE.getValueAsBoolean();
+    OGlobalConfiguration.WAL_PARALLEL_RESTORE.setValue(parallel);
+    try {
+      final ODatabaseDocumentTx databaseDocumentTx = new ODatabaseDocumentTx(
+          "plocal:" + new File(buildDir, name).getAbsolutePath());
+
+      final long start = System.nanoTime();
+      databaseDocumentTx.open("admin", "admin");
+      final long end = System.nanoTime();
+
+      final OStorage storage = databaseDocumentTx.getStorage();
+      databaseDocumentTx.close();
+      storage.close();
+
+      return (end - start) / 1_000_000;
+    } finally {
+      OGlobalConfiguration.WAL_PARALLEL_RESTORE.setValue(oldParallel);
+    }
+  }
+
+  private static void fillDatabase(ODatabaseDocumentTx databaseDocumentTx) {
+    final OClass testClass = databaseDocumentTx.getMetadata().getSchema().createClass("TestClass", 8, null);
+    testClass.createProperty("id", OType.LONG);
+    testClass.createProperty("name", OType.STRING);
+    testClass.createProperty("data", OType.BINARY);
+    testClass.createIndex("TestClass.id", OClass.INDEX_TYPE.UNIQUE, "id");
+
+    final Random random = new Random(42);
+    for (int i = 0; i < RECORDS_COUNT; i++) {
+      final byte[] data = new byte[random.nextInt(256)];
+      random.nextBytes(data);
+
+      final ODocument document = new ODocument(testClass);
+      document.field("id", i);
+      document.field("name", "name" + random.nextInt());
+      document.field("data", data);
+      document.save();
+    }
+  }
+
+  private void copyDataWithoutClose(String from, String to) throws IOException {
+    final File fromDir = new File(buildDir, from);
+    final File toDir = new File(buildDir, to);
+    toDir.mkdirs();
+
+    final File[] storageFiles = fromDir.listFiles();
+    assert storageFiles != null;
+
+    for (File storageFile : storageFiles) {
+      final String fileName = storageFile.getName();
+      if (fileName.equals("dirty.fl")) {
+        continue;
+      }
+
+      final String copyName;
+      if (fileName.startsWith(from + ".") && (fileName.endsWith(".wal") || fileName.endsWith(".wmr"))) {
+        copyName = to + fileName.substring(from.length());
+      } else {
+        copyName = fileName;
+      }
+
+      Files.copy(storageFile.toPath(), new File(toDir, copyName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -5203,6 +5203,90 @@ public class OCASDiskWriteAheadLogIT {
     }
   }
 
+  @Test
+  public void testCompressedRecords() throws Exception {
+    OCASDiskWriteAheadLog wal = new OCASDiskWriteAheadLog("walTest", testDirectory, testDirectory, 100, 64, null, null,
+        Integer.MAX_VALUE, Integer.MAX_VALUE, 20, true, Locale.US, -1, -1, 1000, true, false, true, 10);
+    wal.setMinCompressedRecordSize(1024);
+
+    final Random random = new Random(42);
+    final List<TestRecord> records = new ArrayList<>();
+    final List<OLogSequenceNumber> lsns = new ArrayList<>();
+
+    for (int i = 0; i < 100; i++) {
+      // half of the content is repeated, so records which are big enough are compressed
+      final byte[] data = new byte[random.nextInt(4 * 1024) + 1];
+      for (int n = 0; n < data.length; n++) {
+        data[n] = n % 2 == 0 ? (byte) random.nextInt() : 42;
+      }
+
+      final TestRecord walRecord = new TestRecord(data);
+      records.add(walRecord);
+      lsns.add(wal.log(walRecord));
+    }
+
+    Assert.assertTrue(wal.getCompressionInputBytes() > 0);
+    Assert.assertTrue(wal.getCompressionOutputBytes() < wal.getCompressionInputBytes());
+    Assert.assertTrue(wal.getCompressionTime() > 0);
+
+    wal.close();
+
+    wal = new OCASDiskWriteAheadLog("walTest", testDirectory, testDirectory, 100, 64, null, null, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, 20, true, Locale.US, -1, -1, 1000, true, false, true, 10);
+
+    final List<OWriteableWALRecord> readRecords = new ArrayList<>();
+    List<OWriteableWALRecord> batch = wal.read(lsns.get(0), 10);
+    while (!batch.isEmpty() && readRecords.size() < records.size()) {
+      readRecords.addAll(batch);
+      batch = wal.next(batch.get(batch.size() - 1).getLsn(), 10);
+    }
+    Assert.assertTrue(readRecords.size() >= records.size());
+
+    for (int i = 0; i < records.size(); i++) {
+      final TestRecord readRecord = (TestRecord) readRecords.get(i);
+      Assert.assertEquals(lsns.get(i), readRecord.getLsn());
+      Assert.assertArrayEquals(records.get(i).data, readRecord.data);
+    }
+
+    wal.close();
+  }
+
+  @Test
+  public void testGroupSync() throws Exception {
+    final OCASDiskWriteAheadLog wal = new OCASDiskWriteAheadLog("walTest", testDirectory, testDirectory, 100, 64, null, null,
+        Integer.MAX_VALUE, Integer.MAX_VALUE, 20, true, Locale.US, -1, -1, 1000, true, false, true, 10);
+    wal.setGroupCommitWindow(1000);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < 8; n++) {
+        final long seed = System.nanoTime();
+        futures.add(executor.submit(() -> {
+          final Random random = new Random(seed);
+          for (int i = 0; i < 100; i++) {
+            final OLogSequenceNumber lsn = wal.log(new TestRecord(random, wal.pageSize(), 1));
+            wal.syncUpTo(lsn);
+
+            Assert.assertTrue(wal.getFlushedLsn().compareTo(lsn) >= 0);
+          }
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertTrue(wal.getGroupSyncRequests() > 0);
+    Assert.assertTrue(wal.getGroupSyncsPerformed() <= wal.getGroupSyncRequests());
+
+    wal.close();
+  }
+
   public static final class TestRecord extends OAbstractWALRecord {
     private byte[] data;
 
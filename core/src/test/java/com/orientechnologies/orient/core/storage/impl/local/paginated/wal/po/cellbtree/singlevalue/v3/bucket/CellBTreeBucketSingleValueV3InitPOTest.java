@@ -41,6 +41,47 @@ public class CellBTreeBucketSingleValueV3InitPOTest {
       CellBTreeSingleValueBucketV3 restoredPage = new CellBTreeSingleValueBucketV3(restoredCacheEntry);
 
       Assert.assertTrue(restoredPage.isLeaf());
+      Assert.assertFalse(restoredPage.isKeyPrefixCompressed());
+      Assert.assertEquals(0, restoredPage.size());
+      Assert.assertEquals(-1, restoredPage.getLeftSibling());
+      Assert.assertEquals(-1, restoredPage.getRightSibling());
+
+      byteBufferPool.release(pointer);
+      byteBufferPool.release(restoredPointer);
+    } finally {
+      byteBufferPool.clear();
+    }
+  }
+
+  @Test
+  public void testRedoKeyPrefixCompression() {
+    final int pageSize = 256;
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize);
+    try {
+      final OPointer pointer = byteBufferPool.acquireDirect(false);
+      final OCachePointer cachePointer = new OCachePointer(pointer, byteBufferPool, 0, 0);
+      final OCacheEntry entry = new OCacheEntryImpl(0, 0, cachePointer);
+
+      CellBTreeSingleValueBucketV3 bucket = new CellBTreeSingleValueBucketV3(entry);
+      bucket.init(false, true);
+
+      final List<PageOperationRecord> operations = entry.getPageOperations();
+      Assert.assertEquals(1, operations.size());
+
+      Assert.assertTrue(operations.get(0) instanceof CellBTreeBucketSingleValueV3InitPO);
+
+      final CellBTreeBucketSingleValueV3InitPO pageOperation = (CellBTreeBucketSingleValueV3InitPO) operations.get(0);
+
+      final OPointer restoredPointer = byteBufferPool.acquireDirect(false);
+      final OCachePointer restoredCachePointer = new OCachePointer(restoredPointer, byteBufferPool, 0, 0);
+      final OCacheEntry restoredCacheEntry = new OCacheEntryImpl(0, 0, restoredCachePointer);
+
+      pageOperation.redo(restoredCacheEntry);
+
+      CellBTreeSingleValueBucketV3 restoredPage = new CellBTreeSingleValueBucketV3(restoredCacheEntry);
+
+      Assert.assertFalse(restoredPage.isLeaf());
+      Assert.assertTrue(restoredPage.isKeyPrefixCompressed());
       Assert.assertEquals(0, restoredPage.size());
       Assert.assertEquals(-1, restoredPage.getLeftSibling());
       Assert.assertEquals(-1, restoredPage.getRightSibling());
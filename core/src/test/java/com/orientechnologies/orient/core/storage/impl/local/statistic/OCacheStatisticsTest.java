@@ -0,0 +1,60 @@
+package com.orientechnologies.orient.core.storage.impl.local.statistic;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.cache.OCacheFileStatistic;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OCacheStatisticsTest {
+
+  @Test
+  public void testWriteCacheStatisticsAfterFlush() {
+    final boolean statistics = OGlobalConfiguration.DISK_CACHE_STATISTICS.getValueAsBoolean();
+    OGlobalConfiguration.DISK_CACHE_STATISTICS.setValue(true);
+
+    final String dbName = OCacheStatisticsTest.class.getSimpleName();
+    final OrientDB orientDB = new OrientDB("embedded:./target/", OrientDBConfig.defaultConfig());
+    try {
+      if (orientDB.exists(dbName)) {
+        orientDB.drop(dbName);
+      }
+      orientDB.create(dbName, ODatabaseType.PLOCAL);
+
+      try (ODatabaseSession db = orientDB.open(dbName, "admin", "admin")) {
+        db.createClass("Stat");
+        for (int i = 0; i < 1000; i++) {
+          db.save(new ODocument("Stat").field("value", i));
+        }
+
+        final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage();
+        storage.synch();
+
+        long pagesFlushed = 0;
+        long flushes = 0;
+        for (final OCacheFileStatistic statistic : storage.getCacheFileStatistics()) {
+          Assert.assertEquals(statistic.getFileName(), 0, statistic.getDirtyPages());
+
+          pagesFlushed += statistic.getPagesFlushed();
+          for (final long count : statistic.getFlushLatencyHistogram()) {
+            flushes += count;
+          }
+        }
+
+        Assert.assertTrue(pagesFlushed > 0);
+        Assert.assertTrue(flushes > 0);
+      }
+
+      orientDB.drop(dbName);
+    } finally {
+      orientDB.close();
+      OGlobalConfiguration.DISK_CACHE_STATISTICS.setValue(statistics);
+    }
+  }
+}
@@ -2,10 +2,12 @@ package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
 
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.*;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
@@ -16,6 +18,10 @@ import org.junit.Test;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class CellBTreeSingleValueV3TestIT {
   private OAbstractPaginatedStorage      storage;
@@ -405,6 +411,423 @@ public class CellBTreeSingleValueV3TestIT {
     }
   }
 
+  @Test
+  public void testBulkLoad() throws Exception {
+    final int keysCount = 1_000_000;
+
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+    final List<ORawPair<String, ORID>> entries = new ArrayList<>();
+    for (int i = 0; i < keysCount; i++) {
+      final String key = Integer.toString(i);
+      final ORID value = new ORecordId(i % 32000, i);
+
+      keyValues.put(key, value);
+      entries.add(new ORawPair<>(key, value));
+    }
+
+    final long seed = System.nanoTime();
+    System.out.println("testBulkLoad: " + seed);
+    Collections.shuffle(entries, new Random(seed));
+
+    entries.add(new ORawPair<>("42", new ORecordId(42, 42)));
+    entries.add(new ORawPair<>(null, new ORecordId(1, 1)));
+
+    final int sortBuffer = OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER.getValueAsInteger();
+    // keys do not fit into the buffer, so they are sorted by merge of several sorted runs
+    OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER.setValue(1);
+    try {
+      Assert.assertTrue(singleValueTree.bulkLoad(entries.iterator(), (key, oldValue, newValue) -> {
+        if (oldValue != null) {
+          Assert.assertEquals("42", key);
+          return OBaseIndexEngine.Validator.IGNORE;
+        }
+
+        return newValue;
+      }));
+    } finally {
+      OGlobalConfiguration.INDEX_BULK_BUILD_SORT_BUFFER.setValue(sortBuffer);
+    }
+
+    Assert.assertEquals(keysCount + 1, singleValueTree.size());
+    Assert.assertEquals(new ORecordId(1, 1), singleValueTree.get(null));
+
+    for (final Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+
+    for (int i = keysCount; i < 2 * keysCount; i++) {
+      Assert.assertNull(singleValueTree.get(Integer.toString(i)));
+    }
+
+    Assert.assertEquals(keyValues.firstKey(), singleValueTree.firstKey());
+    Assert.assertEquals(keyValues.lastKey(), singleValueTree.lastKey());
+
+    final OCellBTreeSingleValue.OCellBTreeKeyCursor<String> cursor = singleValueTree.keyCursor();
+    for (final String key : keyValues.keySet()) {
+      Assert.assertEquals(key, cursor.next(-1));
+    }
+    Assert.assertNull(cursor.next(-1));
+
+    final OCellBTreeSingleValue.OCellBTreeCursor<String, ORID> backwardCursor = singleValueTree
+        .iterateEntriesMinor(keyValues.lastKey(), true, false);
+    for (final Map.Entry<String, ORID> entry : keyValues.descendingMap().entrySet()) {
+      Assert.assertEquals(entry, backwardCursor.next(-1));
+    }
+    Assert.assertNull(backwardCursor.next(-1));
+
+    Assert.assertFalse(singleValueTree.bulkLoad(Collections.emptyIterator(), null));
+
+    for (int i = keysCount; i < keysCount + 10_000; i++) {
+      singleValueTree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+    }
+
+    for (int i = 0; i < keysCount + 10_000; i += 2) {
+      Assert.assertNotNull(singleValueTree.remove(Integer.toString(i)));
+    }
+
+    for (int i = 0; i < keysCount + 10_000; i++) {
+      final ORID value = singleValueTree.get(Integer.toString(i));
+      if (i % 2 == 0) {
+        Assert.assertNull(value);
+      } else {
+        Assert.assertEquals(new ORecordId(i % 32000, i), value);
+      }
+    }
+  }
+
+  @Test
+  public void testGetMany() throws Exception {
+    final int keysCount = 100_000;
+
+    for (int i = 0; i < keysCount; i += 2) {
+      singleValueTree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+    }
+    singleValueTree.put(null, new ORecordId(1, 1));
+
+    final long seed = System.nanoTime();
+    System.out.println("testGetMany: " + seed);
+    final Random random = new Random(seed);
+
+    final List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      keys.add(Integer.toString(random.nextInt(keysCount + 1_000)));
+    }
+    // dense run of neighbouring keys is found inside of the same leaf pages
+    for (int i = 5_000; i < 6_000; i++) {
+      keys.add(Integer.toString(i));
+    }
+    Collections.sort(keys);
+    keys.add(0, null);
+
+    final List<ORID> values = singleValueTree.getMany(keys);
+    Assert.assertEquals(keys.size(), values.size());
+
+    Assert.assertEquals(new ORecordId(1, 1), values.get(0));
+    for (int i = 1; i < keys.size(); i++) {
+      final int key = Integer.parseInt(keys.get(i));
+      if (key % 2 == 0 && key < keysCount) {
+        Assert.assertEquals(new ORecordId(key % 32000, key), values.get(i));
+      } else {
+        Assert.assertNull(values.get(i));
+      }
+    }
+
+    // keys which are not sorted are still found, though with more descents from the root
+    Collections.shuffle(keys, random);
+    final List<ORID> shuffledValues = singleValueTree.getMany(keys);
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(singleValueTree.get(keys.get(i)), shuffledValues.get(i));
+    }
+  }
+
+  @Test
+  public void testKeyPrefixCompression() throws Exception {
+    final int keysCount = 300_000;
+    final String prefix = "com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.Key#";
+
+    final CellBTreeSingleValueV3<String> compressedTree = new CellBTreeSingleValueV3<>("compressedBTree", 43, ".sbt", ".nbt",
+        storage, true);
+    compressedTree.create(OUTF8Serializer.INSTANCE, null, 1, null);
+
+    final CellBTreeSingleValueV3<String> bulkLoadedTree = new CellBTreeSingleValueV3<>("bulkLoadedBTree", 44, ".sbt", ".nbt",
+        storage, true);
+    bulkLoadedTree.create(OUTF8Serializer.INSTANCE, null, 1, null);
+
+    final long seed = System.nanoTime();
+    System.out.println("testKeyPrefixCompression: " + seed);
+    final Random random = new Random(seed);
+
+    final List<Integer> values = new ArrayList<>(keysCount);
+    for (int i = 0; i < keysCount; i++) {
+      values.add(i);
+    }
+    Collections.shuffle(values, random);
+
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+    final List<ORawPair<String, ORID>> entries = new ArrayList<>();
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+
+    final int rollbackInterval = 100;
+    for (int i = 0; i < keysCount; i += rollbackInterval) {
+      for (int n = 0; n < 2; n++) {
+        atomicOperationsManager.startAtomicOperation((String) null, false);
+        for (int j = i; j < Math.min(i + rollbackInterval, keysCount); j++) {
+          final int value = values.get(j);
+          // keys of different length and a key without common part make the common part of page shorter
+          final String key = value % 1_000 == 0 ? Integer.toString(value) : prefix + value;
+          final ORID rid = new ORecordId(value % 32000, value);
+
+          compressedTree.put(key, rid);
+          if (n == 1) {
+            keyValues.put(key, rid);
+            entries.add(new ORawPair<>(key, rid));
+          }
+        }
+        atomicOperationsManager.endAtomicOperation(n == 0);
+      }
+    }
+
+    Assert.assertTrue(bulkLoadedTree.bulkLoad(entries.iterator(), null));
+
+    final Iterator<String> keysIterator = keyValues.keySet().iterator();
+    while (keysIterator.hasNext()) {
+      final String key = keysIterator.next();
+      if (random.nextInt(3) == 0) {
+        Assert.assertNotNull(compressedTree.remove(key));
+        Assert.assertNotNull(bulkLoadedTree.remove(key));
+        keysIterator.remove();
+      }
+    }
+
+    for (final CellBTreeSingleValueV3<String> tree : Arrays.asList(compressedTree, bulkLoadedTree)) {
+      Assert.assertEquals(keyValues.size(), tree.size());
+
+      for (int i = 0; i < keysCount; i++) {
+        final String key = prefix + i;
+        Assert.assertEquals(keyValues.get(key), tree.get(key));
+      }
+
+      final OCellBTreeSingleValue.OCellBTreeCursor<String, ORID> cursor = tree.iterateEntriesMajor(keyValues.firstKey(), true, true);
+      for (final Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+        Assert.assertEquals(entry, cursor.next(-1));
+      }
+      Assert.assertNull(cursor.next(-1));
+    }
+  }
+
+  @Test
+  public void testOptimisticReads() throws Exception {
+    final int stableKeysCount = 100_000;
+    final int readersCount = 8;
+
+    final String buildDirectory =
+        System.getProperty("buildDirectory", ".") + File.separator + CellBTreeSingleValueV3TestIT.class.getSimpleName();
+    final String optimisticDbName = "optimisticReadsBTreeTest";
+    OFileUtils.deleteRecursively(new File(buildDirectory, optimisticDbName));
+
+    final boolean optimisticReads = OGlobalConfiguration.INDEX_OPTIMISTIC_READS.getValueAsBoolean();
+    OGlobalConfiguration.INDEX_OPTIMISTIC_READS.setValue(true);
+
+    final OrientDB optimisticOrientDB = new OrientDB("plocal:" + buildDirectory, OrientDBConfig.defaultConfig());
+    try {
+      optimisticOrientDB.create(optimisticDbName, ODatabaseType.PLOCAL);
+      final ODatabaseSession session = optimisticOrientDB.open(optimisticDbName, "admin", "admin");
+      final OAbstractPaginatedStorage optimisticStorage = (OAbstractPaginatedStorage) ((ODatabaseInternal) session).getStorage();
+
+      final CellBTreeSingleValueV3<String> tree = new CellBTreeSingleValueV3<>("optimisticBTree", 45, ".sbt", ".nbt",
+          optimisticStorage);
+      tree.create(OUTF8Serializer.INSTANCE, null, 1, null);
+
+      // even keys are never changed, odd keys are removed and added back by writer, new keys are added to split pages
+      for (int i = 0; i < stableKeysCount; i += 2) {
+        tree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+      }
+
+      final AtomicBoolean stop = new AtomicBoolean();
+      final ExecutorService executor = Executors.newFixedThreadPool(readersCount + 1);
+      try {
+        final Future<Void> writer = executor.submit(() -> {
+          final Random random = new Random();
+          for (int i = 0; i < 200_000; i++) {
+            final int value = 2 * random.nextInt(stableKeysCount / 2) + 1;
+            final String key = Integer.toString(value);
+            if (random.nextBoolean()) {
+              tree.put(key, new ORecordId(value % 32000, value));
+            } else {
+              tree.remove(key);
+            }
+
+            tree.put("new" + i, new ORecordId(i % 32000, i));
+          }
+
+          stop.set(true);
+          return null;
+        });
+
+        final List<Future<Long>> readers = new ArrayList<>();
+        for (int n = 0; n < readersCount; n++) {
+          readers.add(executor.submit(() -> {
+            final Random random = new Random();
+            long reads = 0;
+            while (!stop.get()) {
+              final int value = 2 * random.nextInt(stableKeysCount / 2);
+              Assert.assertEquals(new ORecordId(value % 32000, value), tree.get(Integer.toString(value)));
+
+              final int changedValue = value + 1;
+              final ORID rid = tree.get(Integer.toString(changedValue));
+              if (rid != null) {
+                Assert.assertEquals(new ORecordId(changedValue % 32000, changedValue), rid);
+              }
+
+              reads++;
+            }
+            return reads;
+          }));
+        }
+
+        writer.get();
+        for (final Future<Long> reader : readers) {
+          Assert.assertTrue(reader.get() > 0);
+        }
+      } finally {
+        stop.set(true);
+        executor.shutdown();
+      }
+
+      for (int i = 0; i < 200_000; i++) {
+        Assert.assertEquals(new ORecordId(i % 32000, i), tree.get("new" + i));
+      }
+
+      session.close();
+      optimisticOrientDB.drop(optimisticDbName);
+    } finally {
+      optimisticOrientDB.close();
+      OGlobalConfiguration.INDEX_OPTIMISTIC_READS.setValue(optimisticReads);
+    }
+  }
+
+  @Test
+  public void testBloomFilter() throws Exception {
+    final int keysCount = 100_000;
+
+    final boolean bloomFilter = OGlobalConfiguration.INDEX_BLOOM_FILTER.getValueAsBoolean();
+    OGlobalConfiguration.INDEX_BLOOM_FILTER.setValue(true);
+    try {
+      final CellBTreeSingleValueV3<String> tree = new CellBTreeSingleValueV3<>("bloomFilterBTree", 46, ".sbt", ".nbt", storage);
+      tree.create(OUTF8Serializer.INSTANCE, null, 1, null);
+
+      // keys are added before the filter is created, so the filter is rebuilt from pages several times while tree grows
+      for (int i = 0; i < keysCount; i += 2) {
+        tree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+      }
+
+      for (int i = 0; i < keysCount; i++) {
+        final ORID rid = tree.get(Integer.toString(i));
+        if (i % 2 == 0) {
+          Assert.assertEquals(new ORecordId(i % 32000, i), rid);
+        } else {
+          Assert.assertNull(rid);
+        }
+      }
+
+      for (int i = 0; i < keysCount; i += 4) {
+        Assert.assertEquals(new ORecordId(i % 32000, i), tree.remove(Integer.toString(i)));
+      }
+
+      final List<String> keys = new ArrayList<>();
+      for (int i = 0; i < keysCount; i++) {
+        keys.add(Integer.toString(i));
+      }
+      Collections.sort(keys);
+
+      final List<ORID> rids = tree.getMany(keys);
+      for (int n = 0; n < keys.size(); n++) {
+        final int i = Integer.parseInt(keys.get(n));
+        if (i % 4 == 2) {
+          Assert.assertEquals(new ORecordId(i % 32000, i), rids.get(n));
+        } else {
+          Assert.assertNull(rids.get(n));
+        }
+      }
+
+      for (int i = 0; i < keysCount; i += 4) {
+        tree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+      }
+
+      for (int i = 0; i < keysCount; i += 2) {
+        Assert.assertEquals(new ORecordId(i % 32000, i), tree.get(Integer.toString(i)));
+      }
+
+      for (int i = 0; i < keysCount; i += 2) {
+        tree.remove(Integer.toString(i));
+      }
+      tree.delete();
+    } finally {
+      OGlobalConfiguration.INDEX_BLOOM_FILTER.setValue(bloomFilter);
+    }
+  }
+
+  @Test
+  public void testBloomFilterRollback() throws Exception {
+    final int keysCount = 10_000;
+
+    final boolean bloomFilter = OGlobalConfiguration.INDEX_BLOOM_FILTER.getValueAsBoolean();
+    OGlobalConfiguration.INDEX_BLOOM_FILTER.setValue(true);
+    try {
+      final CellBTreeSingleValueV3<String> tree = new CellBTreeSingleValueV3<>("bloomFilterRollbackBTree", 47, ".sbt", ".nbt",
+          storage);
+      tree.create(OUTF8Serializer.INSTANCE, null, 1, null);
+
+      for (int i = 0; i < keysCount; i++) {
+        tree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+      }
+      Assert.assertTrue(tree.hasBloomFilter());
+
+      // keys are removed and the filter is overloaded by the atomic operation which is rolled back
+      final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+      atomicOperationsManager.startAtomicOperation((String) null, false);
+      for (int i = 0; i < keysCount; i += 2) {
+        Assert.assertEquals(new ORecordId(i % 32000, i), tree.remove(Integer.toString(i)));
+      }
+      for (int i = keysCount; i < 4 * keysCount; i++) {
+        tree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+      }
+      atomicOperationsManager.endAtomicOperation(true);
+
+      assertKeysAfterRollback(tree, keysCount);
+
+      final long start = System.nanoTime();
+      while (!tree.hasBloomFilter()) {
+        Assert.assertTrue("Bloom filter was not built after rollback", System.nanoTime() - start < 60_000_000_000L);
+        Thread.sleep(10);
+      }
+
+      assertKeysAfterRollback(tree, keysCount);
+
+      for (int i = 0; i < keysCount; i++) {
+        Assert.assertFalse(tree.validatedPut(Integer.toString(i), new ORecordId(1, i),
+            (key, oldValue, newValue) -> oldValue != null ? OBaseIndexEngine.Validator.IGNORE : newValue));
+      }
+
+      for (int i = 0; i < keysCount; i++) {
+        tree.remove(Integer.toString(i));
+      }
+      tree.delete();
+    } finally {
+      OGlobalConfiguration.INDEX_BLOOM_FILTER.setValue(bloomFilter);
+    }
+  }
+
+  private static void assertKeysAfterRollback(final CellBTreeSingleValueV3<String> tree, final int keysCount) {
+    for (int i = 0; i < keysCount; i++) {
+      Assert.assertEquals(new ORecordId(i % 32000, i), tree.get(Integer.toString(i)));
+    }
+
+    for (int i = keysCount; i < 4 * keysCount; i++) {
+      Assert.assertNull(tree.get(Integer.toString(i)));
+    }
+  }
+
   @Test
   public void testIterateEntriesMajor() throws Exception {
     final int keysCount = 1_000_000;
@@ -14,6 +14,7 @@ import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
 import com.orientechnologies.orient.core.security.OSecurityManager;
+import com.orientechnologies.orient.core.sql.executor.OQueryResultCache;
 import com.orientechnologies.orient.core.sql.executor.OQueryStats;
 import com.orientechnologies.orient.core.sql.parser.OExecutionPlanCache;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
@@ -47,6 +48,12 @@ public class OSharedContextDistributed extends OSharedContext {
     executionPlanCache = new OExecutionPlanCache(
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.STATEMENT_CACHE_SIZE));
     this.registerListener(executionPlanCache);
+    executionPlanCache.registerMBean(storage.getName());
+
+    queryResultCache = new OQueryResultCache(
+        storage.getConfiguration().getContextConfiguration().getValueAsLong(OGlobalConfiguration.QUERY_RESULT_CACHE_SIZE) * 1024
+            * 1024);
+    this.registerListener(queryResultCache);
 
     queryStats = new OQueryStats();
 
@@ -93,6 +100,8 @@ public class OSharedContextDistributed extends OSharedContext {
     commandCache.shutdown();
     statementCache.clear();
     executionPlanCache.invalidate();
+    executionPlanCache.unregisterMBean();
+    queryResultCache.invalidate();
     liveQueryOps.close();
     liveQueryOpsV2.close();
     distributedContext.close();
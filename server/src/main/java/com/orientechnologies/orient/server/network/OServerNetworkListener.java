@@ -26,17 +26,21 @@ import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.serialization.serializer.OStringSerializerHelper;
 import com.orientechnologies.orient.enterprise.channel.OChannel;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryServer;
 import com.orientechnologies.orient.enterprise.channel.binary.ONetworkProtocolException;
 import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.config.OServerCommandConfiguration;
 import com.orientechnologies.orient.server.config.OServerParameterConfiguration;
 import com.orientechnologies.orient.server.network.protocol.OBeforeDatabaseOpenNetworkEventListener;
 import com.orientechnologies.orient.server.network.protocol.ONetworkProtocol;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommand;
 
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.net.*;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -53,6 +57,7 @@ public class OServerNetworkListener extends Thread {
   private OServer                                       server;
   private int                                           protocolVersion = -1;
   private List<OBeforeDatabaseOpenNetworkEventListener> beforeDatabaseOpenNetworkEventListener = new ArrayList<OBeforeDatabaseOpenNetworkEventListener>();
+  private OServerNetworkSelector                        selector;
 
   public OServerNetworkListener(final OServer iServer, final OServerSocketFactory iSocketFactory, final String iHostName,
       final String iHostPortRange, final String iProtocolName, final Class<? extends ONetworkProtocol> iProtocol,
@@ -73,11 +78,25 @@ public class OServerNetworkListener extends Thread {
       throw OException.wrapException(new ONetworkProtocolException(message), e);
     }
 
+    readParameters(iServer.getContextConfiguration(), iParameters);
+
+    final boolean useSelector = configuration.getValueAsBoolean(OGlobalConfiguration.NETWORK_BINARY_SELECTOR)
+        && ONetworkProtocolBinary.class.isAssignableFrom(iProtocol);
+    if (useSelector && !(socketFactory instanceof ODefaultServerSocketFactory)) {
+      OLogManager.instance().warn(this, "Selector is not supported by socket factory %s, thread per connection is used",
+          socketFactory.getName());
+    } else if (useSelector) {
+      try {
+        selector = new OServerNetworkSelector(server, getName(),
+            configuration.getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_SELECTOR_THREADS));
+      } catch (IOException e) {
+        throw OException.wrapException(new ONetworkProtocolException("Error on creation of selector for " + iProtocol), e);
+      }
+    }
+
     listen(iHostName, iHostPortRange, iProtocolName, iProtocol);
     protocolType = iProtocol;
 
-    readParameters(iServer.getContextConfiguration(), iParameters);
-
     if (iCommands != null) {
       for (int i = 0; i < iCommands.length; ++i) {
         if (iCommands[i].stateful)
@@ -167,6 +186,9 @@ public class OServerNetworkListener extends Thread {
   public void shutdown() {
     this.active = false;
 
+    if (selector != null)
+      selector.shutdown();
+
     if (serverSocket != null)
       try {
         serverSocket.close();
@@ -214,6 +236,19 @@ public class OServerNetworkListener extends Thread {
           // CREATE A NEW PROTOCOL INSTANCE
           final ONetworkProtocol protocol = constructor.newInstance(server);
 
+          if (selector != null) {
+            // CONNECTION IS SERVED BY THE THREADS OF THE SELECTOR
+            final SocketChannel socketChannel = socket.getChannel();
+            socketChannel.configureBlocking(false);
+
+            final int timeout = socket.getSoTimeout();
+            ((ONetworkProtocolBinary) protocol).config(server, socket,
+                new OChannelBinaryServer(socket, new OSocketChannelInputStream(socketChannel, timeout),
+                    new OSocketChannelOutputStream(socketChannel, timeout), configuration));
+            selector.register((ONetworkProtocolBinary) protocol, socketChannel);
+            continue;
+          }
+
           // CONFIGURE THE PROTOCOL FOR THE INCOMING CONNECTION
           protocol.config(this, server, socket, configuration);
 
@@ -331,7 +366,18 @@ public class OServerNetworkListener extends Thread {
     for (int port : getPorts(iHostPortRange)) {
       inboundAddr = new InetSocketAddress(iHostName, port);
       try {
-        serverSocket = socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
+        if (selector != null) {
+          // ACCEPTED SOCKETS HAVE TO BE BACKED BY CHANNELS TO BE WATCHED BY THE SELECTOR
+          final ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
+          try {
+            serverSocketChannel.socket().bind(new InetSocketAddress(InetAddress.getByName(iHostName), port));
+          } catch (IOException e) {
+            serverSocketChannel.close();
+            throw e;
+          }
+          serverSocket = serverSocketChannel.socket();
+        } else
+          serverSocket = socketFactory.createServerSocket(port, 0, InetAddress.getByName(iHostName));
 
         if (serverSocket.isBound()) {
           OLogManager.instance().info(this,
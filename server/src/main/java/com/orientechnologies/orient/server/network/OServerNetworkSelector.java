@@ -0,0 +1,232 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.network.protocol.binary.ONetworkProtocolBinary;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves connections of binary protocol without dedicated thread per connection. Idle connections are watched by single selector
+ * thread, once client sends a request the connection is passed to the bounded pool of threads which executes the request the same
+ * way as the thread of the connection does, and then connection is returned back to the selector.
+ * <p>
+ * Sockets stay in non-blocking mode all the time, so data can be pushed to the client by other threads while the connection is
+ * watched by the selector. Reads and writes which can not be completed at once wait for the socket on selector of the current
+ * thread.
+ */
+public class OServerNetworkSelector extends Thread {
+  /**
+   * Interval in ms after which registered connections are checked whether they were asked to shut down.
+   */
+  private static final long SHUTDOWN_CHECK_INTERVAL = 1000;
+
+  private static final ThreadLocal<Selector> WAIT_SELECTOR = new ThreadLocal<>();
+
+  private final Selector        selector;
+  private final ExecutorService executor;
+
+  private final Queue<SelectionKey> keysToResume = new ConcurrentLinkedQueue<>();
+  private final Queue<Registration> pending      = new ConcurrentLinkedQueue<>();
+
+  private volatile boolean active = true;
+
+  public OServerNetworkSelector(final OServer server, final String name, final int threads) throws IOException {
+    super(server.getThreadGroup(), name + " selector");
+    setDaemon(true);
+
+    this.selector = Selector.open();
+
+    final AtomicInteger threadCounter = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+      final Thread thread = new Thread(server.getThreadGroup(), r, name + " request executor " + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    start();
+  }
+
+  /**
+   * Starts watching of the connection, socket channel should already be in non-blocking mode.
+   */
+  public void register(final ONetworkProtocolBinary protocol, final SocketChannel channel) {
+    pending.add(new Registration(protocol, channel));
+    selector.wakeup();
+  }
+
+  public void shutdown() {
+    active = false;
+    selector.wakeup();
+  }
+
+  @Override
+  public void run() {
+    try {
+      long lastShutdownCheck = System.currentTimeMillis();
+      while (active) {
+        selector.select(SHUTDOWN_CHECK_INTERVAL);
+
+        registerPending();
+        resumeKeys();
+
+        final Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+        while (selectedKeys.hasNext()) {
+          final SelectionKey key = selectedKeys.next();
+          selectedKeys.remove();
+
+          if (key.isValid() && key.isReadable()) {
+            key.interestOps(0);
+            executor.execute(() -> executeRequests(key));
+          }
+        }
+
+        final long now = System.currentTimeMillis();
+        if (now - lastShutdownCheck >= SHUTDOWN_CHECK_INTERVAL) {
+          closeShutdownConnections();
+          lastShutdownCheck = now;
+        }
+      }
+    } catch (Exception e) {
+      OLogManager.instance().error(this, "Error in selector of binary connections, all connections are closed", e);
+    } finally {
+      executor.shutdown();
+      for (final SelectionKey key : selector.keys()) {
+        ((ONetworkProtocolBinary) key.attachment()).sendShutdown();
+        closeConnection(key);
+      }
+
+      try {
+        selector.close();
+      } catch (IOException e) {
+        OLogManager.instance().debug(this, "Error during close of selector", e);
+      }
+    }
+  }
+
+  private void registerPending() {
+    Registration registration;
+    while ((registration = pending.poll()) != null) {
+      try {
+        registration.channel.register(selector, SelectionKey.OP_READ, registration.protocol);
+      } catch (ClosedChannelException e) {
+        registration.protocol.sendShutdown();
+        registration.protocol.shutdown();
+      }
+    }
+  }
+
+  private void resumeKeys() {
+    SelectionKey key;
+    while ((key = keysToResume.poll()) != null) {
+      if (key.isValid()) {
+        key.interestOps(SelectionKey.OP_READ);
+      }
+    }
+  }
+
+  private void closeShutdownConnections() {
+    for (final SelectionKey key : selector.keys()) {
+      if (key.isValid() && key.interestOps() != 0 && ((ONetworkProtocolBinary) key.attachment()).isShutdownFlag()) {
+        closeConnection(key);
+      }
+    }
+  }
+
+  private static void closeConnection(final SelectionKey key) {
+    key.cancel();
+    try {
+      ((ONetworkProtocolBinary) key.attachment()).shutdown();
+    } catch (Exception e) {
+      OLogManager.instance().debug(OServerNetworkSelector.class, "Error during close of binary connection", e);
+    }
+  }
+
+  /**
+   * Executes requests of the connection till there is no more data sent by the client, then connection is returned to the selector.
+   */
+  private void executeRequests(final SelectionKey key) {
+    final ONetworkProtocolBinary protocol = (ONetworkProtocolBinary) key.attachment();
+    try {
+      while (protocol.executeRequest()) {
+        if (!protocol.hasBufferedInput()) {
+          keysToResume.add(key);
+          selector.wakeup();
+          return;
+        }
+      }
+
+      key.cancel();
+    } catch (Throwable t) {
+      OLogManager.instance().error(this, "Error during execution of request of binary connection", t);
+      protocol.sendShutdown();
+      closeConnection(key);
+    }
+  }
+
+  /**
+   * Waits till the socket channel is ready for the given operation on the selector of the current thread.
+   *
+   * @param timeout timeout in ms, {@code 0} means that there is no timeout
+   */
+  static void await(final SocketChannel channel, final int operation, final int timeout) throws IOException {
+    Selector waitSelector = WAIT_SELECTOR.get();
+    if (waitSelector == null || !waitSelector.isOpen()) {
+      waitSelector = Selector.open();
+      WAIT_SELECTOR.set(waitSelector);
+    }
+
+    final SelectionKey key = channel.register(waitSelector, operation);
+    try {
+      if (waitSelector.select(timeout) == 0 && timeout > 0) {
+        throw new SocketTimeoutException("Timeout of " + timeout + " ms expired during waiting for socket");
+      }
+    } finally {
+      key.cancel();
+      // deregisters the canceled key, so the channel can be registered again
+      waitSelector.selectNow();
+    }
+  }
+
+  private static final class Registration {
+    private final ONetworkProtocolBinary protocol;
+    private final SocketChannel          channel;
+
+    private Registration(final ONetworkProtocolBinary protocol, final SocketChannel channel) {
+      this.protocol = protocol;
+      this.channel = channel;
+    }
+  }
+}
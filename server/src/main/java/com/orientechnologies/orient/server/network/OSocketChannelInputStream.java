@@ -0,0 +1,51 @@
+package com.orientechnologies.orient.server.network;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Blocking input stream over socket channel which is in non-blocking mode.
+ *
+ * @see OServerNetworkSelector
+ */
+class OSocketChannelInputStream extends InputStream {
+  private final SocketChannel channel;
+  private final int           timeout;
+
+  OSocketChannelInputStream(final SocketChannel channel, final int timeout) {
+    this.channel = channel;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public int read() throws IOException {
+    final byte[] b = new byte[1];
+    final int read = read(b, 0, 1);
+    return read < 0 ? -1 : b[0] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+    while (true) {
+      final int read = channel.read(buffer);
+      if (read != 0) {
+        return read;
+      }
+
+      OServerNetworkSelector.await(channel, SelectionKey.OP_READ, timeout);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
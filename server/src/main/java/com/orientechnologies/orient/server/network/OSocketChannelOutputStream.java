@@ -0,0 +1,42 @@
+package com.orientechnologies.orient.server.network;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Blocking output stream over socket channel which is in non-blocking mode.
+ *
+ * @see OServerNetworkSelector
+ */
+class OSocketChannelOutputStream extends OutputStream {
+  private final SocketChannel channel;
+  private final int           timeout;
+
+  OSocketChannelOutputStream(final SocketChannel channel, final int timeout) {
+    this.channel = channel;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+    while (buffer.hasRemaining()) {
+      if (channel.write(buffer) == 0) {
+        OServerNetworkSelector.await(channel, SelectionKey.OP_WRITE, timeout);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
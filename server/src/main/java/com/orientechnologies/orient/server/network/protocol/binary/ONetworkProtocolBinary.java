@@ -115,7 +115,15 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   public void config(final OServerNetworkListener iListener, final OServer iServer, final Socket iSocket,
       final OContextConfiguration iConfig) throws IOException {
 
-    OChannelBinaryServer channel = new OChannelBinaryServer(iSocket, iConfig);
+    config(iServer, iSocket, new OChannelBinaryServer(iSocket, iConfig));
+    start();
+  }
+
+  /**
+   * Configures protocol for the connection without start of the thread of the protocol, requests of the client are executed by
+   * calls of {@link #executeRequest()}.
+   */
+  public void config(final OServer iServer, final Socket iSocket, final OChannelBinaryServer channel) throws IOException {
     initVariables(iServer, channel);
 
     // SEND PROTOCOL VERSION
@@ -125,10 +133,38 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
 
     OServerPluginHelper.invokeHandlerCallbackOnSocketAccepted(server, this);
 
-    start();
     setName("OrientDB (" + iSocket.getLocalSocketAddress() + ") <- BinaryClient (" + iSocket.getRemoteSocketAddress() + ")");
   }
 
+  /**
+   * Executes single request of the client in the current thread, connection is closed if it was asked to shut down.
+   *
+   * @return {@code false} if connection is closed.
+   */
+  public boolean executeRequest() {
+    if (!isShutdownFlag()) {
+      try {
+        execute();
+      } catch (Exception e) {
+        OLogManager.instance().debug(this, "Error during execution of request of binary connection", e);
+      }
+    }
+
+    if (isShutdownFlag()) {
+      shutdown();
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * @return {@code true} if data of the next request is already read from the socket.
+   */
+  public boolean hasBufferedInput() throws IOException {
+    return channel.in.available() > 0;
+  }
+
   @Override
   public void startup() {
     super.startup();
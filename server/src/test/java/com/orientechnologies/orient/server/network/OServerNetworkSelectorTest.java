@@ -0,0 +1,89 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class OServerNetworkSelectorTest {
+
+  private OServer  server;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() throws Exception {
+    OGlobalConfiguration.NETWORK_BINARY_SELECTOR.setValue(true);
+    OGlobalConfiguration.NETWORK_BINARY_SELECTOR_THREADS.setValue(2);
+
+    server = new OServer(false);
+    server.startup(
+        getClass().getClassLoader().getResourceAsStream("com/orientechnologies/orient/server/network/orientdb-server-config.xml"));
+    server.activate();
+    orientDB = new OrientDB("remote:localhost:", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(OServerNetworkSelectorTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    try (ODatabaseDocument db = orientDB.open(OServerNetworkSelectorTest.class.getSimpleName(), "admin", "admin")) {
+      db.createClass("SelectorTest");
+    }
+  }
+
+  @After
+  public void after() {
+    orientDB.close();
+    server.shutdown();
+
+    OGlobalConfiguration.NETWORK_BINARY_SELECTOR.setValue(false);
+    OGlobalConfiguration.NETWORK_BINARY_SELECTOR_THREADS.setValue(64);
+
+    Orient.instance().shutdown();
+    OFileUtils.deleteRecursively(new File(server.getDatabaseDirectory()));
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testMoreConnectionsThanThreads() throws Exception {
+    final int connections = 8;
+    final int records = 50;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(connections);
+    try {
+      final List<Future<Long>> futures = new ArrayList<>();
+      for (int i = 0; i < connections; i++) {
+        final int connection = i;
+        futures.add(executor.submit(() -> {
+          try (ODatabaseDocument db = orientDB.open(OServerNetworkSelectorTest.class.getSimpleName(), "admin", "admin")) {
+            for (int j = 0; j < records; j++) {
+              db.save(new ODocument("SelectorTest").field("connection", connection).field("value", j));
+            }
+
+            try (OResultSet result = db.query("select count(*) as count from SelectorTest where connection = ?", connection)) {
+              return result.next().getProperty("count");
+            }
+          }
+        }));
+      }
+
+      for (Future<Long> future : futures) {
+        Assert.assertEquals(records, (long) future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}